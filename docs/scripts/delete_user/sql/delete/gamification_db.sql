@@ -11,6 +11,7 @@ DELETE FROM user_stats                WHERE user_id = :'uid';
 DELETE FROM user_experience           WHERE user_id = :'uid';
 DELETE FROM user_category_experience  WHERE user_id = :'uid';
 DELETE FROM experience_history        WHERE user_id = :'uid';
+DELETE FROM experience_rollup         WHERE user_id = :'uid';
 DELETE FROM attendance_record         WHERE user_id = :'uid';
 DELETE FROM season_reward_history     WHERE user_id = :'uid';
 DELETE FROM daily_mvp_history         WHERE user_id = :'uid';
@@ -4,7 +4,7 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.event.api.dto.EventR
 import io.pinkspider.leveluptogethermvp.gamificationservice.event.application.EventService;
 import io.pinkspider.global.facade.GamificationQueryFacade;
 import io.pinkspider.global.facade.dto.SeasonMvpDataDto;
-import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementService;
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementSyncCoordinator;
 import io.pinkspider.leveluptogethermvp.bffservice.api.dto.HomeDataResponse;
 import io.pinkspider.leveluptogethermvp.bffservice.api.dto.HomeDataResponse.FeedPageData;
 import io.pinkspider.leveluptogethermvp.bffservice.api.dto.HomeDataResponse.GuildPageData;
@@ -47,7 +47,7 @@ public class BffHomeService {
     private final NoticeService noticeService;
     private final EventService eventService;
     private final GamificationQueryFacade gamificationQueryFacade;
-    private final AchievementService achievementService;
+    private final AchievementSyncCoordinator achievementSyncCoordinator;
     private final Executor bffExecutor;
 
     public BffHomeService(
@@ -58,7 +58,7 @@ public class BffHomeService {
             NoticeService noticeService,
             EventService eventService,
             GamificationQueryFacade gamificationQueryFacade,
-            AchievementService achievementService,
+            AchievementSyncCoordinator achievementSyncCoordinator,
             @Qualifier("bffExecutor") Executor bffExecutor) {
         this.feedQueryService = feedQueryService;
         this.homeService = homeService;
@@ -67,7 +67,7 @@ public class BffHomeService {
         this.noticeService = noticeService;
         this.eventService = eventService;
         this.gamificationQueryFacade = gamificationQueryFacade;
-        this.achievementService = achievementService;
+        this.achievementSyncCoordinator = achievementSyncCoordinator;
         this.bffExecutor = bffExecutor;
     }
 
@@ -110,17 +110,9 @@ public class BffHomeService {
                                          int feedPage, int feedSize, int publicGuildSize, String locale, String timezone) {
         log.info("BFF getHomeData called: userId={}, categoryId={}, feedPage={}, feedSize={}, locale={}, timezone={}", userId, categoryId, feedPage, feedSize, locale, timezone);
 
-        // 업적 동기화 - 비동기로 처리하여 홈 로딩을 차단하지 않음 (비인증 시 스킵)
+        // 업적 동기화 - coordinator 가 사용자별로 합쳐 비동기 실행하므로 홈 로딩을 차단하지 않음 (비인증 시 스킵)
         if (userId != null) {
-            CompletableFuture.runAsync(() -> {
-                try {
-                    log.debug("업적 동기화 비동기 호출 시작: userId={}", userId);
-                    achievementService.syncUserAchievements(userId);
-                    log.debug("업적 동기화 비동기 호출 완료: userId={}", userId);
-                } catch (Exception e) {
-                    log.error("업적 동기화 비동기 호출 중 오류: userId={}, error={}", userId, e.getMessage(), e);
-                }
-            }, bffExecutor);
+            achievementSyncCoordinator.requestFullSync(userId);
         }
 
         // 병렬로 모든 데이터 조회 (전용 Executor 사용으로 성능 최적화)
@@ -1,8 +1,10 @@
 package io.pinkspider.leveluptogethermvp.chatservice.application;
 
+import io.pinkspider.global.event.GuildJoinedEvent;
 import io.pinkspider.global.event.GuildMemberJoinedChatNotifyEvent;
 import io.pinkspider.global.event.GuildMemberKickedChatNotifyEvent;
 import io.pinkspider.global.event.GuildMemberLeftChatNotifyEvent;
+import io.pinkspider.global.event.GuildMemberRemovedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -15,6 +17,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class ChatEventListener {
 
     private final GuildChatService guildChatService;
+    private final GuildChatContextCache guildChatContextCache;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleMemberJoined(GuildMemberJoinedChatNotifyEvent event) {
@@ -33,4 +36,14 @@ public class ChatEventListener {
         log.debug("채팅 알림 이벤트 수신 - 멤버 추방: guildId={}, nickname={}", event.guildId(), event.memberNickname());
         guildChatService.notifyMemberKick(event.guildId(), event.memberNickname());
     }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleGuildJoined(GuildJoinedEvent event) {
+        guildChatContextCache.invalidate(event.guildId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleMemberRemoved(GuildMemberRemovedEvent event) {
+        guildChatContextCache.invalidate(event.guildId());
+    }
 }
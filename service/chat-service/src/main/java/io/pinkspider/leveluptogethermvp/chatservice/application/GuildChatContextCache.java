@@ -0,0 +1,102 @@
+package io.pinkspider.leveluptogethermvp.chatservice.application;
+
+import io.pinkspider.global.facade.GuildQueryFacade;
+import io.pinkspider.global.facade.dto.GuildBasicInfo;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 전송용 길드 컨텍스트 캐시 (길드 기본 정보 + 활성 멤버 ID, 인스턴스 로컬, 짧은 TTL)
+ *
+ * 메시지마다 길드 조회, 멤버십 확인, 알림 대상 멤버 조회를 하던 것을 길드당 TTL 동안 1회로 줄인다.
+ * 길드 가입/탈퇴/추방 커밋 후 {@link #invalidate(Long)}로 모든 인스턴스의 해당 길드 항목을 버린다.
+ * 무효화 메시지 유실 시 최대 TTL 동안 이전 멤버 목록이 쓰인다.
+ */
+@Slf4j
+@Component
+public class GuildChatContextCache implements MessageListener {
+
+    public static final String CHANNEL = "chat:guild-context:invalidate";
+
+    private final GuildQueryFacade guildQueryFacadeService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<Long, GuildChatContext> contexts = new ConcurrentHashMap<>();
+
+    public GuildChatContextCache(
+        GuildQueryFacade guildQueryFacadeService,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${chat.pipeline.context-ttl:10s}") Duration ttl) {
+        this.guildQueryFacadeService = guildQueryFacadeService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 길드 채팅 컨텍스트
+     *
+     * @param guild           길드 기본 정보
+     * @param activeMemberIds 활성 멤버 사용자 ID
+     * @param loadedAt        적재 시각 (System.nanoTime)
+     */
+    public record GuildChatContext(GuildBasicInfo guild, Set<String> activeMemberIds, long loadedAt) {
+
+        public boolean isActiveMember(String userId) {
+            return activeMemberIds.contains(userId);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 길드가 없을 때 (캐시하지 않음)
+     */
+    public GuildChatContext get(Long guildId) {
+        GuildChatContext context = contexts.get(guildId);
+        if (context != null && System.nanoTime() - context.loadedAt() < ttlNanos) {
+            return context;
+        }
+
+        GuildBasicInfo guildInfo = guildQueryFacadeService.getGuildBasicInfo(guildId);
+        if (guildInfo == null) {
+            contexts.remove(guildId);
+            throw new IllegalArgumentException("길드를 찾을 수 없습니다: " + guildId);
+        }
+        GuildChatContext loaded = new GuildChatContext(
+            guildInfo, Set.copyOf(guildQueryFacadeService.getActiveMemberUserIds(guildId)), System.nanoTime());
+        contexts.put(guildId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 모든 인스턴스의 길드 항목 무효화 (멤버 변경 커밋 후 호출)
+     */
+    public void invalidate(Long guildId) {
+        evict(guildId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(guildId));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스는 TTL 만료까지 이전 멤버 목록을 사용한다
+            log.warn("길드 채팅 컨텍스트 무효화 발행 실패: guildId={}, error={}", guildId, e.getMessage());
+        }
+    }
+
+    void evict(Long guildId) {
+        contexts.remove(guildId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            evict(Long.valueOf(new String(message.getBody())));
+        } catch (NumberFormatException e) {
+            log.warn("길드 채팅 컨텍스트 무효화 메시지 형식 오류: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.pinkspider.leveluptogethermvp.chatservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 길드 채팅 컨텍스트 캐시 무효화용 Redis pub/sub 리스너 설정
+ */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+public class GuildChatContextCacheConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final GuildChatContextCache guildChatContextCache;
+
+    @Bean
+    public RedisMessageListenerContainer guildChatContextListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(guildChatContextCache, new ChannelTopic(GuildChatContextCache.CHANNEL));
+        return container;
+    }
+}
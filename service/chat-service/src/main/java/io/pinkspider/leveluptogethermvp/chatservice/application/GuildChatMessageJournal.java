@@ -0,0 +1,377 @@
+package io.pinkspider.leveluptogethermvp.chatservice.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pinkspider.leveluptogethermvp.chatservice.infrastructure.GuildChatMessageRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 길드 채팅 메시지 write-behind 저널 (인스턴스 로컬)
+ *
+ * 메시지는 ID를 선발급받아 바로 브로드캐스트되고, 저널에 쌓였다가 flush-interval마다 INSERT 1회로 일괄 저장된다.
+ * 저장 전 메시지는 ID 순으로 보관되며 {@link #isPending}으로 확인할 수 있다.
+ *
+ * 저장 하한 (low-water mark):
+ * ID는 공유 시퀀스에서 나오지만 노드마다 따로 flush 하므로 행이 ID 순서대로 보이지 않는다.
+ * 각 노드는 아직 저장하지 않았을 수 있는 가장 작은 ID(발급 중인 ID 포함)를 Redis 해시(chat:journal:floors)에
+ * heartbeat 와 함께 게시하고, ID 커서 조회는 {@link #lowWaterMark} 미만까지만 반환한다.
+ * heartbeat 가 floor-stale-after 보다 오래된 노드(비정상 종료)의 하한은 무시한다.
+ *
+ * 전달 보장:
+ * - 정상 종료: @PreDestroy에서 남은 메시지를 저장한다.
+ * - 저장 실패: 메시지를 버리지 않고 다음 주기에 재시도한다. 대기 메시지가 max-pending에 이르면
+ *   전송 스레드가 직접 저장을 시도하고, 그래도 실패하면 전송을 거부한다 (메모리 상한).
+ * - 데이터 오류(제약 위반)로 배치가 실패하면 한 건씩 다시 저장해, 저장할 수 없는 메시지만 로그를 남기고 버린다
+ *   (한 메시지 때문에 나머지 메시지 저장이 막히지 않도록).
+ * - 비정상 종료(프로세스 강제 종료, OOM 등): 마지막 flush 이후 최대 flush-interval 분량의 메시지가 유실된다.
+ *
+ * 비활성화(chat.pipeline.enabled=false) 시 메시지마다 즉시 저장한다.
+ *
+ * 지표: chat.journal.flush(일괄 저장 시간), chat.journal.flush.failures, chat.journal.dead-letters(버린 메시지 수),
+ * chat.journal.pending(대기 메시지 수)
+ */
+@Slf4j
+@Component
+public class GuildChatMessageJournal {
+
+    static final String FLOORS_KEY = "chat:journal:floors";
+
+    private static final long NO_FLOOR = 0L;
+
+    private final GuildChatMessageRepository chatMessageRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ScheduledExecutorService flushExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPending;
+    private final long floorStaleAfterMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentSkipListMap<Long, PendingChatMessage> pending = new ConcurrentSkipListMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean failing;
+
+    // 저장 하한 상태 (floorLock 으로 보호). inFlight: ID 발급 중인 호출별 하한 (발급 시작 시점 lastAllocatedId + 1)
+    private final Object floorLock = new Object();
+    private final TreeMap<Long, Integer> inFlight = new TreeMap<>();
+    private long lastAllocatedId;
+    private long publishedFloor = NO_FLOOR;
+    private long floorPublishedAt;
+
+    private final Timer flushTimer;
+    private final Counter flushFailureCounter;
+    private final Counter deadLetterCounter;
+
+    @Autowired
+    public GuildChatMessageJournal(
+        GuildChatMessageRepository chatMessageRepository,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${chat.pipeline.enabled:true}") boolean enabled,
+        @Value("${chat.pipeline.flush-interval:20ms}") Duration flushInterval,
+        @Value("${chat.pipeline.batch-size:500}") int batchSize,
+        @Value("${chat.pipeline.max-pending:10000}") int maxPending,
+        @Value("${chat.pipeline.floor-stale-after:10s}") Duration floorStaleAfter,
+        MeterRegistry meterRegistry) {
+        this(chatMessageRepository, stringRedisTemplate,
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("chat-journal-")),
+            enabled, batchSize, maxPending, floorStaleAfter, meterRegistry);
+        long intervalMillis = flushInterval.toMillis();
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    GuildChatMessageJournal(
+        GuildChatMessageRepository chatMessageRepository,
+        StringRedisTemplate stringRedisTemplate,
+        ScheduledExecutorService flushExecutor,
+        boolean enabled,
+        int batchSize,
+        int maxPending,
+        Duration floorStaleAfter,
+        MeterRegistry meterRegistry) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.flushExecutor = flushExecutor;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.floorStaleAfterMillis = floorStaleAfter.toMillis();
+
+        this.flushTimer = Timer.builder("chat.journal.flush")
+            .description("채팅 메시지 일괄 저장 시간")
+            .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("chat.journal.flush.failures")
+            .description("채팅 메시지 일괄 저장 실패")
+            .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("chat.journal.dead-letters")
+            .description("저장할 수 없어 버린 채팅 메시지")
+            .register(meterRegistry);
+        Gauge.builder("chat.journal.pending", pending, Map::size)
+            .description("저장 대기 중인 채팅 메시지 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * ID 발급 후 메시지 적재 (발급 전에 이 노드의 저장 하한을 게시해 다른 노드 조회가 이 ID를 건너뛰지 않게 한다)
+     *
+     * @param messageFactory 발급된 ID로 메시지 생성
+     * @throws IllegalStateException 저장 지연으로 대기 메시지가 상한을 넘었을 때
+     */
+    public PendingChatMessage append(LongFunction<PendingChatMessage> messageFactory) {
+        if (!enabled) {
+            PendingChatMessage message = messageFactory.apply(chatMessageRepository.nextId());
+            write(List.of(message));
+            return message;
+        }
+        if (pending.size() >= maxPending && !flush()) {
+            throw new IllegalStateException("채팅 메시지 저장이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long bound = beginAllocation();
+        long id = NO_FLOOR;
+        try {
+            id = chatMessageRepository.nextId();
+            PendingChatMessage message = messageFactory.apply(id);
+            pending.put(id, message);
+            return message;
+        } finally {
+            endAllocation(bound, id);
+        }
+    }
+
+    public boolean isPending(Long messageId) {
+        return pending.containsKey(messageId);
+    }
+
+    /**
+     * 모든 노드에서 아직 저장되지 않았을 수 있는 가장 작은 ID (없으면 Long.MAX_VALUE)
+     * ID 커서 조회는 이 값 미만까지만 반환해야 다른 노드가 나중에 저장할 더 작은 ID를 건너뛰지 않는다.
+     * Redis 조회에 실패하면 이 노드의 하한만 적용한다.
+     */
+    public long lowWaterMark() {
+        if (!enabled) {
+            return Long.MAX_VALUE;
+        }
+        long floor;
+        synchronized (floorLock) {
+            floor = publishedFloor != NO_FLOOR ? publishedFloor : Long.MAX_VALUE;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            Map<Object, Object> floors = stringRedisTemplate.opsForHash().entries(FLOORS_KEY);
+            for (Map.Entry<Object, Object> entry : floors.entrySet()) {
+                String[] value = String.valueOf(entry.getValue()).split("\\|");
+                if (now - Long.parseLong(value[1]) > floorStaleAfterMillis) {
+                    // 정리하지 못하고 종료된 노드
+                    stringRedisTemplate.opsForHash().delete(FLOORS_KEY, entry.getKey());
+                    continue;
+                }
+                floor = Math.min(floor, Long.parseLong(value[0]));
+            }
+        } catch (Exception e) {
+            log.warn("채팅 저장 하한 조회 실패, 로컬 하한만 적용: {}", e.getMessage());
+        }
+        return floor;
+    }
+
+    /**
+     * 대기 메시지 저장 (동시 호출은 한 번씩 순서대로 실행)
+     *
+     * @return 호출 시점의 대기 메시지를 모두 저장했으면 true
+     */
+    public boolean flush() {
+        flushLock.lock();
+        try {
+            int remaining = pending.size();
+            while (remaining > 0) {
+                List<PendingChatMessage> batch = new ArrayList<>(Math.min(remaining, batchSize));
+                for (PendingChatMessage message : pending.values()) {
+                    if (batch.size() == batchSize) {
+                        break;
+                    }
+                    batch.add(message);
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                try {
+                    write(batch);
+                    batch.forEach(message -> pending.remove(message.id()));
+                } catch (DataIntegrityViolationException e) {
+                    // 배치 안의 일부 메시지가 제약을 위반 — 한 건씩 저장해 해당 메시지만 걸러낸다
+                    if (!writeIndividually(batch)) {
+                        return false;
+                    }
+                } catch (Exception e) {
+                    recordFailure(e);
+                    return false;
+                }
+                remaining -= batch.size();
+            }
+            if (failing) {
+                failing = false;
+                log.info("채팅 메시지 일괄 저장 복구");
+            }
+            return true;
+        } finally {
+            flushLock.unlock();
+            refreshFloorQuietly();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        if (!flush()) {
+            log.error("종료 중 채팅 메시지 저장 실패: pending={}", pending.size());
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /** @return 이번 발급의 하한 (발급될 ID는 이 노드가 이미 받은 어떤 ID보다 크다) */
+    private long beginAllocation() {
+        synchronized (floorLock) {
+            long bound = lastAllocatedId + 1;
+            if (publishedFloor == NO_FLOOR) {
+                publishFloor(bound);
+            }
+            inFlight.merge(bound, 1, Integer::sum);
+            return bound;
+        }
+    }
+
+    private void endAllocation(long bound, long id) {
+        synchronized (floorLock) {
+            inFlight.computeIfPresent(bound, (key, count) -> count > 1 ? count - 1 : null);
+            lastAllocatedId = Math.max(lastAllocatedId, id);
+        }
+    }
+
+    /**
+     * 게시한 하한을 현재 상태(대기 메시지 / 발급 중인 ID 중 최솟값)로 갱신하고 heartbeat 를 남긴다. 없으면 지운다.
+     */
+    private void refreshFloorQuietly() {
+        try {
+            synchronized (floorLock) {
+                long floor = NO_FLOOR;
+                if (!pending.isEmpty()) {
+                    floor = pending.firstKey();
+                }
+                if (!inFlight.isEmpty()) {
+                    floor = floor == NO_FLOOR ? inFlight.firstKey() : Math.min(floor, inFlight.firstKey());
+                }
+
+                if (floor == NO_FLOOR) {
+                    if (publishedFloor != NO_FLOOR) {
+                        stringRedisTemplate.opsForHash().delete(FLOORS_KEY, nodeId);
+                        publishedFloor = NO_FLOOR;
+                    }
+                } else if (floor != publishedFloor
+                    || System.currentTimeMillis() - floorPublishedAt >= floorStaleAfterMillis / 3) {
+                    publishFloor(floor);
+                }
+            }
+        } catch (Exception e) {
+            // 갱신 실패 시 이전(더 낮은) 하한이 남아 조회가 보수적으로 멈출 뿐이다
+            log.warn("채팅 저장 하한 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private void publishFloor(long floor) {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForHash().put(FLOORS_KEY, nodeId, floor + "|" + now);
+        publishedFloor = floor;
+        floorPublishedAt = now;
+    }
+
+    /**
+     * 한 건씩 저장. 제약 위반 메시지는 버리고, 그 외 오류면 중단한다 (남은 메시지는 다음 주기에 재시도)
+     */
+    private boolean writeIndividually(List<PendingChatMessage> batch) {
+        for (PendingChatMessage message : batch) {
+            try {
+                write(List.of(message));
+            } catch (DataIntegrityViolationException e) {
+                deadLetterCounter.increment();
+                log.error("저장할 수 없는 채팅 메시지 제외: id={}, guildId={}, senderId={}, type={}, "
+                        + "contentLength={}, error={}",
+                    message.id(), message.guildId(), message.senderId(), message.messageType(),
+                    message.content() != null ? message.content().length() : null, e.getMessage());
+            } catch (Exception e) {
+                recordFailure(e);
+                return false;
+            }
+            pending.remove(message.id());
+        }
+        return true;
+    }
+
+    private void recordFailure(Exception e) {
+        flushFailureCounter.increment();
+        if (!failing) {
+            failing = true;
+            log.error("채팅 메시지 일괄 저장 실패, 다음 주기에 재시도: pending={}, error={}",
+                pending.size(), e.getMessage(), e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 예약 작업이 예외로 중단되지 않도록 삼킨다
+            log.error("채팅 메시지 flush 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    private void write(List<PendingChatMessage> batch) {
+        int size = batch.size();
+        Long[] ids = new Long[size];
+        Long[] guildIds = new Long[size];
+        String[] senderIds = new String[size];
+        String[] senderNicknames = new String[size];
+        String[] messageTypes = new String[size];
+        String[] contents = new String[size];
+        String[] imageUrls = new String[size];
+        LocalDateTime[] createdAts = new LocalDateTime[size];
+        for (int i = 0; i < size; i++) {
+            PendingChatMessage message = batch.get(i);
+            ids[i] = message.id();
+            guildIds[i] = message.guildId();
+            senderIds[i] = message.senderId();
+            senderNicknames[i] = message.senderNickname();
+            messageTypes[i] = message.messageType().name();
+            contents[i] = message.content();
+            imageUrls[i] = message.imageUrl();
+            createdAts[i] = message.createdAt();
+        }
+        flushTimer.record(() -> chatMessageRepository.insertAllWithIds(
+            ids, guildIds, senderIds, senderNicknames, messageTypes, contents, imageUrls, createdAts));
+    }
+}
@@ -15,10 +15,12 @@ import io.pinkspider.leveluptogethermvp.chatservice.infrastructure.GuildChatRead
 import io.pinkspider.global.facade.GuildQueryFacade;
 import io.pinkspider.global.facade.dto.GuildBasicInfo;
 import io.pinkspider.global.facade.UserQueryFacade;
+import io.pinkspider.leveluptogethermvp.chatservice.application.GuildChatContextCache.GuildChatContext;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,6 +28,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -34,45 +37,57 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(transactionManager = "chatTransactionManager", readOnly = true)
 public class GuildChatService {
 
+    // guild_chat_message 컬럼 길이 (content/sender_nickname/image_url)
+    private static final int MAX_CONTENT_LENGTH = 1000;
+    private static final int MAX_NICKNAME_LENGTH = 50;
+    private static final int MAX_IMAGE_URL_LENGTH = 500;
+
     private final GuildChatMessageRepository chatMessageRepository;
     private final GuildChatReadStatusRepository readStatusRepository;
     private final GuildChatParticipantRepository participantRepository;
     private final GuildQueryFacade guildQueryFacadeService;
     private final UserQueryFacade userQueryFacadeService;
     private final ApplicationEventPublisher eventPublisher;
-
-    @Transactional(transactionManager = "chatTransactionManager")
+    private final GuildChatContextCache guildChatContextCache;
+    private final GuildChatMessageJournal messageJournal;
+
+    /**
+     * 채팅 메시지 전송 (write-behind)
+     * 길드 정보/멤버십/알림 대상은 {@link GuildChatContextCache}에서, ID는 시퀀스에서 선발급받고
+     * 저장은 {@link GuildChatMessageJournal}이 일괄 처리한다. DB 접근은 ID 발급 1회뿐이라 트랜잭션을 열지 않는다
+     * (클래스 기본값인 읽기 전용 트랜잭션에서는 nextval 이 거부된다).
+     */
+    @Transactional(transactionManager = "chatTransactionManager", propagation = Propagation.NOT_SUPPORTED)
     public ChatMessageResponse sendMessage(Long guildId, String userId, String nickname,
                                             ChatMessageRequest request) {
-        GuildBasicInfo guildInfo = guildQueryFacadeService.getGuildBasicInfo(guildId);
-        if (guildInfo == null) {
-            throw new IllegalArgumentException("길드를 찾을 수 없습니다: " + guildId);
+        GuildChatContext context = guildChatContextCache.get(guildId);
+        if (!context.isActiveMember(userId)) {
+            throw new IllegalStateException("길드 멤버만 채팅에 참여할 수 있습니다.");
         }
-        validateMembership(guildId, userId);
 
         String effectiveNickname = nickname;
         if (effectiveNickname == null || effectiveNickname.isBlank()) {
             effectiveNickname = userQueryFacadeService.getUserProfile(userId).nickname();
         }
 
-        GuildChatMessage message;
-        if (request.getImageUrl() != null && !request.getImageUrl().isEmpty()) {
-            message = GuildChatMessage.builder()
-                .guildId(guildId)
-                .senderId(userId)
-                .senderNickname(effectiveNickname)
-                .messageType(ChatMessageType.IMAGE)
-                .content(request.getContent() != null ? request.getContent() : "")
-                .imageUrl(request.getImageUrl())
-                .build();
-        } else {
-            message = GuildChatMessage.createTextMessage(guildId, userId, effectiveNickname, request.getContent());
-        }
-
-        GuildChatMessage saved = chatMessageRepository.save(message);
-        log.debug("채팅 메시지 전송: guildId={}, userId={}", guildId, userId);
-
-        List<String> memberIds = guildQueryFacadeService.getActiveMemberUserIds(guildId).stream()
+        boolean hasImage = request.getImageUrl() != null && !request.getImageUrl().isEmpty();
+        String content = hasImage && request.getContent() == null ? "" : request.getContent();
+        String imageUrl = hasImage ? request.getImageUrl() : null;
+        validateMessage(content, effectiveNickname, imageUrl);
+
+        String senderNickname = effectiveNickname;
+        PendingChatMessage message = messageJournal.append(id -> new PendingChatMessage(
+            id,
+            guildId,
+            userId,
+            senderNickname,
+            hasImage ? ChatMessageType.IMAGE : ChatMessageType.TEXT,
+            content,
+            imageUrl,
+            LocalDateTime.now()));
+        log.debug("채팅 메시지 전송: guildId={}, userId={}, messageId={}", guildId, userId, message.id());
+
+        List<String> memberIds = context.activeMemberIds().stream()
             .filter(memberId -> !memberId.equals(userId))
             .toList();
 
@@ -81,14 +96,14 @@ public class GuildChatService {
                 userId,
                 effectiveNickname,
                 guildId,
-                guildInfo.name(),
-                saved.getId(),
-                saved.getContent(),
+                context.guild().name(),
+                message.id(),
+                message.content(),
                 memberIds
             ));
         }
 
-        return ChatMessageResponse.from(saved);
+        return message.toResponse();
     }
 
     @Transactional(transactionManager = "chatTransactionManager")
@@ -122,9 +137,17 @@ public class GuildChatService {
             .toList();
     }
 
+    /**
+     * lastMessageId 이후 메시지 (ID 커서)
+     * 노드마다 따로 일괄 저장하므로 더 작은 ID가 나중에 저장될 수 있다. 커서가 그런 메시지를 건너뛰지 않도록
+     * 모든 노드의 저장 하한({@link GuildChatMessageJournal#lowWaterMark}) 미만까지만 반환한다.
+     * 하한은 조회 전에 읽어야 한다 (하한 미만 ID는 그 시점에 이미 커밋되어 있다).
+     */
     public List<ChatMessageResponse> getMessagesAfterId(Long guildId, String userId, Long lastMessageId) {
         validateMembership(guildId, userId);
+        long lowWaterMark = messageJournal.lowWaterMark();
         return chatMessageRepository.findMessagesAfterId(guildId, lastMessageId).stream()
+            .filter(message -> message.getId() < lowWaterMark)
             .map(ChatMessageResponse::from)
             .toList();
     }
@@ -145,7 +168,7 @@ public class GuildChatService {
 
     @Transactional(transactionManager = "chatTransactionManager")
     public void deleteMessage(Long guildId, Long messageId, String userId) {
-        GuildChatMessage message = chatMessageRepository.findById(messageId)
+        GuildChatMessage message = findMessage(messageId)
             .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다."));
 
         if (!message.getGuildId().equals(guildId)) {
@@ -179,6 +202,35 @@ public class GuildChatService {
             memberNickname + "님이 추방되었습니다.");
     }
 
+    /**
+     * 메시지 조회 (이 인스턴스 저널에 저장 대기 중이면 먼저 저장한 뒤 조회)
+     */
+    private Optional<GuildChatMessage> findMessage(Long messageId) {
+        Optional<GuildChatMessage> message = chatMessageRepository.findById(messageId);
+        if (message.isEmpty() && messageJournal.isPending(messageId) && messageJournal.flush()) {
+            return chatMessageRepository.findById(messageId);
+        }
+        return message;
+    }
+
+    /**
+     * 저장 전에 브로드캐스트되므로 저장할 수 없는 메시지는 전송 시점에 거부한다
+     */
+    private void validateMessage(String content, String nickname, String imageUrl) {
+        if (content == null || (imageUrl == null && content.isBlank())) {
+            throw new IllegalArgumentException("메시지 내용은 필수입니다.");
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new IllegalArgumentException("메시지는 " + MAX_CONTENT_LENGTH + "자를 초과할 수 없습니다.");
+        }
+        if (imageUrl != null && imageUrl.length() > MAX_IMAGE_URL_LENGTH) {
+            throw new IllegalArgumentException("이미지 URL은 " + MAX_IMAGE_URL_LENGTH + "자를 초과할 수 없습니다.");
+        }
+        if (nickname == null || nickname.isBlank() || nickname.length() > MAX_NICKNAME_LENGTH) {
+            throw new IllegalArgumentException("닉네임이 올바르지 않습니다.");
+        }
+    }
+
     private void validateGuildExists(Long guildId) {
         if (!guildQueryFacadeService.guildExists(guildId)) {
             throw new IllegalArgumentException("길드를 찾을 수 없습니다: " + guildId);
@@ -220,7 +272,7 @@ public class GuildChatService {
     public void markAsRead(Long guildId, String userId, Long messageId) {
         validateMembership(guildId, userId);
 
-        GuildChatMessage message = chatMessageRepository.findById(messageId)
+        GuildChatMessage message = findMessage(messageId)
             .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다: " + messageId));
 
         if (!message.getGuildId().equals(guildId)) {
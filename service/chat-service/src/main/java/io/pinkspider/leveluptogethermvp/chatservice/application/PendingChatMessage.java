@@ -0,0 +1,34 @@
+package io.pinkspider.leveluptogethermvp.chatservice.application;
+
+import io.pinkspider.leveluptogethermvp.chatservice.domain.dto.ChatMessageResponse;
+import io.pinkspider.leveluptogethermvp.chatservice.domain.enums.ChatMessageType;
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 길드 채팅 메시지 (ID 선발급, {@link GuildChatMessageJournal} 이 일괄 저장)
+ */
+public record PendingChatMessage(
+    Long id,
+    Long guildId,
+    String senderId,
+    String senderNickname,
+    ChatMessageType messageType,
+    String content,
+    String imageUrl,
+    LocalDateTime createdAt
+) {
+
+    public ChatMessageResponse toResponse() {
+        return ChatMessageResponse.builder()
+            .id(id)
+            .guildId(guildId)
+            .senderId(senderId)
+            .senderNickname(senderNickname)
+            .messageType(messageType)
+            .content(content)
+            .imageUrl(imageUrl)
+            .isSystemMessage(messageType.isSystemMessage())
+            .createdAt(createdAt)
+            .build();
+    }
+}
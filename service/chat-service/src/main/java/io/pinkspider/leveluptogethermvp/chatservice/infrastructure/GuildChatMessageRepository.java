@@ -26,7 +26,7 @@ public interface GuildChatMessageRepository extends JpaRepository<GuildChatMessa
         @Param("guildId") Long guildId, @Param("since") LocalDateTime since);
 
     @Query("SELECT m FROM GuildChatMessage m WHERE m.guildId = :guildId " +
-           "AND m.isDeleted = false AND m.id > :lastMessageId ORDER BY m.createdAt ASC")
+           "AND m.isDeleted = false AND m.id > :lastMessageId ORDER BY m.id ASC")
     List<GuildChatMessage> findMessagesAfterId(
         @Param("guildId") Long guildId, @Param("lastMessageId") Long lastMessageId);
 
@@ -53,4 +53,41 @@ public interface GuildChatMessageRepository extends JpaRepository<GuildChatMessa
     @Transactional(transactionManager = "chatTransactionManager")
     @Query("UPDATE GuildChatMessage m SET m.senderNickname = :nickname WHERE m.senderId = :userId")
     int updateSenderNicknameByUserId(@Param("userId") String userId, @Param("nickname") String nickname);
+
+    /**
+     * 메시지 ID 선발급 (write-behind 저장 전에 브로드캐스트/응답에 쓸 ID)
+     * IDENTITY 컬럼과 같은 시퀀스를 쓰므로 시스템 메시지(save)와 ID가 겹치지 않는다.
+     * 저장 순서는 ID 순서와 다를 수 있으므로 ID 커서 조회는 GuildChatMessageJournal#lowWaterMark 로 상한을 둔다.
+     */
+    @Transactional(transactionManager = "chatTransactionManager")
+    @Query(value = "SELECT nextval(pg_get_serial_sequence('guild_chat_message', 'id'))", nativeQuery = true)
+    Long nextId();
+
+    /**
+     * 선발급 ID로 메시지 일괄 저장 (배열 unnest, 한 번의 INSERT)
+     * 재시도 시 이미 저장된 ID는 건너뛴다.
+     */
+    @Modifying
+    @Transactional(transactionManager = "chatTransactionManager")
+    @Query(value = """
+        INSERT INTO guild_chat_message (
+            id, guild_id, sender_id, sender_nickname, message_type, content, image_url,
+            is_deleted, created_at, modified_at)
+        SELECT t.id, t.guild_id, t.sender_id, t.sender_nickname, t.message_type, t.content, t.image_url,
+               false, t.created_at, t.created_at
+        FROM unnest(CAST(:ids AS bigint[]), CAST(:guildIds AS bigint[]), CAST(:senderIds AS varchar[]),
+                    CAST(:senderNicknames AS varchar[]), CAST(:messageTypes AS varchar[]),
+                    CAST(:contents AS varchar[]), CAST(:imageUrls AS varchar[]),
+                    CAST(:createdAts AS timestamp[]))
+             AS t(id, guild_id, sender_id, sender_nickname, message_type, content, image_url, created_at)
+        ON CONFLICT (id) DO NOTHING
+        """, nativeQuery = true)
+    int insertAllWithIds(@Param("ids") Long[] ids,
+                         @Param("guildIds") Long[] guildIds,
+                         @Param("senderIds") String[] senderIds,
+                         @Param("senderNicknames") String[] senderNicknames,
+                         @Param("messageTypes") String[] messageTypes,
+                         @Param("contents") String[] contents,
+                         @Param("imageUrls") String[] imageUrls,
+                         @Param("createdAts") LocalDateTime[] createdAts);
 }
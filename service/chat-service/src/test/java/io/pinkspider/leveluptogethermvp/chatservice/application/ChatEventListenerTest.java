@@ -2,9 +2,11 @@ package io.pinkspider.leveluptogethermvp.chatservice.application;
 
 import static org.mockito.Mockito.verify;
 
+import io.pinkspider.global.event.GuildJoinedEvent;
 import io.pinkspider.global.event.GuildMemberJoinedChatNotifyEvent;
 import io.pinkspider.global.event.GuildMemberKickedChatNotifyEvent;
 import io.pinkspider.global.event.GuildMemberLeftChatNotifyEvent;
+import io.pinkspider.global.event.GuildMemberRemovedEvent;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,9 @@ class ChatEventListenerTest {
     @Mock
     private GuildChatService guildChatService;
 
+    @Mock
+    private GuildChatContextCache guildChatContextCache;
+
     @InjectMocks
     private ChatEventListener chatEventListener;
 
@@ -81,4 +86,29 @@ class ChatEventListenerTest {
             verify(guildChatService).notifyMemberKick(guildId, nickname);
         }
     }
+
+    @Nested
+    @DisplayName("길드 채팅 컨텍스트 무효화 테스트")
+    class ContextInvalidationTest {
+
+        @Test
+        @DisplayName("길드 가입 이벤트 수신 시 해당 길드 컨텍스트를 무효화한다")
+        void handleGuildJoined_invalidates() {
+            // when
+            chatEventListener.handleGuildJoined(new GuildJoinedEvent("user-1", 5L, "길드"));
+
+            // then
+            verify(guildChatContextCache).invalidate(5L);
+        }
+
+        @Test
+        @DisplayName("멤버 제거 이벤트 수신 시 해당 길드 컨텍스트를 무효화한다")
+        void handleMemberRemoved_invalidates() {
+            // when
+            chatEventListener.handleMemberRemoved(new GuildMemberRemovedEvent("user-1", 5L));
+
+            // then
+            verify(guildChatContextCache).invalidate(5L);
+        }
+    }
 }
@@ -0,0 +1,106 @@
+package io.pinkspider.leveluptogethermvp.chatservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.global.facade.GuildQueryFacade;
+import io.pinkspider.global.facade.dto.GuildBasicInfo;
+import io.pinkspider.leveluptogethermvp.chatservice.application.GuildChatContextCache.GuildChatContext;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GuildChatContextCache 단위 테스트")
+class GuildChatContextCacheTest {
+
+    @Mock
+    private GuildQueryFacade guildQueryFacadeService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private GuildChatContextCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GuildChatContextCache(guildQueryFacadeService, stringRedisTemplate, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("TTL 동안 길드 정보와 멤버 목록을 한 번만 조회한다")
+    void get_cachesWithinTtl() {
+        // given
+        when(guildQueryFacadeService.getGuildBasicInfo(1L)).thenReturn(new GuildBasicInfo(1L, "길드", null, 1));
+        when(guildQueryFacadeService.getActiveMemberUserIds(1L)).thenReturn(List.of("user-1", "user-2"));
+
+        // when
+        GuildChatContext first = cache.get(1L);
+        GuildChatContext second = cache.get(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.isActiveMember("user-1")).isTrue();
+        assertThat(first.isActiveMember("user-3")).isFalse();
+        verify(guildQueryFacadeService, times(1)).getActiveMemberUserIds(1L);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 인스턴스에 발행하고 다음 조회에서 다시 읽는다")
+    void invalidate_reloadsAndPublishes() {
+        // given
+        when(guildQueryFacadeService.getGuildBasicInfo(1L)).thenReturn(new GuildBasicInfo(1L, "길드", null, 1));
+        when(guildQueryFacadeService.getActiveMemberUserIds(1L)).thenReturn(List.of("user-1"));
+        cache.get(1L);
+
+        // when
+        cache.invalidate(1L);
+        cache.get(1L);
+
+        // then
+        verify(stringRedisTemplate).convertAndSend(GuildChatContextCache.CHANNEL, "1");
+        verify(guildQueryFacadeService, times(2)).getActiveMemberUserIds(1L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 해당 길드 항목을 버린다")
+    void onMessage_evicts() {
+        // given
+        when(guildQueryFacadeService.getGuildBasicInfo(1L)).thenReturn(new GuildBasicInfo(1L, "길드", null, 1));
+        when(guildQueryFacadeService.getActiveMemberUserIds(1L)).thenReturn(List.of("user-1"));
+        cache.get(1L);
+
+        // when
+        cache.onMessage(new DefaultMessage(
+            GuildChatContextCache.CHANNEL.getBytes(StandardCharsets.UTF_8), "1".getBytes(StandardCharsets.UTF_8)), null);
+        cache.get(1L);
+
+        // then
+        verify(guildQueryFacadeService, times(2)).getGuildBasicInfo(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 길드는 예외를 던지고 캐시하지 않는다")
+    void get_guildNotFound() {
+        // given
+        when(guildQueryFacadeService.getGuildBasicInfo(999L)).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(999L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("길드를 찾을 수 없습니다");
+        assertThatThrownBy(() -> cache.get(999L)).isInstanceOf(IllegalArgumentException.class);
+        verify(guildQueryFacadeService, times(2)).getGuildBasicInfo(999L);
+    }
+}
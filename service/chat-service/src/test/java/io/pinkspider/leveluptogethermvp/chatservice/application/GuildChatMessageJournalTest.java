@@ -0,0 +1,301 @@
+package io.pinkspider.leveluptogethermvp.chatservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pinkspider.leveluptogethermvp.chatservice.domain.enums.ChatMessageType;
+import io.pinkspider.leveluptogethermvp.chatservice.infrastructure.GuildChatMessageRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GuildChatMessageJournal 단위 테스트")
+class GuildChatMessageJournalTest {
+
+    @Mock
+    private GuildChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(hashOperations).when(stringRedisTemplate).opsForHash();
+    }
+
+    private GuildChatMessageJournal journal(boolean enabled, int batchSize, int maxPending) {
+        return new GuildChatMessageJournal(chatMessageRepository, stringRedisTemplate, null,
+            enabled, batchSize, maxPending, Duration.ofSeconds(10), meterRegistry);
+    }
+
+    /** 시퀀스가 id 를 발급하도록 스텁하고 적재 */
+    private void append(GuildChatMessageJournal journal, Long id, Long guildId) {
+        lenient().when(chatMessageRepository.nextId()).thenReturn(id);
+        journal.append(allocatedId -> message(allocatedId, guildId));
+    }
+
+    private PendingChatMessage message(Long id, Long guildId) {
+        return new PendingChatMessage(
+            id, guildId, "user-" + id, "닉네임", ChatMessageType.TEXT, "메시지 " + id, null, LocalDateTime.now());
+    }
+
+    private ArgumentCaptor<Long[]> idsCaptor() {
+        return ArgumentCaptor.forClass(Long[].class);
+    }
+
+    private void verifyInserts(int times, ArgumentCaptor<Long[]> ids) {
+        verify(chatMessageRepository, times(times)).insertAllWithIds(
+            ids.capture(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Nested
+    @DisplayName("flush 테스트")
+    class FlushTest {
+
+        @Test
+        @DisplayName("대기 메시지를 ID 순으로 batch-size 만큼씩 나눠 저장하고 비운다")
+        void flush_writesInIdOrderByBatch() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 2, 100);
+            append(journal, 3L, 1L);
+            append(journal, 1L, 1L);
+            append(journal, 2L, 2L);
+
+            // when
+            boolean flushed = journal.flush();
+
+            // then
+            assertThat(flushed).isTrue();
+            ArgumentCaptor<Long[]> ids = idsCaptor();
+            verifyInserts(2, ids);
+            assertThat(ids.getAllValues()).containsExactly(new Long[] {1L, 2L}, new Long[] {3L});
+            assertThat(journal.pendingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("저장에 실패하면 메시지를 유지하고 다음 flush 에서 다시 저장한다")
+        void flush_failureKeepsMessages() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 100);
+            append(journal, 1L, 1L);
+            when(chatMessageRepository.insertAllWithIds(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(1);
+
+            // when
+            boolean first = journal.flush();
+            boolean second = journal.flush();
+
+            // then
+            assertThat(first).isFalse();
+            assertThat(second).isTrue();
+            assertThat(journal.pendingCount()).isZero();
+            assertThat(meterRegistry.get("chat.journal.flush.failures").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("제약 위반으로 배치가 실패하면 한 건씩 저장하고 저장할 수 없는 메시지만 버린다")
+        void flush_constraintViolationIsolatesBadMessage() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 100);
+            append(journal, 1L, 1L);
+            append(journal, 2L, 1L);
+            append(journal, 3L, 1L);
+            when(chatMessageRepository.insertAllWithIds(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("value too long"))
+                .thenReturn(1);
+
+            // when
+            boolean flushed = journal.flush();
+
+            // then: 배치 1회 + 한 건씩 3회
+            assertThat(flushed).isTrue();
+            ArgumentCaptor<Long[]> ids = idsCaptor();
+            verifyInserts(4, ids);
+            assertThat(ids.getAllValues()).containsExactly(
+                new Long[] {1L, 2L, 3L}, new Long[] {1L}, new Long[] {2L}, new Long[] {3L});
+            assertThat(journal.pendingCount()).isZero();
+            assertThat(meterRegistry.get("chat.journal.dead-letters").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("한 건씩 저장하다 일시 오류가 나면 남은 메시지를 유지한다")
+        void flush_transientFailureDuringIsolationKeepsRest() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 100);
+            append(journal, 1L, 1L);
+            append(journal, 2L, 1L);
+            when(chatMessageRepository.insertAllWithIds(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("not null"))
+                .thenReturn(1)
+                .thenThrow(new RuntimeException("DB down"));
+
+            // when
+            boolean flushed = journal.flush();
+
+            // then
+            assertThat(flushed).isFalse();
+            assertThat(journal.isPending(1L)).isFalse();
+            assertThat(journal.isPending(2L)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("적재 테스트")
+    class AppendTest {
+
+        @Test
+        @DisplayName("발급된 ID로 메시지를 만들어 저장 전까지 보관한다")
+        void append_allocatesIdAndKeepsPending() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 100);
+            when(chatMessageRepository.nextId()).thenReturn(7L);
+
+            // when
+            PendingChatMessage appended = journal.append(id -> message(id, 1L));
+
+            // then
+            assertThat(appended.id()).isEqualTo(7L);
+            assertThat(journal.isPending(7L)).isTrue();
+            verify(chatMessageRepository, never()).insertAllWithIds(any(), any(), any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("대기 메시지가 상한에 이르면 전송 스레드가 직접 저장하고, 실패하면 전송을 거부한다")
+        void append_backpressure() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 2);
+            append(journal, 1L, 1L);
+            append(journal, 2L, 1L);
+            when(chatMessageRepository.insertAllWithIds(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(2)
+                .thenThrow(new RuntimeException("DB down"));
+
+            // when: 상한 도달 → 직접 저장 성공 후 적재
+            append(journal, 3L, 1L);
+            append(journal, 4L, 1L);
+
+            // then: 다시 상한 도달 + 저장 실패 → 거부
+            assertThatThrownBy(() -> append(journal, 5L, 1L))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(journal.isPending(5L)).isFalse();
+            assertThat(journal.pendingCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("비활성화 시 메시지마다 즉시 저장한다")
+        void disabled_writesImmediately() {
+            // given
+            GuildChatMessageJournal journal = journal(false, 10, 100);
+
+            // when
+            append(journal, 1L, 1L);
+
+            // then
+            verifyInserts(1, idsCaptor());
+            assertThat(journal.pendingCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("저장 하한 테스트")
+    class LowWaterMarkTest {
+
+        @Test
+        @DisplayName("ID 발급 전에 하한을 게시하고, 대기 메시지를 모두 저장하면 지운다")
+        void floor_publishedBeforeAllocationAndClearedAfterFlush() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 100);
+
+            // when
+            append(journal, 5L, 1L);
+
+            // then: 첫 발급이므로 이 노드가 받을 수 있는 가장 작은 ID(1)를 하한으로 게시
+            verify(hashOperations).put(eq(GuildChatMessageJournal.FLOORS_KEY), anyString(), startsWith("1|"));
+
+            // when
+            journal.flush();
+
+            // then
+            verify(hashOperations).delete(eq(GuildChatMessageJournal.FLOORS_KEY), anyString());
+
+            // when: 다음 발급은 이미 받은 ID 이후부터
+            append(journal, 9L, 1L);
+
+            // then
+            verify(hashOperations).put(eq(GuildChatMessageJournal.FLOORS_KEY), anyString(), startsWith("6|"));
+        }
+
+        @Test
+        @DisplayName("노드별 하한 중 최솟값을 돌려주고 heartbeat 가 오래된 노드는 지운다")
+        void lowWaterMark_minAcrossLiveNodes() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 100);
+            long now = System.currentTimeMillis();
+            when(hashOperations.entries(GuildChatMessageJournal.FLOORS_KEY)).thenReturn(Map.of(
+                "node-a", "40|" + now,
+                "node-b", "55|" + now,
+                "node-dead", "10|" + (now - 60_000)));
+
+            // when
+            long lowWaterMark = journal.lowWaterMark();
+
+            // then
+            assertThat(lowWaterMark).isEqualTo(40L);
+            verify(hashOperations).delete(GuildChatMessageJournal.FLOORS_KEY, "node-dead");
+        }
+
+        @Test
+        @DisplayName("저장 실패로 남은 메시지가 하한이 되고, Redis 조회 실패 시 로컬 하한을 적용한다")
+        void lowWaterMark_localFloorWhenRedisFails() {
+            // given
+            GuildChatMessageJournal journal = journal(true, 10, 100);
+            append(journal, 5L, 1L);
+            when(chatMessageRepository.insertAllWithIds(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new RuntimeException("DB down"));
+            journal.flush();
+            when(hashOperations.entries(GuildChatMessageJournal.FLOORS_KEY))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+            // when & then
+            assertThat(journal.lowWaterMark()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("비활성화 시 모든 메시지가 즉시 저장되므로 상한이 없다")
+        void lowWaterMark_disabled() {
+            assertThat(journal(false, 10, 100).lowWaterMark()).isEqualTo(Long.MAX_VALUE);
+        }
+    }
+}
@@ -7,9 +7,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.pinkspider.leveluptogethermvp.chatservice.application.GuildChatContextCache.GuildChatContext;
 import io.pinkspider.leveluptogethermvp.chatservice.domain.dto.ChatMessageRequest;
 import io.pinkspider.leveluptogethermvp.chatservice.domain.dto.ChatMessageResponse;
 import io.pinkspider.leveluptogethermvp.chatservice.domain.dto.ChatParticipantResponse;
@@ -29,6 +31,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongFunction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -63,6 +67,12 @@ class GuildChatServiceTest {
     @Mock
     private org.springframework.context.ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private GuildChatContextCache guildChatContextCache;
+
+    @Mock
+    private GuildChatMessageJournal messageJournal;
+
     @InjectMocks
     private GuildChatService guildChatService;
 
@@ -79,6 +89,17 @@ class GuildChatServiceTest {
         setId(testMessage, 1L);
     }
 
+    /** 저널이 id 를 발급해 메시지를 만들도록 스텁 */
+    @SuppressWarnings("unchecked")
+    private void givenJournalAllocates(Long id) {
+        when(messageJournal.append(any())).thenAnswer(invocation ->
+            ((LongFunction<PendingChatMessage>) invocation.getArgument(0)).apply(id));
+    }
+
+    private GuildChatContext chatContext(String... memberIds) {
+        return new GuildChatContext(new GuildBasicInfo(1L, "테스트길드", null, 1), Set.of(memberIds), System.nanoTime());
+    }
+
     @Nested
     @DisplayName("메시지 전송 테스트")
     class SendMessageTest {
@@ -91,14 +112,8 @@ class GuildChatServiceTest {
                 .content("안녕하세요!")
                 .build();
 
-            when(guildQueryFacadeService.getGuildBasicInfo(1L)).thenReturn(new GuildBasicInfo(1L, "테스트길드", null, 1));
-            when(guildQueryFacadeService.isActiveMember(1L, testUserId)).thenReturn(true);
-            when(guildQueryFacadeService.getActiveMemberUserIds(1L)).thenReturn(java.util.Collections.emptyList());
-            when(chatMessageRepository.save(any(GuildChatMessage.class))).thenAnswer(inv -> {
-                GuildChatMessage msg = inv.getArgument(0);
-                setId(msg, 1L);
-                return msg;
-            });
+            when(guildChatContextCache.get(1L)).thenReturn(chatContext(testUserId));
+            givenJournalAllocates(1L);
 
             // when
             ChatMessageResponse response = guildChatService.sendMessage(1L, testUserId, testNickname, request);
@@ -107,7 +122,9 @@ class GuildChatServiceTest {
             assertThat(response).isNotNull();
             assertThat(response.getContent()).isEqualTo("안녕하세요!");
             assertThat(response.getMessageType()).isEqualTo(ChatMessageType.TEXT);
-            verify(chatMessageRepository).save(any(GuildChatMessage.class));
+            assertThat(response.getId()).isEqualTo(1L);
+            verify(messageJournal).append(any());
+            verify(chatMessageRepository, never()).save(any(GuildChatMessage.class));
         }
 
         @Test
@@ -119,14 +136,8 @@ class GuildChatServiceTest {
                 .imageUrl("https://example.com/image.jpg")
                 .build();
 
-            when(guildQueryFacadeService.getGuildBasicInfo(1L)).thenReturn(new GuildBasicInfo(1L, "테스트길드", null, 1));
-            when(guildQueryFacadeService.isActiveMember(1L, testUserId)).thenReturn(true);
-            when(guildQueryFacadeService.getActiveMemberUserIds(1L)).thenReturn(java.util.Collections.emptyList());
-            when(chatMessageRepository.save(any(GuildChatMessage.class))).thenAnswer(inv -> {
-                GuildChatMessage msg = inv.getArgument(0);
-                setId(msg, 1L);
-                return msg;
-            });
+            when(guildChatContextCache.get(1L)).thenReturn(chatContext(testUserId));
+            givenJournalAllocates(1L);
 
             // when
             ChatMessageResponse response = guildChatService.sendMessage(1L, testUserId, testNickname, request);
@@ -145,13 +156,13 @@ class GuildChatServiceTest {
                 .content("안녕하세요!")
                 .build();
 
-            when(guildQueryFacadeService.getGuildBasicInfo(1L)).thenReturn(new GuildBasicInfo(1L, "테스트길드", null, 1));
-            when(guildQueryFacadeService.isActiveMember(1L, testUserId)).thenReturn(false);
+            when(guildChatContextCache.get(1L)).thenReturn(chatContext("other-user"));
 
             // when & then
             assertThatThrownBy(() -> guildChatService.sendMessage(1L, testUserId, testNickname, request))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("길드 멤버만 채팅에 참여할 수 있습니다");
+            verify(messageJournal, never()).append(any());
         }
 
         @Test
@@ -162,13 +173,51 @@ class GuildChatServiceTest {
                 .content("안녕하세요!")
                 .build();
 
-            when(guildQueryFacadeService.getGuildBasicInfo(999L)).thenThrow(new IllegalArgumentException("길드를 찾을 수 없습니다"));
+            when(guildChatContextCache.get(999L)).thenThrow(new IllegalArgumentException("길드를 찾을 수 없습니다"));
 
             // when & then
             assertThatThrownBy(() -> guildChatService.sendMessage(999L, testUserId, testNickname, request))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("길드를 찾을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("내용이 없는 텍스트 메시지는 저장 전에 거부한다")
+        void sendMessage_nullContent_fail() {
+            // given
+            ChatMessageRequest request = ChatMessageRequest.builder().build();
+
+            when(guildChatContextCache.get(1L)).thenReturn(chatContext(testUserId));
+
+            // when & then
+            assertThatThrownBy(() -> guildChatService.sendMessage(1L, testUserId, testNickname, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("메시지 내용은 필수입니다");
+            verify(messageJournal, never()).append(any());
+        }
+
+        @Test
+        @DisplayName("컬럼 길이를 넘는 내용/이미지 URL은 저장 전에 거부한다")
+        void sendMessage_oversized_fail() {
+            // given
+            ChatMessageRequest longContent = ChatMessageRequest.builder()
+                .content("가".repeat(1001))
+                .build();
+            ChatMessageRequest longImageUrl = ChatMessageRequest.builder()
+                .imageUrl("https://example.com/" + "a".repeat(500))
+                .build();
+
+            when(guildChatContextCache.get(1L)).thenReturn(chatContext(testUserId));
+
+            // when & then
+            assertThatThrownBy(() -> guildChatService.sendMessage(1L, testUserId, testNickname, longContent))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("1000자");
+            assertThatThrownBy(() -> guildChatService.sendMessage(1L, testUserId, testNickname, longImageUrl))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("500자");
+            verify(messageJournal, never()).append(any());
+        }
     }
 
     @Nested
@@ -276,6 +325,7 @@ class GuildChatServiceTest {
         void getMessagesAfterId_success() {
             // given
             when(guildQueryFacadeService.isActiveMember(1L, testUserId)).thenReturn(true);
+            when(messageJournal.lowWaterMark()).thenReturn(Long.MAX_VALUE);
             when(chatMessageRepository.findMessagesAfterId(1L, 0L)).thenReturn(List.of(testMessage));
 
             // when
@@ -285,6 +335,23 @@ class GuildChatServiceTest {
             assertThat(result).hasSize(1);
         }
 
+        @Test
+        @DisplayName("다른 노드가 아직 저장하지 않은 ID 이상의 메시지는 커서가 건너뛰지 않도록 반환하지 않는다")
+        void getMessagesAfterId_cappedAtLowWaterMark() {
+            // given: ID 3은 다른 노드에서 아직 저장 전 (하한 3), ID 4는 이미 저장됨
+            GuildChatMessage savedLater = GuildChatMessage.createTextMessage(1L, testUserId, testNickname, "먼저 저장된 메시지");
+            setId(savedLater, 4L);
+            when(guildQueryFacadeService.isActiveMember(1L, testUserId)).thenReturn(true);
+            when(messageJournal.lowWaterMark()).thenReturn(3L);
+            when(chatMessageRepository.findMessagesAfterId(1L, 0L)).thenReturn(List.of(testMessage, savedLater));
+
+            // when
+            List<ChatMessageResponse> result = guildChatService.getMessagesAfterId(1L, testUserId, 0L);
+
+            // then
+            assertThat(result).extracting(ChatMessageResponse::getId).containsExactly(1L);
+        }
+
         @Test
         @DisplayName("비멤버는 메시지를 조회할 수 없다")
         void getMessages_nonMember_fail() {
@@ -856,15 +923,9 @@ class GuildChatServiceTest {
                 testUserId, "프로필닉네임", null, 1, null, null, null
             );
 
-            when(guildQueryFacadeService.getGuildBasicInfo(1L)).thenReturn(new GuildBasicInfo(1L, "테스트길드", null, 1));
-            when(guildQueryFacadeService.isActiveMember(1L, testUserId)).thenReturn(true);
-            when(guildQueryFacadeService.getActiveMemberUserIds(1L)).thenReturn(java.util.Collections.emptyList());
+            when(guildChatContextCache.get(1L)).thenReturn(chatContext(testUserId));
+            givenJournalAllocates(1L);
             when(userQueryFacadeService.getUserProfile(testUserId)).thenReturn(profile);
-            when(chatMessageRepository.save(any(GuildChatMessage.class))).thenAnswer(inv -> {
-                GuildChatMessage msg = inv.getArgument(0);
-                setId(msg, 1L);
-                return msg;
-            });
 
             // when
             ChatMessageResponse response = guildChatService.sendMessage(1L, testUserId, "", request);
@@ -957,6 +1018,25 @@ class GuildChatServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("메시지를 찾을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("저장 대기 중인 메시지를 읽음 처리하면 저널을 먼저 저장한 뒤 조회한다")
+        void markAsRead_pendingMessage_flushesFirst() {
+            // given
+            when(guildQueryFacadeService.isActiveMember(1L, testUserId)).thenReturn(true);
+            when(chatMessageRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(testMessage));
+            when(messageJournal.isPending(1L)).thenReturn(true);
+            when(messageJournal.flush()).thenReturn(true);
+            GuildChatReadStatus readStatus = GuildChatReadStatus.create(1L, testUserId);
+            when(readStatusRepository.findByGuildIdAndUserId(1L, testUserId)).thenReturn(Optional.of(readStatus));
+
+            // when
+            guildChatService.markAsRead(1L, testUserId, 1L);
+
+            // then
+            verify(messageJournal).flush();
+            assertThat(readStatus.getLastReadMessage()).isEqualTo(testMessage);
+        }
     }
 
     @Nested
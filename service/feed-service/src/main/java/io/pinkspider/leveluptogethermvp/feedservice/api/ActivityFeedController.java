@@ -9,6 +9,7 @@ import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentLikeRespo
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentRequest;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentUpdateRequest;
+import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCursorPageResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedLikeResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.application.FeedCommandService;
 import io.pinkspider.leveluptogethermvp.feedservice.application.FeedQueryService;
@@ -65,6 +66,23 @@ public class ActivityFeedController {
         return ResponseEntity.ok(ApiResult.<Page<ActivityFeedResponse>>builder().value(feeds).build());
     }
 
+    /**
+     * 피드 커서 조회 - /public 의 커서(키셋) 버전. COUNT 없이 next_cursor로 이어서 조회한다.
+     *
+     * @param cursor 이전 응답의 next_cursor (첫 페이지는 생략)
+     */
+    @GetMapping("/public/cursor")
+    public ResponseEntity<ApiResult<FeedCursorPageResponse>> getPublicFeedsByCursor(
+        @CurrentUser(required = false) String userId,
+        @RequestParam(required = false) FeedSearchType searchType,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage
+    ) {
+        FeedCursorPageResponse feeds = feedQueryService.getFeedsByCursor(searchType, userId, cursor, size, acceptLanguage);
+        return ResponseEntity.ok(ApiResult.<FeedCursorPageResponse>builder().value(feeds).build());
+    }
+
     /**
      * 내 타임라인 피드 조회 (내 피드 + 친구 피드)
      */
@@ -79,6 +97,20 @@ public class ActivityFeedController {
         return ResponseEntity.ok(ApiResult.<Page<ActivityFeedResponse>>builder().value(feeds).build());
     }
 
+    /**
+     * 내 타임라인 피드 커서 조회 - /timeline 의 커서(키셋) 버전
+     */
+    @GetMapping("/timeline/cursor")
+    public ResponseEntity<ApiResult<FeedCursorPageResponse>> getTimelineFeedsByCursor(
+        @CurrentUser String userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestHeader(value = HttpHeaders.ACCEPT_LANGUAGE, required = false) String acceptLanguage
+    ) {
+        FeedCursorPageResponse feeds = feedQueryService.getTimelineFeedsByCursor(userId, cursor, size, acceptLanguage);
+        return ResponseEntity.ok(ApiResult.<FeedCursorPageResponse>builder().value(feeds).build());
+    }
+
     /**
      * 특정 사용자의 피드 조회
      */
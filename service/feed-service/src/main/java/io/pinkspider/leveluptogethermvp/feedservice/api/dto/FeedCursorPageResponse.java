@@ -0,0 +1,21 @@
+package io.pinkspider.leveluptogethermvp.feedservice.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * 커서 기반 피드 목록 응답. 전체 건수(COUNT)는 제공하지 않는다.
+ *
+ * @param nextCursor 다음 페이지 요청에 그대로 전달할 토큰 (마지막 페이지면 null)
+ */
+public record FeedCursorPageResponse(
+    @JsonProperty("content")
+    List<ActivityFeedResponse> content,
+
+    @JsonProperty("next_cursor")
+    String nextCursor,
+
+    @JsonProperty("has_next")
+    boolean hasNext
+) {
+}
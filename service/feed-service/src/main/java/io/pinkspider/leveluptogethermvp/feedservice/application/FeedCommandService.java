@@ -8,6 +8,8 @@ import io.pinkspider.global.event.FeedLikedEvent;
 import io.pinkspider.global.event.FeedUnlikedEvent;
 import io.pinkspider.global.exception.CustomException;
 import io.pinkspider.global.enums.TitleRarity;
+import io.pinkspider.global.translation.TranslationService;
+import io.pinkspider.global.translation.enums.ContentType;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.ActivityFeedResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.CreateFeedRequest;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentLikeResponse;
@@ -24,6 +26,7 @@ import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.FeedCommentLik
 import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.FeedLike;
 import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.ActivityType;
 import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
+import io.pinkspider.leveluptogethermvp.feedservice.event.FeedTimelineChangedEvent;
 import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.ActivityFeedImageRepository;
 import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.ActivityFeedRepository;
 import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.FeedCommentLikeRepository;
@@ -54,6 +57,7 @@ public class FeedCommandService {
     private final ApplicationEventPublisher eventPublisher;
     private final GamificationQueryFacade gamificationQueryFacadeService;
     private final FeedAccessChecker feedAccessChecker;
+    private final TranslationService translationService;
 
     /**
      * 시스템에서 자동 생성되는 활동 피드
@@ -96,6 +100,7 @@ public class FeedCommandService {
             .build();
 
         ActivityFeed saved = activityFeedRepository.save(feed);
+        eventPublisher.publishEvent(FeedTimelineChangedEvent.created(saved));
         log.info("Activity feed created: userId={}, type={}, feedId={}", userId, activityType, saved.getId());
         return saved;
     }
@@ -143,6 +148,7 @@ public class FeedCommandService {
             .build();
 
         ActivityFeed saved = activityFeedRepository.save(feed);
+        eventPublisher.publishEvent(FeedTimelineChangedEvent.created(saved));
         return ActivityFeedResponse.from(saved);
     }
 
@@ -281,6 +287,7 @@ public class FeedCommandService {
 
         comment.update(request.getContent());
         FeedComment saved = feedCommentRepository.save(comment);
+        translationService.evictTranslationCache(ContentType.FEED_COMMENT, commentId);
 
         log.info("Comment updated: feedId={}, commentId={}, userId={}", feedId, commentId, userId);
         return FeedCommentResponse.from(saved, null, userId);
@@ -420,6 +427,7 @@ public class FeedCommandService {
         }
 
         activityFeedRepository.delete(feed);
+        eventPublisher.publishEvent(FeedTimelineChangedEvent.deleted(feed));
         log.info("Feed deleted: feedId={}, userId={}", feedId, userId);
     }
 
@@ -437,6 +445,7 @@ public class FeedCommandService {
 
         feed.setVisibility(visibility);
         activityFeedRepository.save(feed);
+        eventPublisher.publishEvent(FeedTimelineChangedEvent.visibilityChanged(feed));
         log.info("Feed visibility updated: feedId={}, userId={}, visibility={}", feedId, userId, visibility);
 
         return ActivityFeedResponse.from(feed, false, true, null);
@@ -527,6 +536,7 @@ public class FeedCommandService {
             .build();
 
         ActivityFeed saved = activityFeedRepository.save(feed);
+        eventPublisher.publishEvent(FeedTimelineChangedEvent.created(saved));
         log.info("Mission shared feed created: userId={}, missionId={}, executionId={}, feedId={}, visibility={}, guildId={}",
             userId, missionId, executionId, saved.getId(), visibility, guildId);
         return saved;
@@ -581,6 +591,7 @@ public class FeedCommandService {
     public void deleteFeedByExecutionId(Long executionId) {
         activityFeedRepository.findFirstByExecutionIdOrderByCreatedAtDesc(executionId).ifPresent(feed -> {
             activityFeedRepository.delete(feed);
+            eventPublisher.publishEvent(FeedTimelineChangedEvent.deleted(feed));
             log.info("Feed deleted by executionId: executionId={}, feedId={}", executionId, feed.getId());
         });
     }
@@ -632,6 +643,7 @@ public class FeedCommandService {
         activityFeedRepository.findFirstByExecutionIdOrderByCreatedAtDesc(executionId).ifPresent(feed -> {
             feed.setDescription(description);
             activityFeedRepository.save(feed);
+            translationService.evictTranslationCache(ContentType.FEED, feed.getId());
             log.info("Feed description updated by executionId: executionId={}, descLength={}", executionId,
                 description != null ? description.length() : 0);
         });
@@ -663,6 +675,7 @@ public class FeedCommandService {
                 feed.setGuildName(null);
             }
             activityFeedRepository.save(feed);
+            translationService.evictTranslationCache(ContentType.FEED, feed.getId());
             log.info("Feed content updated by executionId: executionId={}, visibility={}, guildId={}",
                 executionId, visibility, feed.getGuildId());
             return feed;
@@ -703,5 +716,6 @@ public class FeedCommandService {
 
         log.info("Admin 피드 삭제: feedId={}, adminInfo={}, reason={}", id, adminInfo, reason);
         activityFeedRepository.delete(feed);
+        eventPublisher.publishEvent(FeedTimelineChangedEvent.deleted(feed));
     }
 }
@@ -0,0 +1,48 @@
+package io.pinkspider.leveluptogethermvp.feedservice.application;
+
+import io.pinkspider.global.api.ApiStatus;
+import io.pinkspider.global.exception.CustomException;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.ActivityFeed;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 피드 키셋 페이지네이션 커서 (createdAt DESC, id DESC 정렬 기준 마지막 항목 위치)
+ *
+ * 클라이언트에는 Base64(URL-safe)로 인코딩한 불투명 토큰으로만 노출한다.
+ * 첫 페이지는 모든 피드보다 뒤에 있는 위치({@link #FIRST})에서 시작해 쿼리 형태를 하나로 유지한다.
+ */
+record FeedCursor(LocalDateTime createdAt, Long id) {
+
+    static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    static FeedCursor after(ActivityFeed feed) {
+        return new FeedCursor(feed.getCreatedAt(), feed.getId());
+    }
+
+    /**
+     * 토큰 해석. null/빈 값이면 첫 페이지.
+     */
+    static FeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new FeedCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ApiStatus.INVALID_INPUT.getResultCode(), "error.feed.invalid_cursor");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
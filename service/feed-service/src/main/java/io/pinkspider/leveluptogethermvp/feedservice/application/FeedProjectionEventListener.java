@@ -30,6 +30,7 @@ public class FeedProjectionEventListener {
 
     private final FeedCommandService feedCommandService;
     private final UserQueryFacade userQueryFacadeService;
+    private final FeedTimelineStore feedTimelineStore;
 
     /**
      * 칭호 획득 피드 생성 비활성화 (QA-35: 자동 피드 과다 생성 축소)
@@ -49,18 +50,22 @@ public class FeedProjectionEventListener {
 
     /**
      * 길드 가입 피드 생성 비활성화 (QA-35: 자동 피드 과다 생성 축소)
+     * 가입자의 홈 타임라인은 길드 피드를 포함해 다시 적재되도록 비운다.
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleGuildJoined(GuildJoinedEvent event) {
         log.debug("길드 가입 피드 생성 스킵 (비활성화): userId={}, guildId={}", event.userId(), event.guildId());
+        feedTimelineStore.invalidate(event.userId());
     }
 
     /**
      * 친구 추가 피드 생성 비활성화 (QA-35: 자동 피드 과다 생성 축소)
+     * 양쪽 홈 타임라인은 서로의 친구공개 피드를 포함해 다시 적재되도록 비운다.
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleFriendRequestAccepted(FriendRequestAcceptedEvent event) {
         log.debug("친구 추가 피드 생성 스킵 (비활성화): accepterId={}, requesterId={}", event.userId(), event.requesterId());
+        feedTimelineStore.invalidate(event.userId(), event.requesterId());
     }
 
     private static final int LEVEL_FEED_MILESTONE_INTERVAL = 10;
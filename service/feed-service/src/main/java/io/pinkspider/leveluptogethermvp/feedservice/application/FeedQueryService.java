@@ -4,11 +4,13 @@ import io.pinkspider.global.api.ApiStatus;
 import io.pinkspider.global.exception.CustomException;
 import io.pinkspider.global.translation.TranslationService;
 import io.pinkspider.global.translation.dto.TranslationInfo;
+import io.pinkspider.global.translation.dto.TranslationTarget;
 import io.pinkspider.global.translation.enums.ContentType;
 import io.pinkspider.global.translation.enums.SupportedLocale;
 import io.pinkspider.global.feign.admin.AdminInternalFeignClient;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.ActivityFeedResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentResponse;
+import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCursorPageResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.admin.FeedAdminPageResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.admin.FeedAdminResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.admin.FeedAdminStatsResponse;
@@ -65,6 +67,7 @@ public class FeedQueryService {
     private final TranslationService translationService;
     private final ReportService reportService;
     private final FeedAccessChecker feedAccessChecker;
+    private final FeedTimelineStore feedTimelineStore;
 
     /**
      * 전체 공개 피드 조회
@@ -82,6 +85,8 @@ public class FeedQueryService {
      * - 본인이 작성한 피드 (PRIVATE 제외)
      * - 친구가 작성한 FRIENDS 공개 피드
      * - 같은 길드원이 작성한 GUILD 공개 피드
+     *
+     * 홈 타임라인 저장소(FeedTimelineStore)로 처리할 수 있으면 범위 조회 + findByIdIn으로, 아니면 DB 쿼리로 조회한다.
      */
     public Page<ActivityFeedResponse> getPublicFeeds(String currentUserId, int page, int size, String acceptLanguage) {
         Pageable pageable = PageRequest.of(page, size);
@@ -89,17 +94,18 @@ public class FeedQueryService {
 
         List<String> friendIds = resolveFriendIds(currentUserId);
         List<Long> guildIds = resolveGuildIds(currentUserId);
-        Page<ActivityFeed> feeds = activityFeedRepository.findAccessibleFeeds(
-            currentUserId, friendIds, guildIds, pageable);
+        Page<ActivityFeed> feeds = feedTimelineStore.findPage(currentUserId, friendIds, guildIds, pageable)
+            .orElseGet(() -> activityFeedRepository.findAccessibleFeeds(currentUserId, friendIds, guildIds, pageable));
 
         Set<Long> likedFeedIds = getLikedFeedIds(currentUserId, feeds.getContent());
 
         // 신고 상태 일괄 조회
         List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds.getContent(), targetLocale);
 
         Page<ActivityFeedResponse> result = feeds.map(feed -> {
-            TranslationInfo translation = translateFeed(feed, targetLocale);
+            TranslationInfo translation = translations.get(feed.getId());
             ActivityFeedResponse response = ActivityFeedResponse.from(
                 feed,
                 likedFeedIds.contains(feed.getId()),
@@ -207,12 +213,21 @@ public class FeedQueryService {
      * 피드 목록을 좋아요/신고/번역/다중이미지 정보로 보강 (QA-139: enrich 누락 제거)
      */
     private Page<ActivityFeedResponse> enrichFeeds(Page<ActivityFeed> feeds, String userId, String targetLocale) {
-        Set<Long> likedFeedIds = getLikedFeedIds(userId, feeds.getContent());
-        List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
+        List<ActivityFeedResponse> content = enrichFeedList(feeds.getContent(), userId, targetLocale);
+        return new org.springframework.data.domain.PageImpl<>(content, feeds.getPageable(), feeds.getTotalElements());
+    }
+
+    /**
+     * enrichFeeds의 목록 버전 (커서 페이지네이션 공용)
+     */
+    private List<ActivityFeedResponse> enrichFeedList(List<ActivityFeed> feeds, String userId, String targetLocale) {
+        Set<Long> likedFeedIds = getLikedFeedIds(userId, feeds);
+        List<String> feedIds = feeds.stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds, targetLocale);
 
-        Page<ActivityFeedResponse> result = feeds.map(feed -> {
-            TranslationInfo translation = translateFeed(feed, targetLocale);
+        List<ActivityFeedResponse> result = feeds.stream().map(feed -> {
+            TranslationInfo translation = translations.get(feed.getId());
             ActivityFeedResponse response = ActivityFeedResponse.from(
                 feed,
                 likedFeedIds.contains(feed.getId()),
@@ -221,11 +236,81 @@ public class FeedQueryService {
             );
             response.setIsUnderReview(underReviewMap.getOrDefault(String.valueOf(feed.getId()), false));
             return response;
-        });
-        enrichWithImageUrls(result.getContent());
+        }).collect(Collectors.toList());
+        enrichWithImageUrls(result);
         return result;
     }
 
+    // =====================================================
+    // 커서(키셋) 페이지네이션
+    // =====================================================
+
+    /**
+     * 홈 피드 커서 조회 (getPublicFeeds / getFilteredFeeds의 커서 버전)
+     *
+     * <p>(createdAt, id) 위치 이후를 size + 1건만 조회해 다음 페이지 여부를 판단하므로 COUNT 쿼리가 없고,
+     * 스크롤 깊이와 무관하게 인덱스 범위 스캔 한 번으로 끝난다. 카테고리/Featured 조합은 offset 방식만 지원.
+     *
+     * @param cursor 이전 응답의 next_cursor (첫 페이지는 null)
+     */
+    public FeedCursorPageResponse getFeedsByCursor(FeedSearchType searchType, String userId, String cursor,
+                                                   int size, String acceptLanguage) {
+        FeedCursor position = FeedCursor.decode(cursor);
+        int pageSize = Math.max(1, size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String targetLocale = SupportedLocale.extractLanguageCode(acceptLanguage);
+
+        FeedSearchType type = (searchType == null || userId == null) ? FeedSearchType.ALL : searchType;
+        List<ActivityFeed> feeds = switch (type) {
+            case ALL -> activityFeedRepository.findAccessibleFeedsBefore(
+                userId, resolveFriendIds(userId), resolveGuildIds(userId),
+                position.createdAt(), position.id(), limit);
+            case FRIENDS -> {
+                List<String> friendIds = new ArrayList<>(userQueryFacadeService.getFriendIds(userId));
+                friendIds.add(userId);
+                yield activityFeedRepository.findFriendsFeedsBefore(
+                    friendIds, position.createdAt(), position.id(), limit);
+            }
+            case GUILD -> {
+                List<Long> guildIds = resolveGuildIds(userId);
+                yield guildIds.isEmpty()
+                    ? List.of()
+                    : activityFeedRepository.findGuildOnlyFeedsByGuildIdsBefore(
+                        guildIds, position.createdAt(), position.id(), limit);
+            }
+            case MINE -> activityFeedRepository.findPublicFeedsByUserIdBefore(
+                userId, position.createdAt(), position.id(), limit);
+        };
+        return toCursorPage(feeds, pageSize, userId, targetLocale);
+    }
+
+    /**
+     * 내 타임라인 커서 조회 (getTimelineFeeds의 커서 버전)
+     */
+    public FeedCursorPageResponse getTimelineFeedsByCursor(String userId, String cursor, int size, String acceptLanguage) {
+        FeedCursor position = FeedCursor.decode(cursor);
+        int pageSize = Math.max(1, size);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        String targetLocale = SupportedLocale.extractLanguageCode(acceptLanguage);
+
+        List<String> friendIds = userQueryFacadeService.getFriendIds(userId);
+        List<ActivityFeed> feeds = friendIds.isEmpty()
+            ? activityFeedRepository.findByUserIdBefore(userId, position.createdAt(), position.id(), limit)
+            : activityFeedRepository.findTimelineFeedsBefore(
+                userId, friendIds, position.createdAt(), position.id(), limit);
+        return toCursorPage(feeds, pageSize, userId, targetLocale);
+    }
+
+    /**
+     * size + 1건 조회 결과를 페이지와 다음 커서로 변환
+     */
+    private FeedCursorPageResponse toCursorPage(List<ActivityFeed> feeds, int size, String userId, String targetLocale) {
+        boolean hasNext = feeds.size() > size;
+        List<ActivityFeed> page = hasNext ? feeds.subList(0, size) : feeds;
+        String nextCursor = hasNext ? FeedCursor.after(page.get(page.size() - 1)).encode() : null;
+        return new FeedCursorPageResponse(enrichFeedList(page, userId, targetLocale), nextCursor, hasNext);
+    }
+
     /**
      * 카테고리별 공개 피드 조회 (하이브리드 선정)
      * 1. Admin이 설정한 Featured Feed 먼저 표시
@@ -297,10 +382,11 @@ public class FeedQueryService {
         // 신고 상태 일괄 조회
         List<String> feedIds = combinedFeeds.stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(combinedFeeds, targetLocale);
 
         List<ActivityFeedResponse> responseList = combinedFeeds.stream()
             .map(feed -> {
-                TranslationInfo translation = translateFeed(feed, targetLocale);
+                TranslationInfo translation = translations.get(feed.getId());
                 ActivityFeedResponse response = ActivityFeedResponse.from(
                     feed,
                     likedFeedIds.contains(feed.getId()),
@@ -349,9 +435,10 @@ public class FeedQueryService {
         // 신고 상태 일괄 조회
         List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds.getContent(), targetLocale);
 
         Page<ActivityFeedResponse> result = feeds.map(feed -> {
-            TranslationInfo translation = translateFeed(feed, targetLocale);
+            TranslationInfo translation = translations.get(feed.getId());
             ActivityFeedResponse response = ActivityFeedResponse.from(feed, likedFeedIds.contains(feed.getId()), false, translation);
             response.setIsUnderReview(underReviewMap.getOrDefault(String.valueOf(feed.getId()), false));
             return response;
@@ -389,10 +476,11 @@ public class FeedQueryService {
         // 신고 상태 일괄 조회
         List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds.getContent(), targetLocale);
 
         Page<ActivityFeedResponse> result = feeds
             .map(feed -> {
-                TranslationInfo translation = translateFeed(feed, targetLocale);
+                TranslationInfo translation = translations.get(feed.getId());
                 ActivityFeedResponse response;
                 // 본인 피드이면 모두 표시
                 if (isSelf) {
@@ -449,9 +537,10 @@ public class FeedQueryService {
         // 신고 상태 일괄 조회
         List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds.getContent(), targetLocale);
 
         Page<ActivityFeedResponse> result = feeds.map(feed -> {
-            TranslationInfo translation = translateFeed(feed, targetLocale);
+            TranslationInfo translation = translations.get(feed.getId());
             ActivityFeedResponse response = ActivityFeedResponse.from(feed, likedFeedIds.contains(feed.getId()), false, translation);
             response.setIsUnderReview(underReviewMap.getOrDefault(String.valueOf(feed.getId()), false));
             return response;
@@ -486,9 +575,10 @@ public class FeedQueryService {
         // 신고 상태 일괄 조회
         List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds.getContent(), targetLocale);
 
         Page<ActivityFeedResponse> result = feeds.map(feed -> {
-            TranslationInfo translation = translateFeed(feed, targetLocale);
+            TranslationInfo translation = translations.get(feed.getId());
             ActivityFeedResponse response = ActivityFeedResponse.from(feed, likedFeedIds.contains(feed.getId()), false, translation);
             response.setIsUnderReview(underReviewMap.getOrDefault(String.valueOf(feed.getId()), false));
             return response;
@@ -518,9 +608,10 @@ public class FeedQueryService {
         // 신고 상태 일괄 조회
         List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds.getContent(), targetLocale);
 
         Page<ActivityFeedResponse> result = feeds.map(feed -> {
-            TranslationInfo translation = translateFeed(feed, targetLocale);
+            TranslationInfo translation = translations.get(feed.getId());
             ActivityFeedResponse response = ActivityFeedResponse.from(feed, likedFeedIds.contains(feed.getId()), false, translation);
             response.setIsUnderReview(underReviewMap.getOrDefault(String.valueOf(feed.getId()), false));
             return response;
@@ -555,9 +646,10 @@ public class FeedQueryService {
         // 신고 상태 일괄 조회
         List<String> feedIds = feeds.getContent().stream().map(f -> String.valueOf(f.getId())).toList();
         Map<String, Boolean> underReviewMap = reportService.isUnderReviewBatch(ReportTargetType.FEED, feedIds);
+        Map<Long, TranslationInfo> translations = translateFeeds(feeds.getContent(), targetLocale);
 
         Page<ActivityFeedResponse> result = feeds.map(feed -> {
-            TranslationInfo translation = translateFeed(feed, targetLocale);
+            TranslationInfo translation = translations.get(feed.getId());
             ActivityFeedResponse response = ActivityFeedResponse.from(feed, likedFeedIds.contains(feed.getId()), false, translation);
             response.setIsUnderReview(underReviewMap.getOrDefault(String.valueOf(feed.getId()), false));
             return response;
@@ -647,17 +739,22 @@ public class FeedQueryService {
             .filter(r -> !Boolean.TRUE.equals(r.getIsDeleted()))
             .collect(Collectors.groupingBy(r -> r.getParent().getId(), Collectors.counting()));
 
-        // 4) 응답 조립
+        // 4) 부모 + 대댓글 번역 일괄 조회
+        List<FeedComment> allComments = new ArrayList<>(roots);
+        allComments.addAll(replies);
+        Map<Long, TranslationInfo> translations = translateComments(allComments, targetLocale);
+
+        // 5) 응답 조립
         Map<Long, List<FeedCommentResponse>> repliesByParent = new java.util.HashMap<>();
         for (FeedComment reply : replies) {
-            FeedCommentResponse r = buildCommentResponse(reply, currentUserId, targetLocale, likeCountMap, likedSet,
+            FeedCommentResponse r = buildCommentResponse(reply, currentUserId, translations, likeCountMap, likedSet,
                 underReviewMap, /*hasReplies*/ false);
             repliesByParent.computeIfAbsent(reply.getParent().getId(), k -> new ArrayList<>()).add(r);
         }
 
         return rootPage.map(root -> {
             boolean hasReplies = activeReplyCountByParent.getOrDefault(root.getId(), 0L) > 0;
-            FeedCommentResponse response = buildCommentResponse(root, currentUserId, targetLocale, likeCountMap,
+            FeedCommentResponse response = buildCommentResponse(root, currentUserId, translations, likeCountMap,
                 likedSet, underReviewMap, hasReplies);
             response.setReplies(repliesByParent.getOrDefault(root.getId(), List.of()));
             return response;
@@ -667,10 +764,11 @@ public class FeedQueryService {
     /**
      * 단일 댓글 응답 빌드 헬퍼. 트리 응답에서 부모/대댓글 공통으로 사용.
      */
-    private FeedCommentResponse buildCommentResponse(FeedComment comment, String currentUserId, String targetLocale,
+    private FeedCommentResponse buildCommentResponse(FeedComment comment, String currentUserId,
+                                                     Map<Long, TranslationInfo> translations,
                                                      Map<Long, Integer> likeCountMap, Set<Long> likedSet,
                                                      Map<String, Boolean> underReviewMap, boolean hasReplies) {
-        TranslationInfo translation = translateComment(comment, targetLocale);
+        TranslationInfo translation = translations.get(comment.getId());
         Integer userLevel;
         try {
             UserProfileInfo userProfile = userQueryFacadeService.getUserProfile(comment.getUserId());
@@ -752,25 +850,53 @@ public class FeedQueryService {
     }
 
     /**
-     * 댓글 번역
+     * 피드 목록 일괄 번역 (제목 + 설명)
+     * 페이지 단위로 Redis/DB/Google 조회를 묶어 피드별 개별 번역 호출을 피한다.
      */
-    private TranslationInfo translateComment(FeedComment comment, String targetLocale) {
-        // 기본 언어(한국어)면 번역 불필요
-        if (SupportedLocale.DEFAULT.getCode().equals(targetLocale)) {
-            return TranslationInfo.notTranslated(SupportedLocale.DEFAULT.getCode());
+    private Map<Long, TranslationInfo> translateFeeds(List<ActivityFeed> feeds, String targetLocale) {
+        List<TranslationTarget> targets = feeds.stream()
+            .map(feed -> TranslationTarget.of(ContentType.FEED, feed.getId(), feed.getTitle(), feed.getDescription()))
+            .toList();
+        return translateAll(feeds.stream().map(ActivityFeed::getId).toList(), targets, targetLocale);
+    }
+
+    /**
+     * 댓글 목록 일괄 번역 (삭제된 댓글은 번역하지 않음)
+     */
+    private Map<Long, TranslationInfo> translateComments(List<FeedComment> comments, String targetLocale) {
+        Map<Long, TranslationInfo> translations = new HashMap<>();
+        List<FeedComment> activeComments = new ArrayList<>();
+        for (FeedComment comment : comments) {
+            if (comment.getIsDeleted()) {
+                translations.put(comment.getId(), TranslationInfo.notTranslated(SupportedLocale.DEFAULT.getCode()));
+            } else {
+                activeComments.add(comment);
+            }
         }
 
-        // 삭제된 댓글은 번역하지 않음
-        if (comment.getIsDeleted()) {
-            return TranslationInfo.notTranslated(SupportedLocale.DEFAULT.getCode());
+        List<TranslationTarget> targets = activeComments.stream()
+            .map(comment -> TranslationTarget.of(ContentType.FEED_COMMENT, comment.getId(), comment.getContent()))
+            .toList();
+        translations.putAll(translateAll(activeComments.stream().map(FeedComment::getId).toList(), targets, targetLocale));
+        return translations;
+    }
+
+    private Map<Long, TranslationInfo> translateAll(List<Long> ids, List<TranslationTarget> targets, String targetLocale) {
+        Map<Long, TranslationInfo> translations = new HashMap<>();
+        // 기본 언어면 번역 불필요
+        if (SupportedLocale.DEFAULT.getCode().equals(targetLocale)) {
+            ids.forEach(id -> translations.put(id, TranslationInfo.notTranslated(SupportedLocale.DEFAULT.getCode())));
+            return translations;
+        }
+        if (targets.isEmpty()) {
+            return translations;
         }
 
-        return translationService.translateContent(
-            ContentType.FEED_COMMENT,
-            comment.getId(),
-            comment.getContent(),
-            targetLocale
-        );
+        List<TranslationInfo> results = translationService.translateContents(targets, targetLocale);
+        for (int i = 0; i < Math.min(ids.size(), results.size()); i++) {
+            translations.put(ids.get(i), results.get(i));
+        }
+        return translations;
     }
 
     // ===== Admin 내부 API용 메서드 =====
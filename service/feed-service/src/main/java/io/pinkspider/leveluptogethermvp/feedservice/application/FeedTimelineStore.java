@@ -0,0 +1,440 @@
+package io.pinkspider.leveluptogethermvp.feedservice.application;
+
+import io.pinkspider.global.facade.GuildQueryFacade;
+import io.pinkspider.global.facade.UserQueryFacade;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.ActivityFeed;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
+import io.pinkspider.leveluptogethermvp.feedservice.event.FeedTimelineChangedEvent;
+import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.ActivityFeedRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 홈 피드 타임라인 저장소 (fan-out-on-write)
+ *
+ * getPublicFeeds가 매번 친구/길드 ID 목록으로 activity_feed 전체에 IN 조건을 거는 대신,
+ * 피드 작성 시점에 그 피드를 볼 수 있는 타임라인(Redis Sorted Set, score = 작성 시각)에 피드 ID를 넣어두고
+ * 조회는 범위 조회 + findByIdIn 한 번으로 끝낸다.
+ *
+ * 저장 구조:
+ * - feed:timeline:public — 전체 PUBLIC 피드 (모든 사용자가 공유)
+ * - feed:timeline:user:{userId} — 본인 FRIENDS/GUILD 피드, 친구의 FRIENDS 피드, 소규모 길드의 GUILD 피드
+ * - feed:timeline:guild:{guildId} — 대규모 길드의 GUILD 피드. 멤버 전원에게 쓰지 않고 조회 시 병합한다 (fan-out-on-read)
+ *
+ * 각 타임라인은 최신 maxLength건만 유지한다. 그보다 깊은 페이지, 비활성화, Redis 장애 시에는 빈 값을 반환해
+ * 호출 측이 기존 DB 쿼리로 조회하게 한다. 친구/길드 관계나 공개범위가 바뀐 뒤 남은 항목은 조회 시 접근 규칙으로 다시 거르고,
+ * 걸러진 만큼 더 읽어 페이지를 채운다.
+ *
+ * 조회마다 activity_feed 전체 COUNT를 돌리지 않도록 페이지 크기 + 1건을 읽어 다음 페이지 여부만 판단한다.
+ * totalElements는 근사값(지금까지 확인한 건수, 다음 페이지가 있으면 + 1)이므로 hasNext/isLast로 다음 페이지를 판단해야 한다.
+ *
+ * 쓰기는 FeedCommandService가 발행한 {@link FeedTimelineChangedEvent}를 커밋 후 이벤트 스레드에서 {@link #apply}로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedTimelineStore {
+
+    static final String PUBLIC_KEY = "feed:timeline:public";
+    static final String USER_KEY_PREFIX = "feed:timeline:user:";
+    static final String GUILD_KEY_PREFIX = "feed:timeline:guild:";
+    private static final String READY_SUFFIX = ":ready";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ActivityFeedRepository activityFeedRepository;
+    private final UserQueryFacade userQueryFacadeService;
+    private final GuildQueryFacade guildQueryFacadeService;
+
+    @Value("${feed.timeline.enabled:true}")
+    private boolean enabled;
+
+    // 타임라인별 유지 건수 (이보다 깊은 페이지는 DB 조회)
+    @Value("${feed.timeline.max-length:500}")
+    private int maxLength;
+
+    // 활성 멤버 수가 이 이상인 길드는 fan-out-on-read
+    @Value("${feed.timeline.large-guild-threshold:200}")
+    private int largeGuildThreshold;
+
+    // 사용자 타임라인 유지 기간 (조회가 없으면 만료 후 다음 조회 때 DB에서 재적재)
+    @Value("${feed.timeline.ttl:3d}")
+    private Duration ttl;
+
+    /**
+     * 피드 변경 반영
+     * - CREATED: 새 피드를 볼 수 있는 타임라인에 추가
+     * - VISIBILITY_CHANGED: 들어 있을 수 있는 모든 타임라인에서 빼고 새 공개범위 기준으로 다시 추가
+     * - DELETED: 들어 있을 수 있는 모든 타임라인에서 제거
+     */
+    public void apply(FeedTimelineChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.change()) {
+            case CREATED -> write(event);
+            case VISIBILITY_CHANGED -> {
+                removeEverywhere(event);
+                write(event);
+            }
+            case DELETED -> removeEverywhere(event);
+        }
+    }
+
+    /**
+     * 친구/길드 관계가 생기면 사용자 타임라인을 비워 다음 조회 때 DB에서 다시 적재한다.
+     * (관계가 끊어진 경우는 조회 시 접근 규칙으로 걸러지므로 비울 필요 없음)
+     */
+    public void invalidate(String... userIds) {
+        if (!enabled) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        for (String userId : userIds) {
+            if (userId != null) {
+                keys.add(userKey(userId));
+                keys.add(userKey(userId) + READY_SUFFIX);
+            }
+        }
+        try {
+            stringRedisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("홈 타임라인 무효화 실패: keys={}, error={}", keys, e.getMessage());
+        }
+    }
+
+    /**
+     * 타임라인에서 홈 피드 페이지 조회 (findAccessibleFeeds와 같은 접근 규칙)
+     *
+     * 걸러진 피드가 있으면 읽는 깊이를 두 배씩 늘려 페이지를 채운다. 다음 페이지 여부는 1건 더 읽어 판단하고,
+     * totalElements는 근사값(offset + 페이지 건수, 다음 페이지가 있으면 + 1)이다.
+     *
+     * @return 타임라인으로 처리할 수 없으면(비활성화, 유지 범위 밖 페이지, 유지 범위 안에서 채울 수 없는 페이지,
+     *         Redis 장애) 빈 값
+     */
+    public Optional<Page<ActivityFeed>> findPage(String userId, List<String> friendIds, List<Long> guildIds,
+                                                 Pageable pageable) {
+        long window = pageable.getOffset() + pageable.getPageSize();
+        if (!enabled || window > maxLength) {
+            return Optional.empty();
+        }
+        try {
+            ensureLoaded(userId, friendIds, guildIds);
+
+            List<String> keys = sourceKeys(userId, guildIds);
+            Set<String> friendSet = Set.copyOf(friendIds);
+            Set<Long> guildSet = Set.copyOf(guildIds);
+            // 확인한 피드 (볼 수 없거나 삭제된 피드는 null)
+            Map<Long, ActivityFeed> checked = new HashMap<>();
+            List<ActivityFeed> visible;
+            // 다음 페이지 여부 확인용 1건
+            long probe = window + 1;
+            long depth = Math.min(probe, maxLength);
+            boolean hasNext;
+            while (true) {
+                List<Object> results = readSources(keys, depth);
+                boolean truncated = false;
+                Map<Long, Double> scores = new HashMap<>();
+                for (int i = 0; i < keys.size(); i++) {
+                    Set<TypedTuple<String>> tuples = toTuples(results.get(i));
+                    // 읽은 깊이만큼 꽉 찼으면 이 타임라인에 더 있을 수 있다
+                    truncated |= tuples.size() >= depth;
+                    for (TypedTuple<String> tuple : tuples) {
+                        scores.merge(Long.valueOf(tuple.getValue()), scoreOrZero(tuple), Math::max);
+                    }
+                }
+                List<Long> orderedIds = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+                check(orderedIds, checked, keys, userId, friendSet, guildSet);
+                visible = orderedIds.stream().map(checked::get).filter(Objects::nonNull).toList();
+                if (visible.size() >= probe || !truncated) {
+                    hasNext = visible.size() >= probe;
+                    break;
+                }
+                if (depth >= maxLength) {
+                    if (visible.size() < window) {
+                        // 걸러진 항목 때문에 유지 범위 안에서 페이지를 채우지 못함 — 더 깊은 피드는 DB에만 있다
+                        return Optional.empty();
+                    }
+                    // 페이지는 채웠고 유지 범위 밖(DB)에 피드가 더 있다
+                    hasNext = true;
+                    break;
+                }
+                depth = Math.min(depth * 2, maxLength);
+            }
+
+            List<ActivityFeed> content = visible.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+            long total = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+            return Optional.of(new PageImpl<>(content, pageable, total));
+        } catch (Exception e) {
+            log.warn("홈 타임라인 조회 실패, DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void write(FeedTimelineChangedEvent event) {
+        List<String> keys = targetKeys(event);
+        if (keys.isEmpty()) {
+            return;
+        }
+        String member = String.valueOf(event.feedId());
+        double score = scoreOf(event.createdAt());
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String key : keys) {
+                    ops.opsForZSet().add(key, member, score);
+                    ops.opsForZSet().removeRange(key, 0, -(maxLength + 1L));
+                    if (key.startsWith(USER_KEY_PREFIX)) {
+                        ops.expire(key, ttl);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 공개범위별 fan-out 대상
+     * - PUBLIC: 공유 타임라인
+     * - FRIENDS: 작성자 + 친구 타임라인
+     * - GUILD: 소규모 길드는 작성자 + 멤버 타임라인, 대규모 길드는 작성자 + 길드 타임라인
+     * - PRIVATE: 없음
+     */
+    private List<String> targetKeys(FeedTimelineChangedEvent feed) {
+        String authorId = feed.userId();
+        return switch (feed.visibility()) {
+            case PUBLIC -> List.of(PUBLIC_KEY);
+            case PRIVATE -> List.of();
+            case FRIENDS -> {
+                Set<String> keys = new LinkedHashSet<>();
+                keys.add(userKey(authorId));
+                List<String> friendIds = userQueryFacadeService.getFriendIds(authorId);
+                if (friendIds != null) {
+                    friendIds.forEach(friendId -> keys.add(userKey(friendId)));
+                }
+                yield new ArrayList<>(keys);
+            }
+            case GUILD -> {
+                Set<String> keys = new LinkedHashSet<>();
+                keys.add(userKey(authorId));
+                Long guildId = feed.guildId();
+                if (guildId != null) {
+                    if (guildQueryFacadeService.getActiveMemberCount(guildId) >= largeGuildThreshold) {
+                        keys.add(guildKey(guildId));
+                    } else {
+                        guildQueryFacadeService.getActiveMemberUserIds(guildId)
+                            .forEach(memberId -> keys.add(userKey(memberId)));
+                    }
+                }
+                yield new ArrayList<>(keys);
+            }
+        };
+    }
+
+    /**
+     * 공개범위와 관계없이 피드가 들어 있을 수 있는 모든 타임라인(공유, 작성자/친구/길드 멤버, 길드)에서 제거
+     * (공개범위가 바뀌었거나 길드 규모가 기준을 넘나들었어도 이전 항목이 남지 않도록)
+     */
+    private void removeEverywhere(FeedTimelineChangedEvent feed) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(PUBLIC_KEY);
+        keys.add(userKey(feed.userId()));
+        List<String> friendIds = userQueryFacadeService.getFriendIds(feed.userId());
+        if (friendIds != null) {
+            friendIds.forEach(friendId -> keys.add(userKey(friendId)));
+        }
+        if (feed.guildId() != null) {
+            keys.add(guildKey(feed.guildId()));
+            guildQueryFacadeService.getActiveMemberUserIds(feed.guildId())
+                .forEach(memberId -> keys.add(userKey(memberId)));
+        }
+        removeMembers(keys, List.of(String.valueOf(feed.feedId())));
+    }
+
+    private void removeMembers(Iterable<String> keys, List<String> members) {
+        Object[] values = members.toArray();
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String key : keys) {
+                    ops.opsForZSet().remove(key, values);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 공유/사용자 타임라인이 적재되지 않았으면 DB에서 최신 maxLength건을 채운다.
+     * 적재 전에 fan-out으로 들어온 항목이 있어도 ZADD 합집합이므로 그대로 유지된다.
+     */
+    private void ensureLoaded(String userId, List<String> friendIds, List<Long> guildIds) {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(PUBLIC_KEY + READY_SUFFIX))) {
+            load(PUBLIC_KEY, activityFeedRepository.findRecentPublicFeeds(PageRequest.of(0, maxLength)), false);
+        }
+        if (userId != null && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(userKey(userId) + READY_SUFFIX))) {
+            load(userKey(userId), activityFeedRepository.findRecentInboxFeeds(
+                userId, friendIds, guildIds, PageRequest.of(0, maxLength)), true);
+        }
+    }
+
+    private void load(String key, List<ActivityFeed> feeds, boolean expires) {
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (ActivityFeed feed : feeds) {
+                    ops.opsForZSet().add(key, String.valueOf(feed.getId()), scoreOf(feed.getCreatedAt()));
+                }
+                ops.opsForZSet().removeRange(key, 0, -(maxLength + 1L));
+                if (expires) {
+                    ops.expire(key, ttl);
+                }
+                // 준비 표시는 타임라인보다 먼저 만료되도록 같은 TTL로 둔다 (타임라인은 쓰기마다 TTL 연장)
+                ops.opsForValue().set(key + READY_SUFFIX, "1", ttl);
+                return null;
+            }
+        });
+        log.debug("홈 타임라인 적재: key={}, count={}", key, feeds.size());
+    }
+
+    /**
+     * 조회 대상: 공유 타임라인 + 사용자 타임라인 + 소속 길드 타임라인 (소규모 길드는 키가 없어 빈 결과)
+     */
+    private List<String> sourceKeys(String userId, List<Long> guildIds) {
+        List<String> keys = new ArrayList<>();
+        keys.add(PUBLIC_KEY);
+        if (userId != null) {
+            keys.add(userKey(userId));
+            guildIds.forEach(guildId -> keys.add(guildKey(guildId)));
+        }
+        return keys;
+    }
+
+    /**
+     * 각 타임라인의 상위 depth건을 한 번의 파이프라인으로 조회 (결과는 keys 순서)
+     */
+    private List<Object> readSources(List<String> keys, long depth) {
+        return stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String key : keys) {
+                    ops.opsForZSet().reverseRangeWithScores(key, 0, depth - 1);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 아직 확인하지 않은 ID의 피드를 로드해 볼 수 있는 피드만 checked에 남긴다.
+     * 삭제된 피드는 모든 조회 대상 타임라인에서, 볼 수 없게 된 피드는 이 사용자 타임라인에서 지운다.
+     */
+    private void check(List<Long> ids, Map<Long, ActivityFeed> checked, List<String> keys, String userId,
+                       Set<String> friendIds, Set<Long> guildIds) {
+        List<Long> unchecked = ids.stream().filter(id -> !checked.containsKey(id)).toList();
+        if (unchecked.isEmpty()) {
+            return;
+        }
+        Map<Long, ActivityFeed> feedMap = new HashMap<>();
+        activityFeedRepository.findByIdIn(unchecked).forEach(feed -> feedMap.put(feed.getId(), feed));
+
+        List<String> deleted = new ArrayList<>();
+        List<String> hidden = new ArrayList<>();
+        for (Long id : unchecked) {
+            ActivityFeed feed = feedMap.get(id);
+            if (feed == null) {
+                deleted.add(String.valueOf(id));
+                checked.put(id, null);
+            } else if (!isAccessible(feed, userId, friendIds, guildIds)) {
+                hidden.add(String.valueOf(id));
+                checked.put(id, null);
+            } else {
+                checked.put(id, feed);
+            }
+        }
+        try {
+            if (!deleted.isEmpty()) {
+                removeMembers(keys, deleted);
+            }
+            if (!hidden.isEmpty() && userId != null) {
+                removeMembers(List.of(userKey(userId)), hidden);
+            }
+        } catch (Exception e) {
+            log.warn("홈 타임라인 정리 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private boolean isAccessible(ActivityFeed feed, String userId, Set<String> friendIds, Set<Long> guildIds) {
+        FeedVisibility visibility = feed.getVisibility();
+        if (visibility == FeedVisibility.PUBLIC) {
+            return true;
+        }
+        if (userId != null && userId.equals(feed.getUserId())) {
+            return visibility != FeedVisibility.PRIVATE;
+        }
+        return switch (visibility) {
+            case FRIENDS -> friendIds.contains(feed.getUserId());
+            case GUILD -> feed.getGuildId() != null && guildIds.contains(feed.getGuildId());
+            default -> false;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<TypedTuple<String>> toTuples(Object result) {
+        return result instanceof Set<?> set ? (Set<TypedTuple<String>>) set : Set.of();
+    }
+
+    private static double scoreOrZero(TypedTuple<String> tuple) {
+        return tuple.getScore() != null ? tuple.getScore() : 0d;
+    }
+
+    private static double scoreOf(LocalDateTime createdAt) {
+        LocalDateTime time = createdAt != null ? createdAt : LocalDateTime.now();
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    static String userKey(String userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+
+    static String guildKey(Long guildId) {
+        return GUILD_KEY_PREFIX + guildId;
+    }
+}
@@ -33,6 +33,7 @@ import org.hibernate.annotations.Comment;
     indexes = {
         @Index(name = "idx_feed_user", columnList = "user_id"),
         @Index(name = "idx_feed_created", columnList = "created_at DESC"),
+        @Index(name = "idx_feed_created_id", columnList = "created_at DESC, id DESC"),
         @Index(name = "idx_feed_visibility", columnList = "visibility"),
         @Index(name = "idx_feed_guild", columnList = "guild_id"),
         @Index(name = "idx_feed_category", columnList = "category_id"),
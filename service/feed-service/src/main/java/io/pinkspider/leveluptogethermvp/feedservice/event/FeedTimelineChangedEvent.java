@@ -0,0 +1,41 @@
+package io.pinkspider.leveluptogethermvp.feedservice.event;
+
+import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.ActivityFeed;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
+import java.time.LocalDateTime;
+
+/**
+ * 홈 타임라인(FeedTimelineStore)에 반영할 피드 변경 (커밋 후 비동기 반영)
+ */
+public record FeedTimelineChangedEvent(
+    Change change,
+    Long feedId,
+    String userId,
+    FeedVisibility visibility,
+    Long guildId,
+    LocalDateTime createdAt
+) {
+
+    public enum Change {
+        CREATED,
+        VISIBILITY_CHANGED,
+        DELETED
+    }
+
+    public static FeedTimelineChangedEvent created(ActivityFeed feed) {
+        return of(Change.CREATED, feed);
+    }
+
+    public static FeedTimelineChangedEvent visibilityChanged(ActivityFeed feed) {
+        return of(Change.VISIBILITY_CHANGED, feed);
+    }
+
+    public static FeedTimelineChangedEvent deleted(ActivityFeed feed) {
+        return of(Change.DELETED, feed);
+    }
+
+    private static FeedTimelineChangedEvent of(Change change, ActivityFeed feed) {
+        return new FeedTimelineChangedEvent(
+            change, feed.getId(), feed.getUserId(), feed.getVisibility(), feed.getGuildId(), feed.getCreatedAt());
+    }
+}
@@ -0,0 +1,36 @@
+package io.pinkspider.leveluptogethermvp.feedservice.event.listener;
+
+import static io.pinkspider.global.config.AsyncConfig.EVENT_EXECUTOR;
+
+import io.pinkspider.leveluptogethermvp.feedservice.application.FeedTimelineStore;
+import io.pinkspider.leveluptogethermvp.feedservice.event.FeedTimelineChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 피드 작성/공개범위 변경/삭제 커밋 후 홈 타임라인 반영
+ * 친구/길드 멤버 수만큼 Redis 쓰기가 생기므로 요청 스레드가 아닌 이벤트 스레드에서 처리한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FeedTimelineEventListener {
+
+    private final FeedTimelineStore feedTimelineStore;
+
+    @Async(EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTimelineChanged(FeedTimelineChangedEvent event) {
+        try {
+            feedTimelineStore.apply(event);
+        } catch (Exception e) {
+            // 반영하지 못한 항목은 조회 시 접근 규칙/존재 여부로 다시 걸러지고, 타임라인 만료 후 DB에서 재적재된다
+            log.error("홈 타임라인 반영 실패: change={}, feedId={}, error={}",
+                event.change(), event.feedId(), e.getMessage(), e);
+        }
+    }
+}
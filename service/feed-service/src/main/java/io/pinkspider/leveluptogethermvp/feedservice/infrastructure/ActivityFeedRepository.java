@@ -103,6 +103,93 @@ public interface ActivityFeedRepository extends JpaRepository<ActivityFeed, Long
     Page<ActivityFeed> findGuildOnlyFeedsByGuildIds(
         @Param("guildIds") List<Long> guildIds, Pageable pageable);
 
+    // ===== 키셋(커서) 페이지네이션 =====
+    // (createdAt, id) 내림차순으로 커서 위치 이후만 조회한다. COUNT 쿼리 없이 pageable은 LIMIT 용도로만 사용.
+
+    @Query("SELECT f FROM ActivityFeed f WHERE ("
+        + "f.visibility = 'PUBLIC' "
+        + "OR (:userId IS NOT NULL AND f.userId = :userId AND f.visibility <> 'PRIVATE') "
+        + "OR (f.userId IN :friendIds AND f.visibility = 'FRIENDS') "
+        + "OR (f.guildId IN :guildIds AND f.visibility = 'GUILD')"
+        + ") AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) "
+        + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findAccessibleFeedsBefore(
+        @Param("userId") String userId,
+        @Param("friendIds") List<String> friendIds,
+        @Param("guildIds") List<Long> guildIds,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query("SELECT f FROM ActivityFeed f WHERE f.userId IN :friendIds " +
+           "AND f.visibility IN ('PUBLIC', 'FRIENDS') " +
+           "AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findFriendsFeedsBefore(
+        @Param("friendIds") List<String> friendIds,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query("SELECT f FROM ActivityFeed f WHERE f.guildId IN :guildIds " +
+           "AND f.visibility = 'GUILD' " +
+           "AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findGuildOnlyFeedsByGuildIdsBefore(
+        @Param("guildIds") List<Long> guildIds,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query("SELECT f FROM ActivityFeed f WHERE f.userId = :userId " +
+           "AND f.visibility != 'PRIVATE' " +
+           "AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findPublicFeedsByUserIdBefore(
+        @Param("userId") String userId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query("SELECT f FROM ActivityFeed f WHERE f.userId = :userId " +
+           "AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findByUserIdBefore(
+        @Param("userId") String userId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    @Query("SELECT f FROM ActivityFeed f WHERE " +
+           "((f.userId = :userId) OR " +
+           "(f.userId IN :friendIds AND f.visibility IN ('PUBLIC', 'FRIENDS'))) " +
+           "AND (f.createdAt < :cursorCreatedAt OR (f.createdAt = :cursorCreatedAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findTimelineFeedsBefore(
+        @Param("userId") String userId,
+        @Param("friendIds") List<String> friendIds,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable);
+
+    // ===== 홈 타임라인 저장소(FeedTimelineStore) 초기 적재 =====
+
+    // 최신 PUBLIC 피드 (공유 타임라인)
+    @Query("SELECT f FROM ActivityFeed f WHERE f.visibility = 'PUBLIC' ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findRecentPublicFeeds(Pageable pageable);
+
+    // 사용자 타임라인: 본인 FRIENDS/GUILD 피드 + 친구의 FRIENDS 피드 + 소속 길드의 GUILD 피드 (PUBLIC은 공유 타임라인에서 병합)
+    @Query("SELECT f FROM ActivityFeed f WHERE "
+        + "(f.userId = :userId AND f.visibility IN ('FRIENDS', 'GUILD')) "
+        + "OR (f.userId IN :friendIds AND f.visibility = 'FRIENDS') "
+        + "OR (f.guildId IN :guildIds AND f.visibility = 'GUILD') "
+        + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<ActivityFeed> findRecentInboxFeeds(
+        @Param("userId") String userId,
+        @Param("friendIds") List<String> friendIds,
+        @Param("guildIds") List<Long> guildIds,
+        Pageable pageable);
+
     // 특정 타입 피드 조회
     Page<ActivityFeed> findByActivityTypeAndVisibilityOrderByCreatedAtDesc(
         ActivityType activityType, FeedVisibility visibility, Pageable pageable);
@@ -25,6 +25,7 @@ import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentLikeRespo
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentRequest;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentUpdateRequest;
+import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCursorPageResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedLikeResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.application.FeedCommandService;
 import io.pinkspider.leveluptogethermvp.feedservice.application.FeedQueryService;
@@ -182,6 +183,90 @@ class ActivityFeedControllerTest {
         resultActions.andExpect(MockMvcResultMatchers.status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/feeds/public/cursor : 피드 커서 조회")
+    void getPublicFeedsByCursorTest() throws Exception {
+        // given
+        ActivityFeedResponse feedResponse = MockUtil.readJsonFileToClass(
+            "fixture/feed/activityFeedResponse.json", ActivityFeedResponse.class);
+        FeedCursorPageResponse responses = new FeedCursorPageResponse(
+            List.of(feedResponse), "MjAyNS0wMS0wMVQxMjowMHwxMDA", true);
+
+        when(feedQueryService.getFeedsByCursor(any(), anyString(), any(), anyInt(), any()))
+            .thenReturn(responses);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+            RestDocumentationRequestBuilders.get("/api/v1/feeds/public/cursor")
+                .with(user(MOCK_USER_ID))
+                .param("cursor", "MjAyNS0wMS0wMVQxMzowMHwxMjA")
+                .param("size", "20")
+                .contentType(MediaType.APPLICATION_JSON)
+        ).andDo(
+            MockMvcRestDocumentationWrapper.document("피드-01-1. 피드 커서 조회",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(
+                    ResourceSnippetParameters.builder()
+                        .tag("Activity Feed")
+                        .description("피드 커서(키셋) 조회 - 전체 건수 없이 next_cursor로 이어서 조회")
+                        .queryParameters(
+                            parameterWithName("cursor").type(SimpleType.STRING).description("이전 응답의 next_cursor (첫 페이지는 생략)").optional(),
+                            parameterWithName("size").type(SimpleType.NUMBER).description("페이지 크기").optional()
+                        )
+                        .responseFields(
+                            fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                            fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                            fieldWithPath("value").type(JsonFieldType.OBJECT).description("커서 페이지"),
+                            fieldWithPath("value.content[]").type(JsonFieldType.ARRAY).description("피드 목록"),
+                            fieldWithPath("value.content[].id").type(JsonFieldType.NUMBER).description("피드 ID"),
+                            fieldWithPath("value.content[].user_id").type(JsonFieldType.STRING).description("사용자 ID"),
+                            fieldWithPath("value.content[].user_nickname").type(JsonFieldType.STRING).description("사용자 닉네임"),
+                            fieldWithPath("value.content[].user_profile_image_url").type(JsonFieldType.STRING).description("사용자 프로필 이미지").optional(),
+                            fieldWithPath("value.content[].user_level").type(JsonFieldType.NUMBER).description("사용자 레벨").optional(),
+                            fieldWithPath("value.content[].user_title").type(JsonFieldType.STRING).description("사용자 칭호").optional(),
+                            fieldWithPath("value.content[].user_title_rarity").type(JsonFieldType.STRING).description("칭호 등급 (COMMON, UNCOMMON, RARE, EPIC, LEGENDARY, MYTHIC)").optional(),
+                            fieldWithPath("value.content[].user_title_color_code").type(JsonFieldType.STRING).description("칭호 색상 코드").optional(),
+                            fieldWithPath("value.content[].user_left_title").type(JsonFieldType.STRING).description("좌측 칭호").optional(),
+                            fieldWithPath("value.content[].user_left_title_rarity").type(JsonFieldType.STRING).description("좌측 칭호 등급").optional(),
+                            fieldWithPath("value.content[].user_right_title").type(JsonFieldType.STRING).description("우측 칭호").optional(),
+                            fieldWithPath("value.content[].user_right_title_rarity").type(JsonFieldType.STRING).description("우측 칭호 등급").optional(),
+                            fieldWithPath("value.content[].activity_type").type(JsonFieldType.STRING).description("활동 타입"),
+                            fieldWithPath("value.content[].activity_type_display_name").type(JsonFieldType.STRING).description("활동 타입 표시명"),
+                            fieldWithPath("value.content[].category").type(JsonFieldType.STRING).description("카테고리"),
+                            fieldWithPath("value.content[].title").type(JsonFieldType.STRING).description("피드 제목"),
+                            fieldWithPath("value.content[].description").type(JsonFieldType.STRING).description("피드 설명").optional(),
+                            fieldWithPath("value.content[].reference_type").type(JsonFieldType.STRING).description("참조 타입").optional(),
+                            fieldWithPath("value.content[].reference_id").type(JsonFieldType.NUMBER).description("참조 ID").optional(),
+                            fieldWithPath("value.content[].reference_name").type(JsonFieldType.STRING).description("참조 이름").optional(),
+                            fieldWithPath("value.content[].visibility").type(JsonFieldType.STRING).description("공개 범위"),
+                            fieldWithPath("value.content[].guild_id").type(JsonFieldType.NUMBER).description("길드 ID").optional(),
+                            fieldWithPath("value.content[].guild_name").type(JsonFieldType.STRING).description("길드명").optional(),
+                            fieldWithPath("value.content[].image_url").type(JsonFieldType.STRING).description("이미지 URL").optional(),
+                            fieldWithPath("value.content[].icon_url").type(JsonFieldType.STRING).description("아이콘 URL").optional(),
+                            fieldWithPath("value.content[].like_count").type(JsonFieldType.NUMBER).description("좋아요 수"),
+                            fieldWithPath("value.content[].comment_count").type(JsonFieldType.NUMBER).description("댓글 수"),
+                            fieldWithPath("value.content[].liked_by_me").type(JsonFieldType.BOOLEAN).description("내가 좋아요 했는지"),
+                            fieldWithPath("value.content[].is_my_feed").type(JsonFieldType.BOOLEAN).description("내가 작성한 피드인지"),
+                            fieldWithPath("value.content[].created_at").type(JsonFieldType.STRING).description("생성 일시"),
+                            fieldWithPath("value.content[].execution_id").type(JsonFieldType.NUMBER).description("미션 실행 ID").optional(),
+                            fieldWithPath("value.content[].duration_minutes").type(JsonFieldType.NUMBER).description("수행 시간(분)").optional(),
+                            fieldWithPath("value.content[].exp_earned").type(JsonFieldType.NUMBER).description("획득 경험치").optional(),
+                            fieldWithPath("value.content[].category_id").type(JsonFieldType.NUMBER).description("카테고리 ID").optional(),
+                            fieldWithPath("value.content[].translation").type(JsonFieldType.OBJECT).description("번역 정보").optional(),
+                            fieldWithPath("value.content[].is_under_review").type(JsonFieldType.BOOLEAN).description("신고 처리중 여부").optional(),
+                            fieldWithPath("value.next_cursor").type(JsonFieldType.STRING).description("다음 페이지 커서 (마지막 페이지면 null)").optional(),
+                            fieldWithPath("value.has_next").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부")
+                        )
+                        .build()
+                )
+            )
+        );
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
     @Test
     @DisplayName("GET /api/v1/feeds/timeline : 타임라인 피드 조회")
     void getTimelineFeedsTest() throws Exception {
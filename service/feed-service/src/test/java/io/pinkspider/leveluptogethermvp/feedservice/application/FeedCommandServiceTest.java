@@ -10,6 +10,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.pinkspider.global.event.FeedCommentLikedEvent;
+import io.pinkspider.global.translation.TranslationService;
+import io.pinkspider.global.translation.enums.ContentType;
 import io.pinkspider.global.event.FeedCommentReplyEvent;
 import io.pinkspider.global.event.FeedLikedEvent;
 import io.pinkspider.global.event.FeedUnlikedEvent;
@@ -31,6 +33,7 @@ import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.FeedCommentLik
 import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.FeedLike;
 import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.ActivityType;
 import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
+import io.pinkspider.leveluptogethermvp.feedservice.event.FeedTimelineChangedEvent;
 import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.ActivityFeedRepository;
 import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.FeedCommentLikeRepository;
 import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.FeedCommentRepository;
@@ -78,6 +81,9 @@ class FeedCommandServiceTest {
     @Mock
     private FeedAccessChecker feedAccessChecker;
 
+    @Mock
+    private TranslationService translationService;
+
     @InjectMocks
     private FeedCommandService feedCommandService;
 
@@ -196,6 +202,7 @@ class FeedCommandServiceTest {
             assertThat(result).isNotNull();
             verify(userQueryFacadeService).userExistsById(TEST_USER_ID);
             verify(activityFeedRepository).save(any(ActivityFeed.class));
+            verify(eventPublisher).publishEvent(FeedTimelineChangedEvent.created(savedFeed));
         }
 
         @Test
@@ -435,6 +442,7 @@ class FeedCommandServiceTest {
             // then
             assertThat(comment.getIsEdited()).isTrue();
             assertThat(comment.getContent()).isEqualTo("수정된 댓글");
+            verify(translationService).evictTranslationCache(ContentType.FEED_COMMENT, commentId);
         }
 
         @Test
@@ -679,6 +687,7 @@ class FeedCommandServiceTest {
 
             // then
             verify(activityFeedRepository).delete(feed);
+            verify(eventPublisher).publishEvent(FeedTimelineChangedEvent.deleted(feed));
         }
 
         @Test
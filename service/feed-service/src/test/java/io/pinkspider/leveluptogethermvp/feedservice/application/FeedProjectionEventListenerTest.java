@@ -43,6 +43,9 @@ class FeedProjectionEventListenerTest {
     @Mock
     private UserQueryFacade userQueryFacadeService;
 
+    @Mock
+    private FeedTimelineStore feedTimelineStore;
+
     @InjectMocks
     private FeedProjectionEventListener feedProjectionEventListener;
 
@@ -118,6 +121,7 @@ class FeedProjectionEventListenerTest {
             feedProjectionEventListener.handleGuildJoined(event);
 
             // then
+            verify(feedTimelineStore).invalidate(TEST_USER_ID);
             verify(feedCommandService, never()).createActivityFeed(
                 anyString(), anyString(), anyString(), anyInt(), anyString(),
                 any(TitleRarity.class), anyString(), any(ActivityType.class),
@@ -143,6 +147,7 @@ class FeedProjectionEventListenerTest {
             feedProjectionEventListener.handleFriendRequestAccepted(event);
 
             // then
+            verify(feedTimelineStore).invalidate(TEST_USER_ID, REQUESTER_USER_ID);
             verify(feedCommandService, never()).createActivityFeed(
                 anyString(), anyString(), anyString(), anyInt(), anyString(),
                 any(TitleRarity.class), anyString(), any(ActivityType.class),
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import io.pinkspider.global.exception.CustomException;
 import io.pinkspider.global.translation.TranslationService;
+import io.pinkspider.global.translation.dto.TranslationInfo;
 import io.pinkspider.global.feign.admin.AdminInternalFeignClient;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.admin.FeedAdminPageResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.ActivityFeed;
@@ -27,12 +28,14 @@ import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.FeedLikeRepos
 import io.pinkspider.leveluptogethermvp.supportservice.report.application.ReportService;
 import io.pinkspider.global.enums.ReportTargetType;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.ActivityFeedResponse;
+import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCursorPageResponse;
 import io.pinkspider.leveluptogethermvp.feedservice.api.dto.FeedCommentResponse;
 import io.pinkspider.global.facade.GuildQueryFacade;
 import io.pinkspider.global.facade.UserQueryFacade;
 import io.pinkspider.global.facade.dto.GuildMembershipInfo;
 import io.pinkspider.global.facade.dto.UserProfileInfo;
 import static io.pinkspider.global.test.TestReflectionUtils.setId;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -48,6 +51,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class FeedQueryServiceTest {
@@ -85,6 +89,9 @@ class FeedQueryServiceTest {
     @Mock
     private FeedAccessChecker feedAccessChecker;
 
+    @Mock
+    private FeedTimelineStore feedTimelineStore;
+
     @InjectMocks
     private FeedQueryService feedQueryService;
 
@@ -156,6 +163,26 @@ class FeedQueryServiceTest {
                 eq(TEST_USER_ID), eq(friendIds), eq(List.of(100L)), any(Pageable.class));
         }
 
+        @Test
+        @DisplayName("홈 타임라인 저장소에서 조회되면 DB 쿼리를 실행하지 않는다")
+        void getPublicFeeds_usesTimelineStore() {
+            // given
+            ActivityFeed feed = createTestFeed(1L, OTHER_USER_ID);
+            when(userQueryFacadeService.getFriendIds(TEST_USER_ID)).thenReturn(List.of());
+            when(guildQueryFacadeService.getUserGuildMemberships(TEST_USER_ID)).thenReturn(List.of());
+            when(feedTimelineStore.findPage(eq(TEST_USER_ID), eq(List.of()), eq(List.of()), any(Pageable.class)))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(feed))));
+            when(feedLikeRepository.findLikedFeedIds(eq(TEST_USER_ID), anyList()))
+                .thenReturn(Collections.emptyList());
+
+            // when
+            Page<ActivityFeedResponse> result = feedQueryService.getPublicFeeds(TEST_USER_ID, 0, 10);
+
+            // then
+            assertThat(result.getContent()).extracting(ActivityFeedResponse::getId).containsExactly(1L);
+            verify(activityFeedRepository, never()).findAccessibleFeeds(any(), any(), any(), any(Pageable.class));
+        }
+
         @Test
         @DisplayName("QA-168: 비로그인(userId=null)은 친구/길드 조회 없이 빈 리스트로 호출한다")
         void getPublicFeeds_anonymousUserSkipsFacades() {
@@ -192,6 +219,89 @@ class FeedQueryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 페이지네이션 테스트")
+    class CursorPaginationTest {
+
+        private ActivityFeed createFeedAt(Long id, LocalDateTime createdAt) {
+            ActivityFeed feed = createTestFeed(id, OTHER_USER_ID);
+            ReflectionTestUtils.setField(feed, "createdAt", createdAt);
+            return feed;
+        }
+
+        @Test
+        @DisplayName("첫 페이지는 FIRST 커서로 size + 1건을 조회하고 다음 커서를 반환한다")
+        void getFeedsByCursor_firstPage() {
+            // given
+            LocalDateTime now = LocalDateTime.of(2026, 10, 1, 12, 0);
+            List<ActivityFeed> feeds = List.of(
+                createFeedAt(3L, now), createFeedAt(2L, now), createFeedAt(1L, now.minusMinutes(1)));
+            when(activityFeedRepository.findAccessibleFeedsBefore(
+                eq(null), eq(List.of()), eq(List.of()),
+                eq(FeedCursor.FIRST.createdAt()), eq(FeedCursor.FIRST.id()),
+                argThat(p -> p.getPageNumber() == 0 && p.getPageSize() == 3)))
+                .thenReturn(feeds);
+
+            // when
+            FeedCursorPageResponse result = feedQueryService.getFeedsByCursor(
+                FeedSearchType.ALL, null, null, 2, null);
+
+            // then
+            assertThat(result.content()).extracting(ActivityFeedResponse::getId).containsExactly(3L, 2L);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(FeedCursor.decode(result.nextCursor())).isEqualTo(new FeedCursor(now, 2L));
+        }
+
+        @Test
+        @DisplayName("다음 페이지는 커서 위치부터 조회하고 마지막 페이지면 커서를 반환하지 않는다")
+        void getFeedsByCursor_lastPage() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+            String cursor = new FeedCursor(createdAt, 2L).encode();
+            when(activityFeedRepository.findPublicFeedsByUserIdBefore(
+                eq(TEST_USER_ID), eq(createdAt), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(createFeedAt(1L, createdAt.minusMinutes(1))));
+            when(feedLikeRepository.findLikedFeedIds(eq(TEST_USER_ID), anyList()))
+                .thenReturn(Collections.emptyList());
+
+            // when
+            FeedCursorPageResponse result = feedQueryService.getFeedsByCursor(
+                FeedSearchType.MINE, TEST_USER_ID, cursor, 2, null);
+
+            // then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("친구가 없으면 타임라인은 내 피드만 조회한다")
+        void getTimelineFeedsByCursor_noFriends() {
+            // given
+            when(userQueryFacadeService.getFriendIds(TEST_USER_ID)).thenReturn(List.of());
+            when(activityFeedRepository.findByUserIdBefore(
+                eq(TEST_USER_ID), any(LocalDateTime.class), any(Long.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+            // when
+            FeedCursorPageResponse result = feedQueryService.getTimelineFeedsByCursor(TEST_USER_ID, null, 20, null);
+
+            // then
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            verify(activityFeedRepository, never()).findTimelineFeedsBefore(
+                anyString(), anyList(), any(LocalDateTime.class), any(Long.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 커서는 CustomException을 던진다")
+        void getFeedsByCursor_invalidCursor() {
+            assertThatThrownBy(() -> feedQueryService.getFeedsByCursor(
+                FeedSearchType.ALL, null, "not-a-cursor", 20, null))
+                .isInstanceOf(CustomException.class);
+        }
+    }
+
     @Nested
     @DisplayName("getTimelineFeeds 테스트")
     class GetTimelineFeedsTest {
@@ -1170,7 +1280,7 @@ class FeedQueryServiceTest {
 
             // then - 기본 언어이므로 translationService 호출 안됨
             org.mockito.Mockito.verify(translationService, org.mockito.Mockito.never())
-                .translateContent(any(), any(), any(), any(), any());
+                .translateContents(anyList(), any());
         }
 
         @Test
@@ -1189,7 +1299,7 @@ class FeedQueryServiceTest {
 
             // then - null locale도 기본 언어 처리
             org.mockito.Mockito.verify(translationService, org.mockito.Mockito.never())
-                .translateContent(any(), any(), any(), any(), any());
+                .translateContents(anyList(), any());
         }
     }
 
@@ -1225,7 +1335,7 @@ class FeedQueryServiceTest {
 
             // then - 삭제된 댓글은 번역 안 함
             org.mockito.Mockito.verify(translationService, org.mockito.Mockito.never())
-                .translateContent(any(), any(), any(), any());
+                .translateContents(anyList(), any());
         }
 
         @Test
@@ -1256,7 +1366,7 @@ class FeedQueryServiceTest {
 
             // then - 기본 언어이므로 번역 안 함
             org.mockito.Mockito.verify(translationService, org.mockito.Mockito.never())
-                .translateContent(any(), any(), any(), any());
+                .translateContents(anyList(), any());
         }
     }
 
@@ -2082,15 +2192,19 @@ class FeedQueryServiceTest {
             when(userQueryFacadeService.getUserProfile(TEST_USER_ID))
                 .thenReturn(new UserProfileInfo(TEST_USER_ID, "테스트유저", null, 3, null, null, null));
             when(reportService.isUnderReviewBatch(any(), anyList())).thenReturn(Collections.emptyMap());
-            when(translationService.translateContent(any(), any(), any(), any())).thenReturn(null);
+            when(translationService.translateContents(anyList(), eq("ja")))
+                .thenReturn(List.of(TranslationInfo.translated("comment", "en", "ja")));
 
             // when
-            feedQueryService.getComments(feedId, TEST_USER_ID, 0, 10, "ja");
+            Page<FeedCommentResponse> result = feedQueryService.getComments(feedId, TEST_USER_ID, 0, 10, "ja");
 
-            // then — ja는 기본 언어(en) 아니므로 번역 호출됨
-            verify(translationService).translateContent(
-                eq(io.pinkspider.global.translation.enums.ContentType.FEED_COMMENT),
-                any(), any(), eq("ja"));
+            // then — ja는 기본 언어(en) 아니므로 페이지 단위로 한 번 일괄 번역 호출됨
+            verify(translationService).translateContents(
+                argThat(targets -> targets.size() == 1
+                    && targets.get(0).contentType() == io.pinkspider.global.translation.enums.ContentType.FEED_COMMENT
+                    && targets.get(0).contentId().equals(10L)),
+                eq("ja"));
+            assertThat(result.getContent().get(0).getTranslation().getContent()).isEqualTo("comment");
         }
 
         @Test
@@ -2121,7 +2235,7 @@ class FeedQueryServiceTest {
             feedQueryService.getComments(feedId, TEST_USER_ID, 0, 10, "ja");
 
             // then — 삭제된 댓글은 번역 호출 안됨
-            verify(translationService, never()).translateContent(any(), any(), any(), any());
+            verify(translationService, never()).translateContents(anyList(), any());
         }
     }
 
@@ -0,0 +1,405 @@
+package io.pinkspider.leveluptogethermvp.feedservice.application;
+
+import static io.pinkspider.global.test.TestReflectionUtils.setId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.global.facade.GuildQueryFacade;
+import io.pinkspider.global.facade.UserQueryFacade;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.entity.ActivityFeed;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.ActivityType;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
+import io.pinkspider.leveluptogethermvp.feedservice.event.FeedTimelineChangedEvent;
+import io.pinkspider.leveluptogethermvp.feedservice.infrastructure.ActivityFeedRepository;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedTimelineStore 단위 테스트")
+class FeedTimelineStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ActivityFeedRepository activityFeedRepository;
+
+    @Mock
+    private UserQueryFacade userQueryFacadeService;
+
+    @Mock
+    private GuildQueryFacade guildQueryFacadeService;
+
+    @Mock
+    private RedisOperations<String, String> pipelineOperations;
+
+    @Mock
+    private ZSetOperations<String, String> pipelineZSetOperations;
+
+    @InjectMocks
+    private FeedTimelineStore feedTimelineStore;
+
+    private static final String AUTHOR_ID = "author-1";
+    private static final String VIEWER_ID = "viewer-1";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(feedTimelineStore, "enabled", true);
+        ReflectionTestUtils.setField(feedTimelineStore, "maxLength", 100);
+        ReflectionTestUtils.setField(feedTimelineStore, "largeGuildThreshold", 50);
+        ReflectionTestUtils.setField(feedTimelineStore, "ttl", Duration.ofDays(3));
+    }
+
+    private ActivityFeed createFeed(Long id, String userId, FeedVisibility visibility, Long guildId) {
+        ActivityFeed feed = ActivityFeed.builder()
+            .userId(userId)
+            .userNickname("작성자")
+            .userLevel(1)
+            .activityType(ActivityType.MISSION_SHARED)
+            .title("피드")
+            .visibility(visibility)
+            .guildId(guildId)
+            .likeCount(0)
+            .commentCount(0)
+            .build();
+        setId(feed, id);
+        return feed;
+    }
+
+    /**
+     * 파이프라인 콜백을 mock RedisOperations로 실행해 fan-out 대상 키를 검증한다.
+     */
+    private void runPipeline() {
+        runPipelines(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runPipelines(int count) {
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(stringRedisTemplate, times(count)).executePipelined(callback.capture());
+        when(pipelineOperations.opsForZSet()).thenReturn(pipelineZSetOperations);
+        callback.getAllValues().forEach(pipeline -> pipeline.execute(pipelineOperations));
+    }
+
+    private static Set<TypedTuple<String>> tuples(long... idAndScore) {
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < idAndScore.length; i += 2) {
+            tuples.add(new DefaultTypedTuple<>(String.valueOf(idAndScore[i]), (double) idAndScore[i + 1]));
+        }
+        return tuples;
+    }
+
+    @Nested
+    @DisplayName("fanOut 테스트")
+    class FanOutTest {
+
+        @Test
+        @DisplayName("PUBLIC 피드는 공유 타임라인에만 추가한다")
+        void fanOut_public() {
+            // when
+            feedTimelineStore.apply(FeedTimelineChangedEvent.created(createFeed(1L, AUTHOR_ID, FeedVisibility.PUBLIC, null)));
+
+            // then
+            runPipeline();
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.PUBLIC_KEY), eq("1"), anyDouble());
+            verify(pipelineZSetOperations).add(anyString(), anyString(), anyDouble());
+            verify(userQueryFacadeService, never()).getFriendIds(anyString());
+        }
+
+        @Test
+        @DisplayName("FRIENDS 피드는 작성자와 친구 타임라인에 추가한다")
+        void fanOut_friends() {
+            // given
+            when(userQueryFacadeService.getFriendIds(AUTHOR_ID)).thenReturn(List.of("friend-1", "friend-2"));
+
+            // when
+            feedTimelineStore.apply(FeedTimelineChangedEvent.created(createFeed(2L, AUTHOR_ID, FeedVisibility.FRIENDS, null)));
+
+            // then
+            runPipeline();
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.userKey(AUTHOR_ID)), eq("2"), anyDouble());
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.userKey("friend-1")), eq("2"), anyDouble());
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.userKey("friend-2")), eq("2"), anyDouble());
+            verify(pipelineOperations).expire(FeedTimelineStore.userKey("friend-1"), Duration.ofDays(3));
+        }
+
+        @Test
+        @DisplayName("대규모 길드의 GUILD 피드는 멤버 대신 길드 타임라인에 추가한다")
+        void fanOut_largeGuild() {
+            // given
+            when(guildQueryFacadeService.getActiveMemberCount(10L)).thenReturn(500);
+
+            // when
+            feedTimelineStore.apply(FeedTimelineChangedEvent.created(createFeed(3L, AUTHOR_ID, FeedVisibility.GUILD, 10L)));
+
+            // then
+            runPipeline();
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.guildKey(10L)), eq("3"), anyDouble());
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.userKey(AUTHOR_ID)), eq("3"), anyDouble());
+            verify(guildQueryFacadeService, never()).getActiveMemberUserIds(any());
+        }
+
+        @Test
+        @DisplayName("소규모 길드의 GUILD 피드는 멤버 타임라인에 추가한다")
+        void fanOut_smallGuild() {
+            // given
+            when(guildQueryFacadeService.getActiveMemberCount(10L)).thenReturn(3);
+            when(guildQueryFacadeService.getActiveMemberUserIds(10L)).thenReturn(List.of(AUTHOR_ID, "member-1"));
+
+            // when
+            feedTimelineStore.apply(FeedTimelineChangedEvent.created(createFeed(4L, AUTHOR_ID, FeedVisibility.GUILD, 10L)));
+
+            // then
+            runPipeline();
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.userKey("member-1")), eq("4"), anyDouble());
+            verify(pipelineZSetOperations, never()).add(eq(FeedTimelineStore.guildKey(10L)), anyString(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("PRIVATE 피드는 어떤 타임라인에도 추가하지 않는다")
+        void fanOut_private() {
+            // when
+            feedTimelineStore.apply(FeedTimelineChangedEvent.created(createFeed(5L, AUTHOR_ID, FeedVisibility.PRIVATE, null)));
+
+            // then
+            verify(stringRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+        }
+
+        @Test
+        @DisplayName("공개범위가 바뀌면 들어 있을 수 있는 모든 타임라인에서 빼고 새 공개범위로 다시 추가한다")
+        void apply_visibilityChanged() {
+            // given: FRIENDS → PUBLIC
+            when(userQueryFacadeService.getFriendIds(AUTHOR_ID)).thenReturn(List.of("friend-1"));
+
+            // when
+            feedTimelineStore.apply(FeedTimelineChangedEvent.visibilityChanged(
+                createFeed(6L, AUTHOR_ID, FeedVisibility.PUBLIC, null)));
+
+            // then
+            runPipelines(2);
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.userKey(AUTHOR_ID), "6");
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.userKey("friend-1"), "6");
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.PUBLIC_KEY, "6");
+            verify(pipelineZSetOperations).add(eq(FeedTimelineStore.PUBLIC_KEY), eq("6"), anyDouble());
+        }
+
+        @Test
+        @DisplayName("삭제된 피드는 공유/작성자/친구/길드 멤버/길드 타임라인에서 모두 제거한다")
+        void apply_deleted() {
+            // given
+            when(userQueryFacadeService.getFriendIds(AUTHOR_ID)).thenReturn(List.of("friend-1"));
+            when(guildQueryFacadeService.getActiveMemberUserIds(10L)).thenReturn(List.of(AUTHOR_ID, "member-1"));
+
+            // when
+            feedTimelineStore.apply(FeedTimelineChangedEvent.deleted(
+                createFeed(7L, AUTHOR_ID, FeedVisibility.GUILD, 10L)));
+
+            // then
+            runPipeline();
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.PUBLIC_KEY, "7");
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.userKey(AUTHOR_ID), "7");
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.userKey("friend-1"), "7");
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.userKey("member-1"), "7");
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.guildKey(10L), "7");
+            verify(pipelineZSetOperations, never()).add(anyString(), anyString(), anyDouble());
+        }
+    }
+
+    @Nested
+    @DisplayName("findPage 테스트")
+    class FindPageTest {
+
+        @Test
+        @DisplayName("공유/사용자/길드 타임라인을 작성 시각 역순으로 병합하고 볼 수 없는 피드는 빼고 다음 피드로 채운다")
+        void findPage_mergesAndFilters() {
+            // given
+            when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of(
+                tuples(1, 100, 4, 400),     // public
+                tuples(2, 300, 5, 200),     // user
+                tuples(3, 500)));           // guild:10
+
+            ActivityFeed publicOld = createFeed(1L, AUTHOR_ID, FeedVisibility.PUBLIC, null);
+            ActivityFeed friendFeed = createFeed(2L, "friend-1", FeedVisibility.FRIENDS, null);
+            ActivityFeed guildFeed = createFeed(3L, AUTHOR_ID, FeedVisibility.GUILD, 10L);
+            ActivityFeed publicNew = createFeed(4L, AUTHOR_ID, FeedVisibility.PUBLIC, null);
+            // 친구 관계가 끊어진 사용자의 친구공개 피드
+            ActivityFeed staleFeed = createFeed(5L, "ex-friend", FeedVisibility.FRIENDS, null);
+            when(activityFeedRepository.findByIdIn(List.of(3L, 4L, 2L, 5L, 1L)))
+                .thenReturn(List.of(friendFeed, guildFeed, publicNew, staleFeed, publicOld));
+
+            // when
+            Optional<Page<ActivityFeed>> result = feedTimelineStore.findPage(
+                VIEWER_ID, List.of("friend-1"), List.of(10L), PageRequest.of(0, 4));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().getContent()).extracting(ActivityFeed::getId).containsExactly(3L, 4L, 2L, 1L);
+            assertThat(result.get().getTotalElements()).isEqualTo(4L);
+            assertThat(result.get().hasNext()).isFalse();
+            // 볼 수 없게 된 피드는 사용자 타임라인에서 지운다
+            runPipelines(2);
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.userKey(VIEWER_ID), "5");
+        }
+
+        @Test
+        @DisplayName("1건 더 읽어 다음 페이지 여부를 판단하고 DB 건수 쿼리 없이 근사 totalElements를 돌려준다")
+        void findPage_probesNextWithoutCount() {
+            // given
+            when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(tuples(1, 200, 2, 100), Set.of()));
+            when(activityFeedRepository.findByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                createFeed(1L, AUTHOR_ID, FeedVisibility.PUBLIC, null),
+                createFeed(2L, AUTHOR_ID, FeedVisibility.PUBLIC, null)));
+
+            // when
+            Optional<Page<ActivityFeed>> result = feedTimelineStore.findPage(
+                VIEWER_ID, List.of(), List.of(), PageRequest.of(0, 1));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().getContent()).extracting(ActivityFeed::getId).containsExactly(1L);
+            assertThat(result.get().hasNext()).isTrue();
+            assertThat(result.get().getTotalElements()).isEqualTo(2L);
+            verify(activityFeedRepository).findByIdIn(List.of(1L, 2L));
+            verifyNoMoreInteractions(activityFeedRepository);
+        }
+
+        @Test
+        @DisplayName("삭제된 피드로 페이지가 모자라면 더 깊이 읽어 채우고, 삭제된 ID는 타임라인에서 지운다")
+        void findPage_refillsAndPrunesDeleted() {
+            // given: 1은 삭제됨 (페이지 2건 + 다음 페이지 확인 1건 = 3건씩 읽는다)
+            when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(
+                List.of(tuples(1, 300, 2, 200, 3, 150)),
+                List.of(),
+                List.of(tuples(1, 300, 2, 200, 3, 150, 4, 100)));
+            ActivityFeed second = createFeed(2L, AUTHOR_ID, FeedVisibility.PUBLIC, null);
+            ActivityFeed third = createFeed(3L, AUTHOR_ID, FeedVisibility.PUBLIC, null);
+            ActivityFeed fourth = createFeed(4L, AUTHOR_ID, FeedVisibility.PUBLIC, null);
+            when(activityFeedRepository.findByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(second, third));
+            when(activityFeedRepository.findByIdIn(List.of(4L))).thenReturn(List.of(fourth));
+
+            // when
+            Optional<Page<ActivityFeed>> result = feedTimelineStore.findPage(
+                null, List.of(), List.of(), PageRequest.of(0, 2));
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().getContent()).extracting(ActivityFeed::getId).containsExactly(2L, 3L);
+            assertThat(result.get().hasNext()).isTrue();
+            runPipelines(3);
+            verify(pipelineZSetOperations).remove(FeedTimelineStore.PUBLIC_KEY, "1");
+        }
+
+        @Test
+        @DisplayName("유지 범위를 다 읽어도 페이지를 채우지 못하면 DB 조회로 넘긴다")
+        void findPage_retainedRangeExhausted() {
+            // given
+            ReflectionTestUtils.setField(feedTimelineStore, "maxLength", 2);
+            when(stringRedisTemplate.hasKey(anyString())).thenReturn(true);
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(tuples(1, 300, 2, 200)));
+            when(activityFeedRepository.findByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(createFeed(2L, AUTHOR_ID, FeedVisibility.PUBLIC, null)));
+
+            // when
+            Optional<Page<ActivityFeed>> result = feedTimelineStore.findPage(
+                null, List.of(), List.of(), PageRequest.of(0, 2));
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("타임라인 유지 범위를 넘는 페이지는 DB 조회로 넘긴다")
+        void findPage_beyondWindow() {
+            // when
+            Optional<Page<ActivityFeed>> result = feedTimelineStore.findPage(
+                VIEWER_ID, List.of(), List.of(), PageRequest.of(10, 20));
+
+            // then
+            assertThat(result).isEmpty();
+            verify(stringRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+        }
+
+        @Test
+        @DisplayName("타임라인이 적재되지 않았으면 DB에서 최신 피드로 채운다")
+        void findPage_loadsColdTimeline() {
+            // given
+            when(stringRedisTemplate.hasKey(FeedTimelineStore.PUBLIC_KEY + ":ready")).thenReturn(true);
+            when(stringRedisTemplate.hasKey(FeedTimelineStore.userKey(VIEWER_ID) + ":ready")).thenReturn(false);
+            when(activityFeedRepository.findRecentInboxFeeds(eq(VIEWER_ID), eq(List.of()), eq(List.of()), any()))
+                .thenReturn(List.of());
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(List.of(Set.of(), Set.of()));
+
+            // when
+            Optional<Page<ActivityFeed>> result = feedTimelineStore.findPage(
+                VIEWER_ID, List.of(), List.of(), PageRequest.of(0, 10));
+
+            // then
+            assertThat(result).isPresent();
+            verify(activityFeedRepository).findRecentInboxFeeds(eq(VIEWER_ID), eq(List.of()), eq(List.of()), any());
+            verify(activityFeedRepository, never()).findRecentPublicFeeds(any());
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 빈 값을 반환해 DB 조회로 넘긴다")
+        void findPage_redisFailure() {
+            // given
+            when(stringRedisTemplate.hasKey(anyString()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+            // when
+            Optional<Page<ActivityFeed>> result = feedTimelineStore.findPage(
+                VIEWER_ID, List.of(), List.of(), PageRequest.of(0, 10));
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("관계 변경 시 사용자 타임라인과 적재 표시를 삭제한다")
+    void invalidate_deletesUserTimelines() {
+        // when
+        feedTimelineStore.invalidate(VIEWER_ID, AUTHOR_ID);
+
+        // then
+        verify(stringRedisTemplate).delete(List.of(
+            FeedTimelineStore.userKey(VIEWER_ID), FeedTimelineStore.userKey(VIEWER_ID) + ":ready",
+            FeedTimelineStore.userKey(AUTHOR_ID), FeedTimelineStore.userKey(AUTHOR_ID) + ":ready"));
+    }
+}
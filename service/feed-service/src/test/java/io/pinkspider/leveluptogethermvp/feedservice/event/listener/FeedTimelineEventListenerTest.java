@@ -0,0 +1,46 @@
+package io.pinkspider.leveluptogethermvp.feedservice.event.listener;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import io.pinkspider.leveluptogethermvp.feedservice.application.FeedTimelineStore;
+import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
+import io.pinkspider.leveluptogethermvp.feedservice.event.FeedTimelineChangedEvent;
+import io.pinkspider.leveluptogethermvp.feedservice.event.FeedTimelineChangedEvent.Change;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedTimelineEventListener 테스트")
+class FeedTimelineEventListenerTest {
+
+    @Mock
+    private FeedTimelineStore feedTimelineStore;
+
+    @InjectMocks
+    private FeedTimelineEventListener listener;
+
+    private static final FeedTimelineChangedEvent TEST_EVENT = new FeedTimelineChangedEvent(
+        Change.CREATED, 1L, "user-123", FeedVisibility.FRIENDS, null, LocalDateTime.now());
+
+    @Test
+    @DisplayName("피드 변경을 홈 타임라인에 반영한다")
+    void handleTimelineChanged_appliesToStore() {
+        listener.handleTimelineChanged(TEST_EVENT);
+
+        verify(feedTimelineStore).apply(TEST_EVENT);
+    }
+
+    @Test
+    @DisplayName("반영에 실패해도 예외를 전파하지 않는다")
+    void handleTimelineChanged_failure_doesNotPropagate() {
+        doThrow(new RuntimeException("Redis 연결 실패")).when(feedTimelineStore).apply(TEST_EVENT);
+
+        listener.handleTimelineChanged(TEST_EVENT);
+    }
+}
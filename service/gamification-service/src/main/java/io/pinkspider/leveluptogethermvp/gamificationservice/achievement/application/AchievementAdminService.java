@@ -45,6 +45,7 @@ public class AchievementAdminService {
     private final UserAchievementRepository userAchievementRepository;
     private final UserTitleRepository userTitleRepository;
     private final TitleRepository titleRepository;
+    private final AchievementRuleIndex achievementRuleIndex;
 
     @Transactional(readOnly = true, transactionManager = "gamificationTransactionManager")
     public List<AchievementAdminResponse> getAllAchievements() {
@@ -134,6 +135,7 @@ public class AchievementAdminService {
         achievement.setCategory(category);
 
         Achievement saved = achievementRepository.save(achievement);
+        achievementRuleIndex.invalidate();
         log.info("업적 생성 및 캐시 갱신: id={}, name={}", saved.getId(), saved.getName());
         return toResponseWithEnrichment(saved);
     }
@@ -187,6 +189,7 @@ public class AchievementAdminService {
         achievement.setEventName(eventName);
 
         Achievement saved = achievementRepository.save(achievement);
+        achievementRuleIndex.invalidate();
         log.info("업적 수정 및 캐시 갱신: id={}, name={}", id, saved.getName());
 
         if (titleChanged) {
@@ -205,6 +208,7 @@ public class AchievementAdminService {
 
         achievement.setIsActive(!achievement.getIsActive());
         Achievement saved = achievementRepository.save(achievement);
+        achievementRuleIndex.invalidate();
         log.info("업적 활성 상태 변경 및 캐시 갱신: id={}, isActive={}", id, saved.getIsActive());
         return AchievementAdminResponse.from(saved);
     }
@@ -225,6 +229,7 @@ public class AchievementAdminService {
         }
 
         achievementRepository.deleteById(id);
+        achievementRuleIndex.invalidate();
         log.info("업적 삭제 및 캐시 갱신: id={}", id);
     }
 
@@ -0,0 +1,201 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.Achievement;
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.enums.ComparisonOperator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 업적 규칙 역인덱스 (인스턴스 로컬)
+ *
+ * (checkLogicDataSource, checkLogicDataField) 별로 활성 업적을 달성 기준값 오름차순으로 정렬해 둔다.
+ * 카운터 하나가 바뀌면 이분 탐색으로 현재 값이 도달한 업적만 골라 Strategy 평가 대상을 줄인다.
+ *
+ * - 단조 조건(GTE, GT)만 정렬 대상이다. 그 외 연산자, 기준값 없음, 미션 카테고리 한정 업적은 값 하나로 판정할 수 없으므로
+ *   {@link Rules#unindexed()}로 분리해 기존처럼 모두 평가한다.
+ * - 업적 캐시(achievements)를 원본으로 사용하며, 어드민 변경 커밋 후 {@link #invalidate()}로 모든 인스턴스의 인덱스를 버린다.
+ *   무효화 메시지 유실에 대비해 max-age가 지나면 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AchievementRuleIndex implements MessageListener {
+
+    public static final String CHANNEL = "achievement:rule-index:invalidate";
+
+    private final AchievementCacheService achievementCacheService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long maxAgeNanos;
+
+    private volatile Snapshot snapshot;
+
+    public AchievementRuleIndex(
+        AchievementCacheService achievementCacheService,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${achievement.rule-index.max-age:10m}") Duration maxAge) {
+        this.achievementCacheService = achievementCacheService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * (데이터 소스, 데이터 필드)에 걸린 업적 규칙 (없으면 빈 규칙)
+     */
+    public Rules rules(String dataSource, String dataField) {
+        return current().rules().getOrDefault(new RuleKey(dataSource, dataField), Rules.EMPTY);
+    }
+
+    /**
+     * 로컬 인덱스 폐기 (이 인스턴스만, 다음 조회 시 재생성)
+     */
+    public void evict() {
+        snapshot = null;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 로컬 인덱스를 폐기하고 다른 인스턴스에도 무효화를 발행
+     * 커밋 전에 재생성되면 이전 업적 정의가 다시 인덱싱되므로 커밋 이후로 미룬다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishInvalidation();
+                }
+            });
+        } else {
+            publishInvalidation();
+        }
+    }
+
+    private void publishInvalidation() {
+        evict();
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, "all");
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스는 max-age 만료까지 이전 인덱스를 사용한다
+            log.warn("업적 규칙 인덱스 무효화 발행 실패: error={}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evict();
+        log.debug("업적 규칙 인덱스 무효화 수신");
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null || System.nanoTime() - s.builtAt() > maxAgeNanos) {
+            s = build(achievementCacheService.getAchievementsWithCheckLogic());
+            snapshot = s;
+        }
+        return s;
+    }
+
+    static Snapshot build(List<Achievement> achievements) {
+        Map<RuleKey, List<Achievement>> indexed = new HashMap<>();
+        Map<RuleKey, List<Achievement>> unindexed = new HashMap<>();
+        for (Achievement achievement : achievements) {
+            if (!Boolean.TRUE.equals(achievement.getIsActive())
+                || achievement.getCheckLogicDataSource() == null
+                || achievement.getCheckLogicDataField() == null) {
+                continue;
+            }
+            RuleKey key = new RuleKey(achievement.getCheckLogicDataSource(), achievement.getCheckLogicDataField());
+            Map<RuleKey, List<Achievement>> target = threshold(achievement) != null ? indexed : unindexed;
+            target.computeIfAbsent(key, k -> new ArrayList<>()).add(achievement);
+        }
+
+        Map<RuleKey, Rules> rules = new HashMap<>();
+        indexed.forEach((key, list) -> rules.put(key, Rules.of(list, unindexed.getOrDefault(key, List.of()))));
+        unindexed.forEach((key, list) -> rules.putIfAbsent(key, Rules.of(List.of(), list)));
+        log.info("업적 규칙 인덱스 생성: keys={}, achievements={}", rules.size(), achievements.size());
+        return new Snapshot(Map.copyOf(rules), System.nanoTime());
+    }
+
+    /**
+     * 현재 값이 이 값 이상이면 조건을 만족하는 기준값 (단조 조건이 아니면 null)
+     * GT 는 정수 카운터 기준으로 requiredCount + 1 이상과 같다.
+     */
+    static Long threshold(Achievement achievement) {
+        if (achievement.getRequiredCount() == null || achievement.getMissionCategoryId() != null) {
+            return null;
+        }
+        ComparisonOperator operator = ComparisonOperator.fromCode(achievement.getComparisonOperator());
+        return switch (operator) {
+            case GTE -> (long) achievement.getRequiredCount();
+            case GT -> achievement.getRequiredCount() + 1L;
+            default -> null;
+        };
+    }
+
+    record RuleKey(String dataSource, String dataField) {}
+
+    record Snapshot(Map<RuleKey, Rules> rules, long builtAt) {}
+
+    /**
+     * 한 (데이터 소스, 데이터 필드)의 업적 규칙
+     *
+     * @param thresholds 기준값 오름차순 (sorted 와 같은 순서)
+     * @param sorted     단조 조건 업적
+     * @param unindexed  값 하나로 판정할 수 없어 항상 평가해야 하는 업적
+     */
+    public record Rules(long[] thresholds, List<Achievement> sorted, List<Achievement> unindexed) {
+
+        static final Rules EMPTY = new Rules(new long[0], List.of(), List.of());
+
+        static Rules of(List<Achievement> indexed, List<Achievement> unindexed) {
+            List<Achievement> sorted = new ArrayList<>(indexed);
+            sorted.sort(Comparator.comparingLong(AchievementRuleIndex::threshold));
+            long[] thresholds = sorted.stream().mapToLong(AchievementRuleIndex::threshold).toArray();
+            return new Rules(thresholds, Collections.unmodifiableList(sorted), List.copyOf(unindexed));
+        }
+
+        public boolean isEmpty() {
+            return sorted.isEmpty() && unindexed.isEmpty();
+        }
+
+        /**
+         * 현재 값으로 조건을 만족하는 업적 (기준값 <= value, 이분 탐색)
+         */
+        public List<Achievement> reached(long value) {
+            return sorted.subList(0, upperBound(value));
+        }
+
+        /**
+         * 현재 값으로 아직 도달하지 못한 업적 (진행도만 갱신 대상)
+         */
+        public List<Achievement> notReached(long value) {
+            return sorted.subList(upperBound(value), sorted.size());
+        }
+
+        /** value 이하인 기준값 개수 */
+        private int upperBound(long value) {
+            int low = 0;
+            int high = thresholds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (thresholds[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 업적 규칙 인덱스 무효화용 Redis pub/sub 리스너 설정
+ */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+public class AchievementRuleIndexConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final AchievementRuleIndex achievementRuleIndex;
+
+    @Bean
+    public RedisMessageListenerContainer achievementRuleIndexListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(achievementRuleIndex, new ChannelTopic(AchievementRuleIndex.CHANNEL));
+        return container;
+    }
+}
@@ -27,11 +27,15 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.Us
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
 import io.pinkspider.leveluptogethermvp.metaservice.domain.dto.MissionCategoryResponse;
 import io.pinkspider.global.enums.ExpSourceType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import static io.pinkspider.global.config.AsyncConfig.EVENT_EXECUTOR;
 
@@ -58,6 +62,7 @@ public class AchievementService {
     private final ApplicationEventPublisher eventPublisher;
     private final AchievementCheckStrategyRegistry strategyRegistry;
     private final AchievementCacheService achievementCacheService;
+    private final AchievementRuleIndex achievementRuleIndex;
     private final UserStatsRepository userStatsRepository;
     private final UserExperienceRepository userExperienceRepository;
     private final UserCategoryExperienceRepository userCategoryExperienceRepository;
@@ -323,6 +328,78 @@ public class AchievementService {
         }
     }
 
+    /**
+     * 값이 바뀐 데이터 필드에 걸린 업적만 체크합니다 (소셜 카운터 증감 경로).
+     * AchievementRuleIndex 의 기준값 이분 탐색으로 현재 값이 도달한 업적만 Strategy 로 평가하고,
+     * 이미 완료된 업적은 평가를 건너뛰고 진행도만 보정합니다. 도달하지 못한 업적은 행이 없으면 만들고 진행도만 일괄 갱신합니다.
+     * 값이 숫자가 아니거나 인덱싱할 수 없는 업적(비단조 연산자 등)은 기존처럼 개별 평가합니다.
+     * 트랜잭션 분리 이유는 checkAchievementsByDataSource 와 동일 (QA-178).
+     *
+     * @param userId 사용자 ID
+     * @param dataSource 데이터 소스
+     * @param dataFields 값이 바뀐 데이터 필드 (별칭 포함)
+     */
+    @Transactional(
+            transactionManager = "gamificationTransactionManager",
+            propagation = Propagation.REQUIRES_NEW)
+    public void checkAchievementsByDataFields(String userId, String dataSource, Collection<String> dataFields) {
+        AchievementCheckStrategy strategy = strategyRegistry.getStrategy(dataSource);
+        if (strategy == null) {
+            log.warn("알 수 없는 데이터 소스입니다: {}", dataSource);
+            return;
+        }
+
+        for (String dataField : dataFields) {
+            AchievementRuleIndex.Rules rules = achievementRuleIndex.rules(dataSource, dataField);
+            for (Achievement achievement : rules.unindexed()) {
+                checkAndUpdateAchievementDynamic(userId, achievement, strategy);
+            }
+            if (rules.sorted().isEmpty()) {
+                continue;
+            }
+
+            if (!(strategy.fetchCurrentValue(userId, dataField) instanceof Number value)) {
+                for (Achievement achievement : rules.sorted()) {
+                    checkAndUpdateAchievementDynamic(userId, achievement, strategy);
+                }
+                continue;
+            }
+
+            int count = (int) Math.min(value.longValue(), Integer.MAX_VALUE);
+            // 완료 판정 없이 진행도만 반영할 업적 (완료한 업적의 stale 보정 + 도달하지 못한 업적)
+            List<Long> progressIds = new ArrayList<>();
+
+            List<Achievement> reached = rules.reached(value.longValue());
+            if (!reached.isEmpty()) {
+                Set<Long> completed = Set.copyOf(
+                    userAchievementRepository.findCompletedAchievementIds(userId, achievementIds(reached)));
+                for (Achievement achievement : reached) {
+                    if (completed.contains(achievement.getId())) {
+                        progressIds.add(achievement.getId());
+                    } else {
+                        checkAndUpdateAchievementDynamic(userId, achievement, strategy);
+                    }
+                }
+            }
+
+            List<Achievement> notReached = rules.notReached(value.longValue());
+            if (!notReached.isEmpty()) {
+                List<Long> notReachedIds = achievementIds(notReached);
+                // 기존 경로(getOrCreateUserAchievement)처럼 진행 행이 없으면 만든다
+                userAchievementRepository.insertMissingProgress(userId, notReachedIds, count, LocalDateTime.now());
+                progressIds.addAll(notReachedIds);
+            }
+
+            if (!progressIds.isEmpty()) {
+                userAchievementRepository.updateProgress(userId, progressIds, count);
+            }
+        }
+    }
+
+    private static List<Long> achievementIds(List<Achievement> achievements) {
+        return achievements.stream().map(Achievement::getId).toList();
+    }
+
     /**
      * 체크 로직이 설정된 모든 활성 업적을 체크합니다.
      * 이벤트 발생 시 전체 업적을 체크하는 용도로 사용합니다.
@@ -334,11 +411,35 @@ public class AchievementService {
      */
     @Transactional(transactionManager = "gamificationTransactionManager")
     public void checkAllDynamicAchievements(String userId) {
+        checkDynamicAchievementsWithContext(userId, dataSource -> true);
+    }
+
+    /**
+     * 여러 데이터 소스의 업적을 컨텍스트 1회 로드로 체크하고 완료된 업적 보상을 자동 수령합니다.
+     * AchievementSyncCoordinator 가 사용자별로 합친 체크 요청을 한 번에 실행할 때 사용합니다.
+     * 트랜잭션 분리 이유는 checkAchievementsByDataSource 와 동일 (QA-178).
+     *
+     * @param userId 사용자 ID
+     * @param dataSources 체크할 데이터 소스 목록
+     */
+    @Transactional(
+            transactionManager = "gamificationTransactionManager",
+            propagation = Propagation.REQUIRES_NEW)
+    public void checkAchievementsByDataSources(String userId, Collection<String> dataSources) {
+        Set<String> requested = Set.copyOf(dataSources);
+        checkDynamicAchievementsWithContext(userId, dataSource -> dataSource != null && requested.contains(dataSource));
+        autoClaimRewards(userId);
+    }
+
+    private void checkDynamicAchievementsWithContext(String userId, Predicate<String> dataSourceFilter) {
         AchievementSyncContext ctx = buildSyncContext(userId);
         List<Achievement> achievements = achievementCacheService.getAchievementsWithCheckLogic();
 
         for (Achievement achievement : achievements) {
             String dataSource = achievement.getCheckLogicDataSource();
+            if (!dataSourceFilter.test(dataSource)) {
+                continue;
+            }
             AchievementCheckStrategy strategy = strategyRegistry.getStrategy(dataSource);
 
             if (strategy != null) {
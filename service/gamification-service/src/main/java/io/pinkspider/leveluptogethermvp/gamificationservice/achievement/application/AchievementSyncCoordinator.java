@@ -0,0 +1,254 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 업적 체크/동기화 조정 (debounce + single-flight, 인스턴스 로컬)
+ *
+ * 홈 진입마다 호출되는 전체 동기화와 경험치 지급마다 발행되는 데이터 소스 체크를 사용자 단위로 합친다.
+ * - debounce: 첫 요청 후 debounce 동안 들어온 요청은 같은 실행에 합쳐진다.
+ * - single-flight: 사용자당 동시에 1개만 실행하고, 실행 중 들어온 요청은 끝난 뒤 1회 후속 실행으로 합친다.
+ * - 합친 요청에 전체 동기화가 있으면 syncUserAchievements 1회, 아니면 요청된 데이터 소스만 한 번의 컨텍스트 로드로 체크한다.
+ *
+ * 대기 중인 요청은 메모리에만 있으므로 종료 시 유실될 수 있다. 다음 홈 진입의 전체 동기화가 누락분을 보정한다.
+ *
+ * 지표: achievement.sync.requests(요청), achievement.sync.coalesced(기존 실행에 합쳐진 요청),
+ * achievement.sync.executions(type=full|sources), achievement.sync.pending(대기/실행 중 사용자 수)
+ */
+@Slf4j
+@Component
+public class AchievementSyncCoordinator {
+
+    private final AchievementService achievementService;
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+    private final Duration debounce;
+
+    private final Map<String, UserSync> syncs = new ConcurrentHashMap<>();
+
+    private final Counter requestCounter;
+    private final Counter coalescedCounter;
+    private final Counter fullExecutionCounter;
+    private final Counter sourcesExecutionCounter;
+
+    @Autowired
+    public AchievementSyncCoordinator(
+        AchievementService achievementService,
+        @Value("${achievement.sync.enabled:true}") boolean enabled,
+        @Value("${achievement.sync.debounce:2s}") Duration debounce,
+        MeterRegistry meterRegistry) {
+        this(achievementService, createTaskScheduler(), enabled, debounce, meterRegistry);
+    }
+
+    AchievementSyncCoordinator(
+        AchievementService achievementService,
+        TaskScheduler taskScheduler,
+        boolean enabled,
+        Duration debounce,
+        MeterRegistry meterRegistry) {
+        this.achievementService = achievementService;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+        this.debounce = debounce;
+
+        this.requestCounter = Counter.builder("achievement.sync.requests")
+            .description("업적 체크/동기화 요청")
+            .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("achievement.sync.coalesced")
+            .description("대기/실행 중인 동기화에 합쳐진 요청")
+            .register(meterRegistry);
+        this.fullExecutionCounter = executionCounter(meterRegistry, "full");
+        this.sourcesExecutionCounter = executionCounter(meterRegistry, "sources");
+        Gauge.builder("achievement.sync.pending", syncs, Map::size)
+            .description("동기화 대기/실행 중인 사용자 수")
+            .register(meterRegistry);
+    }
+
+    private static Counter executionCounter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("achievement.sync.executions")
+            .description("실제 실행된 업적 체크/동기화")
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+
+    private static TaskScheduler createTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("achievement-sync-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * 전체 업적 동기화 요청 (홈 진입)
+     */
+    public void requestFullSync(String userId) {
+        submit(userId, true, List.of());
+    }
+
+    /**
+     * 데이터 소스별 업적 체크 요청 (소스 데이터 갱신 커밋 후)
+     */
+    public void requestCheck(String userId, Collection<String> dataSources) {
+        submit(userId, false, dataSources);
+    }
+
+    int pendingUsers() {
+        return syncs.size();
+    }
+
+    private void submit(String userId, boolean full, Collection<String> dataSources) {
+        requestCounter.increment();
+        if (!enabled) {
+            try {
+                execute(userId, new Pass(full, new LinkedHashSet<>(dataSources)));
+            } catch (Exception e) {
+                log.warn("업적 동기화 실패: userId={}, error={}", userId, e.getMessage());
+            }
+            return;
+        }
+
+        boolean[] schedule = {false};
+        syncs.compute(userId, (id, state) -> {
+            UserSync sync = state != null ? state : new UserSync();
+            sync.add(full, dataSources);
+            if (!sync.scheduled && !sync.running) {
+                sync.scheduled = true;
+                schedule[0] = true;
+            }
+            return sync;
+        });
+
+        if (schedule[0]) {
+            scheduleRun(userId);
+        } else {
+            coalescedCounter.increment();
+        }
+    }
+
+    private void scheduleRun(String userId) {
+        taskScheduler.schedule(() -> run(userId), Instant.now().plus(debounce));
+    }
+
+    void run(String userId) {
+        Pass[] pass = {null};
+        syncs.computeIfPresent(userId, (id, sync) -> {
+            sync.scheduled = false;
+            sync.running = true;
+            pass[0] = sync.drain();
+            return sync;
+        });
+        if (pass[0] == null) {
+            return;
+        }
+
+        try {
+            execute(userId, pass[0]);
+        } catch (Exception e) {
+            log.warn("업적 동기화 실패: userId={}, error={}", userId, e.getMessage());
+        } finally {
+            boolean[] again = {false};
+            syncs.computeIfPresent(userId, (id, sync) -> {
+                sync.running = false;
+                if (sync.hasPending()) {
+                    sync.scheduled = true;
+                    again[0] = true;
+                    return sync;
+                }
+                return null;
+            });
+            if (again[0]) {
+                scheduleRun(userId);
+            }
+        }
+    }
+
+    private void execute(String userId, Pass pass) {
+        if (pass.full()) {
+            fullExecutionCounter.increment();
+            achievementService.syncUserAchievements(userId);
+            return;
+        }
+        if (pass.dataSources().isEmpty()) {
+            return;
+        }
+
+        sourcesExecutionCounter.increment();
+        if (pass.dataSources().size() == 1) {
+            checkDataSource(userId, pass.dataSources().iterator().next());
+            return;
+        }
+        try {
+            achievementService.checkAchievementsByDataSources(userId, pass.dataSources());
+        } catch (Exception e) {
+            // 합친 체크가 실패하면 한 소스의 실패가 나머지를 막지 않도록 소스별로 다시 체크
+            log.warn("업적 일괄 체크 실패, 소스별 재시도: userId={}, dataSources={}, error={}",
+                userId, pass.dataSources(), e.getMessage());
+            pass.dataSources().forEach(dataSource -> checkDataSource(userId, dataSource));
+        }
+    }
+
+    private void checkDataSource(String userId, String dataSource) {
+        try {
+            achievementService.checkAchievementsByDataSource(userId, dataSource);
+        } catch (Exception e) {
+            log.warn("업적 체크 실패: userId={}, dataSource={}, error={}", userId, dataSource, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (taskScheduler instanceof ThreadPoolTaskScheduler tps) {
+            tps.shutdown();
+        }
+    }
+
+    /**
+     * 한 번에 실행할 요청 묶음
+     */
+    record Pass(boolean full, Set<String> dataSources) {}
+
+    /**
+     * 사용자별 대기 요청 + 실행 상태 (ConcurrentHashMap.compute 안에서만 변경)
+     */
+    private static final class UserSync {
+
+        private boolean full;
+        private Set<String> dataSources = new LinkedHashSet<>();
+        private boolean scheduled;
+        private boolean running;
+
+        void add(boolean fullRequested, Collection<String> requested) {
+            full |= fullRequested;
+            dataSources.addAll(requested);
+        }
+
+        boolean hasPending() {
+            return full || !dataSources.isEmpty();
+        }
+
+        Pass drain() {
+            Pass pass = new Pass(full, dataSources);
+            full = false;
+            dataSources = new LinkedHashSet<>();
+            return pass;
+        }
+    }
+}
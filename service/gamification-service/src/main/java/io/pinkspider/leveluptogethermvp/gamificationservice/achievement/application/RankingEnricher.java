@@ -0,0 +1,100 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application;
+
+import io.pinkspider.global.enums.TitlePosition;
+import io.pinkspider.global.enums.TitleRarity;
+import io.pinkspider.global.facade.UserQueryFacade;
+import io.pinkspider.global.facade.dto.UserProfileInfo;
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserExperience;
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserTitle;
+import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserExperienceRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 목록 부가 정보(레벨, 장착 칭호, 프로필) 배치 로더
+ *
+ * 페이지의 사용자 ID를 한 번에 넘겨 행 수와 관계없이 고정 3회 조회로 채운다.
+ * (레벨: findByUserIdIn, 칭호: TitleService.getEquippedTitleEntitiesByUserIds, 프로필: getUserProfiles 캐시)
+ */
+@Component
+@RequiredArgsConstructor
+public class RankingEnricher {
+
+    private static final TitleInfo EMPTY_TITLE = new TitleInfo(null, null, null, null, null, null, null);
+
+    private final UserExperienceRepository userExperienceRepository;
+    private final TitleService titleService;
+    private final UserQueryFacade userQueryFacadeService;
+
+    /**
+     * 칭호 정보 (이름, 등급, 색상 코드, 좌/우 개별 정보)를 담는 레코드
+     */
+    public record TitleInfo(String name, TitleRarity rarity, String colorCode,
+                            String leftTitle, TitleRarity leftRarity,
+                            String rightTitle, TitleRarity rightRarity) {}
+
+    /**
+     * 사용자별 부가 정보 조회 결과 (없는 사용자는 기본값)
+     */
+    public record Enrichment(Map<String, UserExperience> experiences,
+                             Map<String, TitleInfo> titles,
+                             Map<String, UserProfileInfo> profiles) {
+
+        public UserExperience experience(String userId) {
+            return experiences.get(userId);
+        }
+
+        public Integer level(String userId) {
+            UserExperience exp = experiences.get(userId);
+            return exp != null ? exp.getCurrentLevel() : 1;
+        }
+
+        public TitleInfo title(String userId) {
+            return titles.getOrDefault(userId, EMPTY_TITLE);
+        }
+
+        public UserProfileInfo profile(String userId) {
+            return profiles.get(userId);
+        }
+    }
+
+    public Enrichment load(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return new Enrichment(Map.of(), Map.of(), Map.of());
+        }
+
+        Map<String, UserExperience> experiences = userExperienceRepository.findByUserIdIn(userIds).stream()
+            .collect(Collectors.toMap(UserExperience::getUserId, Function.identity(), (a, b) -> a));
+
+        Map<String, TitleInfo> titles = titleService.getEquippedTitleEntitiesByUserIds(userIds).entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> titleInfo(entry.getValue())));
+
+        Map<String, UserProfileInfo> profiles = userQueryFacadeService.getUserProfiles(userIds);
+
+        return new Enrichment(experiences, titles, profiles != null ? profiles : Map.of());
+    }
+
+    /**
+     * 장착된 칭호 목록을 조합 정보로 변환 (LEFT + RIGHT)
+     * 예: "용감한 전사", 최고 등급, 색상 코드 — 조합 규칙은 TitleService 와 같다
+     */
+    public TitleInfo titleInfo(List<UserTitle> equippedTitles) {
+        if (equippedTitles == null || equippedTitles.isEmpty()) {
+            return EMPTY_TITLE;
+        }
+
+        TitleService.TitleInfo combined = TitleService.combine(equippedTitles);
+        UserTitle leftUserTitle = TitleService.equipped(equippedTitles, TitlePosition.LEFT);
+        UserTitle rightUserTitle = TitleService.equipped(equippedTitles, TitlePosition.RIGHT);
+
+        return new TitleInfo(combined.name(), combined.rarity(), combined.colorCode(),
+            leftUserTitle != null ? leftUserTitle.getTitle().getDisplayName() : null,
+            leftUserTitle != null ? leftUserTitle.getTitle().getRarity() : null,
+            rightUserTitle != null ? rightUserTitle.getTitle().getDisplayName() : null,
+            rightUserTitle != null ? rightUserTitle.getTitle().getRarity() : null);
+    }
+}
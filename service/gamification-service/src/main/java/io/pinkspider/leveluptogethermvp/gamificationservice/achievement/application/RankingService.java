@@ -1,16 +1,16 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application;
 
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.domain.dto.LevelRankingResponse;
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.RankingEnricher.TitleInfo;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.domain.dto.RankingResponse;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserStats;
-import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserTitle;
-import io.pinkspider.global.enums.TitlePosition;
-import io.pinkspider.global.enums.TitleRarity;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserStatsRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserTitleRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserExperience;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserExperienceRepository;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.Board;
 import io.pinkspider.global.facade.UserQueryFacade;
 import io.pinkspider.global.facade.dto.UserProfileInfo;
 import java.util.ArrayList;
@@ -19,7 +19,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -41,6 +43,8 @@ public class RankingService {
     private final UserExperienceRepository userExperienceRepository;
     private final UserQueryFacade userQueryFacadeService;
     private final ExperienceHistoryRepository experienceHistoryRepository;
+    private final RankingLeaderboard rankingLeaderboard;
+    private final RankingEnricher rankingEnricher;
 
     // 종합 랭킹 (랭킹 포인트 기준)
     public Page<RankingResponse> getOverallRanking(Pageable pageable) {
@@ -82,7 +86,9 @@ public class RankingService {
                 .build();
         }
 
-        Long rank = userStatsRepository.findUserRank(userId);
+        // 리더보드(Redis)를 쓸 수 없으면 DB COUNT 쿼리로 계산
+        Long rank = rankingLeaderboard.rankOf(Board.OVERALL, userId)
+            .orElseGet(() -> userStatsRepository.findUserRank(userId));
 
         // 유저 추가 정보 조회
         Integer userLevel = userExperienceRepository.findByUserId(userId)
@@ -97,6 +103,11 @@ public class RankingService {
 
     // 주변 랭킹 조회 (내 위아래 N명)
     public List<RankingResponse> getNearbyRanking(String userId, int range) {
+        Optional<List<RankingLeaderboard.Entry>> entries = rankingLeaderboard.around(Board.OVERALL, userId, range);
+        if (entries.isPresent()) {
+            return toNearbyResponses(entries.get());
+        }
+
         Long myRank = userStatsRepository.findUserRank(userId);
         if (myRank == null || myRank == 0) {
             return List.of();
@@ -118,6 +129,26 @@ public class RankingService {
         return result;
     }
 
+    private List<RankingResponse> toNearbyResponses(List<RankingLeaderboard.Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<String> userIds = entries.stream()
+            .map(RankingLeaderboard.Entry::userId)
+            .collect(Collectors.toList());
+        Map<String, UserStats> statsMap = userStatsRepository.findByUserIdIn(userIds).stream()
+            .collect(Collectors.toMap(UserStats::getUserId, Function.identity()));
+
+        List<RankingResponse> result = new ArrayList<>();
+        for (RankingLeaderboard.Entry entry : entries) {
+            UserStats stats = statsMap.get(entry.userId());
+            if (stats != null) {
+                result.add(RankingResponse.from(stats, entry.rank()));
+            }
+        }
+        return result;
+    }
+
     private Page<RankingResponse> convertToRankingResponse(Page<UserStats> statsPage, Pageable pageable) {
         // 탈퇴 사용자 필터링
         List<String> userIds = statsPage.getContent().stream()
@@ -125,6 +156,11 @@ public class RankingService {
             .collect(Collectors.toList());
         Set<String> activeUserIds = new HashSet<>(userQueryFacadeService.getActiveUserIds(userIds));
 
+        // 레벨/칭호/프로필 페이지 단위 배치 조회 (행 수와 무관하게 고정 쿼리 수)
+        RankingEnricher.Enrichment enrichment = rankingEnricher.load(userIds.stream()
+            .filter(activeUserIds::contains)
+            .collect(Collectors.toList()));
+
         List<RankingResponse> responses = new ArrayList<>();
         long startRank = pageable.getOffset() + 1;
 
@@ -133,15 +169,11 @@ public class RankingService {
                 continue;
             }
 
-            // 유저 레벨 조회
-            Integer userLevel = userExperienceRepository.findByUserId(stats.getUserId())
-                .map(exp -> exp.getCurrentLevel())
-                .orElse(1);
+            UserProfileInfo profile = enrichment.profile(stats.getUserId());
+            TitleInfo titleInfo = enrichment.title(stats.getUserId());
 
-            // 장착된 칭호 조회 (LEFT + RIGHT 조합 및 등급)
-            TitleInfo titleInfo = getCombinedEquippedTitleInfo(stats.getUserId());
-
-            responses.add(RankingResponse.from(stats, startRank++, null, userLevel,
+            responses.add(RankingResponse.from(stats, startRank++,
+                profile != null ? profile.nickname() : null, enrichment.level(stats.getUserId()),
                 titleInfo.name(), titleInfo.rarity(), titleInfo.colorCode(),
                 titleInfo.leftTitle(), titleInfo.leftRarity(), titleInfo.rightTitle(), titleInfo.rightRarity()));
         }
@@ -222,15 +254,15 @@ public class RankingService {
         List<String> sliceIds = slice.stream()
             .map(UserExperience::getUserId)
             .collect(Collectors.toList());
-        Map<String, UserProfileInfo> profileMap = userQueryFacadeService.getUserProfiles(sliceIds);
+        RankingEnricher.Enrichment enrichment = rankingEnricher.load(sliceIds);
 
         List<LevelRankingResponse> responses = new ArrayList<>();
         for (int i = 0; i < slice.size(); i++) {
             UserExperience exp = slice.get(i);
-            UserProfileInfo profile = profileMap.get(exp.getUserId());
+            UserProfileInfo profile = enrichment.profile(exp.getUserId());
             String nickname = profile != null ? profile.nickname() : null;
             String profileImageUrl = profile != null ? profile.picture() : null;
-            TitleInfo titleInfo = getCombinedEquippedTitleInfo(exp.getUserId());
+            TitleInfo titleInfo = enrichment.title(exp.getUserId());
 
             responses.add(LevelRankingResponse.from(
                 exp, ranks[from + i], totalUsers, nickname, profileImageUrl,
@@ -287,7 +319,7 @@ public class RankingService {
         List<String> sliceIds = slice.stream()
             .map(row -> (String) row[0])
             .collect(Collectors.toList());
-        Map<String, UserProfileInfo> profileMap = userQueryFacadeService.getUserProfiles(sliceIds);
+        RankingEnricher.Enrichment enrichment = rankingEnricher.load(sliceIds);
 
         List<LevelRankingResponse> responses = new ArrayList<>();
         for (int i = 0; i < slice.size(); i++) {
@@ -295,9 +327,9 @@ public class RankingService {
             long categoryExp = categoryExpOf(slice.get(i));
             long rank = ranks[from + i];
 
-            UserProfileInfo profile = profileMap.get(userId);
-            UserExperience userExp = userExperienceRepository.findByUserId(userId).orElse(null);
-            TitleInfo titleInfo = getCombinedEquippedTitleInfo(userId);
+            UserProfileInfo profile = enrichment.profile(userId);
+            UserExperience userExp = enrichment.experience(userId);
+            TitleInfo titleInfo = enrichment.title(userId);
 
             responses.add(LevelRankingResponse.builder()
                 .rank(rank)
@@ -387,80 +419,11 @@ public class RankingService {
         return Math.round((double) rank / totalUsers * 1000) / 10.0;
     }
 
-    /**
-     * 칭호 정보 (이름, 등급, 색상 코드, 좌/우 개별 정보)를 담는 레코드
-     */
-    public record TitleInfo(String name, TitleRarity rarity, String colorCode,
-                            String leftTitle, TitleRarity leftRarity,
-                            String rightTitle, TitleRarity rightRarity) {}
-
     /**
      * 사용자의 장착된 칭호 조합 정보 조회 (LEFT + RIGHT)
      * 예: "용감한 전사", 최고 등급, 색상 코드
      */
     private TitleInfo getCombinedEquippedTitleInfo(String userId) {
-        List<UserTitle> equippedTitles = userTitleRepository.findEquippedTitlesByUserId(userId);
-        if (equippedTitles.isEmpty()) {
-            return new TitleInfo(null, null, null, null, null, null, null);
-        }
-
-        UserTitle leftUserTitle = equippedTitles.stream()
-            .filter(ut -> ut.getEquippedPosition() == TitlePosition.LEFT)
-            .findFirst()
-            .orElse(null);
-
-        UserTitle rightUserTitle = equippedTitles.stream()
-            .filter(ut -> ut.getEquippedPosition() == TitlePosition.RIGHT)
-            .findFirst()
-            .orElse(null);
-
-        String leftTitle = leftUserTitle != null ? leftUserTitle.getTitle().getDisplayName() : null;
-        String rightTitle = rightUserTitle != null ? rightUserTitle.getTitle().getDisplayName() : null;
-
-        // 조합된 칭호 이름
-        String combinedTitle;
-        if (leftTitle == null && rightTitle == null) {
-            combinedTitle = null;
-        } else if (leftTitle == null) {
-            combinedTitle = rightTitle;
-        } else if (rightTitle == null) {
-            combinedTitle = leftTitle;
-        } else {
-            combinedTitle = leftTitle + " " + rightTitle;
-        }
-
-        // 좌/우 개별 등급
-        TitleRarity leftRarity = leftUserTitle != null ? leftUserTitle.getTitle().getRarity() : null;
-        TitleRarity rightRarity = rightUserTitle != null ? rightUserTitle.getTitle().getRarity() : null;
-        TitleRarity highestRarity = getHighestRarity(leftRarity, rightRarity);
-
-        // 가장 높은 등급의 색상 코드 선택
-        String colorCode = null;
-        if (highestRarity != null) {
-            if (leftRarity == highestRarity && leftUserTitle != null) {
-                colorCode = leftUserTitle.getTitle().getColorCode();
-            } else if (rightUserTitle != null) {
-                colorCode = rightUserTitle.getTitle().getColorCode();
-            }
-        }
-
-        return new TitleInfo(combinedTitle, highestRarity, colorCode,
-            leftTitle, leftRarity, rightTitle, rightRarity);
-    }
-
-    /**
-     * 기존 호환용 - 칭호 이름만 조회
-     */
-    private String getCombinedEquippedTitleName(String userId) {
-        return getCombinedEquippedTitleInfo(userId).name();
-    }
-
-    /**
-     * 두 등급 중 더 높은 등급 반환
-     */
-    private TitleRarity getHighestRarity(TitleRarity r1, TitleRarity r2) {
-        if (r1 == null) return r2;
-        if (r2 == null) return r1;
-        return r1.ordinal() > r2.ordinal() ? r1 : r2;
+        return rankingEnricher.titleInfo(userTitleRepository.findEquippedTitlesByUserId(userId));
     }
 }
@@ -86,20 +86,32 @@ public class TitleService {
      */
     @Cacheable(value = "userTitleInfo", key = "#userId")
     public TitleInfo getCombinedEquippedTitleInfo(String userId) {
-        List<UserTitle> equippedTitles = userTitleRepository.findEquippedTitlesByUserId(userId);
-        if (equippedTitles.isEmpty()) {
-            return new TitleInfo(null, null, null);
+        return combine(userTitleRepository.findEquippedTitlesByUserId(userId));
+    }
+
+    /**
+     * 여러 사용자의 장착 칭호 조합 정보 배치 조회 (장착 칭호가 없는 사용자는 빈 정보)
+     */
+    public Map<String, TitleInfo> getCombinedEquippedTitleInfoMap(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
         }
+        Map<String, List<UserTitle>> equippedTitles = getEquippedTitleEntitiesByUserIds(userIds);
+        return userIds.stream()
+            .distinct()
+            .collect(Collectors.toMap(userId -> userId, userId -> combine(equippedTitles.get(userId))));
+    }
 
-        UserTitle leftUserTitle = equippedTitles.stream()
-            .filter(ut -> ut.getEquippedPosition() == TitlePosition.LEFT)
-            .findFirst()
-            .orElse(null);
+    /**
+     * 장착된 칭호 목록을 조합 정보로 변환 (LEFT + RIGHT 이름, 가장 높은 등급과 그 색상 코드)
+     */
+    static TitleInfo combine(List<UserTitle> equippedTitles) {
+        if (equippedTitles == null || equippedTitles.isEmpty()) {
+            return new TitleInfo(null, null, null);
+        }
 
-        UserTitle rightUserTitle = equippedTitles.stream()
-            .filter(ut -> ut.getEquippedPosition() == TitlePosition.RIGHT)
-            .findFirst()
-            .orElse(null);
+        UserTitle leftUserTitle = equipped(equippedTitles, TitlePosition.LEFT);
+        UserTitle rightUserTitle = equipped(equippedTitles, TitlePosition.RIGHT);
 
         String leftTitle = leftUserTitle != null ? leftUserTitle.getTitle().getDisplayName() : null;
         String rightTitle = rightUserTitle != null ? rightUserTitle.getTitle().getDisplayName() : null;
@@ -131,6 +143,16 @@ public class TitleService {
         return new TitleInfo(combinedTitle, highestRarity, colorCode);
     }
 
+    /**
+     * 해당 위치에 장착된 칭호 (없으면 null)
+     */
+    static UserTitle equipped(List<UserTitle> equippedTitles, TitlePosition position) {
+        return equippedTitles.stream()
+            .filter(ut -> ut.getEquippedPosition() == position)
+            .findFirst()
+            .orElse(null);
+    }
+
     /**
      * 장착된 칭호의 상세 정보 반환 (개별 좌/우 칭호 정보 포함)
      */
@@ -276,7 +298,7 @@ public class TitleService {
     /**
      * 두 등급 중 더 높은 등급 반환
      */
-    private TitleRarity getHighestRarity(TitleRarity r1, TitleRarity r2) {
+    private static TitleRarity getHighestRarity(TitleRarity r1, TitleRarity r2) {
         if (r1 == null) return r2;
         if (r2 == null) return r1;
         return r1.ordinal() > r2.ordinal() ? r1 : r2;
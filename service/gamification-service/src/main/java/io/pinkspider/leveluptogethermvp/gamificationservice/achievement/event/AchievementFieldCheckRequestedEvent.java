@@ -0,0 +1,19 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 커밋 후 필드 단위 업적 체크 요청 이벤트 (gamification 서비스 내부 이벤트).
+ *
+ * <p>UserStatsCounterBuffer 가 소셜 카운터 변화량을 반영한 뒤 발행한다. 값이 바뀐 카운터 필드에 걸린 업적만
+ * 체크하며(AchievementRuleIndex), 체크는 AchievementEventListener 가 이벤트 스레드에서 실행하므로
+ * 카운터 반영 트랜잭션이나 flush 스레드를 붙잡지 않는다.
+ *
+ * @param userId 사용자 ID
+ * @param dataSources 체크할 데이터 소스 목록 (FEED_SERVICE, FRIEND_SERVICE 등)
+ * @param dataFields 값이 바뀐 데이터 필드
+ */
+public record AchievementFieldCheckRequestedEvent(String userId, Collection<String> dataSources,
+                                                  Set<String> dataFields) {
+}
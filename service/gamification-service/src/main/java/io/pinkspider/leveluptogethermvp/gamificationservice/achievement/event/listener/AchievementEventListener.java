@@ -3,7 +3,10 @@ package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.l
 import io.pinkspider.global.event.GuildJoinedEvent;
 import io.pinkspider.global.event.GuildMasterAssignedEvent;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementService;
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementSyncCoordinator;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.AchievementCheckRequestedEvent;
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.AchievementFieldCheckRequestedEvent;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -15,6 +18,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * 업적 관련 이벤트 리스너
  * - 길드 관련 이벤트 수신하여 업적 체크 처리
  * - 트랜잭션 커밋 후 비동기로 처리하여 주 트랜잭션에 영향 없음
+ * - 실제 체크는 AchievementSyncCoordinator 가 사용자별로 합쳐서 실행
  */
 @Component
 @Slf4j
@@ -23,6 +27,9 @@ public class AchievementEventListener {
 
     private static final String EVENT_EXECUTOR = "eventExecutor";
 
+    private static final List<String> GUILD_SERVICE = List.of("GUILD_SERVICE");
+
+    private final AchievementSyncCoordinator achievementSyncCoordinator;
     private final AchievementService achievementService;
 
     /**
@@ -33,12 +40,7 @@ public class AchievementEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleGuildJoined(GuildJoinedEvent event) {
         log.debug("길드 가입 이벤트 수신: userId={}, guildId={}", event.userId(), event.guildId());
-        try {
-            achievementService.checkAchievementsByDataSource(event.userId(), "GUILD_SERVICE");
-        } catch (Exception e) {
-            log.warn("길드 가입 업적 체크 실패: userId={}, guildId={}, error={}",
-                event.userId(), event.guildId(), e.getMessage());
-        }
+        achievementSyncCoordinator.requestCheck(event.userId(), GUILD_SERVICE);
     }
 
     /**
@@ -49,28 +51,35 @@ public class AchievementEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleGuildMasterAssigned(GuildMasterAssignedEvent event) {
         log.debug("길드 마스터 할당 이벤트 수신: userId={}, guildId={}", event.userId(), event.guildId());
-        try {
-            achievementService.checkAchievementsByDataSource(event.userId(), "GUILD_SERVICE");
-        } catch (Exception e) {
-            log.warn("길드 마스터 업적 체크 실패: userId={}, guildId={}, error={}",
-                event.userId(), event.guildId(), e.getMessage());
-        }
+        achievementSyncCoordinator.requestCheck(event.userId(), GUILD_SERVICE);
     }
 
     /**
      * 커밋 후 업적 체크 요청 처리 (경험치 지급, 출석 등 소스 데이터 갱신 트랜잭션에서 발행)
      * - 발행 트랜잭션 커밋 후 실행되므로 방금 갱신된 값이 체크에 반영된다
+     * - 연속 지급으로 들어온 요청은 coordinator 에서 사용자별 1회 체크로 합쳐진다
      */
     @Async(EVENT_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleAchievementCheckRequested(AchievementCheckRequestedEvent event) {
         log.debug("업적 체크 요청 이벤트 수신: userId={}, dataSources={}",
             event.userId(), event.dataSources());
+        achievementSyncCoordinator.requestCheck(event.userId(), event.dataSources());
+    }
+
+    /**
+     * 소셜 카운터 반영 후 필드 단위 업적 체크 (UserStatsCounterBuffer 에서 발행)
+     * - flush 스레드는 트랜잭션 밖에서 발행하므로 fallbackExecution 으로 바로 처리한다
+     * - 데이터 소스별로 실패를 격리한다
+     */
+    @Async(EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleAchievementFieldCheckRequested(AchievementFieldCheckRequestedEvent event) {
         for (String dataSource : event.dataSources()) {
             try {
-                achievementService.checkAchievementsByDataSource(event.userId(), dataSource);
+                achievementService.checkAchievementsByDataFields(event.userId(), dataSource, event.dataFields());
             } catch (Exception e) {
-                log.warn("업적 체크 실패: userId={}, dataSource={}, error={}",
+                log.warn("카운터 반영 후 업적 체크 실패: userId={}, dataSource={}, error={}",
                     event.userId(), dataSource, e.getMessage());
             }
         }
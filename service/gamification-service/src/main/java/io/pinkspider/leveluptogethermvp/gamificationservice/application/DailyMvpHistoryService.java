@@ -6,9 +6,9 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserEx
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserTitle;
 import io.pinkspider.global.enums.TitlePosition;
 import io.pinkspider.global.enums.TitleRarity;
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.DailyMvpCategoryStatsRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.DailyMvpHistoryRepository;
-import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserExperienceRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserTitleRepository;
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
@@ -40,7 +40,7 @@ public class DailyMvpHistoryService {
 
     private final DailyMvpHistoryRepository historyRepository;
     private final DailyMvpCategoryStatsRepository categoryStatsRepository;
-    private final ExperienceHistoryRepository experienceHistoryRepository;
+    private final ExperienceRollupService experienceRollupService;
     private final UserQueryFacade userQueryFacadeService;
     private final UserExperienceRepository userExperienceRepository;
     private final UserTitleRepository userTitleRepository;
@@ -85,7 +85,7 @@ public class DailyMvpHistoryService {
         LocalDateTime endDate = endZoned.withZoneSameInstant(ZoneId.of("UTC")).toLocalDateTime();
 
         // 1. 상위 5명의 MVP 조회
-        List<Object[]> topGainers = experienceHistoryRepository.findTopExpGainersByPeriod(
+        List<Object[]> topGainers = experienceRollupService.findTopExpGainersByPeriod(
             startDate, endDate, PageRequest.of(0, MVP_COUNT));
 
         if (topGainers.isEmpty()) {
@@ -112,7 +112,7 @@ public class DailyMvpHistoryService {
         // 6. 각 사용자별 카테고리 통계 조회
         Map<String, List<Object[]>> categoryStatsMap = new HashMap<>();
         for (String userId : userIds) {
-            List<Object[]> categoryStats = experienceHistoryRepository
+            List<Object[]> categoryStats = experienceRollupService
                 .findUserCategoryExpByPeriod(userId, startDate, endDate);
             categoryStatsMap.put(userId, categoryStats);
         }
@@ -199,7 +199,7 @@ public class DailyMvpHistoryService {
         LocalDateTime startDate = startZoned.withZoneSameInstant(ZoneId.of("UTC")).toLocalDateTime();
         LocalDateTime endDate = endZoned.withZoneSameInstant(ZoneId.of("UTC")).toLocalDateTime();
 
-        List<Object[]> topGainers = experienceHistoryRepository.findTopExpGainersByPeriod(
+        List<Object[]> topGainers = experienceRollupService.findTopExpGainersByPeriod(
             startDate, endDate, PageRequest.of(0, MVP_COUNT));
 
         if (topGainers.isEmpty()) {
@@ -221,7 +221,7 @@ public class DailyMvpHistoryService {
 
         Map<String, List<Object[]>> categoryStatsMap = new HashMap<>();
         for (String userId : userIds) {
-            List<Object[]> categoryStats = experienceHistoryRepository
+            List<Object[]> categoryStats = experienceRollupService
                 .findUserCategoryExpByPeriod(userId, startDate, endDate);
             categoryStatsMap.put(userId, categoryStats);
         }
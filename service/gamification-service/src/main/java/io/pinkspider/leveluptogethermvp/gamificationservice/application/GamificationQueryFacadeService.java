@@ -128,6 +128,15 @@ public class GamificationQueryFacadeService implements GamificationQueryFacade {
         return new TitleInfoDto(info.name(), info.rarity(), info.colorCode());
     }
 
+    @Override
+    public Map<String, TitleInfoDto> getCombinedEquippedTitleInfoMap(List<String> userIds) {
+        return titleService.getCombinedEquippedTitleInfoMap(userIds).entrySet().stream()
+            .collect(Collectors.toMap(
+                Map.Entry::getKey,
+                e -> new TitleInfoDto(e.getValue().name(), e.getValue().rarity(), e.getValue().colorCode())
+            ));
+    }
+
     @Override
     public DetailedTitleInfoDto getDetailedEquippedTitleInfo(String userId) {
         DetailedTitleInfo info = titleService.getDetailedEquippedTitleInfo(userId);
@@ -0,0 +1,86 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.enums.RollupGranularity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 경험치 기간 집계 (사용자 x 카테고리 x 시간/일 버킷)
+ *
+ * experience_history 중 획득(exp_amount > 0) 행만 집계한다. 카테고리가 없는 경험치는 category_name = ''로 모은다.
+ * 행은 ExperienceRollupRepository의 네이티브 upsert로만 갱신되므로 감사 컬럼을 두지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "experience_rollup",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_exp_rollup_bucket",
+        columnNames = {"granularity", "bucket_start", "user_id", "category_name"}
+    ),
+    indexes = {
+        @Index(name = "idx_exp_rollup_period", columnList = "granularity, bucket_start"),
+        @Index(name = "idx_exp_rollup_user", columnList = "user_id, granularity, bucket_start")
+    }
+)
+@Comment("경험치 기간 집계 (시간/일 버킷)")
+public class ExperienceRollup {
+
+    /** 카테고리 없는 경험치의 category_name 값 */
+    public static final String NO_CATEGORY = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    @Comment("ID")
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    @Comment("버킷 단위 (HOUR, DAY)")
+    private RollupGranularity granularity;
+
+    @NotNull
+    @Column(name = "bucket_start", nullable = false)
+    @Comment("버킷 시작 시각 (UTC)")
+    private LocalDateTime bucketStart;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    @Comment("사용자 ID")
+    private String userId;
+
+    @NotNull
+    @Column(name = "category_name", nullable = false, length = 50)
+    @Comment("카테고리명 (없으면 빈 문자열)")
+    private String categoryName;
+
+    @NotNull
+    @Column(name = "exp_amount", nullable = false)
+    @Comment("획득 경험치 합계")
+    private Long expAmount;
+
+    @NotNull
+    @Column(name = "activity_count", nullable = false)
+    @Comment("획득 건수")
+    private Integer activityCount;
+}
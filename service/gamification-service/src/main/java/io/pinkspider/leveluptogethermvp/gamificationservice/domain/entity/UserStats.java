@@ -18,6 +18,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter
@@ -32,6 +33,7 @@ import org.hibernate.annotations.Comment;
     )
 )
 @Comment("유저 통계")
+@DynamicUpdate // 소셜 카운터는 UserStatsCounterBuffer가 SQL 증감으로 갱신하므로 엔티티 저장 시 변경 컬럼만 쓴다
 public class UserStats extends LocalDateTimeBaseEntity {
 
     @Id
@@ -0,0 +1,26 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.domain.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경험치 롤업 버킷 단위 (버킷 시작 시각은 UTC 기준 절삭)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RollupGranularity {
+
+    HOUR("시간", ChronoUnit.HOURS, "hour"),
+    DAY("일", ChronoUnit.DAYS, "day");
+
+    private final String description;
+    private final ChronoUnit unit;
+    /** PostgreSQL date_trunc 단위 */
+    private final String dateTruncUnit;
+
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+}
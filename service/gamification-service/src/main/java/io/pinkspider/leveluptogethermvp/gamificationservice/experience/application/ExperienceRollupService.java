@@ -0,0 +1,214 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.experience.application;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.ExperienceRollup;
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.enums.RollupGranularity;
+import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
+import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceRollupRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 경험치 기간 집계 (experience_rollup) 기록/조회
+ *
+ * 경험치 획득 시 같은 트랜잭션에서 시간/일 버킷을 누적하고,
+ * 기간 조회(MVP, 시즌 랭킹, 캘린더)는 experience_history 원본 대신 버킷 합으로 계산한다.
+ * 기간은 일 버킷 + 양 끝 시간 버킷으로 나눠 읽으므로 조회 비용이 이력 건수가 아닌 기간 길이에 비례한다.
+ *
+ * 다음 경우는 원본 이력 쿼리로 조회한다.
+ * - 비활성화 또는 covered-from 미설정 (백필 전)
+ * - 시작 시각이 covered-from 이전 (집계 이전 구간)
+ * - 시작/종료 시각이 정시가 아님 (시간 버킷으로 나눌 수 없음)
+ * - 일별 합계의 타임존 오프셋이 정시 단위가 아님 (예: Asia/Kolkata)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true, transactionManager = "gamificationTransactionManager")
+public class ExperienceRollupService {
+
+    private final ExperienceRollupRepository experienceRollupRepository;
+    private final ExperienceHistoryRepository experienceHistoryRepository;
+
+    @Value("${experience.rollup.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 집계가 완료된 시작 시각 (UTC, ISO-8601). 이 시각 이후 기간만 집계에서 조회한다.
+     * 기존 이력을 {@link #rebuild(LocalDateTime, LocalDateTime)}로 백필한 뒤 설정한다.
+     */
+    @Value("${experience.rollup.covered-from:}")
+    private String coveredFrom;
+
+    /**
+     * 조회 기간 [start, end)를 일 버킷 [dayFrom, dayTo)와 양 끝 시간 버킷으로 나눈 결과
+     * 온전한 하루가 없으면 dayFrom = dayTo = end (전부 시간 버킷)
+     */
+    record Period(LocalDateTime start, LocalDateTime dayFrom, LocalDateTime dayTo, LocalDateTime end) {
+
+        static Period split(LocalDateTime start, LocalDateTime end) {
+            LocalDateTime dayFrom = start.truncatedTo(ChronoUnit.DAYS);
+            if (dayFrom.isBefore(start)) {
+                dayFrom = dayFrom.plusDays(1);
+            }
+            LocalDateTime dayTo = end.truncatedTo(ChronoUnit.DAYS);
+            if (!dayFrom.isBefore(dayTo)) {
+                return new Period(start, end, end, end);
+            }
+            return new Period(start, dayFrom, dayTo, end);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 경험치 획득 누적 (호출 측 트랜잭션에 참여)
+     */
+    @Transactional(transactionManager = "gamificationTransactionManager")
+    public void record(String userId, String categoryName, int expAmount, LocalDateTime occurredAt) {
+        if (!enabled || expAmount <= 0) {
+            return;
+        }
+        String category = categoryName != null ? categoryName : ExperienceRollup.NO_CATEGORY;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            experienceRollupRepository.accumulate(
+                granularity.name(), granularity.bucketOf(occurredAt), userId, category, expAmount);
+        }
+    }
+
+    /**
+     * 기간 [from, to)의 버킷을 원본 이력으로 다시 계산 (정시 경계로 확장)
+     * 아직 이력이 쓰이는 현재 시간대를 포함하면 동시 누적분과 어긋날 수 있으므로 닫힌 기간에만 사용한다.
+     *
+     * @return 갱신된 버킷 수
+     */
+    @Transactional(transactionManager = "gamificationTransactionManager")
+    public int rebuild(LocalDateTime from, LocalDateTime to) {
+        int updated = 0;
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            LocalDateTime start = granularity.bucketOf(from);
+            LocalDateTime end = granularity.bucketOf(to);
+            if (end.isBefore(to)) {
+                end = end.plus(1, granularity.getUnit());
+            }
+            updated += experienceRollupRepository.rebuild(
+                granularity.name(), granularity.getDateTruncUnit(), start, end);
+        }
+        log.info("경험치 집계 재계산: from={}, to={}, buckets={}", from, to, updated);
+        return updated;
+    }
+
+    public List<Object[]> findTopExpGainersByPeriod(LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        LocalDateTime alignedEnd = alignEnd(end);
+        if (!covers(start, alignedEnd)) {
+            return experienceHistoryRepository.findTopExpGainersByPeriod(start, end, pageable);
+        }
+        Period p = Period.split(start, alignedEnd);
+        return experienceRollupRepository.findTopExpGainersByPeriod(p.start(), p.dayFrom(), p.dayTo(), p.end(), pageable);
+    }
+
+    public List<Object[]> findTopExpGainersByCategoryAndPeriod(String categoryName, LocalDateTime start,
+                                                                LocalDateTime end, Pageable pageable) {
+        LocalDateTime alignedEnd = alignEnd(end);
+        if (!covers(start, alignedEnd)) {
+            return experienceHistoryRepository.findTopExpGainersByCategoryAndPeriod(categoryName, start, end, pageable);
+        }
+        Period p = Period.split(start, alignedEnd);
+        return experienceRollupRepository.findTopExpGainersByCategoryAndPeriod(
+            categoryName, p.start(), p.dayFrom(), p.dayTo(), p.end(), pageable);
+    }
+
+    public Long sumExpByUserIdAndPeriod(String userId, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime alignedEnd = alignEnd(end);
+        if (!covers(start, alignedEnd)) {
+            return experienceHistoryRepository.sumExpByUserIdAndPeriod(userId, start, end);
+        }
+        Period p = Period.split(start, alignedEnd);
+        return experienceRollupRepository.sumExpByUserIdAndPeriod(userId, p.start(), p.dayFrom(), p.dayTo(), p.end());
+    }
+
+    public Long countUsersWithMoreExpByPeriod(LocalDateTime start, LocalDateTime end, Long myExp) {
+        LocalDateTime alignedEnd = alignEnd(end);
+        if (!covers(start, alignedEnd)) {
+            return experienceHistoryRepository.countUsersWithMoreExpByPeriod(start, end, myExp);
+        }
+        Period p = Period.split(start, alignedEnd);
+        return experienceRollupRepository.countUsersWithMoreExpByPeriod(
+            p.start(), p.dayFrom(), p.dayTo(), p.end(), myExp);
+    }
+
+    public List<Object[]> findUserCategoryExpByPeriod(String userId, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime alignedEnd = alignEnd(end);
+        if (!covers(start, alignedEnd)) {
+            return experienceHistoryRepository.findUserCategoryExpByPeriod(userId, start, end);
+        }
+        Period p = Period.split(start, alignedEnd);
+        return experienceRollupRepository.findUserCategoryExpByPeriod(userId, p.start(), p.dayFrom(), p.dayTo(), p.end());
+    }
+
+    /**
+     * 타임존 날짜별 경험치 합계 (시간 버킷 기준)
+     */
+    public List<Object[]> sumDailyExpByUserIdAndPeriod(String userId, LocalDateTime startUtc,
+                                                        LocalDateTime endUtc, String timezone) {
+        LocalDateTime alignedEnd = alignEnd(endUtc);
+        if (!covers(startUtc, alignedEnd) || !isWholeHourZone(timezone, startUtc, alignedEnd)) {
+            return experienceHistoryRepository.sumDailyExpByUserIdAndPeriod(userId, startUtc, endUtc, timezone);
+        }
+        return experienceRollupRepository.sumDailyExpByUserIdAndPeriod(userId, startUtc, alignedEnd, timezone);
+    }
+
+    /**
+     * 집계로 조회 가능한 기간인지 확인
+     */
+    boolean covers(LocalDateTime start, LocalDateTime end) {
+        if (!enabled || coveredFrom == null || coveredFrom.isBlank()) {
+            return false;
+        }
+        if (!isHourAligned(start) || !isHourAligned(end)) {
+            return false;
+        }
+        try {
+            return !start.isBefore(LocalDateTime.parse(coveredFrom));
+        } catch (Exception e) {
+            log.warn("experience.rollup.covered-from 형식 오류, 원본 이력으로 조회: {}", coveredFrom);
+            return false;
+        }
+    }
+
+    /**
+     * 날짜 경계를 LocalTime.MAX(23:59:59.999999999)로 넘기는 호출 측을 위해
+     * 정시 1나노초 전 종료 시각은 다음 정시(배타적 종료)로 맞춘다.
+     */
+    private LocalDateTime alignEnd(LocalDateTime end) {
+        LocalDateTime next = end.plusNanos(1);
+        return isHourAligned(next) ? next : end;
+    }
+
+    private boolean isHourAligned(LocalDateTime time) {
+        return time.equals(time.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    private boolean isWholeHourZone(String timezone, LocalDateTime startUtc, LocalDateTime endUtc) {
+        try {
+            ZoneId zone = ZoneId.of(timezone);
+            Instant start = startUtc.toInstant(ZoneOffset.UTC);
+            Instant end = endUtc.toInstant(ZoneOffset.UTC);
+            return zone.getRules().getOffset(start).getTotalSeconds() % 3600 == 0
+                && zone.getRules().getOffset(end).getTotalSeconds() % 3600 == 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -39,6 +39,7 @@ public class UserExperienceService {
     private final UserExperienceRepository userExperienceRepository;
     private final DiamondService diamondService;
     private final ExperienceHistoryRepository experienceHistoryRepository;
+    private final ExperienceRollupService experienceRollupService;
     private final UserCategoryExperienceRepository userCategoryExperienceRepository;
     private final UserLevelConfigCacheService userLevelConfigCacheService;
     private final ApplicationEventPublisher eventPublisher;
@@ -78,6 +79,8 @@ public class UserExperienceService {
             .levelAfter(levelAfter)
             .build();
         experienceHistoryRepository.save(history);
+        experienceRollupService.record(userId, categoryName, expAmount,
+            history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now());
 
         // 카테고리별 경험치 업데이트 (categoryId가 있을 때만)
         if (categoryId != null && expAmount > 0) {
@@ -165,7 +168,7 @@ public class UserExperienceService {
      * 기간별 경험치 상위 사용자 조회
      */
     public List<Object[]> findTopExpGainersByPeriod(LocalDateTime start, LocalDateTime end, Pageable pageable) {
-        return experienceHistoryRepository.findTopExpGainersByPeriod(start, end, pageable);
+        return experienceRollupService.findTopExpGainersByPeriod(start, end, pageable);
     }
 
     /**
@@ -173,7 +176,7 @@ public class UserExperienceService {
      */
     public List<Object[]> findTopExpGainersByCategoryAndPeriod(String categoryName, LocalDateTime start,
                                                                 LocalDateTime end, Pageable pageable) {
-        return experienceHistoryRepository.findTopExpGainersByCategoryAndPeriod(categoryName, start, end, pageable);
+        return experienceRollupService.findTopExpGainersByCategoryAndPeriod(categoryName, start, end, pageable);
     }
 
     /**
@@ -192,7 +195,7 @@ public class UserExperienceService {
             }
         }
 
-        return experienceHistoryRepository
+        return experienceRollupService
             .sumDailyExpByUserIdAndPeriod(userId, startUtc, endUtc, zone).stream()
             .collect(Collectors.toMap(
                 row -> ((java.sql.Date) row[0]).toLocalDate(),
@@ -0,0 +1,229 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.ExperienceRollup;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 경험치 기간 집계 조회/갱신
+ *
+ * 기간 [startDate, endDate)는 일 버킷 [dayFrom, dayTo) + 양 끝의 시간 버킷으로 나눠 조회한다.
+ * (ExperienceRollupService.Period 참고, 하루가 안 되는 기간은 dayFrom = dayTo = endDate)
+ */
+@Repository
+public interface ExperienceRollupRepository extends JpaRepository<ExperienceRollup, Long> {
+
+    String IN_PERIOD = """
+        ((r.granularity = io.pinkspider.leveluptogethermvp.gamificationservice.domain.enums.RollupGranularity.DAY
+          AND r.bucketStart >= :dayFrom AND r.bucketStart < :dayTo)
+         OR (r.granularity = io.pinkspider.leveluptogethermvp.gamificationservice.domain.enums.RollupGranularity.HOUR
+          AND ((r.bucketStart >= :startDate AND r.bucketStart < :dayFrom)
+               OR (r.bucketStart >= :dayTo AND r.bucketStart < :endDate))))
+        """;
+
+    String NATIVE_IN_PERIOD = """
+        ((r.granularity = 'DAY' AND r.bucket_start >= :dayFrom AND r.bucket_start < :dayTo)
+         OR (r.granularity = 'HOUR'
+          AND ((r.bucket_start >= :startDate AND r.bucket_start < :dayFrom)
+               OR (r.bucket_start >= :dayTo AND r.bucket_start < :endDate))))
+        """;
+
+    /**
+     * 버킷 누적 (없으면 생성). 경험치 획득 트랜잭션 안에서 호출된다.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO experience_rollup (granularity, bucket_start, user_id, category_name, exp_amount, activity_count)
+        VALUES (:granularity, :bucketStart, :userId, :categoryName, :expAmount, 1)
+        ON CONFLICT (granularity, bucket_start, user_id, category_name)
+        DO UPDATE SET exp_amount = experience_rollup.exp_amount + EXCLUDED.exp_amount,
+                      activity_count = experience_rollup.activity_count + 1
+        """, nativeQuery = true)
+    int accumulate(
+        @Param("granularity") String granularity,
+        @Param("bucketStart") LocalDateTime bucketStart,
+        @Param("userId") String userId,
+        @Param("categoryName") String categoryName,
+        @Param("expAmount") long expAmount);
+
+    /**
+     * 원본 이력으로 기간 내 버킷을 다시 계산해 덮어쓴다 (백필/야간 보정).
+     * 새 이력이 더 쓰이지 않는 닫힌 기간에만 사용한다.
+     *
+     * @param unit date_trunc 단위 (hour, day)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO experience_rollup (granularity, bucket_start, user_id, category_name, exp_amount, activity_count)
+        SELECT :granularity, date_trunc(:unit, eh.created_at), eh.user_id, COALESCE(eh.category_name, ''),
+               SUM(eh.exp_amount), COUNT(*)
+        FROM experience_history eh
+        WHERE eh.created_at >= :startDate AND eh.created_at < :endDate
+        AND eh.exp_amount > 0
+        GROUP BY 2, 3, 4
+        ON CONFLICT (granularity, bucket_start, user_id, category_name)
+        DO UPDATE SET exp_amount = EXCLUDED.exp_amount,
+                      activity_count = EXCLUDED.activity_count
+        """, nativeQuery = true)
+    int rebuild(
+        @Param("granularity") String granularity,
+        @Param("unit") String unit,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기간 경험치 Top N (카테고리 있는 경험치만, findTopExpGainersByPeriod 대응)
+     */
+    @Query("""
+        SELECT r.userId, SUM(r.expAmount) as totalExp
+        FROM ExperienceRollup r
+        WHERE r.categoryName <> ''
+        AND """ + IN_PERIOD + """
+        GROUP BY r.userId
+        ORDER BY totalExp DESC
+        """)
+    List<Object[]> findTopExpGainersByPeriod(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("dayFrom") LocalDateTime dayFrom,
+        @Param("dayTo") LocalDateTime dayTo,
+        @Param("endDate") LocalDateTime endDate,
+        Pageable pageable);
+
+    /**
+     * 카테고리 + 기간 경험치 Top N (findTopExpGainersByCategoryAndPeriod 대응)
+     */
+    @Query("""
+        SELECT r.userId, SUM(r.expAmount) as totalExp
+        FROM ExperienceRollup r
+        WHERE r.categoryName = :categoryName
+        AND """ + IN_PERIOD + """
+        GROUP BY r.userId
+        ORDER BY totalExp DESC
+        """)
+    List<Object[]> findTopExpGainersByCategoryAndPeriod(
+        @Param("categoryName") String categoryName,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("dayFrom") LocalDateTime dayFrom,
+        @Param("dayTo") LocalDateTime dayTo,
+        @Param("endDate") LocalDateTime endDate,
+        Pageable pageable);
+
+    /**
+     * 기간 내 사용자 경험치 합계 (카테고리 무관, sumExpByUserIdAndPeriod 대응)
+     */
+    @Query("""
+        SELECT COALESCE(SUM(r.expAmount), 0)
+        FROM ExperienceRollup r
+        WHERE r.userId = :userId
+        AND """ + IN_PERIOD)
+    Long sumExpByUserIdAndPeriod(
+        @Param("userId") String userId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("dayFrom") LocalDateTime dayFrom,
+        @Param("dayTo") LocalDateTime dayTo,
+        @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기간 + 카테고리 내 사용자 경험치 합계 (sumExpByUserIdAndCategoryAndPeriod 대응)
+     */
+    @Query("""
+        SELECT COALESCE(SUM(r.expAmount), 0)
+        FROM ExperienceRollup r
+        WHERE r.userId = :userId
+        AND r.categoryName = :categoryName
+        AND """ + IN_PERIOD)
+    Long sumExpByUserIdAndCategoryAndPeriod(
+        @Param("userId") String userId,
+        @Param("categoryName") String categoryName,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("dayFrom") LocalDateTime dayFrom,
+        @Param("dayTo") LocalDateTime dayTo,
+        @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기간 내 경험치가 더 많은 사용자 수 (countUsersWithMoreExpByPeriod 대응)
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM (
+            SELECT r.user_id
+            FROM experience_rollup r
+            WHERE r.category_name <> ''
+            AND """ + NATIVE_IN_PERIOD + """
+            GROUP BY r.user_id
+            HAVING SUM(r.exp_amount) > :myExp
+        ) sub
+        """, nativeQuery = true)
+    Long countUsersWithMoreExpByPeriod(
+        @Param("startDate") LocalDateTime startDate,
+        @Param("dayFrom") LocalDateTime dayFrom,
+        @Param("dayTo") LocalDateTime dayTo,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("myExp") Long myExp);
+
+    /**
+     * 기간 + 카테고리 내 경험치가 더 많은 사용자 수 (countUsersWithMoreExpByCategoryAndPeriod 대응)
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM (
+            SELECT r.user_id
+            FROM experience_rollup r
+            WHERE r.category_name = :categoryName
+            AND """ + NATIVE_IN_PERIOD + """
+            GROUP BY r.user_id
+            HAVING SUM(r.exp_amount) > :myExp
+        ) sub
+        """, nativeQuery = true)
+    Long countUsersWithMoreExpByCategoryAndPeriod(
+        @Param("categoryName") String categoryName,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("dayFrom") LocalDateTime dayFrom,
+        @Param("dayTo") LocalDateTime dayTo,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("myExp") Long myExp);
+
+    /**
+     * 기간 내 사용자의 카테고리별 경험치 통계 (findUserCategoryExpByPeriod 대응)
+     */
+    @Query("""
+        SELECT r.categoryName, r.categoryName as categoryId,
+               SUM(r.expAmount) as totalExp, SUM(r.activityCount) as activityCount
+        FROM ExperienceRollup r
+        WHERE r.userId = :userId
+        AND r.categoryName <> ''
+        AND """ + IN_PERIOD + """
+        GROUP BY r.categoryName
+        ORDER BY totalExp DESC
+        """)
+    List<Object[]> findUserCategoryExpByPeriod(
+        @Param("userId") String userId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("dayFrom") LocalDateTime dayFrom,
+        @Param("dayTo") LocalDateTime dayTo,
+        @Param("endDate") LocalDateTime endDate);
+
+    /**
+     * 기간 내 사용자 타임존 날짜별 경험치 합계 (시간 버킷 기준, sumDailyExpByUserIdAndPeriod 대응)
+     * 정시 단위 오프셋 타임존에서만 원본 집계와 일치한다.
+     */
+    @Query(value = """
+        SELECT CAST(r.bucket_start AT TIME ZONE 'UTC' AT TIME ZONE :timezone AS DATE) AS day,
+               SUM(r.exp_amount) AS total_exp
+        FROM experience_rollup r
+        WHERE r.user_id = :userId
+        AND r.granularity = 'HOUR'
+        AND r.bucket_start >= :startDate AND r.bucket_start < :endDate
+        AND r.category_name <> ''
+        GROUP BY day
+        """, nativeQuery = true)
+    List<Object[]> sumDailyExpByUserIdAndPeriod(
+        @Param("userId") String userId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("timezone") String timezone);
+}
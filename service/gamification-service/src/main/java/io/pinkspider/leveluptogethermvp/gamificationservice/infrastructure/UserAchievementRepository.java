@@ -1,6 +1,8 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure;
 
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserAchievement;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -34,6 +36,43 @@ public interface UserAchievementRepository extends JpaRepository<UserAchievement
     @Query("SELECT ua FROM UserAchievement ua WHERE ua.userId = :userId")
     List<UserAchievement> findAllByUserIdForSync(@Param("userId") String userId);
 
+    /**
+     * 주어진 업적 중 이미 완료한 업적 ID (규칙 인덱스 기반 체크에서 완료 행 스킵용)
+     */
+    @Query("SELECT ua.achievement.id FROM UserAchievement ua WHERE ua.userId = :userId AND ua.achievement.id IN :achievementIds AND ua.isCompleted = true")
+    List<Long> findCompletedAchievementIds(@Param("userId") String userId,
+                                           @Param("achievementIds") Collection<Long> achievementIds);
+
+    /**
+     * 아직 행이 없는 업적의 진행 행 일괄 생성 (기준값에 도달하지 못한 업적용, 완료 판정 없음)
+     * 동시 생성과 겹치면 ON CONFLICT DO NOTHING 으로 건너뛴다. 비활성 업적은 만들지 않는다.
+     *
+     * @return 생성된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO user_achievement (
+            user_id, achievement_id, current_count, is_completed, is_reward_claimed, created_at, modified_at)
+        SELECT :userId, a.id, :count, false, false, :now, :now
+        FROM achievement a
+        WHERE a.id IN (:achievementIds) AND a.is_active = true
+        ON CONFLICT (user_id, achievement_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertMissingProgress(@Param("userId") String userId,
+                              @Param("achievementIds") Collection<Long> achievementIds,
+                              @Param("count") int count,
+                              @Param("now") LocalDateTime now);
+
+    /**
+     * 진행도 일괄 갱신 (완료 판정 없이 현재 값만 반영)
+     * 기준값에 도달하지 못한 업적과 이미 완료한 업적의 stale currentCount 보정용. 완료 여부는 바꾸지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE UserAchievement ua SET ua.currentCount = :count WHERE ua.userId = :userId AND ua.achievement.id IN :achievementIds AND ua.currentCount <> :count")
+    int updateProgress(@Param("userId") String userId,
+                       @Param("achievementIds") Collection<Long> achievementIds,
+                       @Param("count") int count);
+
     // 보상 수령 가능 목록도 비활성 업적은 숨김 (자동 보상도 비활성 업적에는 지급되지 않음).
     @Query("SELECT ua FROM UserAchievement ua JOIN FETCH ua.achievement a WHERE ua.userId = :userId AND ua.isCompleted = true AND ua.isRewardClaimed = false AND a.isActive = true")
     List<UserAchievement> findClaimableByUserId(@Param("userId") String userId);
@@ -1,10 +1,12 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure;
 
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserStats;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,6 +16,13 @@ public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
 
     Optional<UserStats> findByUserId(String userId);
 
+    List<UserStats> findByUserIdIn(List<String> userIds);
+
+    /**
+     * ID 키셋 순회 (랭킹 리더보드 점검용)
+     */
+    List<UserStats> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     // 랭킹 포인트 기준 정렬
     Page<UserStats> findAllByOrderByRankingPointsDesc(Pageable pageable);
 
@@ -44,4 +53,25 @@ public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
      */
     @Query("SELECT COUNT(us) FROM UserStats us")
     long countTotalUsers();
+
+    /**
+     * 소셜 카운터 변화량 반영 (UserStatsCounterBuffer flush용, 0 미만으로 내려가지 않음)
+     *
+     * @return 갱신된 행 수 (user_stats 행이 없으면 0)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE user_stats
+        SET total_likes_received = GREATEST(total_likes_received + :likesReceived, 0),
+            friend_count = GREATEST(friend_count + :friendCount, 0),
+            guild_join_count = GREATEST(guild_join_count + :guildJoinCount, 0),
+            total_comments_received = GREATEST(total_comments_received + :commentsReceived, 0)
+        WHERE user_id = :userId
+        """, nativeQuery = true)
+    int addSocialCounters(
+        @Param("userId") String userId,
+        @Param("likesReceived") long likesReceived,
+        @Param("friendCount") int friendCount,
+        @Param("guildJoinCount") int guildJoinCount,
+        @Param("commentsReceived") long commentsReceived);
 }
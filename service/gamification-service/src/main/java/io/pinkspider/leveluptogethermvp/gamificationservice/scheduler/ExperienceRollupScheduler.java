@@ -0,0 +1,38 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.scheduler;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경험치 기간 집계 보정 스케줄러
+ *
+ * 매일 09:15 KST (00:15 UTC): 직전 UTC 하루의 시간/일 버킷을 원본 이력으로 다시 계산한다.
+ * (롤백된 트랜잭션, 수동 이력 정정 등으로 누적값이 어긋난 경우 보정)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExperienceRollupScheduler {
+
+    private final ExperienceRollupService experienceRollupService;
+
+    @Scheduled(cron = "0 15 9 * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = "ExperienceRollupScheduler_rebuildPreviousDay", lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+    public void rebuildPreviousDay() {
+        if (!experienceRollupService.isEnabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        try {
+            experienceRollupService.rebuild(today.minusDays(1).atStartOfDay(), today.atStartOfDay());
+        } catch (Exception e) {
+            log.error("경험치 집계 보정 실패: date={}", today.minusDays(1), e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.scheduler;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.ReconcileResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 리더보드(Redis Sorted Set) 점검 스케줄러
+ *
+ * - 매일 새벽 04:30 KST: DB 기준 전체 점검 (누락된 커밋 후 갱신 보정)
+ * - 10분마다: 준비 표시가 없으면 (서버 최초 기동, Redis 초기화/유실) 재적재
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingLeaderboardScheduler {
+
+    private final RankingLeaderboard rankingLeaderboard;
+
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = "RankingLeaderboardScheduler_reconcile", lockAtMostFor = "PT30M", lockAtLeastFor = "PT1M")
+    public void reconcile() {
+        try {
+            ReconcileResult result = rankingLeaderboard.reconcile();
+            if (result.corrected() > 0 || result.removed() > 0) {
+                log.warn("랭킹 리더보드 불일치 보정: scanned={}, corrected={}, removed={}",
+                    result.scanned(), result.corrected(), result.removed());
+            }
+        } catch (Exception e) {
+            log.error("랭킹 리더보드 점검 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 600000, initialDelay = 30000) // 10분, 기동 30초 후 첫 실행
+    @SchedulerLock(name = "RankingLeaderboardScheduler_rebuildIfMissing", lockAtMostFor = "PT30M", lockAtLeastFor = "PT30S")
+    public void rebuildIfMissing() {
+        if (!rankingLeaderboard.isEnabled() || rankingLeaderboard.isReady()) {
+            return;
+        }
+        log.info("랭킹 리더보드 준비 표시 없음 - 재적재 시작");
+        try {
+            ReconcileResult result = rankingLeaderboard.reconcile();
+            log.info("랭킹 리더보드 재적재 완료: scanned={}, written={}", result.scanned(), result.corrected());
+        } catch (Exception e) {
+            log.error("랭킹 리더보드 재적재 실패", e);
+        }
+    }
+}
@@ -9,13 +9,11 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.season.infrastructur
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.scheduler.SeasonScheduledTaskManager;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,7 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class SeasonAdminService {
 
     private final SeasonRepository seasonRepository;
-    private final RedisTemplate<String, Object> redisTemplateForObject;
+    private final SeasonCacheIndex seasonCacheIndex;
     private final SeasonScheduledTaskManager scheduledTaskManager;
 
     @Transactional(readOnly = true, transactionManager = "gamificationTransactionManager")
@@ -185,16 +183,7 @@ public class SeasonAdminService {
 
     private void evictAllSeasonCaches() {
         try {
-            Set<String> keys1 = redisTemplateForObject.keys("currentSeason*");
-            if (keys1 != null && !keys1.isEmpty()) {
-                redisTemplateForObject.delete(keys1);
-                log.debug("currentSeason 캐시 삭제: {} 개", keys1.size());
-            }
-            Set<String> keys2 = redisTemplateForObject.keys("seasonMvpData*");
-            if (keys2 != null && !keys2.isEmpty()) {
-                redisTemplateForObject.delete(keys2);
-                log.debug("seasonMvpData 캐시 삭제: {} 개", keys2.size());
-            }
+            seasonCacheIndex.evictAll();
         } catch (Exception e) {
             log.warn("시즌 캐시 삭제 실패", e);
         }
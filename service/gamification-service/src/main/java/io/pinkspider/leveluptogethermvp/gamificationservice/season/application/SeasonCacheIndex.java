@@ -0,0 +1,73 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.season.application;
+
+import io.pinkspider.global.component.RedisKeyspaceScanner;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시즌 캐시 키 인덱스 (seasonCache:keys:{cacheName} Set)
+ *
+ * 캐시를 채울 때 키를 Set 에 기록해 두고, 무효화는 Set 멤버만 UNLINK 한다 (패턴 SCAN 불필요).
+ * 시즌 캐시 키는 로케일 수만큼으로 한정되므로 무효화 후에도 멤버를 지우지 않고 재사용하며,
+ * 인스턴스 로컬 기록으로 같은 키의 SADD 는 한 번만 보낸다.
+ * 인덱스가 비어 있으면 (도입 전 캐시, Redis 초기화) 패턴 SCAN 으로 대신 삭제한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SeasonCacheIndex {
+
+    public static final String CURRENT_SEASON = "currentSeason";
+    public static final String SEASON_MVP_DATA = "seasonMvpData";
+
+    static final String INDEX_KEY_PREFIX = "seasonCache:keys:";
+
+    // RedisCacheManager 기본 키 형식 (cacheName::key)
+    private static final String CACHE_KEY_SEPARATOR = "::";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisKeyspaceScanner keyspaceScanner;
+
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 캐시 키 기록 (캐시 메서드 본문에서 호출)
+     */
+    public void record(String cacheName, String key) {
+        String cacheKey = cacheName + CACHE_KEY_SEPARATOR + key;
+        if (!recorded.add(cacheKey)) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForSet().add(INDEX_KEY_PREFIX + cacheName, cacheKey);
+        } catch (Exception e) {
+            recorded.remove(cacheKey);
+            log.warn("시즌 캐시 키 기록 실패: {}", cacheKey, e);
+        }
+    }
+
+    /**
+     * 캐시 무효화
+     *
+     * @return 삭제된 키 수
+     */
+    public long evict(String cacheName) {
+        Set<String> cacheKeys = stringRedisTemplate.opsForSet().members(INDEX_KEY_PREFIX + cacheName);
+        if (cacheKeys == null || cacheKeys.isEmpty()) {
+            return keyspaceScanner.unlinkByPattern(cacheName + CACHE_KEY_SEPARATOR + "*");
+        }
+        return keyspaceScanner.unlink(cacheKeys);
+    }
+
+    public void evictAll() {
+        for (String cacheName : List.of(CURRENT_SEASON, SEASON_MVP_DATA)) {
+            long evicted = evict(cacheName);
+            log.debug("{} 캐시 삭제: {} 개", cacheName, evicted);
+        }
+    }
+}
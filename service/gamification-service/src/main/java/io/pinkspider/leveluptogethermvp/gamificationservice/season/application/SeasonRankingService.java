@@ -1,5 +1,6 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.season.application;
 
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.api.dto.SeasonMvpData;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.api.dto.SeasonMvpGuildResponse;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.api.dto.SeasonMvpPlayerResponse;
@@ -16,7 +17,6 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserEx
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserTitle;
 import io.pinkspider.global.enums.TitlePosition;
 import io.pinkspider.global.enums.TitleRarity;
-import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserExperienceRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserTitleRepository;
 import io.pinkspider.global.facade.UserQueryFacade;
@@ -26,7 +26,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,13 +49,13 @@ import java.util.stream.Collectors;
 public class SeasonRankingService {
 
     private final SeasonRepository seasonRepository;
-    private final ExperienceHistoryRepository experienceHistoryRepository;
+    private final ExperienceRollupService experienceRollupService;
     private final GuildQueryFacade guildQueryFacadeService;
     private final UserQueryFacade userQueryFacadeService;
     private final UserExperienceRepository userExperienceRepository;
     private final UserTitleRepository userTitleRepository;
     private final MissionCategoryService missionCategoryService;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final SeasonCacheIndex seasonCacheIndex;
 
     /**
      * 현재 활성 시즌 조회
@@ -70,8 +69,9 @@ public class SeasonRankingService {
     /**
      * 현재 활성 시즌 캐시 조회 (내부용 - null 허용)
      */
-    @Cacheable(value = "currentSeason", cacheManager = "redisCacheManager", unless = "#result == null")
+    @Cacheable(value = SeasonCacheIndex.CURRENT_SEASON, key = "'current'", cacheManager = "redisCacheManager", unless = "#result == null")
     public SeasonResponse getCurrentSeasonCached() {
+        seasonCacheIndex.record(SeasonCacheIndex.CURRENT_SEASON, "current");
         return seasonRepository.findCurrentSeason(LocalDateTime.now())
             .map(SeasonResponse::from)
             .orElse(null);
@@ -124,8 +124,9 @@ public class SeasonRankingService {
     /**
      * 시즌 MVP 데이터 캐시 조회 (내부용 - null 허용)
      */
-    @Cacheable(value = "seasonMvpData", key = "#locale ?: 'ko'", cacheManager = "redisCacheManager", unless = "#result == null")
+    @Cacheable(value = SeasonCacheIndex.SEASON_MVP_DATA, key = "#locale ?: 'ko'", cacheManager = "redisCacheManager", unless = "#result == null")
     public SeasonMvpData getSeasonMvpDataCached(String locale) {
+        seasonCacheIndex.record(SeasonCacheIndex.SEASON_MVP_DATA, locale != null ? locale : "ko");
         Optional<Season> currentSeasonOpt = seasonRepository.findCurrentSeason(LocalDateTime.now());
 
         if (currentSeasonOpt.isEmpty()) {
@@ -145,7 +146,7 @@ public class SeasonRankingService {
      * 시즌 MVP 플레이어 조회 (시즌 기간 동안 가장 많은 경험치를 획득한 플레이어)
      */
     private List<SeasonMvpPlayerResponse> getSeasonMvpPlayers(Season season, int limit, String locale) {
-        List<Object[]> topGainers = experienceHistoryRepository.findTopExpGainersByPeriod(
+        List<Object[]> topGainers = experienceRollupService.findTopExpGainersByPeriod(
             season.getStartAt(), season.getEndAt(), PageRequest.of(0, limit));
 
         if (topGainers.isEmpty()) {
@@ -323,7 +324,7 @@ public class SeasonRankingService {
     // ===== 캐시 관리 메서드들 =====
 
     /**
-     * 모든 시즌 관련 캐시 삭제 (RedisTemplate 직접 사용)
+     * 모든 시즌 관련 캐시 삭제 (SeasonCacheIndex 에 기록된 키 UNLINK)
      */
     public void evictAllSeasonCaches() {
         evictCurrentSeasonCache();
@@ -335,29 +336,16 @@ public class SeasonRankingService {
      * 현재 시즌 캐시만 삭제
      */
     public void evictCurrentSeasonCache() {
-        deleteKeysByPattern("currentSeason::*");
-        log.info("currentSeason 캐시 삭제 완료");
+        long evicted = seasonCacheIndex.evict(SeasonCacheIndex.CURRENT_SEASON);
+        log.info("currentSeason 캐시 삭제 완료 - 삭제된 키 수: {}", evicted);
     }
 
     /**
      * 시즌 MVP 데이터 캐시만 삭제
      */
     public void evictSeasonMvpDataCache() {
-        deleteKeysByPattern("seasonMvpData::*");
-        log.info("seasonMvpData 캐시 삭제 완료");
-    }
-
-    /**
-     * Redis 키 패턴으로 삭제
-     */
-    private void deleteKeysByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Redis 캐시 삭제 - 패턴: {}, 삭제된 키 수: {}", pattern, keys.size());
-        } else {
-            log.info("Redis 캐시 삭제 - 패턴: {}, 삭제할 키 없음", pattern);
-        }
+        long evicted = seasonCacheIndex.evict(SeasonCacheIndex.SEASON_MVP_DATA);
+        log.info("seasonMvpData 캐시 삭제 완료 - 삭제된 키 수: {}", evicted);
     }
 
     // ===== 시즌 상세 페이지용 메서드들 =====
@@ -382,10 +370,10 @@ public class SeasonRankingService {
 
         List<Object[]> topGainers;
         if (categoryName == null) {
-            topGainers = experienceHistoryRepository.findTopExpGainersByPeriod(
+            topGainers = experienceRollupService.findTopExpGainersByPeriod(
                 season.getStartAt(), season.getEndAt(), PageRequest.of(0, limit));
         } else {
-            topGainers = experienceHistoryRepository.findTopExpGainersByCategoryAndPeriod(
+            topGainers = experienceRollupService.findTopExpGainersByCategoryAndPeriod(
                 categoryName, season.getStartAt(), season.getEndAt(), PageRequest.of(0, limit));
         }
 
@@ -408,12 +396,12 @@ public class SeasonRankingService {
      */
     public SeasonMyRankingResponse getMySeasonRanking(Season season, String userId) {
         // 1. 내 플레이어 경험치 및 순위 조회
-        Long myPlayerExp = experienceHistoryRepository.sumExpByUserIdAndPeriod(
+        Long myPlayerExp = experienceRollupService.sumExpByUserIdAndPeriod(
             userId, season.getStartAt(), season.getEndAt());
 
         Integer playerRank = null;
         if (myPlayerExp != null && myPlayerExp > 0) {
-            Long usersAboveMe = experienceHistoryRepository.countUsersWithMoreExpByPeriod(
+            Long usersAboveMe = experienceRollupService.countUsersWithMoreExpByPeriod(
                 season.getStartAt(), season.getEndAt(), myPlayerExp);
             playerRank = usersAboveMe.intValue() + 1;
         }
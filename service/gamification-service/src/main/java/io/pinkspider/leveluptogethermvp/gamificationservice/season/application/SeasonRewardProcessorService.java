@@ -1,5 +1,6 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.season.application;
 
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.api.dto.SeasonRewardProcessResult;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.domain.entity.Season;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.domain.entity.SeasonRankReward;
@@ -8,7 +9,6 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.season.domain.enums.
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.infrastructure.SeasonRankRewardRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.infrastructure.SeasonRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.infrastructure.SeasonRewardHistoryRepository;
-import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.TitleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +30,7 @@ public class SeasonRewardProcessorService {
     private final SeasonRepository seasonRepository;
     private final SeasonRankRewardRepository rankRewardRepository;
     private final SeasonRewardHistoryRepository rewardHistoryRepository;
-    private final ExperienceHistoryRepository experienceHistoryRepository;
+    private final ExperienceRollupService experienceRollupService;
     private final TitleService titleService;
 
     /**
@@ -107,7 +107,7 @@ public class SeasonRewardProcessorService {
 
         Map<Integer, SeasonRankReward> rankRewardMap = buildRankRewardMap(rewards, maxRank);
 
-        List<Object[]> topGainers = experienceHistoryRepository.findTopExpGainersByPeriod(
+        List<Object[]> topGainers = experienceRollupService.findTopExpGainersByPeriod(
             season.getStartAt(), season.getEndAt(), PageRequest.of(0, maxRank));
 
         return processRankings(season.getId(), null, null, topGainers, rankRewardMap);
@@ -129,7 +129,7 @@ public class SeasonRewardProcessorService {
 
         Map<Integer, SeasonRankReward> rankRewardMap = buildRankRewardMap(rewards, maxRank);
 
-        List<Object[]> topGainers = experienceHistoryRepository.findTopExpGainersByCategoryAndPeriod(
+        List<Object[]> topGainers = experienceRollupService.findTopExpGainersByCategoryAndPeriod(
             categoryName, season.getStartAt(), season.getEndAt(), PageRequest.of(0, maxRank));
 
         return processRankings(season.getId(), categoryId, categoryName, topGainers, rankRewardMap);
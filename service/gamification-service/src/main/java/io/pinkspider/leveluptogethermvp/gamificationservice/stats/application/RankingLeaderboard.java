@@ -0,0 +1,383 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserStats;
+import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserStatsRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * user_stats 랭킹 리더보드 (Redis Sorted Set)
+ *
+ * 랭킹별로 member = userId, score = 지표 값인 Sorted Set을 유지한다.
+ * 내 순위는 ZSCORE + ZCOUNT(내 점수 초과)로, 주변 랭킹은 ZREVRANK + ZREVRANGE로 O(log N)에 조회한다.
+ * 순위는 DB 쿼리(COUNT(나보다 높은 점수) + 1)와 같은 공동순위 의미를 유지한다.
+ *
+ * 동기화:
+ * - UserStatsService의 변경 메서드가 커밋 후 {@link #update(UserStats)} 호출
+ * - {@link #reconcile()}이 DB 전체를 훑어 어긋난 점수를 바로잡고, DB에 없는 사용자를 지운 뒤 준비 표시를 남긴다 (기동 시/매일/키 유실 시)
+ *
+ * 준비 표시가 없거나 Redis 장애 시 조회 메서드는 빈 값을 반환하고, 호출 측은 기존 DB 쿼리로 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingLeaderboard {
+
+    static final String KEY_PREFIX = "ranking:leaderboard:";
+    static final String READY_KEY = KEY_PREFIX + "ready";
+    static final String SEEN_KEY_PREFIX = KEY_PREFIX + "reconcile:";
+
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+    private static final Duration SEEN_TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserStatsRepository userStatsRepository;
+
+    @Value("${ranking.leaderboard.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 리더보드 종류 (RankingService의 랭킹 목록과 동일한 정렬 기준)
+     */
+    public enum Board {
+        OVERALL("overall", UserStats::getRankingPoints),
+        MISSION_COMPLETIONS("missions", UserStats::getTotalMissionCompletions),
+        MAX_STREAK("streak", UserStats::getMaxStreak),
+        ACHIEVEMENTS("achievements", UserStats::getTotalAchievementsCompleted);
+
+        private final String key;
+        private final ToLongFunction<UserStats> score;
+
+        Board(String name, ToLongFunction<UserStats> score) {
+            this.key = KEY_PREFIX + name;
+            this.score = score;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        long scoreOf(UserStats stats) {
+            return score.applyAsLong(stats);
+        }
+    }
+
+    /**
+     * 리더보드 항목 (rank는 공동순위)
+     */
+    public record Entry(String userId, long score, long rank) {}
+
+    /**
+     * 재적재 결과
+     *
+     * @param scanned 확인한 사용자 수
+     * @param corrected 점수가 없거나 달라 바로잡은 (사용자, 리더보드) 수
+     * @param removed DB에 없어 지운 (사용자, 리더보드) 수
+     */
+    public record ReconcileResult(long scanned, long corrected, long removed) {}
+
+    /**
+     * 사용자 점수 반영 (트랜잭션 커밋 후 최종 값으로 실행)
+     */
+    public void update(UserStats stats) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(List.of(stats));
+                }
+            });
+        } else {
+            write(List.of(stats));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(READY_KEY));
+        } catch (Exception e) {
+            log.warn("리더보드 상태 확인 실패: error={}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 사용자 순위 (COUNT(나보다 높은 점수) + 1)
+     *
+     * @return 리더보드를 쓸 수 없거나 리더보드에 없는 사용자면 빈 값 (호출 측 DB 조회)
+     */
+    public Optional<Long> rankOf(Board board, String userId) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        try {
+            Double score = stringRedisTemplate.opsForZSet().score(board.key(), userId);
+            if (score == null) {
+                return Optional.empty();
+            }
+            return Optional.of(countAbove(board, score) + 1);
+        } catch (Exception e) {
+            log.warn("리더보드 순위 조회 실패: board={}, userId={}, error={}", board, userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 점수 기준 순위 (해당 점수보다 높은 사용자 수 + 1)
+     */
+    public Optional<Long> rankOfScore(Board board, long score) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(countAbove(board, score) + 1);
+        } catch (Exception e) {
+            log.warn("리더보드 순위 조회 실패: board={}, score={}, error={}", board, score, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Optional<Long> size(Board board) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        try {
+            Long size = stringRedisTemplate.opsForZSet().zCard(board.key());
+            return Optional.of(size != null ? size : 0L);
+        } catch (Exception e) {
+            log.warn("리더보드 크기 조회 실패: board={}, error={}", board, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 내 위아래 range명 (점수 내림차순)
+     *
+     * @return 리더보드를 쓸 수 없거나 리더보드에 없는 사용자면 빈 값 (호출 측 DB 조회)
+     */
+    public Optional<List<Entry>> around(Board board, String userId, int range) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        try {
+            Long position = stringRedisTemplate.opsForZSet().reverseRank(board.key(), userId);
+            if (position == null) {
+                return Optional.empty();
+            }
+            long start = Math.max(0, position - range);
+            List<TypedTuple<String>> tuples = new ArrayList<>(
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(board.key(), start, position + range));
+            if (tuples.isEmpty()) {
+                return Optional.of(List.of());
+            }
+
+            // 첫 항목은 ZCOUNT로, 이후는 위치 기반 공동순위 (점수가 같으면 직전 순위 유지)
+            List<Entry> entries = new ArrayList<>(tuples.size());
+            long rank = countAbove(board, scoreOf(tuples.get(0))) + 1;
+            for (int i = 0; i < tuples.size(); i++) {
+                long score = (long) scoreOf(tuples.get(i));
+                if (i > 0 && score != entries.get(i - 1).score()) {
+                    rank = start + i + 1;
+                }
+                entries.add(new Entry(tuples.get(i).getValue(), score, rank));
+            }
+            return Optional.of(entries);
+        } catch (Exception e) {
+            log.warn("리더보드 주변 순위 조회 실패: board={}, userId={}, error={}", board, userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB 기준으로 리더보드 점검/재적재
+     *
+     * user_stats를 ID 순으로 나눠 읽고, 배치마다 Redis 점수를 한 번의 파이프라인으로 비교해 다른 항목만 다시 쓴다.
+     * 빈 Redis에서 실행하면 전체 재적재가 된다. 배치 사이에 커밋된 변경은 update()가 이미 반영하므로
+     * 배치를 읽은 직후 쓰는 짧은 구간 외에는 최신 값을 덮어쓰지 않는다.
+     *
+     * 읽은 userId는 실행별 임시 Set에 모아 두고, 끝나면 리더보드를 ZSCAN 해 Set에 없는 멤버를 ZREM 한다
+     * (삭제된 사용자 등). 점검 중 새로 생긴 사용자도 Set에는 없으므로 지우기 전에 DB에서 한 번 더 확인한다.
+     */
+    public ReconcileResult reconcile() {
+        if (!enabled) {
+            return new ReconcileResult(0, 0, 0);
+        }
+        String seenKey = SEEN_KEY_PREFIX + UUID.randomUUID();
+        long scanned = 0;
+        long corrected = 0;
+        long removed;
+        try {
+            long lastId = 0;
+            while (true) {
+                List<UserStats> batch = userStatsRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, RECONCILE_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                corrected += reconcileBatch(batch, seenKey);
+                scanned += batch.size();
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            removed = removeAbsent(seenKey);
+        } finally {
+            stringRedisTemplate.delete(seenKey);
+        }
+        stringRedisTemplate.opsForValue().set(READY_KEY, String.valueOf(System.currentTimeMillis()));
+        log.info("리더보드 점검 완료: scanned={}, corrected={}, removed={}", scanned, corrected, removed);
+        return new ReconcileResult(scanned, corrected, removed);
+    }
+
+    private long reconcileBatch(List<UserStats> batch, String seenKey) {
+        Board[] boards = Board.values();
+        List<Object> current = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (UserStats stats : batch) {
+                    for (Board board : boards) {
+                        ops.opsForZSet().score(board.key(), stats.getUserId());
+                    }
+                }
+                // 점수 조회 결과 뒤에 붙으므로 비교 인덱스에 영향 없음
+                ops.opsForSet().add(seenKey, batch.stream().map(UserStats::getUserId).toArray(String[]::new));
+                ops.expire(seenKey, SEEN_TTL);
+                return null;
+            }
+        });
+
+        List<Correction> corrections = new ArrayList<>();
+        int index = 0;
+        for (UserStats stats : batch) {
+            for (Board board : boards) {
+                Object score = current.get(index++);
+                long expected = board.scoreOf(stats);
+                if (!(score instanceof Number number) || number.longValue() != expected) {
+                    corrections.add(new Correction(board, stats.getUserId(), expected));
+                }
+            }
+        }
+        if (!corrections.isEmpty()) {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Correction correction : corrections) {
+                        ops.opsForZSet().add(correction.board().key(), correction.userId(), correction.score());
+                    }
+                    return null;
+                }
+            });
+        }
+        return corrections.size();
+    }
+
+    /**
+     * 리더보드마다 임시 Set에 없는 멤버 중 DB에도 없는 사용자를 지운다.
+     *
+     * @return 지운 (사용자, 리더보드) 수
+     */
+    private long removeAbsent(String seenKey) {
+        long removed = 0;
+        for (Board board : Board.values()) {
+            List<String> members = new ArrayList<>(RECONCILE_BATCH_SIZE);
+            try (Cursor<TypedTuple<String>> cursor = stringRedisTemplate.opsForZSet().scan(
+                board.key(), ScanOptions.scanOptions().count(RECONCILE_BATCH_SIZE).build())) {
+                while (cursor.hasNext()) {
+                    members.add(cursor.next().getValue());
+                    if (members.size() == RECONCILE_BATCH_SIZE) {
+                        removed += removeAbsentBatch(board, seenKey, members);
+                        members.clear();
+                    }
+                }
+            }
+            removed += removeAbsentBatch(board, seenKey, members);
+        }
+        return removed;
+    }
+
+    private long removeAbsentBatch(Board board, String seenKey, List<String> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        Map<Object, Boolean> seen = stringRedisTemplate.opsForSet().isMember(seenKey, members.toArray());
+        List<String> unseen = members.stream()
+            .filter(member -> seen == null || !Boolean.TRUE.equals(seen.get(member)))
+            .toList();
+        if (unseen.isEmpty()) {
+            return 0;
+        }
+        Set<String> existing = userStatsRepository.findByUserIdIn(unseen).stream()
+            .map(UserStats::getUserId)
+            .collect(Collectors.toSet());
+        Object[] absent = unseen.stream().filter(member -> !existing.contains(member)).toArray();
+        if (absent.length == 0) {
+            return 0;
+        }
+        Long removed = stringRedisTemplate.opsForZSet().remove(board.key(), absent);
+        return removed != null ? removed : 0L;
+    }
+
+    private void write(List<UserStats> statsList) {
+        try {
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (UserStats stats : statsList) {
+                        for (Board board : Board.values()) {
+                            ops.opsForZSet().add(board.key(), stats.getUserId(), board.scoreOf(stats));
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 다음 점검(reconcile)에서 바로잡힌다
+            log.warn("리더보드 갱신 실패: count={}, error={}", statsList.size(), e.getMessage());
+        }
+    }
+
+    private long countAbove(Board board, double score) {
+        Long count = stringRedisTemplate.opsForZSet().count(board.key(), Math.nextUp(score), Double.POSITIVE_INFINITY);
+        return count != null ? count : 0L;
+    }
+
+    private static double scoreOf(TypedTuple<String> tuple) {
+        return tuple.getScore() != null ? tuple.getScore() : 0d;
+    }
+
+    private record Correction(Board board, String userId, long score) {}
+}
@@ -0,0 +1,227 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.AchievementFieldCheckRequestedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_stats 소셜 카운터 쓰기 합산 버퍼 (인스턴스 로컬)
+ *
+ * 좋아요/댓글/친구/길드 가입 이벤트마다 user_stats 행을 갱신하면 인기 피드에서 같은 행에 락 경합이 생기고
+ * 업적 체크가 이벤트 수만큼 반복된다. 이벤트는 사용자별 변화량으로 합산해 두고,
+ * flush-interval-ms마다 전용 스레드에서 사용자당 UPDATE 1회로 반영한다.
+ *
+ * 반영 순서와 트랜잭션:
+ * - userId 순으로 정렬해 batch-size 명씩 별도 트랜잭션으로 반영한다. 모든 인스턴스가 같은 순서로 행을 잠그므로
+ *   flush 끼리 교착 상태에 빠지지 않고, 한 배치의 실패가 다른 배치의 반영을 되돌리지 않는다.
+ * - 배치가 실패하면 그 배치의 사용자를 한 명씩 다시 반영해 실패한 사용자만 재시도 대상으로 남긴다.
+ * - 업적 체크는 반영이 커밋된 사용자에 대해 AchievementFieldCheckRequestedEvent로 넘겨 이벤트 스레드에서
+ *   사용자별 데이터 소스당 1회만 수행한다. 값이 바뀐 카운터 필드에 걸린 업적만 대상으로 한다 (AchievementRuleIndex).
+ *
+ * 전달 보장 (at-most-once):
+ * - 정상 종료: @PreDestroy에서 남은 변화량을 반영한다.
+ * - 비정상 종료(프로세스 강제 종료, OOM 등): 마지막 flush 이후 최대 flush-interval-ms 분량의 변화량이 유실된다.
+ *   카운터는 이벤트 원천(피드 좋아요, 친구 관계 등)에서 다시 계산할 수 있으므로 UserStatsService.syncCountersForUser로 보정한다.
+ * - 반영 실패: 변화량을 버퍼에 되돌려 다음 주기에 재시도하고, MAX_ATTEMPTS회 실패하면 로그를 남기고 버린다.
+ *
+ * 비활성화(user-stats.counter-buffer.enabled=false) 시 이벤트마다 즉시 반영한다.
+ */
+@Slf4j
+@Component
+public class UserStatsCounterBuffer {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private final UserStatsService userStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledExecutorService flushExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public UserStatsCounterBuffer(
+        UserStatsService userStatsService,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${user-stats.counter-buffer.enabled:true}") boolean enabled,
+        @Value("${user-stats.counter-buffer.flush-interval-ms:1000}") long flushIntervalMs,
+        @Value("${user-stats.counter-buffer.batch-size:50}") int batchSize) {
+        this(userStatsService, eventPublisher,
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("user-stats-counter-")),
+            enabled, batchSize);
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    UserStatsCounterBuffer(
+        UserStatsService userStatsService,
+        ApplicationEventPublisher eventPublisher,
+        ScheduledExecutorService flushExecutor,
+        boolean enabled,
+        int batchSize) {
+        this.userStatsService = userStatsService;
+        this.eventPublisher = eventPublisher;
+        this.flushExecutor = flushExecutor;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 사용자별 대기 중인 변화량 + 반영 후 체크할 업적 데이터 소스
+     */
+    record Pending(UserStatsCounterDelta delta, Set<String> achievementDataSources, int attempts) {
+
+        static Pending of(UserStatsCounterDelta delta, String achievementDataSource) {
+            Set<String> dataSources = new LinkedHashSet<>();
+            if (achievementDataSource != null) {
+                dataSources.add(achievementDataSource);
+            }
+            return new Pending(delta, dataSources, 0);
+        }
+
+        Pending merge(Pending other) {
+            Set<String> dataSources = new LinkedHashSet<>(achievementDataSources);
+            dataSources.addAll(other.achievementDataSources);
+            return new Pending(delta.plus(other.delta), dataSources, Math.max(attempts, other.attempts));
+        }
+    }
+
+    /**
+     * 변화량 적재
+     *
+     * @param achievementDataSource 반영 후 체크할 업적 데이터 소스 (없으면 null)
+     */
+    public void add(String userId, UserStatsCounterDelta delta, String achievementDataSource) {
+        Pending added = Pending.of(delta, achievementDataSource);
+        if (!enabled) {
+            apply(new TreeMap<>(Map.of(userId, added)));
+            return;
+        }
+        pending.merge(userId, added, Pending::merge);
+    }
+
+    /**
+     * 대기 중인 변화량을 userId 순으로 batch-size 명씩 반영한다.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        TreeMap<String, Pending> drained = new TreeMap<>();
+        for (String userId : pending.keySet()) {
+            Pending removed = pending.remove(userId);
+            if (removed != null) {
+                drained.put(userId, removed);
+            }
+        }
+        apply(drained);
+    }
+
+    @PreDestroy
+    public void drain() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flush();
+    }
+
+    int pendingUsers() {
+        return pending.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 예약 작업이 예외로 중단되지 않도록 삼킨다
+            log.error("소셜 카운터 flush 오류: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param sorted userId 순으로 정렬된 대기 변화량
+     */
+    private void apply(TreeMap<String, Pending> sorted) {
+        Map<String, UserStatsCounterDelta> chunk = new LinkedHashMap<>();
+        int applied = 0;
+        for (Map.Entry<String, Pending> entry : sorted.entrySet()) {
+            if (entry.getValue().delta().isZero()) {
+                continue;
+            }
+            chunk.put(entry.getKey(), entry.getValue().delta());
+            if (chunk.size() >= batchSize) {
+                applied += applyChunk(chunk, sorted);
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applied += applyChunk(chunk, sorted);
+        }
+        if (applied > 0) {
+            log.debug("소셜 카운터 반영: users={}", applied);
+        }
+    }
+
+    /**
+     * 한 배치를 한 트랜잭션으로 반영하고, 실패하면 사용자별로 나눠 다시 반영한다.
+     *
+     * @return 반영에 성공한 사용자 수
+     */
+    private int applyChunk(Map<String, UserStatsCounterDelta> chunk, Map<String, Pending> drained) {
+        try {
+            userStatsService.applyCounterDeltas(chunk);
+            chunk.keySet().forEach(userId -> requestAchievementCheck(userId, drained.get(userId)));
+            return chunk.size();
+        } catch (Exception e) {
+            if (chunk.size() == 1) {
+                String userId = chunk.keySet().iterator().next();
+                requeue(userId, drained.get(userId), e);
+                return 0;
+            }
+            log.warn("소셜 카운터 배치 반영 실패, 사용자별로 다시 반영: users={}, error={}", chunk.size(), e.getMessage());
+        }
+
+        int applied = 0;
+        for (Map.Entry<String, UserStatsCounterDelta> entry : chunk.entrySet()) {
+            applied += applyChunk(Map.of(entry.getKey(), entry.getValue()), drained);
+        }
+        return applied;
+    }
+
+    /**
+     * 반영이 커밋된 사용자의 업적 체크 요청 (체크는 AchievementEventListener 가 이벤트 스레드에서 수행)
+     */
+    private void requestAchievementCheck(String userId, Pending applied) {
+        if (applied.achievementDataSources().isEmpty()) {
+            return;
+        }
+        eventPublisher.publishEvent(new AchievementFieldCheckRequestedEvent(
+            userId, List.copyOf(applied.achievementDataSources()), applied.delta().changedDataFields()));
+    }
+
+    private void requeue(String userId, Pending failed, Exception cause) {
+        if (failed.attempts() + 1 >= MAX_ATTEMPTS) {
+            log.error("소셜 카운터 반영 포기: userId={}, delta={}, error={}", userId, failed.delta(), cause.getMessage());
+            return;
+        }
+        Pending retry = new Pending(failed.delta(), failed.achievementDataSources(), failed.attempts() + 1);
+        pending.merge(userId, retry, Pending::merge);
+        log.warn("소셜 카운터 반영 실패, 다음 주기에 재시도: userId={}, attempts={}, error={}",
+            userId, retry.attempts(), cause.getMessage());
+    }
+}
@@ -0,0 +1,65 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * user_stats 소셜 카운터 변화량 (UserStatsCounterBuffer가 사용자별로 합산)
+ */
+public record UserStatsCounterDelta(long likesReceived, int friendCount, int guildJoinCount, long commentsReceived) {
+
+    public static final UserStatsCounterDelta ZERO = new UserStatsCounterDelta(0, 0, 0, 0);
+
+    private static final List<String> LIKES_RECEIVED_FIELDS = List.of("totalLikesReceived", "receivedLikeCount");
+    private static final List<String> COMMENTS_RECEIVED_FIELDS =
+        List.of("totalCommentsReceived", "receivedCommentCount", "commentsReceived");
+
+    public static UserStatsCounterDelta likesReceived(int amount) {
+        return new UserStatsCounterDelta(amount, 0, 0, 0);
+    }
+
+    public static UserStatsCounterDelta friendCount(int amount) {
+        return new UserStatsCounterDelta(0, amount, 0, 0);
+    }
+
+    public static UserStatsCounterDelta guildJoinCount(int amount) {
+        return new UserStatsCounterDelta(0, 0, amount, 0);
+    }
+
+    public static UserStatsCounterDelta commentsReceived(int amount) {
+        return new UserStatsCounterDelta(0, 0, 0, amount);
+    }
+
+    public UserStatsCounterDelta plus(UserStatsCounterDelta other) {
+        return new UserStatsCounterDelta(
+            likesReceived + other.likesReceived,
+            friendCount + other.friendCount,
+            guildJoinCount + other.guildJoinCount,
+            commentsReceived + other.commentsReceived);
+    }
+
+    /**
+     * 값이 바뀐 카운터의 업적 데이터 필드 (UserStatsCheckStrategy 의 별칭 포함)
+     */
+    public Set<String> changedDataFields() {
+        Set<String> fields = new LinkedHashSet<>();
+        if (likesReceived != 0) {
+            fields.addAll(LIKES_RECEIVED_FIELDS);
+        }
+        if (friendCount != 0) {
+            fields.add("friendCount");
+        }
+        if (guildJoinCount != 0) {
+            fields.add("guildJoinCount");
+        }
+        if (commentsReceived != 0) {
+            fields.addAll(COMMENTS_RECEIVED_FIELDS);
+        }
+        return fields;
+    }
+
+    public boolean isZero() {
+        return likesReceived == 0 && friendCount == 0 && guildJoinCount == 0 && commentsReceived == 0;
+    }
+}
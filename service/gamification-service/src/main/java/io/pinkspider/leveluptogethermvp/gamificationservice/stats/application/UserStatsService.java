@@ -3,7 +3,10 @@ package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
 import io.pinkspider.leveluptogethermvp.gamificationservice.stats.domain.dto.UserStatsResponse;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserStats;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserStatsRepository;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.Board;
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserStatsService {
 
     private final UserStatsRepository userStatsRepository;
+    private final RankingLeaderboard rankingLeaderboard;
 
     @Transactional(transactionManager = "gamificationTransactionManager")
     public UserStats getOrCreateUserStats(String userId) {
@@ -24,7 +28,9 @@ public class UserStatsService {
                 UserStats newStats = UserStats.builder()
                     .userId(userId)
                     .build();
-                return userStatsRepository.save(newStats);
+                UserStats saved = userStatsRepository.save(newStats);
+                rankingLeaderboard.update(saved);
+                return saved;
             });
     }
 
@@ -41,6 +47,7 @@ public class UserStatsService {
             stats.incrementGuildMissionCompletion();
         }
         stats.updateStreak(LocalDate.now());
+        rankingLeaderboard.update(stats);
         log.debug("미션 완료 기록: userId={}, totalCompletions={}", userId, stats.getTotalMissionCompletions());
     }
 
@@ -53,6 +60,7 @@ public class UserStatsService {
     public void recordAttendance(String userId, LocalDate attendanceDate) {
         UserStats stats = getOrCreateUserStats(userId);
         stats.updateStreak(attendanceDate);
+        rankingLeaderboard.update(stats);
         log.debug("출석 streak 갱신: userId={}, currentStreak={}, maxStreak={}",
             userId, stats.getCurrentStreak(), stats.getMaxStreak());
     }
@@ -64,6 +72,7 @@ public class UserStatsService {
         if (isGuildMission) {
             stats.decrementGuildMissionCompletion();
         }
+        rankingLeaderboard.update(stats);
         log.debug("미션 완료 보상 처리: userId={}, totalCompletions={}", userId, stats.getTotalMissionCompletions());
     }
 
@@ -71,6 +80,7 @@ public class UserStatsService {
     public void recordMissionFullCompletion(String userId, int durationDays) {
         UserStats stats = getOrCreateUserStats(userId);
         stats.incrementMissionFullCompletion(durationDays);
+        rankingLeaderboard.update(stats);
         log.debug("미션 전체 완료 기록: userId={}, totalFullCompletions={}, durationDays={}, maxDuration={}",
             userId, stats.getTotalMissionFullCompletions(), durationDays, stats.getMaxCompletedMissionDuration());
     }
@@ -79,6 +89,7 @@ public class UserStatsService {
     public void undoMissionFullCompletion(String userId) {
         UserStats stats = getOrCreateUserStats(userId);
         stats.decrementMissionFullCompletion();
+        rankingLeaderboard.update(stats);
         log.debug("미션 전체 완료 보상 처리: userId={}, totalFullCompletions={}",
             userId, stats.getTotalMissionFullCompletions());
     }
@@ -87,6 +98,7 @@ public class UserStatsService {
     public void recordAchievementCompleted(String userId) {
         UserStats stats = getOrCreateUserStats(userId);
         stats.incrementAchievementCompleted();
+        rankingLeaderboard.update(stats);
     }
 
     @Transactional(transactionManager = "gamificationTransactionManager")
@@ -149,6 +161,26 @@ public class UserStatsService {
         stats.decrementCommentsReceived();
     }
 
+    /**
+     * 합산된 소셜 카운터 변화량을 사용자당 UPDATE 1회로 반영 (UserStatsCounterBuffer flush)
+     * user_stats 행이 없는 사용자는 생성 후 반영한다.
+     * 호출자는 batch-size 단위로 나눠 호출하고, 행 잠금 순서를 맞추기 위해 userId 순으로 갱신한다.
+     */
+    @Transactional(transactionManager = "gamificationTransactionManager")
+    public void applyCounterDeltas(Map<String, UserStatsCounterDelta> deltas) {
+        new TreeMap<>(deltas).forEach((userId, delta) -> {
+            if (addSocialCounters(userId, delta) == 0) {
+                getOrCreateUserStats(userId);
+                addSocialCounters(userId, delta);
+            }
+        });
+    }
+
+    private int addSocialCounters(String userId, UserStatsCounterDelta delta) {
+        return userStatsRepository.addSocialCounters(userId, delta.likesReceived(), delta.friendCount(),
+            delta.guildJoinCount(), delta.commentsReceived());
+    }
+
     /**
      * 기존 사용자의 좋아요/친구 카운터 초기화 (일회성 마이그레이션용)
      */
@@ -163,11 +195,14 @@ public class UserStatsService {
      * 랭킹 퍼센타일 계산 (상위 X%)
      */
     public Double calculateRankingPercentile(long rankingPoints) {
-        long totalUsers = userStatsRepository.countTotalUsers();
+        // 리더보드(Redis)를 쓸 수 없으면 DB COUNT 쿼리로 계산
+        long totalUsers = rankingLeaderboard.size(Board.OVERALL)
+            .orElseGet(userStatsRepository::countTotalUsers);
         if (totalUsers == 0) {
             return 100.0;
         }
-        long rank = userStatsRepository.calculateRank(rankingPoints);
+        long rank = rankingLeaderboard.rankOfScore(Board.OVERALL, rankingPoints)
+            .orElseGet(() -> userStatsRepository.calculateRank(rankingPoints));
         return Math.round((double) rank / totalUsers * 1000) / 10.0;
     }
 }
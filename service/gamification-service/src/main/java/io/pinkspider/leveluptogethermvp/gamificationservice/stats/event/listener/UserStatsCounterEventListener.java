@@ -7,8 +7,8 @@ import io.pinkspider.global.event.FriendRemovedEvent;
 import io.pinkspider.global.event.FriendRequestAcceptedEvent;
 import io.pinkspider.global.event.GuildJoinedEvent;
 import io.pinkspider.global.event.MissionCommentEvent;
-import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementService;
-import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsService;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsCounterBuffer;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsCounterDelta;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -18,8 +18,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 소셜 카운터 이벤트 리스너
- * - 좋아요/친구 변경 이벤트를 수신하여 UserStats 카운터 업데이트
- * - 트랜잭션 커밋 후 비동기로 처리
+ * - 좋아요/친구 변경 이벤트를 수신하여 UserStats 카운터 변화량을 UserStatsCounterBuffer에 적재
+ * - 트랜잭션 커밋 후 비동기로 처리, DB 반영과 업적 체크는 버퍼 flush 주기마다 사용자별 1회
  */
 @Component
 @Slf4j
@@ -28,15 +28,13 @@ public class UserStatsCounterEventListener {
 
     private static final String EVENT_EXECUTOR = "eventExecutor";
 
-    private final UserStatsService userStatsService;
-    private final AchievementService achievementService;
+    private final UserStatsCounterBuffer userStatsCounterBuffer;
 
     @Async(EVENT_EXECUTOR)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleFeedLiked(FeedLikedEvent event) {
         try {
-            userStatsService.incrementLikesReceived(event.feedOwnerId());
-            achievementService.checkAchievementsByDataSource(event.feedOwnerId(), "FEED_SERVICE");
+            userStatsCounterBuffer.add(event.feedOwnerId(), UserStatsCounterDelta.likesReceived(1), "FEED_SERVICE");
             log.debug("좋아요 카운터 업데이트: feedOwnerId={}, feedId={}", event.feedOwnerId(), event.feedId());
         } catch (Exception e) {
             log.warn("좋아요 카운터 업데이트 실패: feedOwnerId={}, error={}", event.feedOwnerId(), e.getMessage());
@@ -47,7 +45,7 @@ public class UserStatsCounterEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleFeedUnliked(FeedUnlikedEvent event) {
         try {
-            userStatsService.decrementLikesReceived(event.feedOwnerId());
+            userStatsCounterBuffer.add(event.feedOwnerId(), UserStatsCounterDelta.likesReceived(-1), null);
             log.debug("좋아요 카운터 감소: feedOwnerId={}, feedId={}", event.feedOwnerId(), event.feedId());
         } catch (Exception e) {
             log.warn("좋아요 카운터 감소 실패: feedOwnerId={}, error={}", event.feedOwnerId(), e.getMessage());
@@ -58,10 +56,8 @@ public class UserStatsCounterEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleFriendAccepted(FriendRequestAcceptedEvent event) {
         try {
-            userStatsService.incrementFriendCount(event.userId());
-            userStatsService.incrementFriendCount(event.requesterId());
-            achievementService.checkAchievementsByDataSource(event.userId(), "FRIEND_SERVICE");
-            achievementService.checkAchievementsByDataSource(event.requesterId(), "FRIEND_SERVICE");
+            userStatsCounterBuffer.add(event.userId(), UserStatsCounterDelta.friendCount(1), "FRIEND_SERVICE");
+            userStatsCounterBuffer.add(event.requesterId(), UserStatsCounterDelta.friendCount(1), "FRIEND_SERVICE");
             log.debug("친구 카운터 증가: userId={}, requesterId={}", event.userId(), event.requesterId());
         } catch (Exception e) {
             log.warn("친구 카운터 업데이트 실패: userId={}, error={}", event.userId(), e.getMessage());
@@ -72,8 +68,7 @@ public class UserStatsCounterEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleGuildJoined(GuildJoinedEvent event) {
         try {
-            userStatsService.incrementGuildJoinCount(event.userId());
-            achievementService.checkAchievementsByDataSource(event.userId(), "USER_STATS");
+            userStatsCounterBuffer.add(event.userId(), UserStatsCounterDelta.guildJoinCount(1), "USER_STATS");
             log.debug("길드 가입 카운터 증가: userId={}, guildId={}", event.userId(), event.guildId());
         } catch (Exception e) {
             log.warn("길드 가입 카운터 업데이트 실패: userId={}, error={}", event.userId(), e.getMessage());
@@ -84,8 +79,8 @@ public class UserStatsCounterEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleFriendRemoved(FriendRemovedEvent event) {
         try {
-            userStatsService.decrementFriendCount(event.userId());
-            userStatsService.decrementFriendCount(event.removedFriendId());
+            userStatsCounterBuffer.add(event.userId(), UserStatsCounterDelta.friendCount(-1), null);
+            userStatsCounterBuffer.add(event.removedFriendId(), UserStatsCounterDelta.friendCount(-1), null);
             log.debug("친구 카운터 감소: userId={}, removedFriendId={}", event.userId(), event.removedFriendId());
         } catch (Exception e) {
             log.warn("친구 카운터 감소 실패: userId={}, error={}", event.userId(), e.getMessage());
@@ -100,8 +95,7 @@ public class UserStatsCounterEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleFeedComment(FeedCommentEvent event) {
         try {
-            userStatsService.incrementCommentsReceived(event.feedOwnerId());
-            achievementService.checkAchievementsByDataSource(event.feedOwnerId(), "USER_STATS");
+            userStatsCounterBuffer.add(event.feedOwnerId(), UserStatsCounterDelta.commentsReceived(1), "USER_STATS");
             log.debug("피드 댓글 카운터 증가: feedOwnerId={}, feedId={}", event.feedOwnerId(), event.feedId());
         } catch (Exception e) {
             log.warn("피드 댓글 카운터 갱신 실패: feedOwnerId={}, error={}", event.feedOwnerId(), e.getMessage());
@@ -116,8 +110,7 @@ public class UserStatsCounterEventListener {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleMissionComment(MissionCommentEvent event) {
         try {
-            userStatsService.incrementCommentsReceived(event.missionCreatorId());
-            achievementService.checkAchievementsByDataSource(event.missionCreatorId(), "USER_STATS");
+            userStatsCounterBuffer.add(event.missionCreatorId(), UserStatsCounterDelta.commentsReceived(1), "USER_STATS");
             log.debug("미션 댓글 카운터 증가: missionCreatorId={}, missionId={}",
                 event.missionCreatorId(), event.missionId());
         } catch (Exception e) {
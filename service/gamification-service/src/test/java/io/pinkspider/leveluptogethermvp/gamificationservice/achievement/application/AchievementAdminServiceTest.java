@@ -72,6 +72,9 @@ class AchievementAdminServiceTest {
     @Mock
     private TitleRepository titleRepository;
 
+    @Mock
+    private AchievementRuleIndex achievementRuleIndex;
+
     @InjectMocks
     private AchievementAdminService achievementAdminService;
 
@@ -516,6 +519,7 @@ class AchievementAdminServiceTest {
             // then
             assertThat(result.getIsActive()).isFalse();
             verify(achievementRepository).save(achievement);
+            verify(achievementRuleIndex).invalidate();
         }
 
         @Test
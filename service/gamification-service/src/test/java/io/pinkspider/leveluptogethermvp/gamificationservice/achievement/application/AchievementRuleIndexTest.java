@@ -0,0 +1,121 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application;
+
+import static io.pinkspider.global.test.TestReflectionUtils.setId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementRuleIndex.Rules;
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.Achievement;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AchievementRuleIndex 단위 테스트")
+class AchievementRuleIndexTest {
+
+    @Mock
+    private AchievementCacheService achievementCacheService;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private AchievementRuleIndex achievementRuleIndex;
+
+    @BeforeEach
+    void setUp() {
+        achievementRuleIndex = new AchievementRuleIndex(
+            achievementCacheService, stringRedisTemplate, Duration.ofMinutes(10));
+    }
+
+    private Achievement achievement(Long id, String dataSource, String dataField, int requiredCount, String operator) {
+        Achievement achievement = Achievement.builder()
+            .name("업적 " + id)
+            .requiredCount(requiredCount)
+            .isActive(true)
+            .checkLogicDataSource(dataSource)
+            .checkLogicDataField(dataField)
+            .comparisonOperator(operator)
+            .build();
+        setId(achievement, id);
+        return achievement;
+    }
+
+    @Nested
+    @DisplayName("rules 테스트")
+    class RulesTest {
+
+        @Test
+        @DisplayName("기준값 오름차순으로 정렬하고 현재 값이 도달한 업적만 고른다")
+        void rules_reachedByBinarySearch() {
+            // given
+            Achievement likes100 = achievement(3L, "FEED_SERVICE", "totalLikesReceived", 100, "GTE");
+            Achievement likes10 = achievement(1L, "FEED_SERVICE", "totalLikesReceived", 10, "GTE");
+            Achievement likes50 = achievement(2L, "FEED_SERVICE", "totalLikesReceived", 50, "GT");
+            Achievement friends = achievement(4L, "FRIEND_SERVICE", "friendCount", 5, "GTE");
+            when(achievementCacheService.getAchievementsWithCheckLogic())
+                .thenReturn(List.of(likes100, likes10, likes50, friends));
+
+            // when
+            Rules rules = achievementRuleIndex.rules("FEED_SERVICE", "totalLikesReceived");
+
+            // then
+            assertThat(rules.sorted()).containsExactly(likes10, likes50, likes100);
+            assertThat(rules.reached(9)).isEmpty();
+            assertThat(rules.reached(50)).containsExactly(likes10);
+            assertThat(rules.reached(51)).containsExactly(likes10, likes50);
+            assertThat(rules.notReached(51)).containsExactly(likes100);
+            assertThat(rules.reached(1_000)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("단조 조건이 아닌 업적과 비활성 업적은 정렬 대상에서 제외한다")
+        void rules_separatesUnindexed() {
+            // given
+            Achievement gte = achievement(1L, "USER_STATS", "currentStreak", 7, "GTE");
+            Achievement eq = achievement(2L, "USER_STATS", "currentStreak", 3, "EQ");
+            Achievement inactive = achievement(3L, "USER_STATS", "currentStreak", 1, "GTE");
+            inactive.setIsActive(false);
+            when(achievementCacheService.getAchievementsWithCheckLogic()).thenReturn(List.of(gte, eq, inactive));
+
+            // when
+            Rules rules = achievementRuleIndex.rules("USER_STATS", "currentStreak");
+
+            // then
+            assertThat(rules.sorted()).containsExactly(gte);
+            assertThat(rules.unindexed()).containsExactly(eq);
+            assertThat(achievementRuleIndex.rules("USER_STATS", "friendCount").isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화 테스트")
+    class InvalidateTest {
+
+        @Test
+        @DisplayName("무효화하면 다른 인스턴스에 발행하고 다음 조회에서 인덱스를 다시 만든다")
+        void invalidate_rebuildsOnNextLookup() {
+            // given
+            when(achievementCacheService.getAchievementsWithCheckLogic()).thenReturn(List.of());
+            achievementRuleIndex.rules("USER_STATS", "friendCount");
+            achievementRuleIndex.rules("USER_STATS", "friendCount");
+
+            // when
+            achievementRuleIndex.invalidate();
+            achievementRuleIndex.rules("USER_STATS", "friendCount");
+
+            // then
+            verify(stringRedisTemplate).convertAndSend(AchievementRuleIndex.CHANNEL, "all");
+            verify(achievementCacheService, times(2)).getAchievementsWithCheckLogic();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,12 +32,14 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.experience.applicati
 import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsService;
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
 import io.pinkspider.leveluptogethermvp.metaservice.domain.dto.MissionCategoryResponse;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -90,6 +93,9 @@ class AchievementServiceTest {
     @Mock
     private io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.TitleRepository titleRepository;
 
+    @Mock
+    private AchievementRuleIndex achievementRuleIndex;
+
     @InjectMocks
     private AchievementService achievementService;
 
@@ -517,6 +523,108 @@ class AchievementServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("checkAchievementsByDataSources 테스트")
+    class CheckAchievementsByDataSourcesTest {
+
+        @Test
+        @DisplayName("요청된 데이터 소스의 업적만 한 번의 컨텍스트 로드로 체크하고 보상을 자동 수령한다")
+        void checkAchievementsByDataSources_filtersByDataSource() {
+            // given
+            Achievement statsAchievement = createTestAchievement(1L, "MISSION_COMPLETE_10", 10, 100);
+            Achievement friendAchievement = Achievement.builder()
+                .name("FRIEND_5")
+                .requiredCount(5)
+                .isActive(true)
+                .checkLogicDataSource("FRIEND_SERVICE")
+                .checkLogicDataField("friendCount")
+                .comparisonOperator("GTE")
+                .build();
+            setId(friendAchievement, 2L);
+            UserAchievement userAchievement = createTestUserAchievement(1L, TEST_USER_ID, statsAchievement, 5, false);
+
+            when(achievementCacheService.getAchievementsWithCheckLogic())
+                .thenReturn(List.of(statsAchievement, friendAchievement));
+            when(strategyRegistry.getStrategy("USER_STATS")).thenReturn(mockStrategy);
+            when(mockStrategy.checkCondition(any(AchievementSyncContext.class), eq(statsAchievement))).thenReturn(false);
+            when(mockStrategy.fetchCurrentValue(any(AchievementSyncContext.class), eq(statsAchievement))).thenReturn(7);
+            when(userAchievementRepository.findAllByUserIdForSync(TEST_USER_ID))
+                .thenReturn(List.of(userAchievement));
+
+            // when
+            achievementService.checkAchievementsByDataSources(TEST_USER_ID, List.of("USER_STATS", "USER_EXPERIENCE"));
+
+            // then
+            assertThat(userAchievement.getCurrentCount()).isEqualTo(7);
+            verify(strategyRegistry, never()).getStrategy("FRIEND_SERVICE");
+            verify(userAchievementRepository).findAllByUserIdForSync(TEST_USER_ID);
+            verify(userAchievementRepository).findClaimableByUserId(TEST_USER_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("checkAchievementsByDataFields 테스트")
+    class CheckAchievementsByDataFieldsTest {
+
+        @Test
+        @DisplayName("도달한 미완료 업적만 평가하고 완료한 업적과 도달하지 못한 업적은 진행도만 일괄 갱신한다")
+        void checkAchievementsByDataFields_evaluatesOnlyReached() {
+            // given
+            Achievement reached = createTestAchievement(1L, "LIKES_10", 10, 50);
+            Achievement completed = createTestAchievement(2L, "LIKES_5", 5, 30);
+            Achievement notReached = createTestAchievement(3L, "LIKES_100", 100, 200);
+            UserAchievement reachedRow = createTestUserAchievement(1L, TEST_USER_ID, reached, 9, false);
+
+            when(strategyRegistry.getStrategy("USER_STATS")).thenReturn(mockStrategy);
+            when(achievementRuleIndex.rules("USER_STATS", "totalLikesReceived"))
+                .thenReturn(AchievementRuleIndex.Rules.of(List.of(reached, completed, notReached), List.of()));
+            when(mockStrategy.fetchCurrentValue(TEST_USER_ID, "totalLikesReceived")).thenReturn(12L);
+            when(userAchievementRepository.findCompletedAchievementIds(TEST_USER_ID, List.of(2L, 1L)))
+                .thenReturn(List.of(2L));
+            when(userAchievementRepository.findByUserIdAndAchievementId(TEST_USER_ID, 1L))
+                .thenReturn(Optional.of(reachedRow));
+            when(mockStrategy.checkCondition(TEST_USER_ID, reached)).thenReturn(true);
+            when(mockStrategy.fetchCurrentValue(TEST_USER_ID, reached)).thenReturn(12L);
+
+            // when
+            achievementService.checkAchievementsByDataFields(TEST_USER_ID, "USER_STATS", List.of("totalLikesReceived"));
+
+            // then
+            assertThat(reachedRow.getIsCompleted()).isTrue();
+            verify(mockStrategy, never()).checkCondition(TEST_USER_ID, completed);
+            verify(mockStrategy, never()).checkCondition(TEST_USER_ID, notReached);
+            verify(userAchievementRepository)
+                .insertMissingProgress(eq(TEST_USER_ID), eq(List.of(3L)), eq(12), any(LocalDateTime.class));
+            verify(userAchievementRepository).updateProgress(TEST_USER_ID, List.of(2L, 3L), 12);
+        }
+
+        @Test
+        @DisplayName("진행 행이 아직 없는 사용자는 도달하지 못한 업적의 행을 먼저 만든다")
+        void checkAchievementsByDataFields_createsMissingRows() {
+            // given
+            Achievement first = createTestAchievement(1L, "LIKES_10", 10, 50);
+            Achievement second = createTestAchievement(2L, "LIKES_100", 100, 200);
+
+            when(strategyRegistry.getStrategy("USER_STATS")).thenReturn(mockStrategy);
+            when(achievementRuleIndex.rules("USER_STATS", "totalLikesReceived"))
+                .thenReturn(AchievementRuleIndex.Rules.of(List.of(first, second), List.of()));
+            when(mockStrategy.fetchCurrentValue(TEST_USER_ID, "totalLikesReceived")).thenReturn(3L);
+            when(userAchievementRepository.insertMissingProgress(
+                eq(TEST_USER_ID), eq(List.of(1L, 2L)), eq(3), any(LocalDateTime.class))).thenReturn(2);
+
+            // when
+            achievementService.checkAchievementsByDataFields(TEST_USER_ID, "USER_STATS", List.of("totalLikesReceived"));
+
+            // then
+            InOrder inOrder = inOrder(userAchievementRepository);
+            inOrder.verify(userAchievementRepository)
+                .insertMissingProgress(eq(TEST_USER_ID), eq(List.of(1L, 2L)), eq(3), any(LocalDateTime.class));
+            inOrder.verify(userAchievementRepository).updateProgress(TEST_USER_ID, List.of(1L, 2L), 3);
+            verify(userAchievementRepository, never()).findCompletedAchievementIds(any(), any());
+            verify(mockStrategy, never()).checkCondition(any(String.class), any(Achievement.class));
+        }
+    }
+
     @Nested
     @DisplayName("autoClaimRewards 테스트")
     class AutoClaimRewardsTest {
@@ -0,0 +1,204 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AchievementSyncCoordinator 단위 테스트")
+class AchievementSyncCoordinatorTest {
+
+    @Mock
+    private AchievementService achievementService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AchievementSyncCoordinator coordinator;
+
+    private static final String TEST_USER_ID = "test-user-123";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coordinator = new AchievementSyncCoordinator(
+            achievementService, taskScheduler, true, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    private Runnable scheduledTask() {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(captor.capture(), any(Instant.class));
+        return captor.getValue();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Nested
+    @DisplayName("debounce 테스트")
+    class DebounceTest {
+
+        @Test
+        @DisplayName("debounce 동안 들어온 요청은 한 번의 실행으로 합쳐진다")
+        void requests_coalescedIntoOneRun() {
+            // given
+            coordinator.requestCheck(TEST_USER_ID, List.of("USER_EXPERIENCE"));
+            coordinator.requestCheck(TEST_USER_ID, List.of("USER_EXPERIENCE", "USER_CATEGORY_EXPERIENCE"));
+            coordinator.requestCheck(TEST_USER_ID, List.of("USER_STATS"));
+            Runnable task = scheduledTask();
+
+            // when
+            task.run();
+
+            // then
+            verify(achievementService).checkAchievementsByDataSources(
+                TEST_USER_ID, Set.of("USER_EXPERIENCE", "USER_CATEGORY_EXPERIENCE", "USER_STATS"));
+            assertThat(counter("achievement.sync.requests")).isEqualTo(3);
+            assertThat(counter("achievement.sync.coalesced")).isEqualTo(2);
+            assertThat(coordinator.pendingUsers()).isZero();
+        }
+
+        @Test
+        @DisplayName("전체 동기화 요청이 섞이면 전체 동기화 1회만 실행한다")
+        void fullSync_subsumesDataSources() {
+            // given
+            coordinator.requestCheck(TEST_USER_ID, List.of("USER_EXPERIENCE"));
+            coordinator.requestFullSync(TEST_USER_ID);
+            coordinator.requestFullSync(TEST_USER_ID);
+
+            // when
+            scheduledTask().run();
+
+            // then
+            verify(achievementService, times(1)).syncUserAchievements(TEST_USER_ID);
+            verify(achievementService, never()).checkAchievementsByDataSources(anyString(), anyCollection());
+            verify(achievementService, never()).checkAchievementsByDataSource(anyString(), anyString());
+            assertThat(meterRegistry.get("achievement.sync.executions").tag("type", "full").counter().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("데이터 소스가 하나면 기존 단일 소스 체크를 사용한다")
+        void singleDataSource_usesSingleCheck() {
+            // given
+            coordinator.requestCheck(TEST_USER_ID, List.of("GUILD_SERVICE"));
+
+            // when
+            scheduledTask().run();
+
+            // then
+            verify(achievementService).checkAchievementsByDataSource(TEST_USER_ID, "GUILD_SERVICE");
+        }
+    }
+
+    @Nested
+    @DisplayName("single-flight 테스트")
+    class SingleFlightTest {
+
+        @Test
+        @DisplayName("실행 중 들어온 요청은 끝난 뒤 한 번의 후속 실행으로 합쳐진다")
+        void requestsDuringRun_rescheduledOnce() {
+            // given
+            coordinator.requestFullSync(TEST_USER_ID);
+            doAnswer(invocation -> {
+                coordinator.requestCheck(TEST_USER_ID, List.of("USER_EXPERIENCE"));
+                coordinator.requestCheck(TEST_USER_ID, List.of("USER_STATS"));
+                return true;
+            }).when(achievementService).syncUserAchievements(TEST_USER_ID);
+            Runnable first = scheduledTask();
+
+            // when
+            first.run();
+
+            // then - 실행 중 요청은 새로 스케줄하지 않고, 종료 후 1회만 재스케줄
+            ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+            verify(taskScheduler, times(2)).schedule(captor.capture(), any(Instant.class));
+            assertThat(coordinator.pendingUsers()).isEqualTo(1);
+
+            // when - 후속 실행
+            captor.getAllValues().get(1).run();
+
+            // then
+            verify(achievementService).checkAchievementsByDataSources(
+                TEST_USER_ID, Set.of("USER_EXPERIENCE", "USER_STATS"));
+            assertThat(coordinator.pendingUsers()).isZero();
+        }
+
+        @Test
+        @DisplayName("실행이 실패해도 상태를 정리한다")
+        void failure_clearsState() {
+            // given
+            coordinator.requestCheck(TEST_USER_ID, List.of("GUILD_SERVICE"));
+            doThrow(new RuntimeException("DB error"))
+                .when(achievementService).checkAchievementsByDataSource(TEST_USER_ID, "GUILD_SERVICE");
+
+            // when
+            scheduledTask().run();
+
+            // then
+            assertThat(coordinator.pendingUsers()).isZero();
+        }
+
+        @Test
+        @DisplayName("합친 체크가 실패하면 데이터 소스별로 다시 체크한다")
+        void batchFailure_fallsBackPerDataSource() {
+            // given
+            coordinator.requestCheck(TEST_USER_ID, List.of("USER_EXPERIENCE", "USER_STATS"));
+            doThrow(new RuntimeException("strategy error"))
+                .when(achievementService).checkAchievementsByDataSources(anyString(), anyCollection());
+            doThrow(new RuntimeException("strategy error"))
+                .when(achievementService).checkAchievementsByDataSource(TEST_USER_ID, "USER_EXPERIENCE");
+
+            // when
+            scheduledTask().run();
+
+            // then - 한 소스 실패가 나머지를 막지 않는다
+            verify(achievementService).checkAchievementsByDataSource(TEST_USER_ID, "USER_STATS");
+        }
+    }
+
+    @Nested
+    @DisplayName("비활성화 테스트")
+    class DisabledTest {
+
+        @Test
+        @DisplayName("비활성화 상태면 호출 스레드에서 즉시 실행한다")
+        void disabled_runsImmediately() {
+            // given
+            coordinator = new AchievementSyncCoordinator(
+                achievementService, taskScheduler, false, Duration.ofSeconds(2), new SimpleMeterRegistry());
+
+            // when
+            coordinator.requestFullSync(TEST_USER_ID);
+
+            // then
+            verify(achievementService).syncUserAchievements(TEST_USER_ID);
+            verifyNoInteractions(taskScheduler);
+            assertThat(coordinator.pendingUsers()).isZero();
+        }
+    }
+}
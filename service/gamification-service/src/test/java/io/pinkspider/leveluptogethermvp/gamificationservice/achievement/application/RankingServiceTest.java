@@ -6,6 +6,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.Title;
@@ -20,11 +24,16 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserS
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserTitleRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.domain.dto.LevelRankingResponse;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.domain.dto.RankingResponse;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.Board;
 import io.pinkspider.global.facade.UserQueryFacade;
 import io.pinkspider.global.facade.dto.UserProfileInfo;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -36,6 +45,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class RankingServiceTest {
@@ -55,11 +65,22 @@ class RankingServiceTest {
     @Mock
     private ExperienceHistoryRepository experienceHistoryRepository;
 
+    @Mock
+    private RankingLeaderboard rankingLeaderboard;
+
     @InjectMocks
     private RankingService rankingService;
 
     private static final String TEST_USER_ID = "test-user-123";
 
+    @BeforeEach
+    void setUp() {
+        // 부가 정보 로더는 실제 구현으로 mock 저장소를 호출하게 해 조회 횟수를 검증한다
+        ReflectionTestUtils.setField(rankingService, "rankingEnricher",
+            new RankingEnricher(userExperienceRepository, new TitleService(null, userTitleRepository, null),
+                userQueryFacadeService));
+    }
+
     private UserStats createTestUserStats(Long id, String userId, long rankingPoints) {
         UserStats stats = UserStats.builder()
             .userId(userId)
@@ -98,9 +119,8 @@ class RankingServiceTest {
 
             when(userStatsRepository.findAllByOrderByRankingPointsDesc(pageable)).thenReturn(statsPage);
             when(userQueryFacadeService.getActiveUserIds(List.of("user1", "user2"))).thenReturn(List.of("user1", "user2"));
-            when(userExperienceRepository.findByUserId("user1")).thenReturn(Optional.of(createTestUserExperience(1L, "user1", 10, 1000)));
-            when(userExperienceRepository.findByUserId("user2")).thenReturn(Optional.of(createTestUserExperience(2L, "user2", 8, 800)));
-            when(userTitleRepository.findEquippedTitlesByUserId(anyString())).thenReturn(Collections.emptyList());
+            when(userExperienceRepository.findByUserIdIn(List.of("user1", "user2"))).thenReturn(List.of(
+                createTestUserExperience(1L, "user1", 10, 1000), createTestUserExperience(2L, "user2", 8, 800)));
 
             // when
             Page<RankingResponse> result = rankingService.getOverallRanking(pageable);
@@ -109,7 +129,9 @@ class RankingServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(2);
             assertThat(result.getContent().get(0).getRank()).isEqualTo(1);
+            assertThat(result.getContent().get(0).getUserLevel()).isEqualTo(10);
             assertThat(result.getContent().get(1).getRank()).isEqualTo(2);
+            assertThat(result.getContent().get(1).getUserLevel()).isEqualTo(8);
         }
     }
 
@@ -127,8 +149,6 @@ class RankingServiceTest {
 
             when(userStatsRepository.findAllByOrderByTotalMissionCompletionsDesc(pageable)).thenReturn(statsPage);
             when(userQueryFacadeService.getActiveUserIds(List.of("user1"))).thenReturn(List.of("user1"));
-            when(userExperienceRepository.findByUserId("user1")).thenReturn(Optional.empty());
-            when(userTitleRepository.findEquippedTitlesByUserId("user1")).thenReturn(Collections.emptyList());
 
             // when
             Page<RankingResponse> result = rankingService.getMissionCompletionRanking(pageable);
@@ -153,8 +173,6 @@ class RankingServiceTest {
 
             when(userStatsRepository.findAllByOrderByMaxStreakDesc(pageable)).thenReturn(statsPage);
             when(userQueryFacadeService.getActiveUserIds(List.of("user1"))).thenReturn(List.of("user1"));
-            when(userExperienceRepository.findByUserId("user1")).thenReturn(Optional.empty());
-            when(userTitleRepository.findEquippedTitlesByUserId("user1")).thenReturn(Collections.emptyList());
 
             // when
             Page<RankingResponse> result = rankingService.getStreakRanking(pageable);
@@ -179,8 +197,6 @@ class RankingServiceTest {
 
             when(userStatsRepository.findAllByOrderByTotalAchievementsCompletedDesc(pageable)).thenReturn(statsPage);
             when(userQueryFacadeService.getActiveUserIds(List.of("user1"))).thenReturn(List.of("user1"));
-            when(userExperienceRepository.findByUserId("user1")).thenReturn(Optional.empty());
-            when(userTitleRepository.findEquippedTitlesByUserId("user1")).thenReturn(Collections.emptyList());
 
             // when
             Page<RankingResponse> result = rankingService.getAchievementRanking(pageable);
@@ -216,6 +232,25 @@ class RankingServiceTest {
             assertThat(result.getRankingPoints()).isEqualTo(1000L);
         }
 
+        @Test
+        @DisplayName("리더보드를 쓸 수 있으면 DB 순위 쿼리 없이 조회한다")
+        void getMyRanking_usesLeaderboard() {
+            // given
+            UserStats stats = createTestUserStats(1L, TEST_USER_ID, 1000L);
+
+            when(userStatsRepository.findByUserId(TEST_USER_ID)).thenReturn(Optional.of(stats));
+            when(rankingLeaderboard.rankOf(Board.OVERALL, TEST_USER_ID)).thenReturn(Optional.of(7L));
+            when(userExperienceRepository.findByUserId(TEST_USER_ID)).thenReturn(Optional.empty());
+            when(userTitleRepository.findEquippedTitlesByUserId(TEST_USER_ID)).thenReturn(Collections.emptyList());
+
+            // when
+            RankingResponse result = rankingService.getMyRanking(TEST_USER_ID);
+
+            // then
+            assertThat(result.getRank()).isEqualTo(7L);
+            verify(userStatsRepository, never()).findUserRank(anyString());
+        }
+
         @Test
         @DisplayName("통계가 없으면 기본값을 반환한다")
         void getMyRanking_noStats() {
@@ -253,6 +288,32 @@ class RankingServiceTest {
             assertThat(result).isNotNull();
         }
 
+        @Test
+        @DisplayName("리더보드를 쓸 수 있으면 리더보드 순위로 주변 랭킹을 구성한다")
+        void getNearbyRanking_usesLeaderboard() {
+            // given
+            UserStats first = createTestUserStats(1L, "user1", 1200L);
+            UserStats me = createTestUserStats(2L, TEST_USER_ID, 1000L);
+            UserStats tied = createTestUserStats(3L, "user3", 1000L);
+            List<RankingLeaderboard.Entry> entries = List.of(
+                new RankingLeaderboard.Entry("user1", 1200L, 4L),
+                new RankingLeaderboard.Entry(TEST_USER_ID, 1000L, 5L),
+                new RankingLeaderboard.Entry("user3", 1000L, 5L));
+
+            when(rankingLeaderboard.around(Board.OVERALL, TEST_USER_ID, 1)).thenReturn(Optional.of(entries));
+            when(userStatsRepository.findByUserIdIn(anyList())).thenReturn(List.of(tied, me, first));
+
+            // when
+            List<RankingResponse> result = rankingService.getNearbyRanking(TEST_USER_ID, 1);
+
+            // then
+            assertThat(result).extracting(RankingResponse::getUserId)
+                .containsExactly("user1", TEST_USER_ID, "user3");
+            assertThat(result).extracting(RankingResponse::getRank)
+                .containsExactly(4L, 5L, 5L);
+            verify(userStatsRepository, never()).findUserRank(anyString());
+        }
+
         @Test
         @DisplayName("랭킹이 없으면 빈 목록을 반환한다")
         void getNearbyRanking_noRank() {
@@ -361,8 +422,7 @@ class RankingServiceTest {
             when(experienceHistoryRepository.findUserExpRankingByCategory(eq(category), any(Pageable.class))).thenReturn(rankingPage);
             when(userQueryFacadeService.getActiveUserIds(List.of("user1"))).thenReturn(List.of("user1"));
             when(userQueryFacadeService.getUserProfiles(List.of("user1"))).thenReturn(java.util.Map.of("user1", new UserProfileInfo("user1", "테스트유저", null, 10, null, null, null)));
-            when(userExperienceRepository.findByUserId("user1")).thenReturn(Optional.of(exp));
-            when(userTitleRepository.findEquippedTitlesByUserId("user1")).thenReturn(Collections.emptyList());
+            when(userExperienceRepository.findByUserIdIn(List.of("user1"))).thenReturn(List.of(exp));
 
             // when
             Page<LevelRankingResponse> result = rankingService.getLevelRankingByCategory(category, pageable);
@@ -387,8 +447,6 @@ class RankingServiceTest {
             when(experienceHistoryRepository.findUserExpRankingByCategory(eq(category), any(Pageable.class))).thenReturn(rankingPage);
             when(userQueryFacadeService.getActiveUserIds(List.of("user2"))).thenReturn(List.of("user2"));
             when(userQueryFacadeService.getUserProfiles(List.of("user2"))).thenReturn(java.util.Map.of("user2", new UserProfileInfo("user2", "테스트유저2", null, 1, null, null, null)));
-            when(userExperienceRepository.findByUserId("user2")).thenReturn(Optional.empty());
-            when(userTitleRepository.findEquippedTitlesByUserId("user2")).thenReturn(Collections.emptyList());
 
             // when
             Page<LevelRankingResponse> result = rankingService.getLevelRankingByCategory(category, pageable);
@@ -416,7 +474,6 @@ class RankingServiceTest {
                 .thenReturn(List.of(exp1, exp2));
             when(userQueryFacadeService.getActiveUserIds(List.of("user1", "user2"))).thenReturn(List.of("user1", "user2"));
             when(userQueryFacadeService.getUserProfiles(List.of("user1", "user2"))).thenReturn(java.util.Map.of("user1", new UserProfileInfo("user1", "유저1", null, 20, null, null, null), "user2", new UserProfileInfo("user2", "유저2", null, 15, null, null, null)));
-            when(userTitleRepository.findEquippedTitlesByUserId(anyString())).thenReturn(Collections.emptyList());
 
             // when
             Page<LevelRankingResponse> result = rankingService.getLevelRanking(pageable);
@@ -442,7 +499,6 @@ class RankingServiceTest {
             when(userQueryFacadeService.getActiveUserIds(List.of("u1", "u2", "u3")))
                 .thenReturn(List.of("u1", "u2", "u3"));
             when(userQueryFacadeService.getUserProfiles(anyList())).thenReturn(java.util.Map.of());
-            when(userTitleRepository.findEquippedTitlesByUserId(anyString())).thenReturn(Collections.emptyList());
 
             Page<LevelRankingResponse> result = rankingService.getLevelRanking(pageable);
 
@@ -465,7 +521,6 @@ class RankingServiceTest {
             when(userQueryFacadeService.getActiveUserIds(List.of("active1", "withdrawn1", "active2")))
                 .thenReturn(List.of("active1", "active2")); // 탈퇴자 제외
             when(userQueryFacadeService.getUserProfiles(anyList())).thenReturn(java.util.Map.of());
-            when(userTitleRepository.findEquippedTitlesByUserId(anyString())).thenReturn(Collections.emptyList());
 
             Page<LevelRankingResponse> result = rankingService.getLevelRanking(pageable);
 
@@ -530,6 +585,57 @@ class RankingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("랭킹 목록 조회 횟수 테스트")
+    class RankingQueryCountTest {
+
+        private int queryCount() {
+            return mockingDetails(userStatsRepository).getInvocations().size()
+                + mockingDetails(userExperienceRepository).getInvocations().size()
+                + mockingDetails(userTitleRepository).getInvocations().size()
+                + mockingDetails(userQueryFacadeService).getInvocations().size();
+        }
+
+        private int queryCountFor(int rows, Function<Pageable, Page<RankingResponse>> endpoint) {
+            Pageable pageable = PageRequest.of(0, rows);
+            List<UserStats> stats = IntStream.range(0, rows)
+                .mapToObj(i -> createTestUserStats((long) i + 1, "user" + i, 1000L - i))
+                .toList();
+            List<String> userIds = stats.stream().map(UserStats::getUserId).toList();
+            Page<UserStats> statsPage = new PageImpl<>(stats, pageable, rows);
+
+            when(userStatsRepository.findAllByOrderByRankingPointsDesc(any(Pageable.class))).thenReturn(statsPage);
+            when(userStatsRepository.findAllByOrderByTotalMissionCompletionsDesc(any(Pageable.class))).thenReturn(statsPage);
+            when(userStatsRepository.findAllByOrderByMaxStreakDesc(any(Pageable.class))).thenReturn(statsPage);
+            when(userStatsRepository.findAllByOrderByTotalAchievementsCompletedDesc(any(Pageable.class)))
+                .thenReturn(statsPage);
+            when(userQueryFacadeService.getActiveUserIds(anyList())).thenReturn(userIds);
+            clearInvocations(userStatsRepository, userExperienceRepository, userTitleRepository, userQueryFacadeService);
+
+            Page<RankingResponse> result = endpoint.apply(pageable);
+
+            assertThat(result.getContent()).hasSize(rows);
+            return queryCount();
+        }
+
+        @Test
+        @DisplayName("네 가지 랭킹 목록 모두 행 수와 무관하게 고정 횟수(목록+활성+레벨+칭호+프로필)로 조회한다")
+        void rankingPages_constantQueryCount() {
+            List<Function<Pageable, Page<RankingResponse>>> endpoints = List.of(
+                rankingService::getOverallRanking,
+                rankingService::getMissionCompletionRanking,
+                rankingService::getStreakRanking,
+                rankingService::getAchievementRanking);
+
+            for (Function<Pageable, Page<RankingResponse>> endpoint : endpoints) {
+                assertThat(queryCountFor(1, endpoint)).isEqualTo(5);
+                assertThat(queryCountFor(50, endpoint)).isEqualTo(5);
+            }
+            verify(userExperienceRepository, never()).findByUserId(anyString());
+            verify(userTitleRepository, never()).findEquippedTitlesByUserId(anyString());
+        }
+    }
+
     @Nested
     @DisplayName("칭호 조합 테스트")
     class EquippedTitleTest {
@@ -4,6 +4,7 @@ import static io.pinkspider.global.test.TestReflectionUtils.setId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -22,6 +23,7 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.domain.d
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.domain.dto.UserTitleResponse;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -205,6 +207,35 @@ class TitleServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getCombinedEquippedTitleInfoMap 테스트")
+    class GetCombinedEquippedTitleInfoMapTest {
+
+        @Test
+        @DisplayName("여러 사용자의 장착 칭호를 1회 조회로 조합하고, 칭호가 없는 사용자는 빈 정보를 반환한다")
+        void getCombinedEquippedTitleInfoMap_success() {
+            // given
+            Title leftTitle = createTestTitle(1L, "용감한", TitlePosition.LEFT, TitleRarity.EPIC);
+            Title rightTitle = createTestTitle(2L, "모험가", TitlePosition.RIGHT, TitleRarity.RARE);
+            UserTitle leftUserTitle = createTestUserTitle(1L, "user-1", leftTitle, true, TitlePosition.LEFT);
+            UserTitle rightUserTitle = createTestUserTitle(2L, "user-1", rightTitle, true, TitlePosition.RIGHT);
+
+            when(userTitleRepository.findEquippedTitlesByUserIdIn(List.of("user-1", "user-2")))
+                .thenReturn(List.of(leftUserTitle, rightUserTitle));
+
+            // when
+            Map<String, TitleService.TitleInfo> result =
+                titleService.getCombinedEquippedTitleInfoMap(List.of("user-1", "user-2"));
+
+            // then
+            assertThat(result.get("user-1").name()).isEqualTo("용감한 모험가");
+            assertThat(result.get("user-1").rarity()).isEqualTo(TitleRarity.EPIC);
+            assertThat(result.get("user-1").colorCode()).isEqualTo(TitleRarity.EPIC.getColorCode());
+            assertThat(result.get("user-2")).isEqualTo(new TitleService.TitleInfo(null, null, null));
+            verify(userTitleRepository, never()).findEquippedTitlesByUserId(anyString());
+        }
+    }
+
     @Nested
     @DisplayName("grantTitle 테스트")
     class GrantTitleTest {
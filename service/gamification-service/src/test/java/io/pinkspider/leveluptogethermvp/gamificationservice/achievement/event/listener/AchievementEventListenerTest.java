@@ -1,15 +1,16 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.listener;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 
 import io.pinkspider.global.event.GuildJoinedEvent;
 import io.pinkspider.global.event.GuildMasterAssignedEvent;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementService;
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementSyncCoordinator;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.AchievementCheckRequestedEvent;
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.AchievementFieldCheckRequestedEvent;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("AchievementEventListener 테스트")
 class AchievementEventListenerTest {
 
+    @Mock
+    private AchievementSyncCoordinator achievementSyncCoordinator;
+
     @Mock
     private AchievementService achievementService;
 
@@ -33,8 +37,8 @@ class AchievementEventListenerTest {
     class HandleGuildJoinedTest {
 
         @Test
-        @DisplayName("길드 가입 이벤트 발생 시 업적 서비스 호출")
-        void shouldCallAchievementServiceOnGuildJoined() {
+        @DisplayName("길드 가입 이벤트 발생 시 GUILD_SERVICE 업적 체크를 요청한다")
+        void shouldRequestCheckOnGuildJoined() {
             // given
             GuildJoinedEvent event = new GuildJoinedEvent(
                 "user-123", 1L, "테스트 길드"
@@ -44,21 +48,7 @@ class AchievementEventListenerTest {
             eventListener.handleGuildJoined(event);
 
             // then
-            verify(achievementService).checkAchievementsByDataSource("user-123", "GUILD_SERVICE");
-        }
-
-        @Test
-        @DisplayName("업적 서비스 실패해도 예외를 던지지 않음")
-        void shouldNotThrowExceptionOnAchievementFailure() {
-            // given
-            GuildJoinedEvent event = new GuildJoinedEvent(
-                "user-123", 1L, "테스트 길드"
-            );
-            doThrow(new RuntimeException("업적 체크 실패"))
-                .when(achievementService).checkAchievementsByDataSource(any(), eq("GUILD_SERVICE"));
-
-            // when & then - 예외가 발생하지 않아야 함
-            eventListener.handleGuildJoined(event);
+            verify(achievementSyncCoordinator).requestCheck("user-123", List.of("GUILD_SERVICE"));
         }
     }
 
@@ -67,8 +57,8 @@ class AchievementEventListenerTest {
     class HandleGuildMasterAssignedTest {
 
         @Test
-        @DisplayName("길드 마스터 할당 이벤트 발생 시 업적 서비스 호출")
-        void shouldCallAchievementServiceOnGuildMasterAssigned() {
+        @DisplayName("길드 마스터 할당 이벤트 발생 시 GUILD_SERVICE 업적 체크를 요청한다")
+        void shouldRequestCheckOnGuildMasterAssigned() {
             // given
             GuildMasterAssignedEvent event = new GuildMasterAssignedEvent(
                 "user-123", 1L, "테스트 길드"
@@ -78,21 +68,7 @@ class AchievementEventListenerTest {
             eventListener.handleGuildMasterAssigned(event);
 
             // then
-            verify(achievementService).checkAchievementsByDataSource("user-123", "GUILD_SERVICE");
-        }
-
-        @Test
-        @DisplayName("업적 서비스 실패해도 예외를 던지지 않음")
-        void shouldNotThrowExceptionOnAchievementFailure() {
-            // given
-            GuildMasterAssignedEvent event = new GuildMasterAssignedEvent(
-                "user-123", 1L, "테스트 길드"
-            );
-            doThrow(new RuntimeException("업적 체크 실패"))
-                .when(achievementService).checkAchievementsByDataSource(any(), eq("GUILD_SERVICE"));
-
-            // when & then - 예외가 발생하지 않아야 함
-            eventListener.handleGuildMasterAssigned(event);
+            verify(achievementSyncCoordinator).requestCheck("user-123", List.of("GUILD_SERVICE"));
         }
     }
 
@@ -101,36 +77,39 @@ class AchievementEventListenerTest {
     class HandleAchievementCheckRequestedTest {
 
         @Test
-        @DisplayName("요청된 모든 데이터 소스를 순서대로 체크한다")
-        void shouldCheckAllRequestedDataSources() {
+        @DisplayName("요청된 데이터 소스를 한 번에 coordinator 로 넘긴다")
+        void shouldRequestCheckForAllDataSources() {
             // given
-            AchievementCheckRequestedEvent event = new AchievementCheckRequestedEvent(
-                "user-123", List.of("USER_EXPERIENCE", "USER_CATEGORY_EXPERIENCE")
-            );
+            List<String> dataSources = List.of("USER_EXPERIENCE", "USER_CATEGORY_EXPERIENCE");
+            AchievementCheckRequestedEvent event = new AchievementCheckRequestedEvent("user-123", dataSources);
 
             // when
             eventListener.handleAchievementCheckRequested(event);
 
             // then
-            verify(achievementService).checkAchievementsByDataSource("user-123", "USER_EXPERIENCE");
-            verify(achievementService).checkAchievementsByDataSource("user-123", "USER_CATEGORY_EXPERIENCE");
+            verify(achievementSyncCoordinator).requestCheck("user-123", dataSources);
         }
+    }
+
+    @Nested
+    @DisplayName("카운터 반영 후 필드 단위 업적 체크 이벤트 처리")
+    class HandleAchievementFieldCheckRequestedTest {
 
         @Test
-        @DisplayName("한 데이터 소스 체크가 실패해도 나머지 소스는 계속 체크한다")
-        void shouldContinueWithRemainingDataSourcesOnFailure() {
+        @DisplayName("데이터 소스마다 바뀐 필드의 업적을 체크하고 한 소스의 실패가 다른 소스를 막지 않는다")
+        void shouldCheckEachDataSource() {
             // given
-            AchievementCheckRequestedEvent event = new AchievementCheckRequestedEvent(
-                "user-123", List.of("USER_EXPERIENCE", "USER_CATEGORY_EXPERIENCE")
-            );
-            doThrow(new RuntimeException("업적 체크 실패"))
-                .when(achievementService).checkAchievementsByDataSource("user-123", "USER_EXPERIENCE");
+            Set<String> dataFields = Set.of("totalLikesReceived", "receivedLikeCount");
+            AchievementFieldCheckRequestedEvent event = new AchievementFieldCheckRequestedEvent(
+                "user-123", List.of("FEED_SERVICE", "USER_STATS"), dataFields);
+            doThrow(new RuntimeException("DB error"))
+                .when(achievementService).checkAchievementsByDataFields("user-123", "FEED_SERVICE", dataFields);
 
-            // when - 예외가 발생하지 않아야 함
-            eventListener.handleAchievementCheckRequested(event);
+            // when
+            eventListener.handleAchievementFieldCheckRequested(event);
 
-            // then - 두 번째 소스는 정상 체크
-            verify(achievementService).checkAchievementsByDataSource("user-123", "USER_CATEGORY_EXPERIENCE");
+            // then
+            verify(achievementService).checkAchievementsByDataFields("user-123", "USER_STATS", dataFields);
         }
     }
 }
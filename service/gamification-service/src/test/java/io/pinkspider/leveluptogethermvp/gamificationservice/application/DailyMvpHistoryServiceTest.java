@@ -18,9 +18,9 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.DailyM
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.Title;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserExperience;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserTitle;
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.DailyMvpCategoryStatsRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.DailyMvpHistoryRepository;
-import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserExperienceRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserTitleRepository;
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
@@ -50,7 +50,7 @@ class DailyMvpHistoryServiceTest {
     private DailyMvpCategoryStatsRepository categoryStatsRepository;
 
     @Mock
-    private ExperienceHistoryRepository experienceHistoryRepository;
+    private ExperienceRollupService experienceRollupService;
 
     @Mock
     private UserQueryFacade userQueryFacadeService;
@@ -163,7 +163,7 @@ class DailyMvpHistoryServiceTest {
 
             // then
             verify(historyRepository, never()).deleteByMvpDateAndTimezone(any(), any());
-            verify(experienceHistoryRepository, never()).findTopExpGainersByPeriod(any(), any(), any());
+            verify(experienceRollupService, never()).findTopExpGainersByPeriod(any(), any(), any());
             verify(historyRepository, never()).save(any());
         }
 
@@ -189,7 +189,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(3L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 500L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -198,7 +198,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 10)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -219,7 +219,7 @@ class DailyMvpHistoryServiceTest {
         void captureAndSaveDailyMvp_noData_doesNotSave() {
             // given
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(Collections.emptyList());
 
             // when
@@ -243,7 +243,7 @@ class DailyMvpHistoryServiceTest {
                 topGainerRow(userId1, 1000L),
                 topGainerRow(userId2, 800L)
             );
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -258,9 +258,9 @@ class DailyMvpHistoryServiceTest {
                 ));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId1), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId1), any(), any()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId2), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId2), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -297,7 +297,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 300L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             // profileMap에 해당 userId 없음
@@ -307,7 +307,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(Collections.emptyList());
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -335,7 +335,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 300L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -345,7 +345,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(Collections.emptyList());
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -372,7 +372,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 500L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             Title leftTitle = createTitle(1L, "용감한", TitleRarity.EPIC, TitlePosition.LEFT);
@@ -386,7 +386,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 20)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(List.of(leftUserTitle, rightUserTitle));
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -415,7 +415,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 500L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             Title leftTitle = createTitle(1L, "용감한", TitleRarity.RARE, TitlePosition.LEFT);
@@ -427,7 +427,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 10)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(List.of(leftUserTitle));
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -455,7 +455,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 400L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -464,7 +464,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 5)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -494,7 +494,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 700L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             // categoryStats: 이미 경험치 순으로 정렬된 상태 (findUserCategoryExpByPeriod 쿼리에서 ORDER BY totalExp DESC)
@@ -510,7 +510,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 8)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(categoryStats);
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(List.of(createCategoryResponse(categoryId, categoryName)));
@@ -539,7 +539,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 300L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -548,7 +548,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 5)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -579,7 +579,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 600L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             List<Object[]> categoryStats = categoryStatsOf(
@@ -592,7 +592,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 7)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(categoryStats);
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(List.of(createCategoryResponse(categoryId, categoryName)));
@@ -615,7 +615,7 @@ class DailyMvpHistoryServiceTest {
             when(historyRepository.countByMvpDateAndTimezone(TEST_DATE, "Asia/Seoul")).thenReturn(0L);
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 400L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             // 카테고리 이름이 "존재하지않는카테고리"이고 missionCategoryService에는 없음
@@ -629,7 +629,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 5)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(categoryStats);
             // categoryNameToIdMap에 "존재하지않는카테고리"가 없음
             when(missionCategoryService.getActiveCategories())
@@ -658,7 +658,7 @@ class DailyMvpHistoryServiceTest {
             String userId = "user-1";
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 500L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -667,7 +667,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 10)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -687,7 +687,7 @@ class DailyMvpHistoryServiceTest {
         @DisplayName("재처리 시 데이터가 없는 경우 삭제만 하고 저장하지 않는다")
         void reprocessDailyMvp_noData_onlyDeletes() {
             // given
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(Collections.emptyList());
 
             // when
@@ -706,7 +706,7 @@ class DailyMvpHistoryServiceTest {
             String userId = "user-reprocess";
 
             List<Object[]> topGainers = topGainersOf(topGainerRow(userId, 600L));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -715,7 +715,7 @@ class DailyMvpHistoryServiceTest {
                 .thenReturn(List.of(createUserExperience(userId, 12)));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -744,7 +744,7 @@ class DailyMvpHistoryServiceTest {
                 topGainerRow(userId2, 800L),
                 topGainerRow(userId3, 600L)
             );
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(PageRequest.class)))
                 .thenReturn(topGainers);
 
             when(userQueryFacadeService.getUserProfiles(anyList()))
@@ -761,11 +761,11 @@ class DailyMvpHistoryServiceTest {
                 ));
             when(userTitleRepository.findEquippedTitlesByUserIdIn(anyList()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId1), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId1), any(), any()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId2), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId2), any(), any()))
                 .thenReturn(Collections.emptyList());
-            when(experienceHistoryRepository.findUserCategoryExpByPeriod(eq(userId3), any(), any()))
+            when(experienceRollupService.findUserCategoryExpByPeriod(eq(userId3), any(), any()))
                 .thenReturn(Collections.emptyList());
             when(missionCategoryService.getActiveCategories())
                 .thenReturn(Collections.emptyList());
@@ -338,6 +338,28 @@ class GamificationQueryFacadeServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getCombinedEquippedTitleInfoMap 테스트")
+    class GetCombinedEquippedTitleInfoMapTest {
+
+        @Test
+        @DisplayName("여러 사용자의 칭호 조합 정보를 DTO 맵으로 반환한다")
+        void getCombinedEquippedTitleInfoMap_success() {
+            // given
+            List<String> userIds = List.of("user-1", "user-2");
+            when(titleService.getCombinedEquippedTitleInfoMap(userIds)).thenReturn(Map.of(
+                "user-1", new TitleInfo("신입 수련생", TitleRarity.COMMON, "#AAAAAA"),
+                "user-2", new TitleInfo(null, null, null)));
+
+            // when
+            Map<String, TitleInfoDto> result = facadeService.getCombinedEquippedTitleInfoMap(userIds);
+
+            // then
+            assertThat(result.get("user-1")).isEqualTo(new TitleInfoDto("신입 수련생", TitleRarity.COMMON, "#AAAAAA"));
+            assertThat(result.get("user-2")).isEqualTo(new TitleInfoDto(null, null, null));
+        }
+    }
+
     @Nested
     @DisplayName("getDetailedEquippedTitleInfo 테스트")
     class GetDetailedEquippedTitleInfoTest {
@@ -0,0 +1,266 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.experience.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService.Period;
+import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
+import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceRollupRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExperienceRollupService 단위 테스트")
+class ExperienceRollupServiceTest {
+
+    @Mock
+    private ExperienceRollupRepository experienceRollupRepository;
+
+    @Mock
+    private ExperienceHistoryRepository experienceHistoryRepository;
+
+    @InjectMocks
+    private ExperienceRollupService experienceRollupService;
+
+    private static final String TEST_USER_ID = "test-user-123";
+    private static final PageRequest TOP_5 = PageRequest.of(0, 5);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(experienceRollupService, "enabled", true);
+        ReflectionTestUtils.setField(experienceRollupService, "coveredFrom", "2026-01-01T00:00:00");
+    }
+
+    @Nested
+    @DisplayName("record 테스트")
+    class RecordTest {
+
+        @Test
+        @DisplayName("시간/일 버킷에 각각 누적한다")
+        void record_accumulatesHourAndDay() {
+            // when
+            experienceRollupService.record(TEST_USER_ID, "건강", 30, LocalDateTime.of(2026, 7, 1, 13, 42, 10));
+
+            // then
+            verify(experienceRollupRepository).accumulate(
+                "HOUR", LocalDateTime.of(2026, 7, 1, 13, 0), TEST_USER_ID, "건강", 30L);
+            verify(experienceRollupRepository).accumulate(
+                "DAY", LocalDateTime.of(2026, 7, 1, 0, 0), TEST_USER_ID, "건강", 30L);
+        }
+
+        @Test
+        @DisplayName("카테고리가 없으면 빈 문자열 카테고리로 누적한다")
+        void record_noCategory() {
+            // when
+            experienceRollupService.record(TEST_USER_ID, null, 10, LocalDateTime.of(2026, 7, 1, 13, 0));
+
+            // then
+            verify(experienceRollupRepository).accumulate(
+                "HOUR", LocalDateTime.of(2026, 7, 1, 13, 0), TEST_USER_ID, "", 10L);
+        }
+
+        @Test
+        @DisplayName("획득이 아닌 경험치(0 이하)는 누적하지 않는다")
+        void record_skipsNonPositive() {
+            // when
+            experienceRollupService.record(TEST_USER_ID, "건강", 0, LocalDateTime.of(2026, 7, 1, 13, 0));
+
+            // then
+            verify(experienceRollupRepository, never())
+                .accumulate(anyString(), any(), anyString(), anyString(), anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("Period.split 테스트")
+    class PeriodSplitTest {
+
+        @Test
+        @DisplayName("온전한 일 구간과 양 끝 시간 구간으로 나눈다")
+        void split_daysAndEdges() {
+            // when
+            Period period = Period.split(
+                LocalDateTime.of(2026, 6, 30, 15, 0), LocalDateTime.of(2026, 7, 3, 15, 0));
+
+            // then
+            assertThat(period.dayFrom()).isEqualTo(LocalDateTime.of(2026, 7, 1, 0, 0));
+            assertThat(period.dayTo()).isEqualTo(LocalDateTime.of(2026, 7, 3, 0, 0));
+        }
+
+        @Test
+        @DisplayName("온전한 하루가 없으면 전부 시간 구간으로 조회한다")
+        void split_lessThanADay() {
+            // given
+            LocalDateTime end = LocalDateTime.of(2026, 7, 1, 15, 0);
+
+            // when
+            Period period = Period.split(LocalDateTime.of(2026, 6, 30, 15, 0), end);
+
+            // then
+            assertThat(period.dayFrom()).isEqualTo(end);
+            assertThat(period.dayTo()).isEqualTo(end);
+        }
+    }
+
+    @Nested
+    @DisplayName("기간 조회 라우팅 테스트")
+    class RoutingTest {
+
+        @Test
+        @DisplayName("정시 경계 기간은 집계 테이블에서 조회한다")
+        void findTopExpGainers_usesRollup() {
+            // given
+            LocalDateTime start = LocalDateTime.of(2026, 6, 30, 15, 0);
+            LocalDateTime end = LocalDateTime.of(2026, 7, 3, 15, 0);
+            List<Object[]> rows = List.<Object[]>of(new Object[]{TEST_USER_ID, 500L});
+            when(experienceRollupRepository.findTopExpGainersByPeriod(
+                start, LocalDateTime.of(2026, 7, 1, 0, 0), LocalDateTime.of(2026, 7, 3, 0, 0), end, TOP_5))
+                .thenReturn(rows);
+
+            // when
+            List<Object[]> result = experienceRollupService.findTopExpGainersByPeriod(start, end, TOP_5);
+
+            // then
+            assertThat(result).isSameAs(rows);
+            verify(experienceHistoryRepository, never()).findTopExpGainersByPeriod(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("LocalTime.MAX 종료 시각은 다음 정시로 맞춰 집계 테이블에서 조회한다")
+        void findUserCategoryExp_endOfDayBoundary() {
+            // given (Asia/Seoul 하루 = 전날 15:00 ~ 당일 14:59:59.999999999 UTC)
+            LocalDateTime start = LocalDateTime.of(2026, 6, 30, 15, 0);
+            LocalDateTime end = LocalDate.of(2026, 7, 1).atTime(LocalTime.of(14, 59, 59, 999_999_999));
+            LocalDateTime alignedEnd = LocalDateTime.of(2026, 7, 1, 15, 0);
+
+            // when
+            experienceRollupService.findUserCategoryExpByPeriod(TEST_USER_ID, start, end);
+
+            // then
+            verify(experienceRollupRepository)
+                .findUserCategoryExpByPeriod(TEST_USER_ID, start, alignedEnd, alignedEnd, alignedEnd);
+            verify(experienceHistoryRepository, never()).findUserCategoryExpByPeriod(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("정시가 아닌 기간은 원본 이력에서 조회한다")
+        void sumExp_unalignedFallsBack() {
+            // given
+            LocalDateTime start = LocalDateTime.of(2026, 7, 1, 9, 30);
+            LocalDateTime end = LocalDateTime.of(2026, 7, 10, 0, 0);
+            when(experienceHistoryRepository.sumExpByUserIdAndPeriod(TEST_USER_ID, start, end)).thenReturn(120L);
+
+            // when
+            Long result = experienceRollupService.sumExpByUserIdAndPeriod(TEST_USER_ID, start, end);
+
+            // then
+            assertThat(result).isEqualTo(120L);
+            verify(experienceRollupRepository, never()).sumExpByUserIdAndPeriod(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("집계 시작 이전 기간은 원본 이력에서 조회한다")
+        void countUsers_beforeCoveredFromFallsBack() {
+            // given
+            LocalDateTime start = LocalDateTime.of(2025, 12, 1, 0, 0);
+            LocalDateTime end = LocalDateTime.of(2026, 2, 1, 0, 0);
+            when(experienceHistoryRepository.countUsersWithMoreExpByPeriod(start, end, 100L)).thenReturn(3L);
+
+            // when
+            Long result = experienceRollupService.countUsersWithMoreExpByPeriod(start, end, 100L);
+
+            // then
+            assertThat(result).isEqualTo(3L);
+            verify(experienceRollupRepository, never())
+                .countUsersWithMoreExpByPeriod(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("covered-from 미설정이면 원본 이력에서 조회한다")
+        void coveredFromBlank_fallsBack() {
+            // given
+            ReflectionTestUtils.setField(experienceRollupService, "coveredFrom", "");
+            LocalDateTime start = LocalDateTime.of(2026, 6, 30, 15, 0);
+            LocalDateTime end = LocalDateTime.of(2026, 7, 1, 15, 0);
+
+            // when
+            experienceRollupService.findTopExpGainersByCategoryAndPeriod("건강", start, end, TOP_5);
+
+            // then
+            verify(experienceHistoryRepository).findTopExpGainersByCategoryAndPeriod("건강", start, end, TOP_5);
+            verify(experienceRollupRepository, never())
+                .findTopExpGainersByCategoryAndPeriod(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("정시 단위가 아닌 타임존의 일별 합계는 원본 이력에서 조회한다")
+        void sumDaily_halfHourZoneFallsBack() {
+            // given
+            LocalDateTime start = LocalDateTime.of(2026, 6, 30, 18, 0);
+            LocalDateTime end = LocalDateTime.of(2026, 7, 31, 18, 0);
+
+            // when
+            experienceRollupService.sumDailyExpByUserIdAndPeriod(TEST_USER_ID, start, end, "Asia/Kolkata");
+
+            // then
+            verify(experienceHistoryRepository)
+                .sumDailyExpByUserIdAndPeriod(TEST_USER_ID, start, end, "Asia/Kolkata");
+            verify(experienceRollupRepository, never()).sumDailyExpByUserIdAndPeriod(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("정시 단위 타임존의 일별 합계는 시간 버킷에서 조회한다")
+        void sumDaily_wholeHourZoneUsesRollup() {
+            // given
+            LocalDateTime start = LocalDateTime.of(2026, 6, 30, 15, 0);
+            LocalDateTime end = LocalDateTime.of(2026, 7, 31, 15, 0);
+
+            // when
+            experienceRollupService.sumDailyExpByUserIdAndPeriod(TEST_USER_ID, start, end, "Asia/Seoul");
+
+            // then
+            verify(experienceRollupRepository).sumDailyExpByUserIdAndPeriod(TEST_USER_ID, start, end, "Asia/Seoul");
+            verify(experienceHistoryRepository, never()).sumDailyExpByUserIdAndPeriod(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("rebuild 테스트")
+    class RebuildTest {
+
+        @Test
+        @DisplayName("기간을 버킷 경계로 확장해 시간/일 버킷을 다시 계산한다")
+        void rebuild_expandsToBucketBoundaries() {
+            // given
+            when(experienceRollupRepository.rebuild(anyString(), anyString(), any(), any())).thenReturn(4, 2);
+
+            // when
+            int result = experienceRollupService.rebuild(
+                LocalDateTime.of(2026, 7, 1, 0, 0), LocalDateTime.of(2026, 7, 1, 12, 30));
+
+            // then
+            assertThat(result).isEqualTo(6);
+            verify(experienceRollupRepository).rebuild(
+                "HOUR", "hour", LocalDateTime.of(2026, 7, 1, 0, 0), LocalDateTime.of(2026, 7, 1, 13, 0));
+            verify(experienceRollupRepository).rebuild(
+                "DAY", "day", LocalDateTime.of(2026, 7, 1, 0, 0), LocalDateTime.of(2026, 7, 2, 0, 0));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static io.pinkspider.global.test.TestReflectionUtils.setId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -48,6 +49,9 @@ class UserExperienceServiceTest {
     @Mock
     private ExperienceHistoryRepository experienceHistoryRepository;
 
+    @Mock
+    private ExperienceRollupService experienceRollupService;
+
     @Mock
     private UserCategoryExperienceRepository userCategoryExperienceRepository;
 
@@ -467,6 +471,7 @@ class UserExperienceServiceTest {
             assertThat(result).isNotNull();
             assertThat(userExp.getCurrentExp()).isEqualTo(80);
             verify(experienceHistoryRepository).save(any(ExperienceHistory.class));
+            verify(experienceRollupService).record(eq(TEST_USER_ID), eq("건강"), eq(30), any(LocalDateTime.class));
             // categoryId가 null이므로 카테고리 경험치는 업데이트되지 않음
             verify(userCategoryExperienceRepository, never()).save(any(UserCategoryExperience.class));
         }
@@ -784,7 +789,7 @@ class UserExperienceServiceTest {
             // given
             LocalDateTime startUtc = LocalDateTime.of(2026, 6, 30, 15, 0);
             LocalDateTime endUtc = LocalDateTime.of(2026, 7, 31, 15, 0);
-            when(experienceHistoryRepository.sumDailyExpByUserIdAndPeriod(
+            when(experienceRollupService.sumDailyExpByUserIdAndPeriod(
                 TEST_USER_ID, startUtc, endUtc, "Asia/Seoul"))
                 .thenReturn(List.of(
                     new Object[]{java.sql.Date.valueOf("2026-07-01"), java.math.BigDecimal.valueOf(135)},
@@ -806,7 +811,7 @@ class UserExperienceServiceTest {
             // given
             LocalDateTime startUtc = LocalDateTime.of(2026, 6, 30, 15, 0);
             LocalDateTime endUtc = LocalDateTime.of(2026, 7, 31, 15, 0);
-            when(experienceHistoryRepository.sumDailyExpByUserIdAndPeriod(
+            when(experienceRollupService.sumDailyExpByUserIdAndPeriod(
                 TEST_USER_ID, startUtc, endUtc, "Asia/Seoul"))
                 .thenReturn(List.of());
 
@@ -816,7 +821,7 @@ class UserExperienceServiceTest {
 
             // then
             assertThat(result).isEmpty();
-            verify(experienceHistoryRepository)
+            verify(experienceRollupService)
                 .sumDailyExpByUserIdAndPeriod(TEST_USER_ID, startUtc, endUtc, "Asia/Seoul");
         }
     }
@@ -4,6 +4,7 @@ import static io.pinkspider.global.test.TestReflectionUtils.setId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,7 +19,6 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.season.scheduler.Sea
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,7 +30,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.redis.core.RedisTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("SeasonAdminService 테스트")
@@ -40,7 +39,7 @@ class SeasonAdminServiceTest {
     private SeasonRepository seasonRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplateForObject;
+    private SeasonCacheIndex seasonCacheIndex;
 
     @Mock
     private SeasonScheduledTaskManager scheduledTaskManager;
@@ -278,7 +277,6 @@ class SeasonAdminServiceTest {
             );
             when(seasonRepository.existsOverlappingActiveSeasonForNew(start, end)).thenReturn(false);
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             SeasonAdminResponse result = seasonAdminService.createSeason(request);
@@ -298,7 +296,6 @@ class SeasonAdminServiceTest {
             );
             when(seasonRepository.existsOverlappingActiveSeasonForNew(start, end)).thenReturn(false);
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             SeasonAdminResponse result = seasonAdminService.createSeason(request);
@@ -316,7 +313,6 @@ class SeasonAdminServiceTest {
                 "비활성 시즌", "설명", start, end, false, null, null, 0, "admin", "admin"
             );
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             SeasonAdminResponse result = seasonAdminService.createSeason(request);
@@ -379,14 +375,12 @@ class SeasonAdminServiceTest {
             );
             when(seasonRepository.existsOverlappingActiveSeasonForNew(start, end)).thenReturn(false);
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys("currentSeason*")).thenReturn(Set.of("currentSeason::ko"));
-            when(redisTemplateForObject.keys("seasonMvpData*")).thenReturn(null);
 
             // when
             seasonAdminService.createSeason(request);
 
             // then
-            verify(redisTemplateForObject).delete(Set.of("currentSeason::ko"));
+            verify(seasonCacheIndex).evictAll();
         }
     }
 
@@ -406,7 +400,6 @@ class SeasonAdminServiceTest {
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
             when(seasonRepository.existsOverlappingActiveSeason(newStart, newEnd, 1L)).thenReturn(false);
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             SeasonAdminResponse result = seasonAdminService.updateSeason(1L, request);
@@ -441,7 +434,6 @@ class SeasonAdminServiceTest {
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
             when(seasonRepository.existsOverlappingActiveSeason(start, end, 1L)).thenReturn(false);
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             seasonAdminService.updateSeason(1L, request);
@@ -490,7 +482,6 @@ class SeasonAdminServiceTest {
             );
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             seasonAdminService.updateSeason(1L, request);
@@ -509,7 +500,6 @@ class SeasonAdminServiceTest {
         void deleteSeason_success() {
             // given
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             seasonAdminService.deleteSeason(1L);
@@ -535,15 +525,12 @@ class SeasonAdminServiceTest {
         void deleteSeason_evictsCache() {
             // given
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
-            when(redisTemplateForObject.keys("currentSeason*")).thenReturn(Set.of("currentSeason::ko"));
-            when(redisTemplateForObject.keys("seasonMvpData*")).thenReturn(Set.of("seasonMvpData::ko"));
 
             // when
             seasonAdminService.deleteSeason(1L);
 
             // then
-            verify(redisTemplateForObject).delete(Set.of("currentSeason::ko"));
-            verify(redisTemplateForObject).delete(Set.of("seasonMvpData::ko"));
+            verify(seasonCacheIndex).evictAll();
         }
     }
 
@@ -557,7 +544,6 @@ class SeasonAdminServiceTest {
             // given
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // testSeason.isActive == true
             // when
@@ -583,7 +569,6 @@ class SeasonAdminServiceTest {
             when(seasonRepository.findById(2L)).thenReturn(Optional.of(inactiveSeason));
             when(seasonRepository.existsOverlappingActiveSeason(start, end, 2L)).thenReturn(false);
             when(seasonRepository.save(any(Season.class))).thenReturn(inactiveSeason);
-            when(redisTemplateForObject.keys(any())).thenReturn(null);
 
             // when
             seasonAdminService.toggleActive(2L);
@@ -632,14 +617,12 @@ class SeasonAdminServiceTest {
             // given
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys("currentSeason*")).thenReturn(Set.of("currentSeason::ko"));
-            when(redisTemplateForObject.keys("seasonMvpData*")).thenReturn(null);
 
             // when
             seasonAdminService.toggleActive(1L);
 
             // then
-            verify(redisTemplateForObject).delete(Set.of("currentSeason::ko"));
+            verify(seasonCacheIndex).evictAll();
         }
 
         @Test
@@ -648,7 +631,7 @@ class SeasonAdminServiceTest {
             // given
             when(seasonRepository.findById(1L)).thenReturn(Optional.of(testSeason));
             when(seasonRepository.save(any(Season.class))).thenReturn(testSeason);
-            when(redisTemplateForObject.keys(any())).thenThrow(new RuntimeException("Redis 연결 실패"));
+            doThrow(new RuntimeException("Redis 연결 실패")).when(seasonCacheIndex).evictAll();
 
             // when & then - 예외가 전파되지 않아야 함
             seasonAdminService.toggleActive(1L);
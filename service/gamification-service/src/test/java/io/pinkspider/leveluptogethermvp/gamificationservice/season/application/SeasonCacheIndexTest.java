@@ -0,0 +1,97 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.season.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.global.component.RedisKeyspaceScanner;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeasonCacheIndex 단위 테스트")
+class SeasonCacheIndexTest {
+
+    private static final String MVP_INDEX_KEY = SeasonCacheIndex.INDEX_KEY_PREFIX + SeasonCacheIndex.SEASON_MVP_DATA;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisKeyspaceScanner keyspaceScanner;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @InjectMocks
+    private SeasonCacheIndex seasonCacheIndex;
+
+    @Nested
+    @DisplayName("record 테스트")
+    class RecordTest {
+
+        @Test
+        @DisplayName("같은 키는 인스턴스당 한 번만 인덱스에 기록한다")
+        void record_onlyOncePerKey() {
+            // given
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+
+            // when
+            seasonCacheIndex.record(SeasonCacheIndex.SEASON_MVP_DATA, "ko");
+            seasonCacheIndex.record(SeasonCacheIndex.SEASON_MVP_DATA, "ko");
+            seasonCacheIndex.record(SeasonCacheIndex.SEASON_MVP_DATA, "en");
+
+            // then
+            verify(setOperations, times(1)).add(MVP_INDEX_KEY, "seasonMvpData::ko");
+            verify(setOperations, times(1)).add(MVP_INDEX_KEY, "seasonMvpData::en");
+        }
+    }
+
+    @Nested
+    @DisplayName("evict 테스트")
+    class EvictTest {
+
+        @Test
+        @DisplayName("인덱스에 기록된 키만 UNLINK 한다")
+        void evict_unlinksIndexedKeys() {
+            // given
+            Set<String> indexed = Set.of("seasonMvpData::ko", "seasonMvpData::en");
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+            when(setOperations.members(MVP_INDEX_KEY)).thenReturn(indexed);
+            when(keyspaceScanner.unlink(indexed)).thenReturn(2L);
+
+            // when
+            long evicted = seasonCacheIndex.evict(SeasonCacheIndex.SEASON_MVP_DATA);
+
+            // then
+            assertThat(evicted).isEqualTo(2);
+            verify(keyspaceScanner, never()).unlinkByPattern(anyString());
+        }
+
+        @Test
+        @DisplayName("인덱스가 비어 있으면 패턴 SCAN 으로 삭제한다")
+        void evict_fallsBackToScan() {
+            // given
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+            when(setOperations.members(MVP_INDEX_KEY)).thenReturn(Set.of());
+            when(keyspaceScanner.unlinkByPattern("seasonMvpData::*")).thenReturn(1L);
+
+            // when
+            long evicted = seasonCacheIndex.evict(SeasonCacheIndex.SEASON_MVP_DATA);
+
+            // then
+            assertThat(evicted).isEqualTo(1);
+        }
+    }
+}
@@ -11,10 +11,10 @@ import static org.mockito.Mockito.when;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.Title;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserExperience;
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserTitle;
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.domain.enums.SeasonStatus;
 import io.pinkspider.global.enums.TitlePosition;
 import io.pinkspider.global.enums.TitleRarity;
-import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserExperienceRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserTitleRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.api.dto.SeasonMvpData;
@@ -37,7 +37,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class SeasonRankingServiceTest {
@@ -46,7 +45,7 @@ class SeasonRankingServiceTest {
     private SeasonRepository seasonRepository;
 
     @Mock
-    private ExperienceHistoryRepository experienceHistoryRepository;
+    private ExperienceRollupService experienceRollupService;
 
     @Mock
     private GuildQueryFacade guildQueryFacadeService;
@@ -64,7 +63,7 @@ class SeasonRankingServiceTest {
     private UserTitleRepository userTitleRepository;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private SeasonCacheIndex seasonCacheIndex;
 
     @InjectMocks
     private SeasonRankingService seasonRankingService;
@@ -135,7 +134,7 @@ class SeasonRankingServiceTest {
                 .build();
 
             when(seasonRepository.findCurrentSeason(any(LocalDateTime.class))).thenReturn(Optional.of(testSeason));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(topGainers);
             when(guildQueryFacadeService.getTopExpGuildsByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
@@ -190,7 +189,7 @@ class SeasonRankingServiceTest {
                 .build();
 
             when(seasonRepository.findCurrentSeason(any(LocalDateTime.class))).thenReturn(Optional.of(testSeason));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(topGainers);
             when(guildQueryFacadeService.getTopExpGuildsByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
@@ -228,7 +227,7 @@ class SeasonRankingServiceTest {
             topGainers.add(row1);
 
             when(seasonRepository.findCurrentSeason(any(LocalDateTime.class))).thenReturn(Optional.of(testSeason));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(topGainers);
             when(guildQueryFacadeService.getTopExpGuildsByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
@@ -350,7 +349,7 @@ class SeasonRankingServiceTest {
             List<Object[]> topGainers = new ArrayList<>();
             topGainers.add(row1);
 
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(topGainers);
             when(userQueryFacadeService.getActiveUserIds(List.of(testUserId))).thenReturn(List.of(testUserId));
             when(userQueryFacadeService.getUserProfiles(List.of(testUserId))).thenReturn(java.util.Map.of(testUserId, new UserProfileInfo(testUserId, "테스터", "https://example.com/profile.jpg", 5, null, null, null)));
@@ -376,7 +375,7 @@ class SeasonRankingServiceTest {
             List<Object[]> topGainers = new ArrayList<>();
             topGainers.add(row1);
 
-            when(experienceHistoryRepository.findTopExpGainersByCategoryAndPeriod(any(), any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByCategoryAndPeriod(any(), any(), any(), any()))
                 .thenReturn(topGainers);
             when(userQueryFacadeService.getActiveUserIds(List.of(testUserId))).thenReturn(List.of(testUserId));
             when(userQueryFacadeService.getUserProfiles(List.of(testUserId))).thenReturn(java.util.Map.of(testUserId, new UserProfileInfo(testUserId, "테스터", "https://example.com/profile.jpg", 5, null, null, null)));
@@ -397,7 +396,7 @@ class SeasonRankingServiceTest {
         @DisplayName("경험치 기록이 없으면 빈 목록을 반환한다")
         void getSeasonPlayerRankings_empty() {
             // given
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
 
             // when
@@ -416,9 +415,9 @@ class SeasonRankingServiceTest {
         @DisplayName("내 시즌 랭킹을 조회한다")
         void getMySeasonRanking_success() {
             // given
-            when(experienceHistoryRepository.sumExpByUserIdAndPeriod(any(), any(), any()))
+            when(experienceRollupService.sumExpByUserIdAndPeriod(any(), any(), any()))
                 .thenReturn(1000L);
-            when(experienceHistoryRepository.countUsersWithMoreExpByPeriod(any(), any(), any()))
+            when(experienceRollupService.countUsersWithMoreExpByPeriod(any(), any(), any()))
                 .thenReturn(4L);
             when(guildQueryFacadeService.getUserGuildMemberships(testUserId))
                 .thenReturn(List.of());
@@ -436,7 +435,7 @@ class SeasonRankingServiceTest {
         @DisplayName("경험치가 없으면 랭킹 null 반환")
         void getMySeasonRanking_noExp() {
             // given
-            when(experienceHistoryRepository.sumExpByUserIdAndPeriod(any(), any(), any()))
+            when(experienceRollupService.sumExpByUserIdAndPeriod(any(), any(), any()))
                 .thenReturn(null);
             when(guildQueryFacadeService.getUserGuildMemberships(testUserId))
                 .thenReturn(List.of());
@@ -456,59 +455,42 @@ class SeasonRankingServiceTest {
     class CacheManagementTest {
 
         @Test
-        @DisplayName("현재 시즌 캐시를 삭제한다")
+        @DisplayName("현재 시즌 캐시를 키 인덱스로 삭제한다")
         void evictCurrentSeasonCache_success() {
             // given
-            when(redisTemplate.keys("currentSeason::*")).thenReturn(java.util.Set.of("key1"));
+            when(seasonCacheIndex.evict(SeasonCacheIndex.CURRENT_SEASON)).thenReturn(1L);
 
             // when
             seasonRankingService.evictCurrentSeasonCache();
 
             // then
-            org.mockito.Mockito.verify(redisTemplate).delete(java.util.Set.of("key1"));
+            org.mockito.Mockito.verify(seasonCacheIndex).evict(SeasonCacheIndex.CURRENT_SEASON);
+            org.mockito.Mockito.verify(seasonCacheIndex, org.mockito.Mockito.never())
+                .evict(SeasonCacheIndex.SEASON_MVP_DATA);
         }
 
         @Test
         @DisplayName("모든 시즌 캐시를 삭제한다")
         void evictAllSeasonCaches_success() {
-            // given
-            when(redisTemplate.keys("currentSeason::*")).thenReturn(java.util.Set.of("key1"));
-            when(redisTemplate.keys("seasonMvpData::*")).thenReturn(java.util.Set.of("key2"));
-
             // when
             seasonRankingService.evictAllSeasonCaches();
 
             // then
-            org.mockito.Mockito.verify(redisTemplate).delete(java.util.Set.of("key1"));
-            org.mockito.Mockito.verify(redisTemplate).delete(java.util.Set.of("key2"));
-        }
-
-        @Test
-        @DisplayName("삭제할 키가 없으면 delete를 호출하지 않는다")
-        void evictCurrentSeasonCache_noKeys() {
-            // given
-            when(redisTemplate.keys("currentSeason::*")).thenReturn(null);
-
-            // when
-            seasonRankingService.evictCurrentSeasonCache();
-
-            // then
-            org.mockito.Mockito.verify(redisTemplate, org.mockito.Mockito.never())
-                .delete(org.mockito.ArgumentMatchers.anyCollection());
+            org.mockito.Mockito.verify(seasonCacheIndex).evict(SeasonCacheIndex.CURRENT_SEASON);
+            org.mockito.Mockito.verify(seasonCacheIndex).evict(SeasonCacheIndex.SEASON_MVP_DATA);
         }
 
         @Test
-        @DisplayName("빈 키 Set이면 delete를 호출하지 않는다")
-        void evictSeasonMvpDataCache_emptyKeys() {
+        @DisplayName("시즌 MVP 데이터를 조회하면 로케일별 캐시 키를 인덱스에 기록한다")
+        void getSeasonMvpDataCached_recordsCacheKey() {
             // given
-            when(redisTemplate.keys("seasonMvpData::*")).thenReturn(java.util.Set.of());
+            when(seasonRepository.findCurrentSeason(any(LocalDateTime.class))).thenReturn(Optional.empty());
 
             // when
-            seasonRankingService.evictSeasonMvpDataCache();
+            seasonRankingService.getSeasonMvpDataCached(null);
 
             // then
-            org.mockito.Mockito.verify(redisTemplate, org.mockito.Mockito.never())
-                .delete(org.mockito.ArgumentMatchers.anyCollection());
+            org.mockito.Mockito.verify(seasonCacheIndex).record(SeasonCacheIndex.SEASON_MVP_DATA, "ko");
         }
     }
 
@@ -520,7 +502,7 @@ class SeasonRankingServiceTest {
         @DisplayName("경험치가 0이면 playerRank가 null이다")
         void getMySeasonRanking_zeroExp_nullRank() {
             // given
-            when(experienceHistoryRepository.sumExpByUserIdAndPeriod(any(), any(), any()))
+            when(experienceRollupService.sumExpByUserIdAndPeriod(any(), any(), any()))
                 .thenReturn(0L);
             when(guildQueryFacadeService.getUserGuildMemberships(testUserId))
                 .thenReturn(List.of());
@@ -538,9 +520,9 @@ class SeasonRankingServiceTest {
         @DisplayName("길드가 있고 길드 경험치가 있으면 길드 랭킹을 반환한다")
         void getMySeasonRanking_withGuildAndExp() {
             // given
-            when(experienceHistoryRepository.sumExpByUserIdAndPeriod(any(), any(), any()))
+            when(experienceRollupService.sumExpByUserIdAndPeriod(any(), any(), any()))
                 .thenReturn(500L);
-            when(experienceHistoryRepository.countUsersWithMoreExpByPeriod(any(), any(), any()))
+            when(experienceRollupService.countUsersWithMoreExpByPeriod(any(), any(), any()))
                 .thenReturn(2L);
 
             io.pinkspider.global.facade.dto.GuildMembershipInfo guildMembership =
@@ -568,7 +550,7 @@ class SeasonRankingServiceTest {
         @DisplayName("길드 경험치가 0이면 길드 랭킹이 null이다")
         void getMySeasonRanking_guildZeroExp_nullGuildRank() {
             // given
-            when(experienceHistoryRepository.sumExpByUserIdAndPeriod(any(), any(), any()))
+            when(experienceRollupService.sumExpByUserIdAndPeriod(any(), any(), any()))
                 .thenReturn(null);
 
             io.pinkspider.global.facade.dto.GuildMembershipInfo guildMembership =
@@ -604,7 +586,7 @@ class SeasonRankingServiceTest {
             List<Object[]> topGainers = List.of(row1, row2);
 
             when(seasonRepository.findCurrentSeason(any())).thenReturn(Optional.of(testSeason));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(topGainers);
             when(guildQueryFacadeService.getTopExpGuildsByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
@@ -642,7 +624,7 @@ class SeasonRankingServiceTest {
             topGuilds.add(guildRow);
 
             when(seasonRepository.findCurrentSeason(any())).thenReturn(Optional.of(testSeason));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
             when(guildQueryFacadeService.getTopExpGuildsByPeriod(any(), any(), any()))
                 .thenReturn(topGuilds);
@@ -681,7 +663,7 @@ class SeasonRankingServiceTest {
         void getSeasonMvpDataDto_success() {
             // given
             when(seasonRepository.findCurrentSeason(any())).thenReturn(Optional.of(testSeason));
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any()))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
             when(guildQueryFacadeService.getTopExpGuildsByPeriod(any(), any(), any()))
                 .thenReturn(List.of());
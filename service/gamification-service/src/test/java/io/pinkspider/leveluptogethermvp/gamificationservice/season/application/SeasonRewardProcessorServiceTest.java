@@ -1,5 +1,6 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.season.application;
 
+import io.pinkspider.leveluptogethermvp.gamificationservice.experience.application.ExperienceRollupService;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.api.dto.SeasonRewardProcessResult;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.domain.entity.Season;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.domain.entity.SeasonRankReward;
@@ -8,7 +9,6 @@ import io.pinkspider.leveluptogethermvp.gamificationservice.season.domain.enums.
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.infrastructure.SeasonRankRewardRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.infrastructure.SeasonRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.season.infrastructure.SeasonRewardHistoryRepository;
-import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.ExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.TitleService;
 import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.domain.dto.UserTitleResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,7 +51,7 @@ class SeasonRewardProcessorServiceTest {
     private SeasonRewardHistoryRepository rewardHistoryRepository;
 
     @Mock
-    private ExperienceHistoryRepository experienceHistoryRepository;
+    private ExperienceRollupService experienceRollupService;
 
     @Mock
     private TitleService titleService;
@@ -131,7 +131,7 @@ class SeasonRewardProcessorServiceTest {
             topGainers.add(new Object[]{"user2", 900L});
             topGainers.add(new Object[]{"user3", 800L});
 
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
                 .thenReturn(topGainers);
             when(rewardHistoryRepository.saveAndFlush(any(SeasonRewardHistory.class)))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -189,7 +189,7 @@ class SeasonRewardProcessorServiceTest {
             List<Object[]> topGainers = new ArrayList<>();
             topGainers.add(new Object[]{"user1", 1000L});
 
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
                 .thenReturn(topGainers);
             when(titleService.grantTitle("user1", 100L))
                 .thenThrow(new RuntimeException("칭호 부여 실패"));
@@ -217,7 +217,7 @@ class SeasonRewardProcessorServiceTest {
             List<Object[]> topGainers = new ArrayList<>();
             topGainers.add(new Object[]{"user1", 1000L});
 
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
                 .thenReturn(topGainers);
             when(titleService.grantTitle("user1", 100L))
                 .thenThrow(new RuntimeException("이미 보유한 칭호입니다"));
@@ -266,9 +266,9 @@ class SeasonRewardProcessorServiceTest {
             List<Object[]> categoryGainers = new ArrayList<>();
             categoryGainers.add(new Object[]{"user2", 500L});
 
-            when(experienceHistoryRepository.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
+            when(experienceRollupService.findTopExpGainersByPeriod(any(), any(), any(Pageable.class)))
                 .thenReturn(overallGainers);
-            when(experienceHistoryRepository.findTopExpGainersByCategoryAndPeriod(
+            when(experienceRollupService.findTopExpGainersByCategoryAndPeriod(
                 any(), any(), any(), any(Pageable.class)))
                 .thenReturn(categoryGainers);
             when(rewardHistoryRepository.saveAndFlush(any(SeasonRewardHistory.class)))
@@ -306,7 +306,7 @@ class SeasonRewardProcessorServiceTest {
             List<Object[]> studyGainers = new ArrayList<>();
             studyGainers.add(new Object[]{"user2", 400L});
 
-            when(experienceHistoryRepository.findTopExpGainersByCategoryAndPeriod(
+            when(experienceRollupService.findTopExpGainersByCategoryAndPeriod(
                 any(), any(), any(), any(Pageable.class)))
                 .thenReturn(exerciseGainers)
                 .thenReturn(studyGainers);
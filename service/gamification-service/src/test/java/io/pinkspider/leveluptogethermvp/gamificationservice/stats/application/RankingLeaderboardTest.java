@@ -0,0 +1,338 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
+
+import static io.pinkspider.global.test.TestReflectionUtils.setId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserStats;
+import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserStatsRepository;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.Board;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.Entry;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.ReconcileResult;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankingLeaderboard 단위 테스트")
+class RankingLeaderboardTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisOperations<String, String> pipelineOperations;
+
+    @Mock
+    private ZSetOperations<String, String> pipelineZSetOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private SetOperations<String, String> pipelineSetOperations;
+
+    @InjectMocks
+    private RankingLeaderboard rankingLeaderboard;
+
+    private static final String TEST_USER_ID = "test-user-123";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rankingLeaderboard, "enabled", true);
+    }
+
+    private UserStats createTestUserStats(Long id, String userId, long rankingPoints) {
+        UserStats stats = UserStats.builder()
+            .userId(userId)
+            .rankingPoints(rankingPoints)
+            .totalMissionCompletions(10)
+            .maxStreak(5)
+            .totalAchievementsCompleted(3)
+            .build();
+        setId(stats, id);
+        return stats;
+    }
+
+    private void givenReady() {
+        when(stringRedisTemplate.hasKey(RankingLeaderboard.READY_KEY)).thenReturn(true);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    /**
+     * 캡처한 파이프라인 콜백을 mock RedisOperations로 실행한다.
+     */
+    @SuppressWarnings("unchecked")
+    private void runPipelines(int count) {
+        ArgumentCaptor<SessionCallback<Object>> callback = ArgumentCaptor.forClass(SessionCallback.class);
+        verify(stringRedisTemplate, times(count)).executePipelined(callback.capture());
+        when(pipelineOperations.opsForZSet()).thenReturn(pipelineZSetOperations);
+        lenient().when(pipelineOperations.opsForSet()).thenReturn(pipelineSetOperations);
+        callback.getAllValues().forEach(c -> c.execute(pipelineOperations));
+    }
+
+    /**
+     * 리더보드별 ZSCAN 결과 (지정하지 않은 리더보드는 비어 있음)
+     */
+    @SuppressWarnings("unchecked")
+    private void givenMembers(Map<Board, List<String>> membersByBoard) {
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        for (Board board : Board.values()) {
+            List<String> members = membersByBoard.getOrDefault(board, List.of());
+            Cursor<TypedTuple<String>> cursor = mock(Cursor.class);
+            Boolean[] hasNext = new Boolean[members.size()];
+            for (int i = 0; i < members.size(); i++) {
+                hasNext[i] = i < members.size() - 1;
+            }
+            when(cursor.hasNext()).thenReturn(!members.isEmpty(), hasNext);
+            if (!members.isEmpty()) {
+                TypedTuple<String>[] tuples = members.stream()
+                    .map(member -> new DefaultTypedTuple<>(member, 1d))
+                    .toArray(TypedTuple[]::new);
+                when(cursor.next()).thenReturn(tuples[0], Arrays.copyOfRange(tuples, 1, tuples.length));
+            }
+            when(zSetOperations.scan(eq(board.key()), any(ScanOptions.class))).thenReturn(cursor);
+        }
+    }
+
+    @Nested
+    @DisplayName("update 테스트")
+    class UpdateTest {
+
+        @Test
+        @DisplayName("모든 리더보드에 현재 지표 값을 점수로 기록한다")
+        void update_writesAllBoards() {
+            // given
+            UserStats stats = createTestUserStats(1L, TEST_USER_ID, 1000L);
+
+            // when
+            rankingLeaderboard.update(stats);
+
+            // then
+            runPipelines(1);
+            verify(pipelineZSetOperations).add(Board.OVERALL.key(), TEST_USER_ID, 1000d);
+            verify(pipelineZSetOperations).add(Board.MISSION_COMPLETIONS.key(), TEST_USER_ID, 10d);
+            verify(pipelineZSetOperations).add(Board.MAX_STREAK.key(), TEST_USER_ID, 5d);
+            verify(pipelineZSetOperations).add(Board.ACHIEVEMENTS.key(), TEST_USER_ID, 3d);
+        }
+
+        @Test
+        @DisplayName("비활성화 상태면 Redis에 기록하지 않는다")
+        void update_disabled() {
+            // given
+            ReflectionTestUtils.setField(rankingLeaderboard, "enabled", false);
+
+            // when
+            rankingLeaderboard.update(createTestUserStats(1L, TEST_USER_ID, 1000L));
+
+            // then
+            verify(stringRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("rankOf 테스트")
+    class RankOfTest {
+
+        @Test
+        @DisplayName("내 점수보다 높은 사용자 수 + 1을 순위로 반환한다")
+        void rankOf_success() {
+            // given
+            givenReady();
+            when(zSetOperations.score(Board.OVERALL.key(), TEST_USER_ID)).thenReturn(1000d);
+            when(zSetOperations.count(Board.OVERALL.key(), Math.nextUp(1000d), Double.POSITIVE_INFINITY))
+                .thenReturn(4L);
+
+            // when
+            Optional<Long> result = rankingLeaderboard.rankOf(Board.OVERALL, TEST_USER_ID);
+
+            // then
+            assertThat(result).contains(5L);
+        }
+
+        @Test
+        @DisplayName("준비 표시가 없으면 빈 값을 반환한다")
+        void rankOf_notReady() {
+            // given
+            when(stringRedisTemplate.hasKey(RankingLeaderboard.READY_KEY)).thenReturn(false);
+
+            // when
+            Optional<Long> result = rankingLeaderboard.rankOf(Board.OVERALL, TEST_USER_ID);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(stringRedisTemplate, never()).opsForZSet();
+        }
+
+        @Test
+        @DisplayName("리더보드에 없는 사용자면 빈 값을 반환한다")
+        void rankOf_notMember() {
+            // given
+            givenReady();
+            when(zSetOperations.score(Board.OVERALL.key(), TEST_USER_ID)).thenReturn(null);
+
+            // when
+            Optional<Long> result = rankingLeaderboard.rankOf(Board.OVERALL, TEST_USER_ID);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 빈 값을 반환한다")
+        void rankOf_redisFailure() {
+            // given
+            when(stringRedisTemplate.hasKey(RankingLeaderboard.READY_KEY))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            Optional<Long> result = rankingLeaderboard.rankOf(Board.OVERALL, TEST_USER_ID);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("around 테스트")
+    class AroundTest {
+
+        @Test
+        @DisplayName("주변 사용자를 점수 내림차순으로 반환하고 동점은 같은 순위를 부여한다")
+        void around_competitionRanks() {
+            // given
+            givenReady();
+            Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+            tuples.add(new DefaultTypedTuple<>("user-a", 1200d));
+            tuples.add(new DefaultTypedTuple<>(TEST_USER_ID, 1000d));
+            tuples.add(new DefaultTypedTuple<>("user-b", 1000d));
+
+            when(zSetOperations.reverseRank(Board.OVERALL.key(), TEST_USER_ID)).thenReturn(3L);
+            when(zSetOperations.reverseRangeWithScores(Board.OVERALL.key(), 2L, 4L)).thenReturn(tuples);
+            when(zSetOperations.count(Board.OVERALL.key(), Math.nextUp(1200d), Double.POSITIVE_INFINITY))
+                .thenReturn(2L);
+
+            // when
+            Optional<List<Entry>> result = rankingLeaderboard.around(Board.OVERALL, TEST_USER_ID, 1);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get()).containsExactly(
+                new Entry("user-a", 1200L, 3L),
+                new Entry(TEST_USER_ID, 1000L, 4L),
+                new Entry("user-b", 1000L, 4L));
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile 테스트")
+    class ReconcileTest {
+
+        @Test
+        @DisplayName("DB와 다른 점수만 다시 쓰고 준비 표시를 남긴다")
+        @SuppressWarnings("unchecked")
+        void reconcile_correctsDrift() {
+            // given
+            UserStats stats = createTestUserStats(1L, TEST_USER_ID, 1000L);
+            when(userStatsRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(stats));
+            when(userStatsRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+            // OVERALL 일치, MISSION_COMPLETIONS 불일치, MAX_STREAK/ACHIEVEMENTS 누락
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(1000d, 9d, null, null))
+                .thenReturn(List.of());
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            givenMembers(Map.of());
+
+            // when
+            ReconcileResult result = rankingLeaderboard.reconcile();
+
+            // then
+            assertThat(result.scanned()).isEqualTo(1);
+            assertThat(result.corrected()).isEqualTo(3);
+            assertThat(result.removed()).isZero();
+            runPipelines(2);
+            verify(pipelineSetOperations).add(anyString(), eq(TEST_USER_ID));
+            verify(pipelineZSetOperations, never()).add(Board.OVERALL.key(), TEST_USER_ID, 1000d);
+            verify(pipelineZSetOperations).add(Board.MISSION_COMPLETIONS.key(), TEST_USER_ID, 10d);
+            verify(pipelineZSetOperations).add(Board.MAX_STREAK.key(), TEST_USER_ID, 5d);
+            verify(pipelineZSetOperations).add(Board.ACHIEVEMENTS.key(), TEST_USER_ID, 3d);
+            verify(valueOperations).set(eq(RankingLeaderboard.READY_KEY), anyString());
+        }
+
+        @Test
+        @DisplayName("DB에 없는 멤버는 지우고, 점검 중 새로 생긴 사용자는 남긴다")
+        @SuppressWarnings("unchecked")
+        void reconcile_removesAbsentMembers() {
+            // given
+            UserStats stats = createTestUserStats(1L, TEST_USER_ID, 1000L);
+            UserStats created = createTestUserStats(2L, "new-user", 10L);
+            when(userStatsRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(stats));
+            when(userStatsRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(1000d, 10d, 5d, 3d));
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            givenMembers(Map.of(Board.OVERALL, List.of(TEST_USER_ID, "deleted-user", "new-user")));
+            when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+            when(setOperations.isMember(anyString(), any(Object[].class))).thenReturn(
+                Map.of(TEST_USER_ID, true, "deleted-user", false, "new-user", false));
+            when(userStatsRepository.findByUserIdIn(List.of("deleted-user", "new-user"))).thenReturn(List.of(created));
+            when(zSetOperations.remove(Board.OVERALL.key(), "deleted-user")).thenReturn(1L);
+
+            // when
+            ReconcileResult result = rankingLeaderboard.reconcile();
+
+            // then
+            assertThat(result.corrected()).isZero();
+            assertThat(result.removed()).isEqualTo(1);
+            verify(zSetOperations).remove(Board.OVERALL.key(), "deleted-user");
+            verify(stringRedisTemplate).delete(startsWith(RankingLeaderboard.SEEN_KEY_PREFIX));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.event.AchievementFieldCheckRequestedEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatsCounterBuffer 단위 테스트")
+class UserStatsCounterBufferTest {
+
+    @Mock
+    private UserStatsService userStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private UserStatsCounterBuffer userStatsCounterBuffer;
+
+    private static final String OWNER_ID = "feed-owner-456";
+    private static final String FRIEND_ID = "friend-789";
+
+    @BeforeEach
+    void setUp() {
+        userStatsCounterBuffer = buffer(true, 50);
+    }
+
+    private UserStatsCounterBuffer buffer(boolean enabled, int batchSize) {
+        return new UserStatsCounterBuffer(userStatsService, eventPublisher, null, enabled, batchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<String>> appliedUserIds(int times) {
+        ArgumentCaptor<Map<String, UserStatsCounterDelta>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(userStatsService, times(times)).applyCounterDeltas(captor.capture());
+        List<List<String>> userIds = new ArrayList<>();
+        captor.getAllValues().forEach(deltas -> userIds.add(List.copyOf(deltas.keySet())));
+        return userIds;
+    }
+
+    @Nested
+    @DisplayName("flush 테스트")
+    class FlushTest {
+
+        @Test
+        @DisplayName("같은 사용자의 변화량을 합산해 한 번에 반영하고 업적 체크 이벤트는 1회만 발행한다")
+        void flush_coalescesPerUser() {
+            // given
+            for (int i = 0; i < 100; i++) {
+                userStatsCounterBuffer.add(OWNER_ID, UserStatsCounterDelta.likesReceived(1), "FEED_SERVICE");
+            }
+            userStatsCounterBuffer.add(OWNER_ID, UserStatsCounterDelta.likesReceived(-1), null);
+            userStatsCounterBuffer.add(OWNER_ID, UserStatsCounterDelta.commentsReceived(1), "USER_STATS");
+
+            // when
+            userStatsCounterBuffer.flush();
+
+            // then
+            UserStatsCounterDelta merged = new UserStatsCounterDelta(99, 0, 0, 1);
+            verify(userStatsService).applyCounterDeltas(Map.of(OWNER_ID, merged));
+            verify(eventPublisher, times(1)).publishEvent(new AchievementFieldCheckRequestedEvent(
+                OWNER_ID, List.of("FEED_SERVICE", "USER_STATS"), merged.changedDataFields()));
+            assertThat(userStatsCounterBuffer.pendingUsers()).isZero();
+        }
+
+        @Test
+        @DisplayName("userId 순으로 batch-size 명씩 나눠 반영한다")
+        void flush_sortedBatches() {
+            // given
+            UserStatsCounterBuffer buffer = buffer(true, 2);
+            buffer.add("user-c", UserStatsCounterDelta.friendCount(1), null);
+            buffer.add("user-a", UserStatsCounterDelta.friendCount(1), null);
+            buffer.add("user-b", UserStatsCounterDelta.friendCount(1), null);
+
+            // when
+            buffer.flush();
+
+            // then
+            assertThat(appliedUserIds(2)).containsExactly(List.of("user-a", "user-b"), List.of("user-c"));
+        }
+
+        @Test
+        @DisplayName("상쇄되어 변화량이 0이면 DB 반영과 업적 체크를 건너뛴다")
+        void flush_skipsZeroDelta() {
+            // given
+            userStatsCounterBuffer.add(FRIEND_ID, UserStatsCounterDelta.friendCount(1), "FRIEND_SERVICE");
+            userStatsCounterBuffer.add(FRIEND_ID, UserStatsCounterDelta.friendCount(-1), null);
+
+            // when
+            userStatsCounterBuffer.flush();
+
+            // then
+            verify(userStatsService, never()).applyCounterDeltas(anyMap());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("배치 반영이 실패하면 사용자별로 다시 반영해 실패한 사용자만 재시도 대상으로 남긴다")
+        void flush_isolatesFailedUser() {
+            // given
+            UserStatsCounterDelta ownerDelta = UserStatsCounterDelta.likesReceived(1);
+            UserStatsCounterDelta friendDelta = UserStatsCounterDelta.friendCount(1);
+            doAnswer(invocation -> {
+                Map<String, UserStatsCounterDelta> deltas = invocation.getArgument(0);
+                if (deltas.containsKey(OWNER_ID)) {
+                    throw new RuntimeException("DB error");
+                }
+                return null;
+            }).when(userStatsService).applyCounterDeltas(anyMap());
+            userStatsCounterBuffer.add(OWNER_ID, ownerDelta, "FEED_SERVICE");
+            userStatsCounterBuffer.add(FRIEND_ID, friendDelta, "FRIEND_SERVICE");
+
+            // when
+            userStatsCounterBuffer.flush();
+
+            // then: 배치 1회 + 사용자별 2회
+            assertThat(appliedUserIds(3)).containsExactly(
+                List.of(OWNER_ID, FRIEND_ID), List.of(OWNER_ID), List.of(FRIEND_ID));
+            verify(eventPublisher).publishEvent(new AchievementFieldCheckRequestedEvent(
+                FRIEND_ID, List.of("FRIEND_SERVICE"), friendDelta.changedDataFields()));
+            verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+            assertThat(userStatsCounterBuffer.pendingUsers()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("반영 실패 시 변화량을 되돌려 다음 주기에 재시도하고 그 전에는 업적 체크를 요청하지 않는다")
+        void flush_requeuesOnFailure() {
+            // given
+            Map<String, UserStatsCounterDelta> expected = Map.of(OWNER_ID, UserStatsCounterDelta.likesReceived(2));
+            doThrow(new RuntimeException("DB error")).doNothing()
+                .when(userStatsService).applyCounterDeltas(expected);
+            userStatsCounterBuffer.add(OWNER_ID, UserStatsCounterDelta.likesReceived(2), "FEED_SERVICE");
+
+            // when
+            userStatsCounterBuffer.flush();
+
+            // then
+            assertThat(userStatsCounterBuffer.pendingUsers()).isEqualTo(1);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+            // when - 다음 주기
+            userStatsCounterBuffer.flush();
+
+            // then
+            verify(userStatsService, times(2)).applyCounterDeltas(expected);
+            verify(eventPublisher).publishEvent(new AchievementFieldCheckRequestedEvent(
+                OWNER_ID, List.of("FEED_SERVICE"), Set.of("totalLikesReceived", "receivedLikeCount")));
+            assertThat(userStatsCounterBuffer.pendingUsers()).isZero();
+        }
+
+        @Test
+        @DisplayName("최대 재시도 횟수를 넘기면 변화량을 버린다")
+        void flush_dropsAfterMaxAttempts() {
+            // given
+            doThrow(new RuntimeException("DB error")).when(userStatsService).applyCounterDeltas(anyMap());
+            userStatsCounterBuffer.add(OWNER_ID, UserStatsCounterDelta.likesReceived(1), null);
+
+            // when
+            for (int i = 0; i < UserStatsCounterBuffer.MAX_ATTEMPTS; i++) {
+                userStatsCounterBuffer.flush();
+            }
+
+            // then
+            verify(userStatsService, times(UserStatsCounterBuffer.MAX_ATTEMPTS)).applyCounterDeltas(anyMap());
+            assertThat(userStatsCounterBuffer.pendingUsers()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("add 테스트")
+    class AddTest {
+
+        @Test
+        @DisplayName("비활성화 상태면 즉시 반영한다")
+        void add_disabledAppliesImmediately() {
+            // given
+            UserStatsCounterBuffer buffer = buffer(false, 50);
+
+            // when
+            buffer.add(OWNER_ID, UserStatsCounterDelta.likesReceived(1), "FEED_SERVICE");
+
+            // then
+            verify(userStatsService).applyCounterDeltas(Map.of(OWNER_ID, UserStatsCounterDelta.likesReceived(1)));
+            verify(eventPublisher).publishEvent(new AchievementFieldCheckRequestedEvent(
+                OWNER_ID, List.of("FEED_SERVICE"), Set.of("totalLikesReceived", "receivedLikeCount")));
+            assertThat(buffer.pendingUsers()).isZero();
+        }
+
+        @Test
+        @DisplayName("종료 시 남은 변화량을 반영한다")
+        void drain_flushesPending() {
+            // given
+            userStatsCounterBuffer.add(FRIEND_ID, UserStatsCounterDelta.friendCount(1), null);
+
+            // when
+            userStatsCounterBuffer.drain();
+
+            // then
+            verify(userStatsService).applyCounterDeltas(Map.of(FRIEND_ID, UserStatsCounterDelta.friendCount(1)));
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+}
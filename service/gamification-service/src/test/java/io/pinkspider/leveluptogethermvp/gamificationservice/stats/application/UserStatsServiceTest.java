@@ -3,12 +3,16 @@ package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
 import static io.pinkspider.global.test.TestReflectionUtils.setId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.pinkspider.leveluptogethermvp.gamificationservice.domain.entity.UserStats;
 import io.pinkspider.leveluptogethermvp.gamificationservice.infrastructure.UserStatsRepository;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.RankingLeaderboard.Board;
 import io.pinkspider.leveluptogethermvp.gamificationservice.stats.domain.dto.UserStatsResponse;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +28,9 @@ class UserStatsServiceTest {
     @Mock
     private UserStatsRepository userStatsRepository;
 
+    @Mock
+    private RankingLeaderboard rankingLeaderboard;
+
     @InjectMocks
     private UserStatsService userStatsService;
 
@@ -121,6 +128,7 @@ class UserStatsServiceTest {
 
             // then
             assertThat(stats.getTotalMissionCompletions()).isEqualTo(11);
+            verify(rankingLeaderboard).update(stats);
         }
 
         @Test
@@ -386,6 +394,42 @@ class UserStatsServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("applyCounterDeltas 테스트")
+    class ApplyCounterDeltasTest {
+
+        @Test
+        @DisplayName("사용자별 합산 변화량을 UPDATE 1회로 반영한다")
+        void applyCounterDeltas_singleUpdatePerUser() {
+            // given
+            when(userStatsRepository.addSocialCounters(TEST_USER_ID, 42L, 0, 0, 3L)).thenReturn(1);
+
+            // when
+            userStatsService.applyCounterDeltas(Map.of(TEST_USER_ID, new UserStatsCounterDelta(42L, 0, 0, 3L)));
+
+            // then
+            verify(userStatsRepository).addSocialCounters(TEST_USER_ID, 42L, 0, 0, 3L);
+            verify(userStatsRepository, never()).findByUserId(TEST_USER_ID);
+        }
+
+        @Test
+        @DisplayName("user_stats 행이 없으면 생성 후 다시 반영한다")
+        void applyCounterDeltas_createsMissingRow() {
+            // given
+            UserStats saved = createTestUserStats(1L, TEST_USER_ID, 0, 0);
+            when(userStatsRepository.addSocialCounters(TEST_USER_ID, 0L, 1, 0, 0L)).thenReturn(0, 1);
+            when(userStatsRepository.findByUserId(TEST_USER_ID)).thenReturn(Optional.empty());
+            when(userStatsRepository.save(any(UserStats.class))).thenReturn(saved);
+
+            // when
+            userStatsService.applyCounterDeltas(Map.of(TEST_USER_ID, UserStatsCounterDelta.friendCount(1)));
+
+            // then
+            verify(userStatsRepository).save(any(UserStats.class));
+            verify(userStatsRepository, times(2)).addSocialCounters(TEST_USER_ID, 0L, 1, 0, 0L);
+        }
+    }
+
     @Nested
     @DisplayName("getMaxStreak 테스트")
     class GetMaxStreakTest {
@@ -418,4 +462,39 @@ class UserStatsServiceTest {
             assertThat(result).isEqualTo(0);
         }
     }
+
+    @Nested
+    @DisplayName("calculateRankingPercentile 테스트")
+    class CalculateRankingPercentileTest {
+
+        @Test
+        @DisplayName("리더보드를 쓸 수 있으면 DB 집계 없이 계산한다")
+        void calculateRankingPercentile_usesLeaderboard() {
+            // given
+            when(rankingLeaderboard.size(Board.OVERALL)).thenReturn(Optional.of(200L));
+            when(rankingLeaderboard.rankOfScore(Board.OVERALL, 500L)).thenReturn(Optional.of(10L));
+
+            // when
+            Double result = userStatsService.calculateRankingPercentile(500L);
+
+            // then
+            assertThat(result).isEqualTo(5.0);
+            verify(userStatsRepository, never()).countTotalUsers();
+            verify(userStatsRepository, never()).calculateRank(500L);
+        }
+
+        @Test
+        @DisplayName("리더보드를 쓸 수 없으면 DB 집계로 계산한다")
+        void calculateRankingPercentile_fallsBackToDb() {
+            // given
+            when(userStatsRepository.countTotalUsers()).thenReturn(200L);
+            when(userStatsRepository.calculateRank(500L)).thenReturn(10L);
+
+            // when
+            Double result = userStatsService.calculateRankingPercentile(500L);
+
+            // then
+            assertThat(result).isEqualTo(5.0);
+        }
+    }
 }
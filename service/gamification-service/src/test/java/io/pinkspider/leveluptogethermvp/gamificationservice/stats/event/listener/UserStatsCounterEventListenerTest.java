@@ -1,18 +1,18 @@
 package io.pinkspider.leveluptogethermvp.gamificationservice.stats.event.listener;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.anyString;
 
 import io.pinkspider.global.event.FeedLikedEvent;
 import io.pinkspider.global.event.FeedUnlikedEvent;
 import io.pinkspider.global.event.FriendRemovedEvent;
 import io.pinkspider.global.event.FriendRequestAcceptedEvent;
 import io.pinkspider.global.event.GuildJoinedEvent;
-import io.pinkspider.leveluptogethermvp.gamificationservice.achievement.application.AchievementService;
-import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsService;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsCounterBuffer;
+import io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsCounterDelta;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,10 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class UserStatsCounterEventListenerTest {
 
     @Mock
-    private UserStatsService userStatsService;
-
-    @Mock
-    private AchievementService achievementService;
+    private UserStatsCounterBuffer userStatsCounterBuffer;
 
     @InjectMocks
     private UserStatsCounterEventListener listener;
@@ -44,7 +41,7 @@ class UserStatsCounterEventListenerTest {
     class HandleFeedLikedTest {
 
         @Test
-        @DisplayName("좋아요 카운터를 증가시키고 업적을 체크한다")
+        @DisplayName("좋아요 +1과 업적 체크 대상을 버퍼에 적재한다")
         void handleFeedLiked_success() {
             // given
             FeedLikedEvent event = new FeedLikedEvent(LIKER_ID, FEED_OWNER_ID, 1L);
@@ -53,8 +50,7 @@ class UserStatsCounterEventListenerTest {
             listener.handleFeedLiked(event);
 
             // then
-            verify(userStatsService).incrementLikesReceived(FEED_OWNER_ID);
-            verify(achievementService).checkAchievementsByDataSource(FEED_OWNER_ID, "FEED_SERVICE");
+            verify(userStatsCounterBuffer).add(FEED_OWNER_ID, UserStatsCounterDelta.likesReceived(1), "FEED_SERVICE");
         }
 
         @Test
@@ -62,13 +58,11 @@ class UserStatsCounterEventListenerTest {
         void handleFeedLiked_exceptionHandled() {
             // given
             FeedLikedEvent event = new FeedLikedEvent(LIKER_ID, FEED_OWNER_ID, 1L);
-            doThrow(new RuntimeException("DB error")).when(userStatsService).incrementLikesReceived(FEED_OWNER_ID);
+            doThrow(new RuntimeException("buffer error")).when(userStatsCounterBuffer)
+                .add(any(), any(), any());
 
             // when - 예외가 전파되지 않음
             listener.handleFeedLiked(event);
-
-            // then
-            verify(achievementService, never()).checkAchievementsByDataSource(anyString(), anyString());
         }
     }
 
@@ -77,7 +71,7 @@ class UserStatsCounterEventListenerTest {
     class HandleFeedUnlikedTest {
 
         @Test
-        @DisplayName("좋아요 카운터를 감소시킨다")
+        @DisplayName("좋아요 -1을 업적 체크 없이 버퍼에 적재한다")
         void handleFeedUnliked_success() {
             // given
             FeedUnlikedEvent event = new FeedUnlikedEvent(LIKER_ID, FEED_OWNER_ID, 1L);
@@ -86,7 +80,7 @@ class UserStatsCounterEventListenerTest {
             listener.handleFeedUnliked(event);
 
             // then
-            verify(userStatsService).decrementLikesReceived(FEED_OWNER_ID);
+            verify(userStatsCounterBuffer).add(eq(FEED_OWNER_ID), eq(UserStatsCounterDelta.likesReceived(-1)), isNull());
         }
 
         @Test
@@ -94,7 +88,8 @@ class UserStatsCounterEventListenerTest {
         void handleFeedUnliked_exceptionHandled() {
             // given
             FeedUnlikedEvent event = new FeedUnlikedEvent(LIKER_ID, FEED_OWNER_ID, 1L);
-            doThrow(new RuntimeException("DB error")).when(userStatsService).decrementLikesReceived(FEED_OWNER_ID);
+            doThrow(new RuntimeException("buffer error")).when(userStatsCounterBuffer)
+                .add(any(), any(), any());
 
             // when - 예외가 전파되지 않음
             listener.handleFeedUnliked(event);
@@ -106,7 +101,7 @@ class UserStatsCounterEventListenerTest {
     class HandleFriendAcceptedTest {
 
         @Test
-        @DisplayName("양쪽 친구 카운터를 증가시키고 업적을 체크한다")
+        @DisplayName("양쪽 친구 +1과 업적 체크 대상을 버퍼에 적재한다")
         void handleFriendAccepted_success() {
             // given
             FriendRequestAcceptedEvent event = new FriendRequestAcceptedEvent(
@@ -117,10 +112,8 @@ class UserStatsCounterEventListenerTest {
             listener.handleFriendAccepted(event);
 
             // then
-            verify(userStatsService).incrementFriendCount(USER_ID);
-            verify(userStatsService).incrementFriendCount(REQUESTER_ID);
-            verify(achievementService).checkAchievementsByDataSource(USER_ID, "FRIEND_SERVICE");
-            verify(achievementService).checkAchievementsByDataSource(REQUESTER_ID, "FRIEND_SERVICE");
+            verify(userStatsCounterBuffer).add(USER_ID, UserStatsCounterDelta.friendCount(1), "FRIEND_SERVICE");
+            verify(userStatsCounterBuffer).add(REQUESTER_ID, UserStatsCounterDelta.friendCount(1), "FRIEND_SERVICE");
         }
 
         @Test
@@ -130,7 +123,8 @@ class UserStatsCounterEventListenerTest {
             FriendRequestAcceptedEvent event = new FriendRequestAcceptedEvent(
                 USER_ID, REQUESTER_ID, "수락자", 1L
             );
-            doThrow(new RuntimeException("DB error")).when(userStatsService).incrementFriendCount(USER_ID);
+            doThrow(new RuntimeException("buffer error")).when(userStatsCounterBuffer)
+                .add(any(), any(), any());
 
             // when - 예외가 전파되지 않음
             listener.handleFriendAccepted(event);
@@ -142,7 +136,7 @@ class UserStatsCounterEventListenerTest {
     class HandleGuildJoinedTest {
 
         @Test
-        @DisplayName("길드 가입 카운터를 증가시키고 업적을 체크한다")
+        @DisplayName("길드 가입 +1과 업적 체크 대상을 버퍼에 적재한다")
         void handleGuildJoined_success() {
             // given
             GuildJoinedEvent event = new GuildJoinedEvent(USER_ID, 1L, "테스트 길드");
@@ -151,8 +145,7 @@ class UserStatsCounterEventListenerTest {
             listener.handleGuildJoined(event);
 
             // then
-            verify(userStatsService).incrementGuildJoinCount(USER_ID);
-            verify(achievementService).checkAchievementsByDataSource(USER_ID, "USER_STATS");
+            verify(userStatsCounterBuffer).add(USER_ID, UserStatsCounterDelta.guildJoinCount(1), "USER_STATS");
         }
 
         @Test
@@ -160,7 +153,8 @@ class UserStatsCounterEventListenerTest {
         void handleGuildJoined_exceptionHandled() {
             // given
             GuildJoinedEvent event = new GuildJoinedEvent(USER_ID, 1L, "테스트 길드");
-            doThrow(new RuntimeException("DB error")).when(userStatsService).incrementGuildJoinCount(USER_ID);
+            doThrow(new RuntimeException("buffer error")).when(userStatsCounterBuffer)
+                .add(any(), any(), any());
 
             // when - 예외가 전파되지 않음
             listener.handleGuildJoined(event);
@@ -172,7 +166,7 @@ class UserStatsCounterEventListenerTest {
     class HandleFriendRemovedTest {
 
         @Test
-        @DisplayName("양쪽 친구 카운터를 감소시킨다")
+        @DisplayName("양쪽 친구 -1을 버퍼에 적재한다")
         void handleFriendRemoved_success() {
             // given
             FriendRemovedEvent event = new FriendRemovedEvent(USER_ID, FRIEND_ID);
@@ -181,8 +175,8 @@ class UserStatsCounterEventListenerTest {
             listener.handleFriendRemoved(event);
 
             // then
-            verify(userStatsService).decrementFriendCount(USER_ID);
-            verify(userStatsService).decrementFriendCount(FRIEND_ID);
+            verify(userStatsCounterBuffer).add(eq(USER_ID), eq(UserStatsCounterDelta.friendCount(-1)), isNull());
+            verify(userStatsCounterBuffer).add(eq(FRIEND_ID), eq(UserStatsCounterDelta.friendCount(-1)), isNull());
         }
 
         @Test
@@ -190,7 +184,8 @@ class UserStatsCounterEventListenerTest {
         void handleFriendRemoved_exceptionHandled() {
             // given
             FriendRemovedEvent event = new FriendRemovedEvent(USER_ID, FRIEND_ID);
-            doThrow(new RuntimeException("DB error")).when(userStatsService).decrementFriendCount(USER_ID);
+            doThrow(new RuntimeException("buffer error")).when(userStatsCounterBuffer)
+                .add(any(), any(), any());
 
             // when - 예외가 전파되지 않음
             listener.handleFriendRemoved(event);
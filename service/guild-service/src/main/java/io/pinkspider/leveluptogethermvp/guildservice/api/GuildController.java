@@ -262,6 +262,19 @@ public class GuildController {
         return ResponseEntity.ok(ApiResult.<GuildHeadquartersInfoResponse>builder().value(response).build());
     }
 
+    // 지도 화면 영역 안의 길드 거점 정보 조회
+    @GetMapping("/headquarters/viewport")
+    public ResponseEntity<ApiResult<GuildHeadquartersInfoResponse>> getHeadquartersInViewport(
+        @RequestParam(name = "min_lat") double minLatitude,
+        @RequestParam(name = "min_lng") double minLongitude,
+        @RequestParam(name = "max_lat") double maxLatitude,
+        @RequestParam(name = "max_lng") double maxLongitude) {
+
+        GuildHeadquartersInfoResponse response = guildHeadquartersService.getHeadquartersInfoWithin(
+            minLatitude, minLongitude, maxLatitude, maxLongitude);
+        return ResponseEntity.ok(ApiResult.<GuildHeadquartersInfoResponse>builder().value(response).build());
+    }
+
     // 거점 설정 가능 여부 검증 (마스터용)
     @PostMapping("/{guildId}/headquarters/validate")
     public ResponseEntity<ApiResult<GuildHeadquartersValidationResponse>> validateHeadquarters(
@@ -9,6 +9,7 @@ import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.admin.GuildStati
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildMember;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildVisibility;
+import io.pinkspider.leveluptogethermvp.guildservice.event.GuildHeadquartersChangedEvent;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildMemberRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
@@ -23,6 +24,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -41,6 +43,7 @@ public class GuildAdminInternalService {
     private final GuildMemberRepository guildMemberRepository;
     private final MissionCategoryService missionCategoryService;
     private final UserQueryFacade userQueryFacadeService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GuildAdminPageResponse searchGuilds(String keyword, Long categoryId,
             Boolean isActive, String visibility, Pageable pageable) {
@@ -177,6 +180,7 @@ public class GuildAdminInternalService {
         guild.setIsActive(!guild.getIsActive());
         Guild saved = guildRepository.save(guild);
         log.info("길드 활성 상태 변경: id={}, isActive={}", id, saved.getIsActive());
+        eventPublisher.publishEvent(new GuildHeadquartersChangedEvent(id));
 
         MissionCategoryResponse category = getCategoryById(guild.getCategoryId());
         int memberCount = (int) guildMemberRepository.countActiveMembers(guild.getId());
@@ -0,0 +1,124 @@
+package io.pinkspider.leveluptogethermvp.guildservice.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildExperienceDeltaRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 길드 경험치 원장 반영기 (guild.exp-ledger)
+ *
+ * poll-interval마다 증감분이 fold-threshold 건 이상 쌓였거나 가장 오래된 증감분이 max-delay를 넘긴 길드를 골라
+ * {@link GuildExperienceService#foldLedger}로 누적 경험치에 반영한다. 레벨업 판정과 이벤트 발행도 이때 일어나므로
+ * 원장 모드의 레벨업은 최대 max-delay + poll-interval 늦어진다.
+ *
+ * 증감분은 적립 트랜잭션과 함께 DB에 저장되므로 인스턴스가 죽어도 유실되지 않는다. 여러 인스턴스가 같은 길드를
+ * 동시에 반영하려 하면 길드 행 잠금으로 순서가 정해지고, 늦은 쪽은 가져올 증감분이 없어 아무것도 하지 않는다.
+ * 원장 모드를 끈 뒤에도 남은 증감분을 반영하도록 설정과 관계없이 동작한다 (대기분이 없으면 빈 GROUP BY 조회 1회).
+ *
+ * 지표: guild.exp.ledger.fold(길드별 반영 시간), guild.exp.ledger.fold.failures
+ */
+@Slf4j
+@Component
+public class GuildExperienceAggregator {
+
+    private final GuildExperienceService guildExperienceService;
+    private final GuildExperienceDeltaRepository deltaRepository;
+    private final ScheduledExecutorService foldExecutor;
+    private final int foldThreshold;
+    private final Duration maxDelay;
+    private final int batchSize;
+
+    private final Timer foldTimer;
+    private final Counter foldFailureCounter;
+
+    @Autowired
+    public GuildExperienceAggregator(
+        GuildExperienceService guildExperienceService,
+        GuildExperienceDeltaRepository deltaRepository,
+        @Value("${guild.exp-ledger.poll-interval:500ms}") Duration pollInterval,
+        @Value("${guild.exp-ledger.fold-threshold:50}") int foldThreshold,
+        @Value("${guild.exp-ledger.max-delay:5s}") Duration maxDelay,
+        @Value("${guild.exp-ledger.batch-size:100}") int batchSize,
+        MeterRegistry meterRegistry) {
+        this(guildExperienceService, deltaRepository,
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("guild-exp-ledger-")),
+            foldThreshold, maxDelay, batchSize, meterRegistry);
+        long intervalMillis = pollInterval.toMillis();
+        foldExecutor.scheduleWithFixedDelay(this::foldDueQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    GuildExperienceAggregator(
+        GuildExperienceService guildExperienceService,
+        GuildExperienceDeltaRepository deltaRepository,
+        ScheduledExecutorService foldExecutor,
+        int foldThreshold,
+        Duration maxDelay,
+        int batchSize,
+        MeterRegistry meterRegistry) {
+        this.guildExperienceService = guildExperienceService;
+        this.deltaRepository = deltaRepository;
+        this.foldExecutor = foldExecutor;
+        this.foldThreshold = foldThreshold;
+        this.maxDelay = maxDelay;
+        this.batchSize = batchSize;
+
+        this.foldTimer = Timer.builder("guild.exp.ledger.fold")
+            .description("길드 경험치 원장 반영 시간 (길드별)")
+            .register(meterRegistry);
+        this.foldFailureCounter = Counter.builder("guild.exp.ledger.fold.failures")
+            .description("길드 경험치 원장 반영 실패")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 반영 대상 길드를 최대 batch-size개 반영한다. 한 길드의 실패는 다음 길드 반영을 막지 않는다.
+     *
+     * @return 반영한 증감분 수
+     */
+    public int foldDue() {
+        List<Long> guildIds = deltaRepository.findGuildIdsToFold(
+            foldThreshold, LocalDateTime.now().minus(maxDelay), PageRequest.of(0, batchSize));
+
+        int folded = 0;
+        for (Long guildId : guildIds) {
+            try {
+                folded += foldTimer.recordCallable(() -> guildExperienceService.foldLedger(guildId));
+            } catch (Exception e) {
+                // 증감분은 롤백되어 남아 있으므로 다음 주기에 다시 반영한다
+                foldFailureCounter.increment();
+                log.error("길드 경험치 원장 반영 실패: guildId={}, error={}", guildId, e.getMessage(), e);
+            }
+        }
+        return folded;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (foldExecutor != null) {
+            foldExecutor.shutdown();
+        }
+    }
+
+    private void foldDueQuietly() {
+        try {
+            foldDue();
+        } catch (Exception e) {
+            // 예약 작업이 예외로 중단되지 않도록 삼킨다
+            log.error("길드 경험치 원장 반영 오류: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -5,16 +5,22 @@ import io.pinkspider.leveluptogethermvp.metaservice.userlevelconfig.application.
 import io.pinkspider.global.event.GuildLevelUpEvent;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildExperienceResponse;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
+import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildExperienceDelta;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildExperienceHistory;
+import io.pinkspider.leveluptogethermvp.guildservice.event.GuildHeadquartersChangedEvent;
 import io.pinkspider.global.enums.GuildExpSourceType;
 import io.pinkspider.leveluptogethermvp.metaservice.guildlevelconfig.domain.entity.GuildLevelConfig;
+import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildExperienceDeltaRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildMemberRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
 import io.pinkspider.leveluptogethermvp.metaservice.userlevelconfig.domain.entity.UserLevelConfig;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +39,15 @@ public class GuildExperienceService {
     private final GuildMemberRepository guildMemberRepository;
     private final UserLevelConfigCacheService userLevelConfigCacheService;
     private final ApplicationEventPublisher eventPublisher;
+    private final GuildExperienceDeltaRepository deltaRepository;
+
+    /**
+     * 경험치 원장 모드: 길드 행을 갱신하지 않고 증감분만 적재한다.
+     * 인기 길드에 동시 적립이 몰려도 길드 행 잠금을 기다리지 않으며, GuildExperienceAggregator가
+     * 모아서 누적 경험치에 반영하고 레벨업을 판정한다. 조회는 반영된 값에 미반영 증감분을 더해 보여준다.
+     */
+    @Value("${guild.exp-ledger.enabled:false}")
+    private boolean ledgerEnabled;
 
     @Transactional
     public GuildExperienceResponse addExperience(Long guildId, int expAmount, GuildExpSourceType sourceType,
@@ -40,6 +55,11 @@ public class GuildExperienceService {
         Guild guild = guildRepository.findByIdAndIsActiveTrue(guildId)
             .orElseThrow(() -> new IllegalArgumentException("길드를 찾을 수 없습니다: " + guildId));
 
+        if (ledgerEnabled) {
+            appendToLedger(guild, expAmount, sourceType, sourceId, contributorId, description);
+            return getGuildExperienceInfo(guild, deltaRepository.sumExpAmountByGuildId(guildId));
+        }
+
         int levelBefore = guild.getCurrentLevel();
 
         guild.addExperience(expAmount);
@@ -78,6 +98,9 @@ public class GuildExperienceService {
         Guild guild = guildRepository.findByIdAndIsActiveTrue(guildId)
             .orElseThrow(() -> new IllegalArgumentException("길드를 찾을 수 없습니다: " + guildId));
 
+        if (ledgerEnabled) {
+            return getGuildExperienceInfo(guild, deltaRepository.sumExpAmountByGuildId(guildId));
+        }
         return getGuildExperienceInfo(guild);
     }
 
@@ -127,19 +150,15 @@ public class GuildExperienceService {
         Guild guild = guildRepository.findByIdAndIsActiveTrue(guildId)
             .orElseThrow(() -> new IllegalArgumentException("길드를 찾을 수 없습니다: " + guildId));
 
-        int levelBefore = guild.getCurrentLevel();
+        if (ledgerEnabled) {
+            // 적립분이 아직 반영 전일 수 있으므로 차감도 음수 증감분으로 적재해 같은 순서로 반영한다
+            appendToLedger(guild, -expAmount, sourceType, sourceId, contributorId, description);
+            return getGuildExperienceInfo(guild, deltaRepository.sumExpAmountByGuildId(guildId));
+        }
 
-        // 경험치 차감
-        int newCurrentExp = guild.getCurrentExp() - expAmount;
-        int newTotalExp = guild.getTotalExp() - expAmount;
+        int levelBefore = guild.getCurrentLevel();
 
-        // 레벨 다운 처리
-        if (newCurrentExp < 0) {
-            processLevelDown(guild, newTotalExp);
-        } else {
-            guild.setCurrentExp(newCurrentExp);
-            guild.setTotalExp(Math.max(0, newTotalExp));
-        }
+        subtractFromGuild(guild, expAmount);
 
         int levelAfter = guild.getCurrentLevel();
 
@@ -157,12 +176,7 @@ public class GuildExperienceService {
         historyRepository.save(history);
 
         if (levelAfter < levelBefore) {
-            log.info("길드 레벨 다운: guildId={}, {} -> {}", guildId, levelBefore, levelAfter);
-            // 레벨 다운 시 맥스 멤버 수 조정
-            GuildLevelConfig newLevelConfig = guildLevelConfigCacheService.getLevelConfigByLevel(levelAfter);
-            if (newLevelConfig != null) {
-                guild.updateMaxMembersByLevel(newLevelConfig.getMaxMembers());
-            }
+            handleLevelDown(guild, levelBefore, levelAfter);
         }
 
         log.info("길드 경험치 차감: guildId={}, amount={}, total={}, level: {} -> {}",
@@ -171,6 +185,111 @@ public class GuildExperienceService {
         return getGuildExperienceInfo(guild);
     }
 
+    /**
+     * 경험치 원장 반영 (GuildExperienceAggregator)
+     *
+     * 길드 행을 잠근 뒤 쌓인 증감분을 삭제하면서 가져와 합계를 누적 경험치에 반영하고 레벨을 다시 계산한다.
+     * 가져온 히스토리에는 반영 전/후 레벨을 함께 기록하고, 레벨업 이벤트의 기여자는 마지막 증감분의 기여자로 한다.
+     * 비활성 길드의 증감분은 버린다 (즉시 반영 모드에서도 비활성 길드에는 적립되지 않는다).
+     *
+     * @return 반영한 증감분 수
+     */
+    @Transactional
+    public int foldLedger(Long guildId) {
+        Optional<Guild> lockedGuild = guildRepository.findActiveByIdForUpdate(guildId);
+        List<Object[]> claimed = deltaRepository.claimByGuildId(guildId);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+        if (lockedGuild.isEmpty()) {
+            log.warn("비활성 길드의 경험치 증감분 폐기: guildId={}, count={}", guildId, claimed.size());
+            return claimed.size();
+        }
+        Guild guild = lockedGuild.get();
+
+        List<Long> historyIds = new ArrayList<>(claimed.size());
+        String contributorId = null;
+        int expAmount = 0;
+        for (Object[] row : claimed) {
+            historyIds.add(((Number) row[0]).longValue());
+            contributorId = (String) row[1];
+            expAmount += ((Number) row[2]).intValue();
+        }
+
+        int levelBefore = guild.getCurrentLevel();
+
+        if (expAmount >= 0) {
+            guild.addExperience(expAmount);
+            processLevelUp(guild);
+        } else {
+            subtractFromGuild(guild, -expAmount);
+        }
+
+        int levelAfter = guild.getCurrentLevel();
+
+        historyRepository.updateLevels(historyIds, levelBefore, levelAfter);
+
+        if (levelAfter > levelBefore) {
+            log.info("길드 레벨 업! guildId={}, {} -> {}", guildId, levelBefore, levelAfter);
+            eventPublisher.publishEvent(new GuildLevelUpEvent(
+                contributorId, guildId, guild.getName(), levelAfter));
+        } else if (levelAfter < levelBefore) {
+            handleLevelDown(guild, levelBefore, levelAfter);
+        }
+
+        log.debug("길드 경험치 원장 반영: guildId={}, count={}, amount={}, total={}, level={}",
+            guildId, claimed.size(), expAmount, guild.getTotalExp(), levelAfter);
+
+        return claimed.size();
+    }
+
+    /**
+     * 원장 적재: 히스토리는 바로 남기고 (레벨은 반영 시 기록) 같은 금액의 증감분을 쌓는다
+     */
+    private void appendToLedger(Guild guild, int expAmount, GuildExpSourceType sourceType,
+                                Long sourceId, String contributorId, String description) {
+        GuildExperienceHistory history = historyRepository.save(GuildExperienceHistory.builder()
+            .guild(guild)
+            .sourceType(sourceType)
+            .sourceId(sourceId)
+            .contributorId(contributorId)
+            .expAmount(expAmount)
+            .description(description)
+            .build());
+
+        deltaRepository.save(GuildExperienceDelta.builder()
+            .guildId(guild.getId())
+            .historyId(history.getId())
+            .contributorId(contributorId)
+            .expAmount(expAmount)
+            .build());
+    }
+
+    private void subtractFromGuild(Guild guild, int expAmount) {
+        // 경험치 차감
+        int newCurrentExp = guild.getCurrentExp() - expAmount;
+        int newTotalExp = guild.getTotalExp() - expAmount;
+
+        // 레벨 다운 처리
+        if (newCurrentExp < 0) {
+            processLevelDown(guild, newTotalExp);
+        } else {
+            guild.setCurrentExp(newCurrentExp);
+            guild.setTotalExp(Math.max(0, newTotalExp));
+        }
+    }
+
+    private void handleLevelDown(Guild guild, int levelBefore, int levelAfter) {
+        log.info("길드 레벨 다운: guildId={}, {} -> {}", guild.getId(), levelBefore, levelAfter);
+        // 레벨 다운 시 맥스 멤버 수 조정
+        GuildLevelConfig newLevelConfig = guildLevelConfigCacheService.getLevelConfigByLevel(levelAfter);
+        if (newLevelConfig != null) {
+            guild.updateMaxMembersByLevel(newLevelConfig.getMaxMembers());
+        }
+        // 거점 보호 반경이 줄어들 수 있으므로 거점 인덱스 갱신
+        eventPublisher.publishEvent(new GuildHeadquartersChangedEvent(guild.getId()));
+    }
+
     /**
      * 레벨 다운 처리 (경험치 차감으로 인한)
      */
@@ -223,8 +342,30 @@ public class GuildExperienceService {
      * processLevelDown 과 동일한 cumulative 기준으로 통일.)
      */
     private void processLevelUp(Guild guild) {
+        LevelProgress progress = levelProgress(guild.getTotalExp());
+
+        guild.setCurrentLevel(progress.level());
+        guild.setCurrentExp(progress.currentExp());
+
+        // 현재 레벨의 최대 인원수 갱신 (설정 없으면 기본 공식)
+        GuildLevelConfig levelConfig =
+                guildLevelConfigCacheService.getLevelConfigByLevel(guild.getCurrentLevel());
+        int maxMembers =
+                levelConfig != null && levelConfig.getMaxMembers() != null
+                        ? levelConfig.getMaxMembers()
+                        : calculateDefaultMaxMembers(guild.getCurrentLevel());
+        guild.updateMaxMembersByLevel(maxMembers);
+    }
+
+    private record LevelProgress(int level, int currentExp) {
+    }
+
+    /**
+     * 누적 경험치 → 레벨 / 현재 레벨 내 경험치 (cumulative_exp 기준)
+     */
+    private LevelProgress levelProgress(int targetTotalExp) {
         List<GuildLevelConfig> levelConfigs = guildLevelConfigCacheService.getAllLevelConfigs();
-        int totalExp = Math.max(0, guild.getTotalExp());
+        int totalExp = Math.max(0, targetTotalExp);
 
         int newLevel = 1;
         int cumulativeForLevel = 0;
@@ -242,17 +383,7 @@ public class GuildExperienceService {
             }
         }
 
-        guild.setCurrentLevel(Math.max(1, newLevel));
-        guild.setCurrentExp(Math.max(0, totalExp - cumulativeForLevel));
-
-        // 현재 레벨의 최대 인원수 갱신 (설정 없으면 기본 공식)
-        GuildLevelConfig levelConfig =
-                guildLevelConfigCacheService.getLevelConfigByLevel(guild.getCurrentLevel());
-        int maxMembers =
-                levelConfig != null && levelConfig.getMaxMembers() != null
-                        ? levelConfig.getMaxMembers()
-                        : calculateDefaultMaxMembers(guild.getCurrentLevel());
-        guild.updateMaxMembersByLevel(maxMembers);
+        return new LevelProgress(Math.max(1, newLevel), Math.max(0, totalExp - cumulativeForLevel));
     }
 
     /**
@@ -277,4 +408,36 @@ public class GuildExperienceService {
 
         return GuildExperienceResponse.from(guild, requiredExp, levelTitle);
     }
+
+    /**
+     * 원장 모드 조회: 반영된 누적 경험치에 미반영 증감분을 더해 레벨/현재 경험치를 계산한다.
+     * 최대 인원수는 반영 시 갱신되므로 길드 값을 그대로 쓴다.
+     */
+    private GuildExperienceResponse getGuildExperienceInfo(Guild guild, long pendingExp) {
+        if (pendingExp == 0) {
+            return getGuildExperienceInfo(guild);
+        }
+
+        int totalExp = (int) Math.max(0, guild.getTotalExp() + pendingExp);
+        LevelProgress progress = levelProgress(totalExp);
+        GuildLevelConfig levelConfig = guildLevelConfigCacheService.getLevelConfigByLevel(progress.level());
+
+        int requiredExp =
+                levelConfig != null && levelConfig.getRequiredExp() != null
+                        ? levelConfig.getRequiredExp()
+                        : calculateDefaultUserRequiredExp(progress.level());
+
+        String levelTitle = levelConfig != null ? levelConfig.getTitle() : "Lv." + progress.level();
+
+        return GuildExperienceResponse.builder()
+            .guildId(guild.getId())
+            .guildName(guild.getName())
+            .currentLevel(progress.level())
+            .currentExp(progress.currentExp())
+            .totalExp(totalExp)
+            .requiredExpForNextLevel(requiredExp)
+            .maxMembers(guild.getMaxMembers())
+            .levelTitle(levelTitle)
+            .build();
+    }
 }
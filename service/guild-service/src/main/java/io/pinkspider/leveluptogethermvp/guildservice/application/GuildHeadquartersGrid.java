@@ -0,0 +1,167 @@
+package io.pinkspider.leveluptogethermvp.guildservice.application;
+
+import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 길드 거점 격자 인덱스 (위경도 고정 크기 셀)
+ *
+ * 거점을 {@link #CELL_DEGREES} 크기 셀에 나눠 담고, 점 주변 반경이나 지도 화면 영역에 걸친 셀만 확인한다.
+ * 걸친 셀 수가 거점 수보다 많은 넓은 영역은 셀 대신 전체 거점을 훑는다.
+ *
+ * - 쓰기(거점 변경, 레벨 변경)는 드물어 synchronized 로 직렬화하고, 읽기는 잠금 없이 ConcurrentHashMap 을 본다.
+ * - 날짜 변경선(경도 ±180)을 넘는 영역은 고려하지 않는다.
+ */
+final class GuildHeadquartersGrid {
+
+    /** 셀 크기 (위도 기준 약 1.1km, 최대 보호 반경보다 충분히 크다) */
+    static final double CELL_DEGREES = 0.01;
+
+    /** 위도 1도 거리 (미터, 하버사인 계산과 같은 지구 반지름 기준) */
+    static final double METERS_PER_DEGREE = 6371000.0 * Math.PI / 180.0;
+
+    private final Map<Long, Map<Long, Entry>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile int maxLevel;
+
+    /**
+     * 인덱스에 담는 거점 정보 (지도 표시/검증에 필요한 값만)
+     */
+    /**
+     * 점에서 radiusMeters 안의 거점을 모두 포함하는 위경도 영역
+     */
+    record Bounds(double minLat, double minLng, double maxLat, double maxLng) {
+
+        static Bounds around(double latitude, double longitude, double radiusMeters) {
+            double deltaLat = radiusMeters / METERS_PER_DEGREE;
+            // 원의 북/남 끝에서 경도 1도가 가장 짧으므로 그 위도 기준으로 넓힌다
+            double cos = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + deltaLat)));
+            double deltaLon = radiusMeters / (METERS_PER_DEGREE * cos);
+            return new Bounds(latitude - deltaLat, longitude - deltaLon, latitude + deltaLat, longitude + deltaLon);
+        }
+    }
+
+    record Entry(Long guildId, String guildName, String imageUrl, Long categoryId, int level,
+                 double latitude, double longitude) {
+
+        static Entry from(Guild guild) {
+            return new Entry(guild.getId(), guild.getName(), guild.getImageUrl(), guild.getCategoryId(),
+                guild.getCurrentLevel(), guild.getBaseLatitude(), guild.getBaseLongitude());
+        }
+    }
+
+    synchronized void put(Entry entry) {
+        Entry previous = entries.put(entry.guildId(), entry);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+        cells.computeIfAbsent(cellKey(entry.latitude(), entry.longitude()), key -> new ConcurrentHashMap<>())
+            .put(entry.guildId(), entry);
+        // 레벨 다운/삭제 시에도 줄이지 않는다 (검색 반경이 넓어질 뿐 결과는 같다, 재생성 시 다시 계산)
+        maxLevel = Math.max(maxLevel, entry.level());
+    }
+
+    synchronized void remove(Long guildId) {
+        Entry previous = entries.remove(guildId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 인덱스에 담긴 가장 높은 길드 레벨 (검색 반경 계산용)
+     */
+    int maxLevel() {
+        return maxLevel;
+    }
+
+    /**
+     * 점에서 radiusMeters 안에 있을 수 있는 거점 후보 (정확한 거리 비교는 호출자가 한다)
+     */
+    List<Entry> near(double latitude, double longitude, double radiusMeters) {
+        Bounds bounds = Bounds.around(latitude, longitude, radiusMeters);
+        return collect(bounds.minLat(), bounds.minLng(), bounds.maxLat(), bounds.maxLng(), false);
+    }
+
+    /**
+     * 영역 안 거점 (지도 화면 조회용)
+     */
+    List<Entry> within(double minLat, double minLng, double maxLat, double maxLng) {
+        return collect(minLat, minLng, maxLat, maxLng, true);
+    }
+
+    /**
+     * 전체 거점 (길드 ID 순)
+     */
+    List<Entry> all() {
+        List<Entry> result = new ArrayList<>(entries.values());
+        result.sort(Comparator.comparing(Entry::guildId));
+        return result;
+    }
+
+    private List<Entry> collect(double minLat, double minLng, double maxLat, double maxLng, boolean exact) {
+        long minRow = cell(minLat);
+        long maxRow = cell(maxLat);
+        long minCol = cell(minLng);
+        long maxCol = cell(maxLng);
+        List<Entry> result = new ArrayList<>();
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > entries.size()) {
+            for (Entry entry : entries.values()) {
+                if (contains(entry, minLat, minLng, maxLat, maxLng)) {
+                    result.add(entry);
+                }
+            }
+            return result;
+        }
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Map<Long, Entry> cell = cells.get(cellKey(row, col));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell.values()) {
+                    if (!exact || contains(entry, minLat, minLng, maxLat, maxLng)) {
+                        result.add(entry);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void removeFromCell(Entry entry) {
+        long key = cellKey(entry.latitude(), entry.longitude());
+        Map<Long, Entry> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(entry.guildId());
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static boolean contains(Entry entry, double minLat, double minLng, double maxLat, double maxLng) {
+        return entry.latitude() >= minLat && entry.latitude() <= maxLat
+            && entry.longitude() >= minLng && entry.longitude() <= maxLng;
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(cell(latitude), cell(longitude));
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,148 @@
+package io.pinkspider.leveluptogethermvp.guildservice.application;
+
+import io.pinkspider.leveluptogethermvp.guildservice.application.GuildHeadquartersGrid.Entry;
+import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
+import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 길드 거점 공간 인덱스 (인스턴스 로컬)
+ *
+ * 거점이 설정된 활성 길드를 {@link GuildHeadquartersGrid}에 담아, 거점 검증은 주변 셀의 길드만, 지도 조회는 화면 영역의 길드만 본다.
+ *
+ * - 첫 조회 시 findAllWithHeadquarters 1회로 만들고, 무효화 메시지 유실에 대비해 max-age가 지나면 다시 만든다.
+ * - 거점 변경/레벨 변경 커밋 후 {@link #refresh(Long)}로 해당 길드만 다시 읽고, 다른 인스턴스에는 길드 ID를 발행한다.
+ */
+@Slf4j
+@Component
+public class GuildHeadquartersIndex implements MessageListener {
+
+    public static final String CHANNEL = "guild:headquarters-index:invalidate";
+    static final String ALL = "all";
+
+    private final GuildRepository guildRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long maxAgeNanos;
+
+    private volatile Snapshot snapshot;
+
+    public GuildHeadquartersIndex(
+        GuildRepository guildRepository,
+        StringRedisTemplate stringRedisTemplate,
+        @Value("${guild.headquarters-index.max-age:10m}") Duration maxAge) {
+        this.guildRepository = guildRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * 점에서 radiusMeters 안에 있을 수 있는 거점 후보
+     */
+    List<Entry> candidates(double latitude, double longitude, double radiusMeters) {
+        return current().grid().near(latitude, longitude, radiusMeters);
+    }
+
+    /**
+     * 영역 안 거점
+     */
+    List<Entry> within(double minLat, double minLng, double maxLat, double maxLng) {
+        return current().grid().within(minLat, minLng, maxLat, maxLng);
+    }
+
+    /**
+     * 전체 거점 (길드 ID 순)
+     */
+    List<Entry> all() {
+        return current().grid().all();
+    }
+
+    /**
+     * 인덱스에 담긴 가장 높은 길드 레벨 (최대 보호 반경 계산용)
+     */
+    int maxLevel() {
+        return current().grid().maxLevel();
+    }
+
+    /**
+     * 길드 하나를 DB에서 다시 읽어 반영하고 다른 인스턴스에도 발행 (커밋 이후 호출)
+     */
+    public void refresh(Long guildId) {
+        reload(guildId);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(guildId));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스는 max-age 만료까지 이전 거점 정보를 사용한다
+            log.warn("길드 거점 인덱스 갱신 발행 실패: guildId={}, error={}", guildId, e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 인덱스 폐기 (이 인스턴스만, 다음 조회 시 재생성)
+     */
+    public void evict() {
+        snapshot = null;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (ALL.equals(body)) {
+            evict();
+            return;
+        }
+        try {
+            reload(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("길드 거점 인덱스 메시지 무시: body={}", body);
+        } catch (Exception e) {
+            // 다시 읽기 실패 시 인덱스를 버려 다음 조회에서 전체 재생성
+            log.warn("길드 거점 인덱스 갱신 실패: guildId={}, error={}", body, e.getMessage());
+            evict();
+        }
+    }
+
+    private void reload(Long guildId) {
+        Snapshot s = snapshot;
+        if (s == null) {
+            return;
+        }
+        guildRepository.findByIdAndIsActiveTrue(guildId)
+            .filter(guild -> guild.getBaseLatitude() != null && guild.getBaseLongitude() != null)
+            .ifPresentOrElse(
+                guild -> s.grid().put(Entry.from(guild)),
+                () -> s.grid().remove(guildId));
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null || System.nanoTime() - s.builtAt() > maxAgeNanos) {
+            synchronized (this) {
+                s = snapshot;
+                if (s == null || System.nanoTime() - s.builtAt() > maxAgeNanos) {
+                    s = build(guildRepository.findAllWithHeadquarters());
+                    snapshot = s;
+                }
+            }
+        }
+        return s;
+    }
+
+    static Snapshot build(List<Guild> guilds) {
+        GuildHeadquartersGrid grid = new GuildHeadquartersGrid();
+        for (Guild guild : guilds) {
+            grid.put(Entry.from(guild));
+        }
+        log.info("길드 거점 인덱스 생성: guilds={}", grid.size());
+        return new Snapshot(grid, System.nanoTime());
+    }
+
+    record Snapshot(GuildHeadquartersGrid grid, long builtAt) {}
+}
@@ -0,0 +1,29 @@
+package io.pinkspider.leveluptogethermvp.guildservice.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 길드 거점 인덱스 갱신용 Redis pub/sub 리스너 설정
+ */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+public class GuildHeadquartersIndexConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final GuildHeadquartersIndex guildHeadquartersIndex;
+
+    @Bean
+    public RedisMessageListenerContainer guildHeadquartersIndexListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(guildHeadquartersIndex, new ChannelTopic(GuildHeadquartersIndex.CHANNEL));
+        return container;
+    }
+}
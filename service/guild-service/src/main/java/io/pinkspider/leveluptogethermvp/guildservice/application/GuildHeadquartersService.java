@@ -1,17 +1,19 @@
 package io.pinkspider.leveluptogethermvp.guildservice.application;
 
+import io.pinkspider.leveluptogethermvp.guildservice.application.GuildHeadquartersGrid.Bounds;
+import io.pinkspider.leveluptogethermvp.guildservice.application.GuildHeadquartersGrid.Entry;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersInfoResponse;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersInfoResponse.GuildHeadquartersInfo;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersInfoResponse.HeadquartersConfig;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersValidationResponse;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersValidationResponse.NearbyGuildInfo;
-import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildHeadquartersConfig;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildHeadquartersConfigRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
 import io.pinkspider.leveluptogethermvp.metaservice.domain.dto.MissionCategoryResponse;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,9 +28,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class GuildHeadquartersService {
 
-    private final GuildRepository guildRepository;
     private final GuildHeadquartersConfigRepository configRepository;
+    private final GuildRepository guildRepository;
     private final MissionCategoryService missionCategoryService;
+    private final GuildHeadquartersIndex guildHeadquartersIndex;
 
     // 지구 반지름 (미터)
     private static final double EARTH_RADIUS_METERS = 6371000.0;
@@ -39,7 +42,9 @@ public class GuildHeadquartersService {
     private static final int DEFAULT_LEVEL_TIER_SIZE = 10;
 
     /**
-     * 거점 설정 가능 여부 검증
+     * 거점 설정 가능 여부 검증 (위치 선택 화면 미리보기용)
+     * 노드별 거점 인덱스로 후보를 좁힌다. 인덱스가 늦게 갱신될 수 있으므로 실제 저장 전에는
+     * {@link #validateAndThrowIfInvalid}가 DB 기준으로 다시 검증한다.
      * @param guildId 내 길드 ID (자신의 길드는 제외)
      * @param latitude 설정하려는 위도
      * @param longitude 설정하려는 경도
@@ -48,31 +53,40 @@ public class GuildHeadquartersService {
             Long guildId, double latitude, double longitude) {
 
         GuildHeadquartersConfig config = getActiveConfig();
-        List<Guild> guildsWithHq = guildId != null
-                ? guildRepository.findAllWithHeadquartersExcluding(guildId)
-                : guildRepository.findAllWithHeadquarters();
+        // 가장 높은 레벨의 보호 반경 안에 있는 길드만 후보로 보고, 후보별 보호 반경으로 정확히 비교
+        int searchRadius = config.calculateProtectionRadius(guildHeadquartersIndex.maxLevel());
+        return validate(config, guildId, latitude, longitude,
+                guildHeadquartersIndex.candidates(latitude, longitude, searchRadius));
+    }
 
+    private GuildHeadquartersValidationResponse validate(GuildHeadquartersConfig config, Long guildId,
+            double latitude, double longitude, List<Entry> candidates) {
         List<NearbyGuildInfo> conflictingGuilds = new ArrayList<>();
 
-        for (Guild guild : guildsWithHq) {
-            int protectionRadius = config.calculateProtectionRadius(guild.getCurrentLevel());
+        for (Entry guild : candidates) {
+            if (guild.guildId().equals(guildId)) {
+                continue;
+            }
+            int protectionRadius = config.calculateProtectionRadius(guild.level());
             double distance = calculateDistance(
                     latitude, longitude,
-                    guild.getBaseLatitude(), guild.getBaseLongitude()
+                    guild.latitude(), guild.longitude()
             );
 
             if (distance < protectionRadius) {
                 conflictingGuilds.add(NearbyGuildInfo.builder()
-                        .guildId(guild.getId())
-                        .guildName(guild.getName())
-                        .guildLevel(guild.getCurrentLevel())
-                        .latitude(guild.getBaseLatitude())
-                        .longitude(guild.getBaseLongitude())
+                        .guildId(guild.guildId())
+                        .guildName(guild.guildName())
+                        .guildLevel(guild.level())
+                        .latitude(guild.latitude())
+                        .longitude(guild.longitude())
                         .protectionRadiusMeters(protectionRadius)
                         .distanceMeters(Math.round(distance * 100.0) / 100.0)
                         .build());
             }
         }
+        // 가장 가까운 길드를 먼저 (validateAndThrowIfInvalid 메시지에 사용)
+        conflictingGuilds.sort(Comparator.comparing(NearbyGuildInfo::getDistanceMeters));
 
         boolean isValid = conflictingGuilds.isEmpty();
         String message = isValid
@@ -93,12 +107,27 @@ public class GuildHeadquartersService {
      * 모든 길드의 거점 정보 조회 (지도 표시용)
      */
     public GuildHeadquartersInfoResponse getAllHeadquartersInfo() {
+        return buildHeadquartersInfo(guildHeadquartersIndex.all());
+    }
+
+    /**
+     * 지도 화면 영역 안의 길드 거점 정보 조회
+     */
+    public GuildHeadquartersInfoResponse getHeadquartersInfoWithin(
+            double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("유효하지 않은 지도 영역입니다.");
+        }
+        return buildHeadquartersInfo(
+                guildHeadquartersIndex.within(minLatitude, minLongitude, maxLatitude, maxLongitude));
+    }
+
+    private GuildHeadquartersInfoResponse buildHeadquartersInfo(List<Entry> guildsWithHq) {
         GuildHeadquartersConfig config = getActiveConfig();
-        List<Guild> guildsWithHq = guildRepository.findAllWithHeadquarters();
 
         // 카테고리 정보 조회
         List<Long> categoryIds = guildsWithHq.stream()
-                .map(Guild::getCategoryId)
+                .map(Entry::categoryId)
                 .filter(id -> id != null)
                 .distinct()
                 .toList();
@@ -118,19 +147,19 @@ public class GuildHeadquartersService {
 
         List<GuildHeadquartersInfo> guildInfoList = guildsWithHq.stream()
                 .map(guild -> {
-                    int protectionRadius = config.calculateProtectionRadius(guild.getCurrentLevel());
-                    MissionCategoryResponse category = categoryMap.get(guild.getCategoryId());
+                    int protectionRadius = config.calculateProtectionRadius(guild.level());
+                    MissionCategoryResponse category = categoryMap.get(guild.categoryId());
 
                     return GuildHeadquartersInfo.builder()
-                            .guildId(guild.getId())
-                            .guildName(guild.getName())
-                            .guildImageUrl(guild.getImageUrl())
-                            .guildLevel(guild.getCurrentLevel())
-                            .categoryId(guild.getCategoryId())
+                            .guildId(guild.guildId())
+                            .guildName(guild.guildName())
+                            .guildImageUrl(guild.imageUrl())
+                            .guildLevel(guild.level())
+                            .categoryId(guild.categoryId())
                             .categoryName(category != null ? category.getName() : null)
                             .categoryIcon(category != null ? category.getIcon() : null)
-                            .latitude(guild.getBaseLatitude())
-                            .longitude(guild.getBaseLongitude())
+                            .latitude(guild.latitude())
+                            .longitude(guild.longitude())
                             .protectionRadiusMeters(protectionRadius)
                             .build();
                 })
@@ -148,10 +177,22 @@ public class GuildHeadquartersService {
 
     /**
      * 거점 설정 시 검증 (GuildService에서 사용)
+     * 노드별 인덱스는 갱신 메시지를 놓치면 최대 보관 시간 동안 늦을 수 있으므로, 최대 보호 반경 영역을 DB에서 다시 읽어 검증한다.
      * @throws IllegalStateException 설정 불가 위치인 경우
      */
     public void validateAndThrowIfInvalid(Long guildId, double latitude, double longitude) {
-        GuildHeadquartersValidationResponse validation = validateHeadquartersLocation(guildId, latitude, longitude);
+        GuildHeadquartersConfig config = getActiveConfig();
+        Integer maxLevel = guildRepository.findMaxHeadquartersLevel();
+        if (maxLevel == null) {
+            return;
+        }
+        Bounds bounds = Bounds.around(latitude, longitude, config.calculateProtectionRadius(maxLevel));
+        List<Entry> candidates = guildRepository.findHeadquartersWithin(
+                        bounds.minLat(), bounds.minLng(), bounds.maxLat(), bounds.maxLng())
+                .stream()
+                .map(Entry::from)
+                .toList();
+        GuildHeadquartersValidationResponse validation = validate(config, guildId, latitude, longitude, candidates);
 
         if (!validation.isValid()) {
             NearbyGuildInfo nearestGuild = validation.getNearbyGuilds().get(0);
@@ -21,9 +21,13 @@ import io.pinkspider.global.event.GuildBulletinCreatedEvent;
 import io.pinkspider.global.enums.ReportTargetType;
 import io.pinkspider.global.translation.TranslationService;
 import io.pinkspider.global.translation.dto.TranslationInfo;
+import io.pinkspider.global.translation.dto.TranslationTarget;
 import io.pinkspider.global.translation.enums.ContentType;
 import io.pinkspider.global.translation.enums.SupportedLocale;
 import io.pinkspider.leveluptogethermvp.supportservice.report.application.ReportService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -223,6 +227,7 @@ public class GuildPostService {
         }
 
         post.update(request.getTitle(), request.getContent());
+        translationService.evictTranslationCache(ContentType.GUILD_POST, postId);
         log.info("길드 게시글 수정: postId={}, author={}", postId, userId);
 
         return GuildPostResponse.from(post);
@@ -332,14 +337,23 @@ public class GuildPostService {
             .filter(c -> c.getParent() == null)
             .toList();
 
+        Map<Long, List<GuildPostComment>> repliesByParent = new LinkedHashMap<>();
+        List<GuildPostComment> allComments = new ArrayList<>(rootComments);
+        for (GuildPostComment comment : rootComments) {
+            List<GuildPostComment> replies = guildPostCommentRepository.findRepliesByParentId(comment.getId());
+            repliesByParent.put(comment.getId(), replies);
+            allComments.addAll(replies);
+        }
+
+        // 루트 댓글과 대댓글을 한 번에 일괄 번역
+        Map<Long, TranslationInfo> translations = translateComments(allComments, targetLocale);
+
         return rootComments.stream()
             .map(comment -> {
-                List<GuildPostCommentResponse> replies = guildPostCommentRepository.findRepliesByParentId(comment.getId())
-                    .stream()
-                    .map(reply -> GuildPostCommentResponse.from(reply, translateComment(reply, targetLocale)))
+                List<GuildPostCommentResponse> replies = repliesByParent.get(comment.getId()).stream()
+                    .map(reply -> GuildPostCommentResponse.from(reply, translations.get(reply.getId())))
                     .collect(Collectors.toList());
-                TranslationInfo translation = translateComment(comment, targetLocale);
-                return GuildPostCommentResponse.fromWithReplies(comment, replies, translation);
+                return GuildPostCommentResponse.fromWithReplies(comment, replies, translations.get(comment.getId()));
             })
             .collect(Collectors.toList());
     }
@@ -368,6 +382,7 @@ public class GuildPostService {
         }
 
         comment.update(request.getContent());
+        translationService.evictTranslationCache(ContentType.GUILD_COMMENT, commentId);
         log.info("길드 게시글 댓글 수정: commentId={}, author={}", commentId, userId);
 
         return GuildPostCommentResponse.from(comment);
@@ -412,13 +427,32 @@ public class GuildPostService {
             post.getTitle(), post.getContent(), targetLocale);
     }
 
-    private TranslationInfo translateComment(GuildPostComment comment, String targetLocale) {
-        if (comment.getIsDeleted()) {
-            return TranslationInfo.notTranslated("ko");
+    /**
+     * 댓글 일괄 번역 (삭제된 댓글은 번역하지 않음)
+     */
+    private Map<Long, TranslationInfo> translateComments(List<GuildPostComment> comments, String targetLocale) {
+        Map<Long, TranslationInfo> translations = new HashMap<>();
+        List<GuildPostComment> targets = new ArrayList<>();
+        for (GuildPostComment comment : comments) {
+            if (comment.getIsDeleted()) {
+                translations.put(comment.getId(), TranslationInfo.notTranslated("ko"));
+            } else {
+                targets.add(comment);
+            }
+        }
+        if (targets.isEmpty()) {
+            return translations;
+        }
+
+        List<TranslationInfo> results = translationService.translateContents(
+            targets.stream()
+                .map(c -> TranslationTarget.of(ContentType.GUILD_COMMENT, c.getId(), c.getContent()))
+                .toList(),
+            targetLocale);
+        for (int i = 0; i < Math.min(targets.size(), results.size()); i++) {
+            translations.put(targets.get(i).getId(), results.get(i));
         }
-        return translationService.translateContent(
-            ContentType.GUILD_COMMENT, comment.getId(),
-            comment.getContent(), targetLocale);
+        return translations;
     }
 
     private Guild findActiveGuild(Long guildId) {
@@ -11,6 +11,7 @@ import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildMember;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildJoinType;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildMemberRole;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildMemberStatus;
+import io.pinkspider.leveluptogethermvp.guildservice.event.GuildHeadquartersChangedEvent;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildMemberRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
 import io.pinkspider.global.event.GuildCreatedEvent;
@@ -119,6 +120,9 @@ public class GuildService {
 
         // 길드 창설 피드 프로젝션 이벤트 발행
         eventPublisher.publishEvent(new GuildCreatedEvent(userId, savedGuild.getId(), savedGuild.getName()));
+        if (savedGuild.getBaseLatitude() != null && savedGuild.getBaseLongitude() != null) {
+            eventPublisher.publishEvent(new GuildHeadquartersChangedEvent(savedGuild.getId()));
+        }
 
         log.info("길드 생성 완료: id={}, name={}, master={}", savedGuild.getId(), savedGuild.getName(), userId);
 
@@ -166,6 +170,9 @@ public class GuildService {
             guild.setBaseLongitude(request.getBaseLongitude());
         }
 
+        // 거점 인덱스는 이름/이미지/위치를 함께 보관하므로 수정 시 갱신
+        eventPublisher.publishEvent(new GuildHeadquartersChangedEvent(guildId));
+
         log.info("길드 수정 완료: id={}", guildId);
         int memberCount = (int) guildMemberRepository.countActiveMembers(guildId);
         return guildHelper.buildGuildResponseWithCategory(guild, memberCount);
@@ -194,6 +201,7 @@ public class GuildService {
         // 새 이미지 저장
         String newImageUrl = guildImageStorageService.store(imageFile, guildId);
         guild.setImageUrl(newImageUrl);
+        eventPublisher.publishEvent(new GuildHeadquartersChangedEvent(guildId));
 
         log.info("길드 이미지 업로드: guildId={}, imageUrl={}", guildId, newImageUrl);
 
@@ -235,6 +243,7 @@ public class GuildService {
 
         // 길드 비활성화
         guild.deactivate();
+        eventPublisher.publishEvent(new GuildHeadquartersChangedEvent(guildId));
 
         log.info("길드 해체: guildId={}, masterId={}, guildName={}", guildId, userId, guild.getName());
     }
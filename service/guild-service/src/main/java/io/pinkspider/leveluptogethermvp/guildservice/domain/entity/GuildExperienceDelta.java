@@ -0,0 +1,61 @@
+package io.pinkspider.leveluptogethermvp.guildservice.domain.entity;
+
+import io.pinkspider.global.domain.auditentity.CreatedAtEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 길드 경험치 원장 (guild.exp-ledger.enabled)
+ *
+ * 길드 행을 잠그지 않고 적재한 경험치 증감분. GuildExperienceAggregator가 길드별로 모아
+ * guild.total_exp 에 반영하면서 삭제한다. 길드 행 잠금과 엮이지 않도록 guild_id 는 FK 없이 둔다.
+ */
+@Entity
+@Getter
+@SuperBuilder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "guild_experience_delta",
+    indexes = {
+        @Index(name = "idx_guild_exp_delta_guild", columnList = "guild_id")
+    })
+@Comment("길드 경험치 미반영 증감분")
+public class GuildExperienceDelta extends CreatedAtEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    @Comment("ID")
+    private Long id;
+
+    @NotNull
+    @Column(name = "guild_id", nullable = false)
+    @Comment("길드 ID")
+    private Long guildId;
+
+    @NotNull
+    @Column(name = "history_id", nullable = false)
+    @Comment("길드 경험치 히스토리 ID (반영 시 레벨 기록)")
+    private Long historyId;
+
+    @Column(name = "contributor_id")
+    @Comment("기여자 ID")
+    private String contributorId;
+
+    @NotNull
+    @Column(name = "exp_amount", nullable = false)
+    @Comment("경험치 증감 (차감은 음수)")
+    private Integer expAmount;
+}
@@ -0,0 +1,8 @@
+package io.pinkspider.leveluptogethermvp.guildservice.event;
+
+/**
+ * 길드 거점 인덱스에 반영할 변경 (거점 위치, 이름/이미지, 활성 상태, 레벨 다운)
+ * 레벨업은 GuildLevelUpEvent로 반영한다.
+ */
+public record GuildHeadquartersChangedEvent(Long guildId) {
+}
@@ -0,0 +1,46 @@
+package io.pinkspider.leveluptogethermvp.guildservice.event.listener;
+
+import static io.pinkspider.global.config.AsyncConfig.EVENT_EXECUTOR;
+
+import io.pinkspider.global.event.GuildLevelUpEvent;
+import io.pinkspider.leveluptogethermvp.guildservice.application.GuildHeadquartersIndex;
+import io.pinkspider.leveluptogethermvp.guildservice.event.GuildHeadquartersChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 길드 거점/레벨 변경 커밋 후 거점 인덱스 갱신
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class GuildHeadquartersIndexEventListener {
+
+    private final GuildHeadquartersIndex guildHeadquartersIndex;
+
+    @Async(EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleGuildLevelUp(GuildLevelUpEvent event) {
+        refresh(event.guildId());
+    }
+
+    @Async(EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleHeadquartersChanged(GuildHeadquartersChangedEvent event) {
+        refresh(event.guildId());
+    }
+
+    private void refresh(Long guildId) {
+        try {
+            guildHeadquartersIndex.refresh(guildId);
+        } catch (Exception e) {
+            // 반영 실패 시 인덱스를 버려 다음 조회에서 전체 재생성
+            log.error("길드 거점 인덱스 갱신 실패: guildId={}, error={}", guildId, e.getMessage(), e);
+            guildHeadquartersIndex.evict();
+        }
+    }
+}
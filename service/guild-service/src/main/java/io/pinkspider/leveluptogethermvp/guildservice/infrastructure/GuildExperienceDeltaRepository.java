@@ -0,0 +1,53 @@
+package io.pinkspider.leveluptogethermvp.guildservice.infrastructure;
+
+import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildExperienceDelta;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GuildExperienceDeltaRepository extends JpaRepository<GuildExperienceDelta, Long> {
+
+    /**
+     * 길드의 미반영 경험치 합계 (조회 시 guild.total_exp 에 더해 보여준다)
+     */
+    @Query("""
+        SELECT COALESCE(SUM(d.expAmount), 0)
+        FROM GuildExperienceDelta d
+        WHERE d.guildId = :guildId
+        """)
+    long sumExpAmountByGuildId(@Param("guildId") Long guildId);
+
+    /**
+     * 반영 대상 길드: 증감분이 threshold 건 이상 쌓였거나 가장 오래된 증감분이 cutoff 이전인 길드
+     */
+    @Query("""
+        SELECT d.guildId
+        FROM GuildExperienceDelta d
+        GROUP BY d.guildId
+        HAVING COUNT(d) >= :threshold OR MIN(d.createdAt) < :cutoff
+        ORDER BY MIN(d.createdAt)
+        """)
+    List<Long> findGuildIdsToFold(
+        @Param("threshold") long threshold,
+        @Param("cutoff") LocalDateTime cutoff,
+        Pageable pageable);
+
+    /**
+     * 길드의 증감분을 삭제하면서 가져온다 (history_id, contributor_id, exp_amount)
+     * 합계 조회 후 삭제 사이에 적재된 증감분을 놓치지 않도록 한 문장으로 처리한다.
+     */
+    @Query(value = """
+        WITH claimed AS (
+            DELETE FROM guild_experience_delta
+            WHERE guild_id = :guildId
+            RETURNING history_id, contributor_id, exp_amount
+        )
+        SELECT history_id, contributor_id, exp_amount FROM claimed ORDER BY history_id
+        """, nativeQuery = true)
+    List<Object[]> claimByGuildId(@Param("guildId") Long guildId);
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -64,4 +65,18 @@ public interface GuildExperienceHistoryRepository extends JpaRepository<GuildExp
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate,
         @Param("myExp") Long myExp);
+
+    /**
+     * 원장 반영 시 적재해 둔 히스토리의 레벨 기록 (guild.exp-ledger.enabled)
+     */
+    @Modifying
+    @Query("""
+        UPDATE GuildExperienceHistory geh
+        SET geh.levelBefore = :levelBefore, geh.levelAfter = :levelAfter
+        WHERE geh.id IN :ids
+        """)
+    int updateLevels(
+        @Param("ids") List<Long> ids,
+        @Param("levelBefore") Integer levelBefore,
+        @Param("levelAfter") Integer levelAfter);
 }
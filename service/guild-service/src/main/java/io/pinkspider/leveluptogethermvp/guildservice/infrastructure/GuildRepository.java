@@ -2,12 +2,14 @@ package io.pinkspider.leveluptogethermvp.guildservice.infrastructure;
 
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildVisibility;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +19,13 @@ public interface GuildRepository extends JpaRepository<Guild, Long> {
 
     Optional<Guild> findByIdAndIsActiveTrue(Long id);
 
+    /**
+     * 경험치 원장 반영용 활성 길드 조회 (행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Guild g WHERE g.id = :id AND g.isActive = true")
+    Optional<Guild> findActiveByIdForUpdate(@Param("id") Long id);
+
     @Query("SELECT g FROM Guild g WHERE g.visibility = :visibility AND g.isActive = true")
     Page<Guild> findByVisibilityAndIsActiveTrue(@Param("visibility") GuildVisibility visibility, Pageable pageable);
 
@@ -53,6 +62,24 @@ public interface GuildRepository extends JpaRepository<Guild, Long> {
            "AND g.baseLatitude IS NOT NULL AND g.baseLongitude IS NOT NULL")
     List<Guild> findAllWithHeadquarters();
 
+    /**
+     * 거점이 설정된 활성 길드 중 가장 높은 레벨 (거점 설정 검증의 최대 보호 반경 계산용, 없으면 null)
+     */
+    @Query("SELECT MAX(g.currentLevel) FROM Guild g WHERE g.isActive = true " +
+           "AND g.baseLatitude IS NOT NULL AND g.baseLongitude IS NOT NULL")
+    Integer findMaxHeadquartersLevel();
+
+    /**
+     * 위경도 영역 안에 거점이 있는 활성 길드 조회 (거점 설정 검증용)
+     */
+    @Query("SELECT g FROM Guild g WHERE g.isActive = true " +
+           "AND g.baseLatitude BETWEEN :minLat AND :maxLat " +
+           "AND g.baseLongitude BETWEEN :minLng AND :maxLng")
+    List<Guild> findHeadquartersWithin(@Param("minLat") double minLat,
+                                       @Param("minLng") double minLng,
+                                       @Param("maxLat") double maxLat,
+                                       @Param("maxLng") double maxLng);
+
     /**
      * 특정 길드 제외, 거점이 설정된 모든 활성 길드 조회
      */
@@ -1089,6 +1089,82 @@ class GuildControllerTest {
         resultActions.andExpect(MockMvcResultMatchers.status().isOk());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/guilds/headquarters/viewport : 지도 영역 내 길드 거점 목록")
+    void getHeadquartersInViewportTest() throws Exception {
+        // given
+        GuildHeadquartersInfoResponse response = GuildHeadquartersInfoResponse.builder()
+            .guilds(List.of(GuildHeadquartersInfoResponse.GuildHeadquartersInfo.builder()
+                .guildId(1L)
+                .guildName("테스트 길드")
+                .guildLevel(5)
+                .categoryId(1L)
+                .categoryName("자기계발")
+                .categoryIcon("📚")
+                .latitude(37.5665)
+                .longitude(126.978)
+                .protectionRadiusMeters(100)
+                .build()))
+            .config(GuildHeadquartersInfoResponse.HeadquartersConfig.builder()
+                .baseRadiusMeters(100)
+                .radiusIncreasePerLevelTier(20)
+                .levelTierSize(10)
+                .build())
+            .build();
+
+        when(guildHeadquartersService.getHeadquartersInfoWithin(37.56, 126.97, 37.57, 126.99)).thenReturn(response);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+            RestDocumentationRequestBuilders.get("/api/v1/guilds/headquarters/viewport")
+                .param("min_lat", "37.56")
+                .param("min_lng", "126.97")
+                .param("max_lat", "37.57")
+                .param("max_lng", "126.99")
+                .contentType(MediaType.APPLICATION_JSON)
+        ).andDo(
+            MockMvcRestDocumentationWrapper.document("길드-15-1. 지도 영역 내 길드 거점 목록",
+                preprocessRequest(prettyPrint()),
+                preprocessResponse(prettyPrint()),
+                resource(
+                    ResourceSnippetParameters.builder()
+                        .tag("Guild")
+                        .description("지도 화면 영역(남서/북동 좌표) 안의 길드 거점 정보 조회")
+                        .queryParameters(
+                            parameterWithName("min_lat").type(SimpleType.NUMBER).description("남쪽 위도"),
+                            parameterWithName("min_lng").type(SimpleType.NUMBER).description("서쪽 경도"),
+                            parameterWithName("max_lat").type(SimpleType.NUMBER).description("북쪽 위도"),
+                            parameterWithName("max_lng").type(SimpleType.NUMBER).description("동쪽 경도")
+                        )
+                        .responseFields(
+                            fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                            fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                            fieldWithPath("value").type(JsonFieldType.OBJECT).description("거점 정보"),
+                            fieldWithPath("value.guilds[]").type(JsonFieldType.ARRAY).description("영역 안 거점을 보유한 길드 목록"),
+                            fieldWithPath("value.guilds[].guild_id").type(JsonFieldType.NUMBER).description("길드 ID"),
+                            fieldWithPath("value.guilds[].guild_name").type(JsonFieldType.STRING).description("길드 이름"),
+                            fieldWithPath("value.guilds[].guild_image_url").type(JsonFieldType.STRING).description("길드 이미지 URL").optional(),
+                            fieldWithPath("value.guilds[].guild_level").type(JsonFieldType.NUMBER).description("길드 레벨"),
+                            fieldWithPath("value.guilds[].category_id").type(JsonFieldType.NUMBER).description("카테고리 ID"),
+                            fieldWithPath("value.guilds[].category_name").type(JsonFieldType.STRING).description("카테고리 이름"),
+                            fieldWithPath("value.guilds[].category_icon").type(JsonFieldType.STRING).description("카테고리 아이콘"),
+                            fieldWithPath("value.guilds[].latitude").type(JsonFieldType.NUMBER).description("거점 위도"),
+                            fieldWithPath("value.guilds[].longitude").type(JsonFieldType.NUMBER).description("거점 경도"),
+                            fieldWithPath("value.guilds[].protection_radius_meters").type(JsonFieldType.NUMBER).description("보호 반경(미터)"),
+                            fieldWithPath("value.config").type(JsonFieldType.OBJECT).description("거점 설정"),
+                            fieldWithPath("value.config.base_radius_meters").type(JsonFieldType.NUMBER).description("기본 반경(미터)"),
+                            fieldWithPath("value.config.radius_increase_per_level_tier").type(JsonFieldType.NUMBER).description("레벨 티어당 반경 증가량"),
+                            fieldWithPath("value.config.level_tier_size").type(JsonFieldType.NUMBER).description("레벨 티어 크기")
+                        )
+                        .build()
+                )
+            )
+        );
+
+        // then
+        resultActions.andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
     @Test
     @DisplayName("POST /api/v1/guilds/{guildId}/headquarters/validate : 길드 거점 검증")
     void validateHeadquartersTest() throws Exception {
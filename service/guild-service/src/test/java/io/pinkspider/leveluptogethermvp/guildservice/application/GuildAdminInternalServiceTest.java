@@ -22,6 +22,7 @@ import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildMemberSta
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildVisibility;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildMemberRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
+import io.pinkspider.leveluptogethermvp.guildservice.event.GuildHeadquartersChangedEvent;
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
 import io.pinkspider.leveluptogethermvp.metaservice.domain.dto.MissionCategoryResponse;
 import java.util.Collections;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -55,6 +57,9 @@ class GuildAdminInternalServiceTest {
     @Mock
     private UserQueryFacade userQueryFacadeService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private GuildAdminInternalService service;
 
@@ -236,6 +241,7 @@ class GuildAdminInternalServiceTest {
             // then
             assertThat(result).isNotNull();
             verify(guildRepository).save(any(Guild.class));
+            verify(eventPublisher).publishEvent(new GuildHeadquartersChangedEvent(1L));
         }
     }
 
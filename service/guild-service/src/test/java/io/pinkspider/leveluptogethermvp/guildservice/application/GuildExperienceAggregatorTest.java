@@ -0,0 +1,97 @@
+package io.pinkspider.leveluptogethermvp.guildservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildExperienceDeltaRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GuildExperienceAggregator 단위 테스트")
+class GuildExperienceAggregatorTest {
+
+    @Mock
+    private GuildExperienceService guildExperienceService;
+
+    @Mock
+    private GuildExperienceDeltaRepository deltaRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private GuildExperienceAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new GuildExperienceAggregator(
+            guildExperienceService, deltaRepository, null, 50, Duration.ofSeconds(5), 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("반영 대상 길드를 threshold / max-delay 기준으로 골라 batch-size 만큼 반영한다")
+    void foldDue_foldsDueGuilds() {
+        // given
+        when(deltaRepository.findGuildIdsToFold(eq(50L), any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L));
+        when(guildExperienceService.foldLedger(1L)).thenReturn(3);
+        when(guildExperienceService.foldLedger(2L)).thenReturn(1);
+
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        int folded = aggregator.foldDue();
+
+        // then
+        assertThat(folded).isEqualTo(4);
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(deltaRepository).findGuildIdsToFold(eq(50L), cutoff.capture(), page.capture());
+        assertThat(cutoff.getValue()).isAfterOrEqualTo(before.minusSeconds(5));
+        assertThat(page.getValue().getPageSize()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("한 길드의 반영 실패는 다음 길드 반영을 막지 않고 실패 지표에 남는다")
+    void foldDue_continuesAfterFailure() {
+        // given
+        when(deltaRepository.findGuildIdsToFold(eq(50L), any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L));
+        when(guildExperienceService.foldLedger(1L)).thenThrow(new IllegalStateException("lock timeout"));
+        when(guildExperienceService.foldLedger(2L)).thenReturn(2);
+
+        // when
+        int folded = aggregator.foldDue();
+
+        // then
+        assertThat(folded).isEqualTo(2);
+        assertThat(meterRegistry.counter("guild.exp.ledger.fold.failures").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("반영 대상이 없으면 아무것도 하지 않는다")
+    void foldDue_nothingDue() {
+        // given
+        when(deltaRepository.findGuildIdsToFold(eq(50L), any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of());
+
+        // when
+        int folded = aggregator.foldDue();
+
+        // then
+        assertThat(folded).isZero();
+        verify(guildExperienceService, never()).foldLedger(any());
+    }
+}
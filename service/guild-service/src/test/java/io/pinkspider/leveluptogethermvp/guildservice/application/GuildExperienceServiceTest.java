@@ -5,15 +5,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.pinkspider.global.enums.GuildExpSourceType;
+import io.pinkspider.global.event.GuildLevelUpEvent;
 import io.pinkspider.global.test.TestReflectionUtils;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildExperienceResponse;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
+import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildExperienceDelta;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildExperienceHistory;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildVisibility;
+import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildExperienceDeltaRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildExperienceHistoryRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildMemberRepository;
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
@@ -27,6 +31,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,6 +40,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class GuildExperienceServiceTest {
@@ -52,6 +58,8 @@ class GuildExperienceServiceTest {
 
     @Mock private ApplicationEventPublisher eventPublisher;
 
+    @Mock private GuildExperienceDeltaRepository deltaRepository;
+
     @InjectMocks private GuildExperienceService guildExperienceService;
 
     private Guild testGuild;
@@ -334,6 +342,115 @@ class GuildExperienceServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("경험치 원장 모드 테스트")
+    class LedgerTest {
+
+        @BeforeEach
+        void enableLedger() {
+            ReflectionTestUtils.setField(guildExperienceService, "ledgerEnabled", true);
+        }
+
+        @Test
+        @DisplayName("적립은 길드를 갱신하지 않고 증감분만 쌓으며, 응답은 미반영분을 더해 계산한다")
+        void addExperience_appendsDelta() {
+            when(guildRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(testGuild));
+            when(historyRepository.save(any(GuildExperienceHistory.class)))
+                    .thenAnswer(
+                            inv -> {
+                                GuildExperienceHistory history = inv.getArgument(0);
+                                setId(history, 10L);
+                                return history;
+                            });
+            when(deltaRepository.sumExpAmountByGuildId(1L)).thenReturn(6020L);
+            when(guildLevelConfigCacheService.getAllLevelConfigs())
+                    .thenReturn(List.of(level1Config, level2Config));
+            when(guildLevelConfigCacheService.getLevelConfigByLevel(2)).thenReturn(level2Config);
+
+            GuildExperienceResponse response =
+                    guildExperienceService.addExperience(
+                            1L, 6020, GuildExpSourceType.GUILD_MISSION_EXECUTION, 1L, testUserId, "미션 완료 보상");
+
+            assertThat(response.getCurrentLevel()).isEqualTo(2);
+            assertThat(response.getCurrentExp()).isEqualTo(0);
+            assertThat(response.getTotalExp()).isEqualTo(6020);
+            assertThat(response.getLevelTitle()).isEqualTo("성장 길드");
+            assertThat(testGuild.getTotalExp()).isEqualTo(0);
+            assertThat(testGuild.getCurrentLevel()).isEqualTo(1);
+
+            ArgumentCaptor<GuildExperienceDelta> delta = ArgumentCaptor.forClass(GuildExperienceDelta.class);
+            verify(deltaRepository).save(delta.capture());
+            assertThat(delta.getValue().getGuildId()).isEqualTo(1L);
+            assertThat(delta.getValue().getHistoryId()).isEqualTo(10L);
+            assertThat(delta.getValue().getExpAmount()).isEqualTo(6020);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("차감은 음수 증감분으로 쌓는다")
+        void subtractExperience_appendsNegativeDelta() {
+            testGuild.addExperience(500);
+            when(guildRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(testGuild));
+            when(historyRepository.save(any(GuildExperienceHistory.class)))
+                    .thenAnswer(inv -> inv.getArgument(0));
+            when(deltaRepository.sumExpAmountByGuildId(1L)).thenReturn(-200L);
+            when(guildLevelConfigCacheService.getAllLevelConfigs())
+                    .thenReturn(List.of(level1Config, level2Config));
+            when(guildLevelConfigCacheService.getLevelConfigByLevel(1)).thenReturn(level1Config);
+
+            GuildExperienceResponse response =
+                    guildExperienceService.subtractExperience(
+                            1L, 200, GuildExpSourceType.GUILD_MISSION_EXECUTION, 1L, testUserId, "보상 취소");
+
+            assertThat(response.getTotalExp()).isEqualTo(300);
+            assertThat(testGuild.getTotalExp()).isEqualTo(500);
+            ArgumentCaptor<GuildExperienceDelta> delta = ArgumentCaptor.forClass(GuildExperienceDelta.class);
+            verify(deltaRepository).save(delta.capture());
+            assertThat(delta.getValue().getExpAmount()).isEqualTo(-200);
+        }
+
+        @Test
+        @DisplayName("반영 시 증감분 합계로 레벨업하고 히스토리 레벨을 기록한 뒤 레벨업 이벤트를 발행한다")
+        void foldLedger_levelsUp() {
+            when(guildRepository.findActiveByIdForUpdate(1L)).thenReturn(Optional.of(testGuild));
+            when(deltaRepository.claimByGuildId(1L))
+                    .thenReturn(
+                            List.<Object[]>of(
+                                    new Object[] {10L, "user-a", 6000},
+                                    new Object[] {11L, "user-b", 20}));
+            when(guildLevelConfigCacheService.getAllLevelConfigs())
+                    .thenReturn(List.of(level1Config, level2Config));
+            when(guildLevelConfigCacheService.getLevelConfigByLevel(2)).thenReturn(level2Config);
+
+            int folded = guildExperienceService.foldLedger(1L);
+
+            assertThat(folded).isEqualTo(2);
+            assertThat(testGuild.getTotalExp()).isEqualTo(6020);
+            assertThat(testGuild.getCurrentLevel()).isEqualTo(2);
+            assertThat(testGuild.getMaxMembers()).isEqualTo(30);
+            verify(historyRepository).updateLevels(List.of(10L, 11L), 1, 2);
+
+            ArgumentCaptor<GuildLevelUpEvent> event = ArgumentCaptor.forClass(GuildLevelUpEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().guildId()).isEqualTo(1L);
+            assertThat(event.getValue().newGuildLevel()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("비활성 길드의 증감분은 반영하지 않고 버린다")
+        void foldLedger_dropsInactiveGuild() {
+            when(guildRepository.findActiveByIdForUpdate(1L)).thenReturn(Optional.empty());
+            when(deltaRepository.claimByGuildId(1L))
+                    .thenReturn(List.<Object[]>of(new Object[] {10L, "user-a", 100}));
+
+            int folded = guildExperienceService.foldLedger(1L);
+
+            assertThat(folded).isEqualTo(1);
+            verify(historyRepository, never()).updateLevels(any(), any(), any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
     @Nested
     @DisplayName("레벨 설정 테스트")
     class LevelConfigTest {
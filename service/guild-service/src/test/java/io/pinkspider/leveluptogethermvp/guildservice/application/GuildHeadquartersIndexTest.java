@@ -0,0 +1,175 @@
+package io.pinkspider.leveluptogethermvp.guildservice.application;
+
+import static io.pinkspider.global.test.TestReflectionUtils.setId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.global.test.TestReflectionUtils;
+import io.pinkspider.leveluptogethermvp.guildservice.application.GuildHeadquartersGrid.Entry;
+import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
+import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildVisibility;
+import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GuildHeadquartersIndex 단위 테스트")
+class GuildHeadquartersIndexTest {
+
+    @Mock
+    private GuildRepository guildRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private GuildHeadquartersIndex guildHeadquartersIndex;
+
+    @BeforeEach
+    void setUp() {
+        guildHeadquartersIndex = new GuildHeadquartersIndex(guildRepository, stringRedisTemplate, Duration.ofMinutes(10));
+    }
+
+    private Guild guild(Long id, double latitude, double longitude, int level) {
+        Guild guild = Guild.builder()
+            .name("길드 " + id)
+            .visibility(GuildVisibility.PUBLIC)
+            .masterId("user-" + id)
+            .maxMembers(50)
+            .categoryId(1L)
+            .baseLatitude(latitude)
+            .baseLongitude(longitude)
+            .build();
+        setId(guild, id);
+        TestReflectionUtils.setField(guild, "currentLevel", level);
+        return guild;
+    }
+
+    private Message message(String body) {
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+
+    @Nested
+    @DisplayName("격자 조회 테스트")
+    class GridTest {
+
+        @Test
+        @DisplayName("반경 후보는 주변 셀의 거점만 포함한다")
+        void candidates_onlyNearbyCells() {
+            // given - 서울시청, 약 300m 북쪽, 부산
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(
+                guild(1L, 37.5665, 126.978, 1),
+                guild(2L, 37.5692, 126.978, 1),
+                guild(3L, 35.1796, 129.0756, 1)));
+
+            // when
+            List<Entry> candidates = guildHeadquartersIndex.candidates(37.5665, 126.978, 200);
+
+            // then
+            assertThat(candidates).extracting(Entry::guildId).contains(1L).doesNotContain(3L);
+        }
+
+        @Test
+        @DisplayName("셀 경계를 넘는 반경도 이웃 셀의 거점을 후보로 포함한다")
+        void candidates_acrossCellBoundary() {
+            // given - 위도 셀 경계(37.57) 양쪽 약 22m
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(
+                guild(1L, 37.5701, 126.978, 1),
+                guild(2L, 35.1796, 129.0756, 1),
+                guild(3L, 33.4996, 126.5312, 1)));
+
+            // when
+            List<Entry> candidates = guildHeadquartersIndex.candidates(37.5699, 126.978, 100);
+
+            // then
+            assertThat(candidates).extracting(Entry::guildId).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("영역 조회는 영역 안의 거점만 반환하고, 전체 조회는 길드 ID 순이다")
+        void within_and_all() {
+            // given
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(
+                guild(3L, 35.1796, 129.0756, 1),
+                guild(1L, 37.5665, 126.978, 1),
+                guild(2L, 37.5692, 126.978, 20)));
+
+            // when & then
+            assertThat(guildHeadquartersIndex.within(37.56, 126.97, 37.567, 126.99))
+                .extracting(Entry::guildId).containsExactly(1L);
+            assertThat(guildHeadquartersIndex.within(30.0, 120.0, 40.0, 130.0))
+                .extracting(Entry::guildId).containsExactlyInAnyOrder(1L, 2L, 3L);
+            assertThat(guildHeadquartersIndex.all()).extracting(Entry::guildId).containsExactly(1L, 2L, 3L);
+            assertThat(guildHeadquartersIndex.maxLevel()).isEqualTo(20);
+            verify(guildRepository, times(1)).findAllWithHeadquarters();
+        }
+    }
+
+    @Nested
+    @DisplayName("갱신 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("거점 이동을 반영하고 다른 인스턴스에 길드 ID를 발행한다")
+        void refresh_movesEntryAndPublishes() {
+            // given
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(guild(1L, 37.5665, 126.978, 1)));
+            guildHeadquartersIndex.all();
+            when(guildRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(guild(1L, 35.1796, 129.0756, 5)));
+
+            // when
+            guildHeadquartersIndex.refresh(1L);
+
+            // then
+            assertThat(guildHeadquartersIndex.candidates(37.5665, 126.978, 200)).isEmpty();
+            assertThat(guildHeadquartersIndex.candidates(35.1796, 129.0756, 200))
+                .extracting(Entry::level).containsExactly(5);
+            verify(stringRedisTemplate).convertAndSend(GuildHeadquartersIndex.CHANNEL, "1");
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 메시지를 받으면 비활성 길드를 인덱스에서 제거한다")
+        void onMessage_removesInactiveGuild() {
+            // given
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(guild(1L, 37.5665, 126.978, 1)));
+            guildHeadquartersIndex.all();
+            when(guildRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.empty());
+
+            // when
+            guildHeadquartersIndex.onMessage(message("1"), null);
+
+            // then
+            assertThat(guildHeadquartersIndex.all()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("전체 무효화 메시지를 받으면 다음 조회에서 인덱스를 다시 만든다")
+        void onMessage_allRebuilds() {
+            // given
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of());
+            guildHeadquartersIndex.all();
+
+            // when
+            guildHeadquartersIndex.onMessage(message(GuildHeadquartersIndex.ALL), null);
+            guildHeadquartersIndex.all();
+
+            // then
+            verify(guildRepository, times(2)).findAllWithHeadquarters();
+        }
+    }
+}
@@ -3,13 +3,18 @@ package io.pinkspider.leveluptogethermvp.guildservice.application;
 import static io.pinkspider.global.test.TestReflectionUtils.setId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.pinkspider.global.test.TestReflectionUtils;
 
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersInfoResponse;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersValidationResponse;
+import io.pinkspider.leveluptogethermvp.guildservice.domain.dto.GuildHeadquartersValidationResponse.NearbyGuildInfo;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.Guild;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.entity.GuildHeadquartersConfig;
 import io.pinkspider.leveluptogethermvp.guildservice.domain.enums.GuildVisibility;
@@ -17,6 +22,7 @@ import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildHeadqua
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
 import io.pinkspider.leveluptogethermvp.metaservice.application.MissionCategoryService;
 import io.pinkspider.leveluptogethermvp.metaservice.domain.dto.MissionCategoryResponse;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,9 +30,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class GuildHeadquartersServiceTest {
@@ -40,7 +47,9 @@ class GuildHeadquartersServiceTest {
     @Mock
     private MissionCategoryService missionCategoryService;
 
-    @InjectMocks
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
     private GuildHeadquartersService guildHeadquartersService;
 
     private GuildHeadquartersConfig testConfig;
@@ -49,6 +58,11 @@ class GuildHeadquartersServiceTest {
 
     @BeforeEach
     void setUp() {
+        GuildHeadquartersIndex guildHeadquartersIndex =
+            new GuildHeadquartersIndex(guildRepository, stringRedisTemplate, Duration.ofMinutes(10));
+        guildHeadquartersService = new GuildHeadquartersService(
+            configRepository, guildRepository, missionCategoryService, guildHeadquartersIndex);
+
         // 기본 설정: 100m 기본, 레벨 10당 20m 증가
         testConfig = GuildHeadquartersConfig.builder()
             .baseRadiusMeters(100)
@@ -153,7 +167,7 @@ class GuildHeadquartersServiceTest {
         void validateLocation_validWhenFarEnough() {
             // given
             when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
-            when(guildRepository.findAllWithHeadquartersExcluding(3L)).thenReturn(List.of(testGuild1));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(testGuild1));
 
             // 서울시청에서 약 200m 떨어진 위치 (남쪽)
             double latitude = 37.5647;
@@ -174,7 +188,7 @@ class GuildHeadquartersServiceTest {
         void validateLocation_invalidWhenTooClose() {
             // given
             when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
-            when(guildRepository.findAllWithHeadquartersExcluding(3L)).thenReturn(List.of(testGuild1));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(testGuild1));
 
             // 서울시청에서 약 50m 떨어진 위치 (레벨1 보호반경 100m 내)
             double latitude = 37.5669;
@@ -196,7 +210,7 @@ class GuildHeadquartersServiceTest {
         void validateLocation_respectsHigherLevelRadius() {
             // given
             when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
-            when(guildRepository.findAllWithHeadquartersExcluding(3L)).thenReturn(List.of(testGuild2));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(testGuild2));
 
             // 레벨 20 길드: 보호 반경 140m (100 + 2*20)
             // testGuild2에서 약 130m 떨어진 위치 (보호 반경 내)
@@ -231,12 +245,47 @@ class GuildHeadquartersServiceTest {
             assertThat(response.isValid()).isFalse();
         }
 
+        @Test
+        @DisplayName("자신의 길드 거점은 검증 대상에서 제외한다")
+        void validateLocation_excludesOwnGuild() {
+            // given
+            when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(testGuild1));
+
+            // when - 길드 1이 자신의 거점 바로 옆으로 옮기는 경우
+            GuildHeadquartersValidationResponse response =
+                guildHeadquartersService.validateHeadquartersLocation(1L, 37.5669, 126.978);
+
+            // then
+            assertThat(response.isValid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("여러 보호 구역이 겹치면 가까운 길드부터 반환한다")
+        void validateLocation_sortsByDistance() {
+            // given
+            when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(testGuild1, testGuild2));
+
+            // 길드 2에 더 가까운 위치 (길드 1과 약 33m, 길드 2와 약 11m)
+            double latitude = 37.5668;
+            double longitude = 126.978;
+
+            // when
+            GuildHeadquartersValidationResponse response =
+                guildHeadquartersService.validateHeadquartersLocation(3L, latitude, longitude);
+
+            // then
+            assertThat(response.getNearbyGuilds()).extracting(NearbyGuildInfo::getGuildId)
+                .containsExactly(2L, 1L);
+        }
+
         @Test
         @DisplayName("설정이 없으면 기본값으로 검증한다")
         void validateLocation_usesDefaultConfigWhenNotFound() {
             // given
             when(configRepository.findActiveConfig()).thenReturn(Optional.empty());
-            when(guildRepository.findAllWithHeadquartersExcluding(3L)).thenReturn(List.of(testGuild1));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(testGuild1));
 
             // 서울시청에서 약 200m 떨어진 위치
             double latitude = 37.5647;
@@ -288,6 +337,48 @@ class GuildHeadquartersServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("지도 영역 거점 조회 테스트")
+    class GetHeadquartersInfoWithinTest {
+
+        @Test
+        @DisplayName("영역 안의 거점만 조회한다")
+        void getHeadquartersInfoWithin_filtersByBounds() {
+            // given
+            Guild busanGuild = Guild.builder()
+                .name("부산 길드")
+                .visibility(GuildVisibility.PUBLIC)
+                .masterId("user-003")
+                .maxMembers(50)
+                .categoryId(1L)
+                .baseLatitude(35.1796)
+                .baseLongitude(129.0756)
+                .build();
+            setId(busanGuild, 3L);
+            TestReflectionUtils.setField(busanGuild, "currentLevel", 1);
+
+            when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of(testGuild1, testGuild2, busanGuild));
+            when(missionCategoryService.getCategory(any())).thenReturn(null);
+
+            // when - 서울시청 주변 화면
+            GuildHeadquartersInfoResponse response =
+                guildHeadquartersService.getHeadquartersInfoWithin(37.56, 126.97, 37.57, 126.99);
+
+            // then
+            assertThat(response.getGuilds()).extracting(GuildHeadquartersInfoResponse.GuildHeadquartersInfo::getGuildId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("남서 좌표가 북동 좌표보다 크면 예외가 발생한다")
+        void getHeadquartersInfoWithin_invalidBounds() {
+            assertThatThrownBy(() ->
+                guildHeadquartersService.getHeadquartersInfoWithin(37.57, 126.97, 37.56, 126.99))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("거점 검증 예외 발생 테스트")
     class ValidateAndThrowTest {
@@ -297,7 +388,9 @@ class GuildHeadquartersServiceTest {
         void validateAndThrowIfInvalid_throwsException() {
             // given
             when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
-            when(guildRepository.findAllWithHeadquartersExcluding(3L)).thenReturn(List.of(testGuild1));
+            when(guildRepository.findMaxHeadquartersLevel()).thenReturn(1);
+            when(guildRepository.findHeadquartersWithin(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(testGuild1));
 
             // 서울시청에서 약 50m 떨어진 위치
             double latitude = 37.5669;
@@ -315,7 +408,9 @@ class GuildHeadquartersServiceTest {
         void validateAndThrowIfInvalid_noException() {
             // given
             when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
-            when(guildRepository.findAllWithHeadquartersExcluding(3L)).thenReturn(List.of(testGuild1));
+            when(guildRepository.findMaxHeadquartersLevel()).thenReturn(1);
+            when(guildRepository.findHeadquartersWithin(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(testGuild1));
 
             // 서울시청에서 약 200m 떨어진 위치
             double latitude = 37.5647;
@@ -324,5 +419,56 @@ class GuildHeadquartersServiceTest {
             // when & then (예외가 발생하지 않으면 성공)
             guildHeadquartersService.validateAndThrowIfInvalid(3L, latitude, longitude);
         }
+
+        @Test
+        @DisplayName("거점 인덱스에 아직 반영되지 않은 길드도 DB 기준으로 검증한다")
+        void validateAndThrowIfInvalid_usesDatabaseNotIndex() {
+            // given: 인덱스는 거점 없는 상태로 생성됨 (다른 노드의 갱신 메시지 유실)
+            when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
+            when(guildRepository.findAllWithHeadquarters()).thenReturn(List.of());
+            assertThat(guildHeadquartersService.validateHeadquartersLocation(3L, 37.5669, 126.978).isValid())
+                .isTrue();
+            when(guildRepository.findMaxHeadquartersLevel()).thenReturn(20);
+            when(guildRepository.findHeadquartersWithin(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .thenReturn(List.of(testGuild1, testGuild2));
+
+            // when & then
+            assertThatThrownBy(() ->
+                guildHeadquartersService.validateAndThrowIfInvalid(3L, 37.5669, 126.978))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("테스트 길드 2");
+        }
+
+        @Test
+        @DisplayName("조회 영역은 가장 높은 레벨의 보호 반경을 포함한다")
+        void validateAndThrowIfInvalid_searchesMaxLevelRadius() {
+            // given: 레벨 20 길드의 보호 반경 140m
+            when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
+            when(guildRepository.findMaxHeadquartersLevel()).thenReturn(20);
+
+            // when
+            guildHeadquartersService.validateAndThrowIfInvalid(3L, 37.5665, 126.978);
+
+            // then
+            ArgumentCaptor<Double> minLat = ArgumentCaptor.forClass(Double.class);
+            ArgumentCaptor<Double> maxLat = ArgumentCaptor.forClass(Double.class);
+            verify(guildRepository).findHeadquartersWithin(minLat.capture(), anyDouble(), maxLat.capture(), anyDouble());
+            double radiusMeters = (maxLat.getValue() - minLat.getValue()) / 2 * GuildHeadquartersGrid.METERS_PER_DEGREE;
+            assertThat(radiusMeters).isCloseTo(140.0, within(0.01));
+        }
+
+        @Test
+        @DisplayName("거점이 설정된 길드가 없으면 영역 조회 없이 통과한다")
+        void validateAndThrowIfInvalid_noHeadquarters() {
+            // given
+            when(configRepository.findActiveConfig()).thenReturn(Optional.of(testConfig));
+            when(guildRepository.findMaxHeadquartersLevel()).thenReturn(null);
+
+            // when
+            guildHeadquartersService.validateAndThrowIfInvalid(3L, 37.5665, 126.978);
+
+            // then
+            verify(guildRepository, never()).findHeadquartersWithin(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        }
     }
 }
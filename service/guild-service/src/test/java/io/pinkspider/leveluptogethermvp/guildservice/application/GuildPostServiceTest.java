@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +35,8 @@ import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildPostRep
 import io.pinkspider.leveluptogethermvp.guildservice.infrastructure.GuildRepository;
 import io.pinkspider.global.enums.ReportTargetType;
 import io.pinkspider.global.translation.TranslationService;
+import io.pinkspider.global.translation.dto.TranslationInfo;
+import io.pinkspider.global.translation.enums.ContentType;
 import io.pinkspider.leveluptogethermvp.supportservice.report.application.ReportService;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -679,6 +682,50 @@ class GuildPostServiceTest {
             // then
             assertThat(response).hasSize(1);
         }
+
+        @Test
+        @DisplayName("루트 댓글과 대댓글을 한 번의 일괄 번역 호출로 번역한다")
+        void getComments_translatesRootsAndRepliesInOneCall() {
+            // given
+            GuildPostComment comment = GuildPostComment.builder()
+                .post(testPost)
+                .authorId(memberId)
+                .authorNickname("멤버닉네임")
+                .content("테스트 댓글입니다")
+                .build();
+            setId(comment, 1L);
+            GuildPostComment reply = GuildPostComment.builder()
+                .post(testPost)
+                .authorId(memberId)
+                .authorNickname("멤버닉네임")
+                .content("테스트 대댓글입니다")
+                .parent(comment)
+                .build();
+            setId(reply, 2L);
+
+            when(guildRepository.findByIdAndIsActiveTrue(1L)).thenReturn(Optional.of(testGuild));
+            when(guildMemberRepository.findByGuildIdAndUserId(1L, memberId)).thenReturn(Optional.of(normalMember));
+            when(guildPostRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testPost));
+            when(guildPostCommentRepository.findAllByPostId(1L)).thenReturn(List.of(comment, reply));
+            when(guildPostCommentRepository.findRepliesByParentId(1L)).thenReturn(List.of(reply));
+            when(translationService.translateContents(anyList(), eq("en"))).thenReturn(List.of(
+                TranslationInfo.translated("comment", "ko", "en"),
+                TranslationInfo.translated("reply", "ko", "en")));
+
+            // when
+            List<GuildPostCommentResponse> response = guildPostService.getComments(1L, 1L, memberId, "en");
+
+            // then
+            verify(translationService, times(1)).translateContents(
+                argThat(targets -> targets.size() == 2
+                    && targets.get(0).contentId().equals(1L)
+                    && targets.get(1).contentId().equals(2L)
+                    && targets.get(0).contentType() == ContentType.GUILD_COMMENT),
+                eq("en"));
+            assertThat(response).hasSize(1);
+            assertThat(response.get(0).getTranslation().getContent()).isEqualTo("comment");
+            assertThat(response.get(0).getReplies().get(0).getTranslation().getContent()).isEqualTo("reply");
+        }
     }
 
     @Nested
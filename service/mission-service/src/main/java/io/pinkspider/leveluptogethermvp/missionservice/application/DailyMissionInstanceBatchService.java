@@ -0,0 +1,132 @@
+package io.pinkspider.leveluptogethermvp.missionservice.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pinkspider.leveluptogethermvp.missionservice.config.DailyMissionInstanceProperties;
+import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.MissionParticipantRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 고정 미션 일일 인스턴스 일괄 생성 (청크 + keyset + 선택적 병렬)
+ *
+ * <p>활성 고정 미션 참여자를 ID keyset 으로 chunk-size 만큼 읽고, 청크마다 INSERT ... SELECT 1회로 인스턴스를 만든다.
+ * 기존 인스턴스 확인은 INSERT 안의 NOT EXISTS 로 처리해 참여자별 존재 확인 쿼리를 없앴다.
+ * 청크는 {@link DailyMissionInstanceChunkExecutor} 가 건별 트랜잭션으로 커밋하므로 실패한 청크만 다음 실행에서 다시 생성된다.
+ *
+ * <p>parallelism 이 1보다 크면 (0, 최대 참여자 ID] 를 같은 폭의 ID 범위로 나눠 작업자별로 처리한다.
+ *
+ * <p>지표: mission.daily-instance.chunk (stage=select|insert), mission.daily-instance.generate
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyMissionInstanceBatchService {
+
+    private final MissionParticipantRepository participantRepository;
+    private final DailyMissionInstanceChunkExecutor chunkExecutor;
+    private final DailyMissionInstanceProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 일괄 생성 결과
+     *
+     * @param scanned      조회한 활성 참여자 수
+     * @param created      생성된 인스턴스 수
+     * @param failedChunks 실패한 청크 수 (다음 실행에서 재시도)
+     */
+    public record Result(int scanned, int created, int failedChunks) {
+
+        static final Result EMPTY = new Result(0, 0, 0);
+
+        Result plus(Result other) {
+            return new Result(scanned + other.scanned, created + other.created, failedChunks + other.failedChunks);
+        }
+
+        public int skipped() {
+            return scanned - created;
+        }
+    }
+
+    public Result generate(LocalDate date) {
+        return Timer.builder("mission.daily-instance.generate")
+            .description("일일 인스턴스 일괄 생성 전체 시간")
+            .register(meterRegistry)
+            .record(() -> generateInternal(date));
+    }
+
+    private Result generateInternal(LocalDate date) {
+        Long maxId = participantRepository.findMaxActivePinnedParticipantId();
+        if (maxId == null) {
+            log.info("활성 고정 미션 참여자 없음");
+            return Result.EMPTY;
+        }
+
+        int workers = (int) Math.max(1, Math.min(properties.getParallelism(), maxId));
+        if (workers == 1) {
+            return generateRange(date, 0L, maxId);
+        }
+
+        long width = (maxId + workers - 1) / workers;
+        ExecutorService pool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("daily-instance-"));
+        try {
+            List<CompletableFuture<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                long afterId = i * width;
+                long upToId = Math.min(maxId, afterId + width);
+                futures.add(CompletableFuture.supplyAsync(() -> generateRange(date, afterId, upToId), pool));
+            }
+            return futures.stream().map(CompletableFuture::join).reduce(Result.EMPTY, Result::plus);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * (afterId, maxId] 범위 참여자를 청크 단위로 생성
+     */
+    private Result generateRange(LocalDate date, long afterId, long maxId) {
+        PageRequest chunk = PageRequest.of(0, properties.getChunkSize());
+        Result result = Result.EMPTY;
+        long lastId = afterId;
+        while (true) {
+            long from = lastId;
+            List<Long> participantIds = timeChunk("select",
+                () -> participantRepository.findActivePinnedParticipantIds(from, maxId, chunk));
+            if (participantIds.isEmpty()) {
+                break;
+            }
+            // 실패 청크도 keyset 을 전진시켜 무한 루프 방지
+            lastId = participantIds.get(participantIds.size() - 1);
+
+            try {
+                int created = timeChunk("insert", () -> chunkExecutor.insertChunk(date, participantIds));
+                result = result.plus(new Result(participantIds.size(), created, 0));
+                log.debug("인스턴스 청크 생성: date={}, ids=({}, {}], created={}", date, from, lastId, created);
+            } catch (Exception e) {
+                result = result.plus(new Result(participantIds.size(), 0, 1));
+                log.error("인스턴스 청크 생성 실패 (다음 실행에서 재시도): date={}, ids=({}, {}], error={}",
+                    date, from, lastId, e.getMessage(), e);
+            }
+        }
+        return result;
+    }
+
+    private <T> T timeChunk(String stage, Supplier<T> work) {
+        return Timer.builder("mission.daily-instance.chunk")
+            .description("일일 인스턴스 청크 단계별 시간")
+            .tag("stage", stage)
+            .register(meterRegistry)
+            .record(work);
+    }
+}
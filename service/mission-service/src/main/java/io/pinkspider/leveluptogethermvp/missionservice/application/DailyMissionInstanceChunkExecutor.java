@@ -0,0 +1,30 @@
+package io.pinkspider.leveluptogethermvp.missionservice.application;
+
+import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.DailyMissionInstanceRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 고정 미션 일일 인스턴스를 <b>참여자 청크 단위 트랜잭션</b>으로 생성한다.
+ *
+ * <p>청크마다 커밋하므로 중간에 중단되어도 이미 생성된 청크는 유지되고, 재실행 시 남은 참여자만 생성된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyMissionInstanceChunkExecutor {
+
+    private final DailyMissionInstanceRepository instanceRepository;
+
+    /**
+     * @return 생성된 인스턴스 수 (이미 있는 참여자는 제외)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, transactionManager = "missionTransactionManager")
+    public int insertChunk(LocalDate date, List<Long> participantIds) {
+        return instanceRepository.insertPendingInstances(date, participantIds, LocalDateTime.now());
+    }
+}
@@ -64,6 +64,7 @@ public class DailyMissionInstanceService {
     private final MissionImageStorageService missionImageStorageService;
     private final MissionCompletionSaga missionCompletionSaga;
     private final MissionExecutionProperties missionExecutionProperties;
+    private final MissionDeadlineQueue missionDeadlineQueue;
 
     // ============ 조회 ============
 
@@ -156,6 +157,9 @@ public class DailyMissionInstanceService {
 
         instance.start();
         instanceRepository.save(instance);
+        // 목표시간 미션은 커밋 후 마감 큐에 등록 (MissionDeadlineDispatcher 가 마감 시각에 자동 종료)
+        missionDeadlineQueue.schedule(MissionDeadlineQueue.Kind.INSTANCE, instance.getId(),
+            instance.getStartedAt(), instance.getTargetDurationMinutes());
 
         log.info("고정 미션 인스턴스 시작: instanceId={}, userId={}, date={}",
             instanceId, userId, instance.getInstanceDate());
@@ -0,0 +1,151 @@
+package io.pinkspider.leveluptogethermvp.missionservice.application;
+
+import io.pinkspider.leveluptogethermvp.missionservice.config.MissionAutoCompleteProperties;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 목표시간 자동 종료 마감 큐 (Redis Sorted Set)
+ *
+ * member = "{종류}:{id}", score = 마감 시각(epoch ms) 인 Sorted Set 하나에 목표시간이 있는 수행/인스턴스를 등록한다.
+ * - 수행/인스턴스 시작 커밋 후 {@link #schedule} 로 등록
+ * - MissionDeadlineDispatcher 가 짧은 주기로 {@link #claimDue} 를 호출해 마감 도달 항목만 꺼낸다 (ZRANGEBYSCORE + ZREM)
+ * - ZREM 에 성공한 쪽만 항목을 가져가므로 같은 항목이 두 번 실행되지 않는다
+ *
+ * 큐는 힌트일 뿐이며 완료/취소/재시작 여부는 실행 시점에 DB 상태로 다시 확인한다.
+ * Redis 장애나 유실분은 MissionAutoCompleteScheduler 의 5분 주기 스캔이 재등록하거나 직접 종료한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionDeadlineQueue {
+
+    static final String KEY = "mission:auto-complete:deadlines";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MissionAutoCompleteProperties properties;
+
+    public enum Kind {
+        EXECUTION("execution"),
+        INSTANCE("instance");
+
+        private final String prefix;
+
+        Kind(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    /**
+     * 마감 항목
+     *
+     * @param kind  일반 미션 수행(EXECUTION) / 고정 미션 인스턴스(INSTANCE)
+     * @param id    executionId 또는 instanceId
+     * @param dueAt 마감 시각 (시작 시각 + 목표시간)
+     */
+    public record Deadline(Kind kind, Long id, Instant dueAt) {
+
+        String member() {
+            return kind.prefix + ":" + id;
+        }
+
+        static Deadline parse(String member, double score) {
+            int separator = member.indexOf(':');
+            String prefix = member.substring(0, separator);
+            Kind kind = Kind.EXECUTION.prefix.equals(prefix) ? Kind.EXECUTION : Kind.INSTANCE;
+            return new Deadline(kind, Long.parseLong(member.substring(separator + 1)), Instant.ofEpochMilli((long) score));
+        }
+    }
+
+    /**
+     * 마감 시각 = 시작 시각(UTC) + 목표시간
+     */
+    public static Instant dueAt(LocalDateTime startedAt, int targetMinutes) {
+        return startedAt.plusMinutes(targetMinutes).toInstant(ZoneOffset.UTC);
+    }
+
+    public boolean isEnabled() {
+        return properties.isDeadlineQueueEnabled();
+    }
+
+    /**
+     * 수행/인스턴스 시작 시 마감 등록 (트랜잭션 커밋 후 실행, 목표시간이 없으면 무시)
+     */
+    public void schedule(Kind kind, Long id, LocalDateTime startedAt, Integer targetMinutes) {
+        if (!isEnabled() || id == null || startedAt == null || targetMinutes == null || targetMinutes <= 0) {
+            return;
+        }
+        Deadline deadline = new Deadline(kind, id, dueAt(startedAt, targetMinutes));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleAll(List.of(deadline));
+                }
+            });
+        } else {
+            scheduleAll(List.of(deadline));
+        }
+    }
+
+    /**
+     * 마감 일괄 등록 (ZADD 1회, 이미 있으면 마감 시각만 갱신)
+     *
+     * @return 등록 성공 여부 (Redis 장애 시 false)
+     */
+    public boolean scheduleAll(Collection<Deadline> deadlines) {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (deadlines.isEmpty()) {
+            return true;
+        }
+        Set<TypedTuple<String>> tuples = deadlines.stream()
+            .map(d -> (TypedTuple<String>) new DefaultTypedTuple<>(d.member(), (double) d.dueAt().toEpochMilli()))
+            .collect(Collectors.toSet());
+        try {
+            stringRedisTemplate.opsForZSet().add(KEY, tuples);
+            return true;
+        } catch (Exception e) {
+            log.warn("자동 종료 마감 등록 실패 (5분 주기 스캔으로 처리): count={}, error={}",
+                deadlines.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 마감 도달 항목을 꺼낸다 (다른 호출자가 먼저 꺼낸 항목은 제외)
+     */
+    public List<Deadline> claimDue(Instant now, int limit) {
+        if (!isEnabled()) {
+            return List.of();
+        }
+        Set<TypedTuple<String>> due = stringRedisTemplate.opsForZSet()
+            .rangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, now.toEpochMilli(), 0, limit);
+        if (due == null || due.isEmpty()) {
+            return List.of();
+        }
+        List<Deadline> claimed = new ArrayList<>(due.size());
+        for (TypedTuple<String> tuple : due) {
+            Long removed = stringRedisTemplate.opsForZSet().remove(KEY, tuple.getValue());
+            if (removed != null && removed > 0) {
+                claimed.add(Deadline.parse(tuple.getValue(), tuple.getScore()));
+            }
+        }
+        return claimed;
+    }
+}
@@ -3,6 +3,7 @@ package io.pinkspider.leveluptogethermvp.missionservice.application.strategy;
 import io.pinkspider.global.moderation.annotation.ModerateImage;
 import io.pinkspider.global.saga.SagaResult;
 import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue;
 import io.pinkspider.leveluptogethermvp.missionservice.application.MissionImageStorageService;
 import io.pinkspider.leveluptogethermvp.missionservice.config.MissionExecutionProperties;
 import io.pinkspider.leveluptogethermvp.missionservice.domain.dto.MissionExecutionResponse;
@@ -51,6 +52,7 @@ public class RegularMissionExecutionStrategy implements MissionExecutionStrategy
     private final ApplicationEventPublisher eventPublisher;
     private final UserQueryFacade userQueryFacadeService;
     private final MissionExecutionProperties missionExecutionProperties;
+    private final MissionDeadlineQueue missionDeadlineQueue;
 
     @Override
     @Transactional(transactionManager = "missionTransactionManager")
@@ -87,6 +89,9 @@ public class RegularMissionExecutionStrategy implements MissionExecutionStrategy
 
         execution.start();
         executionRepository.save(execution);
+        // 목표시간 미션은 커밋 후 마감 큐에 등록 (MissionDeadlineDispatcher 가 마감 시각에 자동 종료)
+        missionDeadlineQueue.schedule(MissionDeadlineQueue.Kind.EXECUTION, execution.getId(),
+            execution.getStartedAt(), participant.getMission().getTargetDurationMinutes());
 
         log.info("미션 수행 시작: missionId={}, userId={}, executionDate={}", missionId, userId, executionDate);
         return MissionExecutionResponse.from(execution);
@@ -0,0 +1,26 @@
+package io.pinkspider.leveluptogethermvp.missionservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고정 미션 일일 인스턴스 일괄 생성 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mission.daily-instance")
+public class DailyMissionInstanceProperties {
+
+    /**
+     * 청크당 참여자 수 (청크마다 INSERT 1회 + 커밋 1회)
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 병렬 작업자 수. 1보다 크면 참여자 ID 범위를 나눠 작업자별로 청크를 처리한다.
+     */
+    private int parallelism = 1;
+}
@@ -0,0 +1,47 @@
+package io.pinkspider.leveluptogethermvp.missionservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목표시간 도달 미션 자동 종료 (마감 큐) 설정
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "mission.auto-complete")
+public class MissionAutoCompleteProperties {
+
+    /**
+     * 마감 큐 사용 여부. false 면 기존처럼 5분 주기 스캔으로만 자동 종료한다.
+     */
+    private boolean deadlineQueueEnabled = true;
+
+    /**
+     * 마감 도달 항목 확인 주기 (ms). 자동 종료 지연의 상한이 된다.
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 한 번에 꺼내는 마감 도달 항목 수
+     */
+    private int batchSize = 100;
+
+    /**
+     * 자동 종료(Saga) 실행 작업자 수
+     */
+    private int workers = 4;
+
+    /**
+     * 작업자 대기열 크기. 가득 차면 확인 스레드가 직접 실행해 꺼내는 속도를 늦춘다.
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 5분 주기 스캔이 직접 종료하기 전 마감 큐에 주는 유예 시간 (분).
+     * 큐가 처리 중인 항목과 스캔이 같은 미션을 동시에 종료하지 않도록 한다.
+     */
+    private int sweepGraceMinutes = 2;
+}
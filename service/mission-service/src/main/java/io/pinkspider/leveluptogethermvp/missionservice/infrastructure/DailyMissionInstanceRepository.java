@@ -4,6 +4,7 @@ import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.DailyMissio
 import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.ExecutionStatus;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -195,6 +196,40 @@ public interface DailyMissionInstanceRepository extends JpaRepository<DailyMissi
            "WHERE dmi.status = 'PENDING' AND dmi.instanceDate < :date")
     int markMissedInstances(@Param("date") LocalDate date);
 
+    /**
+     * 참여자 청크의 날짜별 첫 인스턴스(PENDING, sequence 1) 일괄 생성
+     *
+     * 해당 날짜 인스턴스가 하나라도 있는 참여자는 NOT EXISTS 로 제외하고, 동시 생성(실시간 참여 등)과 겹치면
+     * ON CONFLICT DO NOTHING 으로 건너뛴다. 재실행해도 남은 참여자만 생성된다.
+     * 컬럼 값은 DailyMissionInstance.createFrom 과 동일 (mission_description 은 컬럼 길이 1000 으로 자른다).
+     *
+     * @return 생성된 인스턴스 수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_mission_instance (
+            participant_id, instance_date, sequence_number,
+            mission_title, mission_description, category_name, category_id,
+            exp_per_completion, target_duration_minutes, bonus_exp_on_full_completion,
+            status, exp_earned, completion_count, total_exp_earned,
+            is_shared_to_feed, is_auto_completed, guild_exp_granted, version, created_at, modified_at)
+        SELECT mp.id, :date, 1,
+               m.title, LEFT(m.description, 1000), m.category_name, m.category_id,
+               m.exp_per_completion, m.target_duration_minutes, m.bonus_exp_on_full_completion,
+               'PENDING', 0, 0, 0,
+               false, false, false, 0, :now, :now
+        FROM mission_participant mp
+        JOIN mission m ON m.id = mp.mission_id
+        WHERE mp.id IN (:participantIds)
+          AND NOT EXISTS (
+              SELECT 1 FROM daily_mission_instance dmi
+              WHERE dmi.participant_id = mp.id AND dmi.instance_date = :date)
+        ON CONFLICT (participant_id, instance_date, sequence_number) DO NOTHING
+        """, nativeQuery = true)
+    int insertPendingInstances(@Param("date") LocalDate date,
+                               @Param("participantIds") Collection<Long> participantIds,
+                               @Param("now") LocalDateTime now);
+
     /**
      * 특정 참여자의 특정 날짜 인스턴스 존재 여부 확인
      */
@@ -197,6 +197,31 @@ public interface MissionParticipantRepository extends JpaRepository<MissionParti
            "AND m.isDeleted = false")
     List<MissionParticipant> findAllActivePinnedMissionParticipants();
 
+    /**
+     * 활성 고정 미션 참여자 ID keyset 조회 (일일 인스턴스 청크 생성용)
+     * (afterId, maxId] 범위를 ID 오름차순으로 pageable 크기만큼 조회
+     */
+    @Query("SELECT mp.id FROM MissionParticipant mp " +
+           "JOIN mp.mission m " +
+           "WHERE mp.status = 'ACCEPTED' " +
+           "AND m.isPinned = true " +
+           "AND m.isDeleted = false " +
+           "AND mp.id > :afterId AND mp.id <= :maxId " +
+           "ORDER BY mp.id")
+    List<Long> findActivePinnedParticipantIds(@Param("afterId") Long afterId,
+                                              @Param("maxId") Long maxId,
+                                              Pageable pageable);
+
+    /**
+     * 활성 고정 미션 참여자 최대 ID (병렬 작업자 ID 범위 분할용, 없으면 null)
+     */
+    @Query("SELECT MAX(mp.id) FROM MissionParticipant mp " +
+           "JOIN mp.mission m " +
+           "WHERE mp.status = 'ACCEPTED' " +
+           "AND m.isPinned = true " +
+           "AND m.isDeleted = false")
+    Long findMaxActivePinnedParticipantId();
+
     /**
      * 사용자의 특정 길드 미션에서의 활성 참여 목록 조회 (길드 탈퇴/추방 시 정리용)
      */
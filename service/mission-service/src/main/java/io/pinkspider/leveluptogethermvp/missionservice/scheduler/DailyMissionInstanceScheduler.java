@@ -1,7 +1,10 @@
 package io.pinkspider.leveluptogethermvp.missionservice.scheduler;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.pinkspider.global.enums.ExpSourceType;
 import io.pinkspider.global.facade.GamificationQueryFacade;
+import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceBatchService;
 import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceService;
 import io.pinkspider.leveluptogethermvp.missionservice.application.MissionExecutionService;
 import io.pinkspider.leveluptogethermvp.missionservice.config.MissionExecutionProperties;
@@ -13,17 +16,17 @@ import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.ParticipantS
 import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.DailyMissionInstanceRepository;
 import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.MissionExecutionRepository;
 import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.MissionParticipantRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 고정 미션 일일 인스턴스 생성 스케줄러
@@ -31,9 +34,14 @@ import java.util.List;
  * 매일 새벽에 실행되어:
  * 1. 지난 날짜의 미완료 인스턴스를 MISSED 처리
  * 2. 오늘 날짜의 인스턴스를 생성
+ *
+ * 단계별 소요 시간은 mission.daily-instance.stage (stage 태그) 로 기록한다.
+ *
+ * 지난 날짜 마감(자동 완료, MISSED 처리)은 closePastDay 한 트랜잭션으로 커밋하고,
+ * 오늘 인스턴스 생성은 트랜잭션 밖에서 DailyMissionInstanceBatchService 가 청크마다 커밋한다.
+ * 바깥 트랜잭션이 없어야 청크 커밋이 실제로 분리되므로 closePastDay 는 self(프록시)를 통해 호출한다.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DailyMissionInstanceScheduler {
 
@@ -44,8 +52,32 @@ public class DailyMissionInstanceScheduler {
     private final MissionExecutionService missionExecutionService;
     private final MissionExecutionProperties missionExecutionProperties;
     private final GamificationQueryFacade gamificationQueryFacade;
-
-    private static final int BATCH_SIZE = 100;
+    private final DailyMissionInstanceBatchService dailyMissionInstanceBatchService;
+    private final MeterRegistry meterRegistry;
+    private final DailyMissionInstanceScheduler self;
+
+    public DailyMissionInstanceScheduler(
+        DailyMissionInstanceRepository instanceRepository,
+        MissionExecutionRepository executionRepository,
+        MissionParticipantRepository participantRepository,
+        DailyMissionInstanceService dailyMissionInstanceService,
+        MissionExecutionService missionExecutionService,
+        MissionExecutionProperties missionExecutionProperties,
+        GamificationQueryFacade gamificationQueryFacade,
+        DailyMissionInstanceBatchService dailyMissionInstanceBatchService,
+        MeterRegistry meterRegistry,
+        @Lazy DailyMissionInstanceScheduler self) {
+        this.instanceRepository = instanceRepository;
+        this.executionRepository = executionRepository;
+        this.participantRepository = participantRepository;
+        this.dailyMissionInstanceService = dailyMissionInstanceService;
+        this.missionExecutionService = missionExecutionService;
+        this.missionExecutionProperties = missionExecutionProperties;
+        this.gamificationQueryFacade = gamificationQueryFacade;
+        this.dailyMissionInstanceBatchService = dailyMissionInstanceBatchService;
+        this.meterRegistry = meterRegistry;
+        this.self = self;
+    }
 
     /**
      * 매일 자정 00:00에 실행
@@ -54,31 +86,17 @@ public class DailyMissionInstanceScheduler {
      */
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     @SchedulerLock(name = "DailyMissionInstanceScheduler_generateDailyInstances", lockAtMostFor = "PT15M", lockAtLeastFor = "PT1M")
-    @Transactional(transactionManager = "missionTransactionManager")
     public void generateDailyInstances() {
         log.info("=== 고정 미션 일일 인스턴스 생성 스케줄러 시작 ===");
 
         LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
 
         try {
-            // 1. 지난 날짜의 IN_PROGRESS 미션 자동 완료 (Saga 경유 → 경험치 정상 지급)
-            int autoCompletedInstances = autoCompletePastDayInProgressInstances(today);
-            int autoCompletedExecutions = autoCompletePastDayInProgressExecutions(today);
-            if (autoCompletedInstances > 0 || autoCompletedExecutions > 0) {
-                log.info("자정 자동 완료 처리: pinnedInstances={}, regularExecutions={}",
-                    autoCompletedInstances, autoCompletedExecutions);
-            }
-
-            // 2. 지난 날짜의 미완료 인스턴스 MISSED 처리
-            int missedCount = markMissedInstances(today);
-            log.info("미완료 인스턴스 MISSED 처리 완료: count={}", missedCount);
-
-            // 3. 지난 날짜의 미완료 일반 미션 MISSED 처리
-            int missedExecutionCount = missionExecutionService.markMissedExecutions();
-            log.info("미완료 일반 미션 MISSED 처리 완료: count={}", missedExecutionCount);
+            // 1~3. 지난 날짜 마감 (한 트랜잭션으로 커밋, 실패 시 인스턴스를 생성하지 않는다)
+            self.closePastDay(today);
 
-            // 4. 오늘 인스턴스 생성
-            int createdCount = createTodayInstances(today);
+            // 4. 오늘 인스턴스 생성 (트랜잭션 밖에서 호출, 청크마다 별도 트랜잭션으로 커밋)
+            int createdCount = timeStage("create_instances", () -> createTodayInstances(today));
             log.info("오늘 인스턴스 생성 완료: date={}, count={}", today, createdCount);
 
         } catch (Exception e) {
@@ -89,6 +107,40 @@ public class DailyMissionInstanceScheduler {
         log.info("=== 고정 미션 일일 인스턴스 생성 스케줄러 종료 ===");
     }
 
+    /**
+     * 지난 날짜 마감 (generateDailyInstances 1~3단계)
+     * - 지난 날짜 IN_PROGRESS 미션 자동 완료
+     * - 지난 날짜 미완료 인스턴스 / 일반 미션 MISSED 처리
+     */
+    @Transactional(transactionManager = "missionTransactionManager")
+    public void closePastDay(LocalDate today) {
+        // 1. 지난 날짜의 IN_PROGRESS 미션 자동 완료 (Saga 경유 → 경험치 정상 지급)
+        int autoCompletedInstances = timeStage("auto_complete_instances",
+            () -> autoCompletePastDayInProgressInstances(today));
+        int autoCompletedExecutions = timeStage("auto_complete_executions",
+            () -> autoCompletePastDayInProgressExecutions(today));
+        if (autoCompletedInstances > 0 || autoCompletedExecutions > 0) {
+            log.info("자정 자동 완료 처리: pinnedInstances={}, regularExecutions={}",
+                autoCompletedInstances, autoCompletedExecutions);
+        }
+
+        // 2. 지난 날짜의 미완료 인스턴스 MISSED 처리
+        int missedCount = timeStage("mark_missed_instances", () -> markMissedInstances(today));
+        log.info("미완료 인스턴스 MISSED 처리 완료: count={}", missedCount);
+
+        // 3. 지난 날짜의 미완료 일반 미션 MISSED 처리
+        int missedExecutionCount = timeStage("mark_missed_executions", missionExecutionService::markMissedExecutions);
+        log.info("미완료 일반 미션 MISSED 처리 완료: count={}", missedExecutionCount);
+    }
+
+    private <T> T timeStage(String stage, Supplier<T> work) {
+        return Timer.builder("mission.daily-instance.stage")
+            .description("자정 스케줄러 단계별 시간")
+            .tag("stage", stage)
+            .register(meterRegistry)
+            .record(work);
+    }
+
     /**
      * 지난 날짜의 미완료 인스턴스를 MISSED 처리
      */
@@ -97,51 +149,13 @@ public class DailyMissionInstanceScheduler {
     }
 
     /**
-     * 오늘 날짜의 인스턴스를 생성
+     * 오늘 날짜의 인스턴스를 생성 (청크 단위 커밋, DailyMissionInstanceBatchService)
      */
     private int createTodayInstances(LocalDate today) {
-        // 모든 활성 고정 미션 참여자 조회
-        List<MissionParticipant> participants = participantRepository.findAllActivePinnedMissionParticipants();
-
-        if (participants.isEmpty()) {
-            log.info("활성 고정 미션 참여자 없음");
-            return 0;
-        }
-
-        log.info("활성 고정 미션 참여자 수: {}", participants.size());
-
-        List<DailyMissionInstance> instancesToCreate = new ArrayList<>();
-        int skippedCount = 0;
-
-        for (MissionParticipant participant : participants) {
-            // 이미 오늘 인스턴스가 있는지 확인
-            if (instanceRepository.existsByParticipantIdAndInstanceDate(participant.getId(), today)) {
-                skippedCount++;
-                continue;
-            }
-
-            // 인스턴스 생성
-            DailyMissionInstance instance = DailyMissionInstance.createFrom(participant, today);
-            instancesToCreate.add(instance);
-
-            // 배치 저장
-            if (instancesToCreate.size() >= BATCH_SIZE) {
-                instanceRepository.saveAll(instancesToCreate);
-                log.debug("배치 저장 완료: count={}", instancesToCreate.size());
-                instancesToCreate.clear();
-            }
-        }
-
-        // 남은 인스턴스 저장
-        if (!instancesToCreate.isEmpty()) {
-            instanceRepository.saveAll(instancesToCreate);
-            log.debug("최종 배치 저장 완료: count={}", instancesToCreate.size());
-        }
-
-        int createdCount = participants.size() - skippedCount;
-        log.info("인스턴스 생성 결과: created={}, skipped={}", createdCount, skippedCount);
-
-        return createdCount;
+        DailyMissionInstanceBatchService.Result result = dailyMissionInstanceBatchService.generate(today);
+        log.info("인스턴스 생성 결과: scanned={}, created={}, skipped={}, failedChunks={}",
+            result.scanned(), result.created(), result.skipped(), result.failedChunks());
+        return result.created();
     }
 
     /**
@@ -301,21 +315,10 @@ public class DailyMissionInstanceScheduler {
     /**
      * 수동 실행: 특정 날짜의 인스턴스 생성 (관리자용)
      */
-    @Transactional(transactionManager = "missionTransactionManager")
     public int generateInstancesForDate(LocalDate date) {
         log.info("수동 인스턴스 생성 시작: date={}", date);
 
-        // 활성 고정 미션 참여자 조회
-        List<MissionParticipant> participants = participantRepository.findAllActivePinnedMissionParticipants();
-
-        int createdCount = 0;
-        for (MissionParticipant participant : participants) {
-            if (!instanceRepository.existsByParticipantIdAndInstanceDate(participant.getId(), date)) {
-                DailyMissionInstance instance = DailyMissionInstance.createFrom(participant, date);
-                instanceRepository.save(instance);
-                createdCount++;
-            }
-        }
+        int createdCount = dailyMissionInstanceBatchService.generate(date).created();
 
         log.info("수동 인스턴스 생성 완료: date={}, count={}", date, createdCount);
         return createdCount;
@@ -7,7 +7,11 @@ import io.pinkspider.global.event.MissionAutoEndWarningEvent;
 import io.pinkspider.global.facade.GamificationQueryFacade;
 import io.pinkspider.global.facade.GuildQueryFacade;
 import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceService;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue.Deadline;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue.Kind;
 import io.pinkspider.leveluptogethermvp.missionservice.application.MissionExecutionService;
+import io.pinkspider.leveluptogethermvp.missionservice.config.MissionAutoCompleteProperties;
 import io.pinkspider.leveluptogethermvp.missionservice.config.MissionExecutionProperties;
 import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.DailyMissionInstance;
 import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.Mission;
@@ -27,12 +31,14 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 미션 자동 종료 스케줄러
  *
  * 1. 목표시간 도달 미션: Saga 경유하여 경험치 정상 지급 후 자동 종료
+ *    (마감 시각 실행은 MissionDeadlineDispatcher 담당, 여기서는 마감 큐 재등록 + 유실분 보정)
  * 2. 2시간 초과 미션 (목표시간 미설정): 어뷰징 방지용 자동 종료
  * - 5분마다 실행
  * - MissionExecution (일반 미션)과 DailyMissionInstance (고정 미션) 모두 처리
@@ -50,6 +56,8 @@ public class MissionAutoCompleteScheduler {
     private final ApplicationEventPublisher eventPublisher;
     private final GamificationQueryFacade gamificationQueryFacade;
     private final GuildQueryFacade guildQueryFacade;
+    private final MissionDeadlineQueue missionDeadlineQueue;
+    private final MissionAutoCompleteProperties missionAutoCompleteProperties;
 
     /**
      * 5분마다 실행: 미션 자동 종료
@@ -90,14 +98,28 @@ public class MissionAutoCompleteScheduler {
 
     /**
      * 목표시간 도달 고정 미션 인스턴스 자동 종료 (Saga 경유)
+     * 평소에는 MissionDeadlineDispatcher 가 마감 시각에 종료하고, 여기서는 큐에서 빠진 항목만 보정한다.
      */
     private int autoCompleteTargetReachedInstances() {
         List<DailyMissionInstance> instances = instanceRepository.findInProgressWithTargetDuration();
 
+        // 마감 큐 유실분 재등록. 등록되면 유예 시간 동안은 디스패처에 맡기고, 실패하면 바로 직접 종료한다.
+        int grace = sweepGraceMinutes();
+        List<Deadline> deadlines = new ArrayList<>();
+        for (DailyMissionInstance instance : instances) {
+            if (elapsedMinutes(instance.getStartedAt()) < instance.getTargetDurationMinutes() + grace) {
+                deadlines.add(new Deadline(Kind.INSTANCE, instance.getId(),
+                    MissionDeadlineQueue.dueAt(instance.getStartedAt(), instance.getTargetDurationMinutes())));
+            }
+        }
+        if (!missionDeadlineQueue.scheduleAll(deadlines)) {
+            grace = 0;
+        }
+
         int count = 0;
         for (DailyMissionInstance instance : instances) {
-            long elapsed = Duration.between(instance.getStartedAt(), LocalDateTime.now(ZoneId.of("UTC"))).toMinutes();
-            if (elapsed >= instance.getTargetDurationMinutes()) {
+            long elapsed = elapsedMinutes(instance.getStartedAt());
+            if (elapsed >= instance.getTargetDurationMinutes() + grace) {
                 String userId = instance.getParticipant().getUserId();
                 try {
                     dailyMissionInstanceService.completeInstance(
@@ -116,15 +138,30 @@ public class MissionAutoCompleteScheduler {
 
     /**
      * 목표시간 도달 일반 미션 실행 자동 종료 (Saga 경유)
+     * 평소에는 MissionDeadlineDispatcher 가 마감 시각에 종료하고, 여기서는 큐에서 빠진 항목만 보정한다.
      */
     private int autoCompleteTargetReachedExecutions() {
         List<MissionExecution> executions = executionRepository.findInProgressWithTargetDuration();
 
+        // 마감 큐 유실분 재등록. 등록되면 유예 시간 동안은 디스패처에 맡기고, 실패하면 바로 직접 종료한다.
+        int grace = sweepGraceMinutes();
+        List<Deadline> deadlines = new ArrayList<>();
+        for (MissionExecution execution : executions) {
+            Integer targetMinutes = execution.getParticipant().getMission().getTargetDurationMinutes();
+            if (targetMinutes != null && elapsedMinutes(execution.getStartedAt()) < targetMinutes + grace) {
+                deadlines.add(new Deadline(Kind.EXECUTION, execution.getId(),
+                    MissionDeadlineQueue.dueAt(execution.getStartedAt(), targetMinutes)));
+            }
+        }
+        if (!missionDeadlineQueue.scheduleAll(deadlines)) {
+            grace = 0;
+        }
+
         int count = 0;
         for (MissionExecution execution : executions) {
-            long elapsed = Duration.between(execution.getStartedAt(), LocalDateTime.now(ZoneId.of("UTC"))).toMinutes();
+            long elapsed = elapsedMinutes(execution.getStartedAt());
             Integer targetMinutes = execution.getParticipant().getMission().getTargetDurationMinutes();
-            if (targetMinutes != null && elapsed >= targetMinutes) {
+            if (targetMinutes != null && elapsed >= targetMinutes + grace) {
                 String userId = execution.getParticipant().getUserId();
                 try {
                     missionExecutionService.completeExecution(
@@ -141,6 +178,17 @@ public class MissionAutoCompleteScheduler {
         return count;
     }
 
+    /**
+     * 마감 큐를 쓸 수 있으면 디스패처에 주는 유예 시간 (분), 아니면 0
+     */
+    private int sweepGraceMinutes() {
+        return missionDeadlineQueue.isEnabled() ? missionAutoCompleteProperties.getSweepGraceMinutes() : 0;
+    }
+
+    private long elapsedMinutes(LocalDateTime startedAt) {
+        return Duration.between(startedAt, LocalDateTime.now(ZoneId.of("UTC"))).toMinutes();
+    }
+
     /**
      * 일반 미션 (MissionExecution) 2시간 초과 자동 종료
      * 목표시간 설정 미션은 위에서 Saga로 처리하므로 스킵
@@ -0,0 +1,207 @@
+package io.pinkspider.leveluptogethermvp.missionservice.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceService;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue.Deadline;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionExecutionService;
+import io.pinkspider.leveluptogethermvp.missionservice.config.MissionAutoCompleteProperties;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.DailyMissionInstance;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.MissionExecution;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.ExecutionStatus;
+import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.DailyMissionInstanceRepository;
+import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.MissionExecutionRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목표시간 도달 미션 자동 종료 디스패처
+ *
+ * 짧은 주기(mission.auto-complete.poll-interval-ms)로 {@link MissionDeadlineQueue}에서 마감 도달 항목만 꺼내
+ * 고정 크기 작업자 풀에 나눠 Saga 로 종료한다. 항목마다 별도 Saga 실행이므로 한 건의 실패가 다른 건에 영향을 주지 않는다.
+ *
+ * 실행 직전 DB 상태를 다시 확인한다.
+ * - 이미 완료/취소됨 → 무시 (stale)
+ * - 재시작되어 마감이 뒤로 밀림 → 새 마감으로 재등록 (rescheduled)
+ *
+ * 지표: mission.auto-complete.fired(kind, result), mission.auto-complete.lateness(마감 대비 실제 실행 지연)
+ */
+@Slf4j
+@Component
+public class MissionDeadlineDispatcher {
+
+    private final MissionDeadlineQueue deadlineQueue;
+    private final DailyMissionInstanceRepository instanceRepository;
+    private final MissionExecutionRepository executionRepository;
+    private final DailyMissionInstanceService dailyMissionInstanceService;
+    private final MissionExecutionService missionExecutionService;
+    private final MissionAutoCompleteProperties properties;
+    private final Executor workers;
+    private final MeterRegistry meterRegistry;
+    private final Timer latenessTimer;
+
+    enum Result { COMPLETED, STALE, RESCHEDULED, FAILED }
+
+    @Autowired
+    public MissionDeadlineDispatcher(
+        MissionDeadlineQueue deadlineQueue,
+        DailyMissionInstanceRepository instanceRepository,
+        MissionExecutionRepository executionRepository,
+        DailyMissionInstanceService dailyMissionInstanceService,
+        MissionExecutionService missionExecutionService,
+        MissionAutoCompleteProperties properties,
+        MeterRegistry meterRegistry) {
+        this(deadlineQueue, instanceRepository, executionRepository, dailyMissionInstanceService,
+            missionExecutionService, properties, createWorkers(properties), meterRegistry);
+    }
+
+    MissionDeadlineDispatcher(
+        MissionDeadlineQueue deadlineQueue,
+        DailyMissionInstanceRepository instanceRepository,
+        MissionExecutionRepository executionRepository,
+        DailyMissionInstanceService dailyMissionInstanceService,
+        MissionExecutionService missionExecutionService,
+        MissionAutoCompleteProperties properties,
+        Executor workers,
+        MeterRegistry meterRegistry) {
+        this.deadlineQueue = deadlineQueue;
+        this.instanceRepository = instanceRepository;
+        this.executionRepository = executionRepository;
+        this.dailyMissionInstanceService = dailyMissionInstanceService;
+        this.missionExecutionService = missionExecutionService;
+        this.properties = properties;
+        this.workers = workers;
+        this.meterRegistry = meterRegistry;
+        this.latenessTimer = Timer.builder("mission.auto-complete.lateness")
+            .description("목표시간 마감 대비 자동 종료 실행 지연")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 작업자 대기열이 가득 차면 확인 스레드가 직접 실행해 꺼내는 속도를 늦춘다 (CallerRuns)
+     */
+    private static Executor createWorkers(MissionAutoCompleteProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getWorkers());
+        executor.setMaxPoolSize(properties.getWorkers());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("mission-deadline-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (workers instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 마감 도달 항목을 꺼내 작업자에 배분 (한 번에 batchSize 씩, 남은 항목이 없을 때까지)
+     */
+    @Scheduled(fixedDelayString = "${mission.auto-complete.poll-interval-ms:1000}")
+    @SchedulerLock(name = "MissionDeadlineDispatcher_dispatchDue", lockAtMostFor = "PT1M")
+    public void dispatchDue() {
+        if (!deadlineQueue.isEnabled()) {
+            return;
+        }
+        try {
+            List<Deadline> claimed;
+            do {
+                claimed = deadlineQueue.claimDue(Instant.now(), properties.getBatchSize());
+                for (Deadline deadline : claimed) {
+                    workers.execute(() -> fire(deadline));
+                }
+            } while (claimed.size() >= properties.getBatchSize());
+        } catch (Exception e) {
+            log.warn("자동 종료 마감 큐 조회 실패 (5분 주기 스캔으로 처리): error={}", e.getMessage());
+        }
+    }
+
+    void fire(Deadline deadline) {
+        latenessTimer.record(Duration.between(deadline.dueAt(), Instant.now()));
+        Result result;
+        try {
+            result = switch (deadline.kind()) {
+                case INSTANCE -> completeInstance(deadline);
+                case EXECUTION -> completeExecution(deadline);
+            };
+        } catch (Exception e) {
+            result = Result.FAILED;
+            log.warn("목표시간 자동 종료 실패: kind={}, id={}, error={}",
+                deadline.kind(), deadline.id(), e.getMessage());
+        }
+        Counter.builder("mission.auto-complete.fired")
+            .description("마감 큐에서 꺼낸 자동 종료 항목")
+            .tag("kind", deadline.kind().name().toLowerCase())
+            .tag("result", result.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Result completeInstance(Deadline deadline) {
+        DailyMissionInstance instance = instanceRepository.findByIdWithParticipantAndMission(deadline.id())
+            .orElse(null);
+        if (instance == null || instance.getStatus() != ExecutionStatus.IN_PROGRESS) {
+            return Result.STALE;
+        }
+        Integer targetMinutes = instance.getTargetDurationMinutes();
+        Result notDue = checkDue(deadline, instance.getStartedAt(), targetMinutes);
+        if (notDue != null) {
+            return notDue;
+        }
+        dailyMissionInstanceService.completeInstance(instance.getId(), instance.getParticipant().getUserId(), null, false);
+        log.info("목표시간 도달 자동 종료 (고정): instanceId={}, target={}분", instance.getId(), targetMinutes);
+        return Result.COMPLETED;
+    }
+
+    private Result completeExecution(Deadline deadline) {
+        MissionExecution execution = executionRepository.findByIdWithParticipantAndMission(deadline.id())
+            .orElse(null);
+        if (execution == null || execution.getStatus() != ExecutionStatus.IN_PROGRESS) {
+            return Result.STALE;
+        }
+        Integer targetMinutes = execution.getParticipant().getMission().getTargetDurationMinutes();
+        Result notDue = checkDue(deadline, execution.getStartedAt(), targetMinutes);
+        if (notDue != null) {
+            return notDue;
+        }
+        missionExecutionService.completeExecution(execution.getId(), execution.getParticipant().getUserId(), null, false);
+        log.info("목표시간 도달 자동 종료 (일반): executionId={}, target={}분", execution.getId(), targetMinutes);
+        return Result.COMPLETED;
+    }
+
+    /**
+     * 종료 대상이 아니면 결과를 반환 (목표시간 없음 → STALE, 재시작으로 마감이 뒤로 밀림 → 재등록 후 RESCHEDULED)
+     *
+     * @return 지금 종료해야 하면 null
+     */
+    private Result checkDue(Deadline deadline, LocalDateTime startedAt, Integer targetMinutes) {
+        if (startedAt == null || targetMinutes == null || targetMinutes <= 0) {
+            return Result.STALE;
+        }
+        Instant dueAt = MissionDeadlineQueue.dueAt(startedAt, targetMinutes);
+        if (dueAt.isAfter(Instant.now())) {
+            deadlineQueue.scheduleAll(List.of(new Deadline(deadline.kind(), deadline.id(), dueAt)));
+            return Result.RESCHEDULED;
+        }
+        return null;
+    }
+}
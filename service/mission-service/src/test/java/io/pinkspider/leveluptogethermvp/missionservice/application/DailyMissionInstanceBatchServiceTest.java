@@ -0,0 +1,131 @@
+package io.pinkspider.leveluptogethermvp.missionservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceBatchService.Result;
+import io.pinkspider.leveluptogethermvp.missionservice.config.DailyMissionInstanceProperties;
+import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.MissionParticipantRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyMissionInstanceBatchService 테스트")
+class DailyMissionInstanceBatchServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 1, 15);
+
+    @Mock
+    private MissionParticipantRepository participantRepository;
+
+    @Mock
+    private DailyMissionInstanceChunkExecutor chunkExecutor;
+
+    @Spy
+    private DailyMissionInstanceProperties properties = new DailyMissionInstanceProperties();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private DailyMissionInstanceBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        properties.setChunkSize(2);
+    }
+
+    @Test
+    @DisplayName("keyset 으로 청크를 순회하며 청크마다 한 번에 생성하고, 대상 소진 시 종료한다")
+    void iteratesChunksAndAggregates() {
+        // 첫 청크(id>0): 2건, 둘째 청크(id>2): 1건, 셋째(id>5): 0건 → 종료
+        when(participantRepository.findMaxActivePinnedParticipantId()).thenReturn(5L);
+        when(participantRepository.findActivePinnedParticipantIds(eq(0L), eq(5L), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L));
+        when(participantRepository.findActivePinnedParticipantIds(eq(2L), eq(5L), any(Pageable.class)))
+            .thenReturn(List.of(5L));
+        when(participantRepository.findActivePinnedParticipantIds(eq(5L), eq(5L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(chunkExecutor.insertChunk(DATE, List.of(1L, 2L))).thenReturn(1); // 1건은 이미 존재
+        when(chunkExecutor.insertChunk(DATE, List.of(5L))).thenReturn(1);
+
+        Result result = service.generate(DATE);
+
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failedChunks()).isZero();
+        assertThat(meterRegistry.get("mission.daily-instance.chunk").tag("stage", "insert").timer().count())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("청크 하나가 실패해도 keyset 을 전진시켜 나머지 청크를 계속 처리한다")
+    void failedChunkDoesNotStopBatch() {
+        when(participantRepository.findMaxActivePinnedParticipantId()).thenReturn(4L);
+        when(participantRepository.findActivePinnedParticipantIds(eq(0L), eq(4L), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L));
+        when(participantRepository.findActivePinnedParticipantIds(eq(2L), eq(4L), any(Pageable.class)))
+            .thenReturn(List.of(3L, 4L));
+        when(participantRepository.findActivePinnedParticipantIds(eq(4L), eq(4L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(chunkExecutor.insertChunk(DATE, List.of(1L, 2L))).thenThrow(new RuntimeException("DB error"));
+        when(chunkExecutor.insertChunk(DATE, List.of(3L, 4L))).thenReturn(2);
+
+        Result result = service.generate(DATE);
+
+        assertThat(result.scanned()).isEqualTo(4);
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.failedChunks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("병렬 처리 시 참여자 ID 범위를 나눠 작업자별로 생성하고 합산한다")
+    void parallelRangesAreAggregated() {
+        properties.setParallelism(2);
+        // (0, 4] → (0, 2] + (2, 4]
+        when(participantRepository.findMaxActivePinnedParticipantId()).thenReturn(4L);
+        when(participantRepository.findActivePinnedParticipantIds(eq(0L), eq(2L), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L));
+        when(participantRepository.findActivePinnedParticipantIds(eq(2L), eq(2L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(participantRepository.findActivePinnedParticipantIds(eq(2L), eq(4L), any(Pageable.class)))
+            .thenReturn(List.of(3L));
+        when(participantRepository.findActivePinnedParticipantIds(eq(3L), eq(4L), any(Pageable.class)))
+            .thenReturn(List.of());
+        when(chunkExecutor.insertChunk(DATE, List.of(1L, 2L))).thenReturn(2);
+        when(chunkExecutor.insertChunk(DATE, List.of(3L))).thenReturn(1);
+
+        Result result = service.generate(DATE);
+
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.created()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("활성 참여자가 없으면 조회/생성하지 않는다")
+    void noParticipants() {
+        when(participantRepository.findMaxActivePinnedParticipantId()).thenReturn(null);
+
+        Result result = service.generate(DATE);
+
+        assertThat(result.created()).isZero();
+        verify(participantRepository, never()).findActivePinnedParticipantIds(anyLong(), anyLong(), any());
+        verify(chunkExecutor, never()).insertChunk(any(), any());
+    }
+}
@@ -96,6 +96,9 @@ class DailyMissionInstanceServiceTest {
     @Mock
     private MissionExecutionProperties missionExecutionProperties;
 
+    @Mock
+    private MissionDeadlineQueue missionDeadlineQueue;
+
     @InjectMocks
     private DailyMissionInstanceService service;
 
@@ -231,6 +234,8 @@ class DailyMissionInstanceServiceTest {
             // then
             assertThat(response).isNotNull();
             verify(instanceRepository).save(any(DailyMissionInstance.class));
+            verify(missionDeadlineQueue).schedule(eq(MissionDeadlineQueue.Kind.INSTANCE), eq(INSTANCE_ID),
+                eq(instance.getStartedAt()), eq(instance.getTargetDurationMinutes()));
         }
 
         @Test
@@ -0,0 +1,141 @@
+package io.pinkspider.leveluptogethermvp.missionservice.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue.Deadline;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue.Kind;
+import io.pinkspider.leveluptogethermvp.missionservice.config.MissionAutoCompleteProperties;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MissionDeadlineQueue 단위 테스트")
+class MissionDeadlineQueueTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Spy
+    private MissionAutoCompleteProperties properties = new MissionAutoCompleteProperties();
+
+    @InjectMocks
+    private MissionDeadlineQueue deadlineQueue;
+
+    @BeforeEach
+    void setUp() {
+        properties.setDeadlineQueueEnabled(true);
+    }
+
+    @Nested
+    @DisplayName("schedule 테스트")
+    class ScheduleTest {
+
+        @Test
+        @DisplayName("시작 시각 + 목표시간을 점수로 등록한다")
+        @SuppressWarnings("unchecked")
+        void schedule_addsDeadline() {
+            // given
+            when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+            LocalDateTime startedAt = LocalDateTime.of(2026, 1, 15, 10, 0);
+
+            // when
+            deadlineQueue.schedule(Kind.INSTANCE, 20L, startedAt, 30);
+
+            // then
+            ArgumentCaptor<Set<TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+            verify(zSetOperations).add(eq(MissionDeadlineQueue.KEY), captor.capture());
+            TypedTuple<String> tuple = captor.getValue().iterator().next();
+            assertThat(tuple.getValue()).isEqualTo("instance:20");
+            assertThat(tuple.getScore())
+                .isEqualTo((double) Instant.parse("2026-01-15T10:30:00Z").toEpochMilli());
+        }
+
+        @Test
+        @DisplayName("목표시간이 없으면 등록하지 않는다")
+        void schedule_noTarget_ignored() {
+            // when
+            deadlineQueue.schedule(Kind.EXECUTION, 20L, LocalDateTime.now(), null);
+
+            // then
+            verify(stringRedisTemplate, never()).opsForZSet();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 false 를 반환한다")
+        void scheduleAll_redisFailure() {
+            // given
+            when(stringRedisTemplate.opsForZSet()).thenThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            boolean result = deadlineQueue.scheduleAll(List.of(new Deadline(Kind.EXECUTION, 1L, Instant.now())));
+
+            // then
+            assertThat(result).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("claimDue 테스트")
+    class ClaimDueTest {
+
+        @Test
+        @DisplayName("마감 도달 항목 중 ZREM 에 성공한 항목만 가져간다")
+        void claimDue_onlyRemovedMembers() {
+            // given
+            when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+            Set<TypedTuple<String>> due = new LinkedHashSet<>(List.of(
+                new DefaultTypedTuple<>("execution:1", 1000d),
+                new DefaultTypedTuple<>("instance:2", 2000d)));
+            when(zSetOperations.rangeByScoreWithScores(eq(MissionDeadlineQueue.KEY), anyDouble(),
+                anyDouble(), eq(0L), eq(10L))).thenReturn(due);
+            when(zSetOperations.remove(MissionDeadlineQueue.KEY, "execution:1")).thenReturn(1L);
+            when(zSetOperations.remove(MissionDeadlineQueue.KEY, "instance:2")).thenReturn(0L); // 다른 인스턴스가 먼저 가져감
+
+            // when
+            List<Deadline> claimed = deadlineQueue.claimDue(Instant.ofEpochMilli(5000), 10);
+
+            // then
+            assertThat(claimed).containsExactly(new Deadline(Kind.EXECUTION, 1L, Instant.ofEpochMilli(1000)));
+        }
+
+        @Test
+        @DisplayName("비활성화 상태면 조회하지 않는다")
+        void claimDue_disabled() {
+            // given
+            properties.setDeadlineQueueEnabled(false);
+
+            // when
+            List<Deadline> claimed = deadlineQueue.claimDue(Instant.now(), 10);
+
+            // then
+            assertThat(claimed).isEmpty();
+            verify(stringRedisTemplate, never()).opsForZSet();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 
 import io.pinkspider.global.saga.SagaResult;
 import io.pinkspider.global.test.TestReflectionUtils;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue;
 import io.pinkspider.leveluptogethermvp.missionservice.application.MissionImageStorageService;
 import io.pinkspider.leveluptogethermvp.feedservice.domain.enums.FeedVisibility;
 import io.pinkspider.leveluptogethermvp.missionservice.domain.dto.MissionExecutionResponse;
@@ -79,6 +80,9 @@ class RegularMissionExecutionStrategyTest {
     @Mock
     private DailyMissionInstanceRepository dailyMissionInstanceRepository;
 
+    @Mock
+    private MissionDeadlineQueue missionDeadlineQueue;
+
     @InjectMocks
     private RegularMissionExecutionStrategy strategy;
 
@@ -163,6 +167,8 @@ class RegularMissionExecutionStrategyTest {
             // then
             assertThat(response).isNotNull();
             verify(executionRepository).save(any(MissionExecution.class));
+            verify(missionDeadlineQueue).schedule(eq(MissionDeadlineQueue.Kind.EXECUTION), eq(1L),
+                eq(execution.getStartedAt()), eq(testMission.getTargetDurationMinutes()));
         }
 
         @Test
@@ -9,11 +9,13 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.pinkspider.global.test.TestReflectionUtils;
+import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceBatchService;
+import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceBatchService.Result;
 import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceService;
 import io.pinkspider.leveluptogethermvp.missionservice.application.MissionExecutionService;
 import io.pinkspider.leveluptogethermvp.missionservice.config.MissionExecutionProperties;
@@ -39,13 +41,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.transaction.annotation.Transactional;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -79,11 +80,20 @@ class DailyMissionInstanceSchedulerTest {
     @Mock
     private io.pinkspider.global.facade.GamificationQueryFacade gamificationQueryFacade;
 
-    @InjectMocks
+    @Mock
+    private DailyMissionInstanceBatchService dailyMissionInstanceBatchService;
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // @Lazy self 파라미터가 있어 @InjectMocks 대신 수동 생성
     private DailyMissionInstanceScheduler scheduler;
 
-    @Captor
-    private ArgumentCaptor<List<DailyMissionInstance>> instanceListCaptor;
+    private DailyMissionInstanceScheduler scheduler(DailyMissionInstanceScheduler self) {
+        return new DailyMissionInstanceScheduler(instanceRepository, executionRepository, participantRepository,
+            dailyMissionInstanceService, missionExecutionService, missionExecutionProperties,
+            gamificationQueryFacade, dailyMissionInstanceBatchService, meterRegistry, self);
+    }
 
     private static final String USER_ID_1 = "user-1";
     private static final String USER_ID_2 = "user-2";
@@ -94,7 +104,12 @@ class DailyMissionInstanceSchedulerTest {
 
     @BeforeEach
     void setUp() {
+        // self 는 트랜잭션 프록시 자리 — 같은 mock 을 쓰는 인스턴스로 대신한다
+        DailyMissionInstanceScheduler target = scheduler(null);
+        scheduler = scheduler(target);
+
         when(missionExecutionProperties.getBaseExp()).thenReturn(10);
+        when(dailyMissionInstanceBatchService.generate(any(LocalDate.class))).thenReturn(new Result(0, 0, 0));
 
         mission = Mission.builder()
             .title("매일 30분 운동")
@@ -130,75 +145,55 @@ class DailyMissionInstanceSchedulerTest {
     class GenerateDailyInstancesTest {
 
         @Test
-        @DisplayName("활성 참여자에 대해 오늘 인스턴스를 생성한다")
+        @DisplayName("오늘 인스턴스 생성을 일괄 생성 서비스에 위임한다")
         void generateDailyInstances_success() {
             // given
             when(instanceRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(executionRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
             when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants())
-                .thenReturn(List.of(participant1, participant2));
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(1L), any(LocalDate.class)))
-                .thenReturn(false);
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(2L), any(LocalDate.class)))
-                .thenReturn(false);
-            when(instanceRepository.saveAll(any()))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(dailyMissionInstanceBatchService.generate(today())).thenReturn(new Result(2, 2, 0));
 
             // when
             scheduler.generateDailyInstances();
 
             // then
             verify(instanceRepository).markMissedInstances(any(LocalDate.class));
-            verify(instanceRepository).saveAll(instanceListCaptor.capture());
-
-            List<DailyMissionInstance> savedInstances = instanceListCaptor.getValue();
-            assertThat(savedInstances).hasSize(2);
+            verify(dailyMissionInstanceBatchService).generate(today());
+            verify(instanceRepository, never()).saveAll(any());
         }
 
         @Test
-        @DisplayName("활성 참여자가 없으면 인스턴스를 생성하지 않는다")
-        void generateDailyInstances_noParticipants() {
+        @DisplayName("단계별 소요 시간을 기록한다")
+        void generateDailyInstances_recordsStageTimers() {
             // given
             when(instanceRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(executionRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
-            when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
-            when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants())
-                .thenReturn(List.of());
 
             // when
             scheduler.generateDailyInstances();
 
             // then
-            verify(instanceRepository, never()).saveAll(any());
+            assertThat(meterRegistry.get("mission.daily-instance.stage").timers())
+                .extracting(timer -> timer.getId().getTag("stage"))
+                .containsExactlyInAnyOrder("auto_complete_instances", "auto_complete_executions",
+                    "mark_missed_instances", "mark_missed_executions", "create_instances");
         }
 
         @Test
-        @DisplayName("이미 오늘 인스턴스가 있으면 생성을 건너뛴다")
-        void generateDailyInstances_skipsExisting() {
+        @DisplayName("MISSED 처리가 실패하면 인스턴스를 생성하지 않는다")
+        void generateDailyInstances_stopsOnFailure() {
             // given
             when(instanceRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(executionRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
-            when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
-            when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants())
-                .thenReturn(List.of(participant1, participant2));
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(1L), any(LocalDate.class)))
-                .thenReturn(true);  // participant1은 이미 존재
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(2L), any(LocalDate.class)))
-                .thenReturn(false);
+            when(instanceRepository.markMissedInstances(any(LocalDate.class)))
+                .thenThrow(new RuntimeException("DB error"));
 
             // when
             scheduler.generateDailyInstances();
 
             // then
-            verify(instanceRepository).saveAll(instanceListCaptor.capture());
-
-            List<DailyMissionInstance> savedInstances = instanceListCaptor.getValue();
-            assertThat(savedInstances).hasSize(1);  // participant2만 생성
-            assertThat(savedInstances.get(0).getParticipant().getUserId()).isEqualTo(USER_ID_2);
+            verify(dailyMissionInstanceBatchService, never()).generate(any());
         }
 
         @Test
@@ -209,8 +204,6 @@ class DailyMissionInstanceSchedulerTest {
             when(executionRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(5);
             when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants())
-                .thenReturn(List.of());
 
             // when
             scheduler.generateDailyInstances();
@@ -218,6 +211,15 @@ class DailyMissionInstanceSchedulerTest {
             // then
             verify(instanceRepository).markMissedInstances(any(LocalDate.class));
         }
+
+        @Test
+        @DisplayName("지난 날짜 마감만 트랜잭션으로 묶고 인스턴스 생성은 바깥 트랜잭션 없이 호출한다")
+        void generateDailyInstances_notTransactional() throws NoSuchMethodException {
+            assertThat(DailyMissionInstanceScheduler.class.getMethod("generateDailyInstances")
+                .isAnnotationPresent(Transactional.class)).isFalse();
+            assertThat(DailyMissionInstanceScheduler.class.getMethod("closePastDay", LocalDate.class)
+                .isAnnotationPresent(Transactional.class)).isTrue();
+        }
     }
 
     @Nested
@@ -238,7 +240,6 @@ class DailyMissionInstanceSchedulerTest {
             when(executionRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
             when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants()).thenReturn(List.of());
 
             // when
             scheduler.generateDailyInstances();
@@ -264,7 +265,6 @@ class DailyMissionInstanceSchedulerTest {
                 .thenReturn(List.of(inProgressExecution));
             when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
             when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants()).thenReturn(List.of());
 
             // when
             scheduler.generateDailyInstances();
@@ -287,7 +287,6 @@ class DailyMissionInstanceSchedulerTest {
             when(executionRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
             when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants()).thenReturn(List.of());
             doThrow(new RuntimeException("Saga 실패")).when(dailyMissionInstanceService)
                 .completeInstance(any(), anyString(), isNull(), anyBoolean());
 
@@ -340,7 +339,6 @@ class DailyMissionInstanceSchedulerTest {
                 .thenReturn(List.of(inProgressExecution));
             when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
             when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants()).thenReturn(List.of());
             doThrow(new RuntimeException("Saga 실패")).when(missionExecutionService)
                 .completeExecution(any(Long.class), anyString(), isNull(), anyBoolean());
 
@@ -365,7 +363,6 @@ class DailyMissionInstanceSchedulerTest {
             when(executionRepository.findInProgressBeforeDate(any(LocalDate.class))).thenReturn(List.of());
             when(instanceRepository.markMissedInstances(any(LocalDate.class))).thenReturn(0);
             when(missionExecutionService.markMissedExecutions()).thenReturn(0);
-            when(participantRepository.findAllActivePinnedMissionParticipants()).thenReturn(List.of());
 
             // when
             scheduler.generateDailyInstances();
@@ -432,47 +429,18 @@ class DailyMissionInstanceSchedulerTest {
     class GenerateInstancesForDateTest {
 
         @Test
-        @DisplayName("특정 날짜의 인스턴스를 수동 생성한다")
+        @DisplayName("특정 날짜의 인스턴스를 수동 생성하고 생성 수를 반환한다")
         void generateInstancesForDate_success() {
             // given
             LocalDate targetDate = LocalDate.of(2026, 1, 15);
-            when(participantRepository.findAllActivePinnedMissionParticipants())
-                .thenReturn(List.of(participant1, participant2));
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(1L), eq(targetDate)))
-                .thenReturn(false);
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(2L), eq(targetDate)))
-                .thenReturn(false);
-            when(instanceRepository.save(any(DailyMissionInstance.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-            // when
-            int createdCount = scheduler.generateInstancesForDate(targetDate);
-
-            // then
-            assertThat(createdCount).isEqualTo(2);
-            verify(instanceRepository, times(2)).save(any(DailyMissionInstance.class));
-        }
-
-        @Test
-        @DisplayName("이미 존재하는 인스턴스는 생성하지 않는다")
-        void generateInstancesForDate_skipsExisting() {
-            // given
-            LocalDate targetDate = LocalDate.of(2026, 1, 15);
-            when(participantRepository.findAllActivePinnedMissionParticipants())
-                .thenReturn(List.of(participant1, participant2));
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(1L), eq(targetDate)))
-                .thenReturn(true);  // 이미 존재
-            when(instanceRepository.existsByParticipantIdAndInstanceDate(eq(2L), eq(targetDate)))
-                .thenReturn(false);
-            when(instanceRepository.save(any(DailyMissionInstance.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
+            when(dailyMissionInstanceBatchService.generate(targetDate)).thenReturn(new Result(2, 1, 0));
 
             // when
             int createdCount = scheduler.generateInstancesForDate(targetDate);
 
             // then
             assertThat(createdCount).isEqualTo(1);
-            verify(instanceRepository, times(1)).save(any(DailyMissionInstance.class));
+            verify(dailyMissionInstanceBatchService).generate(targetDate);
         }
 
         @Test
@@ -480,8 +448,6 @@ class DailyMissionInstanceSchedulerTest {
         void generateInstancesForDate_noParticipants() {
             // given
             LocalDate targetDate = LocalDate.of(2026, 1, 15);
-            when(participantRepository.findAllActivePinnedMissionParticipants())
-                .thenReturn(List.of());
 
             // when
             int createdCount = scheduler.generateInstancesForDate(targetDate);
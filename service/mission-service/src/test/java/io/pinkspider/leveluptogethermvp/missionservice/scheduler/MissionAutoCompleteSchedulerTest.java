@@ -7,6 +7,8 @@ import static org.mockito.Mockito.when;
 
 import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.MissionInterval;
 
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue;
+import io.pinkspider.leveluptogethermvp.missionservice.config.MissionAutoCompleteProperties;
 import io.pinkspider.leveluptogethermvp.missionservice.config.MissionExecutionProperties;
 import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.DailyMissionInstance;
 import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.Mission;
@@ -63,6 +65,12 @@ class MissionAutoCompleteSchedulerTest {
     @Mock
     private io.pinkspider.global.facade.GuildQueryFacade guildQueryFacade;
 
+    @Mock
+    private MissionDeadlineQueue missionDeadlineQueue;
+
+    @Mock
+    private MissionAutoCompleteProperties missionAutoCompleteProperties;
+
     @InjectMocks
     private MissionAutoCompleteScheduler scheduler;
 
@@ -677,6 +685,77 @@ class MissionAutoCompleteSchedulerTest {
         }
     }
 
+    @Nested
+    @DisplayName("마감 큐 보정 테스트")
+    class DeadlineQueueSweepTest {
+
+        private DailyMissionInstance targetInstance(long id, int elapsedMinutes) {
+            DailyMissionInstance instance = DailyMissionInstance.builder()
+                .participant(participant)
+                .instanceDate(java.time.LocalDate.now())
+                .sequenceNumber(1)
+                .missionTitle(mission.getTitle())
+                .status(ExecutionStatus.IN_PROGRESS)
+                .startedAt(LocalDateTime.now(ZoneId.of("UTC")).minusMinutes(elapsedMinutes))
+                .targetDurationMinutes(30)
+                .completionCount(0)
+                .totalExpEarned(0)
+                .isAutoCompleted(false)
+                .build();
+            setId(instance, id);
+            return instance;
+        }
+
+        private void givenSweep(List<DailyMissionInstance> instances) {
+            when(missionExecutionProperties.getWarningMinutesAfterStart()).thenReturn(List.of());
+            when(instanceRepository.findInProgressWithTargetDuration()).thenReturn(instances);
+            when(executionRepository.findInProgressWithTargetDuration()).thenReturn(List.of());
+            when(executionRepository.findExpiredInProgressExecutions(any())).thenReturn(List.of());
+            when(instanceRepository.findExpiredInProgressInstances(any())).thenReturn(List.of());
+            when(missionDeadlineQueue.isEnabled()).thenReturn(true);
+            when(missionAutoCompleteProperties.getSweepGraceMinutes()).thenReturn(2);
+        }
+
+        @Test
+        @DisplayName("마감 큐에 등록되면 유예 시간 안의 미션은 디스패처에 맡기고 유예를 넘긴 미션만 직접 종료한다")
+        void sweep_reschedulesWithinGrace() {
+            // given - 31분 경과(유예 안), 40분 경과(유예 초과), 목표 30분
+            DailyMissionInstance withinGrace = targetInstance(40L, 31);
+            DailyMissionInstance overdue = targetInstance(41L, 40);
+            givenSweep(List.of(withinGrace, overdue));
+            when(missionDeadlineQueue.scheduleAll(any())).thenReturn(true);
+
+            // when
+            scheduler.autoCompleteExpiredMissions();
+
+            // then
+            org.mockito.ArgumentCaptor<java.util.Collection<MissionDeadlineQueue.Deadline>> captor =
+                org.mockito.ArgumentCaptor.forClass(java.util.Collection.class);
+            org.mockito.Mockito.verify(missionDeadlineQueue, org.mockito.Mockito.atLeastOnce()).scheduleAll(captor.capture());
+            assertThat(captor.getAllValues().get(0))
+                .extracting(MissionDeadlineQueue.Deadline::id)
+                .containsExactly(40L);
+            org.mockito.Mockito.verify(dailyMissionInstanceService).completeInstance(41L, USER_ID, null, false);
+            org.mockito.Mockito.verify(dailyMissionInstanceService, org.mockito.Mockito.never())
+                .completeInstance(40L, USER_ID, null, false);
+        }
+
+        @Test
+        @DisplayName("마감 큐 등록에 실패하면 목표시간 도달 미션을 바로 직접 종료한다")
+        void sweep_completesDirectlyWhenQueueUnavailable() {
+            // given
+            DailyMissionInstance withinGrace = targetInstance(42L, 31);
+            givenSweep(List.of(withinGrace));
+            when(missionDeadlineQueue.scheduleAll(any())).thenReturn(false);
+
+            // when
+            scheduler.autoCompleteExpiredMissions();
+
+            // then
+            org.mockito.Mockito.verify(dailyMissionInstanceService).completeInstance(42L, USER_ID, null, false);
+        }
+    }
+
     @Nested
     @DisplayName("autoCompleteTargetReachedExecutions 분기 테스트")
     class AutoCompleteTargetReachedExecutionsTest {
@@ -0,0 +1,218 @@
+package io.pinkspider.leveluptogethermvp.missionservice.scheduler;
+
+import static io.pinkspider.global.test.TestReflectionUtils.setId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pinkspider.global.enums.MissionStatus;
+import io.pinkspider.leveluptogethermvp.missionservice.application.DailyMissionInstanceService;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue.Deadline;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionDeadlineQueue.Kind;
+import io.pinkspider.leveluptogethermvp.missionservice.application.MissionExecutionService;
+import io.pinkspider.leveluptogethermvp.missionservice.config.MissionAutoCompleteProperties;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.DailyMissionInstance;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.Mission;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.MissionExecution;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.entity.MissionParticipant;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.ExecutionStatus;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.MissionType;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.MissionVisibility;
+import io.pinkspider.leveluptogethermvp.missionservice.domain.enums.ParticipantStatus;
+import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.DailyMissionInstanceRepository;
+import io.pinkspider.leveluptogethermvp.missionservice.infrastructure.MissionExecutionRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MissionDeadlineDispatcher 단위 테스트")
+class MissionDeadlineDispatcherTest {
+
+    @Mock
+    private MissionDeadlineQueue deadlineQueue;
+
+    @Mock
+    private DailyMissionInstanceRepository instanceRepository;
+
+    @Mock
+    private MissionExecutionRepository executionRepository;
+
+    @Mock
+    private DailyMissionInstanceService dailyMissionInstanceService;
+
+    @Mock
+    private MissionExecutionService missionExecutionService;
+
+    private MissionAutoCompleteProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MissionDeadlineDispatcher dispatcher;
+
+    private static final String USER_ID = "user-1";
+
+    private Mission mission;
+    private MissionParticipant participant;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MissionAutoCompleteProperties();
+        properties.setBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        // 호출 스레드에서 바로 실행하는 작업자
+        dispatcher = new MissionDeadlineDispatcher(deadlineQueue, instanceRepository, executionRepository,
+            dailyMissionInstanceService, missionExecutionService, properties, Runnable::run, meterRegistry);
+
+        mission = Mission.builder()
+            .title("목표 30분 미션")
+            .creatorId(USER_ID)
+            .status(MissionStatus.IN_PROGRESS)
+            .visibility(MissionVisibility.PRIVATE)
+            .type(MissionType.PERSONAL)
+            .targetDurationMinutes(30)
+            .isPinned(false)
+            .build();
+        setId(mission, 1L);
+
+        participant = MissionParticipant.builder()
+            .mission(mission)
+            .userId(USER_ID)
+            .status(ParticipantStatus.IN_PROGRESS)
+            .build();
+        setId(participant, 1L);
+    }
+
+    private DailyMissionInstance instance(Long id, ExecutionStatus status, int elapsedMinutes) {
+        DailyMissionInstance instance = DailyMissionInstance.builder()
+            .participant(participant)
+            .instanceDate(LocalDate.now())
+            .sequenceNumber(1)
+            .missionTitle(mission.getTitle())
+            .status(status)
+            .startedAt(LocalDateTime.now(ZoneId.of("UTC")).minusMinutes(elapsedMinutes))
+            .targetDurationMinutes(30)
+            .build();
+        setId(instance, id);
+        return instance;
+    }
+
+    private double fired(String kind, String result) {
+        return meterRegistry.get("mission.auto-complete.fired").tag("kind", kind).tag("result", result)
+            .counter().count();
+    }
+
+    @Nested
+    @DisplayName("dispatchDue 테스트")
+    class DispatchDueTest {
+
+        @Test
+        @DisplayName("마감 도달 항목을 꺼내 Saga로 종료하고, 꺼낸 수가 batchSize면 다시 꺼낸다")
+        void dispatchDue_drainsBatches() {
+            // given
+            when(deadlineQueue.isEnabled()).thenReturn(true);
+            Instant due = Instant.now().minusSeconds(1);
+            when(deadlineQueue.claimDue(any(Instant.class), eq(2)))
+                .thenReturn(List.of(new Deadline(Kind.INSTANCE, 10L, due), new Deadline(Kind.INSTANCE, 11L, due)))
+                .thenReturn(List.of(new Deadline(Kind.EXECUTION, 20L, due)));
+            when(instanceRepository.findByIdWithParticipantAndMission(10L))
+                .thenReturn(Optional.of(instance(10L, ExecutionStatus.IN_PROGRESS, 31)));
+            when(instanceRepository.findByIdWithParticipantAndMission(11L))
+                .thenReturn(Optional.of(instance(11L, ExecutionStatus.COMPLETED, 31)));
+            MissionExecution execution = MissionExecution.builder()
+                .participant(participant)
+                .executionDate(LocalDate.now())
+                .status(ExecutionStatus.IN_PROGRESS)
+                .startedAt(LocalDateTime.now(ZoneId.of("UTC")).minusMinutes(31))
+                .build();
+            setId(execution, 20L);
+            when(executionRepository.findByIdWithParticipantAndMission(20L)).thenReturn(Optional.of(execution));
+
+            // when
+            dispatcher.dispatchDue();
+
+            // then
+            verify(dailyMissionInstanceService).completeInstance(10L, USER_ID, null, false);
+            verify(dailyMissionInstanceService, never()).completeInstance(eq(11L), anyString(), any(), anyBoolean());
+            verify(missionExecutionService).completeExecution(20L, USER_ID, null, false);
+            assertThat(fired("instance", "completed")).isEqualTo(1);
+            assertThat(fired("instance", "stale")).isEqualTo(1);
+            assertThat(fired("execution", "completed")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("마감 큐가 비활성화면 조회하지 않는다")
+        void dispatchDue_disabled() {
+            // given
+            when(deadlineQueue.isEnabled()).thenReturn(false);
+
+            // when
+            dispatcher.dispatchDue();
+
+            // then
+            verify(deadlineQueue, never()).claimDue(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("fire 테스트")
+    class FireTest {
+
+        @Test
+        @DisplayName("재시작되어 마감이 뒤로 밀렸으면 새 마감으로 재등록한다")
+        @SuppressWarnings("unchecked")
+        void fire_restarted_reschedules() {
+            // given - 마감은 도달했지만 10분 전에 다시 시작됨
+            DailyMissionInstance restarted = instance(10L, ExecutionStatus.IN_PROGRESS, 10);
+            when(instanceRepository.findByIdWithParticipantAndMission(10L)).thenReturn(Optional.of(restarted));
+
+            // when
+            dispatcher.fire(new Deadline(Kind.INSTANCE, 10L, Instant.now().minusSeconds(1)));
+
+            // then
+            ArgumentCaptor<Collection<Deadline>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(deadlineQueue).scheduleAll(captor.capture());
+            assertThat(captor.getValue()).singleElement()
+                .extracting(Deadline::dueAt)
+                .isEqualTo(MissionDeadlineQueue.dueAt(restarted.getStartedAt(), 30));
+            verify(dailyMissionInstanceService, never()).completeInstance(any(), anyString(), any(), anyBoolean());
+            assertThat(fired("instance", "rescheduled")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Saga 실패는 기록만 하고 예외를 전파하지 않는다")
+        void fire_failure_recorded() {
+            // given
+            when(instanceRepository.findByIdWithParticipantAndMission(10L))
+                .thenReturn(Optional.of(instance(10L, ExecutionStatus.IN_PROGRESS, 31)));
+            doThrow(new IllegalStateException("고정 미션 완료 실패"))
+                .when(dailyMissionInstanceService).completeInstance(10L, USER_ID, null, false);
+
+            // when
+            dispatcher.fire(new Deadline(Kind.INSTANCE, 10L, Instant.now().minusSeconds(60)));
+
+            // then
+            assertThat(fired("instance", "failed")).isEqualTo(1);
+            assertThat(meterRegistry.get("mission.auto-complete.lateness").timer().count()).isEqualTo(1);
+        }
+    }
+}
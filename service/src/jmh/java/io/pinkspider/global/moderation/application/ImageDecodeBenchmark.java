@@ -0,0 +1,121 @@
+package io.pinkspider.global.moderation.application;
+
+import io.pinkspider.global.moderation.config.ModerationProperties;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 이미지 모더레이션 전처리 벤치마크: 전체 디코딩 + Graphics2D 리사이즈 vs 서브샘플링 디코딩 + 직접 기록
+ *
+ * <p>힙 사용량은 GC 프로파일러의 {@code gc.alloc.rate.norm}(op당 할당 바이트)으로 비교한다.
+ *
+ * <p>실행: {@code ./gradlew :service:jmh -PjmhIncludes=ImageDecodeBenchmark -PjmhProfilers=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageDecodeBenchmark {
+
+    private static final int IMAGE_SIZE = 224;
+    private static final int IMAGE_PIXELS = IMAGE_SIZE * IMAGE_SIZE;
+
+    // 12MP 휴대폰 사진, 일반 업로드, 소형 PNG
+    @Param({"4000x3000:jpg", "1920x1080:jpg", "640x640:png"})
+    private String sample;
+
+    private byte[] encoded;
+    private FloatBuffer input;
+    private OnnxNsfwModerationService service;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] spec = sample.split("[x:]");
+        int width = Integer.parseInt(spec[0]);
+        int height = Integer.parseInt(spec[1]);
+
+        // 압축률이 실제 사진과 비슷하도록 그라데이션 + 잡음 패턴으로 생성
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        for (int y = 0; y < height; y += 3) {
+            for (int x = (y * 7) % 5; x < width; x += 5) {
+                image.setRGB(x, y, image.getRGB(x, y) ^ ((x * 31 + y * 17) & 0x1F1F1F));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, spec[2], out);
+        encoded = out.toByteArray();
+
+        input =
+                ByteBuffer.allocateDirect(3 * IMAGE_PIXELS * Float.BYTES)
+                        .order(ByteOrder.nativeOrder())
+                        .asFloatBuffer();
+        service = new OnnxNsfwModerationService(defaultProperties(), null, null);
+    }
+
+    /** @Param 조합마다 만든 추론 워커 스레드 정리 */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.close();
+    }
+
+    /** 기존 경로: 전체 해상도 디코딩 → 224x224 Graphics2D 리사이즈 → 픽셀별 getRGB */
+    @Benchmark
+    public FloatBuffer fullDecode() throws IOException {
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(encoded));
+        BufferedImage resized =
+                new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        g.drawImage(original, 0, 0, IMAGE_SIZE, IMAGE_SIZE, null);
+        g.dispose();
+
+        for (int y = 0; y < IMAGE_SIZE; y++) {
+            for (int x = 0; x < IMAGE_SIZE; x++) {
+                int rgb = resized.getRGB(x, y);
+                int i = y * IMAGE_SIZE + x;
+                input.put(i, (rgb & 0xFF) - 104.0f);
+                input.put(IMAGE_PIXELS + i, ((rgb >> 8) & 0xFF) - 117.0f);
+                input.put(2 * IMAGE_PIXELS + i, ((rgb >> 16) & 0xFF) - 123.0f);
+            }
+        }
+        return input;
+    }
+
+    /** 새 경로: 서브샘플링 디코딩 → 입력 버퍼에 직접 기록 */
+    @Benchmark
+    public FloatBuffer subsampledDecode() throws IOException {
+        BufferedImage image =
+                SubsampledImageDecoder.decode(
+                        new ByteArrayInputStream(encoded), IMAGE_SIZE, IMAGE_SIZE);
+        service.preprocessImage(image, input);
+        return input;
+    }
+
+    private static ModerationProperties defaultProperties() {
+        ModerationProperties properties = new ModerationProperties();
+        properties.setOnnx(new ModerationProperties.OnnxConfig());
+        return properties;
+    }
+}
@@ -0,0 +1,178 @@
+package io.pinkspider.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * /topic 노드 간 릴레이 벤치마크: 한 길드 채팅을 A 노드에서 발행해 B 노드 구독자 전원에게 전달될 때까지의 처리량
+ *
+ * <p>노드는 simple broker + {@link ClusterTopicRelay} 만 갖춘 경량 구성이고, Redis 는 실제 서버를 쓴다 (PUBLISH 와
+ * 구독 수신 왕복 포함). 결과 ops/s 가 길드당 초당 메시지 수다. {@code frameRoundTrip} 은 프레임 인코딩/디코딩 비용만 잰다.
+ *
+ * <p>로컬 Redis가 필요하다 (기본 {@code redis://localhost:6379}, 벤치마크 전용 샤드 채널만 사용).
+ *
+ * <p>실행: {@code ./gradlew :service:jmh -PjmhIncludes=ClusterTopicRelayBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClusterTopicRelayBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final String DESTINATION = "/topic/guild/1/chat";
+
+    @Param({"1", "50"})
+    private int subscribersPerNode;
+
+    @Param({"redis://localhost:6379"})
+    private String redisUrl;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisMessageListenerContainer container;
+    private SimpMessagingTemplate senderTemplate;
+    private final AtomicLong receivedOnB = new AtomicLong();
+    private byte[] payload;
+    private ClusterTopicFrame frame;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        URI uri = URI.create(redisUrl);
+        connectionFactory =
+                new LettuceConnectionFactory(
+                        new RedisStandaloneConfiguration(uri.getHost(), uri.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate redis = new StringRedisTemplate(connectionFactory);
+
+        WebSocketClusterProperties properties = new WebSocketClusterProperties();
+        properties.setMode("redis");
+
+        ExecutorSubscribableChannel brokerA = node(redis, properties, null);
+        ClusterTopicRelay relayB =
+                (ClusterTopicRelay) node(redis, properties, receivedOnB).getInterceptors().get(0);
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.addMessageListener(
+                relayB,
+                new ChannelTopic(
+                        ClusterTopicRelay.channel(
+                                ClusterTopicRelay.shardOf(DESTINATION, properties.getShards()))));
+        container.afterPropertiesSet();
+        container.start();
+
+        senderTemplate = new SimpMessagingTemplate(brokerA);
+        payload =
+                "{\"id\":1,\"guild_id\":1,\"sender_nickname\":\"길드원\",\"content\":\"오늘 미션 완료했어요!\"}"
+                        .getBytes(StandardCharsets.UTF_8);
+        frame = new ClusterTopicFrame(1L, DESTINATION, "application/json", payload);
+
+        // 구독이 붙을 때까지 대기
+        while (receivedOnB.get() == 0) {
+            send();
+            Thread.sleep(50);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.stop();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long guildChatAcrossNodes() throws InterruptedException {
+        long target = receivedOnB.get() + (long) BATCH * subscribersPerNode;
+        for (int i = 0; i < BATCH; i++) {
+            send();
+        }
+        while (receivedOnB.get() < target) {
+            Thread.onSpinWait();
+        }
+        return receivedOnB.get();
+    }
+
+    @Benchmark
+    public ClusterTopicFrame frameRoundTrip() {
+        return ClusterTopicFrame.decode(frame.encode());
+    }
+
+    private void send() {
+        SimpMessageHeaderAccessor accessor =
+                SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        senderTemplate.send(
+                DESTINATION, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+
+    /** simple broker + 릴레이 + 구독자로 구성된 노드의 brokerChannel 을 돌려준다 */
+    private ExecutorSubscribableChannel node(
+            StringRedisTemplate redis, WebSocketClusterProperties properties, AtomicLong received) {
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        SimpleBrokerMessageHandler broker =
+                new SimpleBrokerMessageHandler(
+                        clientInbound, clientOutbound, brokerChannel, List.of("/topic"));
+        broker.start();
+        brokerChannel.addInterceptor(
+                new ClusterTopicRelay(redis, brokerChannel, properties, new SimpleMeterRegistry()));
+        if (received != null) {
+            clientOutbound.subscribe(
+                    message -> {
+                        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders())
+                                == SimpMessageType.MESSAGE) {
+                            received.incrementAndGet();
+                        }
+                    });
+        }
+
+        for (int i = 0; i < subscribersPerNode; i++) {
+            String sessionId = "s" + i;
+            SimpMessageHeaderAccessor connect =
+                    SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+            connect.setSessionId(sessionId);
+            connect.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[] {0, 0});
+            clientInbound.send(
+                    MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+            SimpMessageHeaderAccessor subscribe =
+                    SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            subscribe.setSessionId(sessionId);
+            subscribe.setSubscriptionId("sub");
+            subscribe.setDestination(DESTINATION);
+            clientInbound.send(
+                    MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        }
+        return brokerChannel;
+    }
+}
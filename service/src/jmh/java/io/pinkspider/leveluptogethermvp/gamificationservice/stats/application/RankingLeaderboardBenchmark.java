@@ -0,0 +1,112 @@
+package io.pinkspider.leveluptogethermvp.gamificationservice.stats.application;
+
+import io.lettuce.core.Range;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 랭킹 순위 조회 벤치마크: COUNT(점수 초과) 전체 스캔 vs Redis Sorted Set (ZSCORE + ZCOUNT, ZREVRANK +
+ * ZREVRANGE)
+ *
+ * <p>전체 스캔은 user_stats 순차 스캔에 해당하는 메모리 내 비교(네트워크/디스크 비용 제외)로, 사용자 수에 비례해 느려진다.
+ * Redis 측은 네트워크 왕복을 포함한 실제 명령 지연이다.
+ *
+ * <p>로컬 Redis가 필요하다 (기본 {@code redis://localhost:6379}, 전용 키만 쓰고 종료 시 삭제).
+ *
+ * <p>실행: {@code ./gradlew :service:jmh -PjmhIncludes=RankingLeaderboardBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankingLeaderboardBenchmark {
+
+    private static final String KEY = "bench:ranking:leaderboard";
+    private static final int SEED_BATCH = 10_000;
+    private static final int NEARBY_RANGE = 5;
+
+    @Param({"1000000"})
+    private int users;
+
+    @Param({"redis://localhost:6379"})
+    private String redisUrl;
+
+    private long[] points;
+    private RedisClient client;
+    private StatefulRedisConnection<String, String> connection;
+    private RedisCommands<String, String> redis;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        // 랭킹 포인트 분포: 대부분 낮은 점수, 소수 상위권 (동점 다수)
+        SplittableRandom seed = new SplittableRandom(42);
+        points = new long[users];
+        for (int i = 0; i < users; i++) {
+            double u = seed.nextDouble();
+            points[i] = (long) (u * u * u * 50_000);
+        }
+
+        client = RedisClient.create(redisUrl);
+        connection = client.connect();
+        redis = connection.sync();
+        redis.del(KEY);
+        for (int from = 0; from < users; from += SEED_BATCH) {
+            int to = Math.min(users, from + SEED_BATCH);
+            @SuppressWarnings("unchecked")
+            ScoredValue<String>[] batch = new ScoredValue[to - from];
+            for (int i = from; i < to; i++) {
+                batch[i - from] = ScoredValue.just(points[i], "user-" + i);
+            }
+            redis.zadd(KEY, batch);
+        }
+        random = new SplittableRandom(7);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redis.del(KEY);
+        connection.close();
+        client.shutdown();
+    }
+
+    @Benchmark
+    public long fullScanRank() {
+        long mine = points[random.nextInt(users)];
+        long above = 0;
+        for (long p : points) {
+            if (p > mine) {
+                above++;
+            }
+        }
+        return above + 1;
+    }
+
+    @Benchmark
+    public long sortedSetRank() {
+        String member = "user-" + random.nextInt(users);
+        Double score = redis.zscore(KEY, member);
+        return redis.zcount(KEY, Range.create(Math.nextUp(score), Double.POSITIVE_INFINITY)) + 1;
+    }
+
+    @Benchmark
+    public List<ScoredValue<String>> sortedSetNearby() {
+        String member = "user-" + random.nextInt(users);
+        long position = redis.zrevrank(KEY, member);
+        return redis.zrevrangeWithScores(
+                KEY, Math.max(0, position - NEARBY_RANGE), position + NEARBY_RANGE);
+    }
+}
@@ -0,0 +1,107 @@
+package io.pinkspider.leveluptogethermvp.guildservice.application;
+
+import io.pinkspider.leveluptogethermvp.guildservice.application.GuildHeadquartersGrid.Entry;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 길드 거점 검증/지도 조회 벤치마크: 전체 거점 하버사인 비교 vs 격자 인덱스
+ *
+ * <p>거점은 한반도 범위에 무작위로 흩고, 절반은 서울 일대에 몰아 밀집 지역을 만든다. 전체 스캔은
+ * findAllWithHeadquarters 결과를 메모리에서 훑는 비용(DB 조회/엔티티 로딩 제외)이다.
+ *
+ * <p>실행: {@code ./gradlew :service:jmh -PjmhIncludes=GuildHeadquartersGridBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GuildHeadquartersGridBenchmark {
+
+    private static final double EARTH_RADIUS_METERS = 6371000.0;
+    private static final int BASE_RADIUS = 100;
+    private static final int RADIUS_INCREASE = 20;
+    private static final int LEVEL_TIER_SIZE = 10;
+
+    @Param({"100000"})
+    private int guilds;
+
+    private Entry[] entries;
+    private GuildHeadquartersGrid grid;
+    private int maxRadius;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom seed = new SplittableRandom(42);
+        entries = new Entry[guilds];
+        grid = new GuildHeadquartersGrid();
+        int maxLevel = 1;
+        for (int i = 0; i < guilds; i++) {
+            boolean seoul = i % 2 == 0;
+            double latitude = seoul ? 37.45 + seed.nextDouble() * 0.25 : 33.0 + seed.nextDouble() * 5.5;
+            double longitude = seoul ? 126.8 + seed.nextDouble() * 0.35 : 125.0 + seed.nextDouble() * 4.5;
+            int level = 1 + (int) (Math.pow(seed.nextDouble(), 3) * 50);
+            entries[i] = new Entry((long) i, "길드 " + i, null, 1L, level, latitude, longitude);
+            grid.put(entries[i]);
+            maxLevel = Math.max(maxLevel, level);
+        }
+        maxRadius = protectionRadius(maxLevel);
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public int fullScanValidate() {
+        Entry probe = entries[random.nextInt(guilds)];
+        int conflicts = 0;
+        for (Entry entry : entries) {
+            if (distance(probe.latitude(), probe.longitude(), entry.latitude(), entry.longitude())
+                < protectionRadius(entry.level())) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    @Benchmark
+    public int gridValidate() {
+        Entry probe = entries[random.nextInt(guilds)];
+        int conflicts = 0;
+        for (Entry entry : grid.near(probe.latitude(), probe.longitude(), maxRadius)) {
+            if (distance(probe.latitude(), probe.longitude(), entry.latitude(), entry.longitude())
+                < protectionRadius(entry.level())) {
+                conflicts++;
+            }
+        }
+        return conflicts;
+    }
+
+    /** 서울 도심 확대 화면 (약 2.2km x 2.2km) */
+    @Benchmark
+    public List<Entry> gridViewport() {
+        double latitude = 37.46 + random.nextDouble() * 0.22;
+        double longitude = 126.81 + random.nextDouble() * 0.32;
+        return grid.within(latitude, longitude, latitude + 0.02, longitude + 0.025);
+    }
+
+    private static int protectionRadius(int level) {
+        return BASE_RADIUS + (level / LEVEL_TIER_SIZE) * RADIUS_INCREASE;
+    }
+
+    private static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double deltaLat = Math.toRadians(lat2 - lat1);
+        double deltaLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
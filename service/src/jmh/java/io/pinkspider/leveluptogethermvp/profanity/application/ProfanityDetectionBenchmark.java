@@ -0,0 +1,149 @@
+package io.pinkspider.leveluptogethermvp.profanity.application;
+
+import io.pinkspider.global.validation.KoreanTextNormalizer;
+import io.pinkspider.global.validation.NormalizedText;
+import io.pinkspider.leveluptogethermvp.profanity.matcher.ProfanityDictionary;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 금칙어 탐지 벤치마크: 기존 단어별 루프 vs 컴파일된 사전 (Aho-Corasick, STRICT 유사어 인덱스)
+ *
+ * <p>실행: {@code ./gradlew :service:jmh -PjmhIncludes=ProfanityDetectionBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProfanityDetectionBenchmark {
+
+    private static final String CLEAN_CONTENT =
+            "오늘 아침 러닝 미션 완료했어요! 날씨가 좋아서 한강까지 뛰었는데 생각보다 힘들었네요. "
+                    + "내일은 길드원들이랑 같이 뛰기로 했습니다. 다들 화이팅 Let's go 2024";
+
+    private static final int LEVENSHTEIN_THRESHOLD = 1;
+
+    @Param({"5000"})
+    private int dictionarySize;
+
+    private final KoreanTextNormalizer normalizer = new KoreanTextNormalizer();
+
+    private Set<String> words;
+    private ProfanityDictionary dictionary;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new LinkedHashSet<>();
+        while (words.size() < dictionarySize) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(3);
+            for (int i = 0; i < length; i++) {
+                // 실제 텍스트와 겹치지 않도록 사용 빈도가 낮은 음절 대역에서 생성
+                word.append((char) (0xD000 + random.nextInt(0x7A3)));
+            }
+            words.add(word.toString());
+        }
+        dictionary = ProfanityDictionary.compile(words, normalizer);
+    }
+
+    @Benchmark
+    public boolean lenientLoop() {
+        for (String word : words) {
+            if (CLEAN_CONTENT.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean lenientAutomaton() {
+        return dictionary.findRawMatch(CLEAN_CONTENT) != null;
+    }
+
+    /** 기존 detectNormal 루프 (단어마다 정규화/초성 추출 반복) */
+    @Benchmark
+    public boolean normalLoop() {
+        String normalizedContent = normalizer.normalize(CLEAN_CONTENT);
+        for (String word : words) {
+            String normalizedWord = normalizer.normalize(word);
+            if (!normalizedWord.isEmpty() && normalizedContent.contains(normalizedWord)) {
+                return true;
+            }
+            String contentChosung = normalizer.extractChosung(CLEAN_CONTENT);
+            String wordChosung = normalizer.extractChosung(word);
+            if (!wordChosung.isEmpty() && contentChosung.contains(wordChosung)) {
+                return true;
+            }
+            String wordChosungFromOriginal =
+                    normalizer.extractChosung(normalizer.extractKoreanOnly(word));
+            if (!wordChosungFromOriginal.isEmpty()
+                    && normalizer.normalize(CLEAN_CONTENT).contains(wordChosungFromOriginal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean normalAutomaton() {
+        NormalizedText text = normalizer.analyze(CLEAN_CONTENT);
+        return dictionary.findNormalizedMatch(text.normalized()) != null
+                || dictionary.findChosungMatch(text.chosung()) != null
+                || dictionary.findChosungMatch(text.normalized()) != null;
+    }
+
+    /** 기존 detectStrict 루프 (단어 × 위치마다 substring + 전체 DP) */
+    @Benchmark
+    public boolean strictLoop() {
+        String normalizedContent = normalizer.normalize(CLEAN_CONTENT);
+        for (String word : words) {
+            String normalizedWord = normalizer.normalize(word);
+            int windowSize = normalizedWord.length();
+            for (int i = 0; i <= normalizedContent.length() - windowSize; i++) {
+                int end =
+                        Math.min(
+                                i + windowSize + LEVENSHTEIN_THRESHOLD,
+                                normalizedContent.length());
+                int distance =
+                        normalizer.levenshteinDistance(
+                                normalizedContent.substring(i, end), normalizedWord);
+                if (distance > 0 && distance <= LEVENSHTEIN_THRESHOLD) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean strictIndex() {
+        NormalizedText text = normalizer.analyze(CLEAN_CONTENT);
+        return dictionary.findSimilarMatch(text.normalized(), LEVENSHTEIN_THRESHOLD) != null;
+    }
+
+    @Benchmark
+    public String normalizeString() {
+        return normalizer.normalize(CLEAN_CONTENT);
+    }
+
+    @Benchmark
+    public NormalizedText normalizeAnalyze() {
+        return normalizer.analyze(CLEAN_CONTENT);
+    }
+
+    @Benchmark
+    public ProfanityDictionary compileDictionary() {
+        return ProfanityDictionary.compile(words, normalizer);
+    }
+}
@@ -0,0 +1,199 @@
+package io.pinkspider.global.component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 키 공간 순회/삭제 유틸리티 (KEYS 대체)
+ *
+ * <p>KEYS 는 전체 키를 한 번에 훑어 그동안 Redis 를 막으므로, 커서 기반 SCAN 으로 scan-count 씩 나눠 순회한다.
+ * max-keys-per-second 로 순회 속도를 제한하고, {@link #scanResumable} 은 커서를 {@code keyspace:scan:{job}} 에 남겨
+ * 다음 실행이 이어서 순회한다. 삭제는 UNLINK(값 해제는 백그라운드)를 unlink-batch-size 씩 파이프라인으로 보낸다.
+ *
+ * <p>SCAN 은 Lua 로 한 단계씩 호출한다 (드라이버와 무관하게 커서 값을 꺼내 저장하기 위함). SCAN 특성상 순회 중 추가/삭제된
+ * 키는 포함되지 않을 수 있고, 같은 키가 두 번 나올 수 있으므로 처리는 멱등이어야 한다.
+ */
+@Component
+@Slf4j
+public class RedisKeyspaceScanner {
+
+    static final String CURSOR_KEY_PREFIX = "keyspace:scan:";
+
+    private static final String START_CURSOR = "0";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCAN_STEP =
+            new DefaultRedisScript<>(
+                    "return redis.call('SCAN', ARGV[1], 'MATCH', ARGV[2], 'COUNT', ARGV[3])",
+                    List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int scanCount;
+    private final int maxKeysPerSecond;
+    private final int unlinkBatchSize;
+    private final Duration cursorTtl;
+
+    @Autowired
+    public RedisKeyspaceScanner(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${redis.keyspace.scan-count:500}") int scanCount,
+            @Value("${redis.keyspace.max-keys-per-second:20000}") int maxKeysPerSecond,
+            @Value("${redis.keyspace.unlink-batch-size:200}") int unlinkBatchSize,
+            @Value("${redis.keyspace.cursor-ttl:2d}") Duration cursorTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.scanCount = Math.max(1, scanCount);
+        this.maxKeysPerSecond = maxKeysPerSecond;
+        this.unlinkBatchSize = Math.max(1, unlinkBatchSize);
+        this.cursorTtl = cursorTtl;
+    }
+
+    /** 순회 결과 (scanned: 넘겨준 키 수, completed: 키 공간을 끝까지 돌았는지) */
+    public record ScanProgress(long scanned, boolean completed) {}
+
+    /**
+     * 패턴에 맞는 키를 처음부터 끝까지 순회하며 SCAN 한 단계마다 batchConsumer 를 호출한다.
+     *
+     * @return 순회 결과 (중단되면 completed=false)
+     */
+    public ScanProgress scan(String pattern, Consumer<List<String>> batchConsumer) {
+        return scanFrom(START_CURSOR, pattern, 0, batchConsumer, cursor -> {});
+    }
+
+    /**
+     * 지난 실행이 남긴 커서부터 이어서 순회한다. maxKeys(0 이하면 제한 없음) 만큼 넘기면 멈추고 커서를 저장하며, 끝까지 돌면
+     * 커서를 지워 다음 실행은 처음부터 시작한다.
+     *
+     * @param job 커서 저장 이름 (작업마다 고유)
+     */
+    public ScanProgress scanResumable(
+            String job, String pattern, long maxKeys, Consumer<List<String>> batchConsumer) {
+        String cursorKey = CURSOR_KEY_PREFIX + job;
+        String saved = stringRedisTemplate.opsForValue().get(cursorKey);
+        String start = saved != null ? saved : START_CURSOR;
+
+        ScanProgress progress =
+                scanFrom(
+                        start,
+                        pattern,
+                        maxKeys,
+                        batchConsumer,
+                        cursor ->
+                                stringRedisTemplate
+                                        .opsForValue()
+                                        .set(cursorKey, cursor, cursorTtl));
+        if (progress.completed()) {
+            stringRedisTemplate.delete(cursorKey);
+        }
+        log.debug(
+                "Keyspace scan {} - pattern: {}, from: {}, scanned: {}, completed: {}",
+                job,
+                pattern,
+                start,
+                progress.scanned(),
+                progress.completed());
+        return progress;
+    }
+
+    /**
+     * 키를 unlink-batch-size 씩 나눠 UNLINK 를 파이프라인으로 보낸다.
+     *
+     * @return 실제로 삭제된 키 수
+     */
+    public long unlink(Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+        List<byte[][]> batches = new ArrayList<>();
+        List<String> all = List.copyOf(keys);
+        for (int from = 0; from < all.size(); from += unlinkBatchSize) {
+            List<String> batch = all.subList(from, Math.min(all.size(), from + unlinkBatchSize));
+            batches.add(
+                    batch.stream()
+                            .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                            .toArray(byte[][]::new));
+        }
+
+        List<Object> results =
+                stringRedisTemplate.executePipelined(
+                        (RedisCallback<Object>)
+                                connection -> {
+                                    for (byte[][] batch : batches) {
+                                        connection.keyCommands().unlink(batch);
+                                    }
+                                    return null;
+                                });
+        return results.stream()
+                .filter(Number.class::isInstance)
+                .mapToLong(result -> ((Number) result).longValue())
+                .sum();
+    }
+
+    /**
+     * 패턴에 맞는 키를 SCAN 으로 찾아 UNLINK 한다.
+     *
+     * @return 삭제된 키 수
+     */
+    public long unlinkByPattern(String pattern) {
+        AtomicLong unlinked = new AtomicLong();
+        scan(pattern, keys -> unlinked.addAndGet(unlink(keys)));
+        return unlinked.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ScanProgress scanFrom(
+            String startCursor,
+            String pattern,
+            long maxKeys,
+            Consumer<List<String>> batchConsumer,
+            Consumer<String> checkpoint) {
+        String cursor = startCursor;
+        long scanned = 0;
+        do {
+            List<Object> step =
+                    stringRedisTemplate.execute(
+                            SCAN_STEP, List.of(), cursor, pattern, String.valueOf(scanCount));
+            cursor = String.valueOf(step.get(0));
+            List<String> keys = (List<String>) step.get(1);
+
+            if (!keys.isEmpty()) {
+                batchConsumer.accept(keys);
+                scanned += keys.size();
+            }
+            if (START_CURSOR.equals(cursor)) {
+                return new ScanProgress(scanned, true);
+            }
+            checkpoint.accept(cursor);
+            if (!throttle(keys.size())) {
+                break;
+            }
+        } while (maxKeys <= 0 || scanned < maxKeys);
+        return new ScanProgress(scanned, false);
+    }
+
+    /** max-keys-per-second 에 맞춰 쉰다. 인터럽트되면 false (순회 중단) */
+    private boolean throttle(int keyCount) {
+        if (maxKeysPerSecond <= 0 || keyCount == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(keyCount * 1000L / maxKeysPerSecond);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
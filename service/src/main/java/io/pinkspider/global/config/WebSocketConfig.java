@@ -1,6 +1,8 @@
 package io.pinkspider.global.config;
 
+import io.pinkspider.global.websocket.ClusterTopicRelay;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -17,6 +19,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
     private final WebSocketCookieHandshakeInterceptor cookieHandshakeInterceptor;
+    private final ObjectProvider<ClusterTopicRelay> clusterTopicRelay;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -35,6 +38,9 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.enableSimpleBroker("/topic", "/queue");
         registry.setApplicationDestinationPrefixes("/app");
         registry.setUserDestinationPrefix("/user");
+        // websocket.cluster.mode=redis 이면 서버 발행 /topic 메시지를 다른 노드로 복제
+        clusterTopicRelay.ifAvailable(
+                relay -> registry.configureBrokerChannel().interceptors(relay));
     }
 
     @Override
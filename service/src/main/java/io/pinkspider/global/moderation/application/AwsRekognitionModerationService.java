@@ -66,6 +66,15 @@ public class AwsRekognitionModerationService implements ImageModerationService {
         return "aws-rekognition";
     }
 
+    @Override
+    public String getVerdictVersion() {
+        return getProviderName()
+                + ":min-confidence="
+                + properties.getMinConfidence()
+                + ":blocked="
+                + String.join(",", properties.getBlockedCategories());
+    }
+
     private ImageModerationResult analyzeImageBytes(byte[] imageBytes) {
         log.debug("AWS Rekognition 스켈레톤 모드: 실제 API 호출 없이 안전한 것으로 처리");
         return ImageModerationResult.safe();
@@ -0,0 +1,281 @@
+package io.pinkspider.global.moderation.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.pinkspider.global.moderation.config.ModerationProperties;
+import io.pinkspider.global.moderation.domain.dto.ImageModerationResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 콘텐츠 해시 기반 검증 결과 캐시 (데코레이터)
+ *
+ * <p>업로드 바이트의 SHA-256을 스트리밍으로 계산해 키로 사용한다. 재시도 업로드, 같은 인증 사진의 피드/길드 재게시, 프로필 이미지 재사용처럼
+ * 동일한 바이트가 다시 들어오면 디코딩과 추론을 건너뛴다.
+ *
+ * <p>조회 순서: 로컬(LRU + TTL) → Redis(선택) → 실제 검증. 검증 실패로 fail-open 된 결과(provider가 다른 경우)는 캐시하지 않는다.
+ *
+ * <p>Redis 키: moderation:image:{제공자}:{판정 기준 버전}:{SHA-256}. 판정 기준 버전은 {@link
+ * ImageModerationService#getVerdictVersion()}(모델, 임계값)의 해시로, 모델이나 임계값을 바꾸면 이전 판정을 재사용하지 않는다.
+ */
+@Slf4j
+public class CachingImageModerationService implements ImageModerationService, AutoCloseable {
+
+    private static final String CACHE_KEY_PREFIX = "moderation:image:";
+    private static final String SAFE_VALUE = "SAFE";
+    private static final String UNSAFE_PREFIX = "UNSAFE:";
+    private static final int DIGEST_BUFFER_SIZE = 8 * 1024;
+
+    private final ImageModerationService delegate;
+    private final String verdictVersion;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration redisTtl;
+    private final LocalVerdictCache localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    /**
+     * @param delegate 실제 검증 서비스
+     * @param cacheConfig 캐시 설정
+     * @param redisTemplate Redis 템플릿 (null이면 로컬 캐시만 사용)
+     * @param meterRegistry 지표 레지스트리
+     */
+    public CachingImageModerationService(
+            ImageModerationService delegate,
+            ModerationProperties.CacheConfig cacheConfig,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.verdictVersion = versionSegment(delegate.getVerdictVersion());
+        this.redisTemplate = cacheConfig.isRedisEnabled() ? redisTemplate : null;
+        this.redisTtl = cacheConfig.getRedisTtl();
+        this.localCache =
+                new LocalVerdictCache(cacheConfig.getLocalMaxSize(), cacheConfig.getLocalTtl());
+
+        this.localHitCounter = cacheCounter(meterRegistry, "local");
+        this.redisHitCounter = cacheCounter(meterRegistry, "redis");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+        Gauge.builder(
+                        "moderation.verdict.cache.hit.ratio",
+                        this,
+                        CachingImageModerationService::hitRatio)
+                .description("검증 결과 캐시 적중률 (로컬 + Redis)")
+                .register(meterRegistry);
+        Gauge.builder("moderation.verdict.cache.local.size", localCache, LocalVerdictCache::size)
+                .description("로컬 검증 결과 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ImageModerationResult analyzeImage(MultipartFile imageFile) {
+        String digest;
+        try {
+            digest = digest(imageFile);
+        } catch (IOException e) {
+            log.warn("이미지 해시 계산 실패, 캐시 없이 검증: {}", e.getMessage());
+            return delegate.analyzeImage(imageFile);
+        }
+
+        ImageModerationResult cached = localCache.get(digest);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+
+        cached = getFromRedis(digest);
+        if (cached != null) {
+            redisHitCounter.increment();
+            localCache.put(digest, cached);
+            return cached;
+        }
+
+        missCounter.increment();
+        ImageModerationResult result = delegate.analyzeImage(imageFile);
+        if (getProviderName().equals(result.getProvider())) {
+            localCache.put(digest, result);
+            putToRedis(digest, result);
+        }
+        return result;
+    }
+
+    @Override
+    public ImageModerationResult analyzeImageUrl(String imageUrl) {
+        return delegate.analyzeImageUrl(imageUrl);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return delegate.isEnabled();
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public String getVerdictVersion() {
+        return delegate.getVerdictVersion();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    double hitRatio() {
+        double hits = localHitCounter.count() + redisHitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    private ImageModerationResult getFromRedis(String digest) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(buildCacheKey(digest));
+            return value == null ? null : fromCacheValue(value);
+        } catch (Exception e) {
+            log.warn("검증 결과 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putToRedis(String digest, ImageModerationResult result) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(buildCacheKey(digest), toCacheValue(result), redisTtl);
+        } catch (Exception e) {
+            log.warn("검증 결과 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 제공자, 모델, 임계값이 바뀌면 판정 기준이 달라지므로 키에 포함
+    private String buildCacheKey(String digest) {
+        return CACHE_KEY_PREFIX + getProviderName() + ":" + verdictVersion + ":" + digest;
+    }
+
+    /** 판정 기준 버전 문자열을 키에 넣기 좋은 짧은 해시로 변환 */
+    static String versionSegment(String verdictVersion) {
+        try {
+            byte[] hash =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(verdictVersion.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private String toCacheValue(ImageModerationResult result) {
+        if (result.isSafe()) {
+            return SAFE_VALUE;
+        }
+        String reason = result.getRejectionReason();
+        return UNSAFE_PREFIX + (reason == null ? "" : reason);
+    }
+
+    private ImageModerationResult fromCacheValue(String value) {
+        if (SAFE_VALUE.equals(value)) {
+            return ImageModerationResult.builder()
+                    .safe(true)
+                    .overallConfidence(100.0)
+                    .detectedLabels(List.of())
+                    .categoryScores(Map.of())
+                    .provider(getProviderName())
+                    .build();
+        }
+        if (value.startsWith(UNSAFE_PREFIX)) {
+            String reason = value.substring(UNSAFE_PREFIX.length());
+            return ImageModerationResult.unsafe(reason, List.of(), Map.of(), getProviderName());
+        }
+        return null;
+    }
+
+    /** 업로드 전체를 메모리에 올리지 않고 스트리밍으로 SHA-256 계산 */
+    static String digest(MultipartFile file) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+
+        try (InputStream in = file.getInputStream()) {
+            byte[] buffer = new byte[DIGEST_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("moderation.verdict.cache.requests")
+                .description("검증 결과 캐시 조회")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** 크기 제한 LRU + 쓰기 기준 TTL 로컬 캐시 */
+    static final class LocalVerdictCache {
+
+        private final int maxSize;
+        private final long ttlNanos;
+        private final LinkedHashMap<String, Entry> entries;
+
+        LocalVerdictCache(int maxSize, Duration ttl) {
+            this.maxSize = Math.max(1, maxSize);
+            this.ttlNanos = ttl.toNanos();
+            this.entries =
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                            return size() > LocalVerdictCache.this.maxSize;
+                        }
+                    };
+        }
+
+        synchronized ImageModerationResult get(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.writtenAt > ttlNanos) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+
+        synchronized void put(String key, ImageModerationResult result) {
+            entries.put(key, new Entry(result, System.nanoTime()));
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        private record Entry(ImageModerationResult result, long writtenAt) {}
+    }
+}
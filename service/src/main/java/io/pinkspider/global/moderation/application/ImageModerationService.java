@@ -40,4 +40,15 @@ public interface ImageModerationService {
      * @return 제공자 이름 (none, onnx-nsfw, aws-rekognition 등)
      */
     String getProviderName();
+
+    /**
+     * 판정 기준 버전 (제공자, 모델, 임계값)
+     *
+     * <p>검증 결과 캐시 키에 포함되므로 같은 이미지라도 판정이 달라질 수 있는 설정이 바뀌면 값도 바뀌어야 한다.
+     *
+     * @return 판정 기준 식별 문자열
+     */
+    default String getVerdictVersion() {
+        return getProviderName();
+    }
 }
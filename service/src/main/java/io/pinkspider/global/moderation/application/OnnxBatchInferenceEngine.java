@@ -0,0 +1,239 @@
+package io.pinkspider.global.moderation.application;
+
+import ai.onnxruntime.NodeInfo;
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.TensorInfo;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ONNX 마이크로 배치 추론 엔진
+ *
+ * <p>동시에 들어온 요청을 최대 {@code batchWindowMillis} 동안 모아 하나의 NCHW 배치 텐서로 한 번에 추론한다. 단일 워커 스레드가 세션을
+ * 독점하므로 배치 입력용 direct {@link FloatBuffer}를 재사용할 수 있고, 요청 스레드는 풀에서 빌린 이미지 1장 크기의 입력 슬롯만 채운다.
+ *
+ * <p>모델의 배치 차원이 고정(1)이면 배치 크기를 1로 제한한다.
+ */
+@Slf4j
+class OnnxBatchInferenceEngine implements AutoCloseable {
+
+    static final int CHANNELS = 3;
+
+    private final OrtEnvironment env;
+    private final OrtSession session;
+    private final int imageSize;
+    private final int imageFloats;
+    private final int maxBatchSize;
+    private final long batchWindowNanos;
+    private final BlockingQueue<InferenceRequest> queue;
+    private final BlockingQueue<FloatBuffer> inputPool;
+    private final FloatBuffer batchBuffer;
+    private final Thread worker;
+
+    private final Timer queueWaitTimer;
+    private final Timer inferenceTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean running = true;
+
+    OnnxBatchInferenceEngine(
+            OrtEnvironment env,
+            OrtSession session,
+            int imageSize,
+            int maxBatchSize,
+            long batchWindowMillis,
+            int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.env = env;
+        this.session = session;
+        this.imageSize = imageSize;
+        this.imageFloats = CHANNELS * imageSize * imageSize;
+        this.maxBatchSize = resolveBatchSize(session, Math.max(1, maxBatchSize));
+        this.batchWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, batchWindowMillis));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.inputPool = new ArrayBlockingQueue<>(Math.max(1, queueCapacity) + this.maxBatchSize);
+        this.batchBuffer = allocateDirect(this.maxBatchSize * imageFloats);
+
+        this.queueWaitTimer =
+                Timer.builder("moderation.onnx.queue.wait")
+                        .description("추론 대기열 대기 시간")
+                        .register(meterRegistry);
+        this.inferenceTimer =
+                Timer.builder("moderation.onnx.inference")
+                        .description("배치 단위 모델 추론 시간")
+                        .register(meterRegistry);
+        this.batchSizeSummary =
+                DistributionSummary.builder("moderation.onnx.batch.size")
+                        .description("추론 배치 크기")
+                        .register(meterRegistry);
+        Gauge.builder("moderation.onnx.queue.depth", queue, BlockingQueue::size)
+                .description("추론 대기열 길이")
+                .register(meterRegistry);
+
+        this.worker = new Thread(this::runLoop, "onnx-nsfw-batcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /** 이미지 1장 크기의 입력 슬롯 대여 (풀이 비면 새로 할당) */
+    FloatBuffer acquireInput() {
+        FloatBuffer input = inputPool.poll();
+        if (input == null) {
+            input = allocateDirect(imageFloats);
+        }
+        input.clear();
+        return input;
+    }
+
+    /** 추론이 끝난 입력 슬롯 반납 */
+    void releaseInput(FloatBuffer input) {
+        inputPool.offer(input);
+    }
+
+    /**
+     * 입력 슬롯(CHW, 절대 인덱스로 채워짐) 추론
+     *
+     * @param timeoutMillis 대기열 진입과 추론 결과 대기를 합친 제한 시간
+     * @return 모델 출력 한 행 ([sfw_score, nsfw_score])
+     */
+    float[] infer(FloatBuffer input, long timeoutMillis)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long enqueuedAt = System.nanoTime();
+        long deadline = enqueuedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        InferenceRequest request = new InferenceRequest(input, enqueuedAt);
+        if (!queue.offer(request, timeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("ONNX 추론 대기열이 가득 찼습니다");
+        }
+        return request.result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void runLoop() {
+        List<InferenceRequest> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + batchWindowNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    InferenceRequest next =
+                            remaining > 0
+                                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                                    : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                runBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        InferenceRequest pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(new IllegalStateException("추론 엔진 종료"));
+        }
+    }
+
+    private void runBatch(List<InferenceRequest> batch) {
+        long startedAt = System.nanoTime();
+        batchBuffer.clear();
+        for (InferenceRequest request : batch) {
+            queueWaitTimer.record(startedAt - request.enqueuedAt, TimeUnit.NANOSECONDS);
+            FloatBuffer input = request.input.duplicate();
+            input.clear().limit(imageFloats);
+            batchBuffer.put(input);
+        }
+        batchBuffer.flip();
+        batchSizeSummary.record(batch.size());
+
+        long[] shape = {batch.size(), CHANNELS, imageSize, imageSize};
+        try (OnnxTensor tensor = OnnxTensor.createTensor(env, batchBuffer, shape);
+                OrtSession.Result result =
+                        session.run(Map.of(session.getInputNames().iterator().next(), tensor))) {
+            float[][] output = (float[][]) result.get(0).getValue();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(output[i]);
+            }
+        } catch (Exception e) {
+            for (InferenceRequest request : batch) {
+                request.result.completeExceptionally(e);
+            }
+        } finally {
+            inferenceTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 모델 입력의 배치 차원이 설정값보다 작게 고정되어 있으면 그 값으로 제한 (동적 차원은 -1)
+    private static int resolveBatchSize(OrtSession session, int configured) {
+        if (configured == 1 || session == null) {
+            return 1;
+        }
+        try {
+            Map<String, NodeInfo> inputs = session.getInputInfo();
+            if (inputs != null && !inputs.isEmpty()) {
+                NodeInfo input = inputs.values().iterator().next();
+                if (input.getInfo() instanceof TensorInfo tensorInfo) {
+                    long fixedBatch = tensorInfo.getShape()[0];
+                    if (fixedBatch > 0 && fixedBatch < configured) {
+                        log.warn("ONNX 모델의 배치 차원이 {}로 고정되어 있어 배치 크기를 제한합니다", fixedBatch);
+                        return (int) fixedBatch;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("ONNX 입력 정보 조회 실패, 배치 크기 1 사용: {}", e.getMessage());
+            return 1;
+        }
+        return configured;
+    }
+
+    private static FloatBuffer allocateDirect(int floats) {
+        return ByteBuffer.allocateDirect(floats * Float.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asFloatBuffer();
+    }
+
+    private static final class InferenceRequest {
+
+        private final FloatBuffer input;
+        private final long enqueuedAt;
+        private final CompletableFuture<float[]> result = new CompletableFuture<>();
+
+        private InferenceRequest(FloatBuffer input, long enqueuedAt) {
+            this.input = input;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
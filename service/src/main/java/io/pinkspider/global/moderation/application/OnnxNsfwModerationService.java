@@ -1,19 +1,23 @@
 package io.pinkspider.global.moderation.application;
 
-import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.pinkspider.global.moderation.config.ModerationProperties;
 import io.pinkspider.global.moderation.domain.dto.ImageModerationResult;
 import io.pinkspider.global.moderation.domain.dto.ModerationLabel;
-import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.FloatBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
-import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
@@ -25,40 +29,65 @@ import org.springframework.web.multipart.MultipartFile;
  * <p>OpenNSFW2 모델을 사용하여 로컬에서 NSFW 이미지를 감지합니다. AWS Rekognition 대비 $0 비용으로 동작하며, CPU 기반 추론을 수행합니다.
  *
  * <p>모델 입력: 224x224 RGB 이미지 (NCHW 포맷, 정규화됨) 모델 출력: [sfw_score, nsfw_score] (합계 = 1.0)
+ *
+ * <p>추론은 {@link OnnxBatchInferenceEngine}이 동시 업로드를 마이크로 배치로 묶어 수행합니다. 전처리는 요청 스레드에서 재사용 direct
+ * 버퍼에 바로 기록합니다.
  */
 @Slf4j
-public class OnnxNsfwModerationService implements ImageModerationService {
+public class OnnxNsfwModerationService implements ImageModerationService, AutoCloseable {
 
     private static final int IMAGE_SIZE = 224;
+    private static final int IMAGE_PIXELS = IMAGE_SIZE * IMAGE_SIZE;
     private static final String NSFW_CATEGORY = "NSFW";
 
+    // ImageNet mean values (BGR order for OpenNSFW2)
+    private static final float MEAN_B = 104.0f;
+    private static final float MEAN_G = 117.0f;
+    private static final float MEAN_R = 123.0f;
+
     private final ModerationProperties properties;
-    private final OrtEnvironment env;
-    private final OrtSession session;
+    private final OnnxBatchInferenceEngine engine;
+    private final Timer preprocessTimer;
+    // 모델 파일 내용 기준 식별자 (경로가 같아도 모델이 바뀌면 달라짐)
+    private final String modelId;
 
-    public OnnxNsfwModerationService(ModerationProperties properties) {
+    public OnnxNsfwModerationService(
+            ModerationProperties properties, MeterRegistry meterRegistry) {
         this.properties = properties;
-        this.env = OrtEnvironment.getEnvironment();
+        OrtEnvironment env = OrtEnvironment.getEnvironment();
+        ModerationProperties.OnnxConfig onnx = properties.getOnnx();
 
-        try {
-            String modelPath = properties.getOnnx().getModelPath();
+        try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+            String modelPath = onnx.getModelPath();
             byte[] modelBytes = loadModelBytes(modelPath);
-            this.session = env.createSession(modelBytes, new OrtSession.SessionOptions());
+            this.modelId = modelId(modelBytes);
+            // 요청 동시성은 배치로 흡수하므로 그래프는 순차 실행, 연산자 내부 병렬도만 제한적으로 사용
+            options.setIntraOpNumThreads(onnx.getIntraOpThreads());
+            options.setInterOpNumThreads(onnx.getInterOpThreads());
+            options.setExecutionMode(OrtSession.SessionOptions.ExecutionMode.SEQUENTIAL);
+            options.setOptimizationLevel(OrtSession.SessionOptions.OptLevel.ALL_OPT);
+            OrtSession session = env.createSession(modelBytes, options);
+            this.engine = createEngine(env, session, onnx, meterRegistry);
             log.info(
-                    "OnnxNsfwModerationService 초기화 완료 - 모델: {}, NSFW 임계값: {}",
+                    "OnnxNsfwModerationService 초기화 완료 - 모델: {} ({}), NSFW 임계값: {}, 배치: {}",
                     modelPath,
-                    properties.getOnnx().getNsfwThreshold());
+                    modelId,
+                    onnx.getNsfwThreshold(),
+                    engine.maxBatchSize());
         } catch (OrtException | IOException e) {
             throw new IllegalStateException("ONNX NSFW 모델 로드 실패: " + e.getMessage(), e);
         }
+        this.preprocessTimer = preprocessTimer(meterRegistry);
     }
 
     // 테스트용 생성자
     OnnxNsfwModerationService(
             ModerationProperties properties, OrtEnvironment env, OrtSession session) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
         this.properties = properties;
-        this.env = env;
-        this.session = session;
+        this.modelId = properties.getOnnx().getModelPath();
+        this.engine = createEngine(env, session, properties.getOnnx(), meterRegistry);
+        this.preprocessTimer = preprocessTimer(meterRegistry);
     }
 
     @Override
@@ -68,8 +97,8 @@ public class OnnxNsfwModerationService implements ImageModerationService {
                 imageFile.getOriginalFilename(),
                 imageFile.getSize());
 
-        try {
-            BufferedImage image = ImageIO.read(imageFile.getInputStream());
+        try (InputStream in = imageFile.getInputStream()) {
+            BufferedImage image = SubsampledImageDecoder.decode(in, IMAGE_SIZE, IMAGE_SIZE);
             if (image == null) {
                 log.warn("이미지 파일을 읽을 수 없습니다: {}", imageFile.getOriginalFilename());
                 return ImageModerationResult.safe();
@@ -97,87 +126,135 @@ public class OnnxNsfwModerationService implements ImageModerationService {
         return "onnx-nsfw";
     }
 
+    @Override
+    public String getVerdictVersion() {
+        return getProviderName()
+                + ":model="
+                + modelId
+                + ":nsfw-threshold="
+                + properties.getOnnx().getNsfwThreshold();
+    }
+
+    @Override
+    public void close() {
+        engine.close();
+    }
+
     /** ONNX 모델 추론 실행 */
     ImageModerationResult runInference(BufferedImage image) {
+        FloatBuffer input = engine.acquireInput();
         try {
-            float[][][][] inputTensor = preprocessImage(image);
-
-            try (OnnxTensor tensor = OnnxTensor.createTensor(env, inputTensor)) {
-                OrtSession.Result result =
-                        session.run(Map.of(session.getInputNames().iterator().next(), tensor));
-                float[][] output = (float[][]) result.get(0).getValue();
-
-                float nsfwScore = output[0][1]; // index 1 = NSFW score
-                float sfwScore = output[0][0]; // index 0 = SFW score
-                float nsfwThreshold = properties.getOnnx().getNsfwThreshold();
-
-                log.debug(
-                        "ONNX NSFW 분석 완료: SFW={}, NSFW={}, 임계값={}",
-                        String.format("%.4f", sfwScore),
-                        String.format("%.4f", nsfwScore),
-                        nsfwThreshold);
-
-                if (nsfwScore >= nsfwThreshold) {
-                    double confidencePercent = nsfwScore * 100.0;
-                    ModerationLabel label =
-                            ModerationLabel.builder()
-                                    .category(NSFW_CATEGORY)
-                                    .name("NSFW Content")
-                                    .confidence(confidencePercent)
-                                    .build();
-
-                    return ImageModerationResult.unsafe(
-                            "부적절한 콘텐츠가 감지되었습니다 (NSFW: "
-                                    + String.format("%.1f", confidencePercent)
-                                    + "%)",
-                            List.of(label),
-                            Map.of(NSFW_CATEGORY, confidencePercent),
-                            getProviderName());
-                }
-
-                return ImageModerationResult.builder()
-                        .safe(true)
-                        .overallConfidence((1.0 - nsfwScore) * 100.0)
-                        .detectedLabels(List.of())
-                        .categoryScores(Map.of(NSFW_CATEGORY, (double) nsfwScore * 100.0))
-                        .provider(getProviderName())
-                        .build();
-            }
+            preprocessTimer.record(() -> preprocessImage(image, input));
+            float[] scores =
+                    engine.infer(input, properties.getOnnx().getInferenceTimeoutMillis());
+            // 타임아웃 시 워커가 아직 슬롯을 읽을 수 있으므로 정상 완료된 경우에만 반납
+            engine.releaseInput(input);
+            return toResult(scores);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("ONNX 추론 대기 중 인터럽트");
+            return ImageModerationResult.safe();
         } catch (Exception e) {
             log.error("ONNX 추론 실패: {}", e.getMessage());
             return ImageModerationResult.safe();
         }
     }
 
-    /** 이미지 전처리: 224x224 리사이즈 + NCHW 정규화 OpenNSFW2 모델 기준: BGR 채널 순서, ImageNet mean 차감 */
-    float[][][][] preprocessImage(BufferedImage original) {
-        BufferedImage resized =
-                new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g = resized.createGraphics();
-        g.drawImage(original, 0, 0, IMAGE_SIZE, IMAGE_SIZE, null);
-        g.dispose();
+    private ImageModerationResult toResult(float[] scores) {
+        float nsfwScore = scores[1]; // index 1 = NSFW score
+        float sfwScore = scores[0]; // index 0 = SFW score
+        float nsfwThreshold = properties.getOnnx().getNsfwThreshold();
+
+        log.debug(
+                "ONNX NSFW 분석 완료: SFW={}, NSFW={}, 임계값={}",
+                String.format("%.4f", sfwScore),
+                String.format("%.4f", nsfwScore),
+                nsfwThreshold);
+
+        if (nsfwScore >= nsfwThreshold) {
+            double confidencePercent = nsfwScore * 100.0;
+            ModerationLabel label =
+                    ModerationLabel.builder()
+                            .category(NSFW_CATEGORY)
+                            .name("NSFW Content")
+                            .confidence(confidencePercent)
+                            .build();
 
-        // NCHW format: [batch=1][channels=3][height=224][width=224]
-        float[][][][] tensor = new float[1][3][IMAGE_SIZE][IMAGE_SIZE];
+            return ImageModerationResult.unsafe(
+                    "부적절한 콘텐츠가 감지되었습니다 (NSFW: "
+                            + String.format("%.1f", confidencePercent)
+                            + "%)",
+                    List.of(label),
+                    Map.of(NSFW_CATEGORY, confidencePercent),
+                    getProviderName());
+        }
 
-        // ImageNet mean values (BGR order for OpenNSFW2)
-        float[] mean = {104.0f, 117.0f, 123.0f};
+        return ImageModerationResult.builder()
+                .safe(true)
+                .overallConfidence((1.0 - nsfwScore) * 100.0)
+                .detectedLabels(List.of())
+                .categoryScores(Map.of(NSFW_CATEGORY, (double) nsfwScore * 100.0))
+                .provider(getProviderName())
+                .build();
+    }
 
+    /**
+     * 이미지 전처리: 224x224 리사이즈 + CHW 정규화 후 입력 버퍼에 기록 OpenNSFW2 모델 기준: BGR 채널 순서, ImageNet mean 차감
+     *
+     * <p>중간 224x224 이미지를 만들지 않고 원본에서 최근접 픽셀을 골라 버퍼에 바로 기록한다. 버퍼의 position은 건드리지 않고 절대 인덱스로
+     * 기록한다.
+     */
+    void preprocessImage(BufferedImage original, FloatBuffer target) {
+        int width = original.getWidth();
+        int height = original.getHeight();
+        int[] sourceColumns = new int[IMAGE_SIZE];
+        for (int x = 0; x < IMAGE_SIZE; x++) {
+            sourceColumns[x] = Math.min(width - 1, (int) ((x + 0.5) * width / IMAGE_SIZE));
+        }
+
+        int[] row = new int[width];
         for (int y = 0; y < IMAGE_SIZE; y++) {
+            int sourceY = Math.min(height - 1, (int) ((y + 0.5) * height / IMAGE_SIZE));
+            original.getRGB(0, sourceY, width, 1, row, 0, width);
+            int offset = y * IMAGE_SIZE;
             for (int x = 0; x < IMAGE_SIZE; x++) {
-                int rgb = resized.getRGB(x, y);
-                float r = (float) ((rgb >> 16) & 0xFF);
-                float g2 = (float) ((rgb >> 8) & 0xFF);
-                float b = (float) (rgb & 0xFF);
-
-                // BGR order with mean subtraction
-                tensor[0][0][y][x] = b - mean[0];
-                tensor[0][1][y][x] = g2 - mean[1];
-                tensor[0][2][y][x] = r - mean[2];
+                int rgb = row[sourceColumns[x]];
+                int i = offset + x;
+                target.put(i, (rgb & 0xFF) - MEAN_B);
+                target.put(IMAGE_PIXELS + i, ((rgb >> 8) & 0xFF) - MEAN_G);
+                target.put(2 * IMAGE_PIXELS + i, ((rgb >> 16) & 0xFF) - MEAN_R);
             }
         }
+    }
 
-        return tensor;
+    private static OnnxBatchInferenceEngine createEngine(
+            OrtEnvironment env,
+            OrtSession session,
+            ModerationProperties.OnnxConfig onnx,
+            MeterRegistry meterRegistry) {
+        return new OnnxBatchInferenceEngine(
+                env,
+                session,
+                IMAGE_SIZE,
+                onnx.getMaxBatchSize(),
+                onnx.getBatchWindowMillis(),
+                onnx.getQueueCapacity(),
+                meterRegistry);
+    }
+
+    private static Timer preprocessTimer(MeterRegistry meterRegistry) {
+        return Timer.builder("moderation.onnx.preprocess")
+                .description("이미지 전처리 시간")
+                .register(meterRegistry);
+    }
+
+    private static String modelId(byte[] modelBytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(modelBytes);
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
     }
 
     private byte[] loadModelBytes(String modelPath) throws IOException {
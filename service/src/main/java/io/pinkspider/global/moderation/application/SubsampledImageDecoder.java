@@ -0,0 +1,63 @@
+package io.pinkspider.global.moderation.application;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileCacheImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서브샘플링 디코더
+ *
+ * <p>{@link ImageReadParam#setSourceSubsampling}으로 JPEG/PNG를 목표 해상도에 가까운 크기로 바로 디코딩한다. 12MP 사진도 디코더가 건너뛴
+ * 행/열은 래스터로 만들지 않으므로 전체 해상도 {@link BufferedImage}(약 48MB)를 할당하지 않는다. 입력은 임시 파일 캐시 스트림으로 순차
+ * 읽기 때문에 업로드 바이트 전체를 메모리에 올리지 않는다.
+ */
+@Slf4j
+final class SubsampledImageDecoder {
+
+    private SubsampledImageDecoder() {}
+
+    /**
+     * 가로/세로가 각각 목표 크기 이상이 되도록 서브샘플링하여 디코딩
+     *
+     * @param in 이미지 입력 스트림 (호출자가 닫는다)
+     * @param targetWidth 목표 가로 크기
+     * @param targetHeight 목표 세로 크기
+     * @return 디코딩된 이미지, 지원하지 않는 포맷이면 null
+     */
+    static BufferedImage decode(InputStream in, int targetWidth, int targetHeight)
+            throws IOException {
+        try (ImageInputStream imageInput = new FileCacheImageInputStream(in, null)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int periodX = Math.max(1, width / targetWidth);
+                int periodY = Math.max(1, height / targetHeight);
+                if (periodX > 1 || periodY > 1) {
+                    param.setSourceSubsampling(periodX, periodY, 0, 0);
+                }
+
+                log.debug(
+                        "서브샘플링 디코딩: {}x{} → 1/{} x 1/{}", width, height, periodX, periodY);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package io.pinkspider.global.moderation.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.pinkspider.global.moderation.application.AwsRekognitionModerationService;
+import io.pinkspider.global.moderation.application.CachingImageModerationService;
 import io.pinkspider.global.moderation.application.ImageModerationService;
 import io.pinkspider.global.moderation.application.NoOpImageModerationService;
 import io.pinkspider.global.moderation.application.OnnxNsfwModerationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 /**
  * 이미지 검증 서비스 설정
  *
  * <p>moderation.image.provider 값에 따라 적절한 구현체를 빈으로 등록합니다. - none (기본값): NoOpImageModerationService -
  * onnx-nsfw: OnnxNsfwModerationService - aws-rekognition: AwsRekognitionModerationService
+ *
+ * <p>실제 검증 제공자는 moderation.image.cache 설정에 따라 콘텐츠 해시 캐시({@link
+ * CachingImageModerationService})로 감쌉니다.
  */
 @Slf4j
 @Configuration
@@ -21,6 +28,8 @@ import org.springframework.context.annotation.Configuration;
 public class ModerationConfig {
 
     private final ModerationProperties moderationProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
 
     @Bean
     public ImageModerationService imageModerationService() {
@@ -33,15 +42,28 @@ public class ModerationConfig {
 
         if (provider.equalsIgnoreCase("onnx-nsfw")) {
             log.info("이미지 검증 서비스: ONNX NSFW (활성화)");
-            return new OnnxNsfwModerationService(moderationProperties);
+            return withCache(new OnnxNsfwModerationService(moderationProperties, meterRegistry));
         }
 
         if (provider.equalsIgnoreCase("aws-rekognition")) {
             log.info("이미지 검증 서비스: AWS Rekognition (활성화)");
-            return new AwsRekognitionModerationService(moderationProperties);
+            return withCache(new AwsRekognitionModerationService(moderationProperties));
         }
 
         log.warn("알 수 없는 이미지 검증 제공자: {}. NoOp 서비스를 사용합니다.", provider);
         return new NoOpImageModerationService();
     }
+
+    private ImageModerationService withCache(ImageModerationService delegate) {
+        ModerationProperties.CacheConfig cacheConfig = moderationProperties.getCache();
+        if (!cacheConfig.isEnabled()) {
+            return delegate;
+        }
+        log.info(
+                "이미지 검증 결과 캐시 활성화 - 로컬 최대 {}건, Redis: {}",
+                cacheConfig.getLocalMaxSize(),
+                cacheConfig.isRedisEnabled());
+        return new CachingImageModerationService(
+                delegate, cacheConfig, redisTemplateProvider.getIfAvailable(), meterRegistry);
+    }
 }
@@ -1,5 +1,6 @@
 package io.pinkspider.global.moderation.config;
 
+import java.time.Duration;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,7 +12,8 @@ import org.springframework.context.annotation.Configuration;
  *
  * <p>설정 예시: moderation: image: provider: none # none, onnx-nsfw, aws-rekognition min-confidence:
  * 80.0 blocked-categories: - Explicit Nudity - Violence - Visually Disturbing onnx: model-path:
- * classpath:models/nsfw.onnx nsfw-threshold: 0.8
+ * classpath:models/nsfw.onnx nsfw-threshold: 0.8 intra-op-threads: 2 inter-op-threads: 1
+ * max-batch-size: 8 batch-window-millis: 5 cache: enabled: true redis-enabled: true
  */
 @Getter
 @Setter
@@ -43,6 +45,9 @@ public class ModerationProperties {
     /** ONNX 관련 설정 (onnx-nsfw 사용 시) */
     private OnnxConfig onnx = new OnnxConfig();
 
+    /** 검증 결과 캐시 설정 (동일 이미지 재업로드 시 재추론 생략) */
+    private CacheConfig cache = new CacheConfig();
+
     @Getter
     @Setter
     public static class AwsConfig {
@@ -64,5 +69,42 @@ public class ModerationProperties {
 
         /** NSFW 판정 임계값 (0.0 ~ 1.0) 이 값 이상이면 부적절한 이미지로 판정 */
         private float nsfwThreshold = 0.8f;
+
+        /** 연산자 내부 병렬 스레드 수 (intra-op) */
+        private int intraOpThreads = 2;
+
+        /** 연산자 간 병렬 스레드 수 (inter-op, 순차 실행 모드에서는 1 권장) */
+        private int interOpThreads = 1;
+
+        /** 마이크로 배치 최대 크기 (모델의 배치 차원이 고정이면 1로 제한됨) */
+        private int maxBatchSize = 8;
+
+        /** 첫 요청 이후 배치를 모으는 최대 대기 시간 (ms) */
+        private long batchWindowMillis = 5;
+
+        /** 추론 대기열 최대 길이 (가득 차면 요청 스레드가 대기) */
+        private int queueCapacity = 64;
+
+        /** 요청당 추론 결과 최대 대기 시간 (ms) */
+        private long inferenceTimeoutMillis = 5_000;
+    }
+
+    @Getter
+    @Setter
+    public static class CacheConfig {
+        /** 캐시 사용 여부 */
+        private boolean enabled = true;
+
+        /** 로컬 캐시 최대 항목 수 (LRU) */
+        private int localMaxSize = 10_000;
+
+        /** 로컬 캐시 TTL */
+        private Duration localTtl = Duration.ofMinutes(30);
+
+        /** Redis 캐시 사용 여부 (노드 간 공유) */
+        private boolean redisEnabled = false;
+
+        /** Redis 캐시 TTL */
+        private Duration redisTtl = Duration.ofDays(7);
     }
 }
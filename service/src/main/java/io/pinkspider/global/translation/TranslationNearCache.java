@@ -0,0 +1,272 @@
+package io.pinkspider.global.translation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 번역 니어 캐시 (Redis 앞단의 인스턴스 로컬 캐시)
+ *
+ * <p>인기 피드처럼 모든 비한국어 사용자가 반복 조회하는 번역을 Redis 왕복 없이 제공한다. 항목은 원문 해시와 함께 저장하므로 원문이 바뀌면
+ * 로컬 항목은 자동으로 미스가 된다. 크기 제한은 항목 수가 아니라 키/번역문 길이 합(가중치)으로 두어 긴 본문이 캐시를 독점하지 않게 한다.
+ *
+ * <p>콘텐츠 수정 시 {@link #CHANNEL}로 무효화 키를 발행하고 모든 인스턴스가 구독해 로컬 항목을 제거한다. 메시지 유실에 대비해 TTL을 짧게
+ * 유지한다.
+ *
+ * <p>같은 키의 동시 미스는 하나의 로드로 합친다(single-flight). 첫 요청만 Redis/DB/Google API를 조회하고 나머지는 결과를 기다린다.
+ */
+@Slf4j
+@Component
+public class TranslationNearCache implements MessageListener {
+
+    public static final String CHANNEL = "translation:invalidate";
+
+    private static final String KEY_SEPARATOR = "\n";
+
+    /** 다른 요청의 로드를 기다리는 최대 시간 (초과 시 직접 로드) */
+    private static final long FLIGHT_WAIT_MILLIS = 5_000;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final WeightedLruMap entries;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+
+    public TranslationNearCache(
+            @Value("${google.translation.near-cache.enabled:true}") boolean enabled,
+            @Value("${google.translation.near-cache.max-weight:4000000}") long maxWeight,
+            @Value("${google.translation.near-cache.ttl:10m}") Duration ttl,
+            StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new WeightedLruMap(maxWeight);
+        this.stringRedisTemplate = stringRedisTemplate;
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.coalescedCounter =
+                Counter.builder("translation.near-cache.coalesced")
+                        .description("진행 중인 로드에 합류한 동시 미스")
+                        .register(meterRegistry);
+        Gauge.builder("translation.near-cache.weight", entries, WeightedLruMap::weight)
+                .description("니어 캐시 가중치 합 (문자 수)")
+                .register(meterRegistry);
+        Gauge.builder("translation.near-cache.size", entries, WeightedLruMap::size)
+                .description("니어 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로컬 조회 (원문 해시가 다르거나 만료되었으면 null)
+     *
+     * @param key Redis 캐시 키
+     * @param originalHash 현재 원문의 해시
+     */
+    public String get(String key, String originalHash) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.getEntry(key);
+        if (entry == null
+                || !entry.originalHash.equals(originalHash)
+                || System.nanoTime() - entry.writtenAt > ttlNanos) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.translatedText;
+    }
+
+    public void put(String key, String originalHash, String translatedText) {
+        if (!enabled || translatedText == null) {
+            return;
+        }
+        entries.putEntry(key, new Entry(originalHash, translatedText, System.nanoTime()));
+    }
+
+    /**
+     * 로컬 조회 후 미스면 single-flight 로드
+     *
+     * <p>같은 키/원문에 대해 동시에 여러 요청이 들어오면 첫 요청만 {@code loader}를 실행한다. 로드 결과는 로컬 캐시에 저장된다.
+     */
+    public String getOrLoad(String key, String originalHash, Supplier<String> loader) {
+        String cached = get(key, originalHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Flight flight = beginLoad(key, originalHash);
+        if (!flight.owner()) {
+            String shared = await(flight);
+            if (shared != null) {
+                return shared;
+            }
+            // 선행 로드가 실패했거나 너무 오래 걸리면 직접 로드
+            return loader.get();
+        }
+
+        try {
+            String loaded = loader.get();
+            completeLoad(flight, originalHash, loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            failLoad(flight, e);
+            throw e;
+        }
+    }
+
+    /** 로드 시작: 이미 진행 중인 로드가 있으면 그 결과를 기다리는 flight 반환 */
+    Flight beginLoad(String key, String originalHash) {
+        String flightKey = key + "#" + originalHash;
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(flightKey, created);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return new Flight(key, flightKey, existing, false);
+        }
+        return new Flight(key, flightKey, created, true);
+    }
+
+    void completeLoad(Flight flight, String originalHash, String translatedText) {
+        put(flight.key(), originalHash, translatedText);
+        inFlight.remove(flight.flightKey(), flight.future());
+        flight.future().complete(translatedText);
+    }
+
+    void failLoad(Flight flight, Throwable cause) {
+        inFlight.remove(flight.flightKey(), flight.future());
+        flight.future().completeExceptionally(cause);
+    }
+
+    /** 다른 요청의 로드 결과 대기 (실패/시간 초과 시 null) */
+    String await(Flight flight) {
+        try {
+            return flight.future().get(FLIGHT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.debug("번역 로드 대기 실패: key={}, error={}", flight.key(), e.getMessage());
+            return null;
+        }
+    }
+
+    /** 로컬 항목 제거 (이 인스턴스만) */
+    public void evict(Collection<String> keys) {
+        keys.forEach(entries::removeEntry);
+    }
+
+    /** 로컬 항목 제거 후 다른 인스턴스에도 무효화 발행 */
+    public void invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        evict(keys);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, String.join(KEY_SEPARATOR, keys));
+        } catch (Exception e) {
+            // 발행 실패 시 다른 인스턴스는 TTL 만료까지 이전 번역을 볼 수 있다
+            log.warn("번역 캐시 무효화 발행 실패: count={}, error={}", keys.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String key : payload.split(KEY_SEPARATOR)) {
+            if (!key.isBlank()) {
+                entries.removeEntry(key);
+            }
+        }
+        log.debug("번역 니어 캐시 무효화 수신: {}", payload.replace(KEY_SEPARATOR, ","));
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("translation.near-cache.requests")
+                .description("번역 니어 캐시 조회")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** 진행 중인 로드 (owner만 완료/실패 처리) */
+    record Flight(
+            String key, String flightKey, CompletableFuture<String> future, boolean owner) {}
+
+    private record Entry(String originalHash, String translatedText, long writtenAt) {
+
+        long weight(String key) {
+            return key.length() + translatedText.length();
+        }
+    }
+
+    /** 가중치(키 + 번역문 길이) 합 기준으로 오래 안 쓴 항목부터 제거하는 LRU */
+    private static final class WeightedLruMap {
+
+        private final long maxWeight;
+        private final LinkedHashMap<String, Entry> map = new LinkedHashMap<>(256, 0.75f, true);
+        private long weight;
+
+        WeightedLruMap(long maxWeight) {
+            this.maxWeight = Math.max(1, maxWeight);
+        }
+
+        synchronized Entry getEntry(String key) {
+            return map.get(key);
+        }
+
+        synchronized void putEntry(String key, Entry entry) {
+            long entryWeight = entry.weight(key);
+            if (entryWeight > maxWeight) {
+                return;
+            }
+            Entry previous = map.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight(key);
+            }
+            weight += entryWeight;
+
+            Iterator<Map.Entry<String, Entry>> eldest = map.entrySet().iterator();
+            while (weight > maxWeight && eldest.hasNext()) {
+                Map.Entry<String, Entry> candidate = eldest.next();
+                weight -= candidate.getValue().weight(candidate.getKey());
+                eldest.remove();
+            }
+        }
+
+        synchronized void removeEntry(String key) {
+            Entry removed = map.remove(key);
+            if (removed != null) {
+                weight -= removed.weight(key);
+            }
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.pinkspider.global.translation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/** 번역 니어 캐시 무효화용 Redis pub/sub 리스너 설정 */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+public class TranslationNearCacheConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final TranslationNearCache translationNearCache;
+
+    @Bean
+    public RedisMessageListenerContainer translationInvalidationListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                translationNearCache, new ChannelTopic(TranslationNearCache.CHANNEL));
+        return container;
+    }
+}
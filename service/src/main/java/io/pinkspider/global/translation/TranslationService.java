@@ -4,6 +4,7 @@ import io.pinkspider.global.translation.GoogleTranslationConfig.GoogleTranslatio
 import io.pinkspider.global.translation.dto.GoogleTranslationRequest;
 import io.pinkspider.global.translation.dto.GoogleTranslationResponse;
 import io.pinkspider.global.translation.dto.TranslationInfo;
+import io.pinkspider.global.translation.dto.TranslationTarget;
 import io.pinkspider.global.translation.entity.ContentTranslation;
 import io.pinkspider.global.translation.enums.ContentType;
 import io.pinkspider.global.translation.enums.SupportedLocale;
@@ -12,14 +13,26 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /** 번역 서비스 Google Cloud Translation API를 통한 번역 및 캐싱 처리 */
 @Service
@@ -30,6 +43,7 @@ public class TranslationService {
     private final GoogleTranslationFeignClient translationClient;
     private final ContentTranslationRepository translationRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final TranslationNearCache nearCache;
 
     @Value("${google.translation.api.key:}")
     private String apiKey;
@@ -46,6 +60,9 @@ public class TranslationService {
     /** Redis 캐시 키 프리픽스 */
     private static final String CACHE_KEY_PREFIX = "translation:";
 
+    /** Google Translation API v2 요청당 최대 텍스트 수 */
+    private static final int GOOGLE_BATCH_SIZE = 128;
+
     /**
      * 콘텐츠 번역 (제목과 내용 모두)
      *
@@ -111,6 +128,68 @@ public class TranslationService {
         return translateContent(contentType, contentId, null, content, targetLocale);
     }
 
+    /**
+     * 콘텐츠 일괄 번역 (피드/댓글 페이지용)
+     *
+     * <p>페이지의 모든 필드(제목/내용)를 모아 Redis MGET 한 번, 캐시 미스에 대해 콘텐츠 타입별 DB IN 조회 한 번, 남은 원문은
+     * Google API 한 번(최대 128건씩)으로 처리한다. 개별 {@link #translateContent} 호출과 같은 캐시 키/DB 행을 사용한다.
+     *
+     * @param targets 번역 대상 목록
+     * @param targetLocale 대상 언어 코드
+     * @return 입력 순서와 같은 번역 결과 목록
+     */
+    public List<TranslationInfo> translateContents(
+            List<TranslationTarget> targets, String targetLocale) {
+        String sourceLocale = SupportedLocale.DEFAULT.getCode();
+        List<TranslationInfo> results = new ArrayList<>(targets.size());
+        if (!translationEnabled || !SupportedLocale.isSupported(targetLocale)) {
+            targets.forEach(target -> results.add(TranslationInfo.notTranslated(sourceLocale)));
+            return results;
+        }
+
+        List<FieldLookup> fields = new ArrayList<>();
+        List<FieldLookup[]> fieldsByTarget = new ArrayList<>(targets.size());
+        for (TranslationTarget target : targets) {
+            // 번역할 내용이 없거나 너무 짧은 경우
+            if (target == null
+                    || target.content() == null
+                    || target.content().length() < MIN_TEXT_LENGTH) {
+                fieldsByTarget.add(null);
+                continue;
+            }
+            FieldLookup title = null;
+            if (target.title() != null && !target.title().isBlank()) {
+                title = newFieldLookup(target, "title", target.title(), targetLocale);
+                fields.add(title);
+            }
+            FieldLookup content = newFieldLookup(target, "content", target.content(), targetLocale);
+            fields.add(content);
+            fieldsByTarget.add(new FieldLookup[] {title, content});
+        }
+
+        if (!fields.isEmpty()) {
+            try {
+                resolveFromNearCache(fields);
+                resolveFromRedis(fields);
+                resolveFromDatabase(fields, targetLocale);
+                resolveFromGoogle(fields, targetLocale);
+            } catch (Exception e) {
+                log.error(
+                        "일괄 번역 실패: targetLocale={}, fieldCount={}, error={}",
+                        targetLocale,
+                        fields.size(),
+                        e.getMessage());
+            }
+        }
+
+        for (int i = 0; i < targets.size(); i++) {
+            results.add(
+                    toTranslationInfo(
+                            targets.get(i), fieldsByTarget.get(i), sourceLocale, targetLocale));
+        }
+        return results;
+    }
+
     /** 개별 필드 번역 (캐시 우선) */
     private String translateField(
             ContentType contentType,
@@ -119,15 +198,38 @@ public class TranslationService {
             String originalText,
             String targetLocale) {
         String originalHash = computeHash(originalText);
+        String cacheKey = buildCacheKey(contentType, contentId, fieldName, targetLocale);
+
+        // 1. 로컬 니어 캐시 확인, 미스면 같은 키의 동시 요청을 하나의 로드로 합침
+        return nearCache.getOrLoad(
+                cacheKey,
+                originalHash,
+                () ->
+                        loadField(
+                                contentType,
+                                contentId,
+                                fieldName,
+                                originalText,
+                                originalHash,
+                                targetLocale));
+    }
 
-        // 1. Redis 캐시 확인
+    /** 니어 캐시 미스 시 Redis → DB → Google API 순으로 로드 */
+    private String loadField(
+            ContentType contentType,
+            Long contentId,
+            String fieldName,
+            String originalText,
+            String originalHash,
+            String targetLocale) {
+        // 2. Redis 캐시 확인
         String cachedTranslation =
                 getCachedTranslation(contentType, contentId, fieldName, targetLocale);
         if (cachedTranslation != null) {
             return cachedTranslation;
         }
 
-        // 2. DB 캐시 확인
+        // 3. DB 캐시 확인
         Optional<ContentTranslation> dbCache =
                 translationRepository
                         .findByContentTypeAndContentIdAndFieldNameAndTargetLocaleAndOriginalHash(
@@ -140,10 +242,10 @@ public class TranslationService {
             return translatedText;
         }
 
-        // 3. Google API 호출
+        // 4. Google API 호출
         String translatedText = callGoogleTranslateApi(originalText, targetLocale);
 
-        // 4. 캐시 저장 (Redis + DB)
+        // 5. 캐시 저장 (Redis + DB)
         saveTranslationCache(
                 contentType, contentId, fieldName, targetLocale, originalHash, translatedText);
 
@@ -173,6 +275,248 @@ public class TranslationService {
         return translatedText;
     }
 
+    /** Google Translation API 일괄 호출 (입력 순서대로 번역 결과 반환) */
+    private List<String> callGoogleTranslateApi(List<String> texts, String targetLocale) {
+        if (apiKey == null || apiKey.isBlank()) {
+            throw new GoogleTranslationException("Google Translation API Key가 설정되지 않았습니다.");
+        }
+
+        GoogleTranslationRequest request = GoogleTranslationRequest.of(texts, targetLocale);
+        List<String> translatedTexts =
+                translationClient.translate(apiKey, request).getAllTranslatedTexts();
+        if (translatedTexts.size() != texts.size()) {
+            throw new GoogleTranslationException(
+                    "번역 결과 수가 요청과 다릅니다: " + translatedTexts.size() + "/" + texts.size());
+        }
+
+        log.debug("Google Translation 일괄 호출: target={}, count={}", targetLocale, texts.size());
+        return translatedTexts;
+    }
+
+    /** 로컬 니어 캐시에서 필드 번역 조회 (원문 해시 일치 시에만) */
+    private void resolveFromNearCache(List<FieldLookup> fields) {
+        for (FieldLookup field : fields) {
+            field.translatedText = nearCache.get(field.cacheKey, field.originalHash);
+        }
+    }
+
+    /** Redis MGET으로 필드 번역 일괄 조회 */
+    private void resolveFromRedis(List<FieldLookup> fields) {
+        List<FieldLookup> misses =
+                fields.stream().filter(field -> field.translatedText == null).toList();
+        if (misses.isEmpty()) {
+            return;
+        }
+        List<String> keys = misses.stream().map(field -> field.cacheKey).toList();
+        try {
+            List<Object> cached = redisTemplate.opsForValue().multiGet(keys);
+            if (cached == null) {
+                return;
+            }
+            for (int i = 0; i < misses.size(); i++) {
+                if (cached.get(i) != null) {
+                    FieldLookup field = misses.get(i);
+                    field.translatedText = cached.get(i).toString();
+                    nearCache.put(field.cacheKey, field.originalHash, field.translatedText);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis 캐시 일괄 조회 실패: count={}, error={}", keys.size(), e.getMessage());
+        }
+    }
+
+    /** Redis 미스 필드를 콘텐츠 타입별 IN 조회로 DB에서 일괄 조회 */
+    private void resolveFromDatabase(List<FieldLookup> fields, String targetLocale) {
+        Map<ContentType, Set<Long>> missingIds = new EnumMap<>(ContentType.class);
+        for (FieldLookup field : fields) {
+            if (field.translatedText == null) {
+                missingIds
+                        .computeIfAbsent(field.contentType, type -> new HashSet<>())
+                        .add(field.contentId);
+            }
+        }
+        if (missingIds.isEmpty()) {
+            return;
+        }
+
+        Map<String, ContentTranslation> rows = new HashMap<>();
+        missingIds.forEach(
+                (contentType, contentIds) -> {
+                    for (ContentTranslation row :
+                            translationRepository.findByContentTypeAndTargetLocaleAndContentIdIn(
+                                    contentType, targetLocale, contentIds)) {
+                        rows.put(
+                                buildCacheKey(
+                                        row.getContentType(),
+                                        row.getContentId(),
+                                        row.getFieldName(),
+                                        targetLocale),
+                                row);
+                    }
+                });
+
+        List<FieldLookup> dbHits = new ArrayList<>();
+        for (FieldLookup field : fields) {
+            ContentTranslation row = field.translatedText == null ? rows.get(field.cacheKey) : null;
+            if (row == null) {
+                continue;
+            }
+            // 원문이 수정된 경우 기존 행은 갱신 대상으로만 보관
+            field.existing = row;
+            if (field.originalHash.equals(row.getOriginalHash())) {
+                field.translatedText = row.getTranslatedText();
+                nearCache.put(field.cacheKey, field.originalHash, field.translatedText);
+                dbHits.add(field);
+            }
+        }
+        cacheTranslations(dbHits);
+    }
+
+    /**
+     * 남은 미스를 원문 중복 제거 후 Google API로 일괄 번역하고 캐시 저장
+     *
+     * <p>다른 요청이 이미 로드 중인 필드는 API 요청에서 제외하고, 이 요청이 맡은 필드를 모두 완료한 뒤 그 결과를 기다린다.
+     */
+    private void resolveFromGoogle(List<FieldLookup> fields, String targetLocale) {
+        Map<String, List<FieldLookup>> missesByText = new LinkedHashMap<>();
+        List<FieldLookup> owned = new ArrayList<>();
+        List<FieldLookup> joined = new ArrayList<>();
+        for (FieldLookup field : fields) {
+            if (field.translatedText != null) {
+                continue;
+            }
+            field.flight = nearCache.beginLoad(field.cacheKey, field.originalHash);
+            if (field.flight.owner()) {
+                owned.add(field);
+                missesByText
+                        .computeIfAbsent(field.originalText, text -> new ArrayList<>())
+                        .add(field);
+            } else {
+                joined.add(field);
+            }
+        }
+
+        try {
+            List<String> texts = new ArrayList<>(missesByText.keySet());
+            for (int from = 0; from < texts.size(); from += GOOGLE_BATCH_SIZE) {
+                List<String> chunk =
+                        texts.subList(from, Math.min(from + GOOGLE_BATCH_SIZE, texts.size()));
+                List<String> translatedTexts = callGoogleTranslateApi(chunk, targetLocale);
+
+                List<FieldLookup> translatedFields = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    for (FieldLookup field : missesByText.get(chunk.get(i))) {
+                        field.translatedText = translatedTexts.get(i);
+                        translatedFields.add(field);
+                    }
+                }
+                saveTranslationCaches(translatedFields, targetLocale);
+                for (FieldLookup field : translatedFields) {
+                    nearCache.completeLoad(field.flight, field.originalHash, field.translatedText);
+                }
+            }
+        } finally {
+            // 실패로 완료하지 못한 로드는 대기 중인 요청이 직접 로드하도록 해제
+            for (FieldLookup field : owned) {
+                if (!field.flight.future().isDone()) {
+                    nearCache.failLoad(
+                            field.flight, new GoogleTranslationException("일괄 번역 실패"));
+                }
+            }
+        }
+
+        for (FieldLookup field : joined) {
+            field.translatedText = nearCache.await(field.flight);
+        }
+    }
+
+    /** 번역 캐시 일괄 저장 (Redis 파이프라인 + DB saveAll) */
+    private void saveTranslationCaches(List<FieldLookup> fields, String targetLocale) {
+        cacheTranslations(fields);
+
+        List<ContentTranslation> translations = new ArrayList<>(fields.size());
+        for (FieldLookup field : fields) {
+            if (field.existing != null) {
+                field.existing.updateTranslation(field.originalHash, field.translatedText);
+                translations.add(field.existing);
+            } else {
+                translations.add(
+                        ContentTranslation.builder()
+                                .contentType(field.contentType)
+                                .contentId(field.contentId)
+                                .fieldName(field.fieldName)
+                                .sourceLocale(SupportedLocale.DEFAULT.getCode())
+                                .targetLocale(targetLocale)
+                                .originalHash(field.originalHash)
+                                .translatedText(field.translatedText)
+                                .build());
+            }
+        }
+        translationRepository.saveAll(translations);
+    }
+
+    /** Redis 파이프라인으로 번역 일괄 캐시 */
+    private void cacheTranslations(List<FieldLookup> fields) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(
+                    new SessionCallback<Object>() {
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public <K, V> Object execute(RedisOperations<K, V> operations) {
+                            RedisOperations<String, Object> stringOperations =
+                                    (RedisOperations<String, Object>) operations;
+                            for (FieldLookup field : fields) {
+                                stringOperations
+                                        .opsForValue()
+                                        .set(field.cacheKey, field.translatedText, REDIS_CACHE_TTL);
+                            }
+                            return null;
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Redis 캐시 일괄 저장 실패: count={}, error={}", fields.size(), e.getMessage());
+        }
+    }
+
+    private FieldLookup newFieldLookup(
+            TranslationTarget target, String fieldName, String originalText, String targetLocale) {
+        return new FieldLookup(
+                target.contentType(),
+                target.contentId(),
+                fieldName,
+                originalText,
+                computeHash(originalText),
+                buildCacheKey(target.contentType(), target.contentId(), fieldName, targetLocale));
+    }
+
+    private TranslationInfo toTranslationInfo(
+            TranslationTarget target,
+            FieldLookup[] fields,
+            String sourceLocale,
+            String targetLocale) {
+        if (fields == null) {
+            return TranslationInfo.notTranslated(sourceLocale);
+        }
+        FieldLookup title = fields[0];
+        FieldLookup content = fields[1];
+        if (content.translatedText == null || (title != null && title.translatedText == null)) {
+            return TranslationInfo.notTranslated(sourceLocale);
+        }
+
+        // 번역이 원문과 동일한 경우 (같은 언어)
+        if (content.translatedText.equals(target.content())) {
+            return TranslationInfo.notTranslated(sourceLocale);
+        }
+        return TranslationInfo.translated(
+                title != null ? title.translatedText : null,
+                content.translatedText,
+                sourceLocale,
+                targetLocale);
+    }
+
     /** Redis 캐시에서 번역 조회 */
     private String getCachedTranslation(
             ContentType contentType, Long contentId, String fieldName, String targetLocale) {
@@ -245,17 +589,48 @@ public class TranslationService {
         // DB 삭제
         translationRepository.deleteByContentTypeAndContentId(contentType, contentId);
 
-        // Redis 캐시 삭제 (모든 언어)
+        // Redis + 니어 캐시 삭제 (모든 언어)
+        evictCacheKeys(buildCacheKeys(contentType, contentId));
+    }
+
+    /**
+     * 콘텐츠 수정 시 번역 캐시 무효화
+     *
+     * <p>DB 행은 원문 해시로 갱신 여부를 판단하므로 그대로 두고, 해시 없이 저장된 Redis 키와 모든 인스턴스의 니어 캐시를 비운다. 커밋 전에
+     * 비우면 동시 조회가 수정 전 원문으로 캐시를 다시 채울 수 있으므로 활성 트랜잭션이 있으면 afterCommit 시점에 실행한다.
+     */
+    public void evictTranslationCache(ContentType contentType, Long contentId) {
+        List<String> keys = buildCacheKeys(contentType, contentId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictCacheKeys(keys);
+                        }
+                    });
+        } else {
+            evictCacheKeys(keys);
+        }
+    }
+
+    private void evictCacheKeys(List<String> keys) {
+        try {
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            log.warn("Redis 캐시 삭제 실패: keys={}, error={}", keys, e.getMessage());
+        }
+        nearCache.invalidate(keys);
+    }
+
+    /** 콘텐츠의 모든 필드/언어 캐시 키 */
+    private List<String> buildCacheKeys(ContentType contentType, Long contentId) {
+        List<String> keys = new ArrayList<>();
         for (SupportedLocale locale : SupportedLocale.values()) {
-            String cacheKeyPattern = buildCacheKey(contentType, contentId, "*", locale.getCode());
-            try {
-                // 패턴 매칭으로 관련 키 삭제
-                redisTemplate.delete(cacheKeyPattern.replace("*", "title"));
-                redisTemplate.delete(cacheKeyPattern.replace("*", "content"));
-            } catch (Exception e) {
-                log.warn("Redis 캐시 삭제 실패: pattern={}, error={}", cacheKeyPattern, e.getMessage());
-            }
+            keys.add(buildCacheKey(contentType, contentId, "title", locale.getCode()));
+            keys.add(buildCacheKey(contentType, contentId, "content", locale.getCode()));
         }
+        return keys;
     }
 
     /** Redis 캐시 키 생성 형식: translation:{contentType}:{contentId}:{fieldName}:{targetLocale} */
@@ -281,4 +656,33 @@ public class TranslationService {
             throw new RuntimeException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
         }
     }
+
+    /** 일괄 번역 중 필드 단위 조회 상태 */
+    private static final class FieldLookup {
+
+        private final ContentType contentType;
+        private final Long contentId;
+        private final String fieldName;
+        private final String originalText;
+        private final String originalHash;
+        private final String cacheKey;
+        private String translatedText;
+        private ContentTranslation existing;
+        private TranslationNearCache.Flight flight;
+
+        private FieldLookup(
+                ContentType contentType,
+                Long contentId,
+                String fieldName,
+                String originalText,
+                String originalHash,
+                String cacheKey) {
+            this.contentType = contentType;
+            this.contentId = contentId;
+            this.fieldName = fieldName;
+            this.originalText = originalText;
+            this.originalHash = originalHash;
+            this.cacheKey = cacheKey;
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package io.pinkspider.global.translation.dto;
+
+import io.pinkspider.global.translation.enums.ContentType;
+
+/**
+ * 일괄 번역 대상 콘텐츠
+ *
+ * @param contentType 콘텐츠 타입
+ * @param contentId 콘텐츠 ID
+ * @param title 제목 (nullable)
+ * @param content 내용
+ */
+public record TranslationTarget(
+        ContentType contentType, Long contentId, String title, String content) {
+
+    public static TranslationTarget of(
+            ContentType contentType, Long contentId, String title, String content) {
+        return new TranslationTarget(contentType, contentId, title, content);
+    }
+
+    /** 제목 없는 콘텐츠 (댓글 등) */
+    public static TranslationTarget of(ContentType contentType, Long contentId, String content) {
+        return new TranslationTarget(contentType, contentId, null, content);
+    }
+}
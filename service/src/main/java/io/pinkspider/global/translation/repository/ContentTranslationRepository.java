@@ -2,6 +2,7 @@ package io.pinkspider.global.translation.repository;
 
 import io.pinkspider.global.translation.entity.ContentTranslation;
 import io.pinkspider.global.translation.enums.ContentType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,6 +23,10 @@ public interface ContentTranslationRepository extends JpaRepository<ContentTrans
     List<ContentTranslation> findByContentTypeAndContentIdAndTargetLocale(
             ContentType contentType, Long contentId, String targetLocale);
 
+    /** 여러 콘텐츠의 번역 일괄 조회 (피드/댓글 페이지 일괄 번역용) */
+    List<ContentTranslation> findByContentTypeAndTargetLocaleAndContentIdIn(
+            ContentType contentType, String targetLocale, Collection<Long> contentIds);
+
     /** 특정 콘텐츠의 모든 번역 삭제 (콘텐츠 삭제 시) */
     @Modifying
     @Query(
@@ -2,7 +2,12 @@ package io.pinkspider.global.validation;
 
 import org.springframework.stereotype.Component;
 
-/** 한글 텍스트 정규화 및 초성 추출 유틸리티 */
+/**
+ * 한글 텍스트 정규화 및 초성 추출 유틸리티
+ *
+ * <p>정규식 대신 문자별 정규화 테이블로 한 번에 순회하며, {@link #analyze(CharSequence)}는 정규화/초성/한글만 투영을 스레드 로컬 버퍼에
+ * 함께 채워 반환한다.
+ */
 @Component
 public class KoreanTextNormalizer {
 
@@ -20,6 +25,18 @@ public class KoreanTextNormalizer {
     private static final int JUNGSUNG_COUNT = 21;
     private static final int JONGSUNG_COUNT = 28;
 
+    // 한글 자모 범위 (ㄱ-ㅎ, ㅏ-ㅣ)
+    private static final int JAMO_START = 0x3131;
+    private static final int JAMO_END = 0x3163;
+
+    private static final char DROPPED = 0;
+    private static final char[] NORMALIZED_CHAR = buildNormalizedCharTable();
+
+    // 이보다 긴 입력은 스레드 로컬 버퍼에 보관하지 않음
+    private static final int MAX_CACHED_BUFFER_LENGTH = 4_096;
+    private static final ThreadLocal<NormalizedText> BUFFER =
+            ThreadLocal.withInitial(() -> new NormalizedText(256));
+
     /**
      * 텍스트 정규화: 비교를 위한 전처리 - 소문자 변환 - 공백 및 특수문자 제거 - 한글, 영문, 숫자, 자모만 유지
      *
@@ -31,7 +48,14 @@ public class KoreanTextNormalizer {
             return "";
         }
 
-        return text.toLowerCase().replaceAll("[^가-힣a-z0-9ㄱ-ㅎㅏ-ㅣ]", "");
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char folded = NORMALIZED_CHAR[text.charAt(i)];
+            if (folded != DROPPED) {
+                result.append(folded);
+            }
+        }
+        return result.toString();
     }
 
     /**
@@ -45,13 +69,12 @@ public class KoreanTextNormalizer {
             return "";
         }
 
-        StringBuilder result = new StringBuilder();
-
-        for (char c : text.toCharArray()) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
             if (isKoreanSyllable(c)) {
                 // 완성형 한글 (가-힣)에서 초성 추출
-                int index = (c - HANGUL_BASE) / (JUNGSUNG_COUNT * JONGSUNG_COUNT);
-                result.append(CHOSUNG[index]);
+                result.append(toChosung(c));
             } else if (isKoreanJamo(c)) {
                 // 이미 자모인 경우 그대로 추가
                 result.append(c);
@@ -62,6 +85,35 @@ public class KoreanTextNormalizer {
         return result.toString();
     }
 
+    /**
+     * 정규화 텍스트, 초성, 한글만 투영을 한 번의 순회로 생성
+     *
+     * <p>반환값은 호출 스레드의 버퍼를 재사용하므로 같은 스레드의 다음 호출 전까지만 유효하다.
+     *
+     * @param text 원본 텍스트
+     * @return 세 가지 투영의 CharSequence 뷰
+     */
+    public NormalizedText analyze(CharSequence text) {
+        int length = text == null ? 0 : text.length();
+        NormalizedText result = acquireBuffer(length);
+
+        for (int i = 0; i < length; i++) {
+            char folded = NORMALIZED_CHAR[text.charAt(i)];
+            if (folded == DROPPED) {
+                continue;
+            }
+            result.appendNormalized(folded);
+            if (isKoreanSyllable(folded)) {
+                result.appendKorean(folded);
+                result.appendChosung(toChosung(folded));
+            } else if (isKoreanJamo(folded)) {
+                result.appendKorean(folded);
+                result.appendChosung(folded);
+            }
+        }
+        return result;
+    }
+
     /**
      * 완성형 한글 여부 확인 (가-힣)
      *
@@ -79,7 +131,7 @@ public class KoreanTextNormalizer {
      * @return 자모면 true
      */
     public boolean isKoreanJamo(char c) {
-        return (c >= 0x3131 && c <= 0x3163); // ㄱ-ㅣ
+        return (c >= JAMO_START && c <= JAMO_END); // ㄱ-ㅣ
     }
 
     /**
@@ -145,6 +197,53 @@ public class KoreanTextNormalizer {
             return "";
         }
 
-        return text.replaceAll("[^가-힣ㄱ-ㅎㅏ-ㅣ]", "");
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isKoreanSyllable(c) || isKoreanJamo(c)) {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static char toChosung(char syllable) {
+        return CHOSUNG[(syllable - HANGUL_BASE) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)];
+    }
+
+    private static NormalizedText acquireBuffer(int length) {
+        // 비정상적으로 긴 입력은 스레드 로컬 버퍼를 키우지 않고 일회성 버퍼 사용
+        if (length > MAX_CACHED_BUFFER_LENGTH) {
+            return new NormalizedText(length);
+        }
+        NormalizedText buffer = BUFFER.get();
+        buffer.reset(length);
+        return buffer;
+    }
+
+    /**
+     * 문자별 정규화 결과 테이블 (0: 제거)
+     *
+     * <p>기존 {@code toLowerCase().replaceAll("[^가-힣a-z0-9ㄱ-ㅎㅏ-ㅣ]", "")}와 같은 결과가 되도록 구성한다. 소문자 변환 후 a-z가 되는 비
+     * ASCII 문자는 'İ'(U+0130 → i)와 켈빈 기호(U+212A → k) 두 개뿐이다.
+     */
+    private static char[] buildNormalizedCharTable() {
+        char[] table = new char[Character.MAX_VALUE + 1];
+        for (char c = 'a'; c <= 'z'; c++) {
+            table[c] = c;
+            table[Character.toUpperCase(c)] = c;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = c;
+        }
+        for (int c = HANGUL_BASE; c <= HANGUL_END; c++) {
+            table[c] = (char) c;
+        }
+        for (int c = JAMO_START; c <= JAMO_END; c++) {
+            table[c] = (char) c;
+        }
+        table['\u0130'] = 'i';
+        table['\u212A'] = 'k';
+        return table;
     }
 }
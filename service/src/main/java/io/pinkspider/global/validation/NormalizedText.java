@@ -0,0 +1,108 @@
+package io.pinkspider.global.validation;
+
+import java.util.Objects;
+
+/**
+ * 정규화 결과 묶음 (정규화 텍스트 / 초성 / 한글만)
+ *
+ * <p>{@link KoreanTextNormalizer#analyze(CharSequence)}가 한 번의 순회로 세 가지 투영을 함께 채운다. 각 투영은 내부 버퍼를 그대로
+ * 노출하는 {@link CharSequence} 뷰이므로 매처가 중간 String 없이 바로 소비할 수 있다.
+ *
+ * <p>스레드 로컬 버퍼를 재사용하므로 같은 스레드에서 다음 {@code analyze} 호출 전까지만 유효하다. 보관이 필요하면 {@code toString()}으로
+ * 복사해야 한다.
+ */
+public final class NormalizedText {
+
+    private final Projection normalized;
+    private final Projection chosung;
+    private final Projection koreanOnly;
+
+    NormalizedText(int capacity) {
+        this.normalized = new Projection(capacity);
+        this.chosung = new Projection(capacity);
+        this.koreanOnly = new Projection(capacity);
+    }
+
+    /** 소문자 변환 + 한글/영문/숫자/자모 외 문자 제거 */
+    public CharSequence normalized() {
+        return normalized;
+    }
+
+    /** 한글 초성 (완성형은 초성으로, 자모는 그대로) */
+    public CharSequence chosung() {
+        return chosung;
+    }
+
+    /** 한글(완성형 + 자모)만 */
+    public CharSequence koreanOnly() {
+        return koreanOnly;
+    }
+
+    int capacity() {
+        return normalized.buffer.length;
+    }
+
+    void reset(int capacity) {
+        normalized.reset(capacity);
+        chosung.reset(capacity);
+        koreanOnly.reset(capacity);
+    }
+
+    void appendNormalized(char c) {
+        normalized.append(c);
+    }
+
+    void appendChosung(char c) {
+        chosung.append(c);
+    }
+
+    void appendKorean(char c) {
+        koreanOnly.append(c);
+    }
+
+    /** 재사용 가능한 문자 버퍼 뷰 */
+    private static final class Projection implements CharSequence {
+
+        private char[] buffer;
+        private int length;
+
+        Projection(int capacity) {
+            this.buffer = new char[capacity];
+        }
+
+        void reset(int capacity) {
+            if (buffer.length < capacity) {
+                buffer = new char[Math.max(capacity, buffer.length * 2)];
+            }
+            length = 0;
+        }
+
+        void append(char c) {
+            buffer[length++] = c;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return buffer[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return new String(buffer, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(buffer, 0, length);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.pinkspider.global.websocket;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * 노드 간 /topic 릴레이 프레임 (바이너리)
+ *
+ * <p>STOMP 헤더 전체 대신 구독자 전달에 필요한 값만 싣는다. JSON 래핑/Base64 없이 본문 바이트를 그대로 붙인다.
+ *
+ * <pre>
+ * byte   버전 (1)
+ * long   발신 노드 ID (자기 메시지 무시용)
+ * UTF    destination (2바이트 길이 + modified UTF-8)
+ * byte   content-type 코드 (0 없음, 1 application/json, 2 text/plain, 3 그 외 → UTF 문자열이 뒤따름)
+ * bytes  본문 (나머지 전부)
+ * </pre>
+ *
+ * @param origin 발신 노드 ID
+ * @param destination 구독 목적지 (/topic/...)
+ * @param contentType content-type (없으면 null)
+ * @param payload 본문 바이트
+ */
+public record ClusterTopicFrame(
+        long origin, String destination, @Nullable String contentType, byte[] payload) {
+
+    static final byte VERSION = 1;
+
+    private static final String JSON = "application/json";
+    private static final String TEXT = "text/plain";
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes =
+                new ByteArrayOutputStream(payload.length + destination.length() + 16);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(origin);
+            out.writeUTF(destination);
+            if (contentType == null) {
+                out.writeByte(0);
+            } else if (contentType.equals(JSON)) {
+                out.writeByte(1);
+            } else if (contentType.equals(TEXT)) {
+                out.writeByte(2);
+            } else {
+                out.writeByte(3);
+                out.writeUTF(contentType);
+            }
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 버전/형식
+     */
+    public static ClusterTopicFrame decode(byte[] frame) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 릴레이 프레임 버전: " + version);
+            }
+            long origin = in.readLong();
+            String destination = in.readUTF();
+            String contentType =
+                    switch (in.readByte()) {
+                        case 0 -> null;
+                        case 1 -> JSON;
+                        case 2 -> TEXT;
+                        case 3 -> in.readUTF();
+                        default -> throw new IllegalArgumentException("알 수 없는 content-type 코드");
+                    };
+            return new ClusterTopicFrame(origin, destination, contentType, in.readAllBytes());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("릴레이 프레임 해석 실패", e);
+        }
+    }
+}
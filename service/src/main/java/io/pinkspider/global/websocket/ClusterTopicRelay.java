@@ -0,0 +1,167 @@
+package io.pinkspider.global.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * /topic 메시지 노드 간 릴레이 (websocket.cluster.mode=redis)
+ *
+ * <p>brokerChannel 인터셉터로 서버가 발행한 /topic 메시지를 가로채 Redis 샤드 채널에 {@link ClusterTopicFrame} 으로
+ * 발행하고, 원래 메시지는 그대로 통과시켜 같은 노드 구독자에게는 지금처럼 simple broker 가 전달한다. 다른 노드는 채널을
+ * 구독하다가 자기 brokerChannel 로 다시 흘려보낸다. 재수신한 메시지는 {@link #RELAYED_HEADER} 로 표시해 재발행하지 않는다.
+ *
+ * <p>Redis 장애 시 다른 노드 전달만 빠지고 로컬 전달에는 영향이 없다. pub/sub 특성상 노드 간 전달은 at-most-once 이다.
+ *
+ * <p>/user 목적지(DM, 알림)는 세션이 있는 노드에서만 해석되므로 대상이 아니다. 알림은 NotificationRealtimeRelay 가 따로
+ * 처리한다.
+ *
+ * <p>지표: websocket.cluster.relay (direction=out|in, result=ok|failed)
+ */
+@Slf4j
+@Component
+@Profile("!test")
+public class ClusterTopicRelay implements ChannelInterceptor, MessageListener {
+
+    public static final String CHANNEL_PREFIX = "ws:topic:";
+    public static final String RELAYED_HEADER = "clusterRelayed";
+
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String GUILD_TOPIC_PREFIX = "/topic/guild/";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MessageChannel brokerChannel;
+    private final WebSocketClusterProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /** 자기 발행분 구분용 (Redis 는 발행한 노드에도 메시지를 돌려준다) */
+    private final long nodeId = ThreadLocalRandom.current().nextLong();
+
+    public ClusterTopicRelay(
+            StringRedisTemplate stringRedisTemplate,
+            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+            WebSocketClusterProperties properties,
+            MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.brokerChannel = brokerChannel;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public static String channel(int shard) {
+        return CHANNEL_PREFIX + shard;
+    }
+
+    /** 길드 목적지(/topic/guild/{id}/...)는 guildId, 그 외는 목적지 해시로 샤드를 정한다 */
+    static int shardOf(String destination, int shards) {
+        if (destination.startsWith(GUILD_TOPIC_PREFIX)) {
+            int end = destination.indexOf('/', GUILD_TOPIC_PREFIX.length());
+            String guildId =
+                    destination.substring(
+                            GUILD_TOPIC_PREFIX.length(), end < 0 ? destination.length() : end);
+            try {
+                return Math.floorMod(Long.parseLong(guildId), shards);
+            } catch (NumberFormatException ignored) {
+                // 숫자가 아니면 해시로
+            }
+        }
+        return Math.floorMod(destination.hashCode(), shards);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!properties.isRelayEnabled()
+                || message.getHeaders().containsKey(RELAYED_HEADER)
+                || SimpMessageHeaderAccessor.getMessageType(message.getHeaders())
+                        != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = SimpMessageHeaderAccessor.getContentType(message.getHeaders());
+            byte[] frame =
+                    new ClusterTopicFrame(
+                                    nodeId,
+                                    destination,
+                                    contentType != null ? contentType.toString() : null,
+                                    payloadBytes(message.getPayload()))
+                            .encode();
+            byte[] redisChannel =
+                    channel(shardOf(destination, properties.getShards()))
+                            .getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.execute(
+                    (RedisCallback<Long>) connection -> connection.publish(redisChannel, frame));
+            count("out", "ok");
+        } catch (Exception e) {
+            count("out", "failed");
+            log.warn(
+                    "/topic 릴레이 발행 실패 (로컬 전달은 계속): destination={}, error={}",
+                    destination,
+                    e.getMessage());
+        }
+        // 로컬 구독자 전달은 발행 성공 여부와 무관하게 진행
+        return message;
+    }
+
+    @Override
+    public void onMessage(
+            org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        try {
+            ClusterTopicFrame frame = ClusterTopicFrame.decode(message.getBody());
+            if (frame.origin() == nodeId) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor =
+                    SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(frame.destination());
+            if (frame.contentType() != null) {
+                accessor.setContentType(MimeTypeUtils.parseMimeType(frame.contentType()));
+            }
+            accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+            brokerChannel.send(
+                    MessageBuilder.createMessage(frame.payload(), accessor.getMessageHeaders()));
+            count("in", "ok");
+        } catch (Exception e) {
+            count("in", "failed");
+            log.warn("/topic 릴레이 수신 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] payloadBytes(Object payload) {
+        if (payload instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (payload instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        throw new IllegalArgumentException(
+                "직렬화되지 않은 payload: " + payload.getClass().getName());
+    }
+
+    private void count(String direction, String result) {
+        meterRegistry
+                .counter("websocket.cluster.relay", "direction", direction, "result", result)
+                .increment();
+    }
+}
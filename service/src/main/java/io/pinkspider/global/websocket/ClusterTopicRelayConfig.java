@@ -0,0 +1,37 @@
+package io.pinkspider.global.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/** /topic 노드 간 릴레이용 Redis pub/sub 리스너 설정 */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+public class ClusterTopicRelayConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final ClusterTopicRelay clusterTopicRelay;
+    private final WebSocketClusterProperties properties;
+
+    @Bean
+    public RedisMessageListenerContainer clusterTopicRelayListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        // 기본 실행기는 메시지마다 스레드를 띄워 같은 길드 메시지 순서가 뒤바뀔 수 있다.
+        // brokerChannel 전달은 clientOutboundChannel 큐에 넣고 바로 돌아오므로 수신 스레드에서 처리한다.
+        container.setTaskExecutor(new SyncTaskExecutor());
+        if (properties.isRelayEnabled()) {
+            for (int shard = 0; shard < properties.getShards(); shard++) {
+                container.addMessageListener(
+                        clusterTopicRelay, new ChannelTopic(ClusterTopicRelay.channel(shard)));
+            }
+        }
+        return container;
+    }
+}
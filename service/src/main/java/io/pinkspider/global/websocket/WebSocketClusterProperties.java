@@ -0,0 +1,30 @@
+package io.pinkspider.global.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WebSocket 멀티 노드 브로커 설정
+ *
+ * <p>simple broker 는 노드 자신의 구독만 알기 때문에, 다른 노드에 붙은 구독자에게는 /topic 메시지가 전달되지 않는다. mode 가
+ * redis 이면 {@link ClusterTopicRelay} 가 /topic 메시지를 Redis pub/sub 으로 다른 노드에 복제한다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "websocket.cluster")
+public class WebSocketClusterProperties {
+
+    /** 브로커 모드 (simple: 노드 로컬만, redis: Redis pub/sub 으로 /topic 복제) */
+    private String mode = "simple";
+
+    /** 릴레이 채널 샤드 수 (길드 채팅은 guildId 기준으로 고정 샤드에 배정되어 길드 내 순서가 유지된다) */
+    private int shards = 16;
+
+    /** Redis 릴레이 사용 여부 */
+    public boolean isRelayEnabled() {
+        return "redis".equalsIgnoreCase(mode);
+    }
+}
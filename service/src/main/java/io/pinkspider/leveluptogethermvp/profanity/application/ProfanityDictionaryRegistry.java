@@ -0,0 +1,133 @@
+package io.pinkspider.leveluptogethermvp.profanity.application;
+
+import io.pinkspider.global.validation.KoreanTextNormalizer;
+import io.pinkspider.leveluptogethermvp.profanity.matcher.ProfanityDictionary;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 컴파일된 금칙어 사전 보관소
+ *
+ * <p>탐지 요청마다 금칙어 목록을 비교하지 않는다. 이 노드의 Admin 수정은 {@link #invalidate()}로 즉시 다시 컴파일하고, 다른 노드에서
+ * 바뀐 목록은 recheck-interval마다 profanityWords 캐시와 한 번 비교해(같은 Set 인스턴스면 비교 생략) 달라졌을 때만 다시
+ * 컴파일한 뒤 참조를 원자적으로 교체한다. 탐지 중인 요청은 기존 스냅샷을 그대로 사용한다.
+ *
+ * <p>Admin 수정 트랜잭션 안에서 무효화하면 커밋 전에 다른 요청이 이전 목록으로 다시 컴파일할 수 있으므로, 무효화는 커밋 후
+ * profanityWords 캐시를 비운 다음 수행하고, 무효화 전에 읽은 목록으로 컴파일한 결과는 보관하지 않는다.
+ */
+@Slf4j
+@Component
+public class ProfanityDictionaryRegistry {
+
+    static final String WORDS_CACHE = "profanityWords";
+
+    private final ProfanityValidationService profanityValidationService;
+    private final KoreanTextNormalizer normalizer;
+    private final CacheManager cacheManager;
+    private final long recheckIntervalNanos;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    // 무효화 세대 (무효화 전에 읽은 목록으로 컴파일한 사전을 보관하지 않기 위함)
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 컴파일된 사전 + 컴파일에 쓴 금칙어 목록 + 마지막 확인 시각 */
+    private record Snapshot(ProfanityDictionary dictionary, Set<String> sourceWords, long checkedAt) {
+
+        Snapshot checked(Set<String> words, long now) {
+            return new Snapshot(dictionary, words, now);
+        }
+    }
+
+    public ProfanityDictionaryRegistry(
+            ProfanityValidationService profanityValidationService,
+            KoreanTextNormalizer normalizer,
+            CacheManager cacheManager,
+            @Value("${profanity.dictionary.recheck-interval:30s}") Duration recheckInterval) {
+        this.profanityValidationService = profanityValidationService;
+        this.normalizer = normalizer;
+        this.cacheManager = cacheManager;
+        this.recheckIntervalNanos = recheckInterval.toNanos();
+    }
+
+    /** 현재 활성 금칙어 목록에 해당하는 컴파일된 사전 조회 */
+    public ProfanityDictionary getDictionary() {
+        Snapshot snapshot = current.get();
+        long now = System.nanoTime();
+        if (snapshot != null && now - snapshot.checkedAt() < recheckIntervalNanos) {
+            return snapshot.dictionary();
+        }
+
+        long readGeneration = generation.get();
+        Set<String> words = profanityValidationService.getActiveProfanityWords();
+        if (snapshot != null && isSameWords(snapshot, words)) {
+            current.compareAndSet(snapshot, snapshot.checked(words, now));
+            return snapshot.dictionary();
+        }
+        return rebuild(words, readGeneration);
+    }
+
+    /**
+     * 컴파일된 사전 무효화 (다음 조회 시 재컴파일)
+     *
+     * <p>트랜잭션 안에서 호출되면 커밋 후에 profanityWords 캐시를 비우고 무효화한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            evictAndInvalidate();
+                        }
+                    });
+        } else {
+            evictAndInvalidate();
+        }
+    }
+
+    private void evictAndInvalidate() {
+        Cache cache = cacheManager.getCache(WORDS_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+        synchronized (this) {
+            generation.incrementAndGet();
+            current.set(null);
+        }
+        log.info("컴파일된 금칙어 사전 무효화");
+    }
+
+    private synchronized ProfanityDictionary rebuild(Set<String> words, long readGeneration) {
+        Snapshot snapshot = current.get();
+        if (snapshot != null && isSameWords(snapshot, words)) {
+            return snapshot.dictionary();
+        }
+
+        long startedAt = System.nanoTime();
+        ProfanityDictionary compiled = ProfanityDictionary.compile(words, normalizer);
+        if (generation.get() != readGeneration) {
+            // 목록을 읽은 뒤 무효화됨 — 이번 요청에만 쓰고 보관하지 않는다
+            return compiled;
+        }
+        current.set(new Snapshot(compiled, words, System.nanoTime()));
+        log.info(
+                "금칙어 사전 컴파일 완료 - 총 {}개, {}ms",
+                compiled.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return compiled;
+    }
+
+    /** 로컬 캐시는 같은 Set 인스턴스를 돌려주므로 참조가 같으면 내용 비교를 생략한다 */
+    private static boolean isSameWords(Snapshot snapshot, Set<String> words) {
+        return snapshot.sourceWords() == words || snapshot.dictionary().isCompiledFrom(words);
+    }
+}
@@ -15,7 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-/** ProfanityWord Admin CRUD 서비스 Admin Internal API를 통해 호출되며, 캐시를 자동 무효화 */
+/** ProfanityWord Admin CRUD 서비스 Admin Internal API를 통해 호출되며, 캐시와 컴파일된 금칙어 사전을 자동 무효화 */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProfanityWordAdminService {
 
     private final ProfanityWordRepository profanityWordRepository;
+    private final ProfanityDictionaryRegistry profanityDictionaryRegistry;
 
     public List<ProfanityWordResponse> getAllProfanityWords() {
         return profanityWordRepository.findAll().stream()
@@ -70,6 +71,7 @@ public class ProfanityWordAdminService {
                         .build();
 
         ProfanityWord saved = profanityWordRepository.save(word);
+        profanityDictionaryRegistry.invalidate();
         log.info("금칙어 생성: word={}", saved.getWord());
         return ProfanityWordResponse.from(saved);
     }
@@ -96,6 +98,7 @@ public class ProfanityWordAdminService {
         word.setDescription(request.getDescription());
 
         ProfanityWord saved = profanityWordRepository.save(word);
+        profanityDictionaryRegistry.invalidate();
         log.info("금칙어 수정: id={}, word={}", id, saved.getWord());
         return ProfanityWordResponse.from(saved);
     }
@@ -107,6 +110,7 @@ public class ProfanityWordAdminService {
             throw new CustomException("404", "error.profanity.not_found");
         }
         profanityWordRepository.deleteById(id);
+        profanityDictionaryRegistry.invalidate();
         log.info("금칙어 삭제: id={}", id);
     }
 
@@ -120,6 +124,7 @@ public class ProfanityWordAdminService {
 
         word.setIsActive(!word.getIsActive());
         ProfanityWord saved = profanityWordRepository.save(word);
+        profanityDictionaryRegistry.invalidate();
         log.info("금칙어 활성 상태 변경: id={}, isActive={}", id, saved.getIsActive());
         return ProfanityWordResponse.from(saved);
     }
@@ -0,0 +1,171 @@
+package io.pinkspider.leveluptogethermvp.profanity.matcher;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick 다중 패턴 매처
+ *
+ * <p>사전 전체를 하나의 오토마톤으로 컴파일하여 입력 텍스트를 한 번만 순회하면서 포함된 패턴을 찾는다. 단어 수와 무관하게 O(텍스트 길이)로
+ * 동작하며, 컴파일 이후에는 불변이므로 여러 스레드에서 동시에 사용해도 안전하다.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NO_MATCH = -1;
+
+    private static final AhoCorasickMatcher EMPTY = compile(Map.of());
+
+    // 노드별 전이 테이블 (문자 오름차순 정렬, 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 해당 상태에서 끝나는 패턴의 payload 인덱스 (실패 링크를 따라 전파됨)
+    private final int[] output;
+    private final String[] payloads;
+
+    private AhoCorasickMatcher(
+            char[][] edgeChars, int[][] edgeTargets, int[] failure, int[] output, String[] payloads) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.output = output;
+        this.payloads = payloads;
+    }
+
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 패턴 → payload 매핑으로 오토마톤 컴파일
+     *
+     * @param patterns key: 검색할 패턴, value: 매칭 시 반환할 값 (예: 원본 금칙어). 빈 패턴은 무시
+     * @return 컴파일된 매처
+     */
+    public static AhoCorasickMatcher compile(Map<String, String> patterns) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        List<String> payloadList = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(NO_MATCH);
+
+        for (Map.Entry<String, String> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminals.add(NO_MATCH);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            if (terminals.get(node) == NO_MATCH) {
+                terminals.set(node, payloadList.size());
+                payloadList.add(entry.getValue());
+            }
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        int[] failure = new int[size];
+        int[] output = new int[size];
+        output[ROOT] = terminals.get(ROOT);
+
+        // BFS 순서로 실패 링크 계산 - 얕은 노드가 먼저 확정되므로 output 전파가 한 번에 끝난다
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            failure[child] = ROOT;
+            output[child] = terminals.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                int target;
+                while ((target = transition(edgeChars, edgeTargets, fallback, c)) == NO_MATCH
+                        && fallback != ROOT) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = target == NO_MATCH ? ROOT : target;
+
+                int terminal = terminals.get(child);
+                output[child] = terminal != NO_MATCH ? terminal : output[failure[child]];
+                queue.add(child);
+            }
+        }
+
+        return new AhoCorasickMatcher(
+                edgeChars, edgeTargets, failure, output, payloadList.toArray(new String[0]));
+    }
+
+    /**
+     * 텍스트를 한 번 순회하며 처음 발견된 패턴의 payload 반환
+     *
+     * @param text 검사할 텍스트
+     * @return 매칭된 패턴의 payload, 없으면 null
+     */
+    public String findFirst(CharSequence text) {
+        if (payloads.length == 0 || text == null) {
+            return null;
+        }
+
+        int state = ROOT;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = transition(edgeChars, edgeTargets, state, c)) == NO_MATCH
+                    && state != ROOT) {
+                state = failure[state];
+            }
+            state = next == NO_MATCH ? ROOT : next;
+
+            if (output[state] != NO_MATCH) {
+                return payloads[output[state]];
+            }
+        }
+        return null;
+    }
+
+    /** 등록된 (중복 제거된) 패턴 수 */
+    public int size() {
+        return payloads.length;
+    }
+
+    public boolean isEmpty() {
+        return payloads.length == 0;
+    }
+
+    private static int transition(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : NO_MATCH;
+    }
+}
@@ -0,0 +1,94 @@
+package io.pinkspider.leveluptogethermvp.profanity.matcher;
+
+import java.util.Arrays;
+
+/**
+ * Myers(Hyyrö) 비트 병렬 레벤슈타인 거리 커널
+ *
+ * <p>패턴 문자열의 문자별 위치 비트마스크(Peq)를 미리 계산해 두고, 텍스트 한 글자당 상수 개의 비트 연산으로 DP 한 열을 갱신한다. 패턴 길이는
+ * {@link #MAX_LENGTH}(long 비트 수) 이하여야 하며, 거리 계산 시 힙 할당이 없다.
+ */
+final class LevenshteinPattern {
+
+    static final int MAX_LENGTH = Long.SIZE;
+
+    private final String pattern;
+    // 패턴에 등장하는 문자 (오름차순) 와 해당 문자의 위치 비트마스크
+    private final char[] alphabet;
+    private final long[] masks;
+    private final long highBit;
+
+    LevenshteinPattern(String pattern) {
+        if (pattern.isEmpty() || pattern.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("pattern length must be 1.." + MAX_LENGTH);
+        }
+        this.pattern = pattern;
+        this.highBit = 1L << (pattern.length() - 1);
+
+        char[] sorted = pattern.toCharArray();
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        this.alphabet = Arrays.copyOf(sorted, distinct);
+        this.masks = new long[distinct];
+        for (int i = 0; i < pattern.length(); i++) {
+            masks[Arrays.binarySearch(alphabet, pattern.charAt(i))] |= 1L << i;
+        }
+    }
+
+    static boolean supports(String pattern) {
+        return !pattern.isEmpty() && pattern.length() <= MAX_LENGTH;
+    }
+
+    String pattern() {
+        return pattern;
+    }
+
+    int length() {
+        return pattern.length();
+    }
+
+    /**
+     * 패턴과 text[start, end) 사이의 레벤슈타인 거리
+     *
+     * @param text 비교할 텍스트
+     * @param start 시작 인덱스 (포함)
+     * @param end 끝 인덱스 (미포함)
+     * @return 편집 거리
+     */
+    int distance(CharSequence text, int start, int end) {
+        long pv = -1L;
+        long mv = 0L;
+        int score = pattern.length();
+
+        for (int i = start; i < end; i++) {
+            long eq = peq(text.charAt(i));
+            long xv = eq | mv;
+            long xh = (((eq & pv) + pv) ^ pv) | eq;
+            long ph = mv | ~(xh | pv);
+            long mh = pv & xh;
+
+            if ((ph & highBit) != 0) {
+                score++;
+            } else if ((mh & highBit) != 0) {
+                score--;
+            }
+
+            // 전역 편집 거리: 0행의 수평 증가분(+1)을 자리올림으로 넣는다
+            ph = (ph << 1) | 1L;
+            mh = mh << 1;
+            pv = mh | ~(xv | ph);
+            mv = ph & xv;
+        }
+        return score;
+    }
+
+    private long peq(char c) {
+        int index = Arrays.binarySearch(alphabet, c);
+        return index >= 0 ? masks[index] : 0L;
+    }
+}
@@ -0,0 +1,131 @@
+package io.pinkspider.leveluptogethermvp.profanity.matcher;
+
+import io.pinkspider.global.validation.KoreanTextNormalizer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴파일된 금칙어 사전 (불변 스냅샷)
+ *
+ * <p>활성 금칙어 목록 한 버전에 대해 원문/정규화/초성 사전을 각각 Aho-Corasick 오토마톤으로, 정규화 사전을 유사어 인덱스(문자 역색인)로
+ * 미리 컴파일해 둔다. 탐지 시에는 단어별 정규화나 초성 추출 없이 입력만 순회한다.
+ */
+public final class ProfanityDictionary {
+
+    private static final ProfanityDictionary EMPTY =
+            new ProfanityDictionary(
+                    Set.of(),
+                    AhoCorasickMatcher.empty(),
+                    AhoCorasickMatcher.empty(),
+                    AhoCorasickMatcher.empty(),
+                    SimilarWordIndex.empty());
+
+    private final Set<String> sourceWords;
+    private final AhoCorasickMatcher rawMatcher;
+    private final AhoCorasickMatcher normalizedMatcher;
+    private final AhoCorasickMatcher chosungMatcher;
+    private final SimilarWordIndex similarWordIndex;
+
+    private ProfanityDictionary(
+            Set<String> sourceWords,
+            AhoCorasickMatcher rawMatcher,
+            AhoCorasickMatcher normalizedMatcher,
+            AhoCorasickMatcher chosungMatcher,
+            SimilarWordIndex similarWordIndex) {
+        this.sourceWords = sourceWords;
+        this.rawMatcher = rawMatcher;
+        this.normalizedMatcher = normalizedMatcher;
+        this.chosungMatcher = chosungMatcher;
+        this.similarWordIndex = similarWordIndex;
+    }
+
+    public static ProfanityDictionary empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 금칙어 목록으로 사전 컴파일
+     *
+     * @param words 활성 금칙어 목록
+     * @param normalizer 한글 정규화기
+     * @return 컴파일된 사전
+     */
+    public static ProfanityDictionary compile(Set<String> words, KoreanTextNormalizer normalizer) {
+        if (words == null || words.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<String, String> raw = new LinkedHashMap<>();
+        Map<String, String> normalized = new LinkedHashMap<>();
+        Map<String, String> chosung = new LinkedHashMap<>();
+
+        for (String word : words) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            raw.putIfAbsent(word, word);
+
+            String normalizedWord = normalizer.normalize(word);
+            if (!normalizedWord.isEmpty()) {
+                normalized.putIfAbsent(normalizedWord, word);
+            }
+
+            // 금칙어가 초성만으로 이루어진 경우(예: ㅅㅂ)도 동일한 초성 사전으로 처리된다
+            String wordChosung = normalizer.extractChosung(word);
+            if (!wordChosung.isEmpty()) {
+                chosung.putIfAbsent(wordChosung, word);
+            }
+        }
+
+        return new ProfanityDictionary(
+                Set.copyOf(words),
+                AhoCorasickMatcher.compile(raw),
+                AhoCorasickMatcher.compile(normalized),
+                AhoCorasickMatcher.compile(chosung),
+                SimilarWordIndex.build(normalized));
+    }
+
+    /** 주어진 금칙어 목록으로 컴파일된 사전인지 확인 */
+    public boolean isCompiledFrom(Set<String> words) {
+        if (words == null || words.isEmpty()) {
+            return sourceWords.isEmpty();
+        }
+        return sourceWords.equals(words);
+    }
+
+    public boolean isEmpty() {
+        return rawMatcher.isEmpty();
+    }
+
+    /** 원문 그대로 포함된 금칙어 탐색 (LENIENT) */
+    public String findRawMatch(CharSequence content) {
+        return rawMatcher.findFirst(content);
+    }
+
+    /** 정규화된 컨텐츠에 포함된 정규화 금칙어 탐색 */
+    public String findNormalizedMatch(CharSequence normalizedContent) {
+        return normalizedMatcher.findFirst(normalizedContent);
+    }
+
+    /** 초성 사전 탐색 (컨텐츠의 초성 추출 결과 또는 정규화된 컨텐츠 대상) */
+    public String findChosungMatch(CharSequence text) {
+        return chosungMatcher.findFirst(text);
+    }
+
+    /**
+     * 정규화된 컨텐츠에서 편집 거리 1~maxDistance 인 금칙어 탐색 (STRICT)
+     *
+     * @param normalizedContent 정규화된 컨텐츠
+     * @param maxDistance 허용 편집 거리
+     * @return 유사어 매칭 결과, 없으면 null
+     */
+    public SimilarWordIndex.SimilarWordMatch findSimilarMatch(
+            CharSequence normalizedContent, int maxDistance) {
+        return similarWordIndex.findFirst(normalizedContent, maxDistance);
+    }
+
+    public int size() {
+        return sourceWords.size();
+    }
+}
@@ -0,0 +1,248 @@
+package io.pinkspider.leveluptogethermvp.profanity.matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * STRICT 모드 유사어(오타) 탐지 인덱스
+ *
+ * <p>정규화된 금칙어를 길이별 버킷으로 나누고, 버킷마다 "문자 → 그 문자를 포함한 금칙어" 역색인을 만들어 둔다. 길이 m인 금칙어가 윈도우와 편집
+ * 거리 k 이내이려면 금칙어의 글자 중 최소 m-k개가 윈도우에 있어야 하므로(m > k), 윈도우 글자의 역색인에 걸린 후보만 {@link
+ * LevenshteinPattern} 비트 병렬 커널로 검증한다. 윈도우는 (시작, 끝) 인덱스로만 다루므로 검사 중 힙 할당이 없다.
+ *
+ * <p>윈도우 정의는 기존 구현과 동일하다: 길이 m인 금칙어에 대해 위치 i(0 ≤ i ≤ n-m)마다 content[i, min(i+m+k, n)]과 비교하고, 거리가
+ * 1 이상 k 이하이면 매칭으로 본다 (거리 0은 NORMAL 검사에서 이미 처리됨).
+ */
+public final class SimilarWordIndex {
+
+    private static final SimilarWordIndex EMPTY = new SimilarWordIndex(new Bucket[0], List.of());
+
+    // 금칙어 길이 오름차순 버킷
+    private final Bucket[] buckets;
+    // 비트 병렬 커널 한계(64자)를 넘는 금칙어 {정규화, 원본} (DP로 검사)
+    private final List<String[]> longWords;
+
+    private SimilarWordIndex(Bucket[] buckets, List<String[]> longWords) {
+        this.buckets = buckets;
+        this.longWords = longWords;
+    }
+
+    public static SimilarWordIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 정규화된 금칙어 → 원본 금칙어 매핑으로 인덱스 구성
+     *
+     * @param normalizedWords key: 정규화된 금칙어, value: 원본 금칙어
+     * @return 유사어 인덱스
+     */
+    public static SimilarWordIndex build(Map<String, String> normalizedWords) {
+        TreeMap<Integer, List<String[]>> byLength = new TreeMap<>();
+        List<String[]> longWords = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : normalizedWords.entrySet()) {
+            String normalizedWord = entry.getKey();
+            if (normalizedWord == null || normalizedWord.isEmpty()) {
+                continue;
+            }
+            String[] word = {normalizedWord, entry.getValue()};
+            if (LevenshteinPattern.supports(normalizedWord)) {
+                byLength.computeIfAbsent(normalizedWord.length(), length -> new ArrayList<>())
+                        .add(word);
+            } else {
+                longWords.add(word);
+            }
+        }
+
+        Bucket[] buckets =
+                byLength.entrySet().stream()
+                        .map(entry -> Bucket.of(entry.getKey(), entry.getValue()))
+                        .toArray(Bucket[]::new);
+        return new SimilarWordIndex(buckets, List.copyOf(longWords));
+    }
+
+    /**
+     * 정규화된 컨텐츠에서 거리 1~maxDistance 인 금칙어 탐색
+     *
+     * @param normalizedContent 정규화된 컨텐츠
+     * @param maxDistance 허용 편집 거리
+     * @return 처음 발견된 유사어 매칭, 없으면 null
+     */
+    public SimilarWordMatch findFirst(CharSequence normalizedContent, int maxDistance) {
+        if (maxDistance <= 0 || normalizedContent == null) {
+            return null;
+        }
+
+        int contentLength = normalizedContent.length();
+        for (Bucket bucket : buckets) {
+            if (bucket.wordLength > contentLength) {
+                break;
+            }
+            for (int start = 0; start <= contentLength - bucket.wordLength; start++) {
+                int end = Math.min(start + bucket.wordLength + maxDistance, contentLength);
+                SimilarWordMatch match = bucket.find(normalizedContent, start, end, maxDistance);
+                if (match != null) {
+                    return match;
+                }
+            }
+        }
+
+        for (String[] longWord : longWords) {
+            SimilarWordMatch match =
+                    findLongWord(normalizedContent, longWord[0], longWord[1], maxDistance);
+            if (match != null) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return buckets.length == 0 && longWords.isEmpty();
+    }
+
+    private static SimilarWordMatch findLongWord(
+            CharSequence content, String normalizedWord, String word, int maxDistance) {
+        int wordLength = normalizedWord.length();
+        for (int start = 0; start <= content.length() - wordLength; start++) {
+            int end = Math.min(start + wordLength + maxDistance, content.length());
+            int distance = dynamicDistance(content, start, end, normalizedWord);
+            if (distance > 0 && distance <= maxDistance) {
+                return new SimilarWordMatch(word, distance);
+            }
+        }
+        return null;
+    }
+
+    private static int dynamicDistance(CharSequence text, int start, int end, String word) {
+        int[] previous = new int[word.length() + 1];
+        int[] current = new int[word.length() + 1];
+        for (int j = 0; j <= word.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = start; i < end; i++) {
+            current[0] = i - start + 1;
+            for (int j = 1; j <= word.length(); j++) {
+                int cost = text.charAt(i) == word.charAt(j - 1) ? 0 : 1;
+                current[j] =
+                        Math.min(
+                                Math.min(previous[j] + 1, current[j - 1] + 1),
+                                previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[word.length()];
+    }
+
+    /** 유사어 매칭 결과 */
+    public record SimilarWordMatch(String word, int distance) {}
+
+    /** 같은 길이의 금칙어 버킷 (문자 역색인 포함, 구성 후 불변) */
+    private static final class Bucket {
+
+        private final int wordLength;
+        private final LevenshteinPattern[] patterns;
+        private final String[] words;
+        // 문자 (오름차순) → 해당 문자를 포함한 금칙어 번호
+        private final char[] postingChars;
+        private final int[][] postings;
+
+        private Bucket(
+                int wordLength,
+                LevenshteinPattern[] patterns,
+                String[] words,
+                char[] postingChars,
+                int[][] postings) {
+            this.wordLength = wordLength;
+            this.patterns = patterns;
+            this.words = words;
+            this.postingChars = postingChars;
+            this.postings = postings;
+        }
+
+        static Bucket of(int wordLength, List<String[]> entries) {
+            LevenshteinPattern[] patterns = new LevenshteinPattern[entries.size()];
+            String[] words = new String[entries.size()];
+            TreeMap<Character, List<Integer>> postingMap = new TreeMap<>();
+
+            for (int id = 0; id < entries.size(); id++) {
+                String normalizedWord = entries.get(id)[0];
+                patterns[id] = new LevenshteinPattern(normalizedWord);
+                words[id] = entries.get(id)[1];
+                for (int i = 0; i < normalizedWord.length(); i++) {
+                    List<Integer> posting =
+                            postingMap.computeIfAbsent(
+                                    normalizedWord.charAt(i), c -> new ArrayList<>());
+                    if (posting.isEmpty() || posting.get(posting.size() - 1) != id) {
+                        posting.add(id);
+                    }
+                }
+            }
+
+            char[] postingChars = new char[postingMap.size()];
+            int[][] postings = new int[postingMap.size()][];
+            int index = 0;
+            for (Map.Entry<Character, List<Integer>> entry : postingMap.entrySet()) {
+                postingChars[index] = entry.getKey();
+                postings[index] = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                index++;
+            }
+            return new Bucket(wordLength, patterns, words, postingChars, postings);
+        }
+
+        SimilarWordMatch find(CharSequence text, int start, int end, int maxDistance) {
+            // 금칙어 길이가 k 이하이면 공통 글자가 없어도 거리 k 이내일 수 있으므로 전체 검사
+            if (wordLength <= maxDistance) {
+                for (int id = 0; id < patterns.length; id++) {
+                    SimilarWordMatch match = verify(id, text, start, end, maxDistance);
+                    if (match != null) {
+                        return match;
+                    }
+                }
+                return null;
+            }
+
+            for (int i = start; i < end; i++) {
+                char c = text.charAt(i);
+                if (seenBefore(text, start, i, c)) {
+                    continue;
+                }
+                int index = Arrays.binarySearch(postingChars, c);
+                if (index < 0) {
+                    continue;
+                }
+                for (int id : postings[index]) {
+                    SimilarWordMatch match = verify(id, text, start, end, maxDistance);
+                    if (match != null) {
+                        return match;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private SimilarWordMatch verify(
+                int id, CharSequence text, int start, int end, int maxDistance) {
+            int distance = patterns[id].distance(text, start, end);
+            if (distance > 0 && distance <= maxDistance) {
+                return new SimilarWordMatch(words[id], distance);
+            }
+            return null;
+        }
+
+        private static boolean seenBefore(CharSequence text, int start, int index, char c) {
+            for (int i = start; i < index; i++) {
+                if (text.charAt(i) == c) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
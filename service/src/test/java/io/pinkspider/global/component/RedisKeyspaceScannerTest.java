@@ -0,0 +1,154 @@
+package io.pinkspider.global.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.pinkspider.global.component.RedisKeyspaceScanner.ScanProgress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisKeyspaceScanner 단위 테스트")
+class RedisKeyspaceScannerTest {
+
+    private static final String PATTERN = "session:*";
+    private static final String CURSOR_KEY = RedisKeyspaceScanner.CURSOR_KEY_PREFIX + "cleanup";
+
+    @Mock private StringRedisTemplate stringRedisTemplate;
+
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private RedisKeyspaceScanner scanner;
+
+    @BeforeEach
+    void setUp() {
+        scanner = new RedisKeyspaceScanner(stringRedisTemplate, 100, 0, 2, Duration.ofDays(2));
+    }
+
+    /** 주어진 커서에서 SCAN 한 단계를 실행하면 nextCursor 와 keys 를 돌려주도록 스텁 */
+    @SuppressWarnings("unchecked")
+    private void givenScanStep(String cursor, String nextCursor, String... keys) {
+        when(stringRedisTemplate.execute(
+                        any(RedisScript.class), eq(List.of()), eq(cursor), eq(PATTERN), eq("100")))
+                .thenReturn(List.of(nextCursor, List.of(keys)));
+    }
+
+    @Nested
+    @DisplayName("SCAN 순회 테스트")
+    class ScanTest {
+
+        @Test
+        @DisplayName("커서가 0으로 돌아올 때까지 단계별로 키를 넘긴다")
+        void scan_iteratesUntilCursorZero() {
+            // given
+            givenScanStep("0", "17", "session:a", "session:b");
+            givenScanStep("17", "42");
+            givenScanStep("42", "0", "session:c");
+            List<List<String>> batches = new ArrayList<>();
+
+            // when
+            ScanProgress progress = scanner.scan(PATTERN, batches::add);
+
+            // then
+            assertThat(progress).isEqualTo(new ScanProgress(3, true));
+            assertThat(batches)
+                    .containsExactly(List.of("session:a", "session:b"), List.of("session:c"));
+        }
+
+        @Test
+        @DisplayName("저장된 커서부터 이어서 순회하고 maxKeys 를 넘기면 커서를 저장한 채 멈춘다")
+        void scanResumable_resumesAndCheckpoints() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(CURSOR_KEY)).thenReturn("17");
+            givenScanStep("17", "42", "session:a", "session:b");
+
+            // when
+            ScanProgress progress = scanner.scanResumable("cleanup", PATTERN, 2, keys -> {});
+
+            // then
+            assertThat(progress).isEqualTo(new ScanProgress(2, false));
+            verify(valueOperations).set(CURSOR_KEY, "42", Duration.ofDays(2));
+            verify(stringRedisTemplate, never()).delete(CURSOR_KEY);
+        }
+
+        @Test
+        @DisplayName("끝까지 순회하면 저장된 커서를 지운다")
+        void scanResumable_completedClearsCursor() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(CURSOR_KEY)).thenReturn("42");
+            givenScanStep("42", "0", "session:c");
+
+            // when
+            ScanProgress progress = scanner.scanResumable("cleanup", PATTERN, 100, keys -> {});
+
+            // then
+            assertThat(progress).isEqualTo(new ScanProgress(1, true));
+            verify(stringRedisTemplate).delete(CURSOR_KEY);
+        }
+    }
+
+    @Nested
+    @DisplayName("UNLINK 테스트")
+    class UnlinkTest {
+
+        @Test
+        @DisplayName("unlink-batch-size 씩 나눠 파이프라인으로 UNLINK 한다")
+        @SuppressWarnings("unchecked")
+        void unlink_batchesInPipeline() {
+            // given
+            when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                    .thenReturn(List.<Object>of(2L, 1L));
+
+            // when
+            long unlinked = scanner.unlink(List.of("k1", "k2", "k3"));
+
+            // then
+            assertThat(unlinked).isEqualTo(3);
+
+            ArgumentCaptor<RedisCallback<Object>> callback =
+                    ArgumentCaptor.forClass(RedisCallback.class);
+            verify(stringRedisTemplate).executePipelined(callback.capture());
+            RedisConnection connection = mock(RedisConnection.class);
+            RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+            when(connection.keyCommands()).thenReturn(keyCommands);
+            callback.getValue().doInRedis(connection);
+
+            verify(keyCommands).unlink(bytes("k1"), bytes("k2"));
+            verify(keyCommands).unlink(bytes("k3"));
+        }
+
+        @Test
+        @DisplayName("삭제할 키가 없으면 Redis 를 호출하지 않는다")
+        void unlink_empty() {
+            assertThat(scanner.unlink(List.of())).isZero();
+            verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+        }
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,223 @@
+package io.pinkspider.global.moderation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pinkspider.global.moderation.config.ModerationProperties;
+import io.pinkspider.global.moderation.domain.dto.ImageModerationResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingImageModerationService 테스트")
+class CachingImageModerationServiceTest {
+
+    private static final String PROVIDER = "onnx-nsfw";
+    private static final String VERDICT_VERSION = "onnx-nsfw:model=a1b2:nsfw-threshold=0.8";
+
+    @Mock private ImageModerationService delegate;
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    @Mock private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(delegate.getProviderName()).thenReturn(PROVIDER);
+        lenient().when(delegate.getVerdictVersion()).thenReturn(VERDICT_VERSION);
+    }
+
+    @Nested
+    @DisplayName("로컬 캐시")
+    class LocalCacheTest {
+
+        @Test
+        @DisplayName("같은 바이트의 이미지는 한 번만 검증한다")
+        void analyzeSameBytesOnce() {
+            CachingImageModerationService service = createService(false);
+            when(delegate.analyzeImage(any())).thenReturn(safeResult());
+
+            service.analyzeImage(file("a.jpg", new byte[] {1, 2, 3}));
+            ImageModerationResult result =
+                    service.analyzeImage(file("b.jpg", new byte[] {1, 2, 3}));
+
+            assertThat(result.isSafe()).isTrue();
+            verify(delegate, times(1)).analyzeImage(any());
+            assertThat(service.hitRatio()).isEqualTo(0.5);
+            assertThat(
+                            meterRegistry
+                                    .get("moderation.verdict.cache.requests")
+                                    .tag("result", "local")
+                                    .counter()
+                                    .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("바이트가 다르면 다시 검증한다")
+        void analyzeDifferentBytes() {
+            CachingImageModerationService service = createService(false);
+            when(delegate.analyzeImage(any())).thenReturn(safeResult());
+
+            service.analyzeImage(file("a.jpg", new byte[] {1, 2, 3}));
+            service.analyzeImage(file("a.jpg", new byte[] {1, 2, 4}));
+
+            verify(delegate, times(2)).analyzeImage(any());
+        }
+
+        @Test
+        @DisplayName("검증 실패로 fail-open 된 결과는 캐시하지 않는다")
+        void skipFailOpenResult() {
+            CachingImageModerationService service = createService(false);
+            when(delegate.analyzeImage(any())).thenReturn(ImageModerationResult.safe());
+
+            service.analyzeImage(file("a.jpg", new byte[] {1, 2, 3}));
+            service.analyzeImage(file("a.jpg", new byte[] {1, 2, 3}));
+
+            verify(delegate, times(2)).analyzeImage(any());
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+        void evictLeastRecentlyUsed() {
+            CachingImageModerationService.LocalVerdictCache cache =
+                    new CachingImageModerationService.LocalVerdictCache(2, Duration.ofMinutes(1));
+
+            cache.put("a", safeResult());
+            cache.put("b", safeResult());
+            cache.get("a");
+            cache.put("c", safeResult());
+
+            assertThat(cache.get("a")).isNotNull();
+            assertThat(cache.get("b")).isNull();
+            assertThat(cache.size()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("TTL이 지난 항목은 조회되지 않는다")
+        void expireAfterTtl() {
+            CachingImageModerationService.LocalVerdictCache cache =
+                    new CachingImageModerationService.LocalVerdictCache(10, Duration.ZERO);
+
+            cache.put("a", safeResult());
+
+            assertThat(cache.get("a")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 캐시")
+    class RedisCacheTest {
+
+        @Test
+        @DisplayName("다른 노드가 저장한 부적절 판정을 재사용한다")
+        void reuseUnsafeVerdictFromRedis() {
+            CachingImageModerationService service = createService(true);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn("UNSAFE:NSFW 감지");
+
+            ImageModerationResult result = service.analyzeImage(file("a.jpg", new byte[] {9}));
+
+            assertThat(result.isSafe()).isFalse();
+            assertThat(result.getRejectionReason()).isEqualTo("NSFW 감지");
+            verify(delegate, never()).analyzeImage(any());
+        }
+
+        @Test
+        @DisplayName("검증 결과를 제공자와 판정 기준 버전별 키로 TTL과 함께 저장한다")
+        void storeVerdictToRedis() {
+            CachingImageModerationService service = createService(true);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(delegate.analyzeImage(any())).thenReturn(safeResult());
+
+            service.analyzeImage(file("a.jpg", new byte[] {9}));
+
+            String sha256 = "2b4c342f5433ebe591a1da77e013d1b72475562d48578dca8b84bac6651c3cb9";
+            verify(valueOperations)
+                    .set(
+                            eq(
+                                    "moderation:image:onnx-nsfw:"
+                                            + CachingImageModerationService.versionSegment(
+                                                    VERDICT_VERSION)
+                                            + ":"
+                                            + sha256),
+                            eq("SAFE"),
+                            eq(Duration.ofDays(7)));
+        }
+
+        @Test
+        @DisplayName("모델이나 임계값이 바뀌면 이전 판정을 재사용하지 않는다")
+        void separateKeyPerVerdictVersion() {
+            CachingImageModerationService before = createService(true);
+            when(delegate.getVerdictVersion())
+                    .thenReturn("onnx-nsfw:model=a1b2:nsfw-threshold=0.6");
+            CachingImageModerationService after = createService(true);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(delegate.analyzeImage(any())).thenReturn(safeResult());
+
+            before.analyzeImage(file("a.jpg", new byte[] {9}));
+            after.analyzeImage(file("a.jpg", new byte[] {9}));
+
+            ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+            verify(valueOperations, times(2)).get(keys.capture());
+            assertThat(keys.getAllValues().get(0)).isNotEqualTo(keys.getAllValues().get(1));
+            verify(delegate, times(2)).analyzeImage(any());
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시에도 검증은 계속된다")
+        void continueOnRedisFailure() {
+            CachingImageModerationService service = createService(true);
+            when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("down"));
+            when(delegate.analyzeImage(any())).thenReturn(safeResult());
+
+            ImageModerationResult result = service.analyzeImage(file("a.jpg", new byte[] {9}));
+
+            assertThat(result.isSafe()).isTrue();
+        }
+    }
+
+    private CachingImageModerationService createService(boolean redisEnabled) {
+        ModerationProperties.CacheConfig cacheConfig = new ModerationProperties.CacheConfig();
+        cacheConfig.setRedisEnabled(redisEnabled);
+        return new CachingImageModerationService(
+                delegate, cacheConfig, redisTemplate, meterRegistry);
+    }
+
+    private MockMultipartFile file(String name, byte[] bytes) {
+        return new MockMultipartFile("image", name, "image/jpeg", bytes);
+    }
+
+    private ImageModerationResult safeResult() {
+        return ImageModerationResult.builder()
+                .safe(true)
+                .overallConfidence(99.0)
+                .detectedLabels(List.of())
+                .categoryScores(Map.of("NSFW", 1.0))
+                .provider(PROVIDER)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package io.pinkspider.global.moderation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.onnxruntime.OrtEnvironment;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.FloatBuffer;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OnnxBatchInferenceEngine 테스트")
+class OnnxBatchInferenceEngineTest {
+
+    @Test
+    @DisplayName("입력 슬롯은 이미지 1장 크기의 direct 버퍼이며 반납 후 재사용된다")
+    void reuseInputSlot() {
+        try (OnnxBatchInferenceEngine engine = createEngine(4)) {
+            FloatBuffer input = engine.acquireInput();
+
+            assertThat(input.isDirect()).isTrue();
+            assertThat(input.capacity()).isEqualTo(3 * 8 * 8);
+
+            engine.releaseInput(input);
+            assertThat(engine.acquireInput()).isSameAs(input);
+        }
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 배치 크기를 1로 제한한다")
+    void limitBatchSizeWithoutSession() {
+        try (OnnxBatchInferenceEngine engine = createEngine(8)) {
+            assertThat(engine.maxBatchSize()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("추론 실패는 요청 스레드에 예외로 전달되고 대기 시간/배치 지표가 기록된다")
+    void propagateInferenceFailure() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (OnnxBatchInferenceEngine engine =
+                new OnnxBatchInferenceEngine(
+                        OrtEnvironment.getEnvironment(), null, 8, 4, 1, 4, meterRegistry)) {
+            FloatBuffer input = engine.acquireInput();
+
+            assertThatThrownBy(() -> engine.infer(input, 1_000))
+                    .isInstanceOf(ExecutionException.class);
+            assertThat(meterRegistry.get("moderation.onnx.queue.wait").timer().count())
+                    .isEqualTo(1);
+            assertThat(meterRegistry.get("moderation.onnx.batch.size").summary().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    private OnnxBatchInferenceEngine createEngine(int maxBatchSize) {
+        return new OnnxBatchInferenceEngine(
+                OrtEnvironment.getEnvironment(),
+                null,
+                8,
+                maxBatchSize,
+                1,
+                4,
+                new SimpleMeterRegistry());
+    }
+}
@@ -11,6 +11,7 @@ import io.pinkspider.global.moderation.domain.dto.ImageModerationResult;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.FloatBuffer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -69,7 +70,7 @@ class OnnxNsfwModerationServiceTest {
     class PreprocessImageTest {
 
         @Test
-        @DisplayName("이미지를 224x224 NCHW 텐서로 변환한다")
+        @DisplayName("이미지를 224x224 CHW 입력 버퍼에 BGR 순서로 기록한다")
         void shouldPreprocessImageToCorrectDimensions() {
             // given
             ModerationProperties properties = createProperties();
@@ -79,15 +80,22 @@ class OnnxNsfwModerationServiceTest {
             OnnxNsfwModerationService service =
                     new OnnxNsfwModerationService(properties, env, session);
             BufferedImage testImage = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+            for (int y = 0; y < 100; y++) {
+                for (int x = 0; x < 100; x++) {
+                    testImage.setRGB(x, y, 0xC86432); // R=200, G=100, B=50
+                }
+            }
+            int pixels = 224 * 224;
+            FloatBuffer input = FloatBuffer.allocate(3 * pixels);
 
             // when
-            float[][][][] tensor = service.preprocessImage(testImage);
+            service.preprocessImage(testImage, input);
 
             // then
-            assertThat(tensor.length).isEqualTo(1); // batch
-            assertThat(tensor[0].length).isEqualTo(3); // channels
-            assertThat(tensor[0][0].length).isEqualTo(224); // height
-            assertThat(tensor[0][0][0].length).isEqualTo(224); // width
+            assertThat(input.position()).isZero();
+            assertThat(input.get(0)).isEqualTo(50f - 104f); // B
+            assertThat(input.get(pixels)).isEqualTo(100f - 117f); // G
+            assertThat(input.get(2 * pixels + pixels - 1)).isEqualTo(200f - 123f); // R
         }
     }
 
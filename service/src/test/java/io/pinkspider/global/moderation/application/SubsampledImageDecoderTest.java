@@ -0,0 +1,54 @@
+package io.pinkspider.global.moderation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SubsampledImageDecoder 테스트")
+class SubsampledImageDecoderTest {
+
+    @Test
+    @DisplayName("큰 JPEG는 목표 크기 이상을 유지하는 선에서 서브샘플링하여 디코딩한다")
+    void subsampleLargeJpeg() throws IOException {
+        byte[] jpeg = encode(4000, 3000, "jpg");
+
+        BufferedImage image =
+                SubsampledImageDecoder.decode(new ByteArrayInputStream(jpeg), 224, 224);
+
+        assertThat(image.getWidth()).isBetween(224, 447);
+        assertThat(image.getHeight()).isBetween(224, 447);
+    }
+
+    @Test
+    @DisplayName("목표보다 작은 이미지는 원본 크기로 디코딩한다")
+    void keepSmallImage() throws IOException {
+        byte[] png = encode(100, 80, "png");
+
+        BufferedImage image =
+                SubsampledImageDecoder.decode(new ByteArrayInputStream(png), 224, 224);
+
+        assertThat(image.getWidth()).isEqualTo(100);
+        assertThat(image.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 포맷이면 null을 반환한다")
+    void returnNullForUnknownFormat() throws IOException {
+        assertThat(
+                        SubsampledImageDecoder.decode(
+                                new ByteArrayInputStream(new byte[] {0, 1, 2, 3}), 224, 224))
+                .isNull();
+    }
+
+    private byte[] encode(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+}
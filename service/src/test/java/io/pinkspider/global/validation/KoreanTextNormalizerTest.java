@@ -145,6 +145,56 @@ class KoreanTextNormalizerTest {
         }
     }
 
+    @Nested
+    @DisplayName("analyze 메서드")
+    class AnalyzeTest {
+
+        @Test
+        @DisplayName("정규화, 초성, 한글만 투영을 한 번에 생성한다")
+        void produceAllProjections() {
+            NormalizedText result = normalizer.analyze("시 발!! FUCK ㅅㅂ 123");
+
+            assertThat(result.normalized().toString()).isEqualTo("시발fuckㅅㅂ123");
+            assertThat(result.chosung().toString()).isEqualTo("ㅅㅂㅅㅂ");
+            assertThat(result.koreanOnly().toString()).isEqualTo("시발ㅅㅂ");
+        }
+
+        @Test
+        @DisplayName("기존 메서드와 같은 결과를 만든다")
+        void sameAsStringMethods() {
+            String text = "İstanbul \u212A 안녕하세요! Hello, World ㅋㅋ 😀";
+
+            NormalizedText result = normalizer.analyze(text);
+
+            assertThat(result.normalized().toString()).isEqualTo(normalizer.normalize(text));
+            assertThat(result.chosung().toString()).isEqualTo(normalizer.extractChosung(text));
+            assertThat(result.koreanOnly().toString())
+                    .isEqualTo(normalizer.extractKoreanOnly(text));
+            assertThat(normalizer.normalize(text)).isEqualTo("istanbulk안녕하세요helloworldㅋㅋ");
+        }
+
+        @Test
+        @DisplayName("같은 스레드에서 버퍼를 재사용해도 이전 결과가 섞이지 않는다")
+        void reuseBuffer() {
+            normalizer.analyze("아주 긴 첫 번째 문장입니다");
+
+            NormalizedText result = normalizer.analyze("짧음");
+
+            assertThat(result.normalized().toString()).isEqualTo("짧음");
+            assertThat(result.normalized().length()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("null 입력 시 빈 투영을 반환한다")
+        void nullInput() {
+            NormalizedText result = normalizer.analyze(null);
+
+            assertThat(result.normalized().length()).isZero();
+            assertThat(result.chosung().length()).isZero();
+            assertThat(result.koreanOnly().length()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("levenshteinDistance 메서드")
     class LevenshteinDistanceTest {
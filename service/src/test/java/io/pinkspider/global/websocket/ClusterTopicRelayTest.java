@@ -0,0 +1,271 @@
+package io.pinkspider.global.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+@DisplayName("ClusterTopicRelay 테스트")
+class ClusterTopicRelayTest {
+
+    @Nested
+    @DisplayName("프레임 인코딩 테스트")
+    class FrameTest {
+
+        @Test
+        @DisplayName("자주 쓰는 content-type 은 코드 1바이트로 줄이고 왕복 변환 시 값이 유지된다")
+        void roundTrip_knownContentType() {
+            byte[] payload = "{\"message\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+            ClusterTopicFrame frame =
+                    new ClusterTopicFrame(42L, "/topic/guild/7/chat", "application/json", payload);
+
+            byte[] encoded = frame.encode();
+            ClusterTopicFrame decoded = ClusterTopicFrame.decode(encoded);
+
+            // 버전(1) + 노드(8) + 목적지(2 + 19) + content-type(1) + 본문
+            assertThat(encoded).hasSize(1 + 8 + 2 + 19 + 1 + payload.length);
+            assertThat(decoded.origin()).isEqualTo(42L);
+            assertThat(decoded.destination()).isEqualTo("/topic/guild/7/chat");
+            assertThat(decoded.contentType()).isEqualTo("application/json");
+            assertThat(decoded.payload()).isEqualTo(payload);
+        }
+
+        @Test
+        @DisplayName("그 외 content-type 과 content-type 없음도 왕복 변환된다")
+        void roundTrip_otherContentTypes() {
+            ClusterTopicFrame custom =
+                    ClusterTopicFrame.decode(
+                            new ClusterTopicFrame(
+                                            1L,
+                                            "/topic/a",
+                                            "application/json;charset=UTF-8",
+                                            new byte[0])
+                                    .encode());
+            ClusterTopicFrame none =
+                    ClusterTopicFrame.decode(
+                            new ClusterTopicFrame(1L, "/topic/a", null, new byte[] {1, 2})
+                                    .encode());
+
+            assertThat(custom.contentType()).isEqualTo("application/json;charset=UTF-8");
+            assertThat(none.contentType()).isNull();
+            assertThat(none.payload()).containsExactly(1, 2);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 버전의 프레임은 거부한다")
+        void decode_rejectsUnknownVersion() {
+            byte[] encoded = new ClusterTopicFrame(1L, "/topic/a", null, new byte[0]).encode();
+            encoded[0] = 99;
+
+            assertThatThrownBy(() -> ClusterTopicFrame.decode(encoded))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("샤드 배정 테스트")
+    class ShardTest {
+
+        @Test
+        @DisplayName("길드 목적지는 guildId 로 샤드가 정해져 채팅과 읽음 이벤트가 같은 채널을 탄다")
+        void guildDestination_shardedByGuildId() {
+            assertThat(ClusterTopicRelay.shardOf("/topic/guild/35/chat", 16)).isEqualTo(3);
+            assertThat(ClusterTopicRelay.shardOf("/topic/guild/35/read", 16)).isEqualTo(3);
+            assertThat(ClusterTopicRelay.shardOf("/topic/guild/35", 16)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("그 외 목적지는 해시로 샤드 범위 안에 배정된다")
+        void otherDestination_hashed() {
+            assertThat(ClusterTopicRelay.shardOf("/topic/guild/abc/chat", 16)).isBetween(0, 15);
+            assertThat(ClusterTopicRelay.shardOf("/topic/announcements", 16)).isBetween(0, 15);
+        }
+    }
+
+    @Nested
+    @DisplayName("멀티 노드 전달 테스트")
+    class MultiNodeTest {
+
+        private static final String GUILD_CHAT = "/topic/guild/1/chat";
+
+        private final WebSocketClusterProperties properties = new WebSocketClusterProperties();
+        private final List<ClusterTopicRelay> subscribers = new CopyOnWriteArrayList<>();
+        private StringRedisTemplate redis;
+        private RedisConnection connection;
+        private Node nodeA;
+        private Node nodeB;
+
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        void setUp() {
+            properties.setMode("redis");
+
+            // 인메모리 Redis 대역: PUBLISH 를 모든 노드의 릴레이에 그대로 전달 (발행 노드 포함)
+            redis = mock(StringRedisTemplate.class);
+            connection = mock(RedisConnection.class);
+            when(redis.execute(any(RedisCallback.class)))
+                    .thenAnswer(
+                            invocation ->
+                                    invocation
+                                            .<RedisCallback<?>>getArgument(0)
+                                            .doInRedis(connection));
+            when(connection.publish(any(byte[].class), any(byte[].class)))
+                    .thenAnswer(
+                            invocation -> {
+                                DefaultMessage message =
+                                        new DefaultMessage(
+                                                invocation.getArgument(0),
+                                                invocation.getArgument(1));
+                                subscribers.forEach(relay -> relay.onMessage(message, null));
+                                return (long) subscribers.size();
+                            });
+
+            nodeA = new Node();
+            nodeB = new Node();
+        }
+
+        @Test
+        @DisplayName("A 노드에서 발행한 길드 채팅이 B 노드 구독자에게 전달되고 A 노드에는 한 번만 전달된다")
+        void guildChat_reachesOtherNode() {
+            nodeA.subscribe("a-session", GUILD_CHAT);
+            nodeB.subscribe("b-session", GUILD_CHAT);
+
+            nodeA.template.convertAndSend(GUILD_CHAT, Map.of("message", "안녕하세요"));
+
+            assertThat(nodeA.messages()).hasSize(1);
+            assertThat(nodeB.messages()).hasSize(1);
+            Message<?> received = nodeB.messages().get(0);
+            assertThat(SimpMessageHeaderAccessor.getSessionId(received.getHeaders()))
+                    .isEqualTo("b-session");
+            assertThat(new String((byte[]) received.getPayload(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"message\":\"안녕하세요\"}");
+            assertThat(SimpMessageHeaderAccessor.getContentType(received.getHeaders()))
+                    .hasToString("application/json");
+            // B 노드가 받은 메시지는 다시 발행하지 않는다
+            verify(connection, times(1)).publish(any(byte[].class), any(byte[].class));
+        }
+
+        @Test
+        @DisplayName("다른 길드 구독자에게는 전달되지 않는다")
+        void otherGuild_notDelivered() {
+            nodeB.subscribe("b-session", "/topic/guild/2/chat");
+
+            nodeA.template.convertAndSend(GUILD_CHAT, Map.of("message", "hi"));
+
+            assertThat(nodeB.messages()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Redis 발행이 실패해도 같은 노드 구독자에게는 전달된다")
+        void redisFailure_localDeliveryContinues() {
+            doThrow(new IllegalStateException("redis down"))
+                    .when(redis)
+                    .execute(any(RedisCallback.class));
+            nodeA.subscribe("a-session", GUILD_CHAT);
+            nodeB.subscribe("b-session", GUILD_CHAT);
+
+            nodeA.template.convertAndSend(GUILD_CHAT, Map.of("message", "hi"));
+
+            assertThat(nodeA.messages()).hasSize(1);
+            assertThat(nodeB.messages()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("simple 모드와 /queue 목적지는 발행하지 않는다")
+        void notRelayed() {
+            nodeA.template.convertAndSend("/queue/anything", Map.of("a", 1));
+            properties.setMode("simple");
+            nodeA.template.convertAndSend(GUILD_CHAT, Map.of("a", 1));
+
+            verify(connection, never()).publish(any(byte[].class), any(byte[].class));
+        }
+
+        /** 브로커 채널, simple broker, 릴레이만 갖춘 경량 노드 */
+        private final class Node {
+
+            private final ExecutorSubscribableChannel clientInbound =
+                    new ExecutorSubscribableChannel();
+            private final ExecutorSubscribableChannel clientOutbound =
+                    new ExecutorSubscribableChannel();
+            private final ExecutorSubscribableChannel brokerChannel =
+                    new ExecutorSubscribableChannel();
+            private final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+            private final SimpMessagingTemplate template;
+
+            Node() {
+                SimpleBrokerMessageHandler broker =
+                        new SimpleBrokerMessageHandler(
+                                clientInbound,
+                                clientOutbound,
+                                brokerChannel,
+                                List.of("/topic", "/queue"));
+                broker.start();
+                clientOutbound.subscribe(delivered::add);
+
+                ClusterTopicRelay relay =
+                        new ClusterTopicRelay(
+                                redis, brokerChannel, properties, new SimpleMeterRegistry());
+                brokerChannel.addInterceptor(relay);
+                subscribers.add(relay);
+
+                template = new SimpMessagingTemplate(brokerChannel);
+                template.setMessageConverter(new MappingJackson2MessageConverter());
+            }
+
+            void subscribe(String sessionId, String destination) {
+                SimpMessageHeaderAccessor connect =
+                        SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+                connect.setSessionId(sessionId);
+                connect.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[] {0, 0});
+                clientInbound.send(
+                        MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+                SimpMessageHeaderAccessor subscribe =
+                        SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+                subscribe.setSessionId(sessionId);
+                subscribe.setSubscriptionId("sub-" + sessionId);
+                subscribe.setDestination(destination);
+                clientInbound.send(
+                        MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+            }
+
+            /** 구독자에게 전달된 MESSAGE 프레임 (CONNECT_ACK 제외) */
+            List<Message<?>> messages() {
+                return delivered.stream()
+                        .filter(
+                                message ->
+                                        SimpMessageHeaderAccessor.getMessageType(
+                                                        message.getHeaders())
+                                                == SimpMessageType.MESSAGE)
+                        .toList();
+            }
+        }
+    }
+}
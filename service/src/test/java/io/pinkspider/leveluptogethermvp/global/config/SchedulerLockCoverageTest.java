@@ -35,8 +35,8 @@ class SchedulerLockCoverageTest {
      */
     private static final Set<String> EXEMPT_METHODS =
             Set.of(
-                    // 현재 예외 없음. 향후 인스턴스별 로컬 작업이 필요하면 여기에 추가.
-                    );
+                    // 인스턴스 메모리 버퍼 flush: 각 인스턴스가 자기 버퍼를 비워야 하므로 락을 걸지 않는다.
+                    "io.pinkspider.leveluptogethermvp.gamificationservice.stats.application.UserStatsCounterBuffer#flush");
 
     @Test
     @DisplayName("@Scheduled가 붙은 모든 메서드에는 @SchedulerLock이 적용되어야 한다")
@@ -0,0 +1,214 @@
+package io.pinkspider.leveluptogethermvp.global.translation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.pinkspider.global.translation.TranslationNearCache;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@DisplayName("TranslationNearCache 테스트")
+class TranslationNearCacheTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private TranslationNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        nearCache = newCache(1_000_000);
+    }
+
+    private TranslationNearCache newCache(long maxWeight) {
+        return new TranslationNearCache(
+                true, maxWeight, Duration.ofMinutes(10), stringRedisTemplate, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("조회/저장")
+    class GetPutTest {
+
+        @Test
+        @DisplayName("원문 해시가 같으면 저장된 번역을 반환")
+        void shouldReturnEntryForSameHash() {
+            nearCache.put("translation:FEED:1:content:ja", "h1", "translated");
+
+            assertThat(nearCache.get("translation:FEED:1:content:ja", "h1"))
+                    .isEqualTo("translated");
+            assertThat(
+                            meterRegistry
+                                    .get("translation.near-cache.requests")
+                                    .tag("result", "hit")
+                                    .counter()
+                                    .count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("원문 해시가 다르면 미스")
+        void shouldMissForDifferentHash() {
+            nearCache.put("translation:FEED:1:content:ja", "h1", "translated");
+
+            assertThat(nearCache.get("translation:FEED:1:content:ja", "h2")).isNull();
+        }
+
+        @Test
+        @DisplayName("가중치 합이 한도를 넘으면 가장 오래 안 쓴 항목부터 제거")
+        void shouldEvictLeastRecentlyUsedByWeight() {
+            // 키 1자 + 번역문 9자 = 항목당 가중치 10
+            TranslationNearCache cache = newCache(30);
+            cache.put("a", "h", "123456789");
+            cache.put("b", "h", "123456789");
+            cache.put("c", "h", "123456789");
+            cache.get("a", "h");
+
+            cache.put("d", "h", "123456789");
+
+            assertThat(cache.get("b", "h")).isNull();
+            assertThat(cache.get("a", "h")).isNotNull();
+            assertThat(cache.get("c", "h")).isNotNull();
+            assertThat(cache.get("d", "h")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("비활성화되면 저장하지 않음")
+        void shouldBypassWhenDisabled() {
+            TranslationNearCache disabled =
+                    new TranslationNearCache(
+                            false,
+                            1_000,
+                            Duration.ofMinutes(10),
+                            stringRedisTemplate,
+                            new SimpleMeterRegistry());
+            disabled.put("key", "h", "translated");
+
+            assertThat(disabled.get("key", "h")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("single-flight 로드")
+    class SingleFlightTest {
+
+        @Test
+        @DisplayName("같은 키의 동시 미스는 로더를 한 번만 실행")
+        void shouldCollapseConcurrentMisses() throws Exception {
+            int callers = 8;
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (int i = 0; i < callers; i++) {
+                    results.add(
+                            executor.submit(
+                                    () ->
+                                            nearCache.getOrLoad(
+                                                    "key",
+                                                    "h",
+                                                    () -> {
+                                                        loads.incrementAndGet();
+                                                        started.countDown();
+                                                        await(release);
+                                                        return "translated";
+                                                    })));
+                }
+                assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+                // 나머지 요청이 진행 중인 로드에 합류할 시간을 준다
+                Thread.sleep(100);
+                release.countDown();
+
+                for (Future<String> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("translated");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(nearCache.get("key", "h")).isEqualTo("translated");
+        }
+
+        @Test
+        @DisplayName("로드가 실패하면 예외를 전파하고 다음 요청은 다시 로드")
+        void shouldReleaseFlightWhenLoaderFails() {
+            assertThatThrownBy(
+                            () ->
+                                    nearCache.getOrLoad(
+                                            "key",
+                                            "h",
+                                            () -> {
+                                                throw new IllegalStateException("API 실패");
+                                            }))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(nearCache.getOrLoad("key", "h", () -> "retried")).isEqualTo("retried");
+        }
+
+        private void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("무효화")
+    class InvalidationTest {
+
+        @Test
+        @DisplayName("무효화 시 로컬 항목을 제거하고 채널로 키를 발행")
+        void shouldEvictAndPublish() {
+            nearCache.put("translation:FEED:1:title:ja", "h", "title");
+            nearCache.put("translation:FEED:1:content:ja", "h", "content");
+
+            nearCache.invalidate(
+                    List.of("translation:FEED:1:title:ja", "translation:FEED:1:content:ja"));
+
+            assertThat(nearCache.get("translation:FEED:1:title:ja", "h")).isNull();
+            assertThat(nearCache.get("translation:FEED:1:content:ja", "h")).isNull();
+            verify(stringRedisTemplate)
+                    .convertAndSend(
+                            TranslationNearCache.CHANNEL,
+                            "translation:FEED:1:title:ja\ntranslation:FEED:1:content:ja");
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 해당 키만 제거")
+        void shouldEvictOnMessage() {
+            nearCache.put("translation:FEED:1:content:ja", "h", "content");
+            nearCache.put("translation:FEED:2:content:ja", "h", "other");
+            Message message = mock(Message.class);
+            when(message.getBody())
+                    .thenReturn("translation:FEED:1:content:ja".getBytes(StandardCharsets.UTF_8));
+
+            nearCache.onMessage(message, null);
+
+            assertThat(nearCache.get("translation:FEED:1:content:ja", "h")).isNull();
+            assertThat(nearCache.get("translation:FEED:2:content:ja", "h")).isEqualTo("other");
+        }
+    }
+}
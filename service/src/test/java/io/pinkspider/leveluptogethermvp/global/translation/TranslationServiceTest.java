@@ -2,22 +2,35 @@ package io.pinkspider.leveluptogethermvp.global.translation;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.pinkspider.global.test.TestReflectionUtils;
 import io.pinkspider.global.translation.GoogleTranslationFeignClient;
+import io.pinkspider.global.translation.TranslationNearCache;
 import io.pinkspider.global.translation.TranslationService;
 import io.pinkspider.global.translation.dto.GoogleTranslationRequest;
 import io.pinkspider.global.translation.dto.GoogleTranslationResponse;
 import io.pinkspider.global.translation.dto.TranslationInfo;
+import io.pinkspider.global.translation.dto.TranslationTarget;
 import io.pinkspider.global.translation.entity.ContentTranslation;
 import io.pinkspider.global.translation.enums.ContentType;
 import io.pinkspider.global.translation.enums.SupportedLocale;
 import io.pinkspider.global.translation.repository.ContentTranslationRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
@@ -43,6 +57,11 @@ class TranslationServiceTest {
 
     @Mock private ValueOperations<String, Object> valueOperations;
 
+    @Spy
+    private TranslationNearCache nearCache =
+            new TranslationNearCache(
+                    true, 1_000_000, Duration.ofMinutes(10), null, new SimpleMeterRegistry());
+
     @InjectMocks private TranslationService translationService;
 
     @BeforeEach
@@ -196,6 +215,227 @@ class TranslationServiceTest {
             verify(translationClient)
                     .translate(eq("test-api-key"), any(GoogleTranslationRequest.class));
         }
+
+        @Test
+        @DisplayName("같은 원문을 다시 조회하면 니어 캐시에서 반환하고 Redis를 조회하지 않음")
+        void shouldServeRepeatedReadFromNearCache() {
+            // given
+            String content = "이것은 테스트 콘텐츠입니다.";
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn("This is a test content.");
+
+            // when
+            translationService.translateContent(ContentType.FEED, 1L, content, "ja");
+            TranslationInfo result =
+                    translationService.translateContent(ContentType.FEED, 1L, content, "ja");
+
+            // then
+            assertThat(result.getContent()).isEqualTo("This is a test content.");
+            verify(valueOperations, times(1)).get(anyString());
+        }
+
+        @Test
+        @DisplayName("원문이 바뀌면 니어 캐시 항목을 사용하지 않음")
+        void shouldIgnoreNearCacheEntryForEditedContent() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn("Before edit", "After edit");
+
+            // when
+            translationService.translateContent(ContentType.FEED, 1L, "수정 전 원문입니다.....", "ja");
+            TranslationInfo result =
+                    translationService.translateContent(
+                            ContentType.FEED, 1L, "수정 후 원문입니다.....", "ja");
+
+            // then
+            assertThat(result.getContent()).isEqualTo("After edit");
+            verify(valueOperations, times(2)).get(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("evictTranslationCache 메서드")
+    class EvictTranslationCacheTest {
+
+        @Test
+        @DisplayName("모든 언어의 제목/내용 Redis 키를 삭제하고 니어 캐시를 무효화")
+        void shouldDeleteRedisKeysAndInvalidateNearCache() {
+            // given
+            nearCache.put("translation:FEED:1:content:ja", "hash", "cached");
+
+            // when
+            translationService.evictTranslationCache(ContentType.FEED, 1L);
+
+            // then
+            verify(redisTemplate)
+                    .delete(
+                            argThat(
+                                    (Collection<String> keys) ->
+                                            keys.size() == SupportedLocale.values().length * 2
+                                                    && keys.contains(
+                                                            "translation:FEED:1:title:ja")));
+            assertThat(nearCache.get("translation:FEED:1:content:ja", "hash")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("translateContents 메서드")
+    class TranslateContentsTest {
+
+        private static final String CONTENT = "이것은 테스트 콘텐츠입니다.";
+
+        @Test
+        @DisplayName("번역이 비활성화되면 입력 순서대로 번역하지 않은 결과를 반환")
+        void shouldNotTranslateWhenDisabled() {
+            // given
+            TestReflectionUtils.setField(translationService, "translationEnabled", false);
+
+            // when
+            List<TranslationInfo> results =
+                    translationService.translateContents(
+                            List.of(
+                                    TranslationTarget.of(ContentType.FEED, 1L, CONTENT),
+                                    TranslationTarget.of(ContentType.FEED, 2L, CONTENT)),
+                            "ja");
+
+            // then
+            assertThat(results).hasSize(2).noneMatch(TranslationInfo::isTranslated);
+            verify(redisTemplate, never()).opsForValue();
+            verify(translationClient, never()).translate(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Redis MGET 한 번으로 모두 적중하면 DB와 Google API를 호출하지 않음")
+        void shouldResolveAllFromRedisWithSingleMultiGet() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(anyList()))
+                    .thenReturn(List.of("First translation", "Second translation"));
+
+            // when
+            List<TranslationInfo> results =
+                    translationService.translateContents(
+                            List.of(
+                                    TranslationTarget.of(ContentType.FEED, 1L, CONTENT),
+                                    TranslationTarget.of(ContentType.FEED, 2L, CONTENT + "!")),
+                            "ja");
+
+            // then
+            assertThat(results)
+                    .extracting(TranslationInfo::getContent)
+                    .containsExactly("First translation", "Second translation");
+            verify(valueOperations, times(1)).multiGet(anyList());
+            verify(translationRepository, never())
+                    .findByContentTypeAndTargetLocaleAndContentIdIn(any(), any(), any());
+            verify(translationClient, never()).translate(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("Redis 미스는 콘텐츠 타입별 IN 조회 한 번으로 DB에서 가져옴")
+        void shouldResolveMissesWithSingleInQuery() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null));
+
+            ContentTranslation first = dbTranslation(1L, CONTENT, "First translation");
+            ContentTranslation second = dbTranslation(2L, CONTENT + "!", "Second translation");
+            when(translationRepository.findByContentTypeAndTargetLocaleAndContentIdIn(
+                            eq(ContentType.FEED), eq("ja"), any()))
+                    .thenReturn(List.of(first, second));
+
+            // when
+            List<TranslationInfo> results =
+                    translationService.translateContents(
+                            List.of(
+                                    TranslationTarget.of(ContentType.FEED, 1L, CONTENT),
+                                    TranslationTarget.of(ContentType.FEED, 2L, CONTENT + "!")),
+                            "ja");
+
+            // then
+            assertThat(results)
+                    .extracting(TranslationInfo::getContent)
+                    .containsExactly("First translation", "Second translation");
+            verify(translationRepository, times(1))
+                    .findByContentTypeAndTargetLocaleAndContentIdIn(any(), any(), any());
+            verify(translationClient, never()).translate(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("남은 미스는 중복 원문을 제거해 Google API를 한 번만 호출하고 일괄 저장")
+        void shouldTranslateMissesWithSingleBatchedGoogleCall() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(null, null, null));
+            when(translationRepository.findByContentTypeAndTargetLocaleAndContentIdIn(
+                            any(), any(), any()))
+                    .thenReturn(List.of());
+
+            GoogleTranslationResponse response =
+                    new GoogleTranslationResponse(
+                            new GoogleTranslationResponse.TranslationData(
+                                    List.of(
+                                            new GoogleTranslationResponse.Translation(
+                                                    "Same translation", "ko"),
+                                            new GoogleTranslationResponse.Translation(
+                                                    "Other translation", "ko"))));
+            when(translationClient.translate(
+                            eq("test-api-key"), any(GoogleTranslationRequest.class)))
+                    .thenReturn(response);
+
+            // when
+            List<TranslationInfo> results =
+                    translationService.translateContents(
+                            List.of(
+                                    TranslationTarget.of(ContentType.FEED, 1L, CONTENT),
+                                    TranslationTarget.of(ContentType.FEED_COMMENT, 2L, CONTENT),
+                                    TranslationTarget.of(ContentType.FEED, 3L, CONTENT + "!")),
+                            "ja");
+
+            // then
+            assertThat(results)
+                    .extracting(TranslationInfo::getContent)
+                    .containsExactly("Same translation", "Same translation", "Other translation");
+            verify(translationClient, times(1))
+                    .translate(
+                            eq("test-api-key"),
+                            argThat(request -> request.getQueries().size() == 2));
+            verify(translationRepository, times(2))
+                    .findByContentTypeAndTargetLocaleAndContentIdIn(any(), any(), any());
+            verify(translationRepository).saveAll(argThat(rows -> sizeOf(rows) == 3));
+        }
+
+        private ContentTranslation dbTranslation(Long contentId, String original, String text) {
+            ContentTranslation row =
+                    ContentTranslation.builder()
+                            .contentType(ContentType.FEED)
+                            .contentId(contentId)
+                            .fieldName("content")
+                            .sourceLocale("en")
+                            .targetLocale("ja")
+                            .translatedText(text)
+                            .build();
+            row.updateTranslation(sha256(original), text);
+            return row;
+        }
+
+        private String sha256(String text) {
+            try {
+                return HexFormat.of()
+                        .formatHex(
+                                MessageDigest.getInstance("SHA-256")
+                                        .digest(text.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private int sizeOf(Iterable<?> rows) {
+            int size = 0;
+            for (Object ignored : rows) {
+                size++;
+            }
+            return size;
+        }
     }
 
     @Nested
@@ -1,11 +1,14 @@
 package io.pinkspider.leveluptogethermvp.profanity.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.pinkspider.global.validation.KoreanTextNormalizer;
 import io.pinkspider.global.validation.ProfanityDetectionMode;
 import io.pinkspider.leveluptogethermvp.profanity.domain.dto.ProfanityDetectionResult;
+import java.time.Duration;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,18 +17,38 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class ProfanityDetectionEngineTest {
 
     @Mock private ProfanityValidationService profanityValidationService;
 
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager("profanityWords");
+
+    private ProfanityDictionaryRegistry dictionaryRegistry;
+
     private ProfanityDetectionEngine detectionEngine;
 
     @BeforeEach
     void setUp() {
-        KoreanTextNormalizer normalizer = new KoreanTextNormalizer();
-        detectionEngine = new ProfanityDetectionEngine(profanityValidationService, normalizer);
+        dictionaryRegistry = registry(Duration.ofSeconds(30));
+        detectionEngine = engine(dictionaryRegistry);
+    }
+
+    private ProfanityDictionaryRegistry registry(Duration recheckInterval) {
+        return new ProfanityDictionaryRegistry(
+                profanityValidationService,
+                new KoreanTextNormalizer(),
+                cacheManager,
+                recheckInterval);
+    }
+
+    private ProfanityDetectionEngine engine(ProfanityDictionaryRegistry registry) {
+        return new ProfanityDetectionEngine(registry, new KoreanTextNormalizer());
     }
 
     private Set<String> createMockProfanityWords() {
@@ -222,6 +245,21 @@ class ProfanityDetectionEngineTest {
             assertThat(result.isDetected()).isTrue();
         }
 
+        @Test
+        @DisplayName("편집 거리 threshold 이내의 오타 비속어를 탐지한다")
+        void detectTypoWithinThreshold() {
+            when(profanityValidationService.getActiveProfanityWords())
+                    .thenReturn(createMockProfanityWords());
+
+            ProfanityDetectionResult result =
+                    detectionEngine.detect("시팔!!", ProfanityDetectionMode.STRICT, false, 1);
+
+            assertThat(result.isDetected()).isTrue();
+            assertThat(result.getDetectedWord()).isEqualTo("시발");
+            assertThat(result.getMatchType()).isEqualTo("LEVENSHTEIN_MATCH");
+            assertThat(result.getLevenshteinDistance()).isEqualTo(1);
+        }
+
         @Test
         @DisplayName("threshold가 0이면 유사어를 탐지하지 않는다")
         void noSimilarWordWithZeroThreshold() {
@@ -239,6 +277,95 @@ class ProfanityDetectionEngineTest {
         }
     }
 
+    @Nested
+    @DisplayName("컴파일된 사전 갱신")
+    class DictionaryRefreshTest {
+
+        @Test
+        @DisplayName("확인 주기가 지나 금칙어 목록이 바뀌었으면 새 목록으로 다시 컴파일한다")
+        void recompileWhenWordsChange() {
+            ProfanityDetectionEngine engine = engine(registry(Duration.ZERO));
+            when(profanityValidationService.getActiveProfanityWords())
+                    .thenReturn(Set.of("시발"))
+                    .thenReturn(Set.of("시발", "개새"));
+
+            ProfanityDetectionResult before =
+                    engine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+            ProfanityDetectionResult after =
+                    engine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+
+            assertThat(before.isDetected()).isFalse();
+            assertThat(after.isDetected()).isTrue();
+            assertThat(after.getDetectedWord()).isEqualTo("개새");
+        }
+
+        @Test
+        @DisplayName("확인 주기 안에는 목록을 다시 조회하지 않고, 무효화하면 바로 다시 컴파일한다")
+        void reuseWithinRecheckIntervalUntilInvalidated() {
+            when(profanityValidationService.getActiveProfanityWords())
+                    .thenReturn(Set.of("시발"))
+                    .thenReturn(Set.of("시발", "개새"));
+
+            ProfanityDetectionResult first =
+                    detectionEngine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+            ProfanityDetectionResult cached =
+                    detectionEngine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+            verify(profanityValidationService, times(1)).getActiveProfanityWords();
+
+            dictionaryRegistry.invalidate();
+            ProfanityDetectionResult invalidated =
+                    detectionEngine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+
+            assertThat(first.isDetected()).isFalse();
+            assertThat(cached.isDetected()).isFalse();
+            assertThat(invalidated.isDetected()).isTrue();
+        }
+
+        @Test
+        @DisplayName("수정 트랜잭션 커밋 전 조회는 기존 사전을 쓰고, 커밋 후 캐시를 비운 뒤 다시 컴파일한다")
+        void invalidateAfterCommit() {
+            when(profanityValidationService.getActiveProfanityWords())
+                    .thenReturn(Set.of("시발"))
+                    .thenReturn(Set.of("시발", "개새"));
+            detectionEngine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+            cacheManager.getCache("profanityWords").put("words", Set.of("시발"));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // Admin 수정 트랜잭션 안에서 무효화
+                dictionaryRegistry.invalidate();
+
+                // 커밋 전 다른 요청의 조회
+                ProfanityDetectionResult beforeCommit =
+                        detectionEngine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+                assertThat(beforeCommit.isDetected()).isFalse();
+                assertThat(cacheManager.getCache("profanityWords").get("words")).isNotNull();
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(cacheManager.getCache("profanityWords").get("words")).isNull();
+            ProfanityDetectionResult afterCommit =
+                    detectionEngine.detect("개새 뭐야", ProfanityDetectionMode.LENIENT, false, 0);
+            assertThat(afterCommit.isDetected()).isTrue();
+            verify(profanityValidationService, times(2)).getActiveProfanityWords();
+        }
+
+        @Test
+        @DisplayName("금칙어 목록이 비어 있으면 탐지하지 않는다")
+        void emptyDictionary() {
+            when(profanityValidationService.getActiveProfanityWords()).thenReturn(Set.of());
+
+            ProfanityDetectionResult result =
+                    detectionEngine.detect("시발 뭐야", ProfanityDetectionMode.STRICT, true, 1);
+
+            assertThat(result.isDetected()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("빈 입력 처리")
     class EmptyInputTest {
@@ -37,6 +37,8 @@ class ProfanityWordAdminServiceTest {
 
     @Mock private ProfanityWordRepository profanityWordRepository;
 
+    @Mock private ProfanityDictionaryRegistry profanityDictionaryRegistry;
+
     @InjectMocks private ProfanityWordAdminService profanityWordAdminService;
 
     private ProfanityWord sampleWord;
@@ -282,6 +284,7 @@ class ProfanityWordAdminServiceTest {
             assertThat(result.getWord()).isEqualTo("욕설단어");
             assertThat(result.getCategory()).isEqualTo(ProfanityCategory.GENERAL);
             verify(profanityWordRepository).save(any(ProfanityWord.class));
+            verify(profanityDictionaryRegistry).invalidate();
         }
 
         @Test
@@ -463,6 +466,7 @@ class ProfanityWordAdminServiceTest {
 
             // then
             verify(profanityWordRepository).deleteById(1L);
+            verify(profanityDictionaryRegistry).invalidate();
         }
 
         @Test
@@ -0,0 +1,73 @@
+package io.pinkspider.leveluptogethermvp.profanity.matcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AhoCorasickMatcherTest {
+
+    private static Map<String, String> patterns(String... words) {
+        Map<String, String> patterns = new LinkedHashMap<>();
+        for (String word : words) {
+            patterns.put(word, word);
+        }
+        return patterns;
+    }
+
+    @Test
+    @DisplayName("텍스트에 포함된 패턴을 찾는다")
+    void findContainedPattern() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(patterns("시발", "병신", "fuck"));
+
+        assertThat(matcher.findFirst("아 시발 뭐야")).isEqualTo("시발");
+        assertThat(matcher.findFirst("what the fuck")).isEqualTo("fuck");
+        assertThat(matcher.findFirst("좋은 하루 되세요")).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 링크를 따라 겹치는 패턴을 찾는다")
+    void followFailureLinks() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(patterns("abcd", "bce"));
+
+        // "abc" 까지 진행 후 'e'에서 실패 → "bc" 상태로 이동해야 "bce"를 찾을 수 있다
+        assertThat(matcher.findFirst("xabcex")).isEqualTo("bce");
+    }
+
+    @Test
+    @DisplayName("다른 패턴의 접미사인 패턴도 찾는다")
+    void findSuffixPattern() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(patterns("개새끼", "새"));
+
+        assertThat(matcher.findFirst("개새")).isEqualTo("새");
+    }
+
+    @Test
+    @DisplayName("매칭 시 패턴에 연결된 payload를 반환한다")
+    void returnPayload() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(Map.of("ㅅㅂ", "시발"));
+
+        assertThat(matcher.findFirst("ㅇㅇㅅㅂㅇ")).isEqualTo("시발");
+    }
+
+    @Test
+    @DisplayName("빈 패턴은 무시한다")
+    void ignoreEmptyPattern() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(patterns("", "욕"));
+
+        assertThat(matcher.size()).isEqualTo(1);
+        assertThat(matcher.findFirst("아무 말")).isNull();
+    }
+
+    @Test
+    @DisplayName("빈 매처는 항상 null을 반환한다")
+    void emptyMatcher() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.empty();
+
+        assertThat(matcher.isEmpty()).isTrue();
+        assertThat(matcher.findFirst("시발")).isNull();
+        assertThat(matcher.findFirst(null)).isNull();
+    }
+}
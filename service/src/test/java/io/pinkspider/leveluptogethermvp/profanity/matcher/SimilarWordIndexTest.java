@@ -0,0 +1,114 @@
+package io.pinkspider.leveluptogethermvp.profanity.matcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.pinkspider.global.validation.KoreanTextNormalizer;
+import io.pinkspider.leveluptogethermvp.profanity.matcher.SimilarWordIndex.SimilarWordMatch;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class SimilarWordIndexTest {
+
+    private static Map<String, String> words(String... words) {
+        Map<String, String> normalizedWords = new LinkedHashMap<>();
+        for (String word : words) {
+            normalizedWords.put(word, word);
+        }
+        return normalizedWords;
+    }
+
+    @Nested
+    @DisplayName("LevenshteinPattern 비트 병렬 커널")
+    class LevenshteinPatternTest {
+
+        @Test
+        @DisplayName("DP 레벤슈타인 거리와 같은 값을 계산한다")
+        void sameAsDynamicProgramming() {
+            KoreanTextNormalizer normalizer = new KoreanTextNormalizer();
+            Random random = new Random(7);
+            String alphabet = "abㄱ가나";
+
+            for (int i = 0; i < 2_000; i++) {
+                String pattern = randomText(random, alphabet, 1 + random.nextInt(8));
+                String text = randomText(random, alphabet, random.nextInt(10));
+
+                int distance = new LevenshteinPattern(pattern).distance(text, 0, text.length());
+
+                assertThat(distance).isEqualTo(normalizer.levenshteinDistance(text, pattern));
+            }
+        }
+
+        @Test
+        @DisplayName("텍스트의 지정 구간만 비교한다")
+        void compareRange() {
+            LevenshteinPattern pattern = new LevenshteinPattern("시발");
+
+            assertThat(pattern.distance("아시팔요", 1, 3)).isEqualTo(1);
+            assertThat(pattern.distance("아시발요", 1, 3)).isZero();
+        }
+
+        private String randomText(Random random, String alphabet, int length) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            return text.toString();
+        }
+    }
+
+    @Test
+    @DisplayName("편집 거리 이내의 유사어를 찾는다")
+    void findSimilarWord() {
+        SimilarWordIndex index = SimilarWordIndex.build(words("시발", "병신", "fuck"));
+
+        SimilarWordMatch match = index.findFirst("시팔", 1);
+
+        assertThat(match).isNotNull();
+        assertThat(match.word()).isEqualTo("시발");
+        assertThat(match.distance()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("영문 오타도 찾는다")
+    void findEnglishTypo() {
+        SimilarWordIndex index = SimilarWordIndex.build(words("시발", "병신", "fuck"));
+
+        SimilarWordMatch match = index.findFirst("fucc", 1);
+
+        assertThat(match).isNotNull();
+        assertThat(match.word()).isEqualTo("fuck");
+    }
+
+    @Test
+    @DisplayName("거리가 threshold를 넘으면 찾지 않는다")
+    void ignoreBeyondThreshold() {
+        SimilarWordIndex index = SimilarWordIndex.build(words("시발", "병신"));
+
+        assertThat(index.findFirst("좋은하루되세요", 1)).isNull();
+        assertThat(index.findFirst("시팔", 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("정확히 일치하는 경우(거리 0)는 유사어로 보지 않는다")
+    void ignoreExactMatch() {
+        SimilarWordIndex index = SimilarWordIndex.build(words("시발"));
+
+        assertThat(index.findFirst("시발", 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("64자를 넘는 금칙어도 검사한다")
+    void supportLongWord() {
+        String longWord = "가".repeat(70);
+        SimilarWordIndex index = SimilarWordIndex.build(words(longWord));
+
+        SimilarWordMatch match = index.findFirst("가".repeat(69) + "나", 1);
+
+        assertThat(match).isNotNull();
+        assertThat(match.distance()).isEqualTo(1);
+    }
+}
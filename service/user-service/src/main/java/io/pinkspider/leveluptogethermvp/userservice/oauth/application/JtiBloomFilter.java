@@ -0,0 +1,79 @@
+package io.pinkspider.leveluptogethermvp.userservice.oauth.application;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 jti 블룸 필터 (TokenBlacklistFilter 의 시간 파티션 하나)
+ *
+ * 비트는 AtomicLongArray 에 두어 조회는 잠금 없이, 추가는 CAS로 한다. 해시는 jti 당 한 번 계산해
+ * ({@link #hash}) 모든 파티션 조회에 재사용하고, 인덱스는 두 해시의 선형 조합(double hashing)으로 만든다.
+ */
+class JtiBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  예상 항목 수일 때의 목표 오탐률
+     */
+    JtiBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(
+            -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    /**
+     * jti 해시 쌍 (FNV-1a 64 후 두 가지 finalizer)
+     */
+    static long[] hash(String jti) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < jti.length(); i++) {
+            h ^= jti.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return new long[] {mix(h), mix(h ^ 0x9e3779b97f4a7c15L) | 1L};
+    }
+
+    void put(long[] hash) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(long[] hash) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long[] hash, int i) {
+        return Math.floorMod(hash[0] + i * hash[1], bitCount);
+    }
+
+    /** murmur3 fmix64 */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -47,8 +47,8 @@ public class JwtService {
                     UserApiStatus.NOT_VALID_REFRESH_TOKEN.getResultMessage());
             }
 
-            // 블랙리스트 확인
-            if (tokenService.isTokenBlacklisted(refreshToken)) {
+            // 블랙리스트 확인 (재발급은 로컬 필터를 거치지 않고 Redis로 확인)
+            if (tokenService.isTokenBlacklistedInRedis(refreshToken)) {
                 String userIdForLog = safeGetUserId(refreshToken);
                 String deviceIdForLog = safeGetDeviceId(refreshToken);
                 log.info("[reissue] reject reason=BLACKLISTED_JWT userId={} deviceId={} deviceType={}",
@@ -1,6 +1,7 @@
 package io.pinkspider.leveluptogethermvp.userservice.oauth.application;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pinkspider.global.component.RedisKeyspaceScanner;
 import io.pinkspider.global.security.JwtUtil;
 import io.pinkspider.global.security.TokenBlacklistChecker;
 import io.pinkspider.leveluptogethermvp.userservice.oauth.domain.dto.response.SessionsResponseDto.Session;
@@ -16,9 +17,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -32,6 +35,12 @@ public class MultiDeviceTokenService implements TokenBlacklistChecker {
     private final JwtUtil jwtUtil;
     private final SlidingExpirationService slidingExpirationService;
     private final ObjectMapper objectMapper;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+    private final RedisKeyspaceScanner keyspaceScanner;
+
+    // 만료 세션 정리 1회 실행당 SCAN 할 세션 키 수 (남은 구간은 커서를 저장해 다음 실행이 이어서 순회, 0 이하면 제한 없음)
+    @Value("${token.session-cleanup.max-keys-per-run:200000}")
+    private long sessionCleanupMaxKeysPerRun;
 
     // rotation 직후 응답 유실로 구 refresh 토큰이 재시도되는 것을 허용하는 grace window.
     // 이 창 안에서 previousRefreshToken 으로 재시도하면 새 토큰을 재발급한다 (grace retry).
@@ -43,6 +52,9 @@ public class MultiDeviceTokenService implements TokenBlacklistChecker {
     // QA-231: refresh 토큰은 평문 대신 해시로 저장한다. prefix 로 레거시 평문과 구분.
     private static final String HASH_PREFIX = "sha256:";
 
+    // 만료 세션 정리 SCAN 커서 저장 이름
+    private static final String SESSION_CLEANUP_JOB = "session-cleanup";
+
     /** 저장된 refresh 토큰과 제시된 토큰의 비교 결과 */
     public enum RefreshTokenMatch {
         MATCH,
@@ -183,13 +195,31 @@ public class MultiDeviceTokenService implements TokenBlacklistChecker {
 
     // 토큰이 블랙리스트에 있는지 확인
     public boolean isTokenBlacklisted(String token) {
+        return checkBlacklist(token, true);
+    }
+
+    // 토큰이 블랙리스트에 있는지 Redis로 직접 확인 (토큰 재발급 — 로컬 필터 지연으로 폐기 토큰이 통과하지 않도록)
+    public boolean isTokenBlacklistedInRedis(String token) {
+        return checkBlacklist(token, false);
+    }
+
+    private boolean checkBlacklist(String token, boolean useFilter) {
         if (token == null) {
             return true;
         }
 
         try {
             String jti = jwtUtil.getJtiFromToken(token);
-            return redisTemplate.hasKey("blacklist:" + jti);
+            if (!useFilter) {
+                return Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + jti));
+            }
+            // 폐기 토큰은 드물어 대부분 로컬 필터에서 끝난다. 필터에 있을 때만 Redis로 확인
+            if (!tokenBlacklistFilter.mightContain(jti)) {
+                return false;
+            }
+            boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + jti));
+            tokenBlacklistFilter.recordLookup(blacklisted);
+            return blacklisted;
         } catch (Exception e) {
             log.warn("Failed to check token blacklist: {}", e.getMessage());
             return true;
@@ -222,6 +252,9 @@ public class MultiDeviceTokenService implements TokenBlacklistChecker {
         if (remaining > 0) {
             redisTemplate.opsForValue().set("blacklist:" + jti, "revoked",
                 Duration.ofMillis(remaining));
+            // 필터 재동기화용 인덱스 (만료 시각 점수, 만료분은 재동기화 때 정리)
+            redisTemplate.opsForZSet().add(TokenBlacklistFilter.INDEX_KEY, jti, expiresAtMillis);
+            tokenBlacklistFilter.add(jti, expiresAtMillis);
             log.debug("Token blacklisted: {}", jti);
         }
     }
@@ -389,29 +422,33 @@ public class MultiDeviceTokenService implements TokenBlacklistChecker {
         return objectMapper.convertValue(stats, Session.class);
     }
 
-    // 만료된 세션 정리 (스케줄러에서 사용)
+    // 만료된 세션 정리 (스케줄러에서 사용) — KEYS 대신 SCAN 으로 나눠 순회하고 만료 세션은 UNLINK
     public int cleanupExpiredSessions() {
-        Set<String> sessionKeys = redisTemplate.keys("session:*");
-        int cleanedCount = 0;
+        AtomicInteger cleanedCount = new AtomicInteger();
+
+        RedisKeyspaceScanner.ScanProgress progress = keyspaceScanner.scanResumable(
+            SESSION_CLEANUP_JOB, "session:*", sessionCleanupMaxKeysPerRun, sessionKeys -> {
+                List<String> expired = sessionKeys.stream()
+                    .filter(this::isSessionRefreshExpired)
+                    .toList();
+                if (expired.isEmpty()) {
+                    return;
+                }
 
-        if (sessionKeys != null) {
-            for (String sessionKey : sessionKeys) {
-                if (isSessionRefreshExpired(sessionKey)) {
-                    // 세션에서 사용자 ID 추출하여 user_sessions에서도 제거
+                // 세션에서 사용자 ID 추출하여 user_sessions에서도 제거
+                for (String sessionKey : expired) {
                     String[] parts = sessionKey.split(":");
                     if (parts.length >= 2) {
-                        String userId = parts[1];
-                        redisTemplate.opsForSet().remove("userSessions:" + userId, sessionKey);
+                        redisTemplate.opsForSet().remove("userSessions:" + parts[1], sessionKey);
                     }
-
-                    redisTemplate.delete(sessionKey);
-                    cleanedCount++;
                 }
-            }
-        }
+                keyspaceScanner.unlink(expired);
+                cleanedCount.addAndGet(expired.size());
+            });
 
-        log.info("Cleaned up {} expired sessions", cleanedCount);
-        return cleanedCount;
+        log.info("Cleaned up {} expired sessions (scanned: {}, completed: {})",
+            cleanedCount.get(), progress.scanned(), progress.completed());
+        return cleanedCount.get();
     }
 
     /** 세션의 refresh 가 만료됐는지 — 해시 세션은 exp 메타데이터, 레거시는 원문 검증 */
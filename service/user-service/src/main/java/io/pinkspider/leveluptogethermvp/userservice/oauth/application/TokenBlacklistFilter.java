@@ -0,0 +1,343 @@
+package io.pinkspider.leveluptogethermvp.userservice.oauth.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 블랙리스트 로컬 필터 (인스턴스 로컬 블룸 필터, 시간 파티션)
+ *
+ * 폐기되는 토큰은 극히 드물어 요청마다 Redis blacklist:{jti} 를 조회하는 비용이 대부분 헛일이다.
+ * 폐기된 jti 를 만료 시각 기준 partition-width 단위 파티션의 블룸 필터에 담아 두고, 필터에 없으면 Redis 조회 없이
+ * 통과시킨다. 필터에 있으면(오탐 포함) Redis 로 확인한다. 만료 구간이 지난 파티션은 통째로 버린다.
+ *
+ * 갱신:
+ * - 폐기 시 {@link #INDEX_KEY} ZSET 에 jti 를 만료 시각(ms) 점수로 기록한다 (키스페이스 SCAN 불필요).
+ * - 기동 후(ApplicationReadyEvent, pub/sub 구독 시작 이후) 인덱스의 만료 전 구간(ZRANGEBYSCORE now +inf)으로 채우고,
+ *   그 전까지는 모든 조회를 Redis 로 보낸다. 만료된 멤버는 재동기화 때 ZREMRANGEBYSCORE 로 정리한다.
+ * - {@link #add}로 로컬 반영 후 {@link #CHANNEL}로 발행하고, 다른 인스턴스는 구독해 반영한다.
+ * - 채널을 (재)구독하면 끊긴 동안 놓친 메시지가 있을 수 있으므로, 다시 채울 때까지 모든 조회를 Redis 로 보낸다.
+ * - pub/sub 메시지 유실에 대비해 resync-interval 마다 인덱스로 다시 만든다 (유실 시 최대 이 주기만큼 폐기 토큰이 통과할 수 있음).
+ * - 재동기화가 resync-interval 의 {@value #STALE_AFTER_INTERVALS}배 넘게 성공하지 못하면 필터를 믿지 않고 모든 조회를 Redis 로 보낸다.
+ *
+ * 지표: token.blacklist.filter.checks(result=negative|positive|bypass), token.blacklist.filter.false-positives,
+ * token.blacklist.filter.false-positive-rate, token.blacklist.filter.redis-avoided-ratio
+ */
+@Slf4j
+@Component
+public class TokenBlacklistFilter implements MessageListener, SubscriptionListener {
+
+    public static final String CHANNEL = "token:blacklist";
+    public static final String KEY_PREFIX = "blacklist:";
+    public static final String INDEX_KEY = "blacklist:index";
+
+    private static final String SEPARATOR = "|";
+    private static final int LOAD_BATCH_SIZE = 1000;
+    static final int STALE_AFTER_INTERVALS = 3;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ScheduledExecutorService resyncExecutor;
+    private final boolean enabled;
+    private final long partitionWidthMillis;
+    private final int expectedPerPartition;
+    private final double falsePositiveRate;
+    private final Duration resyncInterval;
+    private final long staleAfterMillis;
+
+    private volatile ConcurrentSkipListMap<Long, JtiBloomFilter> partitions = new ConcurrentSkipListMap<>();
+    private ConcurrentSkipListMap<Long, JtiBloomFilter> rebuilding;
+    private volatile boolean ready;
+    private volatile long syncedAt;
+    private long subscriptionGeneration;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+    private final Counter bypassCounter;
+    private final Counter falsePositiveCounter;
+
+    @Autowired
+    public TokenBlacklistFilter(
+        StringRedisTemplate redisTemplate,
+        @Value("${token.blacklist-filter.enabled:true}") boolean enabled,
+        @Value("${token.blacklist-filter.partition-width:1d}") Duration partitionWidth,
+        @Value("${token.blacklist-filter.expected-per-partition:100000}") int expectedPerPartition,
+        @Value("${token.blacklist-filter.false-positive-rate:0.001}") double falsePositiveRate,
+        @Value("${token.blacklist-filter.resync-interval:30s}") Duration resyncInterval,
+        MeterRegistry meterRegistry) {
+        this(redisTemplate,
+            enabled ? Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("token-blacklist-filter-")) : null,
+            enabled, partitionWidth, expectedPerPartition, falsePositiveRate, resyncInterval, meterRegistry);
+    }
+
+    TokenBlacklistFilter(
+        StringRedisTemplate redisTemplate,
+        ScheduledExecutorService resyncExecutor,
+        boolean enabled,
+        Duration partitionWidth,
+        int expectedPerPartition,
+        double falsePositiveRate,
+        Duration resyncInterval,
+        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.resyncExecutor = resyncExecutor;
+        this.enabled = enabled;
+        this.partitionWidthMillis = partitionWidth.toMillis();
+        this.expectedPerPartition = expectedPerPartition;
+        this.falsePositiveRate = falsePositiveRate;
+        this.resyncInterval = resyncInterval;
+        this.staleAfterMillis = resyncInterval.toMillis() * STALE_AFTER_INTERVALS;
+
+        this.negativeCounter = checkCounter(meterRegistry, "negative");
+        this.positiveCounter = checkCounter(meterRegistry, "positive");
+        this.bypassCounter = checkCounter(meterRegistry, "bypass");
+        this.falsePositiveCounter = Counter.builder("token.blacklist.filter.false-positives")
+            .description("필터에 있었지만 Redis 블랙리스트에 없던 조회")
+            .register(meterRegistry);
+        Gauge.builder("token.blacklist.filter.false-positive-rate", this, TokenBlacklistFilter::observedFalsePositiveRate)
+            .description("블랙리스트에 없는 토큰 중 필터가 있다고 답한 비율")
+            .register(meterRegistry);
+        Gauge.builder("token.blacklist.filter.redis-avoided-ratio", this, TokenBlacklistFilter::redisAvoidedRatio)
+            .description("Redis 조회 없이 끝난 블랙리스트 확인 비율")
+            .register(meterRegistry);
+        Gauge.builder("token.blacklist.filter.partitions", this, filter -> filter.partitions.size())
+            .description("블랙리스트 필터 파티션 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 필터 조회
+     *
+     * @return false 면 블랙리스트에 없음이 확실하다. true 면 Redis 로 확인해야 한다 (오탐, 적재 전, 재동기화 지연, 비활성 포함).
+     */
+    public boolean mightContain(String jti) {
+        long now = System.currentTimeMillis();
+        if (!enabled || !ready || now - syncedAt > staleAfterMillis) {
+            bypassCounter.increment();
+            return true;
+        }
+        long[] hash = JtiBloomFilter.hash(jti);
+        for (Map.Entry<Long, JtiBloomFilter> partition : partitions.tailMap(bucket(now), true).entrySet()) {
+            if (partition.getValue().mightContain(hash)) {
+                positiveCounter.increment();
+                return true;
+            }
+        }
+        negativeCounter.increment();
+        return false;
+    }
+
+    /**
+     * {@link #mightContain}이 true 였던 조회의 Redis 확인 결과 (오탐률 지표)
+     */
+    public void recordLookup(boolean blacklisted) {
+        if (enabled && ready && !blacklisted) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * 폐기 jti 로컬 반영 후 다른 인스턴스에 발행 (Redis 블랙리스트 저장 후 호출)
+     */
+    public void add(String jti, long expiresAtMillis) {
+        if (!enabled) {
+            return;
+        }
+        put(jti, expiresAtMillis);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, jti + SEPARATOR + expiresAtMillis);
+        } catch (Exception e) {
+            // 다른 인스턴스는 다음 재동기화 때 반영된다
+            log.warn("토큰 블랙리스트 필터 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!enabled) {
+            return;
+        }
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(SEPARATOR);
+        try {
+            put(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("토큰 블랙리스트 필터 메시지 무시: {}", body);
+        }
+    }
+
+    /**
+     * (재)구독 시 끊긴 동안 놓친 폐기를 반영하도록 다시 채운다. 채울 때까지 모든 조회는 Redis 로 간다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        if (!enabled) {
+            return;
+        }
+        invalidate();
+        if (resyncExecutor != null && !resyncExecutor.isShutdown()) {
+            resyncExecutor.execute(this::resyncQuietly);
+        }
+    }
+
+    /**
+     * 구독이 끊기면 다른 인스턴스의 폐기를 받을 수 없으므로 다시 구독해 채울 때까지 모든 조회를 Redis 로 보낸다.
+     */
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        invalidate();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (resyncExecutor == null) {
+            return;
+        }
+        long intervalMillis = resyncInterval.toMillis();
+        resyncExecutor.scheduleWithFixedDelay(this::resyncQuietly, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * blacklist:index 의 만료 전 멤버로 필터를 다시 만든다. 적재 중 들어온 폐기는 새 필터에도 반영한다.
+     */
+    public void resync() {
+        long startedAt = System.currentTimeMillis();
+        long generation;
+        synchronized (this) {
+            rebuilding = new ConcurrentSkipListMap<>();
+            generation = subscriptionGeneration;
+        }
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, startedAt);
+            loadIndex(startedAt);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                rebuilding = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            partitions = rebuilding;
+            rebuilding = null;
+            // 적재 중 구독이 바뀌었으면 놓친 폐기가 있을 수 있으므로 다음 재동기화까지 Redis 로 확인한다
+            if (generation == subscriptionGeneration) {
+                syncedAt = startedAt;
+                ready = true;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (resyncExecutor != null) {
+            resyncExecutor.shutdown();
+        }
+    }
+
+    private synchronized void invalidate() {
+        subscriptionGeneration++;
+        ready = false;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    double observedFalsePositiveRate() {
+        double falsePositives = falsePositiveCounter.count();
+        double negatives = negativeCounter.count() + falsePositives;
+        return negatives == 0 ? 0 : falsePositives / negatives;
+    }
+
+    double redisAvoidedRatio() {
+        double checks = negativeCounter.count() + positiveCounter.count() + bypassCounter.count();
+        return checks == 0 ? 0 : negativeCounter.count() / checks;
+    }
+
+    /**
+     * 점수(만료 시각) 순으로 나눠 읽는다. 다음 구간은 마지막 점수부터 읽고 같은 점수로 이미 읽은 멤버는 건너뛰므로,
+     * 다른 인스턴스가 앞 구간을 정리해도 멤버를 빠뜨리지 않는다.
+     */
+    private void loadIndex(long now) {
+        double min = now;
+        long skip = 0;
+        while (true) {
+            Set<TypedTuple<String>> batch = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(INDEX_KEY, min, Double.POSITIVE_INFINITY, skip, LOAD_BATCH_SIZE);
+            if (batch == null || batch.isEmpty()) {
+                return;
+            }
+            double last = min;
+            long sameScore = skip;
+            for (TypedTuple<String> tuple : batch) {
+                double score = tuple.getScore() == null ? 0 : tuple.getScore();
+                put(tuple.getValue(), (long) score);
+                if (score == last) {
+                    sameScore++;
+                } else {
+                    last = score;
+                    sameScore = 1;
+                }
+            }
+            if (batch.size() < LOAD_BATCH_SIZE) {
+                return;
+            }
+            min = last;
+            skip = sameScore;
+        }
+    }
+
+    private synchronized void put(String jti, long expiresAtMillis) {
+        long[] hash = JtiBloomFilter.hash(jti);
+        long bucket = bucket(expiresAtMillis);
+        putInto(partitions, bucket, hash);
+        if (rebuilding != null) {
+            putInto(rebuilding, bucket, hash);
+        }
+        partitions.headMap(bucket(System.currentTimeMillis())).clear();
+    }
+
+    private void putInto(ConcurrentSkipListMap<Long, JtiBloomFilter> target, long bucket, long[] hash) {
+        target.computeIfAbsent(bucket, key -> new JtiBloomFilter(expectedPerPartition, falsePositiveRate)).put(hash);
+    }
+
+    private long bucket(long epochMillis) {
+        return epochMillis / partitionWidthMillis;
+    }
+
+    private void resyncQuietly() {
+        try {
+            resync();
+        } catch (Exception e) {
+            // 예약 작업이 예외로 중단되지 않도록 삼킨다. 기존 필터는 그대로 쓴다
+            log.error("토큰 블랙리스트 필터 재동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("token.blacklist.filter.checks")
+            .tag("result", result)
+            .description("토큰 블랙리스트 필터 조회")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package io.pinkspider.leveluptogethermvp.userservice.oauth.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 토큰 블랙리스트 필터 갱신용 Redis pub/sub 리스너 설정
+ */
+@Configuration
+@Profile("!test")
+@RequiredArgsConstructor
+public class TokenBlacklistFilterConfig {
+
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+
+    @Bean
+    public RedisMessageListenerContainer tokenBlacklistFilterListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tokenBlacklistFilter, new ChannelTopic(TokenBlacklistFilter.CHANNEL));
+        return container;
+    }
+}
@@ -1,8 +1,11 @@
 package io.pinkspider.leveluptogethermvp.userservice.oauth.scheduler;
 
-import io.pinkspider.global.security.JwtUtil;
+import io.pinkspider.global.component.RedisKeyspaceScanner;
 import io.pinkspider.leveluptogethermvp.userservice.oauth.application.MultiDeviceTokenService;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
@@ -19,38 +22,14 @@ public class TokenMaintenanceScheduler {
 
     private final StringRedisTemplate redisTemplate;
     private final MultiDeviceTokenService tokenService;
-    private final JwtUtil jwtUtil;
+    private final RedisKeyspaceScanner keyspaceScanner;
 
-    // 매일 새벽 2시(KST)에 만료된 세션 정리
+    // 매일 새벽 2시(KST)에 만료된 세션 정리 (해시 세션 만료 판정 포함, SCAN 커서는 실행 간 이어짐)
     @Scheduled(cron = "0 0 2 * * *", zone = "Asia/Seoul")
     @SchedulerLock(name = "TokenMaintenanceScheduler_cleanupExpiredSessions", lockAtMostFor = "PT15M", lockAtLeastFor = "PT1M")
     public void cleanupExpiredSessions() {
         try {
-            Set<String> sessionKeys = redisTemplate.keys("session:*");
-            int cleanedCount = 0;
-
-            if (sessionKeys != null) {
-                for (String sessionKey : sessionKeys) {
-                    String refreshToken = (String) redisTemplate.opsForHash()
-                        .get(sessionKey, "refreshToken");
-
-                    if (refreshToken == null || !jwtUtil.validateToken(refreshToken)) {
-                        // 만료된 세션 삭제
-                        redisTemplate.delete(sessionKey);
-
-                        // user_sessions에서도 제거
-                        String userId = (String) redisTemplate.opsForHash().get(sessionKey, "userId");
-                        if (userId != null) {
-                            redisTemplate.opsForSet().remove("userSessions:" + userId, sessionKey);
-                        }
-
-                        cleanedCount++;
-                    }
-                }
-            }
-
-            log.info("Cleaned up {} expired sessions", cleanedCount);
-
+            tokenService.cleanupExpiredSessions();
         } catch (Exception e) {
             log.error("Failed to cleanup expired sessions", e);
         }
@@ -62,10 +41,10 @@ public class TokenMaintenanceScheduler {
     @SchedulerLock(name = "TokenMaintenanceScheduler_cleanupOrphanedUserSessions", lockAtMostFor = "PT15M", lockAtLeastFor = "PT1M")
     public void cleanupOrphanedUserSessions() {
         try {
-            Set<String> userSessionKeys = redisTemplate.keys("userSessions:*");
-            int cleanedCount = 0;
+            AtomicInteger cleanedCount = new AtomicInteger();
 
-            if (userSessionKeys != null) {
+            keyspaceScanner.scan("userSessions:*", userSessionKeys -> {
+                List<String> emptyUserSessionKeys = new ArrayList<>();
                 for (String userSessionKey : userSessionKeys) {
                     Set<String> sessionKeys = redisTemplate.opsForSet().members(userSessionKey);
 
@@ -74,7 +53,7 @@ public class TokenMaintenanceScheduler {
                             // 세션이 더 이상 존재하지 않으면 user_sessions에서 제거
                             if (Boolean.FALSE.equals(redisTemplate.hasKey(sessionKey))) {
                                 redisTemplate.opsForSet().remove(userSessionKey, sessionKey);
-                                cleanedCount++;
+                                cleanedCount.incrementAndGet();
                             }
                         }
                     }
@@ -82,13 +61,14 @@ public class TokenMaintenanceScheduler {
                     // user_sessions가 비어있으면 키 자체 삭제
                     Long size = redisTemplate.opsForSet().size(userSessionKey);
                     if (size != null && size == 0) {
-                        redisTemplate.delete(userSessionKey);
+                        emptyUserSessionKeys.add(userSessionKey);
                     }
                 }
-            }
+                keyspaceScanner.unlink(emptyUserSessionKeys);
+            });
 
-            if (cleanedCount > 0) {
-                log.info("Cleaned up {} orphaned session references", cleanedCount);
+            if (cleanedCount.get() > 0) {
+                log.info("Cleaned up {} orphaned session references", cleanedCount.get());
             }
 
         } catch (Exception e) {
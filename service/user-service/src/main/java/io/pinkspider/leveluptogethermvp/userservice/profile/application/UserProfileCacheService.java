@@ -5,13 +5,25 @@ import io.pinkspider.global.facade.dto.UserProfileInfo;
 import io.pinkspider.global.facade.GamificationQueryFacade;
 import io.pinkspider.leveluptogethermvp.userservice.unit.user.domain.entity.Users;
 import io.pinkspider.leveluptogethermvp.userservice.unit.user.infrastructure.UserRepository;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,13 +37,23 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class UserProfileCacheService {
 
+    static final String CACHE_NAME = "userProfile";
+
+    private static final TitleInfoDto NO_TITLE = new TitleInfoDto(null, null, null);
+
     private final UserRepository userRepository;
     private final GamificationQueryFacade gamificationQueryFacadeService;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
 
     public UserProfileCacheService(UserRepository userRepository,
-                                    GamificationQueryFacade gamificationQueryFacadeService) {
+                                    GamificationQueryFacade gamificationQueryFacadeService,
+                                    CacheManager cacheManager,
+                                    StringRedisTemplate stringRedisTemplate) {
         this.userRepository = userRepository;
         this.gamificationQueryFacadeService = gamificationQueryFacadeService;
+        this.cacheManager = cacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
     }
 
     /**
@@ -39,7 +61,7 @@ public class UserProfileCacheService {
      * - nickname, picture, level, titleName, titleRarity, titleColorCode 포함
      * - TTL: 5분 (RedisConfig에서 설정)
      */
-    @Cacheable(value = "userProfile", key = "#userId")
+    @Cacheable(value = CACHE_NAME, key = "#userId")
     public UserProfileInfo getUserProfile(String userId) {
         log.debug("캐시 미스 - DB에서 사용자 프로필 조회: userId={}", userId);
 
@@ -67,25 +89,32 @@ public class UserProfileCacheService {
         );
     }
 
-    /**
-     * 사용자 프로필 캐시 무효화
-     * - 닉네임, 프로필 사진, 레벨, 칭호 변경 시 호출
-     */
     /**
      * 여러 사용자 프로필 배치 조회
-     * - 개별 캐시 활용 (userId별 @Cacheable)
+     * - userProfile 캐시를 MGET 1회로 조회하고, 미스만 사용자/레벨/칭호를 각각 1회씩 일괄 조회
+     * - 새로 읽은 프로필은 파이프라인으로 캐시에 되쓴다 (@Cacheable과 같은 키/직렬화/TTL)
      * - 랭킹, 멤버 목록 등 배치 조회에 사용
      */
     public Map<String, UserProfileInfo> getUserProfiles(List<String> userIds) {
         if (userIds == null || userIds.isEmpty()) {
             return Map.of();
         }
-        return userIds.stream()
-            .distinct()
-            .collect(Collectors.toMap(
-                Function.identity(),
-                this::getUserProfile
-            ));
+        List<String> distinctIds = userIds.stream().distinct().toList();
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        Map<String, UserProfileInfo> profiles = new HashMap<>(getCachedProfiles(cache, distinctIds));
+        List<String> misses = distinctIds.stream()
+            .filter(userId -> !profiles.containsKey(userId))
+            .toList();
+        if (misses.isEmpty()) {
+            return profiles;
+        }
+
+        log.debug("캐시 미스 - DB에서 사용자 프로필 일괄 조회: requested={}, misses={}", distinctIds.size(), misses.size());
+        Map<String, UserProfileInfo> loaded = loadProfiles(misses);
+        profiles.putAll(loaded);
+        putCachedProfiles(cache, loaded);
+        return profiles;
     }
 
     /**
@@ -105,8 +134,123 @@ public class UserProfileCacheService {
             .orElse(null);
     }
 
-    @CacheEvict(value = "userProfile", key = "#userId")
+    /**
+     * 사용자 프로필 캐시 무효화
+     * - 닉네임, 프로필 사진, 레벨, 칭호 변경 시 호출
+     */
+    @CacheEvict(value = CACHE_NAME, key = "#userId")
     public void evictUserProfileCache(String userId) {
         log.debug("사용자 프로필 캐시 무효화: userId={}", userId);
     }
+
+    private Map<String, UserProfileInfo> getCachedProfiles(Cache cache, List<String> userIds) {
+        if (cache == null) {
+            return Map.of();
+        }
+        Map<String, UserProfileInfo> cached = new HashMap<>();
+        try {
+            if (cache instanceof RedisCache redisCache) {
+                RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+                byte[][] keys = userIds.stream()
+                    .map(userId -> cacheKey(redisCache, userId))
+                    .toArray(byte[][]::new);
+                List<byte[]> values = stringRedisTemplate.execute(
+                    (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(keys));
+                for (int i = 0; values != null && i < values.size(); i++) {
+                    byte[] value = values.get(i);
+                    if (value != null
+                        && config.getValueSerializationPair().read(ByteBuffer.wrap(value)) instanceof UserProfileInfo profile) {
+                        cached.put(userIds.get(i), profile);
+                    }
+                }
+            } else {
+                for (String userId : userIds) {
+                    UserProfileInfo profile = cache.get(userId, UserProfileInfo.class);
+                    if (profile != null) {
+                        cached.put(userId, profile);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // 캐시 조회 실패 시 전부 미스로 보고 DB에서 읽는다
+            log.warn("사용자 프로필 캐시 일괄 조회 실패: error={}", e.getMessage());
+            return Map.of();
+        }
+        return cached;
+    }
+
+    private void putCachedProfiles(Cache cache, Map<String, UserProfileInfo> profiles) {
+        if (cache == null || profiles.isEmpty()) {
+            return;
+        }
+        try {
+            if (cache instanceof RedisCache redisCache) {
+                RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    profiles.forEach((userId, profile) -> {
+                        Duration ttl = config.getTtlFunction().getTimeToLive(userId, profile);
+                        Expiration expiration = ttl != null && !ttl.isZero() && !ttl.isNegative()
+                            ? Expiration.from(ttl)
+                            : Expiration.persistent();
+                        connection.stringCommands().set(
+                            cacheKey(redisCache, userId),
+                            ByteUtils.getBytes(config.getValueSerializationPair().write(profile)),
+                            expiration,
+                            SetOption.upsert());
+                    });
+                    return null;
+                });
+            } else {
+                profiles.forEach(cache::put);
+            }
+        } catch (Exception e) {
+            log.warn("사용자 프로필 캐시 일괄 저장 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * RedisCache가 @Cacheable에서 쓰는 것과 같은 키 (캐시 prefix + userId)
+     */
+    private static byte[] cacheKey(RedisCache redisCache, String userId) {
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        String key = config.usePrefix() ? config.getKeyPrefixFor(redisCache.getName()) + userId : userId;
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(key));
+    }
+
+    /**
+     * 사용자/레벨/칭호를 각각 1회씩 일괄 조회해 프로필 조합 (없는 사용자는 기본 프로필)
+     */
+    private Map<String, UserProfileInfo> loadProfiles(List<String> userIds) {
+        Map<String, Users> users = userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(Users::getId, Function.identity()));
+        List<String> foundIds = userIds.stream().filter(users::containsKey).toList();
+
+        Map<String, Integer> levels = foundIds.isEmpty()
+            ? Map.of()
+            : gamificationQueryFacadeService.getUserLevelMap(foundIds);
+        Map<String, TitleInfoDto> titles = foundIds.isEmpty()
+            ? Map.of()
+            : gamificationQueryFacadeService.getCombinedEquippedTitleInfoMap(foundIds);
+
+        Map<String, UserProfileInfo> profiles = new HashMap<>();
+        for (String userId : userIds) {
+            Users user = users.get(userId);
+            if (user == null) {
+                log.warn("사용자를 찾을 수 없음: userId={}", userId);
+                profiles.put(userId, UserProfileInfo.defaultProfile(userId));
+                continue;
+            }
+            TitleInfoDto titleInfo = titles.getOrDefault(userId, NO_TITLE);
+            profiles.put(userId, new UserProfileInfo(
+                userId,
+                user.getNickname(),
+                user.getPicture(),
+                levels.getOrDefault(userId, 1),
+                titleInfo.name(),
+                titleInfo.rarity(),
+                titleInfo.colorCode()
+            ));
+        }
+        return profiles;
+    }
 }
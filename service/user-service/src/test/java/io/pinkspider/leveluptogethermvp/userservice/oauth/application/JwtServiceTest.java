@@ -80,7 +80,7 @@ class JwtServiceTest {
             String newAccessToken = "new-access-token";
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(true);
             when(jwtUtil.getSubjectFromToken(testRefreshToken)).thenReturn(testUserId);
             when(jwtUtil.getEmailFromToken(testRefreshToken)).thenReturn(testEmail);
@@ -118,7 +118,7 @@ class JwtServiceTest {
             String newRefreshToken = "retry-refresh-token";
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(true);
             when(jwtUtil.getSubjectFromToken(testRefreshToken)).thenReturn(testUserId);
             when(jwtUtil.getEmailFromToken(testRefreshToken)).thenReturn(testEmail);
@@ -154,7 +154,7 @@ class JwtServiceTest {
                 .build();
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(true);
             when(jwtUtil.getSubjectFromToken(testRefreshToken)).thenReturn(testUserId);
             when(jwtUtil.getEmailFromToken(testRefreshToken)).thenReturn(testEmail);
@@ -182,7 +182,7 @@ class JwtServiceTest {
             String newRefreshToken = "new-refresh-token";
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(true);
             when(jwtUtil.getSubjectFromToken(testRefreshToken)).thenReturn(testUserId);
             when(jwtUtil.getEmailFromToken(testRefreshToken)).thenReturn(testEmail);
@@ -236,7 +236,7 @@ class JwtServiceTest {
                 .build();
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(true);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(true);
 
             // when & then
             assertThatThrownBy(() -> jwtService.reissue(request))
@@ -255,7 +255,7 @@ class JwtServiceTest {
                 .build();
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(false);
 
             // when & then
@@ -275,7 +275,7 @@ class JwtServiceTest {
                 .build();
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(true);
             when(jwtUtil.getSubjectFromToken(testRefreshToken)).thenReturn(testUserId);
             when(jwtUtil.getEmailFromToken(testRefreshToken)).thenReturn(testEmail);
@@ -308,7 +308,7 @@ class JwtServiceTest {
             String newAccessToken = "new-access-token";
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(true);
             when(jwtUtil.getSubjectFromToken(testRefreshToken)).thenReturn(testUserId);
             when(jwtUtil.getEmailFromToken(testRefreshToken)).thenReturn(testEmail);
@@ -343,7 +343,7 @@ class JwtServiceTest {
             String newRefreshToken = "new-refresh-token";
 
             when(jwtUtil.validateToken(testRefreshToken)).thenReturn(true);
-            when(tokenService.isTokenBlacklisted(testRefreshToken)).thenReturn(false);
+            when(tokenService.isTokenBlacklistedInRedis(testRefreshToken)).thenReturn(false);
             when(slidingExpirationService.isWithinMaxLifetime(testRefreshToken)).thenReturn(true);
             when(jwtUtil.getSubjectFromToken(testRefreshToken)).thenReturn(testUserId);
             when(jwtUtil.getEmailFromToken(testRefreshToken)).thenReturn(testEmail);
@@ -2,6 +2,8 @@ package io.pinkspider.leveluptogethermvp.userservice.oauth.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
@@ -9,6 +11,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.pinkspider.global.component.RedisKeyspaceScanner;
+import io.pinkspider.global.component.RedisKeyspaceScanner.ScanProgress;
 import io.pinkspider.global.security.JwtUtil;
 import io.pinkspider.leveluptogethermvp.userservice.oauth.application.MultiDeviceTokenService.RefreshTokenMatch;
 import io.pinkspider.leveluptogethermvp.userservice.oauth.domain.dto.response.SessionsResponseDto.Session;
@@ -18,6 +22,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +35,7 @@ import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
 
 @ExtendWith(MockitoExtension.class)
 class MultiDeviceTokenServiceTest {
@@ -55,6 +61,15 @@ class MultiDeviceTokenServiceTest {
     @Mock
     private ValueOperations<String, String> valueOperations;
 
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    @Mock
+    private RedisKeyspaceScanner keyspaceScanner;
+
     private MultiDeviceTokenService multiDeviceTokenService;
 
     private static final String TEST_USER_ID = "test-user-123";
@@ -68,7 +83,8 @@ class MultiDeviceTokenServiceTest {
     @BeforeEach
     void setUp() {
         multiDeviceTokenService = new MultiDeviceTokenService(
-            redisTemplate, jwtUtil, slidingExpirationService, objectMapper
+            redisTemplate, jwtUtil, slidingExpirationService, objectMapper, tokenBlacklistFilter,
+            keyspaceScanner
         );
     }
 
@@ -214,6 +230,7 @@ class MultiDeviceTokenServiceTest {
             when(jwtUtil.getJtiFromToken("new-access-token")).thenReturn("new-access-jti");
             when(jwtUtil.getRemainingTime("new-access-token")).thenReturn(Duration.ofHours(24).toMillis());
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
 
             // when
             multiDeviceTokenService.updateTokens(TEST_USER_ID, DEVICE_TYPE, DEVICE_ID, "new-access-token", "new-refresh-token");
@@ -427,9 +444,11 @@ class MultiDeviceTokenServiceTest {
         void isTokenBlacklisted_inBlacklist_returnsTrue() {
             String jti = "test-jti";
             when(jwtUtil.getJtiFromToken(ACCESS_TOKEN)).thenReturn(jti);
+            when(tokenBlacklistFilter.mightContain(jti)).thenReturn(true);
             when(redisTemplate.hasKey("blacklist:" + jti)).thenReturn(true);
 
             assertThat(multiDeviceTokenService.isTokenBlacklisted(ACCESS_TOKEN)).isTrue();
+            verify(tokenBlacklistFilter).recordLookup(true);
         }
 
         @Test
@@ -437,9 +456,33 @@ class MultiDeviceTokenServiceTest {
         void isTokenBlacklisted_notInBlacklist_returnsFalse() {
             String jti = "test-jti";
             when(jwtUtil.getJtiFromToken(ACCESS_TOKEN)).thenReturn(jti);
+            when(tokenBlacklistFilter.mightContain(jti)).thenReturn(true);
             when(redisTemplate.hasKey("blacklist:" + jti)).thenReturn(false);
 
             assertThat(multiDeviceTokenService.isTokenBlacklisted(ACCESS_TOKEN)).isFalse();
+            verify(tokenBlacklistFilter).recordLookup(false);
+        }
+
+        @Test
+        @DisplayName("로컬 필터에 없으면 Redis를 조회하지 않고 false를 반환한다")
+        void isTokenBlacklisted_filterNegative_skipsRedis() {
+            String jti = "test-jti";
+            when(jwtUtil.getJtiFromToken(ACCESS_TOKEN)).thenReturn(jti);
+            when(tokenBlacklistFilter.mightContain(jti)).thenReturn(false);
+
+            assertThat(multiDeviceTokenService.isTokenBlacklisted(ACCESS_TOKEN)).isFalse();
+            verify(redisTemplate, never()).hasKey(anyString());
+        }
+
+        @Test
+        @DisplayName("재발급 경로는 로컬 필터를 거치지 않고 Redis로 확인한다")
+        void isTokenBlacklistedInRedis_skipsFilter() {
+            String jti = "test-jti";
+            when(jwtUtil.getJtiFromToken(ACCESS_TOKEN)).thenReturn(jti);
+            when(redisTemplate.hasKey("blacklist:" + jti)).thenReturn(true);
+
+            assertThat(multiDeviceTokenService.isTokenBlacklistedInRedis(ACCESS_TOKEN)).isTrue();
+            verify(tokenBlacklistFilter, never()).mightContain(anyString());
         }
 
         @Test
@@ -473,6 +516,7 @@ class MultiDeviceTokenServiceTest {
             when(jwtUtil.getJtiFromToken(ACCESS_TOKEN)).thenReturn(jti);
             when(jwtUtil.getRemainingTime(ACCESS_TOKEN)).thenReturn(remainingTime);
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
 
             multiDeviceTokenService.blacklistToken(ACCESS_TOKEN);
 
@@ -481,6 +525,8 @@ class MultiDeviceTokenServiceTest {
             // jti 블랙리스트는 exp 시각 기준으로 계산되므로 수 ms 오차 허용
             assertThat(ttlCaptor.getValue().toMillis())
                 .isBetween(remainingTime - 1000, remainingTime + 1000);
+            verify(zSetOperations).add(eq(TokenBlacklistFilter.INDEX_KEY), eq(jti), anyDouble());
+            verify(tokenBlacklistFilter).add(eq(jti), anyLong());
         }
 
         @Test
@@ -525,6 +571,7 @@ class MultiDeviceTokenServiceTest {
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
             when(redisTemplate.opsForSet()).thenReturn(setOperations);
             when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
 
             long futureExp = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
             when(hashOperations.get(SESSION_KEY, "accessJti")).thenReturn("access-jti");
@@ -776,52 +823,57 @@ class MultiDeviceTokenServiceTest {
     @DisplayName("cleanupExpiredSessions 테스트")
     class CleanupExpiredSessionsTest {
 
+        /** SCAN 한 단계에서 주어진 세션 키가 나오도록 스텁 */
+        private void givenSessionKeys(String... sessionKeys) {
+            when(keyspaceScanner.scanResumable(eq("session-cleanup"), eq("session:*"), anyLong(), any()))
+                .thenAnswer(invocation -> {
+                    Consumer<List<String>> consumer = invocation.getArgument(3);
+                    if (sessionKeys.length > 0) {
+                        consumer.accept(List.of(sessionKeys));
+                    }
+                    return new ScanProgress(sessionKeys.length, true);
+                });
+        }
+
         @Test
         @DisplayName("세션 키가 없으면 0을 반환한다")
         void cleanupExpiredSessions_noKeys() {
-            when(redisTemplate.keys("session:*")).thenReturn(null);
+            givenSessionKeys();
 
             assertThat(multiDeviceTokenService.cleanupExpiredSessions()).isEqualTo(0);
+            verify(keyspaceScanner, never()).unlink(any());
         }
 
         @Test
         @DisplayName("exp 메타데이터가 만료된 해시 세션을 정리한다")
         void cleanupExpiredSessions_expiredByMetadata() {
-            Set<String> sessionKeys = new HashSet<>();
-            sessionKeys.add("session:user1:mobile:device1");
-
-            when(redisTemplate.keys("session:*")).thenReturn(sessionKeys);
+            givenSessionKeys("session:user1:mobile:device1");
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
             when(redisTemplate.opsForSet()).thenReturn(setOperations);
             when(hashOperations.get("session:user1:mobile:device1", "refreshExpiresAt"))
                 .thenReturn(String.valueOf(System.currentTimeMillis() - 1000L));
 
             assertThat(multiDeviceTokenService.cleanupExpiredSessions()).isEqualTo(1);
-            verify(redisTemplate).delete("session:user1:mobile:device1");
+            verify(setOperations).remove("userSessions:user1", "session:user1:mobile:device1");
+            verify(keyspaceScanner).unlink(List.of("session:user1:mobile:device1"));
         }
 
         @Test
         @DisplayName("exp 메타데이터가 유효한 세션은 삭제하지 않는다")
         void cleanupExpiredSessions_validByMetadata_notDeleted() {
-            Set<String> sessionKeys = new HashSet<>();
-            sessionKeys.add("session:user3:mobile:device3");
-
-            when(redisTemplate.keys("session:*")).thenReturn(sessionKeys);
+            givenSessionKeys("session:user3:mobile:device3");
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
             when(hashOperations.get("session:user3:mobile:device3", "refreshExpiresAt"))
                 .thenReturn(String.valueOf(System.currentTimeMillis() + Duration.ofDays(30).toMillis()));
 
             assertThat(multiDeviceTokenService.cleanupExpiredSessions()).isEqualTo(0);
-            verify(redisTemplate, never()).delete(eq("session:user3:mobile:device3"));
+            verify(keyspaceScanner, never()).unlink(any());
         }
 
         @Test
         @DisplayName("레거시 평문 세션은 원문 검증으로 만료를 판정한다")
         void cleanupExpiredSessions_legacyExpired() {
-            Set<String> sessionKeys = new HashSet<>();
-            sessionKeys.add("session:user1:mobile:device1");
-
-            when(redisTemplate.keys("session:*")).thenReturn(sessionKeys);
+            givenSessionKeys("session:user1:mobile:device1");
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
             when(redisTemplate.opsForSet()).thenReturn(setOperations);
             when(hashOperations.get("session:user1:mobile:device1", "refreshExpiresAt")).thenReturn(null);
@@ -829,39 +881,48 @@ class MultiDeviceTokenServiceTest {
             when(jwtUtil.validateToken(REFRESH_TOKEN)).thenReturn(false);
 
             assertThat(multiDeviceTokenService.cleanupExpiredSessions()).isEqualTo(1);
-            verify(redisTemplate).delete("session:user1:mobile:device1");
+            verify(keyspaceScanner).unlink(List.of("session:user1:mobile:device1"));
         }
 
         @Test
         @DisplayName("refreshToken이 없으면 세션을 삭제한다")
         void cleanupExpiredSessions_nullRefreshToken() {
-            Set<String> sessionKeys = new HashSet<>();
-            sessionKeys.add("session:user2:web:device2");
-
-            when(redisTemplate.keys("session:*")).thenReturn(sessionKeys);
+            givenSessionKeys("session:user2:web:device2");
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
             when(redisTemplate.opsForSet()).thenReturn(setOperations);
             when(hashOperations.get("session:user2:web:device2", "refreshExpiresAt")).thenReturn(null);
             when(hashOperations.get("session:user2:web:device2", "refreshToken")).thenReturn(null);
 
             assertThat(multiDeviceTokenService.cleanupExpiredSessions()).isEqualTo(1);
-            verify(redisTemplate).delete("session:user2:web:device2");
+            verify(keyspaceScanner).unlink(List.of("session:user2:web:device2"));
         }
 
         @Test
         @DisplayName("해시인데 exp 메타데이터가 없으면 TTL에 맡기고 삭제하지 않는다")
         void cleanupExpiredSessions_hashedWithoutMetadata_kept() {
-            Set<String> sessionKeys = new HashSet<>();
-            sessionKeys.add("session:user4:mobile:device4");
-
-            when(redisTemplate.keys("session:*")).thenReturn(sessionKeys);
+            givenSessionKeys("session:user4:mobile:device4");
             when(redisTemplate.opsForHash()).thenReturn(hashOperations);
             when(hashOperations.get("session:user4:mobile:device4", "refreshExpiresAt")).thenReturn(null);
             when(hashOperations.get("session:user4:mobile:device4", "refreshToken"))
                 .thenReturn(MultiDeviceTokenService.hashToken(REFRESH_TOKEN));
 
             assertThat(multiDeviceTokenService.cleanupExpiredSessions()).isEqualTo(0);
-            verify(redisTemplate, never()).delete(eq("session:user4:mobile:device4"));
+            verify(keyspaceScanner, never()).unlink(any());
+        }
+
+        @Test
+        @DisplayName("만료 세션만 골라 한 번에 UNLINK 한다")
+        void cleanupExpiredSessions_unlinksOnlyExpired() {
+            givenSessionKeys("session:user1:mobile:device1", "session:user3:mobile:device3");
+            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            when(hashOperations.get("session:user1:mobile:device1", "refreshExpiresAt"))
+                .thenReturn(String.valueOf(System.currentTimeMillis() - 1000L));
+            when(hashOperations.get("session:user3:mobile:device3", "refreshExpiresAt"))
+                .thenReturn(String.valueOf(System.currentTimeMillis() + Duration.ofDays(30).toMillis()));
+
+            assertThat(multiDeviceTokenService.cleanupExpiredSessions()).isEqualTo(1);
+            verify(keyspaceScanner).unlink(List.of("session:user1:mobile:device1"));
         }
     }
 
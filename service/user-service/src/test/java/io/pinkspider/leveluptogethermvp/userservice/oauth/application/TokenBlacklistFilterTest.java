@@ -0,0 +1,229 @@
+package io.pinkspider.leveluptogethermvp.userservice.oauth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistFilter 단위 테스트")
+class TokenBlacklistFilterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        tokenBlacklistFilter = new TokenBlacklistFilter(
+            redisTemplate, null, true, Duration.ofMinutes(1), 1000, 0.001, Duration.ofMinutes(5),
+            new SimpleMeterRegistry());
+    }
+
+    private void givenIndex(Set<TypedTuple<String>> tuples) {
+        when(zSetOperations.rangeByScoreWithScores(
+            eq(TokenBlacklistFilter.INDEX_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY), anyLong(), anyLong()))
+            .thenReturn(tuples);
+    }
+
+    private void givenEmptyIndex() {
+        givenIndex(Set.of());
+    }
+
+    private static Set<TypedTuple<String>> tuples(long expiresAt, String... jtis) {
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (String jti : jtis) {
+            tuples.add(new DefaultTypedTuple<>(jti, (double) expiresAt));
+        }
+        return tuples;
+    }
+
+    private Message message(String body) {
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+
+    @Nested
+    @DisplayName("초기 적재 테스트")
+    class ResyncTest {
+
+        @Test
+        @DisplayName("적재 전에는 모든 조회를 Redis로 보낸다")
+        void mightContain_beforeResync_bypasses() {
+            assertThat(tokenBlacklistFilter.isReady()).isFalse();
+            assertThat(tokenBlacklistFilter.mightContain("any-jti")).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료된 인덱스 멤버를 정리하고 만료 전 멤버로 필터를 채우며, 없는 jti 는 Redis 조회 없이 걸러낸다")
+        void resync_seedsFromIndex() {
+            // given
+            givenIndex(tuples(System.currentTimeMillis() + 60_000, "revoked-1", "revoked-2"));
+
+            // when
+            tokenBlacklistFilter.resync();
+
+            // then
+            verify(zSetOperations).removeRangeByScore(
+                eq(TokenBlacklistFilter.INDEX_KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+            assertThat(tokenBlacklistFilter.isReady()).isTrue();
+            assertThat(tokenBlacklistFilter.mightContain("revoked-1")).isTrue();
+            assertThat(tokenBlacklistFilter.mightContain("revoked-2")).isTrue();
+            assertThat(tokenBlacklistFilter.mightContain("active-jti")).isFalse();
+        }
+
+        @Test
+        @DisplayName("인덱스를 만료 시각 순으로 나눠 읽고, 같은 만료 시각으로 이미 읽은 멤버는 건너뛴다")
+        void resync_pagesByScore() {
+            // given - 한 번에 1000개, 첫 구간은 모두 같은 만료 시각
+            long expiresAt = System.currentTimeMillis() + 60_000;
+            Set<TypedTuple<String>> firstPage = tuples(expiresAt,
+                LongStream.range(0, 1000).mapToObj(i -> "jti-" + i).toArray(String[]::new));
+            when(zSetOperations.rangeByScoreWithScores(
+                eq(TokenBlacklistFilter.INDEX_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY), eq(0L), eq(1000L)))
+                .thenReturn(firstPage);
+            doReturn(tuples(expiresAt + 1, "last-jti")).when(zSetOperations).rangeByScoreWithScores(
+                TokenBlacklistFilter.INDEX_KEY, expiresAt, Double.POSITIVE_INFINITY, 1000L, 1000L);
+
+            // when
+            tokenBlacklistFilter.resync();
+
+            // then
+            assertThat(firstPage.stream().map(TypedTuple::getValue).collect(Collectors.toList()))
+                .allMatch(tokenBlacklistFilter::mightContain);
+            assertThat(tokenBlacklistFilter.mightContain("last-jti")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("갱신 테스트")
+    class UpdateTest {
+
+        @BeforeEach
+        void ready() {
+            givenEmptyIndex();
+            tokenBlacklistFilter.resync();
+        }
+
+        @Test
+        @DisplayName("폐기 jti 를 로컬에 반영하고 다른 인스턴스에 발행한다")
+        void add_putsAndPublishes() {
+            long expiresAt = System.currentTimeMillis() + 60_000;
+
+            tokenBlacklistFilter.add("revoked-jti", expiresAt);
+
+            assertThat(tokenBlacklistFilter.mightContain("revoked-jti")).isTrue();
+            verify(redisTemplate).convertAndSend(TokenBlacklistFilter.CHANNEL, "revoked-jti|" + expiresAt);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스의 폐기 메시지를 반영한다")
+        void onMessage_puts() {
+            tokenBlacklistFilter.onMessage(message("remote-jti|" + (System.currentTimeMillis() + 60_000)), null);
+
+            assertThat(tokenBlacklistFilter.mightContain("remote-jti")).isTrue();
+        }
+
+        @Test
+        @DisplayName("만료 구간이 지난 파티션의 jti 는 조회하지 않는다")
+        void mightContain_ignoresExpiredPartition() {
+            tokenBlacklistFilter.onMessage(message("expired-jti|" + (System.currentTimeMillis() - 120_000)), null);
+
+            assertThat(tokenBlacklistFilter.mightContain("expired-jti")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("재구독/지연 테스트")
+    class StalenessTest {
+
+        @Test
+        @DisplayName("채널을 다시 구독하면 다시 채울 때까지 모든 조회를 Redis로 보낸다")
+        void onChannelSubscribed_bypassesUntilResync() {
+            // given
+            givenEmptyIndex();
+            tokenBlacklistFilter.resync();
+            assertThat(tokenBlacklistFilter.mightContain("active-jti")).isFalse();
+
+            // when
+            tokenBlacklistFilter.onChannelSubscribed(TokenBlacklistFilter.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+            // then
+            assertThat(tokenBlacklistFilter.isReady()).isFalse();
+            assertThat(tokenBlacklistFilter.mightContain("active-jti")).isTrue();
+
+            // when - 다시 채움
+            tokenBlacklistFilter.resync();
+
+            // then
+            assertThat(tokenBlacklistFilter.mightContain("active-jti")).isFalse();
+        }
+
+        @Test
+        @DisplayName("재동기화가 resync-interval 의 3배 넘게 밀리면 필터를 믿지 않고 Redis로 보낸다")
+        void mightContain_staleBypasses() throws InterruptedException {
+            // given - resync-interval 1ms → 3ms 후 지연으로 판단
+            TokenBlacklistFilter filter = new TokenBlacklistFilter(
+                redisTemplate, null, true, Duration.ofMinutes(1), 1000, 0.001, Duration.ofMillis(1),
+                new SimpleMeterRegistry());
+            givenEmptyIndex();
+            filter.resync();
+
+            // when
+            Thread.sleep(20);
+
+            // then
+            assertThat(filter.isReady()).isTrue();
+            assertThat(filter.mightContain("active-jti")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 조회 생략 비율과 오탐률을 계산한다")
+    void metrics() {
+        givenEmptyIndex();
+        tokenBlacklistFilter.resync();
+        tokenBlacklistFilter.add("revoked-jti", System.currentTimeMillis() + 60_000);
+
+        // 음성 3회, 양성 1회 (Redis 확인 결과 블랙리스트 아님 → 오탐)
+        tokenBlacklistFilter.mightContain("a");
+        tokenBlacklistFilter.mightContain("b");
+        tokenBlacklistFilter.mightContain("c");
+        tokenBlacklistFilter.mightContain("revoked-jti");
+        tokenBlacklistFilter.recordLookup(false);
+
+        assertThat(tokenBlacklistFilter.redisAvoidedRatio()).isEqualTo(0.75);
+        assertThat(tokenBlacklistFilter.observedFalsePositiveRate()).isEqualTo(0.25);
+    }
+}
@@ -1,13 +1,18 @@
 package io.pinkspider.leveluptogethermvp.userservice.oauth.scheduler;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.pinkspider.global.security.JwtUtil;
+import io.pinkspider.global.component.RedisKeyspaceScanner;
+import io.pinkspider.global.component.RedisKeyspaceScanner.ScanProgress;
 import io.pinkspider.leveluptogethermvp.userservice.oauth.application.MultiDeviceTokenService;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -15,7 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
@@ -29,10 +33,7 @@ class TokenMaintenanceSchedulerTest {
     private MultiDeviceTokenService tokenService;
 
     @Mock
-    private JwtUtil jwtUtil;
-
-    @Mock
-    private HashOperations<String, Object, Object> hashOperations;
+    private RedisKeyspaceScanner keyspaceScanner;
 
     @Mock
     private SetOperations<String, String> setOperations;
@@ -40,70 +41,41 @@ class TokenMaintenanceSchedulerTest {
     @InjectMocks
     private TokenMaintenanceScheduler scheduler;
 
+    /** SCAN 한 단계에서 주어진 키가 나오도록 스텁 */
+    private void givenScannedKeys(String pattern, String... keys) {
+        when(keyspaceScanner.scan(eq(pattern), any())).thenAnswer(invocation -> {
+            Consumer<List<String>> consumer = invocation.getArgument(1);
+            if (keys.length > 0) {
+                consumer.accept(List.of(keys));
+            }
+            return new ScanProgress(keys.length, true);
+        });
+    }
+
     @Nested
     @DisplayName("cleanupExpiredSessions 테스트")
     class CleanupExpiredSessionsTest {
 
         @Test
-        @DisplayName("만료된 세션을 정리한다")
-        void cleansUpExpiredSessions() {
-            // given
-            when(redisTemplate.keys("session:*")).thenReturn(Set.of("session:abc"));
-            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
-            when(hashOperations.get("session:abc", "refreshToken")).thenReturn("expired-token");
-            when(jwtUtil.validateToken("expired-token")).thenReturn(false);
-            when(hashOperations.get("session:abc", "userId")).thenReturn("user-1");
-
-            // when
-            scheduler.cleanupExpiredSessions();
-
-            // then
-            verify(redisTemplate).delete("session:abc");
-        }
-
-        @Test
-        @DisplayName("유효한 세션은 삭제하지 않는다")
-        void doesNotDeleteValidSessions() {
-            // given
-            when(redisTemplate.keys("session:*")).thenReturn(Set.of("session:valid"));
-            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
-            when(hashOperations.get("session:valid", "refreshToken")).thenReturn("valid-token");
-            when(jwtUtil.validateToken("valid-token")).thenReturn(true);
-
-            // when
-            scheduler.cleanupExpiredSessions();
-
-            // then
-            verify(redisTemplate, never()).delete("session:valid");
-        }
-
-        @Test
-        @DisplayName("세션 키가 없으면 아무것도 하지 않는다")
-        void noOpWhenNoSessions() {
-            // given
-            when(redisTemplate.keys("session:*")).thenReturn(null);
-
+        @DisplayName("만료 세션 정리를 MultiDeviceTokenService에 위임한다")
+        void delegatesToTokenService() {
             // when
             scheduler.cleanupExpiredSessions();
 
             // then
-            verify(redisTemplate, never()).delete(anyString());
+            verify(tokenService).cleanupExpiredSessions();
         }
 
         @Test
-        @DisplayName("refreshToken이 null이면 세션을 삭제한다")
-        void deletesSessionWithNullRefreshToken() {
+        @DisplayName("정리 중 예외가 발생해도 전파하지 않는다")
+        void swallowsFailure() {
             // given
-            when(redisTemplate.keys("session:*")).thenReturn(Set.of("session:null-token"));
-            when(redisTemplate.opsForHash()).thenReturn(hashOperations);
-            when(hashOperations.get("session:null-token", "refreshToken")).thenReturn(null);
-            when(hashOperations.get("session:null-token", "userId")).thenReturn(null);
+            when(tokenService.cleanupExpiredSessions()).thenThrow(new RuntimeException("Redis 연결 실패"));
 
             // when
             scheduler.cleanupExpiredSessions();
 
-            // then
-            verify(redisTemplate).delete("session:null-token");
+            // then - no exception
         }
     }
 
@@ -115,7 +87,7 @@ class TokenMaintenanceSchedulerTest {
         @DisplayName("고아 세션 참조를 정리한다")
         void cleansUpOrphanedSessions() {
             // given
-            when(redisTemplate.keys("userSessions:*")).thenReturn(Set.of("userSessions:user-1"));
+            givenScannedKeys("userSessions:*", "userSessions:user-1");
             when(redisTemplate.opsForSet()).thenReturn(setOperations);
             when(setOperations.members("userSessions:user-1")).thenReturn(Set.of("session:orphan"));
             when(redisTemplate.hasKey("session:orphan")).thenReturn(false);
@@ -126,14 +98,14 @@ class TokenMaintenanceSchedulerTest {
 
             // then
             verify(setOperations).remove("userSessions:user-1", "session:orphan");
-            verify(redisTemplate).delete("userSessions:user-1");
+            verify(keyspaceScanner).unlink(List.of("userSessions:user-1"));
         }
 
         @Test
         @DisplayName("유효한 세션 참조는 유지한다")
         void keepsValidSessionReferences() {
             // given
-            when(redisTemplate.keys("userSessions:*")).thenReturn(Set.of("userSessions:user-1"));
+            givenScannedKeys("userSessions:*", "userSessions:user-1");
             when(redisTemplate.opsForSet()).thenReturn(setOperations);
             when(setOperations.members("userSessions:user-1")).thenReturn(Set.of("session:valid"));
             when(redisTemplate.hasKey("session:valid")).thenReturn(true);
@@ -144,18 +116,20 @@ class TokenMaintenanceSchedulerTest {
 
             // then
             verify(setOperations, never()).remove(anyString(), anyString());
+            verify(keyspaceScanner).unlink(List.of());
         }
 
         @Test
         @DisplayName("키가 없으면 아무것도 하지 않는다")
         void noOpWhenNoKeys() {
             // given
-            when(redisTemplate.keys("userSessions:*")).thenReturn(null);
+            givenScannedKeys("userSessions:*");
 
             // when
             scheduler.cleanupOrphanedUserSessions();
 
-            // then - no exception
+            // then
+            verify(redisTemplate, never()).opsForSet();
         }
     }
 }
@@ -2,6 +2,12 @@ package io.pinkspider.leveluptogethermvp.userservice.profile.application;
 
 import static io.pinkspider.global.test.TestReflectionUtils.setId;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,7 +17,14 @@ import io.pinkspider.global.facade.dto.TitleInfoDto;
 import io.pinkspider.global.facade.dto.UserProfileInfo;
 import io.pinkspider.leveluptogethermvp.userservice.unit.user.domain.entity.Users;
 import io.pinkspider.leveluptogethermvp.userservice.unit.user.infrastructure.UserRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,6 +32,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserProfileCacheService 테스트")
@@ -30,9 +51,23 @@ class UserProfileCacheServiceTest {
     @Mock
     private GamificationQueryFacade gamificationQueryFacadeService;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
     @InjectMocks
     private UserProfileCacheService userProfileCacheService;
 
+    private static Users user(String userId, String nickname) {
+        Users user = Users.builder()
+            .nickname(nickname)
+            .build();
+        setId(user, userId);
+        return user;
+    }
+
     @Nested
     @DisplayName("getUserProfile 테스트")
     class GetUserProfileTest {
@@ -148,4 +183,123 @@ class UserProfileCacheServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getUserProfiles 테스트")
+    class GetUserProfilesTest {
+
+        /**
+         * 테스트용 값 직렬화 - 객체를 토큰으로 바꿔 보관 (MGET 응답을 그대로 재현)
+         */
+        private final Map<String, Object> stored = new HashMap<>();
+        private final RedisSerializer<Object> tokenSerializer = new RedisSerializer<>() {
+            @Override
+            public byte[] serialize(Object value) {
+                String token = UUID.randomUUID().toString();
+                stored.put(token, value);
+                return token.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public Object deserialize(byte[] bytes) {
+                return bytes == null ? null : stored.get(new String(bytes, StandardCharsets.UTF_8));
+            }
+        };
+
+        private RedisCache redisCache() {
+            RedisCache redisCache = mock(RedisCache.class);
+            when(redisCache.getName()).thenReturn("userProfile");
+            when(redisCache.getCacheConfiguration()).thenReturn(RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(SerializationPair.fromSerializer(tokenSerializer)));
+            when(cacheManager.getCache("userProfile")).thenReturn(redisCache);
+            return redisCache;
+        }
+
+        @Test
+        @DisplayName("100명 배치는 MGET 1회, 미스 대상 사용자/레벨/칭호 조회 각 1회, 파이프라인 되쓰기 1회로 처리한다")
+        @SuppressWarnings("unchecked")
+        void batchUsesConstantQueries() {
+            // given - 앞 40명은 캐시 적중, 나머지 60명은 미스
+            redisCache();
+            List<String> userIds = IntStream.range(0, 100).mapToObj(i -> "user-" + i).toList();
+            List<byte[]> cachedValues = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                cachedValues.add(i < 40
+                    ? tokenSerializer.serialize(new UserProfileInfo(
+                        userIds.get(i), "캐시유저" + i, null, 3, null, null, null))
+                    : null);
+            }
+            when(stringRedisTemplate.execute(any(RedisCallback.class))).thenReturn(cachedValues);
+
+            List<String> misses = userIds.subList(40, 100);
+            when(userRepository.findAllById(misses))
+                .thenReturn(misses.stream().map(id -> user(id, "DB유저")).toList());
+            when(gamificationQueryFacadeService.getUserLevelMap(misses)).thenReturn(Map.of("user-40", 7));
+            when(gamificationQueryFacadeService.getCombinedEquippedTitleInfoMap(misses)).thenReturn(Map.of(
+                "user-41", new TitleInfoDto("용감한 모험가", TitleRarity.EPIC, "#800080")));
+
+            // when
+            Map<String, UserProfileInfo> result = userProfileCacheService.getUserProfiles(userIds);
+
+            // then
+            assertThat(result).hasSize(100);
+            assertThat(result.get("user-0").nickname()).isEqualTo("캐시유저0");
+            assertThat(result.get("user-40").level()).isEqualTo(7);
+            assertThat(result.get("user-42").level()).isEqualTo(1);
+            assertThat(result.get("user-41").titleName()).isEqualTo("용감한 모험가");
+            assertThat(result.get("user-41").titleRarity()).isEqualTo(TitleRarity.EPIC);
+            assertThat(result.get("user-41").titleColorCode()).isEqualTo("#800080");
+
+            verify(stringRedisTemplate, times(1)).execute(any(RedisCallback.class));
+            verify(userRepository, times(1)).findAllById(anyList());
+            verify(gamificationQueryFacadeService, times(1)).getUserLevelMap(anyList());
+            verify(gamificationQueryFacadeService, times(1)).getCombinedEquippedTitleInfoMap(anyList());
+            verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+            verify(userRepository, never()).findById(anyString());
+            verify(gamificationQueryFacadeService, never()).getUserLevel(anyString());
+            verify(gamificationQueryFacadeService, never()).getCombinedEquippedTitleInfo(anyString());
+        }
+
+        @Test
+        @DisplayName("모두 캐시 적중이면 DB 조회와 되쓰기를 하지 않는다")
+        @SuppressWarnings("unchecked")
+        void allHitsSkipLoading() {
+            // given
+            redisCache();
+            UserProfileInfo cached = new UserProfileInfo("user-1", "캐시유저", null, 3, null, null, null);
+            List<byte[]> cachedValues = new ArrayList<>();
+            cachedValues.add(tokenSerializer.serialize(cached));
+            when(stringRedisTemplate.execute(any(RedisCallback.class))).thenReturn(cachedValues);
+
+            // when
+            Map<String, UserProfileInfo> result = userProfileCacheService.getUserProfiles(List.of("user-1", "user-1"));
+
+            // then
+            assertThat(result).containsExactly(Map.entry("user-1", cached));
+            verify(userRepository, never()).findAllById(anyList());
+            verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("Redis 캐시가 아니면 Cache API로 조회/저장하고 없는 사용자는 기본 프로필로 캐시한다")
+        void nonRedisCacheFallsBackToCacheApi() {
+            // given
+            ConcurrentMapCacheManager localCacheManager = new ConcurrentMapCacheManager("userProfile");
+            userProfileCacheService = new UserProfileCacheService(
+                userRepository, gamificationQueryFacadeService, localCacheManager, stringRedisTemplate);
+            when(userRepository.findAllById(List.of("user-1", "ghost"))).thenReturn(List.of(user("user-1", "유저1")));
+            when(gamificationQueryFacadeService.getUserLevelMap(List.of("user-1"))).thenReturn(Map.of("user-1", 5));
+            when(gamificationQueryFacadeService.getCombinedEquippedTitleInfoMap(List.of("user-1"))).thenReturn(Map.of());
+
+            // when
+            Map<String, UserProfileInfo> first = userProfileCacheService.getUserProfiles(List.of("user-1", "ghost"));
+            Map<String, UserProfileInfo> second = userProfileCacheService.getUserProfiles(List.of("user-1", "ghost"));
+
+            // then
+            assertThat(first.get("user-1").level()).isEqualTo(5);
+            assertThat(first.get("ghost").nickname()).isEqualTo("사용자");
+            assertThat(second).isEqualTo(first);
+            verify(userRepository, times(1)).findAllById(anyList());
+        }
+    }
+
 }